@@ -0,0 +1,116 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.common.dto.AreaDTO;
+import de.felixhertweck.seatreservation.model.entity.Coordinate;
+import de.felixhertweck.seatreservation.model.entity.EventLocationMarker;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.utils.SvgRenderer;
+import de.felixhertweck.seatreservation.utils.SvgToPngConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rendering one recipient's seat map PNG from scratch (SVG string, then Batik) with the
+ * {@link SeatMapRenderCache} path (cached base layer plus Java2D overlay), as done once per
+ * attendee during a reminder run. Each invocation highlights different seats, like consecutive
+ * recipients would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatMapRenderBenchmark {
+
+    private static final int SEATS_PER_ROW = 40;
+    private static final int SEATS_PER_RECIPIENT = 4;
+
+    @Param({"500", "2000"})
+    int seatCount;
+
+    private final UUID locationId = UUID.randomUUID();
+    private List<Seat> seats;
+    private List<EventLocationMarker> markers;
+    private List<AreaDTO> areas;
+    private SeatMapRenderCache cache;
+    private int recipient;
+
+    @Setup
+    public void setUp() {
+        seats = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            int row = i / SEATS_PER_ROW;
+            Seat seat = new Seat("R" + row + "S" + (i % SEATS_PER_ROW), "R" + row, null);
+            seat.id = UUID.randomUUID();
+            seat.setCoordinate(new Coordinate(i % SEATS_PER_ROW, row));
+            seats.add(seat);
+        }
+        markers = List.of(new EventLocationMarker("Stage", SEATS_PER_ROW / 2, -2));
+        areas =
+                List.of(
+                        new AreaDTO(
+                                UUID.randomUUID(),
+                                "Front",
+                                seats.subList(0, seatCount / 4).stream().map(s -> s.id).toList(),
+                                null));
+        cache = new SeatMapRenderCache();
+        cache.maxEntries = 16;
+    }
+
+    private Set<String> nextRecipientSeats() {
+        int first = (recipient++ * SEATS_PER_RECIPIENT) % (seatCount - SEATS_PER_RECIPIENT);
+        Set<String> numbers = new HashSet<>();
+        for (int i = first; i < first + SEATS_PER_RECIPIENT; i++) {
+            numbers.add(seats.get(i).getSeatNumber());
+        }
+        return numbers;
+    }
+
+    @Benchmark
+    public byte[] fullRender() throws Exception {
+        String svg =
+                SvgRenderer.renderSeats(seats, nextRecipientSeats(), Set.of(), markers, areas);
+        return SvgToPngConverter.convertSvgToPng(svg);
+    }
+
+    @Benchmark
+    public byte[] cachedBaseLayer() throws Exception {
+        return cache.renderPng(locationId, seats, nextRecipientSeats(), Set.of(), markers, areas);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.management.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.felixhertweck.seatreservation.common.dto.CoordinateDTO;
+import de.felixhertweck.seatreservation.common.dto.SeatDTO;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.RedisOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a seat map read served by the Redis cache alone (GET the JSON, deserialize the {@link
+ * SeatDTO}s) against one served by {@link SeatmapNearCache} in front of it. Needs a Redis at {@code
+ * redisUrl}, e.g. {@code docker run --rm -p 6379:6379 redis:7}.
+ *
+ * <p>{@code redisOnly} is what every read cost before the near cache; {@code nearCacheHit} is the
+ * steady state between two geometry changes. Add {@code -t 16} to the JMH arguments to measure
+ * under concurrent readers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatmapNearCacheBenchmark {
+
+    private static final int SEATS_PER_ROW = 40;
+    private static final TypeReference<List<SeatDTO>> SEAT_LIST = new TypeReference<>() {};
+
+    @Param({"redis://localhost:6379"})
+    String redisUrl;
+
+    @Param({"500", "5000"})
+    int seats;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Vertx vertx;
+    private Redis redis;
+    private UUID locationId;
+    private String key;
+    private SeatmapNearCache nearCache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        vertx = Vertx.vertx();
+        redis = Redis.createClient(vertx, new RedisOptions().setConnectionString(redisUrl));
+        locationId = UUID.randomUUID();
+        key = "bench:" + SeatmapCacheService.CACHE_SEATS + ":" + locationId;
+
+        List<SeatDTO> geometry = new ArrayList<>(seats);
+        for (int i = 0; i < seats; i++) {
+            int row = i / SEATS_PER_ROW;
+            geometry.add(
+                    new SeatDTO(
+                            UUID.randomUUID(),
+                            "R" + row + "S" + (i % SEATS_PER_ROW),
+                            "R" + row,
+                            locationId,
+                            new CoordinateDTO(i % SEATS_PER_ROW, row),
+                            "Main entrance",
+                            "Block " + (row / 10),
+                            UUID.randomUUID(),
+                            UUID.randomUUID()));
+        }
+        send("SET", key, objectMapper.writeValueAsString(geometry));
+
+        nearCache = new SeatmapNearCache();
+        nearCache.enabled = true;
+        nearCache.maxEntries = 64;
+        nearCache.expireAfterWrite = Duration.ofHours(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        send("DEL", key);
+        redis.close();
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public List<SeatDTO> redisOnly() {
+        return readFromRedis(locationId);
+    }
+
+    @Benchmark
+    public List<SeatDTO> nearCacheHit() {
+        return nearCache.get(SeatmapCacheService.CACHE_SEATS, locationId, this::readFromRedis);
+    }
+
+    private List<SeatDTO> readFromRedis(UUID locationId) {
+        try {
+            return objectMapper.readValue(send("GET", key).toString(), SEAT_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Response send(String command, String... args) {
+        Request request = Request.cmd(Command.create(command));
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        return redis.sendAndAwait(request);
+    }
+}
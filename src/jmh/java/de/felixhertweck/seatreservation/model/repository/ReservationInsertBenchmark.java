@@ -0,0 +1,212 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.utils.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways a booking of {@code seatCount} seats can be written: the former look-up of
+ * existing reservations followed by one {@code INSERT} per seat (what a {@code persist} per entity
+ * amounts to without JDBC batching), the same inserts sent as one JDBC batch ({@link
+ * ReservationRepository#persistAll}), and the multi-row {@code INSERT ... ON CONFLICT DO NOTHING
+ * RETURNING} of {@link ReservationRepository#insertAll}. Needs a PostgreSQL at {@code jdbcUrl},
+ * e.g. {@code docker run --rm -p 5432:5432 -e POSTGRES_PASSWORD=postgres postgres:17}.
+ *
+ * <p>Every invocation books fresh seats of a new event in its own transaction, so nothing
+ * conflicts. The table mirrors {@code reservations} including the unique constraint, without the
+ * foreign keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationInsertBenchmark {
+
+    private static final String TABLE = "reservation_insert_benchmark";
+
+    @Param({"jdbc:postgresql://localhost:5432/postgres"})
+    String jdbcUrl;
+
+    @Param({"postgres"})
+    String username;
+
+    @Param({"postgres"})
+    String password;
+
+    @Param({"1", "10", "500"})
+    int seatCount;
+
+    private Connection connection;
+    private UUID userId;
+    private UUID checkInTokenId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute(
+                    "CREATE TABLE "
+                            + TABLE
+                            + " (id uuid PRIMARY KEY, event_id uuid, seat_id uuid, user_id uuid,"
+                            + " reservationdate timestamp(6) with time zone, status varchar(255),"
+                            + " livestatus varchar(255), check_in_token_id uuid,"
+                            + " UNIQUE (event_id, seat_id))");
+        }
+        connection.setAutoCommit(false);
+        userId = UUID.randomUUID();
+        checkInTokenId = UUID.randomUUID();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int lookUpThenInsertEach() throws SQLException {
+        UUID eventId = UUID.randomUUID();
+        List<UUID> seatIds = seatIds();
+        try (PreparedStatement lookUp =
+                connection.prepareStatement(
+                        "SELECT id FROM " + TABLE + " WHERE event_id = ? AND seat_id = ANY (?)")) {
+            lookUp.setObject(1, eventId);
+            lookUp.setArray(2, connection.createArrayOf("uuid", seatIds.toArray()));
+            try (ResultSet existing = lookUp.executeQuery()) {
+                if (existing.next()) {
+                    throw new IllegalStateException("fresh seat is already reserved");
+                }
+            }
+        }
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(singleRowInsert())) {
+            for (UUID seatId : seatIds) {
+                bindRow(insert, 1, eventId, seatId);
+                inserted += insert.executeUpdate();
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public int jdbcBatch() throws SQLException {
+        UUID eventId = UUID.randomUUID();
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(singleRowInsert())) {
+            for (UUID seatId : seatIds()) {
+                bindRow(insert, 1, eventId, seatId);
+                insert.addBatch();
+            }
+            for (int count : insert.executeBatch()) {
+                inserted += count;
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public int multiRowInsertOnConflict() throws SQLException {
+        UUID eventId = UUID.randomUUID();
+        List<UUID> seatIds = seatIds();
+        StringBuilder sql =
+                new StringBuilder("INSERT INTO ")
+                        .append(TABLE)
+                        .append(
+                                " (id, event_id, seat_id, user_id, reservationdate, status,"
+                                        + " livestatus, check_in_token_id) VALUES ");
+        for (int i = 0; i < seatIds.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, NULL, ?)");
+        }
+        sql.append(" ON CONFLICT (event_id, seat_id) DO NOTHING RETURNING id");
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < seatIds.size(); i++) {
+                bindRow(insert, i * 7 + 1, eventId, seatIds.get(i));
+            }
+            try (ResultSet ids = insert.executeQuery()) {
+                while (ids.next()) {
+                    inserted++;
+                }
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    private static String singleRowInsert() {
+        return "INSERT INTO "
+                + TABLE
+                + " (id, event_id, seat_id, user_id, reservationdate, status, livestatus,"
+                + " check_in_token_id) VALUES (?, ?, ?, ?, ?, ?, NULL, ?)";
+    }
+
+    private void bindRow(PreparedStatement statement, int first, UUID eventId, UUID seatId)
+            throws SQLException {
+        statement.setObject(first, UuidV7.generate());
+        statement.setObject(first + 1, eventId);
+        statement.setObject(first + 2, seatId);
+        statement.setObject(first + 3, userId);
+        statement.setTimestamp(first + 4, Timestamp.from(Instant.now()));
+        statement.setString(first + 5, "RESERVED");
+        statement.setObject(first + 6, checkInTokenId);
+    }
+
+    private List<UUID> seatIds() {
+        List<UUID> seatIds = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            seatIds.add(UUID.randomUUID());
+        }
+        return seatIds;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.notification.service;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CPU work of one Web Push message: the RFC 8291 payload encryption (ephemeral ECDH
+ * key pair, key agreement, HKDF, AES-GCM), which is done for every device, and signing a VAPID
+ * header, which {@link WebPushService} only does once per push service and token lifetime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebPushCryptoBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] plaintext;
+    private byte[] browserPublicKey;
+    private byte[] authSecret;
+    private PrivateKey vapidPrivateKey;
+    private String vapidPublicKey;
+
+    @Setup
+    public void setUp() throws Exception {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("title", "Booking confirmed");
+        payload.put("message", "You have successfully booked 4 seat(s) for Summer Concert.");
+        payload.put(
+                "actionUrl", "/events/reservations?eventId=0190a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b");
+        plaintext = objectMapper.writeValueAsBytes(payload);
+
+        KeyPair browser = WebPushCrypto.generateKeyPair();
+        browserPublicKey = WebPushCrypto.encodeUncompressedPoint((ECPublicKey) browser.getPublic());
+        authSecret = new byte[16];
+        new SecureRandom().nextBytes(authSecret);
+
+        KeyPair vapid = WebPushCrypto.generateKeyPair();
+        vapidPrivateKey = vapid.getPrivate();
+        vapidPublicKey =
+                Base64.getUrlEncoder()
+                        .withoutPadding()
+                        .encodeToString(
+                                WebPushCrypto.encodeUncompressedPoint(
+                                        (ECPublicKey) vapid.getPublic()));
+    }
+
+    @Benchmark
+    public byte[] encrypt() throws GeneralSecurityException {
+        return WebPushCrypto.encrypt(plaintext, browserPublicKey, authSecret);
+    }
+
+    @Benchmark
+    public String signVapidHeader() throws GeneralSecurityException {
+        return WebPushCrypto.buildVapidAuthorizationHeader(
+                objectMapper,
+                "https://fcm.googleapis.com",
+                Instant.now().getEpochSecond() + 12 * 3600,
+                vapidPrivateKey,
+                vapidPublicKey,
+                "mailto:admin@example.com");
+    }
+}
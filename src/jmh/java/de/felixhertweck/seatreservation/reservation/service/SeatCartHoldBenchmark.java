@@ -0,0 +1,200 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.RedisOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a seat click (hold a seat, then release it again) done with the command sequence {@link
+ * SeatCartService} used before its writes became Lua scripts against {@link
+ * SeatCartService#HOLD_SCRIPT} and {@link SeatCartService#RELEASE_SCRIPT}. Needs a Redis at {@code
+ * redisUrl}, e.g. {@code docker run --rm -p 6379:6379 redis:7}.
+ *
+ * <p>Round trips per click: 11 for the command sequence (GET grant, SET NX GET, SADD, SMEMBERS,
+ * MGET, SADD, EXPIRE to hold; GET, DEL, SREM, SREM to release), 2 for the scripts. Sample time mode
+ * reports the p99 next to the mean; add {@code -t 16} to the JMH arguments to measure under
+ * concurrent clicks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatCartHoldBenchmark {
+
+    private static final String TTL_SECONDS = "300";
+    private static final String GRANT_TTL_SECONDS = "330";
+
+    @Param({"redis://localhost:6379"})
+    String redisUrl;
+
+    /** Seats the user already holds, which the quota check has to look at on every new hold. */
+    @Param({"0", "4"})
+    int heldSeats;
+
+    private Vertx vertx;
+    private Redis redis;
+    private String eventPrefix;
+    private String indexKey;
+    private String userIndexKey;
+    private String grantKey;
+    private String holdersKey;
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vertx = Vertx.vertx();
+        redis = Redis.createClient(vertx, new RedisOptions().setConnectionString(redisUrl));
+        UUID eventId = UUID.randomUUID();
+        UUID user = UUID.randomUUID();
+        userId = user.toString();
+        eventPrefix = SeatCartKeys.holdPrefix(eventId);
+        indexKey = SeatCartKeys.index(eventId);
+        userIndexKey = SeatCartKeys.userIndex(eventId, user);
+        grantKey = SeatCartKeys.accessGrant(eventId, user);
+        holdersKey = SeatCartKeys.holders(eventId);
+
+        send("SET", grantKey, String.valueOf(heldSeats + 1), "EX", GRANT_TTL_SECONDS);
+        for (int i = 0; i < heldSeats; i++) {
+            String seatId = UUID.randomUUID().toString();
+            send("SET", eventPrefix + seatId, userId, "EX", TTL_SECONDS);
+            send("SADD", userIndexKey, seatId);
+            send("SADD", indexKey, seatId);
+        }
+        send("SCRIPT", "LOAD", SeatCartService.HOLD_SCRIPT.source());
+        send("SCRIPT", "LOAD", SeatCartService.RELEASE_SCRIPT.source());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redis.close();
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    public boolean commandSequence() {
+        String seatId = UUID.randomUUID().toString();
+        String holdKey = eventPrefix + seatId;
+
+        // Hold
+        int allowed = send("GET", grantKey).toInteger();
+        Response previous = send("SET", holdKey, userId, "NX", "GET", "EX", TTL_SECONDS);
+        if (previous != null) {
+            throw new IllegalStateException("fresh seat is already held");
+        }
+        send("SADD", userIndexKey, seatId);
+        Response members = send("SMEMBERS", userIndexKey);
+        String[] mgetArgs = new String[members.size()];
+        for (int i = 0; i < members.size(); i++) {
+            mgetArgs[i] = eventPrefix + members.get(i).toString();
+        }
+        int held = 0;
+        Response owners = send("MGET", mgetArgs);
+        for (int i = 0; i < owners.size(); i++) {
+            if (owners.get(i) != null && userId.equals(owners.get(i).toString())) {
+                held++;
+            }
+        }
+        boolean accepted = held <= allowed;
+        send("SADD", indexKey, seatId);
+        send("HSET", holdersKey, seatId, userId + ":" + expiresAt());
+        send("EXPIRE", grantKey, GRANT_TTL_SECONDS);
+
+        // Release
+        Response owner = send("GET", holdKey);
+        if (owner != null && userId.equals(owner.toString())) {
+            send("DEL", holdKey);
+            send("SREM", indexKey, seatId);
+            send("SREM", userIndexKey, seatId);
+            send("HDEL", holdersKey, seatId);
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    public boolean luaScripts() {
+        String seatId = UUID.randomUUID().toString();
+        String holdKey = eventPrefix + seatId;
+
+        long result =
+                send(
+                                "EVALSHA",
+                                SeatCartService.HOLD_SCRIPT.sha1(),
+                                "5",
+                                holdKey,
+                                indexKey,
+                                userIndexKey,
+                                grantKey,
+                                holdersKey,
+                                userId,
+                                seatId,
+                                TTL_SECONDS,
+                                GRANT_TTL_SECONDS,
+                                eventPrefix,
+                                "",
+                                expiresAt())
+                        .toLong();
+        send(
+                "EVALSHA",
+                SeatCartService.RELEASE_SCRIPT.sha1(),
+                "4",
+                holdKey,
+                indexKey,
+                userIndexKey,
+                holdersKey,
+                userId,
+                seatId);
+        return result == 1;
+    }
+
+    private static String expiresAt() {
+        return String.valueOf(System.currentTimeMillis() + Long.parseLong(TTL_SECONDS) * 1000);
+    }
+
+    private Response send(String command, String... args) {
+        Request request = Request.cmd(Command.create(command));
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        return redis.sendAndAwait(request);
+    }
+}
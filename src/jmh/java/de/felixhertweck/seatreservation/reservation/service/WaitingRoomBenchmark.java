@@ -0,0 +1,232 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.RedisOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Synthetic booking rush against the waiting room of {@link WaitingRoomService}. Needs a Redis at
+ * {@code redisUrl} and a PostgreSQL at {@code jdbcUrl}, e.g. {@code docker run --rm -p 6379:6379
+ * redis:7} and {@code docker run --rm -p 5432:5432 -e POSTGRES_PASSWORD=postgres postgres:17}.
+ *
+ * <p>The {@code rush} group has 63 threads joining the queue of one event while one thread runs
+ * admission ticks of {@code admissionsPerTick} users, which shows how queue writes and admissions
+ * hold up against each other. {@code rejectByToken} is what an un-admitted cart write costs now,
+ * {@code rejectByDatabase} what it cost before: the allowance look-up it used to run in Postgres
+ * before anything could turn it away. Run the latter two with {@code -t 64} to see the difference
+ * under load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WaitingRoomBenchmark {
+
+    private static final String TABLE = "waiting_room_benchmark_allowance";
+    private static final int ALLOWANCE_ROWS = 10_000;
+    private static final String KEY_TTL_SECONDS = "3600";
+
+    @Param({"redis://localhost:6379"})
+    String redisUrl;
+
+    @Param({"jdbc:postgresql://localhost:5432/postgres"})
+    String jdbcUrl;
+
+    @Param({"postgres"})
+    String username;
+
+    @Param({"postgres"})
+    String password;
+
+    @Param({"20", "200"})
+    int admissionsPerTick;
+
+    private Vertx vertx;
+    private Redis redis;
+    private UUID eventId;
+    private String queueKey;
+    private String admittedKey;
+    private WaitingRoomTokenSigner signer;
+    private String foreignToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        vertx = Vertx.vertx();
+        redis = Redis.createClient(vertx, new RedisOptions().setConnectionString(redisUrl));
+        eventId = UUID.randomUUID();
+        queueKey = WaitingRoomService.queueKey(eventId);
+        admittedKey = WaitingRoomService.admittedKey(eventId);
+        send("SCRIPT", "LOAD", WaitingRoomService.STATUS_SCRIPT.source());
+        send("SCRIPT", "LOAD", WaitingRoomService.ADMIT_SCRIPT.source());
+
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) 1);
+        signer = new WaitingRoomTokenSigner(key);
+        // Admits somebody else, the typical token of a client trying to skip the queue
+        foreignToken =
+                signer.sign(eventId, UUID.randomUUID(), System.currentTimeMillis() + 900_000);
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute(
+                    "CREATE TABLE "
+                            + TABLE
+                            + " (event_id uuid, user_id uuid, reservations_allowed integer,"
+                            + " PRIMARY KEY (event_id, user_id))");
+            statement.execute(
+                    "INSERT INTO "
+                            + TABLE
+                            + " SELECT '"
+                            + eventId
+                            + "'::uuid, gen_random_uuid(), 4 FROM generate_series(1, "
+                            + ALLOWANCE_ROWS
+                            + ")");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        send("DEL", queueKey, admittedKey, WaitingRoomService.tickKey(eventId));
+        redis.close();
+        vertx.closeAndAwait();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password);
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+    }
+
+    /** One database connection per benchmark thread, like one pooled connection per request. */
+    @State(Scope.Thread)
+    public static class DatabaseSession {
+        Connection connection;
+        PreparedStatement allowanceLookUp;
+
+        @Setup(Level.Trial)
+        public void setUp(WaitingRoomBenchmark benchmark) throws SQLException {
+            connection =
+                    DriverManager.getConnection(
+                            benchmark.jdbcUrl, benchmark.username, benchmark.password);
+            allowanceLookUp =
+                    connection.prepareStatement(
+                            "SELECT reservations_allowed FROM "
+                                    + TABLE
+                                    + " WHERE event_id = ? AND user_id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    @Group("rush")
+    @GroupThreads(63)
+    public long join() {
+        return send(
+                        "EVALSHA",
+                        WaitingRoomService.STATUS_SCRIPT.sha1(),
+                        "2",
+                        queueKey,
+                        admittedKey,
+                        UUID.randomUUID().toString(),
+                        String.valueOf(System.currentTimeMillis()),
+                        "1",
+                        KEY_TTL_SECONDS)
+                .get(0)
+                .toLong();
+    }
+
+    @Benchmark
+    @Group("rush")
+    @GroupThreads(1)
+    public int admit() {
+        // A fresh tick key per call, so every call admits instead of finding the tick taken
+        Response reply =
+                send(
+                        "EVALSHA",
+                        WaitingRoomService.ADMIT_SCRIPT.sha1(),
+                        "3",
+                        queueKey,
+                        admittedKey,
+                        WaitingRoomService.tickKey(eventId) + ":" + UUID.randomUUID(),
+                        String.valueOf(admissionsPerTick),
+                        String.valueOf(System.currentTimeMillis() + 900_000),
+                        "1000",
+                        KEY_TTL_SECONDS);
+        return (reply.size() - 1) / 2;
+    }
+
+    @Benchmark
+    public boolean rejectByToken() {
+        return signer.verify(
+                foreignToken, eventId, UUID.randomUUID(), System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public boolean rejectByDatabase(DatabaseSession session) throws SQLException {
+        session.allowanceLookUp.setObject(1, eventId);
+        session.allowanceLookUp.setObject(2, UUID.randomUUID());
+        try (ResultSet allowance = session.allowanceLookUp.executeQuery()) {
+            return allowance.next();
+        }
+    }
+
+    private Response send(String command, String... args) {
+        Request request = Request.cmd(Command.create(command));
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        return redis.sendAndAwait(request);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.sanitization;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.felixhertweck.seatreservation.management.dto.EventRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a typical event request with the application's sanitizing {@link ObjectMapper}
+ * (every string runs through {@link XssSanitizingDeserializer}) against a plain one, once with a
+ * plain-text description and once with a description full of markup that has to be cleaned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XssSanitizingDeserializerBenchmark {
+
+    @Param({"plain", "markup"})
+    String description;
+
+    private ObjectMapper sanitizingMapper;
+    private ObjectMapper plainMapper;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        plainMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        sanitizingMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        new SanitizingObjectMapperCustomizer().customize(sanitizingMapper);
+
+        String paragraph =
+                "markup".equals(description)
+                        ? "<p>Doors open at <b>18:00</b>, see the <a href=\"https://example.com\""
+                                + " onclick=\"steal()\">map</a>.</p><script>alert(1)</script>"
+                        : "Doors open at 18:00. Please use the entrance shown on your ticket. ";
+        Instant start = Instant.parse("2026-12-01T19:00:00Z");
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("name", "Summer Concert");
+        request.put("description", paragraph.repeat(10));
+        request.put("startTime", start.toString());
+        request.put("endTime", start.plusSeconds(3 * 3600).toString());
+        request.put("bookingDeadline", start.minusSeconds(3600).toString());
+        request.put("bookingStartTime", start.minusSeconds(30 * 24 * 3600).toString());
+        request.put("eventLocationId", UUID.randomUUID().toString());
+        json = plainMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public EventRequestDTO sanitizing() throws IOException {
+        return sanitizingMapper.readValue(json, EventRequestDTO.class);
+    }
+
+    @Benchmark
+    public EventRequestDTO plain() throws IOException {
+        return plainMapper.readValue(json, EventRequestDTO.class);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.utils.SecurityUtils;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the CPU cost of one refresh-token rotation (verify the presented token, hash the newly
+ * issued one) with bcrypt hashes against the HMAC digests used by {@link RefreshTokenHasher}. The
+ * database lookup is left out; it is a primary key or unique index read in both cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenVerifyBenchmark {
+
+    private String tokenValue;
+    private String bcryptHash;
+    private String digest;
+    private RefreshTokenHasher hasher;
+
+    @Setup
+    public void setUp() {
+        tokenValue =
+                Base64.getUrlEncoder()
+                        .withoutPadding()
+                        .encodeToString(SecurityUtils.generateRandomBytes(32));
+        bcryptHash = BcryptUtil.bcryptHash(tokenValue);
+        hasher = new RefreshTokenHasher(SecurityUtils.generateRandomBytes(32));
+        digest = hasher.digest(tokenValue);
+    }
+
+    @Benchmark
+    public String bcrypt() {
+        if (!BcryptUtil.matches(tokenValue, bcryptHash)) {
+            throw new IllegalStateException("bcrypt mismatch");
+        }
+        return BcryptUtil.bcryptHash(tokenValue);
+    }
+
+    @Benchmark
+    public String hmacDigest() {
+        if (!hasher.matches(tokenValue, digest)) {
+            throw new IllegalStateException("digest mismatch");
+        }
+        return hasher.digest(tokenValue);
+    }
+}
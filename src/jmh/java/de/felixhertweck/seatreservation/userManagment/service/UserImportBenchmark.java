@@ -0,0 +1,189 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.userManagment.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.utils.UuidV7;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Import throughput in users per second: the former {@link UserService#importUsers} way (hash and
+ * insert one user after the other, all in one transaction) against the pipeline of {@link
+ * UserImportService} (hash a chunk on {@code hashThreads} threads, insert it as one JDBC batch,
+ * commit per chunk). Needs a PostgreSQL at {@code jdbcUrl}, e.g. {@code docker run --rm -p
+ * 5432:5432 -e POSTGRES_PASSWORD=postgres postgres:17}.
+ *
+ * <p>BCrypt dominates, so expect the speed-up to follow the number of hash threads. The table
+ * mirrors the columns of {@code users} that an import writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class UserImportBenchmark {
+
+    private static final String TABLE = "user_import_benchmark";
+    private static final int ROWS = 200;
+
+    @Param({"jdbc:postgresql://localhost:5432/postgres"})
+    String jdbcUrl;
+
+    @Param({"postgres"})
+    String username;
+
+    @Param({"postgres"})
+    String password;
+
+    @Param({"50"})
+    int chunkSize;
+
+    /** 0 uses one thread per CPU core, like {@code user-import.hash-threads}. */
+    @Param({"0"})
+    int hashThreads;
+
+    private Connection connection;
+    private ExecutorService hashers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute(
+                    "CREATE TABLE "
+                            + TABLE
+                            + " (id uuid PRIMARY KEY, username varchar(255) UNIQUE,"
+                            + " passwordhash varchar(255), passwordsalt varchar(255),"
+                            + " firstname varchar(255), lastname varchar(255))");
+        }
+        connection.setAutoCommit(false);
+        hashers =
+                Executors.newFixedThreadPool(
+                        hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        hashers.shutdownNow();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int serialSingleTransaction() throws SQLException {
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(insertSql())) {
+            for (String[] row : rows()) {
+                hash(row);
+                bind(insert, row);
+                inserted += insert.executeUpdate();
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int parallelHashChunkedBatches() throws SQLException {
+        List<String[]> rows = rows();
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(insertSql())) {
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                List<String[]> chunk = rows.subList(from, Math.min(rows.size(), from + chunkSize));
+                CompletableFuture<?>[] hashed = new CompletableFuture<?>[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    String[] row = chunk.get(i);
+                    hashed[i] = CompletableFuture.runAsync(() -> hash(row), hashers);
+                }
+                CompletableFuture.allOf(hashed).join();
+                for (String[] row : chunk) {
+                    bind(insert, row);
+                    insert.addBatch();
+                }
+                for (int count : insert.executeBatch()) {
+                    inserted += count;
+                }
+                connection.commit();
+            }
+        }
+        return inserted;
+    }
+
+    /** Username, password, then salt and hash once hashed. */
+    private static List<String[]> rows() {
+        List<String[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new String[] {"user-" + UUID.randomUUID(), "password-" + i, null, null});
+        }
+        return rows;
+    }
+
+    private static void hash(String[] row) {
+        row[2] = UserService.generateSalt();
+        row[3] = BcryptUtil.bcryptHash(row[1] + row[2]);
+    }
+
+    private static String insertSql() {
+        return "INSERT INTO "
+                + TABLE
+                + " (id, username, passwordhash, passwordsalt, firstname, lastname)"
+                + " VALUES (?, ?, ?, ?, 'First', 'Last')";
+    }
+
+    private static void bind(PreparedStatement insert, String[] row) throws SQLException {
+        insert.setObject(1, UuidV7.generate());
+        insert.setString(2, row[0]);
+        insert.setString(3, row[3]);
+        insert.setString(4, row[2]);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link QRCodeImage#generateQrCodeImage} at the sizes the application uses: 200px for
+ * the two-factor setup code and 400px for the check-in code in every confirmation mail. The
+ * content has the shape of a check-in code ({@code userId;eventId;token}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QRCodeImageBenchmark {
+
+    @Param({"200", "400"})
+    int size;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        byte[] token = new byte[32];
+        new SecureRandom().nextBytes(token);
+        content =
+                UUID.randomUUID()
+                        + ";"
+                        + UUID.randomUUID()
+                        + ";"
+                        + Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    @Benchmark
+    public byte[] generate() throws Exception {
+        return QRCodeImage.generateQrCodeImage(content, size, size);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the buffered exports (every reservation materialized as entities, output collected in
+ * a byte array) with the streaming ones (rows produced lazily like the paged projection reads,
+ * output written straight through) for a 10,000-reservation event. Run with {@code -prof gc} to
+ * compare the allocation per export ({@code gc.alloc.rate.norm}) next to the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ReservationExportBenchmark {
+
+    private static final int SEATS_PER_ROW = 40;
+
+    @Param({"10000"})
+    int reservationCount;
+
+    private ExecutorService renderPool;
+
+    @Setup
+    public void setUp() {
+        renderPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        renderPool.shutdownNow();
+    }
+
+    private List<Reservation> materializedReservations() {
+        List<Reservation> reservations = new ArrayList<>(reservationCount);
+        for (int i = 0; i < reservationCount; i++) {
+            ReservationExportRow row = row(i);
+            User user = new User();
+            user.setFirstname(row.firstname());
+            user.setLastname(row.lastname());
+            Reservation reservation = new Reservation();
+            reservation.id = row.id();
+            reservation.setUser(user);
+            reservation.setSeat(new Seat(row.seatNumber(), row.seatRow(), null));
+            reservation.setStatus(row.status());
+            reservation.setReservationDate(row.reservationDate());
+            reservations.add(reservation);
+        }
+        return reservations;
+    }
+
+    private Iterable<ReservationExportRow> streamedRows() {
+        return () ->
+                new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < reservationCount;
+                    }
+
+                    @Override
+                    public ReservationExportRow next() {
+                        return row(next++);
+                    }
+                };
+    }
+
+    private static ReservationExportRow row(int i) {
+        return new ReservationExportRow(
+                UUID.randomUUID(),
+                i % 10 == 0 ? ReservationStatus.BLOCKED : ReservationStatus.RESERVED,
+                "R" + (i / SEATS_PER_ROW) + "S" + (i % SEATS_PER_ROW),
+                "R" + (i / SEATS_PER_ROW),
+                "Entrance " + (i % 4),
+                null,
+                "First" + i,
+                "Last" + i,
+                Instant.now());
+    }
+
+    @Benchmark
+    public byte[] bufferedCsv() throws IOException {
+        return ReservationExporter.exportReservationsToCsv(materializedReservations())
+                .toByteArray();
+    }
+
+    @Benchmark
+    public void streamingCsv() throws IOException {
+        ReservationExporter.writeCsv(streamedRows(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public byte[] bufferedPdf() throws IOException {
+        return ReservationExporter.exportReservationsToPdf(materializedReservations(), "19:50")
+                .toByteArray();
+    }
+
+    @Benchmark
+    public void streamingPdf() throws IOException {
+        ReservationExporter.writePdf(
+                streamedRows(), "19:50", OutputStream.nullOutputStream(), renderPool);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.common.dto.AreaDTO;
+import de.felixhertweck.seatreservation.model.entity.Coordinate;
+import de.felixhertweck.seatreservation.model.entity.EventLocationMarker;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the two stages of drawing a seat map separately: building the SVG document ({@link
+ * SvgRenderer#renderSeats}) and rasterizing it with Batik ({@link
+ * SvgToPngConverter#convertSvgToPng}), from a small hall up to a stadium-sized location. A tenth
+ * of the seats is already reserved and four are highlighted as the recipient's new booking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SvgRenderBenchmark {
+
+    private static final int SEATS_PER_ROW = 50;
+
+    @Param({"500", "2000", "10000"})
+    int seatCount;
+
+    private List<Seat> seats;
+    private Set<String> newReserved;
+    private Set<String> existingReserved;
+    private List<EventLocationMarker> markers;
+    private List<AreaDTO> areas;
+    private String svg;
+
+    @Setup
+    public void setUp() {
+        seats = new ArrayList<>(seatCount);
+        newReserved = new HashSet<>();
+        existingReserved = new HashSet<>();
+        for (int i = 0; i < seatCount; i++) {
+            int row = i / SEATS_PER_ROW;
+            Seat seat = new Seat("R" + row + "S" + (i % SEATS_PER_ROW), "R" + row, null);
+            seat.id = UUID.randomUUID();
+            seat.setCoordinate(new Coordinate(i % SEATS_PER_ROW, row));
+            seats.add(seat);
+            if (i < 4) {
+                newReserved.add(seat.getSeatNumber());
+            } else if (i % 10 == 0) {
+                existingReserved.add(seat.getSeatNumber());
+            }
+        }
+        markers = List.of(new EventLocationMarker("Stage", SEATS_PER_ROW / 2, -2));
+        areas =
+                List.of(
+                        new AreaDTO(
+                                UUID.randomUUID(),
+                                "Front",
+                                seats.subList(0, seatCount / 4).stream().map(s -> s.id).toList(),
+                                null));
+        svg = renderSvg();
+    }
+
+    @Benchmark
+    public String renderSvg() {
+        return SvgRenderer.renderSeats(seats, newReserved, existingReserved, markers, areas);
+    }
+
+    @Benchmark
+    public byte[] convertToPng() throws Exception {
+        return SvgToPngConverter.convertSvgToPng(svg);
+    }
+}
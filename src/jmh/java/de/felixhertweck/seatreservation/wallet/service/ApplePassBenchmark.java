@@ -0,0 +1,188 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.wallet.service;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import de.felixhertweck.seatreservation.wallet.dto.WalletPassData;
+import de.felixhertweck.seatreservation.wallet.dto.WalletPassResponseDTO;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-pass cost of an Apple Wallet download, with a throwaway self-signed certificate written to a
+ * temporary directory: loading the PKCS#12 and WWDR files for every pass (as before {@link
+ * ApplePassSigner}), signing with the loaded material, and serving the archive from the {@link
+ * PkpassCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplePassBenchmark {
+
+    private static final char[] PASSWORD = "benchmark".toCharArray();
+
+    private Path dir;
+    private ApplePassSigner signer;
+    private AppleWalletPassGenerator uncached;
+    private AppleWalletPassGenerator cached;
+    private WalletPassData pass;
+    private byte[] passJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("apple-pass-benchmark");
+        Path p12 = dir.resolve("pass.p12");
+        Path wwdr = dir.resolve("wwdr.cer");
+        KeyPair passKey = keyPair();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry(
+                "pass",
+                passKey.getPrivate(),
+                PASSWORD,
+                new Certificate[] {certificate(passKey, "Pass")});
+        try (OutputStream out = Files.newOutputStream(p12)) {
+            keyStore.store(out, PASSWORD);
+        }
+        Files.write(wwdr, certificate(keyPair(), "WWDR").getEncoded());
+
+        signer = new ApplePassSigner();
+        signer.certificatePath = p12.toString();
+        signer.certificatePassword = Optional.of(new String(PASSWORD));
+        signer.wwdrCertificatePath = wwdr.toString();
+        signer.checkIntervalSeconds = 10;
+
+        PkpassCache noCache = new PkpassCache();
+        noCache.maxEntries = 0;
+        uncached = generator(noCache);
+        PkpassCache cache = new PkpassCache();
+        cache.maxEntries = 1000;
+        cached = generator(cache);
+
+        pass =
+                new WalletPassData(
+                        UUID.randomUUID(),
+                        UUID.randomUUID(),
+                        "Summer Concert",
+                        "Live concert on main stage",
+                        Instant.now(),
+                        Instant.now().plusSeconds(7200),
+                        "Main Stage",
+                        "123 Concert Hall Ave",
+                        "Row A, Seat 12",
+                        null,
+                        "Row A",
+                        "Seat 12",
+                        UUID.randomUUID(),
+                        "Alice Smith",
+                        "alice@example.com",
+                        "token",
+                        "qr-payload");
+        passJson = uncached.buildPassJson(pass, "pass.benchmark", "TEAM");
+    }
+
+    private AppleWalletPassGenerator generator(PkpassCache cache) {
+        AppleWalletPassGenerator generator = new AppleWalletPassGenerator();
+        generator.passTypeIdentifier = "pass.benchmark";
+        generator.teamId = "TEAM";
+        generator.signer = signer;
+        generator.pkpassCache = cache;
+        return generator;
+    }
+
+    private static KeyPair keyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate certificate(KeyPair keyPair, String commonName)
+            throws Exception {
+        X500Name name = new X500Name("CN=" + commonName);
+        Instant now = Instant.now();
+        return new JcaX509CertificateConverter()
+                .getCertificate(
+                        new JcaX509v3CertificateBuilder(
+                                        name,
+                                        BigInteger.ONE,
+                                        Date.from(now.minusSeconds(60)),
+                                        Date.from(now.plusSeconds(86400)),
+                                        name,
+                                        keyPair.getPublic())
+                                .build(
+                                        new JcaContentSignerBuilder("SHA256withRSA")
+                                                .build(keyPair.getPrivate())));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Benchmark
+    public byte[] loadCertificatePerPass() throws Exception {
+        return uncached.buildPkpass(passJson, signer.load());
+    }
+
+    @Benchmark
+    public byte[] loadedCertificate() throws Exception {
+        return uncached.buildPkpass(passJson, signer.current());
+    }
+
+    @Benchmark
+    public WalletPassResponseDTO cachedArchive() {
+        return cached.generatePass(pass);
+    }
+}
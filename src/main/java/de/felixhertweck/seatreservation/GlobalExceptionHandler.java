@@ -50,6 +50,7 @@ import de.felixhertweck.seatreservation.reservation.exception.SeatAlreadyReserve
 import de.felixhertweck.seatreservation.reservation.exception.SeatBlockedException;
 import de.felixhertweck.seatreservation.reservation.exception.SeatCartAccessNotGrantedException;
 import de.felixhertweck.seatreservation.reservation.exception.SeatPendingException;
+import de.felixhertweck.seatreservation.reservation.exception.WaitingRoomAdmissionRequiredException;
 import de.felixhertweck.seatreservation.security.dto.EmailCooldownDTO;
 import de.felixhertweck.seatreservation.security.dto.LoginLockedDTO;
 import de.felixhertweck.seatreservation.security.exceptions.AccountLockedException;
@@ -113,6 +114,8 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
             case SeatBlockedException ignored -> status = Response.Status.CONFLICT;
             case SeatPendingException ignored -> status = Response.Status.CONFLICT;
             case SeatCartAccessNotGrantedException ignored -> status = Response.Status.FORBIDDEN;
+            case WaitingRoomAdmissionRequiredException ignored ->
+                    status = Response.Status.TOO_MANY_REQUESTS;
             case CheckInTokenNotFoundException ignored -> status = Response.Status.NOT_FOUND;
             case CheckInException ignored -> status = Response.Status.BAD_REQUEST;
             case BookingDeadlineNotPassedException ignored -> status = Response.Status.BAD_REQUEST;
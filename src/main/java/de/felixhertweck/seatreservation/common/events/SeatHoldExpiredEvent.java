@@ -0,0 +1,34 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.common.events;
+
+import java.util.UUID;
+
+/**
+ * Event fired by {@link
+ * de.felixhertweck.seatreservation.reservation.service.SeatCartExpiryListener} when a seat cart
+ * hold ran out via its TTL and the seat is free again (unless it is reserved in Postgres). Fired on
+ * every instance that received the expiry notification.
+ *
+ * @param eventId the event ID
+ * @param seatId the freed seat
+ * @param userId the user who held the seat, or {@code null} if unknown
+ */
+public record SeatHoldExpiredEvent(UUID eventId, UUID seatId, UUID userId) {}
@@ -19,20 +19,29 @@
  */
 package de.felixhertweck.seatreservation.email.queue;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.TransactionPhase;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import de.felixhertweck.seatreservation.model.entity.EmailPriority;
 import de.felixhertweck.seatreservation.model.entity.EmailStatus;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmail;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmailAttachment;
 import de.felixhertweck.seatreservation.model.repository.OutboundEmailRepository;
+import de.felixhertweck.seatreservation.utils.OutboxPump;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.mailer.Mail;
 import io.quarkus.mailer.Mailer;
@@ -44,10 +53,10 @@ import org.jboss.logging.Logger;
 /**
  * Background worker that drains the {@link OutboundEmail} outbox.
  *
- * <p>On every tick it claims a batch of due messages, hands each one to the (blocking) mail server
- * and records the outcome. Failed sends are retried with exponential back-off until they succeed or
- * the configured attempt limit is reached, at which point the message becomes a {@link
- * EmailStatus#FAILED} dead letter.
+ * <p>On every tick it claims a batch of due messages, hands them to the (blocking) mail server -
+ * optionally on several virtual-thread workers, see {@link #drainQueue} - and records the outcome.
+ * Failed sends are retried with exponential back-off until they succeed or the configured attempt
+ * limit is reached, at which point the message becomes a {@link EmailStatus#FAILED} dead letter.
  *
  * <p>SMTP I/O happens <em>outside</em> any database transaction: claiming, loading and status
  * updates each run in their own short transaction so a slow mail server never holds a database
@@ -84,15 +93,27 @@ public class EmailDispatcher {
     @ConfigProperty(name = "email.queue.immediate-trigger", defaultValue = "true")
     boolean immediateTriggerEnabled;
 
-    /** Guards against piling up concurrent drain loops when many mails are enqueued at once. */
-    private final AtomicBoolean draining = new AtomicBoolean(false);
+    @ConfigProperty(name = "email.queue.workers", defaultValue = "1")
+    int workers;
 
-    /**
-     * Set by every {@link #triggerDrain} call and cleared at the start of each loop pass; lets a
-     * trigger that arrives while the loop is winding down ask for one more pass instead of being
-     * silently dropped (see {@link #drainLoop}).
-     */
-    private final AtomicBoolean pendingRedrain = new AtomicBoolean(false);
+    @ConfigProperty(name = "email.queue.max-concurrent-per-domain", defaultValue = "4")
+    int maxConcurrentPerDomain;
+
+    @ConfigProperty(name = "email.queue.max-per-second", defaultValue = "0")
+    double maxPerSecond;
+
+    /** Delivered mails are marked as sent in chunks of this size, see {@link SentMarker}. */
+    @ConfigProperty(name = "email.queue.mark-sent-chunk-size", defaultValue = "5")
+    int markSentChunkSize;
+
+    /** A claimed message loaded and converted for sending, plus what the metrics need. */
+    public record PreparedMail(UUID id, Mail mail, EmailPriority priority, Instant createdAt) {}
+
+    /** Created on first use, shared by all workers and drain cycles of this instance. */
+    private volatile EmailRateLimiter rateLimiter;
+
+    /** Drains the outbox right after new mails are committed, see {@link #onEmailEnqueued}. */
+    private final OutboxPump pump = new OutboxPump("email-dispatch-trigger", this::drainQueue);
 
     /**
      * Fallback poll of the outbox. In the common case {@link #onEmailEnqueued} already triggers a
@@ -117,68 +138,186 @@ public class EmailDispatcher {
     void onEmailEnqueued(
             @Observes(during = TransactionPhase.AFTER_SUCCESS) EmailEnqueuedEvent event) {
         if (immediateTriggerEnabled) {
-            triggerDrain();
+            pump.trigger();
         }
     }
 
     /**
-     * Runs {@link #drainQueue} on a virtual thread until the outbox reports nothing left to send,
-     * coalescing concurrent triggers (e.g. from a bulk send enqueuing many messages at once) into a
-     * single loop so each one doesn't open its own database connection.
+     * Sends all messages that are currently due. Exposed (package-private) so tests and operational
+     * tooling can drain the queue deterministically without waiting for the scheduler.
+     *
+     * <p>A cycle claims one batch, loads all of its messages in one transaction, sends them on up
+     * to {@code email.queue.workers} virtual threads (at most {@code
+     * email.queue.max-concurrent-per-domain} at a time per recipient domain and no more than {@code
+     * email.queue.max-per-second} overall) and marks delivered messages as sent in chunks of {@code
+     * email.queue.mark-sent-chunk-size}, each with a single {@code UPDATE}. If the instance dies
+     * mid-cycle, at most the unmarked remainder of a chunk per worker is sent again once the sending
+     * timeout requeues it. Failed sends are recorded one by one since each gets its own back-off.
+     *
+     * @return the number of messages that were sent successfully
      */
-    private void triggerDrain() {
-        pendingRedrain.set(true);
-        if (draining.compareAndSet(false, true)) {
-            Thread.ofVirtual().name("email-dispatch-trigger").start(this::drainLoop);
+    public int drainQueue() {
+        List<UUID> claimed = self.claimDueIds(batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        LOG.debugf("Dispatching %d queued email(s)", claimed.size());
+
+        List<PreparedMail> mails = self.buildMails(claimed);
+        if (mails.size() < claimed.size()) {
+            // Messages vanished between claim and load; nothing to do for them.
+            LOG.warnf(
+                    "%d queued email(s) disappeared before sending", claimed.size() - mails.size());
+        }
+
+        SentMarker sentMarker = new SentMarker();
+        Map<String, Semaphore> domainSlots = new ConcurrentHashMap<>();
+        if (workers <= 1 || mails.size() <= 1) {
+            for (PreparedMail mail : mails) {
+                dispatchOne(mail, domainSlots, sentMarker);
+            }
+        } else {
+            try (ExecutorService pool =
+                    Executors.newFixedThreadPool(
+                            Math.min(workers, mails.size()),
+                            Thread.ofVirtual().name("email-dispatch-", 0).factory())) {
+                for (PreparedMail mail : mails) {
+                    pool.execute(() -> dispatchOne(mail, domainSlots, sentMarker));
+                }
+            }
         }
+
+        int sent = sentMarker.finish();
+        LOG.debugf("Email dispatch cycle finished: %d/%d sent", sent, claimed.size());
+        return sent;
     }
 
     /**
-     * Drains the queue until empty, then releases {@link #draining} and checks {@link
-     * #pendingRedrain} once more before actually exiting.
-     *
-     * <p>Without that recheck, a trigger landing between this loop's last (empty) {@link
-     * #drainQueue} call and the release of {@link #draining} would see draining still in progress,
-     * assume this loop will pick up its message, and return without starting a new one -- silently
-     * falling back to the next {@link #scheduledDrain} tick instead of dispatching immediately.
+     * Sends a single loaded message, respecting the per-domain concurrency and rate limits, and
+     * records a failure right away. Successful sends are handed to {@code sentMarker}, which marks
+     * them in chunks.
      */
-    private void drainLoop() {
+    private void dispatchOne(
+            PreparedMail prepared, Map<String, Semaphore> domainSlots, SentMarker sentMarker) {
+        Semaphore domainSlot =
+                domainSlots.computeIfAbsent(
+                        recipientDomain(prepared.mail()),
+                        domain -> new Semaphore(Math.max(1, maxConcurrentPerDomain)));
+        try {
+            domainSlot.acquire();
+        } catch (InterruptedException e) {
+            // Left in SENDING; requeued once the sending timeout has passed.
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long start = System.nanoTime();
+        boolean success = false;
         try {
-            do {
-                pendingRedrain.set(false);
-                int sent;
-                do {
-                    sent = drainQueue();
-                } while (sent > 0);
-                draining.set(false);
-            } while (pendingRedrain.get() && draining.compareAndSet(false, true));
+            rateLimiter().acquire();
+            start = System.nanoTime();
+            mailer.send(prepared.mail());
+            success = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
         } catch (RuntimeException e) {
-            LOG.error("Immediate email dispatch loop failed", e);
-            draining.set(false);
+            self.markFailure(prepared.id(), e);
+        } finally {
+            domainSlot.release();
+        }
+        recordSend(prepared, success, System.nanoTime() - start);
+        if (success) {
+            sentMarker.add(prepared.id());
         }
     }
 
     /**
-     * Sends all messages that are currently due. Exposed (package-private) so tests and operational
-     * tooling can drain the queue deterministically without waiting for the scheduler.
-     *
-     * @return the number of messages that were sent successfully
+     * Collects the messages delivered in one drain cycle and marks them as sent whenever {@code
+     * email.queue.mark-sent-chunk-size} of them are pending, so a crash leaves only a few delivered
+     * messages in {@link EmailStatus#SENDING} to be sent again. Shared by all workers of a cycle.
      */
-    public int drainQueue() {
-        List<UUID> claimed = self.claimDueIds(batchSize);
-        if (claimed.isEmpty()) {
-            return 0;
-        }
-        LOG.debugf("Dispatching %d queued email(s)", claimed.size());
+    private final class SentMarker {
+
+        private final List<UUID> pending = new ArrayList<>();
+        private int sent;
 
-        int sent = 0;
-        for (UUID id : claimed) {
-            if (dispatchOne(id)) {
+        void add(UUID id) {
+            List<UUID> chunk = null;
+            synchronized (this) {
+                pending.add(id);
                 sent++;
+                if (pending.size() >= Math.max(1, markSentChunkSize)) {
+                    chunk = List.copyOf(pending);
+                    pending.clear();
+                }
+            }
+            if (chunk != null) {
+                self.markSent(chunk);
             }
         }
-        LOG.debugf("Email dispatch cycle finished: %d/%d sent", sent, claimed.size());
-        return sent;
+
+        /** Marks the remaining delivered messages and returns how many were delivered in total. */
+        int finish() {
+            List<UUID> chunk;
+            synchronized (this) {
+                chunk = List.copyOf(pending);
+                pending.clear();
+            }
+            if (!chunk.isEmpty()) {
+                self.markSent(chunk);
+            }
+            synchronized (this) {
+                return sent;
+            }
+        }
+    }
+
+    private void recordSend(PreparedMail prepared, boolean success, long durationNanos) {
+        if (meterRegistry == null) {
+            return;
+        }
+        String priority = prepared.priority().name();
+        meterRegistry
+                .timer(
+                        "email.outbox.send.duration",
+                        "priority",
+                        priority,
+                        "outcome",
+                        success ? "success" : "failure")
+                .record(Duration.ofNanos(durationNanos));
+        if (success) {
+            meterRegistry.counter("email.outbox.sent", "priority", priority).increment();
+            if (prepared.createdAt() != null) {
+                meterRegistry
+                        .timer("email.outbox.delivery.delay", "priority", priority)
+                        .record(Duration.between(prepared.createdAt(), Instant.now()));
+            }
+        }
+    }
+
+    private EmailRateLimiter rateLimiter() {
+        EmailRateLimiter limiter = rateLimiter;
+        if (limiter == null) {
+            synchronized (this) {
+                if (rateLimiter == null) {
+                    rateLimiter = new EmailRateLimiter(maxPerSecond);
+                }
+                limiter = rateLimiter;
+            }
+        }
+        return limiter;
+    }
+
+    /** Domain of the first recipient, used to bound concurrent sends to the same mail provider. */
+    private static String recipientDomain(Mail mail) {
+        String recipient =
+                !mail.getTo().isEmpty()
+                        ? mail.getTo().getFirst()
+                        : !mail.getCc().isEmpty()
+                                ? mail.getCc().getFirst()
+                                : mail.getBcc().isEmpty() ? "" : mail.getBcc().getFirst();
+        int at = recipient.lastIndexOf('@');
+        return at < 0 ? "" : recipient.substring(at + 1).trim().toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -204,43 +343,29 @@ public class EmailDispatcher {
     }
 
     /**
-     * Sends a single claimed message and records the result.
+     * Loads all claimed messages of a drain cycle in one transaction and converts them into mailer
+     * {@link Mail}s. Runs in a transaction so lazy attachment data can be read; the returned mails
+     * hold their own copies and are safe to use after the transaction closes. Attachment blobs are
+     * fetched lazily while building, so content shared by several mails of the batch (e.g. the same
+     * seat map) is read only once.
      *
-     * @param id the outbox id
-     * @return {@code true} if the message was sent successfully
-     */
-    private boolean dispatchOne(UUID id) {
-        Mail mail = self.buildMail(id);
-        if (mail == null) {
-            // Message vanished between claim and load; nothing to do.
-            return false;
-        }
-        try {
-            mailer.send(mail);
-        } catch (RuntimeException e) {
-            self.markFailure(id, e);
-            return false;
-        }
-        self.markSent(id);
-        return true;
-    }
-
-    /**
-     * Loads a claimed message and converts it into a mailer {@link Mail}. Runs in a transaction so
-     * lazy attachment data can be read; the returned {@link Mail} holds its own copies and is safe
-     * to use after the transaction closes.
-     *
-     * @param id the outbox id
-     * @return the ready-to-send mail, or {@code null} if the message no longer exists
+     * @param ids the outbox ids
+     * @return the ready-to-send mails of the messages that still exist
      */
     @Transactional
-    public Mail buildMail(UUID id) {
-        OutboundEmail email = outboundEmailRepository.findById(id);
-        if (email == null) {
-            LOG.warnf("Queued email id=%s disappeared before sending", id);
-            return null;
-        }
+    public List<PreparedMail> buildMails(List<UUID> ids) {
+        return outboundEmailRepository.findByIdsWithAttachments(ids).stream()
+                .map(
+                        email ->
+                                new PreparedMail(
+                                        email.id,
+                                        toMail(email),
+                                        email.getPriority(),
+                                        email.getCreatedAt()))
+                .toList();
+    }
 
+    private static Mail toMail(OutboundEmail email) {
         Mail mail = new Mail();
         mail.setSubject(email.getSubject());
         mail.setHtml(email.getHtmlBody());
@@ -266,25 +391,14 @@ public class EmailDispatcher {
     }
 
     /**
-     * Marks a message as successfully delivered.
+     * Marks delivered messages as sent, with a single {@code UPDATE}.
      *
-     * @param id the outbox id
+     * @param ids the outbox ids of the delivered messages
      */
     @Transactional
-    public void markSent(UUID id) {
-        OutboundEmail email = outboundEmailRepository.findById(id);
-        if (email == null) {
-            return;
-        }
-        Instant now = Instant.now();
-        email.setStatus(EmailStatus.SENT);
-        email.setAttempts(email.getAttempts() + 1);
-        email.setSentAt(now);
-        email.setUpdatedAt(now);
-        email.setLastError(null);
-        LOG.infof(
-                "Email id=%s sent successfully to %s (attempt %d)",
-                id, email.getTo(), email.getAttempts());
+    public void markSent(List<UUID> ids) {
+        long updated = outboundEmailRepository.markSent(ids, Instant.now());
+        LOG.infof("Marked %d email(s) as sent successfully", updated);
     }
 
     /**
@@ -305,7 +419,7 @@ public class EmailDispatcher {
         int attempts = email.getAttempts() + 1;
         email.setAttempts(attempts);
         email.setUpdatedAt(now);
-        email.setLastError(truncate(error.toString()));
+        email.setLastError(OutboxPump.lastError(error));
 
         if (attempts >= email.getMaxAttempts()) {
             email.setStatus(EmailStatus.FAILED);
@@ -319,7 +433,10 @@ public class EmailDispatcher {
                     attempts);
         } else {
             email.setStatus(EmailStatus.PENDING);
-            email.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+            email.setNextAttemptAt(
+                    now.plusSeconds(
+                            OutboxPump.backoffSeconds(
+                                    attempts, retryBackoffSeconds, maxBackoffSeconds)));
             LOG.warnf(
                     error,
                     "Email id=%s failed (attempt %d/%d); retrying at %s",
@@ -329,25 +446,4 @@ public class EmailDispatcher {
                     email.getNextAttemptAt());
         }
     }
-
-    /**
-     * Computes the exponential back-off delay for the given attempt number, capped at the
-     * configured maximum.
-     *
-     * @param attempts the number of attempts made so far
-     * @return the delay in seconds before the next attempt
-     */
-    private long backoffSeconds(int attempts) {
-        // attempts >= 1: 1x, 2x, 4x, 8x ... of the base back-off, capped.
-        long factor = 1L << Math.min(attempts - 1, 16);
-        long delay = retryBackoffSeconds * factor;
-        return Math.min(delay, maxBackoffSeconds);
-    }
-
-    private static String truncate(String value) {
-        if (value == null) {
-            return null;
-        }
-        return value.length() <= 2048 ? value : value.substring(0, 2048);
-    }
 }
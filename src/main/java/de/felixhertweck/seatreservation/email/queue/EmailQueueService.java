@@ -19,8 +19,11 @@
  */
 package de.felixhertweck.seatreservation.email.queue;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
@@ -28,6 +31,7 @@ import jakarta.transaction.Transactional;
 
 import de.felixhertweck.seatreservation.model.entity.OutboundEmail;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmailAttachment;
+import de.felixhertweck.seatreservation.model.repository.EmailAttachmentBlobRepository;
 import de.felixhertweck.seatreservation.model.repository.OutboundEmailRepository;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
@@ -40,6 +44,10 @@ import org.jboss.logging.Logger;
  * means the mail is committed atomically with the business change that triggered it: if the
  * surrounding transaction rolls back, no orphan mail is queued, and once it commits the mail is
  * guaranteed to be picked up by the {@link EmailDispatcher}.
+ *
+ * <p>Attachment bytes are stored content-addressed (see {@link
+ * de.felixhertweck.seatreservation.model.entity.EmailAttachmentBlob}): a seat map or logo that is
+ * already queued for another mail is referenced rather than written again.
  */
 @ApplicationScoped
 public class EmailQueueService {
@@ -48,6 +56,8 @@ public class EmailQueueService {
 
     @Inject OutboundEmailRepository outboundEmailRepository;
 
+    @Inject EmailAttachmentBlobRepository emailAttachmentBlobRepository;
+
     @Inject Event<EmailEnqueuedEvent> emailEnqueuedEvent;
 
     @ConfigProperty(name = "email.queue.max-attempts", defaultValue = "5")
@@ -90,7 +100,8 @@ public class EmailQueueService {
                             attachment.fileName(),
                             attachment.contentType(),
                             attachment.contentId(),
-                            attachment.data()));
+                            emailAttachmentBlobRepository.acquire(
+                                    sha256Hex(attachment.data()), attachment.data())));
         }
 
         outboundEmailRepository.persist(email);
@@ -105,4 +116,13 @@ public class EmailQueueService {
         emailEnqueuedEvent.fire(new EmailEnqueuedEvent(email.id));
         return email;
     }
+
+    static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java runtime is required to provide SHA-256.
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out outgoing mails evenly to at most a configured number per second, shared by all
+ * dispatch workers of this instance. Each caller reserves the next free slot and sleeps until it,
+ * so bursts are smoothed instead of rejected.
+ */
+final class EmailRateLimiter {
+
+    private final long intervalNanos;
+
+    // Guarded by this.
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond max mails per second; {@code 0} or less disables the limit
+     */
+    EmailRateLimiter(double permitsPerSecond) {
+        this.intervalNanos =
+                permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    /** Blocks until the caller may send the next mail. */
+    void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
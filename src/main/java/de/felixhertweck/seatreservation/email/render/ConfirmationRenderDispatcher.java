@@ -0,0 +1,357 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.render;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import de.felixhertweck.seatreservation.email.queue.EmailQueueService;
+import de.felixhertweck.seatreservation.email.service.ReservationEmailContent;
+import de.felixhertweck.seatreservation.model.entity.ConfirmationRenderJob;
+import de.felixhertweck.seatreservation.model.entity.RenderJobStatus;
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.repository.ConfirmationRenderJobRepository;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.utils.OutboxPump;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Background worker pool that renders deferred reservation confirmations ({@link
+ * ConfirmationRenderJob}) and hands the finished mail to the {@link EmailQueueService}.
+ *
+ * <p>Rendering (seat map SVG, Batik PNG conversion, QR code) used to run inside the booking
+ * transaction, stretching it -- and the row locks it holds -- by hundreds of milliseconds. Now the
+ * booking only records a job; once it commits, {@link #onRenderJobEnqueued} wakes a single pump
+ * that claims due jobs ({@link ConfirmationRenderJobRepository#claimDue}, {@code FOR UPDATE SKIP
+ * LOCKED}) and feeds them to a fixed-size pool of {@code email.render.worker-threads} threads. The
+ * pump only claims as many jobs as there are free slots ({@code worker-threads + queue-capacity}),
+ * so a booking spike queues up in the database instead of in memory, and at most {@code
+ * worker-threads} database connections are ever used for rendering.
+ *
+ * <p>Each job renders in its own transaction. A failure rolls back any partially queued mail and
+ * schedules a retry with exponential back-off; jobs stuck in {@link RenderJobStatus#RENDERING}
+ * after a crash are requeued by the next claim. A worker locks its job's row and only finishes it
+ * while it is still {@code RENDERING}, so a slow worker whose job was requeued and claimed again
+ * meanwhile cannot queue the confirmation a second time.
+ */
+@ApplicationScoped
+public class ConfirmationRenderDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(ConfirmationRenderDispatcher.class);
+
+    @Inject ConfirmationRenderJobRepository confirmationRenderJobRepository;
+
+    @Inject ReservationRepository reservationRepository;
+
+    @Inject ReservationEmailContent reservationEmailContent;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @Inject ConfirmationRenderDispatcher self;
+
+    @ConfigProperty(name = "email.render.worker-threads", defaultValue = "2")
+    int workerThreads;
+
+    @ConfigProperty(name = "email.render.queue-capacity", defaultValue = "50")
+    int queueCapacity;
+
+    @ConfigProperty(name = "email.render.batch-size", defaultValue = "20")
+    int batchSize;
+
+    @ConfigProperty(name = "email.render.retry-backoff-seconds", defaultValue = "30")
+    long retryBackoffSeconds;
+
+    @ConfigProperty(name = "email.render.max-backoff-seconds", defaultValue = "900")
+    long maxBackoffSeconds;
+
+    @ConfigProperty(name = "email.render.rendering-timeout-seconds", defaultValue = "300")
+    long renderingTimeoutSeconds;
+
+    @ConfigProperty(name = "email.render.immediate-trigger", defaultValue = "true")
+    boolean immediateTriggerEnabled;
+
+    private ExecutorService workers;
+
+    /** One permit per job that may be claimed but not yet finished (running or queued). */
+    private Semaphore slots;
+
+    /** The single pump claiming due jobs and handing them to the workers. */
+    private final OutboxPump pump = new OutboxPump("confirmation-render-pump", this::submitDue);
+
+    @PostConstruct
+    void init() {
+        workers =
+                Executors.newFixedThreadPool(
+                        workerThreads,
+                        Thread.ofPlatform().name("confirmation-render-", 0).daemon().factory());
+        slots = new Semaphore(workerThreads + queueCapacity);
+        if (meterRegistry != null) {
+            Gauge.builder(
+                            "email.render.queue.depth",
+                            slots,
+                            s -> workerThreads + queueCapacity - s.availablePermits())
+                    .description("Confirmation render jobs claimed and not yet finished")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (workers != null) {
+            // Jobs still running are left in RENDERING and requeued after the timeout.
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Fallback poll, mainly picking up retries and jobs left behind by a crashed instance; new jobs
+     * are normally started right after commit by {@link #onRenderJobEnqueued}.
+     */
+    @Scheduled(
+            every = "${email.render.poll-interval:30s}",
+            concurrentExecution = ConcurrentExecution.SKIP)
+    void scheduledPump() {
+        pump.trigger();
+    }
+
+    /**
+     * Starts rendering once the booking transaction that recorded the job has committed.
+     *
+     * @param event the enqueue notification (payload unused; only its arrival matters)
+     */
+    void onRenderJobEnqueued(
+            @Observes(during = TransactionPhase.AFTER_SUCCESS)
+                    ConfirmationRenderEnqueuedEvent event) {
+        if (immediateTriggerEnabled) {
+            pump.trigger();
+        }
+    }
+
+    /**
+     * Waits for at least one free worker slot, then claims up to that many due jobs and hands them
+     * to the worker pool.
+     *
+     * @return the number of submitted jobs
+     */
+    private int submitDue() {
+        slots.acquireUninterruptibly();
+        slots.release();
+        int free = Math.min(batchSize, slots.availablePermits());
+        List<UUID> claimed = self.claimDueIds(free);
+        for (UUID id : claimed) {
+            // Only this (single) pump acquires permits, so the claim above never over-commits.
+            slots.acquireUninterruptibly();
+            workers.execute(
+                    () -> {
+                        try {
+                            renderOne(id);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+        }
+        return claimed.size();
+    }
+
+    /**
+     * Renders all jobs that are currently due on the calling thread. Exposed so tests and
+     * operational tooling can drain the queue deterministically without the worker pool.
+     *
+     * @return the number of jobs rendered successfully
+     */
+    public int drainQueue() {
+        List<UUID> claimed = self.claimDueIds(batchSize);
+        int rendered = 0;
+        for (UUID id : claimed) {
+            if (renderOne(id)) {
+                rendered++;
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Atomically claims up to {@code limit} due jobs, first requeueing any job left in {@link
+     * RenderJobStatus#RENDERING} by a crashed worker.
+     *
+     * @param limit the maximum number of jobs to claim
+     * @return the ids of the claimed jobs
+     */
+    @Transactional
+    public List<UUID> claimDueIds(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        long requeued =
+                confirmationRenderJobRepository.requeueStaleRendering(
+                        now.minusSeconds(renderingTimeoutSeconds));
+        if (requeued > 0) {
+            LOG.warnf("Requeued %d stale confirmation render job(s)", requeued);
+        }
+        return confirmationRenderJobRepository.claimDue(now, limit);
+    }
+
+    /**
+     * Renders one claimed job and records the outcome and its latency.
+     *
+     * @param id the job id
+     * @return {@code true} if the confirmation was rendered and queued
+     */
+    boolean renderOne(UUID id) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            Instant createdAt = self.render(id);
+            success = true;
+            if (meterRegistry != null && createdAt != null) {
+                meterRegistry
+                        .timer("email.render.delay")
+                        .record(Duration.between(createdAt, Instant.now()));
+            }
+        } catch (RuntimeException e) {
+            self.markFailure(id, e);
+            success = false;
+        }
+        if (meterRegistry != null) {
+            meterRegistry
+                    .timer("email.render.duration", "outcome", success ? "success" : "failure")
+                    .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+        return success;
+    }
+
+    /**
+     * Locks a claimed job, renders the confirmation mail for the reservations that still exist and
+     * queues it in the email outbox, all in one transaction. Any exception rolls the transaction
+     * back, so no half-rendered mail is ever queued. A job that is no longer {@link
+     * RenderJobStatus#RENDERING} was already finished by another worker after being requeued as
+     * stale, and is left alone.
+     *
+     * @param id the job id
+     * @return the job's creation time, or {@code null} if the job no longer exists or is no longer
+     *     being rendered
+     */
+    @Transactional
+    public Instant render(UUID id) {
+        ConfirmationRenderJob job = confirmationRenderJobRepository.findByIdForUpdate(id);
+        if (job == null) {
+            LOG.warnf("Confirmation render job id=%s disappeared before rendering", id);
+            return null;
+        }
+        if (job.getStatus() != RenderJobStatus.RENDERING) {
+            LOG.warnf(
+                    "Confirmation render job id=%s is %s, no longer claimed by this worker;"
+                            + " skipping",
+                    id,
+                    job.getStatus());
+            return null;
+        }
+
+        // Keep the original order: the first reservation supplies the check-in token.
+        Map<UUID, Reservation> byId =
+                reservationRepository.findByIds(job.getReservationIds()).stream()
+                        .collect(Collectors.toMap(r -> r.id, Function.identity()));
+        List<Reservation> reservations =
+                job.getReservationIds().stream().map(byId::get).filter(Objects::nonNull).toList();
+
+        if (reservations.isEmpty()) {
+            LOG.infof("Confirmation render job id=%s has no remaining reservations; skipping", id);
+        } else {
+            reservationEmailContent.sendReservationConfirmation(
+                    job.getUser(), reservations, null, true);
+        }
+
+        Instant now = Instant.now();
+        job.setStatus(RenderJobStatus.DONE);
+        job.setAttempts(job.getAttempts() + 1);
+        job.setUpdatedAt(now);
+        job.setLastError(null);
+        LOG.debugf("Confirmation render job id=%s finished", id);
+        return job.getCreatedAt();
+    }
+
+    /**
+     * Records a failed render attempt and either schedules a retry with exponential back-off or,
+     * once the attempt limit is reached, marks the job as {@link RenderJobStatus#FAILED}. Jobs no
+     * longer {@link RenderJobStatus#RENDERING} belong to another worker's claim and are left alone.
+     *
+     * @param id the job id
+     * @param error the failure that occurred
+     */
+    @Transactional
+    public void markFailure(UUID id, Exception error) {
+        ConfirmationRenderJob job = confirmationRenderJobRepository.findByIdForUpdate(id);
+        if (job == null || job.getStatus() != RenderJobStatus.RENDERING) {
+            return;
+        }
+        Instant now = Instant.now();
+        int attempts = job.getAttempts() + 1;
+        job.setAttempts(attempts);
+        job.setUpdatedAt(now);
+        job.setLastError(OutboxPump.lastError(error));
+
+        if (attempts >= job.getMaxAttempts()) {
+            job.setStatus(RenderJobStatus.FAILED);
+            if (meterRegistry != null) {
+                meterRegistry.counter("email.render.failed").increment();
+            }
+            LOG.errorf(
+                    error,
+                    "Confirmation render job id=%s permanently failed after %d attempt(s)",
+                    id,
+                    attempts);
+        } else {
+            job.setStatus(RenderJobStatus.PENDING);
+            job.setNextAttemptAt(
+                    now.plusSeconds(
+                            OutboxPump.backoffSeconds(
+                                    attempts, retryBackoffSeconds, maxBackoffSeconds)));
+            LOG.warnf(
+                    error,
+                    "Confirmation render job id=%s failed (attempt %d/%d); retrying at %s",
+                    id,
+                    attempts,
+                    job.getMaxAttempts(),
+                    job.getNextAttemptAt());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.render;
+
+import java.util.UUID;
+
+/**
+ * CDI event fired by {@link ConfirmationRenderQueueService#enqueue} once a render job has been
+ * persisted. Consumed by {@link ConfirmationRenderDispatcher} as a {@code
+ * TransactionPhase.AFTER_SUCCESS} observer, so rendering only starts after the booking transaction
+ * has committed and released its locks.
+ */
+public record ConfirmationRenderEnqueuedEvent(UUID jobId) {}
@@ -0,0 +1,98 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.render;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import de.felixhertweck.seatreservation.email.queue.EmailQueueService;
+import de.felixhertweck.seatreservation.model.entity.ConfirmationRenderJob;
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.ConfirmationRenderJobRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Records deferred reservation confirmation renders.
+ *
+ * <p>Like {@link EmailQueueService}, the job is persisted in the <em>current</em> transaction, so
+ * it is committed atomically with the reservations it confirms. The booking transaction itself only
+ * pays for one small insert; the seat map, PNG and QR rendering happens later in {@link
+ * ConfirmationRenderDispatcher}.
+ */
+@ApplicationScoped
+public class ConfirmationRenderQueueService {
+
+    private static final Logger LOG = Logger.getLogger(ConfirmationRenderQueueService.class);
+
+    @Inject ConfirmationRenderJobRepository confirmationRenderJobRepository;
+
+    @Inject Event<ConfirmationRenderEnqueuedEvent> confirmationRenderEnqueuedEvent;
+
+    @ConfigProperty(name = "email.render.max-attempts", defaultValue = "5")
+    int maxAttempts;
+
+    /**
+     * Queues the confirmation mail for the given, freshly created reservations.
+     *
+     * @param user the user the reservations belong to
+     * @param reservations the reservations to confirm; all must belong to the same event
+     * @return the persisted job, or {@code null} if there was nothing to confirm
+     */
+    @Transactional
+    public ConfirmationRenderJob enqueue(User user, List<Reservation> reservations) {
+        if (user == null || reservations == null || reservations.isEmpty()) {
+            LOG.warn("Skipping confirmation render job: no user or reservations given.");
+            return null;
+        }
+
+        Instant now = Instant.now();
+        ConfirmationRenderJob job = new ConfirmationRenderJob();
+        job.setUser(user);
+        job.setEvent(reservations.getFirst().getEvent());
+        job.setReservationIds(
+                new ArrayList<>(
+                        reservations.stream()
+                                .map(r -> r.id)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toList()));
+        job.setMaxAttempts(maxAttempts);
+        job.setNextAttemptAt(now);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+
+        confirmationRenderJobRepository.persist(job);
+        LOG.debugf(
+                "Queued confirmation render job id=%s for user ID: %s (%d reservation(s))",
+                job.id, user.id, job.getReservationIds().size());
+
+        // Starts rendering once this transaction commits (see ConfirmationRenderDispatcher).
+        confirmationRenderEnqueuedEvent.fire(new ConfirmationRenderEnqueuedEvent(job.id));
+        return job;
+    }
+}
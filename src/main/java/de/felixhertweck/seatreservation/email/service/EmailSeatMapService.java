@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -55,6 +56,8 @@ public class EmailSeatMapService {
 
     @Inject ReservationRepository reservationRepository;
 
+    @Inject SeatMapRenderCache seatMapRenderCache;
+
     @ConfigProperty(name = "email.seatmap.token.expiration.days", defaultValue = "30")
     long tokenExpirationDays;
 
@@ -115,12 +118,23 @@ public class EmailSeatMapService {
      * @see #getSvgImage(String)
      */
     public Optional<byte[]> getPngImage(String token) {
-        Optional<String> svg = getSvgImage(token);
-        if (!svg.isPresent()) return Optional.empty();
+        Optional<SeatMapData> data = loadSeatMapData(token);
+        if (data.isEmpty()) return Optional.empty();
 
+        SeatMapData seatMap = data.get();
         try {
-            byte[] png = SvgToPngConverter.convertSvgToPng(svg.get());
-            return Optional.of(png);
+            if (seatMap.allSeats() == null || seatMap.allSeats().isEmpty()) {
+                // Nothing to cache; keeps the converter's handling of an empty seat map.
+                return Optional.of(SvgToPngConverter.convertSvgToPng(render(seatMap)));
+            }
+            return Optional.of(
+                    seatMapRenderCache.renderPng(
+                            seatMap.eventLocationId(),
+                            seatMap.allSeats(),
+                            seatMap.newReservedSeatNumbers(),
+                            seatMap.existingReservedSeatNumbers(),
+                            seatMap.markers(),
+                            seatMap.areas()));
         } catch (IOException | TranscoderException e) {
             LOG.error("Failed to convert SVG to PNG", e);
             return Optional.empty();
@@ -136,6 +150,28 @@ public class EmailSeatMapService {
      *     expired
      */
     public Optional<String> getSvgImage(String token) {
+        return loadSeatMapData(token).map(EmailSeatMapService::render);
+    }
+
+    /** Everything needed to draw the seat map behind a token. */
+    private record SeatMapData(
+            UUID eventLocationId,
+            List<Seat> allSeats,
+            Set<String> newReservedSeatNumbers,
+            Set<String> existingReservedSeatNumbers,
+            Collection<EventLocationMarker> markers,
+            List<AreaDTO> areas) {}
+
+    private static String render(SeatMapData seatMap) {
+        return SvgRenderer.renderSeats(
+                seatMap.allSeats(),
+                seatMap.newReservedSeatNumbers(),
+                seatMap.existingReservedSeatNumbers(),
+                seatMap.markers(),
+                seatMap.areas());
+    }
+
+    private Optional<SeatMapData> loadSeatMapData(String token) {
         if (token == null || token.isBlank()) return Optional.empty();
 
         Optional<EmailSeatMapToken> emailSeatMapTokenOptional = tokenRepository.findByToken(token);
@@ -151,7 +187,7 @@ public class EmailSeatMapService {
             return Optional.empty();
         }
 
-        // Build SVG from event seats and reservations
+        // Collect event seats and reservations
         Event event = emailSeatMapToken.getEvent();
         if (event == null || event.getEventLocation() == null) {
             LOG.warnf("Token %s has no event or event location", token);
@@ -171,7 +207,8 @@ public class EmailSeatMapService {
         List<AreaDTO> areas = AreaDTO.fromEventLocation(event.getEventLocation());
 
         return Optional.of(
-                SvgRenderer.renderSeats(
+                new SeatMapData(
+                        event.getEventLocation().id,
                         allSeats,
                         newReservedSeatNumbers,
                         existingReservedSeatNumbers,
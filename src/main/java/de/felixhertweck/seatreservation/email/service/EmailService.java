@@ -31,6 +31,8 @@ import de.felixhertweck.seatreservation.common.events.ReservationCancelledEvent;
 import de.felixhertweck.seatreservation.common.events.ReservationCreatedEvent;
 import de.felixhertweck.seatreservation.common.exception.AccessDeniedException;
 import de.felixhertweck.seatreservation.common.exception.EventNotFoundException;
+import de.felixhertweck.seatreservation.email.render.ConfirmationRenderDispatcher;
+import de.felixhertweck.seatreservation.email.render.ConfirmationRenderQueueService;
 import de.felixhertweck.seatreservation.email.service.notifications.EmailConfirmationNotification;
 import de.felixhertweck.seatreservation.email.service.notifications.PasswordChangedNotification;
 import de.felixhertweck.seatreservation.email.service.notifications.PasswordResetNotification;
@@ -87,6 +89,8 @@ public class EmailService {
 
     @Inject ReservationEmailContent reservationEmailContent;
 
+    @Inject ConfirmationRenderQueueService confirmationRenderQueueService;
+
     @ConfigProperty(name = "email.frontend-base-url", defaultValue = "")
     String frontendBaseUrl;
 
@@ -247,18 +251,20 @@ public class EmailService {
     }
 
     /**
-     * Reacts to a reservation creation by sending the confirmation email. Observed synchronously
-     * (same transaction as the reservation) so the entities are still attached and safe to
-     * lazy-load. Failures are swallowed here rather than propagated, matching the previous
-     * caller-side behavior of not letting a mail failure roll back the reservation.
+     * Reacts to a reservation creation by queueing the confirmation email for rendering. Observed
+     * synchronously (same transaction as the reservation) so the render job commits atomically with
+     * the reservations, but the expensive part -- seat map PNG and QR code -- runs later in {@link
+     * ConfirmationRenderDispatcher}, after the booking transaction has released its locks. Failures
+     * are swallowed here rather than propagated, matching the previous caller-side behavior of not
+     * letting a mail failure roll back the reservation.
      *
      * @param event the reservation-created notification
      */
     public void onReservationCreated(@Observes ReservationCreatedEvent event) {
         try {
-            sendReservationConfirmation(event.user(), event.reservations());
+            confirmationRenderQueueService.enqueue(event.user(), event.reservations());
         } catch (PersistenceException | IllegalStateException e) {
-            LOG.error("Failed to send reservation confirmation email", e);
+            LOG.error("Failed to queue reservation confirmation email", e);
         }
     }
 
@@ -20,16 +20,16 @@
 package de.felixhertweck.seatreservation.email.service;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.control.ActivateRequestContext;
@@ -40,19 +40,20 @@ import jakarta.transaction.Transactional;
 
 import de.felixhertweck.seatreservation.common.events.EventCancelledEvent;
 import de.felixhertweck.seatreservation.common.events.EventCreatedEvent;
-import de.felixhertweck.seatreservation.common.events.EventDeletedEvent;
 import de.felixhertweck.seatreservation.common.events.EventRescheduledEvent;
 import de.felixhertweck.seatreservation.common.events.EventUpdatedEvent;
 import de.felixhertweck.seatreservation.common.exception.AccessDeniedException;
 import de.felixhertweck.seatreservation.common.exception.EventNotFoundException;
 import de.felixhertweck.seatreservation.management.service.EventService;
-import de.felixhertweck.seatreservation.management.service.ReservationService;
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTask;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskType;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.model.repository.ScheduledTaskRepository;
 import io.quarkus.scheduler.Scheduled;
-import io.quarkus.scheduler.Scheduler;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.hibernate.Hibernate;
 import org.jboss.logging.Logger;
 
@@ -63,66 +64,46 @@ public class NotificationService {
 
     @Inject EventService eventService;
 
-    @Inject ReservationService reservationService;
-
     @Inject ReservationRepository reservationRepository;
 
     @Inject EmailService emailService;
 
-    @Inject Scheduler scheduler;
+    @Inject ScheduledTaskRepository scheduledTaskRepository;
 
     @Inject NotificationService self;
 
-    /** Cache of scheduled job IDs to avoid expensive lookups */
-    private final Set<String> scheduledJobIds = ConcurrentHashMap.newKeySet();
+    @ConfigProperty(name = "scheduled-tasks.max-attempts", defaultValue = "5")
+    int maxAttempts;
 
-    /**
-     * Cache of the reminder time each scheduled job was scheduled for, to avoid redundant
-     * reschedules
-     */
-    private final Map<String, Instant> scheduledReminderTimes = new ConcurrentHashMap<>();
+    @ConfigProperty(name = "scheduled-tasks.reminder.recipients-per-batch", defaultValue = "100")
+    int recipientsPerBatch;
 
     /**
-     * Reacts to a newly created event by scheduling its reminder job, if any.
+     * Reacts to a newly created event by scheduling its reminder task, if any.
      *
      * @param event the event-created notification
      */
     public void onEventCreated(@Observes EventCreatedEvent event) {
         if (event.reminderSendDate() != null) {
-            scheduleEventReminder(event.eventId(), event.reminderSendDate());
+            self.scheduleEventReminder(event.eventId(), event.reminderSendDate());
         }
     }
 
     /**
-     * Reacts to an updated event by rescheduling (or cancelling) its reminder job to match the
+     * Reacts to an updated event by rescheduling (or cancelling) its reminder task to match the
      * event's current reminder date. Other fields (e.g. venue name/address) can also trigger this
-     * event without affecting the reminder, so this is a no-op when the reminder date is unchanged.
+     * event without affecting the reminder; {@link #scheduleEventReminder} keeps the pending task
+     * in that case.
      *
      * @param event the event-updated notification
      */
     public void onEventUpdated(@ObservesAsync EventUpdatedEvent event) {
-        String jobId = reminderJobId(event.eventId());
-        if (Objects.equals(scheduledReminderTimes.get(jobId), event.reminderSendDate())) {
-            LOG.debugf(
-                    "Reminder date for event ID: %s is unchanged, skipping reschedule",
-                    event.eventId());
-            return;
-        }
-        scheduleEventReminder(event.eventId(), event.reminderSendDate());
+        self.scheduleEventReminder(event.eventId(), event.reminderSendDate());
     }
 
     /**
-     * Reacts to a deleted event by cancelling any reminder job scheduled for it.
-     *
-     * @param event the event-deleted notification
-     */
-    public void onEventDeleted(@Observes EventDeletedEvent event) {
-        cancelEventReminder(event.eventId());
-    }
-
-    /**
-     * Reacts to an event cancelled event by cancelling its reminder job and notifying all affected
-     * users with reservations.
+     * Reacts to an event cancelled event by cancelling its reminder tasks and notifying all
+     * affected users with reservations.
      *
      * @param event the event-cancelled notification
      */
@@ -130,7 +111,7 @@ public class NotificationService {
         if (event == null) {
             return;
         }
-        cancelEventReminder(event.eventId());
+        self.cancelEventReminder(event.eventId());
 
         if (event.cancelledReservations() == null || event.cancelledReservations().isEmpty()) {
             return;
@@ -157,143 +138,152 @@ public class NotificationService {
     }
 
     /**
-     * Schedules a reminder job for the given event. Always cancels any previously scheduled job for
-     * the event first, so this also serves as the reschedule/cancel path when {@code
-     * reminderSendDate} changes or is cleared.
+     * Schedules the reminder task for the given event. A pending reminder task of the event is
+     * replaced, so this also serves as the reschedule/cancel path when {@code reminderSendDate}
+     * changes or is cleared. A pending task that is already due at {@code reminderSendDate} is kept
+     * as is. Batches already planned from an earlier reminder are not touched, so an update of the
+     * event while its reminder is being sent doesn't drop the remaining recipients; only {@link
+     * #cancelEventReminder} removes them.
+     *
+     * <p>The task is stored in the database (see {@link ScheduledTask}) and picked up by the task
+     * poller of whichever instance claims it first, so it survives restarts and nothing has to be
+     * rebuilt on startup.
      *
      * @param eventId The ID of the event for which to schedule a reminder
      * @param reminderSendDate The time the reminder should be sent, or {@code null} if no reminder
      *     should be scheduled
      */
+    @Transactional
     public void scheduleEventReminder(UUID eventId, Instant reminderSendDate) {
-        cancelEventReminder(eventId);
+        if (reminderSendDate != null
+                && scheduledTaskRepository
+                        .findPendingByEventIdAndType(eventId, ScheduledTaskType.EVENT_REMINDER)
+                        .filter(task -> sameInstant(task.getNextAttemptAt(), reminderSendDate))
+                        .isPresent()) {
+            LOG.debugf("Reminder date for event ID: %s is unchanged, skipping reschedule", eventId);
+            return;
+        }
+
+        long replaced =
+                scheduledTaskRepository.deletePendingByEventIdAndType(
+                        eventId, ScheduledTaskType.EVENT_REMINDER);
+        if (replaced > 0) {
+            LOG.debugf("Removed pending reminder task for event ID: %s", eventId);
+        }
 
         if (reminderSendDate == null) {
             LOG.debugf("No reminder date set for event ID: %s, skipping", eventId);
             return;
         }
 
-        // Calculate delay until reminder should be sent
-        Instant now = Instant.now();
-
-        if (reminderSendDate.isBefore(now)) {
+        if (reminderSendDate.isBefore(Instant.now())) {
             LOG.warnf(
                     "Reminder date %s for event ID: %s is in the past, skipping",
                     reminderSendDate, eventId);
             return;
         }
 
-        long delaySeconds = Duration.between(now, reminderSendDate).getSeconds();
+        Event event = eventService.findById(eventId);
+        if (event == null) {
+            LOG.warnf("Event with ID %s not found, skipping reminder", eventId);
+            return;
+        }
 
-        LOG.infof(
-                "Scheduling reminder for event ID: %s at %s (in %d seconds)",
-                eventId, reminderSendDate, delaySeconds);
-
-        String jobId = reminderJobId(eventId);
-        // Schedule the reminder job as a one-time task
-        // We use a very long interval (1 year) to make it effectively a one-time job
-        // The task itself will unschedule the job after execution
-        scheduler
-                .newJob(jobId)
-                .setInterval("365d") // Set a long interval to satisfy the scheduler requirement
-                .setDelayed(delaySeconds + "s") // Set the delay until first execution
-                // Fast enqueue into the email outbox; no extra thread pool needed
-                .setTask(executionContext -> self.sendReminderForEvent(eventId))
-                .schedule();
-
-        // Add to cache for efficient lookups
-        scheduledJobIds.add(jobId);
-        scheduledReminderTimes.put(jobId, reminderSendDate);
+        scheduledTaskRepository.persist(
+                new ScheduledTask(
+                        ScheduledTaskType.EVENT_REMINDER, event, reminderSendDate, maxAttempts));
+        LOG.infof("Scheduled reminder for event ID: %s at %s", eventId, reminderSendDate);
     }
 
     /**
-     * Orchestrates the reminder sending process with short transactions. Uses separate transactions
-     * for loading data and marking complete to avoid long-running transactions during email
-     * sending.
+     * Runs an {@link ScheduledTaskType#EVENT_REMINDER} task: splits the event's recipients into
+     * {@link ScheduledTaskType#EVENT_REMINDER_BATCH} tasks of {@code recipientsPerBatch} users,
+     * which the task poller then processes in parallel, and marks the reminder as sent.
      *
-     * @param eventId The ID of the event
+     * <p>Runs in the caller's transaction, so the batches and the reminder flag are committed
+     * together with the task's completion. Each finished batch is a checkpoint: after a crash only
+     * the batches that had not committed yet are run again.
+     *
+     * @param task the claimed reminder task
+     * @return the number of batch tasks created
      */
-    public void sendReminderForEvent(UUID eventId) {
-        try {
-            LOG.infof("Executing reminder task for event ID: %s", eventId);
-
-            // Step 1: Load data in a SHORT transaction
-            ReminderData data = self.loadReminderData(eventId);
-            if (data == null) {
-                // Event not found or already sent, cancel the job
-                cancelEventReminder(eventId);
-                return;
-            }
-
-            // Check if there are no reservations
-            if (data.reservations.isEmpty()) {
-                LOG.debugf(
-                        "No reservations for event ID: %s, marking reminder as sent",
-                        data.event.id);
-                self.markReminderComplete(eventId);
-                cancelEventReminder(eventId);
-                return;
-            }
-
-            // Step 2: Send emails OUTSIDE transaction (can take as long as needed)
-            sendReminderEmails(data);
-
-            // Step 3: Mark as complete in a SHORT transaction
-            self.markReminderComplete(eventId);
+    @Transactional
+    public int planEventReminder(ScheduledTask task) {
+        Event event = task.getEvent();
+        if (event.isReminderSent()) {
+            LOG.debugf("Skipping event ID: %s - reminder already sent", event.id);
+            return 0;
+        }
 
-            cancelEventReminder(eventId);
-            LOG.infof(
-                    "Reminder sent and marked for event: %s (ID: %s)",
-                    data.event.getName(), data.event.id);
-        } catch (Exception e) {
-            cancelEventReminder(eventId);
-            LOG.errorf(e, "Error processing reminder for event ID: %s", eventId);
+        List<UUID> userIds = reservationRepository.findDistinctUserIdsByEventId(event.id);
+        int batchSize = Math.max(1, recipientsPerBatch);
+        Instant now = Instant.now();
+        int batches = 0;
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            ScheduledTask batch =
+                    new ScheduledTask(
+                            ScheduledTaskType.EVENT_REMINDER_BATCH, event, now, maxAttempts);
+            batch.setUserIds(
+                    new ArrayList<>(
+                            userIds.subList(from, Math.min(from + batchSize, userIds.size()))));
+            scheduledTaskRepository.persist(batch);
+            batches++;
         }
+
+        eventService.markReminderAsSent(event);
+        LOG.infof(
+                "Reminder for event: %s (ID: %s) split into %d batch(es) for %d user(s)",
+                event.getName(), event.id, batches, userIds.size());
+        return batches;
     }
 
     /**
-     * Loads all required data for sending reminders in a short transaction. Only performs read
-     * operations to minimize transaction duration. Eagerly loads all required lazy fields to avoid
-     * LazyInitializationException.
+     * Runs an {@link ScheduledTaskType#EVENT_REMINDER_BATCH} task: queues the reminder mail for
+     * every user of the batch in the caller's transaction. A failure for a single user is logged
+     * and does not hold back the rest of the batch.
      *
-     * @param eventId The ID of the event
-     * @return ReminderData containing event and reservations, or null if not applicable
+     * @param task the claimed batch task
      */
     @Transactional
-    public ReminderData loadReminderData(UUID eventId) {
-        // Fetch fresh event data
-        Event event = eventService.findById(eventId);
-        if (event == null) {
-            LOG.warnf("Event with ID %s not found, skipping reminder", eventId);
-            cancelEventReminder(eventId);
-            return null;
-        }
-
-        // Skip if reminder already sent
-        if (event.isReminderSent()) {
-            LOG.debugf("Skipping event ID: %s - reminder already sent", event.id);
-            return null;
-        }
-
-        LOG.debugf("Processing event: %s (ID: %s)", event.getName(), event.id);
-        List<Reservation> reservations = reservationService.findByEvent(event);
-        LOG.debugf("Found %d reservations for event ID: %s.", reservations.size(), event.id);
+    public void sendReminderBatch(ScheduledTask task) {
+        Event event = task.getEvent();
+        Map<User, List<Reservation>> reservationsByUser =
+                reservationRepository
+                        .findByEventIdAndUserIdsWithUserAndSeat(event.id, task.getUserIds())
+                        .stream()
+                        .collect(Collectors.groupingBy(Reservation::getUser));
 
-        // Return early if no reservations, but let the orchestration method handle marking as sent
-        if (reservations.isEmpty()) {
-            LOG.debugf(
-                    "No reservations for event %s, will mark reminder as sent in orchestration"
-                            + " method",
-                    event.getName());
-            // Return ReminderData with empty reservations list to signal this case
-            return new ReminderData(event, reservations);
-        }
+        LOG.debugf(
+                "Sending reminders to %d users for event ID: %s",
+                reservationsByUser.size(), event.id);
 
-        // Eagerly load all lazy fields that will be needed outside the transaction
-        // This prevents LazyInitializationException
-        eagerLoadEntities(event, reservations);
+        reservationsByUser.forEach(
+                (user, userReservations) -> {
+                    try {
+                        LOG.debugf(
+                                "Sending reminder to user: %s for event: %s",
+                                user.id, event.getName());
+                        emailService.sendEventReminder(user, event, userReservations);
+                    } catch (Exception e) {
+                        LOG.errorf(
+                                e,
+                                "Error sending reminder email to user ID: %s for event ID: %s",
+                                user.id,
+                                event.id);
+                    }
+                });
+    }
 
-        return new ReminderData(event, reservations);
+    /**
+     * Compares two instants at the microsecond precision the database stores them with.
+     *
+     * @param stored the instant read from the database
+     * @param requested the instant to compare it with
+     * @return whether both denote the same point in time
+     */
+    private static boolean sameInstant(Instant stored, Instant requested) {
+        return stored.truncatedTo(ChronoUnit.MICROS)
+                .equals(requested.truncatedTo(ChronoUnit.MICROS));
     }
 
     /**
@@ -311,8 +301,8 @@ public class NotificationService {
         if (event.getEventLocation() != null) {
             event.getEventLocation().getName();
             // Force load the location's seat/marker/area collections and each area's boundary:
-            // sendReminderEmails() (called later, outside this transaction) renders a seat map via
-            // EmailSeatMapService, which reads all of these off event.getEventLocation().
+            // sendRescheduledEmails() (called later, outside this transaction) renders a seat map
+            // via EmailSeatMapService, which reads all of these off event.getEventLocation().
             Hibernate.initialize(event.getEventLocation().getSeats());
             Hibernate.initialize(event.getEventLocation().getMarkers());
             Hibernate.initialize(event.getEventLocation().getAreas());
@@ -339,66 +329,6 @@ public class NotificationService {
                 });
     }
 
-    /**
-     * Sends reminder emails to all users. Uses @ActivateRequestContext to enable database queries
-     * in EmailService without holding a long transaction.
-     *
-     * @param data The reminder data containing event and reservations
-     */
-    @ActivateRequestContext
-    public void sendReminderEmails(ReminderData data) {
-        Map<User, List<Reservation>> reservationsByUser =
-                data.reservations.stream().collect(Collectors.groupingBy(Reservation::getUser));
-
-        LOG.debugf(
-                "Sending reminders to %d users for event ID: %s",
-                reservationsByUser.size(), data.event.id);
-
-        reservationsByUser.forEach(
-                (user, userReservations) -> {
-                    try {
-                        LOG.debugf(
-                                "Sending reminder to user: %s for event: %s",
-                                user.id, data.event.getName());
-                        emailService.sendEventReminder(user, data.event, userReservations);
-                    } catch (Exception e) {
-                        LOG.errorf(
-                                e,
-                                "Error sending reminder email to user ID: %s for event ID: %s",
-                                user.id,
-                                data.event.id);
-                    }
-                });
-    }
-
-    /**
-     * Marks the reminder as sent in a short transaction. Performs a single update operation to
-     * minimize transaction duration.
-     *
-     * @param eventId The ID of the event
-     */
-    @Transactional
-    public void markReminderComplete(UUID eventId) {
-        Event event = eventService.findById(eventId);
-        if (event != null) {
-            eventService.markReminderAsSent(event);
-        }
-    }
-
-    /**
-     * Helper class to hold reminder data loaded from database. Used to pass data between
-     * transactional boundaries.
-     */
-    public static class ReminderData {
-        final Event event;
-        final List<Reservation> reservations;
-
-        ReminderData(Event event, List<Reservation> reservations) {
-            this.event = event;
-            this.reservations = reservations;
-        }
-    }
-
     /**
      * Handles asynchronous event rescheduled events. Loads affected reservations and dispatches
      * notification emails to booked users.
@@ -509,32 +439,18 @@ public class NotificationService {
     }
 
     /**
-     * Cancels the scheduled reminder for an event if exists.
+     * Cancels all reminder work of an event that has not started yet, including reminder batches
+     * that are still waiting to be sent. Pending tasks of a deleted event are removed by the
+     * database together with the event row.
      *
      * @param eventId The ID of the event
      */
+    @Transactional
     public void cancelEventReminder(UUID eventId) {
-        String jobId = reminderJobId(eventId);
-        scheduledReminderTimes.remove(jobId);
-
-        if (!scheduledJobIds.contains(jobId)) {
-            LOG.debugf("No existing reminder job for event ID: %s to cancel.", eventId);
-            return;
+        long deleted = scheduledTaskRepository.deletePendingByEventId(eventId);
+        if (deleted > 0) {
+            LOG.debugf("Cancelled %d pending reminder task(s) for event ID: %s", deleted, eventId);
         }
-
-        scheduler.unscheduleJob(jobId);
-        scheduledJobIds.remove(jobId);
-        LOG.debugf("Cancelled reminder job for event ID: %s", eventId);
-    }
-
-    /**
-     * Builds the Quartz job ID used to identify the reminder job for the given event.
-     *
-     * @param eventId The ID of the event
-     * @return the job ID
-     */
-    private static String reminderJobId(UUID eventId) {
-        return "reminder-event-" + eventId;
     }
 
     /**
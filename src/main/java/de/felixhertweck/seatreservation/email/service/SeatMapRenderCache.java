@@ -0,0 +1,249 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.service;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import de.felixhertweck.seatreservation.common.dto.AreaDTO;
+import de.felixhertweck.seatreservation.common.dto.CoordinateDTO;
+import de.felixhertweck.seatreservation.common.events.SeatmapGeometryChangedEvent;
+import de.felixhertweck.seatreservation.model.entity.EventLocationMarker;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.utils.SvgRenderer;
+import de.felixhertweck.seatreservation.utils.SvgToPngConverter;
+import org.apache.batik.transcoder.TranscoderException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Renders the seat map PNGs embedded in reservation mails from a per-location cache.
+ *
+ * <p>Everything that is the same for every recipient (areas, markers and all seats in their
+ * "available" color) is rendered through {@link SvgRenderer} and rasterized by Batik once per
+ * {@code EventLocation}. A recipient's image is then a copy of that base layer with only their own
+ * seats redrawn on top with Java2D, which avoids building and parsing the full SVG for every mail
+ * of a reminder run.
+ *
+ * <p>Base layers are dropped on {@link SeatmapGeometryChangedEvent}. Since that event is only seen
+ * by the instance that made the change, each base layer also remembers a fingerprint of the
+ * geometry it was rendered from and is re-rendered when the geometry no longer matches.
+ */
+@ApplicationScoped
+public class SeatMapRenderCache {
+
+    private static final Logger LOG = Logger.getLogger(SeatMapRenderCache.class);
+
+    private static final Color SEAT_STROKE_COLOR = new Color(0x333333);
+    private static final Font SEAT_FONT =
+            new Font(Font.SANS_SERIF, Font.PLAIN, SvgRenderer.SEAT_TEXT_HEIGHT);
+
+    @ConfigProperty(name = "email.seatmap.render-cache.max-entries", defaultValue = "16")
+    int maxEntries;
+
+    private final Map<UUID, BaseLayer> baseLayers = new ConcurrentHashMap<>();
+
+    /**
+     * The static part of a location's seat map, rasterized.
+     *
+     * @param fingerprint fingerprint of the geometry the image was rendered from
+     * @param image the rasterized base layer; never drawn on directly
+     * @param transform maps SVG user units onto {@code image} pixels
+     */
+    private record BaseLayer(long fingerprint, BufferedImage image, AffineTransform transform) {}
+
+    /**
+     * Renders the seat map of a location as PNG, highlighting the given seats.
+     *
+     * @param eventLocationId the location the geometry belongs to (cache key)
+     * @param allSeats all seats of the location; must not be empty
+     * @param newReservedSeatNumbers seat numbers drawn in the "new reservation" color
+     * @param existingReservedSeatNumbers seat numbers drawn in the "existing reservation" color
+     * @param markers the location's markers (optional)
+     * @param areas the location's areas (optional)
+     * @return the PNG image as a byte array
+     * @throws IOException if encoding the image fails
+     * @throws TranscoderException if rasterizing the base layer fails
+     */
+    public byte[] renderPng(
+            UUID eventLocationId,
+            Collection<Seat> allSeats,
+            Set<String> newReservedSeatNumbers,
+            Set<String> existingReservedSeatNumbers,
+            Collection<EventLocationMarker> markers,
+            Collection<AreaDTO> areas)
+            throws IOException, TranscoderException {
+        BaseLayer baseLayer = getBaseLayer(eventLocationId, allSeats, markers, areas);
+
+        BufferedImage base = baseLayer.image();
+        BufferedImage image =
+                new BufferedImage(base.getWidth(), base.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.drawImage(base, 0, 0, null);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(
+                    RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.transform(baseLayer.transform());
+            g.setFont(SEAT_FONT);
+            g.setStroke(new BasicStroke(1f));
+            for (Seat seat : allSeats) {
+                String color;
+                if (newReservedSeatNumbers.contains(seat.getSeatNumber())) {
+                    color = SvgRenderer.NEW_RESERVATION_COLOR;
+                } else if (existingReservedSeatNumbers.contains(seat.getSeatNumber())) {
+                    color = SvgRenderer.EXISTING_RESERVATION_COLOR;
+                } else {
+                    continue;
+                }
+                drawSeat(g, seat, Color.decode(color));
+            }
+        } finally {
+            g.dispose();
+        }
+        return SvgToPngConverter.encodePng(image);
+    }
+
+    /** Drops the cached base layer of a location whose geometry changed. */
+    void onGeometryChanged(@Observes SeatmapGeometryChangedEvent event) {
+        if (baseLayers.remove(event.eventLocationId()) != null) {
+            LOG.debugf(
+                    "Dropped cached seat map base layer for location ID: %s",
+                    event.eventLocationId());
+        }
+    }
+
+    private BaseLayer getBaseLayer(
+            UUID eventLocationId,
+            Collection<Seat> allSeats,
+            Collection<EventLocationMarker> markers,
+            Collection<AreaDTO> areas)
+            throws TranscoderException {
+        long fingerprint = fingerprint(allSeats, markers, areas);
+        BaseLayer cached = baseLayers.get(eventLocationId);
+        if (cached != null && cached.fingerprint() == fingerprint) {
+            return cached;
+        }
+
+        // Rendered outside of any lock: two concurrent misses for the same location just render
+        // the same image twice.
+        LOG.debugf("Rendering seat map base layer for location ID: %s", eventLocationId);
+        String svg = SvgRenderer.renderSeats(allSeats, Set.of(), Set.of(), markers, areas);
+        BaseLayer baseLayer =
+                new BaseLayer(
+                        fingerprint,
+                        SvgToPngConverter.convertSvgToImage(svg),
+                        viewTransform(SvgRenderer.computeViewBox(allSeats, markers, areas)));
+
+        if (!baseLayers.containsKey(eventLocationId) && baseLayers.size() >= maxEntries) {
+            // Bounded by the number of distinct locations; drop an arbitrary entry to make room.
+            baseLayers.keySet().stream().findFirst().ifPresent(baseLayers::remove);
+        }
+        baseLayers.put(eventLocationId, baseLayer);
+        return baseLayer;
+    }
+
+    /**
+     * Replicates how Batik maps the seat map's {@code viewBox} onto the square output image: the
+     * default {@code preserveAspectRatio="xMidYMid meet"} scales uniformly and centers the content.
+     */
+    private static AffineTransform viewTransform(SvgRenderer.ViewBox viewBox) {
+        double size = SvgToPngConverter.IMAGE_SIZE;
+        double scale = Math.min(size / viewBox.width(), size / viewBox.height());
+        double translateX = (size - viewBox.width() * scale) / 2 - viewBox.x() * scale;
+        double translateY = (size - viewBox.height() * scale) / 2 - viewBox.y() * scale;
+        AffineTransform transform = new AffineTransform();
+        transform.translate(translateX, translateY);
+        transform.scale(scale, scale);
+        return transform;
+    }
+
+    /** Draws one seat exactly where (and as large as) {@link SvgRenderer} places it. */
+    private static void drawSeat(Graphics2D g, Seat seat, Color fill) {
+        double cx = (double) seat.getCoordinate().xCoordinate() * SvgRenderer.SEAT_SCALE;
+        double cy = (double) seat.getCoordinate().yCoordinate() * SvgRenderer.SEAT_SCALE;
+        double radius = SvgRenderer.SEAT_RADIUS;
+        Ellipse2D circle = new Ellipse2D.Double(cx - radius, cy - radius, radius * 2, radius * 2);
+        g.setColor(fill);
+        g.fill(circle);
+        g.setColor(SEAT_STROKE_COLOR);
+        g.draw(circle);
+
+        String label = seat.getSeatNumber();
+        if (label == null) {
+            return;
+        }
+        FontMetrics metrics = g.getFontMetrics();
+        g.setColor(Color.BLACK);
+        g.drawString(
+                label,
+                (float) (cx - metrics.stringWidth(label) / 2.0),
+                (float) (cy + SvgRenderer.SEAT_TEXT_HEIGHT / 3));
+    }
+
+    /** Hash over everything {@link SvgRenderer} draws into the base layer. */
+    private static long fingerprint(
+            Collection<Seat> allSeats,
+            Collection<EventLocationMarker> markers,
+            Collection<AreaDTO> areas) {
+        long hash = 1;
+        for (Seat seat : allSeats) {
+            hash = 31 * hash + Objects.hashCode(seat.id);
+            hash = 31 * hash + Objects.hashCode(seat.getSeatNumber());
+            hash = 31 * hash + seat.getCoordinate().xCoordinate();
+            hash = 31 * hash + seat.getCoordinate().yCoordinate();
+        }
+        if (markers != null) {
+            for (EventLocationMarker marker : markers) {
+                hash = 31 * hash + Objects.hashCode(marker.getLabel());
+                hash = 31 * hash + Objects.hashCode(marker.getCoordinate());
+            }
+        }
+        if (areas != null) {
+            for (AreaDTO area : areas) {
+                hash = 31 * hash + Objects.hashCode(area.name());
+                hash = 31 * hash + Objects.hashCode(area.seatIds());
+                if (area.boundary() != null) {
+                    for (CoordinateDTO point : area.boundary()) {
+                        hash = 31 * hash + point.xCoordinate();
+                        hash = 31 * hash + point.yCoordinate();
+                    }
+                }
+            }
+        }
+        return hash;
+    }
+}
@@ -25,10 +25,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import de.felixhertweck.seatreservation.userManagment.dto.AdminUserCreationDto;
-import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.jboss.logging.Logger;
@@ -38,13 +38,14 @@ import org.jboss.logging.Logger;
  *
  * <p>Usage: java -jar ... CSVToDto [input.csv] [output.json] If no arguments are provided, defaults
  * to 'importer/input.csv' and 'importer/output.json'.
+ *
+ * <p>Rows are written to the JSON array as they are read, so the file size is not limited by
+ * memory. The CSV can also be posted to {@code /api/users/admin/import/stream} directly.
  */
 public class CSVToDto {
 
     private static final Logger LOG = Logger.getLogger(CSVToDto.class);
 
-    private static final Set<String> DEFAULT_ROLES = Set.of("USER");
-    private static final Set<String> DEFAULT_TAGS = Set.of("imported");
     private static final String DEFAULT_CSV = "importer/input.csv";
     private static final String DEFAULT_JSON = "importer/output.json";
 
@@ -54,131 +55,55 @@ public class CSVToDto {
         String output =
                 args.length > 1 ? args[1] : System.getProperty("importer.output", DEFAULT_JSON);
 
-        List<AdminUserCreationDto> users = new ArrayList<>();
-
         Path inputPath = Path.of(input);
         if (!Files.exists(inputPath)) {
             LOG.errorf("Input file does not exist: %s", inputPath.toAbsolutePath());
             System.exit(2);
         }
 
-        CSVFormat format =
-                CSVFormat.Builder.create(CSVFormat.DEFAULT)
-                        .setDelimiter(';')
-                        .setIgnoreSurroundingSpaces(true)
-                        .setIgnoreEmptyLines(true)
-                        .setTrim(true)
-                        .get();
-
-        try (Reader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8);
-                CSVParser csv = format.parse(reader)) {
-
-            Iterator<CSVRecord> it = csv.iterator();
-            if (it.hasNext()) {
-                CSVRecord first = it.next();
-                if (looksLikeHeader(first)) {
-                    // header detected -> ignore
-                } else {
-                    // process first record as data
-                    processRecord(first, users);
-                }
-            }
-
-            while (it.hasNext()) {
-                CSVRecord record = it.next();
-                // Expecting at least firstname, lastname, password; optional email
-                processRecord(record, users);
-            }
-
-        } catch (IOException e) {
-            LOG.error("Error reading CSV", e);
-            System.exit(3);
-        }
-
-        // Write JSON using Jackson
-        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
         Path outPath = Path.of(output);
         try {
             Files.createDirectories(
                     outPath.getParent() == null ? Path.of(".") : outPath.getParent());
-            mapper.writeValue(outPath.toFile(), users);
-            LOG.infof("Wrote %d users to %s", users.size(), outPath.toAbsolutePath());
         } catch (IOException e) {
             LOG.error("Error writing JSON", e);
             System.exit(4);
         }
-    }
-
-    private static String safeGet(CSVRecord record, String header, int index) {
-        try {
-            if (record.isMapped(header)) {
-                String v = record.get(header);
-                return v == null ? "" : v;
-            }
-        } catch (IllegalArgumentException ignored) {
-        }
-        // Fallback by index
-        if (index < record.size()) {
-            String v = record.get(index);
-            return v == null ? "" : v;
-        }
-        return "";
-    }
-
-    private static void processRecord(CSVRecord record, List<AdminUserCreationDto> users) {
-        String firstname = safeGet(record, "firstname", 0);
-        String lastname = safeGet(record, "lastname", 1);
-        String password = safeGet(record, "password", 2);
-        String email = safeGet(record, "email", 3);
 
-        if (firstname.isBlank() || lastname.isBlank() || password.isBlank()) {
-            LOG.warnf("Skipping record due missing mandatory fields: %s", record);
-            return;
-        }
-
-        String username = createUsername(firstname, lastname);
+        ObjectMapper mapper = new ObjectMapper();
+        int written = 0;
+        try (Reader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8);
+                CSVParser csv = CsvUserRecords.parse(reader);
+                OutputStream out = Files.newOutputStream(outPath);
+                JsonGenerator json = mapper.createGenerator(out, JsonEncoding.UTF8)) {
+            json.useDefaultPrettyPrinter();
+            json.writeStartArray();
 
-        AdminUserCreationDto dto =
-                new AdminUserCreationDto(
-                        username,
-                        email.isBlank() ? null : email,
-                        Boolean.FALSE,
-                        Boolean.FALSE,
-                        password,
-                        firstname,
-                        lastname,
-                        DEFAULT_ROLES,
-                        DEFAULT_TAGS);
-        users.add(dto);
-    }
+            Iterator<CSVRecord> it = csv.iterator();
+            boolean first = true;
+            while (it.hasNext()) {
+                CSVRecord record = it.next();
+                if (first && CsvUserRecords.looksLikeHeader(record)) {
+                    // header detected -> ignore
+                    first = false;
+                    continue;
+                }
+                first = false;
+                // Expecting at least firstname, lastname, password; optional email
+                AdminUserCreationDto dto = CsvUserRecords.toDto(record);
+                if (dto == null) {
+                    LOG.warnf("Skipping record due missing mandatory fields: %s", record);
+                    continue;
+                }
+                json.writeObject(dto);
+                written++;
+            }
 
-    private static boolean looksLikeHeader(CSVRecord record) {
-        // simple heuristic: if any column name contains non-letter characters or matches known
-        // headers
-        for (String v : toList(record)) {
-            String lower = v.toLowerCase(Locale.ROOT).trim();
-            if (lower.isEmpty()) return false;
-            if (lower.matches(".*(firstname|lastname|password|email).*")) return true;
+            json.writeEndArray();
+        } catch (UncheckedIOException | IOException e) {
+            LOG.error("Error converting CSV to JSON", e);
+            System.exit(3);
         }
-        return false;
-    }
-
-    private static List<String> toList(CSVRecord record) {
-        List<String> l = new ArrayList<>(record.size());
-        for (int i = 0; i < record.size(); i++) l.add(record.get(i));
-        return l;
-    }
-
-    private static String createUsername(String firstname, String lastname) {
-        String username = (firstname + "." + lastname).toLowerCase().replaceAll("\\s+", "");
-        username =
-                username.replace("ä", "ae")
-                        .replace("ö", "oe")
-                        .replace("ü", "ue")
-                        .replace("ß", "ss");
-        // remove characters not allowed by AdminUserCreationDto pattern
-        username = username.replaceAll("[^a-z0-9._-]", "");
-        if (username.length() > 64) username = username.substring(0, 64);
-        return username;
+        LOG.infof("Wrote %d users to %s", written, outPath.toAbsolutePath());
     }
 }
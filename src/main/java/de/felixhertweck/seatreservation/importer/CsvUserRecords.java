@@ -0,0 +1,147 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import de.felixhertweck.seatreservation.userManagment.dto.AdminUserCreationDto;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Maps attendee CSV rows ({@code firstname;lastname;password;email}, optional header) to {@link
+ * AdminUserCreationDto}s. Shared by the offline {@link CSVToDto} tool and the streaming import of
+ * {@link de.felixhertweck.seatreservation.userManagment.service.UserImportService}.
+ */
+public final class CsvUserRecords {
+
+    private static final Set<String> DEFAULT_ROLES = Set.of("USER");
+    private static final Set<String> DEFAULT_TAGS = Set.of("imported");
+
+    private static final CSVFormat FORMAT =
+            CSVFormat.Builder.create(CSVFormat.DEFAULT)
+                    .setDelimiter(';')
+                    .setIgnoreSurroundingSpaces(true)
+                    .setIgnoreEmptyLines(true)
+                    .setTrim(true)
+                    .get();
+
+    private CsvUserRecords() {}
+
+    /**
+     * Opens a parser over the reader. Records are read lazily, one at a time.
+     *
+     * @param reader the CSV input
+     * @return the parser; closing it closes the reader
+     * @throws IOException if the input can't be read
+     */
+    public static CSVParser parse(Reader reader) throws IOException {
+        return FORMAT.parse(reader);
+    }
+
+    /**
+     * Heuristic for the optional header row: any column naming one of the known fields.
+     *
+     * @param record the first record of the file
+     * @return whether the record is a header
+     */
+    public static boolean looksLikeHeader(CSVRecord record) {
+        for (int i = 0; i < record.size(); i++) {
+            String lower = record.get(i).toLowerCase(Locale.ROOT).trim();
+            if (lower.isEmpty()) return false;
+            if (lower.matches(".*(firstname|lastname|password|email).*")) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Maps a record to a user with a username derived from first and last name.
+     *
+     * @param record the record
+     * @return the user, or {@code null} if firstname, lastname or password is missing
+     */
+    public static AdminUserCreationDto toDto(CSVRecord record) {
+        return toDto(record, UnaryOperator.identity());
+    }
+
+    /**
+     * Maps a record to a user, cleaning first and last name before the username is derived from
+     * them. Password and email are taken as they are.
+     *
+     * @param record the record
+     * @param names applied to firstname and lastname, e.g. an HTML sanitizer
+     * @return the user, or {@code null} if firstname, lastname or password is missing
+     */
+    public static AdminUserCreationDto toDto(CSVRecord record, UnaryOperator<String> names) {
+        String firstname = names.apply(safeGet(record, "firstname", 0));
+        String lastname = names.apply(safeGet(record, "lastname", 1));
+        String password = safeGet(record, "password", 2);
+        String email = safeGet(record, "email", 3);
+
+        if (firstname.isBlank() || lastname.isBlank() || password.isBlank()) {
+            return null;
+        }
+
+        return new AdminUserCreationDto(
+                createUsername(firstname, lastname),
+                email.isBlank() ? null : email,
+                Boolean.FALSE,
+                Boolean.FALSE,
+                password,
+                firstname,
+                lastname,
+                DEFAULT_ROLES,
+                DEFAULT_TAGS);
+    }
+
+    private static String safeGet(CSVRecord record, String header, int index) {
+        try {
+            if (record.isMapped(header)) {
+                String v = record.get(header);
+                return v == null ? "" : v;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        // Fallback by index
+        if (index < record.size()) {
+            String v = record.get(index);
+            return v == null ? "" : v;
+        }
+        return "";
+    }
+
+    private static String createUsername(String firstname, String lastname) {
+        String username = (firstname + "." + lastname).toLowerCase().replaceAll("\\s+", "");
+        username =
+                username.replace("ä", "ae")
+                        .replace("ö", "oe")
+                        .replace("ü", "ue")
+                        .replace("ß", "ss");
+        // remove characters not allowed by AdminUserCreationDto pattern
+        username = username.replaceAll("[^a-z0-9._-]", "");
+        if (username.length() > 64) username = username.substring(0, 64);
+        return username;
+    }
+}
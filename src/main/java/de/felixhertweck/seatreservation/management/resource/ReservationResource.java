@@ -37,12 +37,14 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import de.felixhertweck.seatreservation.management.dto.BlockSeatsRequestDTO;
 import de.felixhertweck.seatreservation.management.dto.ReservationConfirmationEmailDTO;
 import de.felixhertweck.seatreservation.management.dto.ReservationRequestDTO;
 import de.felixhertweck.seatreservation.management.dto.ReservationResponseDTO;
 import de.felixhertweck.seatreservation.management.service.ReservationService;
+import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.utils.UserSecurityContext;
@@ -213,16 +215,15 @@ public class ReservationResource {
     @APIResponse(responseCode = "404", description = "Not Found - Event not found")
     @APIResponse(responseCode = "401", description = "Unauthorized")
     @APIResponse(responseCode = "500", description = "Internal Server Error during CSV export")
-    public Response exportReservationsToCsv(@PathParam("eventId") UUID eventId) throws IOException {
+    public Response exportReservationsToCsv(@PathParam("eventId") UUID eventId) {
         User currentUser = userSecurityContext.getCurrentUser();
         LOG.debugf(
                 "Received GET request to /api/manager/reservations/export/%s/csv for user ID: %s",
                 eventId, currentUser.id);
-        byte[] csvData = reservationService.exportReservationsToCsv(eventId, currentUser);
-        LOG.debugf(
-                "Successfully exported CSV for event ID %s for user ID: %s",
-                eventId, currentUser.id);
-        return Response.ok(csvData)
+        Event event = reservationService.findExportableEvent(eventId, currentUser);
+        StreamingOutput csv = out -> reservationService.writeReservationsCsv(event, out);
+        LOG.debugf("Streaming CSV export for event ID %s to user ID: %s", eventId, currentUser.id);
+        return Response.ok(csv)
                 .header(
                         "Content-Disposition",
                         "attachment; filename=\"reservations_event_" + eventId + ".csv\"")
@@ -241,16 +242,15 @@ public class ReservationResource {
     @APIResponse(responseCode = "404", description = "Not Found - Event not found")
     @APIResponse(responseCode = "401", description = "Unauthorized")
     @APIResponse(responseCode = "500", description = "Internal Server Error during PDF export")
-    public Response exportReservationsToPdf(@PathParam("eventId") UUID eventId) throws IOException {
+    public Response exportReservationsToPdf(@PathParam("eventId") UUID eventId) {
         User currentUser = userSecurityContext.getCurrentUser();
         LOG.debugf(
                 "Received GET request to /api/manager/reservations/export/%s/pdf for user ID: %s",
                 eventId, currentUser.id);
-        byte[] pdfData = reservationService.exportReservationsToPdf(eventId, currentUser);
-        LOG.debugf(
-                "Successfully exported PDF for event ID %s for user ID: %s",
-                eventId, currentUser.id);
-        return Response.ok(pdfData)
+        Event event = reservationService.findExportableEvent(eventId, currentUser);
+        StreamingOutput pdf = out -> reservationService.writeReservationsPdf(event, out);
+        LOG.debugf("Streaming PDF export for event ID %s to user ID: %s", eventId, currentUser.id);
+        return Response.ok(pdf)
                 .header(
                         "Content-Disposition",
                         "attachment; filename=\"reservations_event_" + eventId + ".pdf\"")
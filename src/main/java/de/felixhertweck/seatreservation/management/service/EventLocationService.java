@@ -176,10 +176,11 @@ public class EventLocationService {
                                                                 seatDto.getArea(),
                                                                 location,
                                                                 areasByName));
-                                        seatRepository.persist(seat);
                                         return seat;
                                     })
                             .toList();
+            // One call for all seats, so the inserts go out in JDBC batches.
+            seatRepository.persist(seats);
             location.setSeats(seats);
         }
 
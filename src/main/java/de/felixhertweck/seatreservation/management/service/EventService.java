@@ -53,6 +53,7 @@ import de.felixhertweck.seatreservation.model.repository.EventRepository;
 import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepository;
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import de.felixhertweck.seatreservation.reservation.service.SeatStatusIndex;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
 import de.felixhertweck.seatreservation.utils.ManagerResolutionUtils;
 import org.jboss.logging.Logger;
@@ -74,6 +75,8 @@ public class EventService {
 
     @Inject EventAccessService eventAccessService;
 
+    @Inject SeatStatusIndex seatStatusIndex;
+
     @Inject jakarta.enterprise.event.Event<EventCreatedEvent> eventCreatedBus;
 
     @Inject jakarta.enterprise.event.Event<EventUpdatedEvent> eventUpdatedBus;
@@ -691,6 +694,8 @@ public class EventService {
         event.setStatus(de.felixhertweck.seatreservation.model.entity.EventStatus.CANCELLED);
         event.setCancellationReason(reason.trim());
         activeReservations.forEach(reservationRepository::delete);
+        seatStatusIndex.recordPersisted(
+                event.id, activeReservations.stream().map(r -> r.getSeat().id).toList(), null);
         restoreAllowances(event, activeReservations);
 
         LOG.infof(
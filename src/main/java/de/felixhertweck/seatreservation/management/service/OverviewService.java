@@ -21,11 +21,13 @@ package de.felixhertweck.seatreservation.management.service;
 
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -34,8 +36,6 @@ import de.felixhertweck.seatreservation.management.dto.ManagementOverviewDTO;
 import de.felixhertweck.seatreservation.management.dto.ManagementOverviewStatsDTO;
 import de.felixhertweck.seatreservation.management.dto.UpcomingEventDTO;
 import de.felixhertweck.seatreservation.model.entity.Event;
-import de.felixhertweck.seatreservation.model.entity.EventUserAllowance;
-import de.felixhertweck.seatreservation.model.entity.Reservation;
 import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.repository.EventLocationRepository;
@@ -44,6 +44,7 @@ import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepos
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 @ApplicationScoped
@@ -60,31 +61,53 @@ public class OverviewService {
     @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
     @Inject UserRepository userRepository;
 
+    /**
+     * How long a computed overview is served from memory per manager; {@code 0} disables caching.
+     */
+    @ConfigProperty(name = "management.overview.cache-ttl-seconds", defaultValue = "0")
+    long cacheTtlSeconds;
+
+    private final Map<UUID, CachedOverview> cache = new ConcurrentHashMap<>();
+
+    private record CachedOverview(ManagementOverviewDTO overview, long expiresAtMillis) {}
+
     /**
      * Calculates aggregate statistics and lists for the manager dashboard overview.
      *
+     * <p>Reservation and allowance figures come from aggregate queries, so the cost does not grow
+     * with the number of reservations. The result is additionally cached per manager for {@code
+     * management.overview.cache-ttl-seconds}.
+     *
      * @param manager Currently authenticated manager
      * @return DTO containing aggregate overview statistics and event lists
      */
     public ManagementOverviewDTO getOverview(AuthenticatedUser manager) {
+        if (cacheTtlSeconds <= 0) {
+            return calculateOverview(manager);
+        }
+        long nowMillis = System.currentTimeMillis();
+        CachedOverview cached = cache.get(manager.id());
+        if (cached != null && cached.expiresAtMillis() > nowMillis) {
+            LOG.debugf("Serving cached overview stats for manager ID: %s", manager.id());
+            return cached.overview();
+        }
+        ManagementOverviewDTO overview = calculateOverview(manager);
+        cache.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+        cache.put(manager.id(), new CachedOverview(overview, nowMillis + cacheTtlSeconds * 1000));
+        return overview;
+    }
+
+    private ManagementOverviewDTO calculateOverview(AuthenticatedUser manager) {
         LOG.debugf("Calculating overview stats for manager ID: %s", manager.id());
 
-        User currentUser = userRepository.getReference(manager.id());
+        // null scopes the aggregate queries to all events (admin view)
+        User scope = manager.isAdmin() ? null : userRepository.getReference(manager.id());
 
         List<Event> allEvents =
-                manager.isAdmin()
-                        ? eventRepository.listAll()
-                        : eventRepository.findByManager(currentUser);
-
-        List<Reservation> allReservations =
-                manager.isAdmin()
-                        ? reservationRepository.listAll()
-                        : reservationRepository.findByManager(currentUser);
+                scope == null ? eventRepository.listAll() : eventRepository.findByManager(scope);
 
-        List<EventUserAllowance> allAllowances =
-                manager.isAdmin()
-                        ? eventUserAllowanceRepository.listAll()
-                        : eventUserAllowanceRepository.findByEventManager(currentUser);
+        Map<UUID, Map<ReservationStatus, Long>> countsByEventId =
+                reservationRepository.countByEventAndStatus(scope);
 
         Instant now = Instant.now();
 
@@ -107,18 +130,19 @@ public class OverviewService {
                                                 && !now.isAfter(e.getBookingDeadline()))
                         .count();
 
-        long reservationsReserved =
-                allReservations.stream()
-                        .filter(r -> r.getStatus() == ReservationStatus.RESERVED)
-                        .count();
-        long reservationsBlocked =
-                allReservations.stream()
-                        .filter(r -> r.getStatus() == ReservationStatus.BLOCKED)
-                        .count();
-        long reservationsPending =
-                allReservations.stream()
-                        .filter(r -> r.getStatus() == ReservationStatus.PENDING)
-                        .count();
+        long reservationsReserved = 0;
+        long reservationsBlocked = 0;
+        long reservationsPending = 0;
+        Map<UUID, Long> reservedCountByEventId = new HashMap<>();
+        for (Map.Entry<UUID, Map<ReservationStatus, Long>> entry : countsByEventId.entrySet()) {
+            long reserved = entry.getValue().getOrDefault(ReservationStatus.RESERVED, 0L);
+            reservationsReserved += reserved;
+            reservationsBlocked += entry.getValue().getOrDefault(ReservationStatus.BLOCKED, 0L);
+            reservationsPending += entry.getValue().getOrDefault(ReservationStatus.PENDING, 0L);
+            if (reserved > 0) {
+                reservedCountByEventId.put(entry.getKey(), reserved);
+            }
+        }
         long reservationsCount = reservationsReserved + reservationsBlocked + reservationsPending;
 
         Set<UUID> locationIds =
@@ -136,16 +160,6 @@ public class OverviewService {
                         ? Map.of()
                         : eventLocationRepository.getSeatCountsByLocationIds(locationIds);
 
-        Map<UUID, Long> reservedCountByEventId =
-                allReservations.stream()
-                        .filter(
-                                r ->
-                                        r.getStatus() == ReservationStatus.RESERVED
-                                                && r.getEvent() != null)
-                        .collect(
-                                Collectors.groupingBy(
-                                        r -> r.getEvent().getId(), Collectors.counting()));
-
         long occupancyReserved = 0;
         long occupancyCapacity = 0;
         for (Event e : futureEvents) {
@@ -159,30 +173,10 @@ public class OverviewService {
                         ? (int) Math.round(((double) occupancyReserved / occupancyCapacity) * 100.0)
                         : 0;
 
-        Map<String, Long> reservedCountByPair =
-                allReservations.stream()
-                        .filter(
-                                r ->
-                                        r.getStatus() == ReservationStatus.RESERVED
-                                                && r.getEvent() != null
-                                                && r.getUser() != null)
-                        .collect(
-                                Collectors.groupingBy(
-                                        r -> r.getEvent().getId() + ":" + r.getUser().getId(),
-                                        Collectors.counting()));
-
-        long contingentUsed = 0;
-        long contingentGranted = 0;
-        for (EventUserAllowance a : allAllowances) {
-            if (a.getEvent() == null || a.getUser() == null) {
-                continue;
-            }
-            long used =
-                    reservedCountByPair.getOrDefault(
-                            a.getEvent().getId() + ":" + a.getUser().getId(), 0L);
-            contingentUsed += used;
-            contingentGranted += a.getReservationsAllowedCount() + used;
-        }
+        // Remaining allowance plus what was already booked against it
+        long contingentUsed = reservationRepository.countReservedWithinAllowances(scope);
+        long contingentGranted =
+                eventUserAllowanceRepository.sumReservationsAllowedCount(scope) + contingentUsed;
         int contingentUsagePercent =
                 contingentGranted > 0
                         ? (int) Math.round(((double) contingentUsed / contingentGranted) * 100.0)
@@ -21,16 +21,24 @@ package de.felixhertweck.seatreservation.management.service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.PersistenceException;
@@ -58,9 +66,12 @@ import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.SeatRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.reservation.service.CheckInTokenService;
+import de.felixhertweck.seatreservation.reservation.service.SeatStatusIndex;
 import de.felixhertweck.seatreservation.supervisor.service.BoxOfficeService;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
+import de.felixhertweck.seatreservation.utils.ReservationExportRow;
 import de.felixhertweck.seatreservation.utils.ReservationExporter;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
@@ -72,6 +83,14 @@ public class ReservationService {
     @ConfigProperty(name = "exporter.pdf.minutesBeforeEventStart", defaultValue = "10")
     Integer EXPORTER_PDF_MINUTES_BEFORE_EVENT_START;
 
+    @ConfigProperty(name = "exporter.pageSize", defaultValue = "500")
+    int exportPageSize;
+
+    @ConfigProperty(name = "exporter.pdf.renderThreads", defaultValue = "0")
+    int pdfRenderThreads;
+
+    private ExecutorService pdfRenderPool;
+
     @Inject ReservationRepository reservationRepository;
     @Inject EventRepository eventRepository;
     @Inject UserRepository userRepository;
@@ -81,8 +100,26 @@ public class ReservationService {
 
     @Inject CheckInTokenService checkInTokenService;
 
+    @Inject SeatStatusIndex seatStatusIndex;
+
     @Inject EventAccessService eventAccessService;
 
+    @PostConstruct
+    void init() {
+        int threads =
+                pdfRenderThreads > 0
+                        ? pdfRenderThreads
+                        : Runtime.getRuntime().availableProcessors();
+        pdfRenderPool =
+                Executors.newFixedThreadPool(
+                        threads, Thread.ofPlatform().name("pdf-export-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pdfRenderPool.shutdownNow();
+    }
+
     /**
      * Retrieves a reservation by its ID. Access is restricted based on user roles: - ADMIN: Returns
      * the reservation if found. - MANAGER: Returns the reservation only if it belongs to an event
@@ -306,7 +343,8 @@ public class ReservationService {
             eventUserAllowanceRepository.persist(allowance);
         }
 
-        reservationRepository.persistAll(existingReservations);
+        existingReservations = insertReservations(event.id, existingReservations);
+        seatStatusIndex.recordPersisted(event.id, dto.getSeatIds(), ReservationStatus.RESERVED);
 
         try {
             emailService.sendReservationConfirmation(
@@ -386,6 +424,15 @@ public class ReservationService {
         }
 
         reservationRepository.deleteByIds(ids);
+        deletedReservations.stream()
+                .collect(
+                        Collectors.groupingBy(
+                                r -> r.getEvent().id,
+                                Collectors.mapping(r -> r.getSeat().id, Collectors.toList())))
+                .forEach(
+                        (affectedEventId, freedSeatIds) ->
+                                seatStatusIndex.recordPersisted(
+                                        affectedEventId, freedSeatIds, null));
 
         // Restore allowance counts, grouped by event so each event needs only one allowance
         // lookup regardless of how many of its reservations were deleted.
@@ -515,17 +562,6 @@ public class ReservationService {
             seats.add(seat);
         }
 
-        List<Reservation> conflictingReservations =
-                reservationRepository.findByEventIdAndSeatIds(eventId, seatIds);
-        if (!conflictingReservations.isEmpty()) {
-            UUID conflictingSeatId = conflictingReservations.getFirst().getSeat().id;
-            LOG.warnf(
-                    "Seat with ID %s is already reserved or blocked for event ID %s.",
-                    conflictingSeatId, eventId);
-            throw new ValidationException(
-                    "Seat with id " + conflictingSeatId + " is already reserved or blocked.");
-        }
-
         List<Reservation> newReservations =
                 seats.stream()
                         .map(
@@ -539,7 +575,8 @@ public class ReservationService {
                                                 null))
                         .toList();
 
-        reservationRepository.persist(newReservations);
+        newReservations = insertReservations(eventId, newReservations);
+        seatStatusIndex.recordPersisted(eventId, seatIds, ReservationStatus.BLOCKED);
 
         LOG.debugf(
                 "Successfully blocked %d seats for event ID %s by user ID: %s (ID: %s)",
@@ -549,6 +586,25 @@ public class ReservationService {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Inserts new reservations, rejecting the request if any of the seats already has a reservation
+     * for the event. The unique constraint decides instead of a look-up beforehand; the exception
+     * rolls back the seats that were inserted.
+     */
+    private List<Reservation> insertReservations(UUID eventId, List<Reservation> newReservations) {
+        ReservationRepository.InsertResult result =
+                reservationRepository.insertAll(newReservations);
+        if (result.hasConflicts()) {
+            UUID conflictingSeatId = result.conflictingSeatIds().iterator().next();
+            LOG.warnf(
+                    "Seat with ID %s is already reserved or blocked for event ID %s.",
+                    conflictingSeatId, eventId);
+            throw new ValidationException(
+                    "Seat with id " + conflictingSeatId + " is already reserved or blocked.");
+        }
+        return result.inserted();
+    }
+
     /**
      * Exports all reservations for a given event to a CSV format. Access control: The user must be
      * the manager of the event or have ADMIN role to export.
@@ -562,18 +618,8 @@ public class ReservationService {
      */
     public byte[] exportReservationsToCsv(UUID eventId, User currentUser)
             throws EventNotFoundException, AccessDeniedException, IOException {
-        LOG.debugf(
-                "Attempting to export reservations for event ID %s by user ID: %s (ID: %s)",
-                eventId, currentUser.id, currentUser.getId());
-
-        List<Reservation> reservations =
-                findByEventSorted(getSortedReservations(eventId, currentUser));
-        ByteArrayOutputStream baos = ReservationExporter.exportReservationsToCsv(reservations);
-
-        LOG.debugf(
-                "Successfully exported %d reservations for event ID %s to CSV by user ID: %s (ID:"
-                        + " %s)",
-                reservations.size(), eventId, currentUser.id, currentUser.getId());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeReservationsCsv(findExportableEvent(eventId, currentUser), baos);
         return baos.toByteArray();
     }
 
@@ -590,13 +636,38 @@ public class ReservationService {
      */
     public byte[] exportReservationsToPdf(UUID eventId, User currentUser)
             throws EventNotFoundException, AccessDeniedException, IOException {
-        LOG.debugf(
-                "Attempting to export reservations for event ID %s by user ID: %s (ID: %s)",
-                eventId, currentUser.id, currentUser.getId());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeReservationsPdf(findExportableEvent(eventId, currentUser), baos);
+        return baos.toByteArray();
+    }
 
-        Event event = getSortedReservations(eventId, currentUser);
-        List<Reservation> reservations = findByEventSorted(event);
+    /**
+     * Writes all reservations of an event as CSV to a stream, ordered by seat number. The
+     * reservations are read page by page as {@link ReservationExportRow} projections, so the export
+     * is never held in memory as a whole. Access must have been checked with {@link
+     * #findExportableEvent(UUID, User)} beforehand.
+     *
+     * @param event The event whose reservations to export
+     * @param out The stream to write to; it is not closed
+     * @throws IOException If an I/O error occurs during export
+     */
+    public void writeReservationsCsv(Event event, OutputStream out) throws IOException {
+        List<UUID> ids = findExportOrder(event.id);
+        ReservationExporter.writeCsv(exportRows(ids), out);
+        LOG.debugf("Exported %d reservations for event ID %s to CSV", ids.size(), event.id);
+    }
 
+    /**
+     * Writes all reservations of an event as PDF to a stream, ordered by seat number. Reads the
+     * reservations like {@link #writeReservationsCsv(Event, OutputStream)} and renders the pages in
+     * parallel on the export render pool. Access must have been checked with {@link
+     * #findExportableEvent(UUID, User)} beforehand.
+     *
+     * @param event The event whose reservations to export
+     * @param out The stream to write to; it is not closed
+     * @throws IOException If an I/O error occurs during export
+     */
+    public void writeReservationsPdf(Event event, OutputStream out) throws IOException {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
         String reservedUntilValue =
                 event.getStartTime()
@@ -604,35 +675,32 @@ public class ReservationService {
                         .atZone(ZoneId.systemDefault())
                         .format(formatter);
 
-        ByteArrayOutputStream baos =
-                ReservationExporter.exportReservationsToPdf(reservations, reservedUntilValue);
-
-        LOG.debugf(
-                "Successfully exported %d reservations for event ID %s to PDF by user ID: %s (ID:"
-                        + " %s)",
-                reservations.size(), eventId, currentUser.id, currentUser.getId());
-
-        return baos.toByteArray();
+        List<UUID> ids = findExportOrder(event.id);
+        ReservationExporter.writePdf(exportRows(ids), reservedUntilValue, out, pdfRenderPool);
+        LOG.debugf("Exported %d reservations for event ID %s to PDF", ids.size(), event.id);
     }
 
     /**
-     * Finds export-ready reservations for the given event. This private method retrieves the event
-     * and validates access permissions. It is used by both CSV and PDF export methods.
+     * Retrieves the event for an export and validates access permissions. Called before an export
+     * starts streaming, so a missing event or a denied user still gets a proper error response.
      *
-     * @param eventId The ID of the event for which to retrieve reservations
+     * @param eventId The ID of the event for which to export reservations
      * @param currentUser The user attempting the export
      * @return The Event entity
      * @throws EventNotFoundException If the event is not found
      * @throws AccessDeniedException If the user is not authorized to export this event
      */
-    private Event getSortedReservations(UUID eventId, User currentUser) {
+    public Event findExportableEvent(UUID eventId, User currentUser)
+            throws EventNotFoundException, AccessDeniedException {
+        LOG.debugf(
+                "Attempting to export reservations for event ID %s by user ID: %s (ID: %s)",
+                eventId, currentUser.id, currentUser.getId());
         Event event =
                 eventRepository
                         .findByIdOptional(eventId)
                         .orElseThrow(
                                 () -> {
-                                    LOG.warnf(
-                                            "Event with ID %s not found for CSV export.", eventId);
+                                    LOG.warnf("Event with ID %s not found for export.", eventId);
                                     return new EventNotFoundException(
                                             "Event with id " + eventId + " not found");
                                 });
@@ -650,18 +718,55 @@ public class ReservationService {
     }
 
     /**
-     * Sorts the reservations for an event by seat number in ascending order.
-     *
-     * @param event The event whose reservations should be sorted
-     * @return A sorted list of Reservation entities ordered by seat number
+     * Retrieves the IDs of an event's reservations ordered by seat number. Like the pages read by
+     * {@link #exportRows(List)}, this runs in its own short transaction unless one is already
+     * active, so a streaming export doesn't hold a transaction open while the client reads.
      */
-    private List<Reservation> findByEventSorted(Event event) {
-        List<Reservation> reservations = findByEvent(event);
+    private List<UUID> findExportOrder(UUID eventId) {
+        return QuarkusTransaction.joiningExisting()
+                .call(() -> reservationRepository.findIdsByEventIdOrderedBySeatNumber(eventId));
+    }
 
-        // Sort by seat number
-        reservations.sort(Comparator.comparing(r -> r.getSeat().getSeatNumber()));
+    /**
+     * Lazily loads the export rows of the given reservations, {@code exporter.pageSize} at a time
+     * and in the order of the IDs. Reservations deleted since the IDs were read are skipped.
+     */
+    private Iterable<ReservationExportRow> exportRows(List<UUID> ids) {
+        return () ->
+                new Iterator<>() {
+                    private int nextIndex;
+                    private Iterator<ReservationExportRow> page = Collections.emptyIterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        while (!page.hasNext() && nextIndex < ids.size()) {
+                            List<UUID> pageIds =
+                                    ids.subList(
+                                            nextIndex,
+                                            Math.min(nextIndex + exportPageSize, ids.size()));
+                            nextIndex += pageIds.size();
+                            page = loadExportPage(pageIds).iterator();
+                        }
+                        return page.hasNext();
+                    }
+
+                    @Override
+                    public ReservationExportRow next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return page.next();
+                    }
+                };
+    }
 
-        return reservations;
+    private List<ReservationExportRow> loadExportPage(List<UUID> pageIds) {
+        Map<UUID, ReservationExportRow> rowsById =
+                QuarkusTransaction.joiningExisting()
+                        .call(() -> reservationRepository.findExportRowsByIds(pageIds))
+                        .stream()
+                        .collect(Collectors.toMap(ReservationExportRow::id, row -> row));
+        return pageIds.stream().map(rowsById::get).filter(Objects::nonNull).toList();
     }
 
     /**
@@ -50,6 +50,7 @@ import de.felixhertweck.seatreservation.model.repository.EventLocationEntranceRe
 import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepository;
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.SeatRepository;
+import de.felixhertweck.seatreservation.reservation.service.SeatStatusIndex;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
 import org.jboss.logging.Logger;
 
@@ -72,6 +73,8 @@ public class SeatService {
 
     @Inject SeatmapCacheService seatmapCacheService;
 
+    @Inject SeatStatusIndex seatStatusIndex;
+
     @Inject jakarta.enterprise.event.Event<ReservationCancelledEvent> reservationCancelledBus;
 
     /**
@@ -381,6 +384,15 @@ public class SeatService {
         }
 
         allReservations.forEach(reservationRepository::delete);
+        allReservations.stream()
+                .collect(
+                        Collectors.groupingBy(
+                                r -> r.getEvent().id,
+                                Collectors.mapping(r -> r.getSeat().id, Collectors.toList())))
+                .forEach(
+                        (affectedEventId, freedSeatIds) ->
+                                seatStatusIndex.recordPersisted(
+                                        affectedEventId, freedSeatIds, null));
 
         Set<UUID> locationIdsToInvalidate = new HashSet<>();
         for (UUID id : ids) {
@@ -22,6 +22,7 @@ package de.felixhertweck.seatreservation.management.service;
 import java.util.List;
 import java.util.UUID;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Status;
 import jakarta.transaction.Synchronization;
@@ -29,24 +30,22 @@ import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import de.felixhertweck.seatreservation.common.dto.EventLocationMakerDTO;
 import de.felixhertweck.seatreservation.common.dto.SeatDTO;
+import de.felixhertweck.seatreservation.common.events.SeatmapGeometryChangedEvent;
 import de.felixhertweck.seatreservation.management.dto.AreaResponseDTO;
 import de.felixhertweck.seatreservation.management.dto.EntranceResponseDTO;
-import de.felixhertweck.seatreservation.model.entity.EventLocation;
-import de.felixhertweck.seatreservation.model.repository.EventLocationAreaRepository;
-import de.felixhertweck.seatreservation.model.repository.EventLocationEntranceRepository;
-import de.felixhertweck.seatreservation.model.repository.EventLocationMarkerRepository;
-import de.felixhertweck.seatreservation.model.repository.EventLocationRepository;
-import de.felixhertweck.seatreservation.model.repository.SeatRepository;
-import io.quarkus.cache.CacheInvalidate;
-import io.quarkus.cache.CacheResult;
 import org.jboss.logging.Logger;
 
 /**
  * Cache delegate service for EventLocation geometry read data (seats, areas, markers, entrances).
  *
- * <p>Methods here perform the actual repository database queries and are annotated with Quarkus
- * {@link CacheResult} and {@link CacheInvalidate}. The calling services (e.g. {@link SeatService})
- * perform authorization checks prior to delegating to this cache.
+ * <p>Reads go through two levels: the in-process {@link SeatmapNearCache} (L1) and, on a local
+ * miss, the Redis-backed Quarkus caches of {@link SeatmapRedisCache} (L2), which query the database
+ * on a miss. The calling services (e.g. {@link SeatService}) perform authorization checks prior to
+ * delegating to this cache.
+ *
+ * <p>Invalidating drops the Redis entry first and then the local copies on all instances.
+ * Invalidating seats, areas or markers also fires a {@link SeatmapGeometryChangedEvent}, so caches
+ * derived from the geometry (such as the rendered email seat map) are dropped as well.
  */
 @ApplicationScoped
 public class SeatmapCacheService {
@@ -58,12 +57,10 @@ public class SeatmapCacheService {
     public static final String CACHE_MARKERS = "seatmap-markers-by-location";
     public static final String CACHE_ENTRANCES = "seatmap-entrances-by-location";
 
-    @Inject SeatRepository seatRepository;
-    @Inject EventLocationAreaRepository areaRepository;
-    @Inject EventLocationMarkerRepository markerRepository;
-    @Inject EventLocationEntranceRepository entranceRepository;
-    @Inject EventLocationRepository eventLocationRepository;
+    @Inject SeatmapRedisCache redisCache;
+    @Inject SeatmapNearCache nearCache;
     @Inject TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+    @Inject Event<SeatmapGeometryChangedEvent> geometryChangedEvent;
 
     /**
      * Runs the given action after the enclosing transaction commits successfully, so that cache
@@ -97,77 +94,49 @@ public class SeatmapCacheService {
                 });
     }
 
-    @CacheResult(cacheName = CACHE_SEATS)
     public List<SeatDTO> getSeatsByLocation(UUID locationId) {
-        LOG.debugf("Cache miss: Fetching seats from DB for location ID: %s", locationId);
-        EventLocation location = eventLocationRepository.findByIdOptional(locationId).orElse(null);
-        if (location == null) {
-            return List.of();
-        }
-        return seatRepository.findByEventLocation(location).stream().map(SeatDTO::new).toList();
+        return nearCache.get(CACHE_SEATS, locationId, redisCache::getSeatsByLocation);
     }
 
-    @CacheInvalidate(cacheName = CACHE_SEATS)
     public void invalidateSeats(UUID locationId) {
-        LOG.debugf("Invalidating seats cache for location ID: %s", locationId);
+        redisCache.invalidateSeats(locationId);
+        nearCache.invalidate(CACHE_SEATS, locationId);
+        geometryChangedEvent.fire(new SeatmapGeometryChangedEvent(locationId));
     }
 
-    @CacheResult(cacheName = CACHE_AREAS)
     public List<AreaResponseDTO> getAreasByLocation(UUID locationId) {
-        LOG.debugf("Cache miss: Fetching areas from DB for location ID: %s", locationId);
-        EventLocation location = eventLocationRepository.findByIdOptional(locationId).orElse(null);
-        if (location == null) {
-            return List.of();
-        }
-        return areaRepository.findByEventLocation(location).stream()
-                .map(AreaResponseDTO::new)
-                .toList();
+        return nearCache.get(CACHE_AREAS, locationId, redisCache::getAreasByLocation);
     }
 
-    @CacheInvalidate(cacheName = CACHE_AREAS)
     public void invalidateAreas(UUID locationId) {
-        LOG.debugf("Invalidating areas cache for location ID: %s", locationId);
+        redisCache.invalidateAreas(locationId);
+        nearCache.invalidate(CACHE_AREAS, locationId);
+        geometryChangedEvent.fire(new SeatmapGeometryChangedEvent(locationId));
     }
 
-    @CacheResult(cacheName = CACHE_MARKERS)
     public List<EventLocationMakerDTO> getMarkersByLocation(UUID locationId) {
-        LOG.debugf("Cache miss: Fetching markers from DB for location ID: %s", locationId);
-        EventLocation location = eventLocationRepository.findByIdOptional(locationId).orElse(null);
-        if (location == null) {
-            return List.of();
-        }
-        return markerRepository.findByEventLocation(location).stream()
-                .map(EventLocationMakerDTO::new)
-                .toList();
+        return nearCache.get(CACHE_MARKERS, locationId, redisCache::getMarkersByLocation);
     }
 
-    @CacheInvalidate(cacheName = CACHE_MARKERS)
     public void invalidateMarkers(UUID locationId) {
-        LOG.debugf("Invalidating markers cache for location ID: %s", locationId);
+        redisCache.invalidateMarkers(locationId);
+        nearCache.invalidate(CACHE_MARKERS, locationId);
+        geometryChangedEvent.fire(new SeatmapGeometryChangedEvent(locationId));
     }
 
-    @CacheResult(cacheName = CACHE_ENTRANCES)
     public List<EntranceResponseDTO> getEntrancesByLocation(UUID locationId) {
-        LOG.debugf("Cache miss: Fetching entrances from DB for location ID: %s", locationId);
-        EventLocation location = eventLocationRepository.findByIdOptional(locationId).orElse(null);
-        if (location == null) {
-            return List.of();
-        }
-        return entranceRepository.findByEventLocation(location).stream()
-                .map(EntranceResponseDTO::new)
-                .toList();
+        return nearCache.get(CACHE_ENTRANCES, locationId, redisCache::getEntrancesByLocation);
     }
 
-    @CacheInvalidate(cacheName = CACHE_ENTRANCES)
     public void invalidateEntrances(UUID locationId) {
-        LOG.debugf("Invalidating entrances cache for location ID: %s", locationId);
+        redisCache.invalidateEntrances(locationId);
+        nearCache.invalidate(CACHE_ENTRANCES, locationId);
     }
 
-    @CacheInvalidate(cacheName = CACHE_SEATS)
-    @CacheInvalidate(cacheName = CACHE_AREAS)
-    @CacheInvalidate(cacheName = CACHE_MARKERS)
-    @CacheInvalidate(cacheName = CACHE_ENTRANCES)
     public void invalidateAllGeometryForLocation(UUID locationId) {
         LOG.debugf("Invalidating all geometry caches for location ID: %s", locationId);
+        redisCache.invalidateAllGeometryForLocation(locationId);
+        nearCache.invalidate(null, locationId);
+        geometryChangedEvent.fire(new SeatmapGeometryChangedEvent(locationId));
     }
 }
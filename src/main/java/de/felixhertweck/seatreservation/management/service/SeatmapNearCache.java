@@ -0,0 +1,288 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.management.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands.RedisSubscriber;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * In-process first level (L1) in front of the Redis seat map caches of {@link SeatmapCacheService}.
+ *
+ * <p>A location's geometry is read on every seat map request but almost never changes. The Redis
+ * cache saves the database queries, but each hit still transfers and deserializes thousands of
+ * {@code SeatDTO}s. This cache keeps the deserialized lists, made immutable, for at most {@code
+ * seatmap-cache.local.expire-after-write} and at most {@code seatmap-cache.local.max-entries}
+ * locations per cache (least recently used first out).
+ *
+ * <p>Invalidations are published on the Redis channel {@value #CHANNEL}, so every instance drops
+ * its copy, not only the one that made the change. A load that raced an invalidation is not stored:
+ * each cache has a generation that every invalidation increments, and a loaded list is only kept if
+ * the generation is still the one from before the load. If pub/sub is unavailable, the expiry
+ * bounds how long another instance serves stale geometry.
+ *
+ * <p>Metrics: {@code seatmap.cache.hit.ratio} per level. L2 lookups are the L1 misses; L2 misses
+ * are the database loads.
+ */
+@ApplicationScoped
+public class SeatmapNearCache {
+
+    private static final Logger LOG = Logger.getLogger(SeatmapNearCache.class);
+
+    static final String CHANNEL = "seatmap:invalidate";
+
+    /**
+     * One published invalidation.
+     *
+     * @param origin ID of the sending instance, which has already invalidated its own copy
+     * @param cache the invalidated cache, or {@code null} for all of them
+     * @param locationId the location whose geometry changed
+     */
+    @RegisterForReflection
+    public record Invalidation(String origin, String cache, UUID locationId) {}
+
+    private record Entry(List<?> value, long expiresAtNanos) {}
+
+    /** One cache's entries, LRU-bounded. All access is synchronized on the instance. */
+    private final class Level1 {
+
+        private long generation;
+
+        private final Map<UUID, Entry> entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+
+        synchronized List<?> get(UUID locationId, long now) {
+            Entry entry = entries.get(locationId);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.expiresAtNanos() >= 0) {
+                entries.remove(locationId);
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized void putIfUnchanged(UUID locationId, List<?> value, long loadedGeneration) {
+            if (generation == loadedGeneration) {
+                entries.put(
+                        locationId,
+                        new Entry(value, System.nanoTime() + expireAfterWrite.toNanos()));
+            }
+        }
+
+        synchronized void invalidate(UUID locationId) {
+            generation++;
+            entries.remove(locationId);
+        }
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Level1> caches = new ConcurrentHashMap<>();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+
+    @Inject RedisDataSource redisDataSource;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "seatmap-cache.local.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "seatmap-cache.local.max-entries", defaultValue = "64")
+    int maxEntries;
+
+    @ConfigProperty(name = "seatmap-cache.local.expire-after-write", defaultValue = "60s")
+    Duration expireAfterWrite;
+
+    private RedisSubscriber subscriber;
+
+    void onStart(@Observes StartupEvent event) {
+        if (meterRegistry != null) {
+            Gauge.builder("seatmap.cache.hit.ratio", this, SeatmapNearCache::l1HitRatio)
+                    .tag("level", "l1")
+                    .description("Share of seat map cache reads served from local memory")
+                    .register(meterRegistry);
+            Gauge.builder("seatmap.cache.hit.ratio", this, SeatmapNearCache::l2HitRatio)
+                    .tag("level", "l2")
+                    .description("Share of local misses served from Redis instead of the database")
+                    .register(meterRegistry);
+        }
+        if (!enabled) {
+            return;
+        }
+        try {
+            subscriber = redisDataSource.pubsub(String.class).subscribe(CHANNEL, this::onMessage);
+        } catch (RuntimeException e) {
+            LOG.warnf(
+                    e,
+                    "Failed to subscribe to seat map invalidations; other instances' changes show"
+                            + " up after at most %s",
+                    expireAfterWrite);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (subscriber != null) {
+            try {
+                subscriber.unsubscribe();
+            } catch (RuntimeException e) {
+                LOG.debugf(e, "Failed to unsubscribe from seat map invalidations");
+            }
+        }
+    }
+
+    /**
+     * Returns a location's cached list, loading it through the Redis cache on a local miss.
+     *
+     * @param cache the cache name, one of the {@code SeatmapCacheService.CACHE_*} constants
+     * @param locationId the location ID
+     * @param loader reads the list through the Redis cache
+     * @return the immutable list
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(String cache, UUID locationId, Function<UUID, List<T>> loader) {
+        if (!enabled) {
+            l1Misses.increment();
+            return loader.apply(locationId);
+        }
+        Level1 level1 = level1(cache);
+        List<?> cached = level1.get(locationId, System.nanoTime());
+        if (cached != null) {
+            l1Hits.increment();
+            return (List<T>) cached;
+        }
+        l1Misses.increment();
+        long generation = level1.generation();
+        List<T> loaded = List.copyOf(loader.apply(locationId));
+        level1.putIfUnchanged(locationId, loaded, generation);
+        return loaded;
+    }
+
+    /**
+     * Drops a location's list on this instance and publishes the invalidation to the others. Call
+     * after the Redis cache entry is invalidated, so no instance reloads the old list from there.
+     *
+     * @param cache the cache name, or {@code null} for all caches
+     * @param locationId the location ID
+     */
+    public void invalidate(String cache, UUID locationId) {
+        evict(cache, locationId);
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisDataSource
+                    .pubsub(String.class)
+                    .publish(
+                            CHANNEL,
+                            objectMapper.writeValueAsString(
+                                    new Invalidation(nodeId, cache, locationId)));
+        } catch (IOException | RuntimeException e) {
+            LOG.warnf(
+                    e,
+                    "Failed to publish seat map invalidation for location %s; other instances"
+                            + " serve the old geometry for at most %s",
+                    locationId,
+                    expireAfterWrite);
+        }
+    }
+
+    /** Counts a load from the database, i.e. a miss of the Redis cache. */
+    void recordL2Miss() {
+        l2Misses.increment();
+    }
+
+    double l1HitRatio() {
+        return ratio(l1Hits.sum(), l1Misses.sum());
+    }
+
+    double l2HitRatio() {
+        long lookups = l1Misses.sum();
+        long misses = Math.min(l2Misses.sum(), lookups);
+        return ratio(lookups - misses, misses);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    void onMessage(String raw) {
+        Invalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(raw, Invalidation.class);
+        } catch (IOException e) {
+            LOG.warnf(e, "Ignoring malformed seat map invalidation");
+            return;
+        }
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        LOG.debugf(
+                "Seat map of location %s changed on another instance", invalidation.locationId());
+        evict(invalidation.cache(), invalidation.locationId());
+    }
+
+    private void evict(String cache, UUID locationId) {
+        if (cache != null) {
+            level1(cache).invalidate(locationId);
+        } else {
+            caches.values().forEach(level1 -> level1.invalidate(locationId));
+        }
+    }
+
+    private Level1 level1(String cache) {
+        return caches.computeIfAbsent(cache, name -> new Level1());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.entity;
+
+import java.time.Instant;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Content-addressed storage for email attachment bytes, keyed by their SHA-256 hash.
+ *
+ * <p>Reminder and confirmation mails frequently carry byte-identical attachments (seat map PNGs,
+ * logos, exports). Every {@link OutboundEmailAttachment} therefore only references a blob, and
+ * identical content is stored once. Blobs that no attachment row points at any more are
+ * garbage-collected by the outbox cleanup job (see {@link
+ * de.felixhertweck.seatreservation.model.repository.EmailAttachmentBlobRepository}).
+ */
+@Entity
+@Table(name = "email_attachment_blobs")
+public class EmailAttachmentBlob extends AbstractEntity {
+
+    /** Lower-case hex SHA-256 of {@link #data}. */
+    @Column(name = "sha256", nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /** Constructor for JPA. */
+    public EmailAttachmentBlob() {}
+
+    public EmailAttachmentBlob(String sha256, byte[] data) {
+        this.sha256 = sha256;
+        this.data = data;
+        this.sizeBytes = data.length;
+        this.createdAt = Instant.now();
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
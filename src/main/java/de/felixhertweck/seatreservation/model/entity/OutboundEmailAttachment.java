@@ -19,19 +19,19 @@
  */
 package de.felixhertweck.seatreservation.model.entity;
 
-import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 /**
  * A binary attachment belonging to an {@link OutboundEmail}. The rendered bytes (for example a
- * seat-map PNG or a QR code) are stored alongside the message so the dispatcher can send the mail
- * without re-rendering anything.
+ * seat-map PNG or a QR code) are stored with the outbox so the dispatcher can send the mail without
+ * re-rendering anything. The bytes themselves live in a shared, content-addressed {@link
+ * EmailAttachmentBlob} that is only loaded when the mail is actually sent, so identical attachments
+ * on many mails are stored (and read) once.
  *
  * <p>If {@link #contentId} is set the attachment is embedded inline (referenced from the HTML body
  * via {@code cid:<contentId>}); otherwise it is added as a regular file attachment.
@@ -54,20 +54,19 @@ public class OutboundEmailAttachment extends AbstractEntity {
     @Column(name = "content_id")
     private String contentId;
 
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    @Column(name = "data", nullable = false)
-    private byte[] data;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "blob_id", nullable = false)
+    private EmailAttachmentBlob blob;
 
     /** Constructor for JPA. */
     public OutboundEmailAttachment() {}
 
     public OutboundEmailAttachment(
-            String fileName, String contentType, String contentId, byte[] data) {
+            String fileName, String contentType, String contentId, EmailAttachmentBlob blob) {
         this.fileName = fileName;
         this.contentType = contentType;
         this.contentId = contentId;
-        this.data = data;
+        this.blob = blob;
     }
 
     public boolean isInline() {
@@ -106,11 +105,20 @@ public class OutboundEmailAttachment extends AbstractEntity {
         this.contentId = contentId;
     }
 
-    public byte[] getData() {
-        return data;
+    public EmailAttachmentBlob getBlob() {
+        return blob;
     }
 
-    public void setData(byte[] data) {
-        this.data = data;
+    public void setBlob(EmailAttachmentBlob blob) {
+        this.blob = blob;
+    }
+
+    /**
+     * Returns the attachment bytes, loading the shared blob on first access.
+     *
+     * @return the attachment content
+     */
+    public byte[] getData() {
+        return blob.getData();
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.entity;
+
+import java.time.Instant;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * A Web Push message waiting to be retried after the push service answered 429 or 5xx.
+ *
+ * <p>Only failed sends are recorded here; a push that is delivered (or definitively rejected) on
+ * its first attempt never touches the database. Rows are deleted once the retry is delivered, the
+ * subscription turns out to be gone, or the attempt limit is reached, and they disappear with their
+ * subscription.
+ */
+@Entity
+@Table(
+        name = "pending_push_deliveries",
+        indexes = {
+            @Index(name = "idx_pending_push_delivery_next_attempt", columnList = "next_attempt_at")
+        })
+public class PendingPushDelivery extends AbstractEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "subscription_id", nullable = false)
+    private UserPushSubscription subscription;
+
+    /** The unencrypted JSON payload; it is encrypted afresh for every attempt. */
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_status", nullable = false)
+    private int lastStatus;
+
+    /** Constructor for JPA. */
+    public PendingPushDelivery() {}
+
+    public PendingPushDelivery(
+            UserPushSubscription subscription,
+            String payload,
+            int attempts,
+            Instant nextAttemptAt,
+            int lastStatus) {
+        this.subscription = subscription;
+        this.payload = payload;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastStatus = lastStatus;
+        this.createdAt = Instant.now();
+    }
+
+    public UserPushSubscription getSubscription() {
+        return subscription;
+    }
+
+    public void setSubscription(UserPushSubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(int lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+}
@@ -22,12 +22,15 @@ package de.felixhertweck.seatreservation.model.entity;
 import java.time.Instant;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        indexes = @Index(name = "idx_refresh_token_hash", columnList = "tokenHash", unique = true))
 public class RefreshToken extends AbstractEntity {
     private String tokenHash;
 
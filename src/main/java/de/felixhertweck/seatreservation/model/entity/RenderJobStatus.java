@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.entity;
+
+/**
+ * Lifecycle state of a {@link ConfirmationRenderJob}.
+ *
+ * <pre>
+ *   PENDING  --(worker claims)-->  RENDERING  --(mail queued)-->  DONE
+ *      ^                                |
+ *      |-------(retry, attempts left)---|
+ *                                       |
+ *                                       +--(attempts exhausted)--> FAILED
+ * </pre>
+ */
+public enum RenderJobStatus {
+    /** Waiting to be picked up by a render worker (or waiting for its next retry). */
+    PENDING,
+    /** Currently claimed by a render worker. */
+    RENDERING,
+    /** The confirmation mail was rendered and handed to the email outbox. */
+    DONE,
+    /** Permanently failed after exhausting all retry attempts. */
+    FAILED
+}
@@ -0,0 +1,200 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * A durable, one-shot background task that becomes due at {@code nextAttemptAt}.
+ *
+ * <p>Replaces in-memory scheduler jobs for work that has to survive a restart and must run exactly
+ * once across all instances: a poller claims due {@link ScheduledTaskStatus#PENDING} tasks with
+ * {@code FOR UPDATE SKIP LOCKED} and runs each in its own transaction. Tasks of an event are
+ * removed together with the event ({@code ON DELETE CASCADE}).
+ */
+@Entity
+@Table(
+        name = "scheduled_tasks",
+        indexes = {
+            @Index(
+                    name = "idx_scheduled_task_status_next_attempt",
+                    columnList = "status, next_attempt_at"),
+            @Index(name = "idx_scheduled_task_event", columnList = "event_id")
+        })
+public class ScheduledTask extends AbstractEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ScheduledTaskType type;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    /**
+     * The users a batch task is responsible for; empty for other task types. Stored as plain ids
+     * (not a foreign key) so a user deleted in the meantime simply drops out of the batch.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "scheduled_task_users", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "user_id", nullable = false, columnDefinition = "uuid")
+    private List<UUID> userIds = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduledTaskStatus status = ScheduledTaskStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "last_error", length = 2048)
+    private String lastError;
+
+    /** Constructor for JPA. */
+    public ScheduledTask() {}
+
+    /**
+     * Creates a pending task.
+     *
+     * @param type the kind of work to perform
+     * @param event the event the task belongs to
+     * @param dueAt when the task should run first
+     * @param maxAttempts attempts before the task is marked {@link ScheduledTaskStatus#FAILED}
+     */
+    public ScheduledTask(ScheduledTaskType type, Event event, Instant dueAt, int maxAttempts) {
+        Instant now = Instant.now();
+        this.type = type;
+        this.event = event;
+        this.nextAttemptAt = dueAt;
+        this.maxAttempts = maxAttempts;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    public ScheduledTaskType getType() {
+        return type;
+    }
+
+    public void setType(ScheduledTaskType type) {
+        this.type = type;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+
+    public List<UUID> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<UUID> userIds) {
+        this.userIds = userIds != null ? userIds : new ArrayList<>();
+    }
+
+    public ScheduledTaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ScheduledTaskStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
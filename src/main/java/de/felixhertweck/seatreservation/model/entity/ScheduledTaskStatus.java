@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.entity;
+
+/**
+ * Lifecycle state of a {@link ScheduledTask}.
+ *
+ * <pre>
+ *   PENDING  --(poller claims, due)-->  RUNNING  --(handler committed)-->  DONE
+ *      ^                                   |
+ *      |--------(retry, attempts left)-----|
+ *                                          |
+ *                                          +--(attempts exhausted)--> FAILED
+ * </pre>
+ */
+public enum ScheduledTaskStatus {
+    /** Waiting for its due time (or for its next retry). */
+    PENDING,
+    /** Currently claimed by a worker of some instance. */
+    RUNNING,
+    /** The task's work was committed. */
+    DONE,
+    /** Permanently failed after exhausting all retry attempts. */
+    FAILED
+}
@@ -0,0 +1,31 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.entity;
+
+/** The kind of work a {@link ScheduledTask} performs. */
+public enum ScheduledTaskType {
+    /**
+     * Sends an event's reminder mails. Splits the event's recipients into {@link
+     * #EVENT_REMINDER_BATCH} tasks and marks the event's reminder as sent.
+     */
+    EVENT_REMINDER,
+    /** Queues the reminder mails for the users listed on the task. */
+    EVENT_REMINDER_BATCH
+}
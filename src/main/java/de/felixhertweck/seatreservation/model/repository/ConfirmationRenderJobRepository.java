@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+
+import de.felixhertweck.seatreservation.model.entity.ConfirmationRenderJob;
+import de.felixhertweck.seatreservation.model.entity.RenderJobStatus;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Page;
+
+/**
+ * Repository for deferred reservation confirmation renders ({@link ConfirmationRenderJob}). Mirrors
+ * {@link OutboundEmailRepository}: an atomic claim for the worker and a bounded purge for the
+ * cleanup job.
+ */
+@ApplicationScoped
+public class ConfirmationRenderJobRepository
+        implements PanacheRepositoryBase<ConfirmationRenderJob, UUID> {
+
+    /** Number of jobs removed per round-trip by {@link #deleteFinishedBefore(Instant)}. */
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    /**
+     * Atomically claims up to {@code limit} due jobs by flipping them from {@link
+     * RenderJobStatus#PENDING} to {@link RenderJobStatus#RENDERING} in a single {@code UPDATE ...
+     * FOR UPDATE SKIP LOCKED} statement, so concurrent workers (in this or another instance) never
+     * render the same confirmation twice.
+     *
+     * @param now the reference point in time
+     * @param limit the maximum number of jobs to claim
+     * @return the ids of the claimed jobs, oldest scheduled attempt first
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimDue(Instant now, int limit) {
+        List<Object> ids =
+                getEntityManager()
+                        .createNativeQuery(
+                                "UPDATE confirmation_render_jobs SET status = 'RENDERING',"
+                                        + " updated_at = ?1 WHERE id IN (  SELECT id FROM"
+                                        + " confirmation_render_jobs  WHERE status = 'PENDING' AND"
+                                        + " next_attempt_at <= ?1  ORDER BY next_attempt_at ASC "
+                                        + " LIMIT ?2  FOR UPDATE SKIP LOCKED) RETURNING id")
+                        .setParameter(1, now)
+                        .setParameter(2, limit)
+                        .getResultList();
+        return ids.stream().map(id -> (UUID) id).toList();
+    }
+
+    /**
+     * Loads a job and locks its row until the surrounding transaction ends, so a worker whose claim
+     * was requeued as stale and the worker that claimed the job again cannot both finish it.
+     *
+     * @param id the job id
+     * @return the locked job, or {@code null} if it no longer exists
+     */
+    public ConfirmationRenderJob findByIdForUpdate(UUID id) {
+        return findById(id, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    /**
+     * Resets jobs that got stuck in {@link RenderJobStatus#RENDERING} (for example because the
+     * application crashed mid-render) back to {@link RenderJobStatus#PENDING}.
+     *
+     * @param cutoff jobs left in {@code RENDERING} and last touched before this instant are reset
+     * @return the number of reset jobs
+     */
+    public long requeueStaleRendering(Instant cutoff) {
+        return update(
+                "status = ?1, updatedAt = ?2 where status = ?3 and updatedAt < ?4",
+                RenderJobStatus.PENDING,
+                Instant.now(),
+                RenderJobStatus.RENDERING,
+                cutoff);
+    }
+
+    /**
+     * Counts jobs currently in the given status.
+     *
+     * @param status the status to count
+     * @return the number of matching jobs
+     */
+    public long countByStatus(RenderJobStatus status) {
+        return count("status", status);
+    }
+
+    /**
+     * Deletes finished ({@code DONE} or {@code FAILED}) jobs last updated before the given cutoff,
+     * in bounded batches so the reservation id collection table is cascaded per job.
+     *
+     * @param cutoff jobs updated before this instant are removed
+     * @return the number of deleted jobs
+     */
+    public long deleteFinishedBefore(Instant cutoff) {
+        long totalDeleted = 0;
+        List<ConfirmationRenderJob> batch;
+        do {
+            batch =
+                    find(
+                                    "status in ?1 and updatedAt < ?2",
+                                    List.of(RenderJobStatus.DONE, RenderJobStatus.FAILED),
+                                    cutoff)
+                            .page(Page.ofSize(DELETE_BATCH_SIZE))
+                            .list();
+            batch.forEach(this::delete);
+            getEntityManager().flush();
+            getEntityManager().clear();
+            totalDeleted += batch.size();
+        } while (batch.size() == DELETE_BATCH_SIZE);
+        return totalDeleted;
+    }
+}
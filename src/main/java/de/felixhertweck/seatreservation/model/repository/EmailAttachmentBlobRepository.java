@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import de.felixhertweck.seatreservation.model.entity.EmailAttachmentBlob;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+/**
+ * Repository for content-addressed email attachment storage ({@link EmailAttachmentBlob}).
+ *
+ * <p>Blobs carry no reference count: a blob is in use as long as an {@code
+ * outbound_email_attachments} row points at it. Enqueueing therefore never writes to a shared blob
+ * row, so many mails carrying the same seat map don't queue up behind one row lock. The enqueue
+ * only takes a {@code FOR KEY SHARE} lock on the blob, which doesn't conflict with other enqueues
+ * but keeps the cleanup job from deleting the blob before the attachment row is committed.
+ */
+@ApplicationScoped
+public class EmailAttachmentBlobRepository
+        implements PanacheRepositoryBase<EmailAttachmentBlob, UUID> {
+
+    /**
+     * Returns the blob for the given content. An existing blob with the same hash is reused without
+     * sending the bytes to the database again; otherwise a new blob is inserted. Either way the
+     * blob is protected from {@link #deleteUnreferenced()} until the current transaction ends.
+     *
+     * @param sha256 lower-case hex SHA-256 of {@code data}
+     * @param data the attachment content
+     * @return a reference to the (possibly shared) blob
+     */
+    @SuppressWarnings("unchecked")
+    public EmailAttachmentBlob acquire(String sha256, byte[] data) {
+        var entityManager = getEntityManager();
+        while (true) {
+            List<Object> existing =
+                    entityManager
+                            .createNativeQuery(
+                                    "SELECT id FROM email_attachment_blobs WHERE sha256 = ?1 FOR"
+                                            + " KEY SHARE")
+                            .setParameter(1, sha256)
+                            .getResultList();
+            if (!existing.isEmpty()) {
+                return entityManager.getReference(EmailAttachmentBlob.class, existing.get(0));
+            }
+            List<Object> inserted =
+                    entityManager
+                            .createNativeQuery(
+                                    "INSERT INTO email_attachment_blobs (id, sha256, size_bytes,"
+                                            + " data, created_at) VALUES (?1, ?2, ?3, ?4, ?5) ON"
+                                            + " CONFLICT (sha256) DO NOTHING RETURNING id")
+                            .setParameter(1, UUID.randomUUID())
+                            .setParameter(2, sha256)
+                            .setParameter(3, (long) data.length)
+                            .setParameter(4, data)
+                            .setParameter(5, Instant.now())
+                            .getResultList();
+            if (!inserted.isEmpty()) {
+                return entityManager.getReference(EmailAttachmentBlob.class, inserted.get(0));
+            }
+            // A concurrent enqueue inserted the same content in the meantime, or the cleanup job
+            // deleted the blob found above; look it up again.
+        }
+    }
+
+    /**
+     * Deletes blobs that are no longer referenced by any attachment.
+     *
+     * <p>Blobs an enqueue is about to reference are locked by {@link #acquire} and skipped; the
+     * foreign key from {@code outbound_email_attachments} guarantees that content which is still
+     * needed is never removed.
+     *
+     * @return the number of deleted blobs
+     */
+    public long deleteUnreferenced() {
+        return getEntityManager()
+                .createNativeQuery(
+                        "DELETE FROM email_attachment_blobs WHERE id IN (SELECT b.id FROM"
+                                + " email_attachment_blobs b WHERE NOT EXISTS (SELECT 1 FROM"
+                                + " outbound_email_attachments a WHERE a.blob_id = b.id) FOR UPDATE"
+                                + " SKIP LOCKED)")
+                .executeUpdate();
+    }
+}
@@ -26,6 +26,7 @@ import java.util.UUID;
 import java.util.stream.Stream;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.TypedQuery;
 
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
@@ -234,6 +235,30 @@ public class EventUserAllowanceRepository
         return find("?1 MEMBER OF event.managers", manager).list();
     }
 
+    /**
+     * Sums the remaining {@code reservationsAllowedCount} of all allowances in a single aggregate
+     * query.
+     *
+     * @param manager restricts the sum to events managed by this user, or {@code null} for all
+     *     events
+     * @return the summed remaining allowance count
+     */
+    public long sumReservationsAllowedCount(User manager) {
+        TypedQuery<Long> query =
+                getEntityManager()
+                        .createQuery(
+                                "SELECT COALESCE(SUM(a.reservationsAllowedCount), 0) FROM"
+                                        + " EventUserAllowance a"
+                                        + (manager != null
+                                                ? " WHERE ?1 MEMBER OF a.event.managers"
+                                                : ""),
+                                Long.class);
+        if (manager != null) {
+            query.setParameter(1, manager);
+        }
+        return query.getSingleResult();
+    }
+
     /**
      * Finds event user allowances by their IDs, eagerly fetching each one's event and that event's
      * manager. Used to batch the ownership check for bulk operations (e.g. deletion) instead of
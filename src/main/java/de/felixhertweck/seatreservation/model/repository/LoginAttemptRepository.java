@@ -25,7 +25,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 
 import de.felixhertweck.seatreservation.model.entity.LoginAttempt;
-import de.felixhertweck.seatreservation.model.entity.User;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import org.jboss.logging.Logger;
 
@@ -34,18 +33,6 @@ public class LoginAttemptRepository implements PanacheRepositoryBase<LoginAttemp
 
     private static final Logger LOG = Logger.getLogger(LoginAttemptRepository.class);
 
-    /**
-     * Counts failed login attempts for a username within a time window.
-     *
-     * @param username the username to check
-     * @param since the start time of the window
-     * @return the number of failed login attempts
-     */
-    public long countFailedAttempts(String username, Instant since) {
-        LOG.debugf("Counting failed login attempts since: %s", since);
-        return count("username = ?1 and successful = false and attemptTime >= ?2", username, since);
-    }
-
     /**
      * Deletes old login attempt records before a certain time.
      *
@@ -57,51 +44,4 @@ public class LoginAttemptRepository implements PanacheRepositoryBase<LoginAttemp
         LOG.debugf("Deleting login attempts before: %s", before);
         return delete("attemptTime < ?1", before);
     }
-
-    /**
-     * Records a login attempt.
-     *
-     * @param username the username of the login attempt
-     * @param successful whether the login was successful
-     */
-    @Transactional
-    public void recordAttempt(String username, boolean successful) {
-        LOG.debugf("Recording login attempt, successful: %s", successful);
-        LoginAttempt attempt = new LoginAttempt(username, Instant.now(), successful);
-        persist(attempt);
-    }
-
-    /**
-     * Records a login attempt for an authenticated user.
-     *
-     * @param user the user who attempted to login
-     * @param successful whether the login was successful
-     */
-    @Transactional
-    public void recordAttempt(User user, boolean successful) {
-        LOG.debugf(
-                "Recording login attempt for user ID: %s, successful: %s",
-                (Object) user.id, successful);
-        LoginAttempt attempt = new LoginAttempt(user, Instant.now(), successful);
-        persist(attempt);
-    }
-
-    /**
-     * Gets the timestamp of the oldest failed login attempt within a time window.
-     *
-     * @param username the username to check
-     * @param since the start time of the window
-     * @return the timestamp of the oldest failed attempt, or null if none found
-     */
-    public Instant getOldestFailedAttemptTime(String username, Instant since) {
-        LOG.debugf("Getting oldest failed login attempt time since: %s", since);
-        return find(
-                        "username = ?1 and successful = false and attemptTime >= ?2 order by"
-                                + " attemptTime asc",
-                        username,
-                        since)
-                .firstResultOptional()
-                .map(LoginAttempt::getAttemptTime)
-                .orElse(null);
-    }
 }
@@ -20,6 +20,7 @@
 package de.felixhertweck.seatreservation.model.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -73,6 +74,43 @@ public class OutboundEmailRepository implements PanacheRepositoryBase<OutboundEm
         return ids.stream().map(id -> (UUID) id).toList();
     }
 
+    /**
+     * Loads the given messages together with their attachments in a single query.
+     *
+     * @param ids the outbox ids
+     * @return the messages that still exist, in no particular order
+     */
+    public List<OutboundEmail> findByIdsWithAttachments(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return find(
+                        "select distinct e from OutboundEmail e left join fetch e.attachments"
+                                + " where e.id in ?1",
+                        ids)
+                .list();
+    }
+
+    /**
+     * Marks the given messages as delivered in a single bulk {@code UPDATE}, counting the
+     * successful attempt and clearing any previous error.
+     *
+     * @param ids the outbox ids of the delivered messages
+     * @param now the delivery timestamp
+     * @return the number of updated rows
+     */
+    public long markSent(Collection<UUID> ids, Instant now) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return update(
+                "status = ?1, attempts = attempts + 1, sentAt = ?2, updatedAt = ?2, lastError ="
+                        + " null where id in ?3",
+                EmailStatus.SENT,
+                now,
+                ids);
+    }
+
     /**
      * Resets messages that got stuck in {@link EmailStatus#SENDING} (for example because the
      * application crashed mid-send) back to {@link EmailStatus#PENDING} so they can be retried.
@@ -112,7 +150,9 @@ public class OutboundEmailRepository implements PanacheRepositoryBase<OutboundEm
      * rather than all at once, so a large backlog (e.g. after a prolonged SMTP outage) doesn't pull
      * the entire set into memory in one go. The persistence context is flushed and cleared after
      * each batch so removed (and previously loaded) entities don't keep accumulating in it for the
-     * duration of the whole cleanup run.
+     * duration of the whole cleanup run. The shared {@link
+     * de.felixhertweck.seatreservation.model.entity.EmailAttachmentBlob}s of the deleted
+     * attachments are kept; they are collected separately once nothing references them.
      *
      * @param cutoff messages updated before this instant are removed
      * @return the number of deleted rows
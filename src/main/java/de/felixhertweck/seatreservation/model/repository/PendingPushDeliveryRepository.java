@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import de.felixhertweck.seatreservation.model.entity.PendingPushDelivery;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+/**
+ * Repository for Web Push retries ({@link PendingPushDelivery}). Like {@link
+ * OutboundEmailRepository}, due rows are claimed atomically so concurrent instances never retry the
+ * same push twice.
+ */
+@ApplicationScoped
+public class PendingPushDeliveryRepository
+        implements PanacheRepositoryBase<PendingPushDelivery, UUID> {
+
+    /**
+     * Atomically claims up to {@code limit} due retries by moving their {@code next_attempt_at} to
+     * {@code leaseUntil} in a single {@code UPDATE ... FOR UPDATE SKIP LOCKED} statement. A claimed
+     * row that is never resolved (for example because the instance crashed mid-send) simply becomes
+     * due again once the lease has passed.
+     *
+     * @param now the reference point in time
+     * @param leaseUntil until when the claimed rows are hidden from other claims
+     * @param limit the maximum number of rows to claim
+     * @return the ids of the claimed rows
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimDue(Instant now, Instant leaseUntil, int limit) {
+        List<Object> ids =
+                getEntityManager()
+                        .createNativeQuery(
+                                "UPDATE pending_push_deliveries SET next_attempt_at = ?2 WHERE id"
+                                        + " IN (  SELECT id FROM pending_push_deliveries  WHERE"
+                                        + " next_attempt_at <= ?1  ORDER BY next_attempt_at ASC "
+                                        + " LIMIT ?3  FOR UPDATE SKIP LOCKED) RETURNING id")
+                        .setParameter(1, now)
+                        .setParameter(2, leaseUntil)
+                        .setParameter(3, limit)
+                        .getResultList();
+        return ids.stream().map(id -> (UUID) id).toList();
+    }
+
+    /**
+     * Loads the given retries together with their subscriptions in a single query.
+     *
+     * @param ids the retry ids
+     * @return the retries that still exist, in no particular order
+     */
+    public List<PendingPushDelivery> findByIdsWithSubscription(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return find(
+                        "select p from PendingPushDelivery p join fetch p.subscription"
+                                + " where p.id in ?1",
+                        ids)
+                .list();
+    }
+}
@@ -21,8 +21,10 @@ package de.felixhertweck.seatreservation.model.repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
 
 import de.felixhertweck.seatreservation.model.entity.RefreshToken;
 import de.felixhertweck.seatreservation.model.entity.User;
@@ -31,6 +33,31 @@ import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 @ApplicationScoped
 public class RefreshTokenRepository implements PanacheRepositoryBase<RefreshToken, UUID> {
 
+    /**
+     * Finds a refresh token by its stored hash (unique index {@code idx_refresh_token_hash}).
+     *
+     * @param tokenHash the digest of the token value
+     * @return the matching token, if any
+     */
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return find("tokenHash", tokenHash).firstResultOptional();
+    }
+
+    /**
+     * Replaces a token's stored hash, but only if it still holds {@code expectedHash}. Used to
+     * upgrade legacy bcrypt hashes; a concurrent upgrade or deletion simply makes this a no-op.
+     *
+     * @param id the ID of the refresh token
+     * @param expectedHash the hash the token is expected to have
+     * @param newHash the new hash
+     * @return true if the token was updated
+     */
+    @Transactional
+    public boolean replaceTokenHash(UUID id, String expectedHash, String newHash) {
+        return update("tokenHash = ?1 where id = ?2 and tokenHash = ?3", newHash, id, expectedHash)
+                > 0;
+    }
+
     /**
      * Find all refresh tokens for a specific user.
      *
@@ -19,36 +19,42 @@
  */
 package de.felixhertweck.seatreservation.model.repository;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 
 import de.felixhertweck.seatreservation.model.entity.CheckInToken;
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
 import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ReservationLiveStatus;
 import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
 import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.utils.ReservationExportRow;
+import de.felixhertweck.seatreservation.utils.UuidV7;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 
 @ApplicationScoped
 public class ReservationRepository implements PanacheRepositoryBase<Reservation, UUID> {
+
     /**
-     * Finds all reservations for events managed by a specific user.
-     *
-     * @param manager the manager user to search for
-     * @return a list of reservations for events managed by the specified user
+     * Rows per statement in {@link #insertAll(List)}, keeping well below the 65535 bind parameters
+     * PostgreSQL accepts per statement.
      */
-    public List<Reservation> findByManager(User manager) {
-        return find(
-                        "SELECT r FROM Reservation r JOIN r.event e JOIN e.managers m WHERE m ="
-                                + " ?1",
-                        manager)
-                .list();
-    }
+    private static final int INSERT_CHUNK_SIZE = 1000;
 
     /**
      * Finds all reservations for a specific event.
@@ -104,6 +110,77 @@ public class ReservationRepository implements PanacheRepositoryBase<Reservation,
                 .list();
     }
 
+    /**
+     * Retrieves the persisted status of every reserved or blocked seat of an event as a plain
+     * projection, without materializing any {@link Reservation} or seat entities.
+     *
+     * @param eventId the event ID to search for
+     * @return map of seat ID to its persisted reservation status
+     */
+    public Map<UUID, ReservationStatus> findSeatStatusesByEventId(UUID eventId) {
+        List<Object[]> results =
+                getEntityManager()
+                        .createQuery(
+                                "SELECT r.seat.id, r.status FROM Reservation r WHERE r.event.id ="
+                                        + " ?1",
+                                Object[].class)
+                        .setParameter(1, eventId)
+                        .getResultList();
+        return results.stream()
+                .collect(
+                        Collectors.toMap(
+                                row -> (UUID) row[0],
+                                row -> (ReservationStatus) row[1],
+                                (first, second) -> first));
+    }
+
+    /**
+     * Retrieves the IDs of all reservations of an event in export order, by seat number, without
+     * materializing any entities. The order is applied in Java so it matches {@link
+     * String#compareTo(String)} regardless of the database collation.
+     *
+     * @param eventId the event ID to search for
+     * @return the reservation IDs, ordered by seat number
+     */
+    public List<UUID> findIdsByEventIdOrderedBySeatNumber(UUID eventId) {
+        List<Object[]> results =
+                getEntityManager()
+                        .createQuery(
+                                "SELECT r.id, r.seat.seatNumber FROM Reservation r WHERE r.event.id"
+                                        + " = ?1",
+                                Object[].class)
+                        .setParameter(1, eventId)
+                        .getResultList();
+        return results.stream()
+                .sorted(Comparator.comparing(row -> (String) row[1]))
+                .map(row -> (UUID) row[0])
+                .toList();
+    }
+
+    /**
+     * Retrieves the exported columns of the given reservations as {@link ReservationExportRow}
+     * projections, without materializing any reservation, seat or user entities.
+     *
+     * @param ids the reservation IDs to load
+     * @return the rows of the reservations found, in no particular order
+     */
+    public List<ReservationExportRow> findExportRowsByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return getEntityManager()
+                .createQuery(
+                        "SELECT new de.felixhertweck.seatreservation.utils.ReservationExportRow("
+                                + "r.id, r.status, s.seatNumber, s.seatRow, en.name, a.name,"
+                                + " u.firstname, u.lastname, r.reservationDate)"
+                                + " FROM Reservation r JOIN r.seat s"
+                                + " LEFT JOIN s.entrance en LEFT JOIN s.area a LEFT JOIN r.user u"
+                                + " WHERE r.id IN ?1",
+                        ReservationExportRow.class)
+                .setParameter(1, ids)
+                .getResultList();
+    }
+
     /**
      * Retrieves reserved seat counts aggregated by event ID for a collection of event IDs.
      *
@@ -128,6 +205,61 @@ public class ReservationRepository implements PanacheRepositoryBase<Reservation,
                 .collect(Collectors.toMap(row -> (UUID) row[0], row -> ((Long) row[1]).intValue()));
     }
 
+    /**
+     * Counts reservations grouped by event and status, without materializing any {@link
+     * Reservation} entities.
+     *
+     * @param manager restricts the counts to events managed by this user, or {@code null} for all
+     *     events
+     * @return map of event ID to the reservation count per status of that event
+     */
+    public Map<UUID, Map<ReservationStatus, Long>> countByEventAndStatus(User manager) {
+        TypedQuery<Object[]> query =
+                getEntityManager()
+                        .createQuery(
+                                "SELECT r.event.id, r.status, COUNT(r) FROM Reservation r"
+                                        + (manager != null
+                                                ? " WHERE ?1 MEMBER OF r.event.managers"
+                                                : "")
+                                        + " GROUP BY r.event.id, r.status",
+                                Object[].class);
+        if (manager != null) {
+            query.setParameter(1, manager);
+        }
+        Map<UUID, Map<ReservationStatus, Long>> counts = new HashMap<>();
+        for (Object[] row : query.getResultList()) {
+            counts.computeIfAbsent((UUID) row[0], id -> new EnumMap<>(ReservationStatus.class))
+                    .put((ReservationStatus) row[1], (Long) row[2]);
+        }
+        return counts;
+    }
+
+    /**
+     * Counts reserved seats booked against an {@link
+     * de.felixhertweck.seatreservation.model.entity.EventUserAllowance}, i.e. reservations whose
+     * user holds an allowance for the reservation's event.
+     *
+     * @param manager restricts the count to events managed by this user, or {@code null} for all
+     *     events
+     * @return number of reservations counting towards a granted contingent
+     */
+    public long countReservedWithinAllowances(User manager) {
+        TypedQuery<Long> query =
+                getEntityManager()
+                        .createQuery(
+                                "SELECT COUNT(r) FROM Reservation r, EventUserAllowance a WHERE"
+                                    + " a.event = r.event AND a.user = r.user AND r.status ="
+                                    + " de.felixhertweck.seatreservation.model.entity.ReservationStatus.RESERVED"
+                                        + (manager != null
+                                                ? " AND ?1 MEMBER OF r.event.managers"
+                                                : ""),
+                                Long.class);
+        if (manager != null) {
+            query.setParameter(1, manager);
+        }
+        return query.getSingleResult();
+    }
+
     /**
      * Finds all reservations for a given user that are not blocked.
      *
@@ -203,6 +335,44 @@ public class ReservationRepository implements PanacheRepositoryBase<Reservation,
                 .list();
     }
 
+    /**
+     * Finds all reservations of the given users for a specific event ID, eagerly fetching each
+     * reservation's user and seat.
+     *
+     * @param eventId the event ID to search for
+     * @param userIds the user IDs to restrict the search to
+     * @return a list of the users' reservations for the event, with user and seat pre-fetched
+     */
+    public List<Reservation> findByEventIdAndUserIdsWithUserAndSeat(
+            UUID eventId, Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return find(
+                        "select r from Reservation r join fetch r.user u left join fetch r.seat"
+                                + " where r.event.id = ?1 and u.id in ?2",
+                        eventId,
+                        userIds)
+                .list();
+    }
+
+    /**
+     * Retrieves the distinct IDs of all users holding a reservation for a specific event, in a
+     * stable order, without materializing any entities.
+     *
+     * @param eventId the event ID to search for
+     * @return the distinct user IDs, ordered by ID
+     */
+    public List<UUID> findDistinctUserIdsByEventId(UUID eventId) {
+        return getEntityManager()
+                .createQuery(
+                        "SELECT DISTINCT r.user.id FROM Reservation r WHERE r.event.id = ?1"
+                                + " AND r.user IS NOT NULL ORDER BY r.user.id",
+                        UUID.class)
+                .setParameter(1, eventId)
+                .getResultList();
+    }
+
     /**
      * Finds all reservations for a specific event ID whose seat is among the given seat IDs.
      *
@@ -307,12 +477,125 @@ public class ReservationRepository implements PanacheRepositoryBase<Reservation,
     }
 
     /**
-     * Persists multiple reservations at once.
+     * Persists multiple reservations at once. The statements are sent in JDBC batches (see {@code
+     * quarkus.hibernate-orm.jdbc.statement-batch-size}); new reservations that may collide with
+     * existing ones should go through {@link #insertAll(List)} instead.
      *
      * @param newReservations the list of reservations to persist
      */
     public void persistAll(List<Reservation> newReservations) {
-        newReservations.forEach(this::persist);
+        persist(newReservations);
+    }
+
+    /**
+     * Result of {@link #insertAll(List)}.
+     *
+     * @param inserted the inserted reservations as managed entities, in the order they were passed
+     * @param conflictingSeatIds seats that already had a reservation for the event and were skipped
+     */
+    public record InsertResult(List<Reservation> inserted, Set<UUID> conflictingSeatIds) {
+
+        public boolean hasConflicts() {
+            return !conflictingSeatIds.isEmpty();
+        }
+    }
+
+    /**
+     * Inserts new reservations with multi-row {@code INSERT ... ON CONFLICT (event_id, seat_id) DO
+     * NOTHING} statements instead of one {@code persist} per entity. Seats that already have a
+     * reservation for their event are not inserted and reported instead, so callers don't need to
+     * look up existing reservations beforehand; the unique constraint decides, which also covers
+     * concurrent bookings.
+     *
+     * <p>The passed reservations stay transient. The inserted rows are loaded back with a single
+     * query and returned as managed entities; callers that reject a partial result have to throw so
+     * the transaction is rolled back.
+     *
+     * @param newReservations new reservations, with event, seat and status set
+     * @return the inserted reservations and the seats that were already taken
+     */
+    @SuppressWarnings("unchecked")
+    public InsertResult insertAll(List<Reservation> newReservations) {
+        if (newReservations.isEmpty()) {
+            return new InsertResult(List.of(), Set.of());
+        }
+        Map<UUID, UUID> seatIdsById = new LinkedHashMap<>();
+        Set<UUID> insertedIds = new HashSet<>();
+        for (int from = 0; from < newReservations.size(); from += INSERT_CHUNK_SIZE) {
+            List<Reservation> chunk =
+                    newReservations.subList(
+                            from, Math.min(from + INSERT_CHUNK_SIZE, newReservations.size()));
+            StringBuilder sql =
+                    new StringBuilder(
+                            "INSERT INTO reservations (id, event_id, seat_id, user_id,"
+                                    + " reservationdate, status, livestatus, check_in_token_id)"
+                                    + " VALUES ");
+            List<Object> parameters = new ArrayList<>(chunk.size() * 8);
+            for (Reservation reservation : chunk) {
+                UUID id = UuidV7.generate();
+                seatIdsById.put(id, reservation.getSeat().id);
+                if (!parameters.isEmpty()) {
+                    sql.append(", ");
+                }
+                sql.append('(');
+                // Optional columns are written as NULL literals so no untyped null gets bound.
+                appendParameter(sql, parameters, id);
+                sql.append(", ");
+                appendParameter(sql, parameters, reservation.getEvent().id);
+                sql.append(", ");
+                appendParameter(sql, parameters, reservation.getSeat().id);
+                sql.append(", ");
+                User user = reservation.getUser();
+                appendNullable(sql, parameters, user != null ? user.id : null);
+                sql.append(", ");
+                appendParameter(sql, parameters, reservation.getReservationDate());
+                sql.append(", ");
+                appendParameter(sql, parameters, reservation.getStatus().name());
+                sql.append(", ");
+                ReservationLiveStatus liveStatus = reservation.getLiveStatus();
+                appendNullable(sql, parameters, liveStatus != null ? liveStatus.name() : null);
+                sql.append(", ");
+                CheckInToken checkInToken = reservation.getCheckInToken();
+                appendNullable(sql, parameters, checkInToken != null ? checkInToken.id : null);
+                sql.append(')');
+            }
+            sql.append(" ON CONFLICT (event_id, seat_id) DO NOTHING RETURNING id");
+            Query query = getEntityManager().createNativeQuery(sql.toString());
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+            for (Object id : (List<Object>) query.getResultList()) {
+                insertedIds.add((UUID) id);
+            }
+        }
+
+        Set<UUID> conflictingSeatIds = new LinkedHashSet<>();
+        List<UUID> orderedIds = new ArrayList<>(insertedIds.size());
+        seatIdsById.forEach(
+                (id, seatId) -> {
+                    if (insertedIds.contains(id)) {
+                        orderedIds.add(id);
+                    } else {
+                        conflictingSeatIds.add(seatId);
+                    }
+                });
+        Map<UUID, Reservation> loaded =
+                findByIds(orderedIds).stream().collect(Collectors.toMap(r -> r.id, r -> r));
+        List<Reservation> inserted = orderedIds.stream().map(loaded::get).toList();
+        return new InsertResult(inserted, conflictingSeatIds);
+    }
+
+    private static void appendParameter(StringBuilder sql, List<Object> parameters, Object value) {
+        parameters.add(value);
+        sql.append('?').append(parameters.size());
+    }
+
+    private static void appendNullable(StringBuilder sql, List<Object> parameters, Object value) {
+        if (value == null) {
+            sql.append("NULL");
+        } else {
+            appendParameter(sql, parameters, value);
+        }
     }
 
     /**
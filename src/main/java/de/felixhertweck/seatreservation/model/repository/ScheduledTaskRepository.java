@@ -0,0 +1,172 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import de.felixhertweck.seatreservation.model.entity.ScheduledTask;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskStatus;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskType;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Page;
+
+/**
+ * Repository for durable background tasks ({@link ScheduledTask}). Mirrors {@link
+ * ConfirmationRenderJobRepository}: an atomic claim for the poller and a bounded purge for the
+ * cleanup job.
+ */
+@ApplicationScoped
+public class ScheduledTaskRepository implements PanacheRepositoryBase<ScheduledTask, UUID> {
+
+    /** Number of tasks removed per round-trip by {@link #deleteFinishedBefore(Instant)}. */
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    /**
+     * Atomically claims up to {@code limit} due tasks by flipping them from {@link
+     * ScheduledTaskStatus#PENDING} to {@link ScheduledTaskStatus#RUNNING} in a single {@code UPDATE
+     * ... FOR UPDATE SKIP LOCKED} statement, so a task is never run by two instances at once.
+     *
+     * @param now the reference point in time
+     * @param limit the maximum number of tasks to claim
+     * @return the ids of the claimed tasks, earliest due first
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> claimDue(Instant now, int limit) {
+        List<Object> ids =
+                getEntityManager()
+                        .createNativeQuery(
+                                "UPDATE scheduled_tasks SET status = 'RUNNING', updated_at = ?1"
+                                        + " WHERE id IN (  SELECT id FROM scheduled_tasks  WHERE"
+                                        + " status = 'PENDING' AND next_attempt_at <= ?1  ORDER"
+                                        + " BY next_attempt_at ASC  LIMIT ?2  FOR UPDATE SKIP"
+                                        + " LOCKED) RETURNING id")
+                        .setParameter(1, now)
+                        .setParameter(2, limit)
+                        .getResultList();
+        return ids.stream().map(id -> (UUID) id).toList();
+    }
+
+    /**
+     * Resets tasks that got stuck in {@link ScheduledTaskStatus#RUNNING} (for example because the
+     * instance running them crashed) back to {@link ScheduledTaskStatus#PENDING}.
+     *
+     * @param cutoff tasks left in {@code RUNNING} and last touched before this instant are reset
+     * @return the number of reset tasks
+     */
+    public long requeueStaleRunning(Instant cutoff) {
+        return update(
+                "status = ?1, updatedAt = ?2 where status = ?3 and updatedAt < ?4",
+                ScheduledTaskStatus.PENDING,
+                Instant.now(),
+                ScheduledTaskStatus.RUNNING,
+                cutoff);
+    }
+
+    /**
+     * Finds the pending task of the given type for an event, if any.
+     *
+     * @param eventId the event ID
+     * @param type the task type
+     * @return the pending task, or empty if none is waiting
+     */
+    public Optional<ScheduledTask> findPendingByEventIdAndType(
+            UUID eventId, ScheduledTaskType type) {
+        return find(
+                        "event.id = ?1 and type = ?2 and status = ?3",
+                        eventId,
+                        type,
+                        ScheduledTaskStatus.PENDING)
+                .firstResultOptional();
+    }
+
+    /**
+     * Deletes the tasks of the given type for an event that have not started yet. Tasks that are
+     * already running are left alone and finish normally.
+     *
+     * @param eventId the event ID
+     * @param type the task type
+     * @return the number of deleted tasks
+     */
+    public long deletePendingByEventIdAndType(UUID eventId, ScheduledTaskType type) {
+        List<ScheduledTask> pending =
+                find(
+                                "event.id = ?1 and type = ?2 and status = ?3",
+                                eventId,
+                                type,
+                                ScheduledTaskStatus.PENDING)
+                        .list();
+        pending.forEach(this::delete);
+        return pending.size();
+    }
+
+    /**
+     * Deletes all tasks of an event that have not started yet. Tasks that are already running are
+     * left alone and finish normally.
+     *
+     * @param eventId the event ID
+     * @return the number of deleted tasks
+     */
+    public long deletePendingByEventId(UUID eventId) {
+        List<ScheduledTask> pending =
+                find("event.id = ?1 and status = ?2", eventId, ScheduledTaskStatus.PENDING).list();
+        pending.forEach(this::delete);
+        return pending.size();
+    }
+
+    /**
+     * Counts tasks currently in the given status.
+     *
+     * @param status the status to count
+     * @return the number of matching tasks
+     */
+    public long countByStatus(ScheduledTaskStatus status) {
+        return count("status", status);
+    }
+
+    /**
+     * Deletes finished ({@code DONE} or {@code FAILED}) tasks last updated before the given cutoff,
+     * in bounded batches so the user id collection table is cascaded per task.
+     *
+     * @param cutoff tasks updated before this instant are removed
+     * @return the number of deleted tasks
+     */
+    public long deleteFinishedBefore(Instant cutoff) {
+        long totalDeleted = 0;
+        List<ScheduledTask> batch;
+        do {
+            batch =
+                    find(
+                                    "status in ?1 and updatedAt < ?2",
+                                    List.of(ScheduledTaskStatus.DONE, ScheduledTaskStatus.FAILED),
+                                    cutoff)
+                            .page(Page.ofSize(DELETE_BATCH_SIZE))
+                            .list();
+            batch.forEach(this::delete);
+            getEntityManager().flush();
+            getEntityManager().clear();
+            totalDeleted += batch.size();
+        } while (batch.size() == DELETE_BATCH_SIZE);
+        return totalDeleted;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import de.felixhertweck.seatreservation.model.entity.PendingPushDelivery;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.entity.UserPushSubscription;
+import de.felixhertweck.seatreservation.model.repository.PendingPushDeliveryRepository;
+import de.felixhertweck.seatreservation.model.repository.UserPushSubscriptionRepository;
+import de.felixhertweck.seatreservation.utils.OutboxPump;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Delivers Web Push notifications to a user's devices and retries those the push service could not
+ * accept right away.
+ *
+ * <p>A notification is sent to all of the user's subscriptions at once via {@link
+ * WebPushService#sendAsync}; the caller does not wait for the push services. Each outcome is
+ * recorded in its own short transaction as it arrives: a 404/410 removes the dead subscription, and
+ * a 429/5xx is written to the durable retry queue ({@link PendingPushDelivery}) with the delay the
+ * push service asked for via {@code Retry-After}, or exponential back-off if it named none. A
+ * scheduled poll claims due retries ({@code FOR UPDATE SKIP LOCKED}) and sends them again until
+ * {@code push.retry.max-attempts} is reached.
+ */
+@ApplicationScoped
+public class PushDeliveryService {
+
+    private static final Logger LOG = Logger.getLogger(PushDeliveryService.class);
+
+    @Inject UserPushSubscriptionRepository pushSubscriptionRepository;
+
+    @Inject PendingPushDeliveryRepository pendingPushDeliveryRepository;
+
+    @Inject WebPushService webPushService;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @Inject PushDeliveryService self;
+
+    @ConfigProperty(name = "push.retry.max-attempts", defaultValue = "5")
+    int maxAttempts;
+
+    @ConfigProperty(name = "push.retry.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "push.retry.retry-backoff-seconds", defaultValue = "30")
+    long retryBackoffSeconds;
+
+    @ConfigProperty(name = "push.retry.max-backoff-seconds", defaultValue = "3600")
+    long maxBackoffSeconds;
+
+    @ConfigProperty(name = "push.retry.claim-timeout-seconds", defaultValue = "120")
+    long claimTimeoutSeconds;
+
+    /**
+     * Sends a notification to every browser the user has subscribed. Returns once the sends are
+     * started; their outcomes are recorded as the push services answer.
+     *
+     * @return a future completing once every device's outcome has been recorded
+     */
+    public CompletableFuture<Void> deliverToUser(
+            User user, String title, String message, String actionUrl) {
+        List<UserPushSubscription> subscriptions = pushSubscriptionRepository.findByUser(user);
+        if (subscriptions.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        byte[] payload = webPushService.encodePayload(title, message, actionUrl);
+        return CompletableFuture.allOf(
+                subscriptions.stream()
+                        .map(subscription -> send(subscription, payload, null, 0))
+                        .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Fallback poll that sends the retries that have become due. Retries are never started
+     * immediately: they wait for the delay the push service asked for.
+     */
+    @Scheduled(
+            every = "${push.retry.poll-interval:15s}",
+            concurrentExecution = ConcurrentExecution.SKIP)
+    void scheduledRetry() {
+        retryDue();
+    }
+
+    /**
+     * Sends all retries that are currently due and waits until their outcomes are recorded. Exposed
+     * so tests and operational tooling can drain the queue deterministically.
+     *
+     * @return the number of retried pushes
+     */
+    public int retryDue() {
+        int total = 0;
+        List<PendingPushDelivery> due;
+        do {
+            due = self.claimDue(batchSize);
+            CompletableFuture.allOf(due.stream().map(this::retry).toArray(CompletableFuture[]::new))
+                    .join();
+            total += due.size();
+        } while (due.size() == batchSize);
+        return total;
+    }
+
+    /**
+     * Claims up to {@code limit} due retries for {@code push.retry.claim-timeout-seconds} and loads
+     * them with their subscriptions.
+     *
+     * @param limit the maximum number of retries to claim
+     * @return the claimed retries
+     */
+    @Transactional
+    public List<PendingPushDelivery> claimDue(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        List<UUID> ids =
+                pendingPushDeliveryRepository.claimDue(
+                        now, now.plusSeconds(claimTimeoutSeconds), limit);
+        return pendingPushDeliveryRepository.findByIdsWithSubscription(ids);
+    }
+
+    private CompletableFuture<Void> retry(PendingPushDelivery retry) {
+        byte[] payload = retry.getPayload().getBytes(StandardCharsets.UTF_8);
+        return send(retry.getSubscription(), payload, retry.id, retry.getAttempts());
+    }
+
+    private CompletableFuture<Void> send(
+            UserPushSubscription subscription, byte[] payload, UUID retryId, int previousAttempts) {
+        UUID subscriptionId = subscription.id;
+        return webPushService
+                .sendAsync(subscription, payload)
+                .thenAccept(
+                        result -> {
+                            try {
+                                self.recordOutcome(
+                                        subscriptionId,
+                                        retryId,
+                                        payload,
+                                        previousAttempts + 1,
+                                        result);
+                            } catch (RuntimeException e) {
+                                LOG.errorf(
+                                        e,
+                                        "Failed to record push outcome for subscription id=%s",
+                                        subscriptionId);
+                            }
+                        });
+    }
+
+    /**
+     * Records the outcome of one push attempt: schedules (or reschedules) a retry for a retryable
+     * failure below the attempt limit, and otherwise resolves the push, removing the subscription
+     * if the push service reports it gone.
+     *
+     * @param subscriptionId the target subscription
+     * @param retryId the retry row the attempt was made for, or {@code null} for a first attempt
+     * @param payload the unencrypted payload
+     * @param attempts the number of attempts made so far, including this one
+     * @param result the push service's answer
+     */
+    @Transactional
+    public void recordOutcome(
+            UUID subscriptionId,
+            UUID retryId,
+            byte[] payload,
+            int attempts,
+            WebPushService.Result result) {
+        if (result.retryable() && attempts < maxAttempts) {
+            Instant nextAttemptAt = Instant.now().plus(retryDelay(result, attempts));
+            if (retryId == null) {
+                UserPushSubscription subscription =
+                        pushSubscriptionRepository.findById(subscriptionId);
+                if (subscription == null) {
+                    // Unsubscribed while the push was in flight.
+                    return;
+                }
+                pendingPushDeliveryRepository.persist(
+                        new PendingPushDelivery(
+                                subscription,
+                                new String(payload, StandardCharsets.UTF_8),
+                                attempts,
+                                nextAttemptAt,
+                                result.status()));
+            } else {
+                PendingPushDelivery retry = pendingPushDeliveryRepository.findById(retryId);
+                if (retry == null) {
+                    return;
+                }
+                retry.setAttempts(attempts);
+                retry.setNextAttemptAt(nextAttemptAt);
+                retry.setLastStatus(result.status());
+            }
+            count("retry_scheduled");
+            LOG.debugf(
+                    "Push to subscription id=%s got HTTP %d (attempt %d/%d); retrying at %s",
+                    subscriptionId, result.status(), attempts, maxAttempts, nextAttemptAt);
+            return;
+        }
+
+        if (retryId != null) {
+            pendingPushDeliveryRepository.deleteById(retryId);
+        }
+        if (result.delivered()) {
+            count("delivered");
+        } else if (result.gone()) {
+            // The push service confirms the subscription no longer exists - stop trying.
+            pushSubscriptionRepository.deleteById(subscriptionId);
+            count("gone");
+        } else if (result.retryable()) {
+            LOG.warnf(
+                    "Giving up on push to subscription id=%s after %d attempt(s): HTTP %d",
+                    subscriptionId, attempts, result.status());
+            count("dropped");
+        } else {
+            count("rejected");
+        }
+    }
+
+    /**
+     * Returns how long to wait before retrying: the push service's {@code Retry-After} if it sent
+     * one, otherwise exponential back-off. A {@code Retry-After} shorter than {@code
+     * push.retry.retry-backoff-seconds} is raised to it, so a push service answering {@code 0}
+     * can't make {@link #retryDue} claim the same rows again in a tight loop.
+     */
+    Duration retryDelay(WebPushService.Result result, int attempts) {
+        if (result.retryAfter() != null) {
+            Duration minimum = Duration.ofSeconds(retryBackoffSeconds);
+            return result.retryAfter().compareTo(minimum) < 0 ? minimum : result.retryAfter();
+        }
+        return Duration.ofSeconds(
+                OutboxPump.backoffSeconds(attempts, retryBackoffSeconds, maxBackoffSeconds));
+    }
+
+    private void count(String outcome) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("push.delivery", "outcome", outcome).increment();
+        }
+    }
+}
@@ -55,7 +55,7 @@ public class PushNotificationService {
 
     @Inject UserNotificationRepository notificationRepository;
     @Inject UserPushSubscriptionRepository pushSubscriptionRepository;
-    @Inject WebPushService webPushService;
+    @Inject PushDeliveryService pushDeliveryService;
 
     /**
      * Self-injected reference used to invoke {@link #persistNotification} through the CDI proxy
@@ -66,9 +66,9 @@ public class PushNotificationService {
 
     /**
      * Persists an in-app notification in its own, independent transaction. Kept separate from push
-     * delivery (which does blocking network I/O) so a slow or failing push send never holds this
-     * transaction - or a caller's ambient transaction - open, and a push-related failure can never
-     * mark an unrelated caller transaction rollback-only.
+     * delivery (which does network I/O) so a slow or failing push send never holds this transaction
+     * - or a caller's ambient transaction - open, and a push-related failure can never mark an
+     * unrelated caller transaction rollback-only.
      */
     @Transactional(Transactional.TxType.REQUIRES_NEW)
     public UserNotification persistNotification(
@@ -104,7 +104,8 @@ public class PushNotificationService {
     /**
      * Creates and persists an in-app notification for a user, then pushes it to their devices.
      * Persisting runs and commits in its own short transaction before push delivery starts, so the
-     * blocking push HTTP calls never run with a database transaction/connection held open.
+     * push HTTP calls never run with a database transaction/connection held open. Push delivery is
+     * asynchronous; this method does not wait for the push services to answer.
      */
     public UserNotificationDTO createNotification(
             User user,
@@ -131,17 +132,12 @@ public class PushNotificationService {
         return UserNotificationDTO.fromEntity(notification);
     }
 
-    /** Pushes a notification to every browser the user has subscribed, pruning dead endpoints. */
+    /**
+     * Pushes a notification to every browser the user has subscribed. Dead endpoints are pruned and
+     * throttled pushes retried by {@link PushDeliveryService}.
+     */
     private void sendPushToUserDevices(User user, String title, String message, String actionUrl) {
-        for (UserPushSubscription subscription : pushSubscriptionRepository.findByUser(user)) {
-            int status =
-                    webPushService.sendPushNotification(subscription, title, message, actionUrl);
-            // 404/410: the push service confirms the subscription no longer exists - stop trying.
-            if (status == 404 || status == 410) {
-                pushSubscriptionRepository.deleteByEndpointAndUser(
-                        subscription.getEndpoint(), user);
-            }
-        }
+        pushDeliveryService.deliverToUser(user, title, message, actionUrl);
     }
 
     /** Retrieves paginated notifications for a user with optional filtering. */
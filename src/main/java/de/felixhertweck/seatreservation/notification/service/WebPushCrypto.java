@@ -38,7 +38,6 @@ import java.security.spec.ECParameterSpec;
 import java.security.spec.ECPoint;
 import java.security.spec.ECPrivateKeySpec;
 import java.security.spec.ECPublicKeySpec;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
@@ -237,27 +236,27 @@ final class WebPushCrypto {
     // ---- VAPID (RFC 8292) ----
 
     /**
-     * Builds the {@code Authorization: vapid ...} header value for a push request to {@code
-     * endpoint}.
+     * Builds the {@code Authorization: vapid ...} header value for the push service at {@code
+     * audience} (an origin as returned by {@link #originOf}), valid until {@code expiresAt} (epoch
+     * seconds). The header does not depend on the individual endpoint, so it may be reused for
+     * every push to that service until it expires.
      */
     static String buildVapidAuthorizationHeader(
             ObjectMapper objectMapper,
-            String endpoint,
+            String audience,
+            long expiresAt,
             PrivateKey privateKey,
             String publicKeyBase64Url,
             String subject)
             throws GeneralSecurityException {
         try {
-            String audience = originOf(endpoint);
-
             Map<String, Object> header = new LinkedHashMap<>();
             header.put("typ", "JWT");
             header.put("alg", "ES256");
 
             Map<String, Object> claims = new LinkedHashMap<>();
             claims.put("aud", audience);
-            // RFC 8292 caps VAPID JWT lifetime at 24h; we use a comfortable margin below that.
-            claims.put("exp", Instant.now().getEpochSecond() + 12 * 3600);
+            claims.put("exp", expiresAt);
             claims.put("sub", subject);
 
             String signingInput =
@@ -278,7 +277,8 @@ final class WebPushCrypto {
         }
     }
 
-    private static String originOf(String endpoint) {
+    /** Returns the origin ({@code scheme://host[:port]}) of a push endpoint, the VAPID audience. */
+    static String originOf(String endpoint) {
         URI uri = URI.create(endpoint);
         StringBuilder origin =
                 new StringBuilder(uri.getScheme()).append("://").append(uri.getHost());
@@ -19,7 +19,6 @@
  */
 package de.felixhertweck.seatreservation.notification.service;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -29,30 +28,59 @@ import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.felixhertweck.seatreservation.model.entity.UserPushSubscription;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
-/** Service for Web Push notification management and VAPID key handling. */
+/**
+ * Service for Web Push notification management and VAPID key handling.
+ *
+ * <p>Pushes are sent with the asynchronous {@link HttpClient} API, so a notification fanned out to
+ * many devices never ties up the calling thread. Sends to the same push service (origin) are
+ * limited to {@code push.max-concurrent-per-service} in flight; further sends wait for a free slot
+ * on a virtual thread. The signed VAPID header only depends on the push service, so it is cached
+ * per origin and reused until shortly before its JWT expires instead of signing one per message.
+ */
 @ApplicationScoped
 public class WebPushService {
 
     private static final Logger LOG = Logger.getLogger(WebPushService.class);
 
-    /** Push services reject VAPID JWTs whose expiry is more than 24h out; 12h leaves margin. */
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
 
     private static final long TTL_SECONDS = Duration.ofDays(1).toSeconds();
 
+    /** Push services reject VAPID JWTs whose expiry is more than 24h out; 12h leaves margin. */
+    private static final Duration VAPID_TOKEN_LIFETIME = Duration.ofHours(12);
+
+    /** A cached VAPID header is replaced this long before its JWT expires. */
+    private static final Duration VAPID_REFRESH_MARGIN = Duration.ofHours(1);
+
+    /** Result of a push that could not be sent at all. */
+    public static final Result NOT_SENT = new Result(-1, null);
+
     @Inject
     @ConfigProperty(name = "seatreservation.vapid.public-key")
     Optional<String> configuredPublicKey;
@@ -67,16 +95,89 @@ public class WebPushService {
             defaultValue = "mailto:admin@example.com")
     String vapidSubject;
 
+    @ConfigProperty(name = "push.max-concurrent-per-service", defaultValue = "16")
+    int maxConcurrentPerService;
+
     @Inject ObjectMapper objectMapper;
 
-    private final HttpClient httpClient =
-            HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    @Inject MeterRegistry meterRegistry;
+
+    /** Cached VAPID headers by audience (push service origin). */
+    private final Map<String, VapidToken> vapidTokens = new ConcurrentHashMap<>();
+
+    /** In-flight request permits by push service origin. */
+    private final Map<String, Semaphore> serviceSlots = new ConcurrentHashMap<>();
+
+    private ExecutorService dispatchExecutor;
+    private HttpClient httpClient;
 
     private String publicKeyBase64Url;
     private PrivateKey vapidPrivateKey;
 
+    /**
+     * Outcome of a single push request.
+     *
+     * @param status the push service's HTTP status code, or -1 if the request could not be sent at
+     *     all (e.g. Web Push isn't configured, or the subscription's keys don't decode)
+     * @param retryAfter the delay the push service asked for via {@code Retry-After} on a 429 or
+     *     5xx response, or {@code null} if it sent none
+     */
+    public record Result(int status, Duration retryAfter) {
+
+        public boolean delivered() {
+            return status >= 200 && status < 300;
+        }
+
+        /** 404/410: the push service confirms the subscription no longer exists. */
+        public boolean gone() {
+            return status == 404 || status == 410;
+        }
+
+        /** 429/5xx: the push service is throttling or temporarily failing; worth retrying. */
+        public boolean retryable() {
+            return status == 429 || status >= 500;
+        }
+
+        String outcome() {
+            if (delivered()) {
+                return "delivered";
+            }
+            if (gone()) {
+                return "gone";
+            }
+            if (status == 429) {
+                return "throttled";
+            }
+            if (status >= 500) {
+                return "unavailable";
+            }
+            return status < 0 ? "error" : "rejected";
+        }
+    }
+
+    private record VapidToken(String header, Instant refreshAt) {}
+
     @PostConstruct
-    void initKeys() {
+    void init() {
+        initKeys();
+        dispatchExecutor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("web-push-", 0).factory());
+        httpClient =
+                HttpClient.newBuilder()
+                        .connectTimeout(REQUEST_TIMEOUT)
+                        .executor(dispatchExecutor)
+                        .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdownNow();
+        }
+    }
+
+    private void initKeys() {
         if (configuredPublicKey.isPresent()
                 && !configuredPublicKey.get().isBlank()
                 && configuredPrivateKey.isPresent()
@@ -126,72 +227,174 @@ public class WebPushService {
     }
 
     /**
-     * Sends a push notification payload to a user's registered browser push subscription.
+     * Serializes a notification into the JSON document the service worker receives. Done once per
+     * notification, not per device.
+     */
+    public byte[] encodePayload(String title, String message, String actionUrl) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("title", title);
+        payload.put("message", message);
+        if (actionUrl != null) {
+            payload.put("actionUrl", actionUrl);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize push payload", e);
+        }
+    }
+
+    /**
+     * Encrypts {@code plaintext} for the subscription and posts it to its push service without
+     * blocking the caller.
      *
-     * @return the push service's HTTP status code, or -1 if the request could not be sent at all
-     *     (e.g. Web Push isn't configured, or the subscription's keys don't decode).
+     * @param subscription the target browser subscription
+     * @param plaintext the payload, as returned by {@link #encodePayload}
+     * @return a future completing with the push service's answer; it never completes exceptionally
      */
-    public int sendPushNotification(
-            UserPushSubscription subscription, String title, String message, String actionUrl) {
+    public CompletableFuture<Result> sendAsync(
+            UserPushSubscription subscription, byte[] plaintext) {
         if (subscription == null || subscription.getEndpoint() == null) {
-            return -1;
+            return CompletableFuture.completedFuture(NOT_SENT);
         }
         if (vapidPrivateKey == null || publicKeyBase64Url == null || publicKeyBase64Url.isBlank()) {
             LOG.warn("Web Push is not configured; skipping push notification.");
-            return -1;
+            return CompletableFuture.completedFuture(NOT_SENT);
         }
+        String origin;
+        String service;
         try {
-            Map<String, Object> payload = new LinkedHashMap<>();
-            payload.put("title", title);
-            payload.put("message", message);
-            if (actionUrl != null) {
-                payload.put("actionUrl", actionUrl);
-            }
-            byte[] plaintext = objectMapper.writeValueAsBytes(payload);
+            origin = WebPushCrypto.originOf(subscription.getEndpoint());
+            service = URI.create(origin).getHost();
+        } catch (IllegalArgumentException e) {
+            LOG.warnf("Push subscription %s has a malformed endpoint", maskEndpoint(subscription));
+            return CompletableFuture.completedFuture(NOT_SENT);
+        }
 
+        Semaphore slot =
+                serviceSlots.computeIfAbsent(
+                        origin, o -> new Semaphore(Math.max(1, maxConcurrentPerService)));
+        long start = System.nanoTime();
+        return CompletableFuture.runAsync(slot::acquireUninterruptibly, dispatchExecutor)
+                .thenCompose(ignored -> post(subscription, plaintext, origin))
+                .handle(
+                        (response, error) -> {
+                            slot.release();
+                            Result result = toResult(subscription, response, error);
+                            if (meterRegistry != null) {
+                                // Includes the wait for a free slot: that is the latency a
+                                // notification actually sees.
+                                meterRegistry
+                                        .timer(
+                                                "push.send.duration",
+                                                "service",
+                                                service,
+                                                "outcome",
+                                                result.outcome())
+                                        .record(Duration.ofNanos(System.nanoTime() - start));
+                            }
+                            return result;
+                        });
+    }
+
+    private CompletableFuture<HttpResponse<Void>> post(
+            UserPushSubscription subscription, byte[] plaintext, String origin) {
+        try {
             byte[] userPublicKeyRaw = Base64.getUrlDecoder().decode(subscription.getP256dh());
             byte[] authSecret = Base64.getUrlDecoder().decode(subscription.getAuth());
+            // RFC 8291 requires a fresh ephemeral key and salt per message, so unlike the VAPID
+            // header the encryption itself cannot be shared between sends.
             byte[] body = WebPushCrypto.encrypt(plaintext, userPublicKeyRaw, authSecret);
 
-            String authorization =
-                    WebPushCrypto.buildVapidAuthorizationHeader(
-                            objectMapper,
-                            subscription.getEndpoint(),
-                            vapidPrivateKey,
-                            publicKeyBase64Url,
-                            vapidSubject);
-
             HttpRequest request =
                     HttpRequest.newBuilder(URI.create(subscription.getEndpoint()))
                             .timeout(REQUEST_TIMEOUT)
                             .header("Content-Type", "application/octet-stream")
                             .header("Content-Encoding", "aes128gcm")
                             .header("TTL", String.valueOf(TTL_SECONDS))
-                            .header("Authorization", authorization)
+                            .header("Authorization", vapidAuthorization(origin))
                             .POST(HttpRequest.BodyPublishers.ofByteArray(body))
                             .build();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            HttpResponse<Void> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.discarding());
-            int status = response.statusCode();
-            if (status >= 200 && status < 300) {
-                LOG.debugf("Push notification delivered to %s", maskEndpoint(subscription));
-            } else {
-                LOG.warnf(
-                        "Push service rejected notification to %s: HTTP %d",
-                        maskEndpoint(subscription), status);
-            }
-            return status;
-        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
-            LOG.error("Failed to send Web Push notification to " + maskEndpoint(subscription), e);
-            return -1;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    private Result toResult(
+            UserPushSubscription subscription, HttpResponse<Void> response, Throwable error) {
+        if (error != null) {
+            Throwable cause =
+                    error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
             LOG.error(
-                    "Interrupted while sending Web Push notification to "
-                            + maskEndpoint(subscription),
-                    e);
-            return -1;
+                    "Failed to send Web Push notification to " + maskEndpoint(subscription), cause);
+            return NOT_SENT;
+        }
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            LOG.debugf("Push notification delivered to %s", maskEndpoint(subscription));
+            return new Result(status, null);
+        }
+        LOG.warnf(
+                "Push service rejected notification to %s: HTTP %d",
+                maskEndpoint(subscription), status);
+        Duration retryAfter =
+                parseRetryAfter(
+                        response.headers().firstValue("Retry-After").orElse(null), Instant.now());
+        return new Result(status, retryAfter);
+    }
+
+    /**
+     * Returns the VAPID header for the push service at {@code audience}, signing a new JWT only
+     * when the cached one is about to expire. Two sends racing on an expired entry may both sign;
+     * the last one wins, which is harmless.
+     */
+    String vapidAuthorization(String audience) throws GeneralSecurityException {
+        Instant now = Instant.now();
+        VapidToken token = vapidTokens.get(audience);
+        if (token != null && now.isBefore(token.refreshAt())) {
+            return token.header();
+        }
+        Instant expiresAt = now.plus(VAPID_TOKEN_LIFETIME);
+        String header =
+                WebPushCrypto.buildVapidAuthorizationHeader(
+                        objectMapper,
+                        audience,
+                        expiresAt.getEpochSecond(),
+                        vapidPrivateKey,
+                        publicKeyBase64Url,
+                        vapidSubject);
+        vapidTokens.put(audience, new VapidToken(header, expiresAt.minus(VAPID_REFRESH_MARGIN)));
+        if (meterRegistry != null) {
+            meterRegistry.counter("push.vapid.signed").increment();
+        }
+        return header;
+    }
+
+    /**
+     * Parses a {@code Retry-After} header, which is either a number of seconds or an HTTP date.
+     *
+     * @return the requested delay (never negative), or {@code null} if the value is absent or
+     *     unparsable
+     */
+    static Duration parseRetryAfter(String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            try {
+                Instant at =
+                        ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                .toInstant();
+                return at.isAfter(now) ? Duration.between(now, at) : Duration.ZERO;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
         }
     }
 
@@ -0,0 +1,43 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import de.felixhertweck.seatreservation.common.dto.SeatStatusDTO;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Response DTO for the seat status delta feed of a single event.
+ *
+ * <p>If {@code fullSnapshot} is {@code false}, {@code seatStatuses} only lists seats whose status
+ * changed after the requested version; a seat that became free again is listed with a {@code null}
+ * status. If it is {@code true} (no or an unknown version was requested), {@code seatStatuses} is
+ * the complete list of currently unavailable seats and replaces whatever the client held before.
+ *
+ * @param eventId event ID
+ * @param version version to pass as {@code sinceVersion} on the next request
+ * @param fullSnapshot whether {@code seatStatuses} is a full snapshot rather than a delta
+ * @param seatStatuses changed (or, for a full snapshot, all unavailable) seats
+ */
+@RegisterForReflection
+public record SeatStatusDeltaDTO(
+        UUID eventId, long version, boolean fullSnapshot, List<SeatStatusDTO> seatStatuses) {}
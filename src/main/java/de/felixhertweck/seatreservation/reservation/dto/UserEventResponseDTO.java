@@ -44,6 +44,8 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
  * @param reservationsAllowed reservations allowed for current user
  * @param status current status of event (ACTIVE, CANCELLED)
  * @param cancellationReason reason for cancellation if cancelled
+ * @param seatStatusVersion version of {@code seatStatuses}, to resume the seat status delta feed
+ *     from; present on detail requests
  */
 @RegisterForReflection
 public record UserEventResponseDTO(
@@ -58,7 +60,8 @@ public record UserEventResponseDTO(
         UUID locationId,
         Integer reservationsAllowed,
         EventStatus status,
-        String cancellationReason) {
+        String cancellationReason,
+        Long seatStatusVersion) {
 
     /**
      * Constructs UserEventResponseDTO for a given event, reservations allowed count, and
@@ -84,6 +87,7 @@ public record UserEventResponseDTO(
                 event.getEventLocation() == null ? null : event.getEventLocation().getId(),
                 reservationsAllowed,
                 event.getStatus(),
-                event.getCancellationReason());
+                event.getCancellationReason(),
+                null);
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * A user's place in the waiting room of an event.
+ *
+ * <p>While the waiting room is not active, {@code admitted} is {@code true} and no token is needed.
+ * Otherwise the user is either still queued ({@code position} counts from 1) or admitted, in which
+ * case {@code admissionToken} has to be sent in the {@code X-Waiting-Room-Token} header of cart
+ * writes and the reservation request until {@code admittedUntil}.
+ *
+ * @param eventId event ID
+ * @param active whether the waiting room of the event is currently active
+ * @param admitted whether the user may write to the event's cart
+ * @param position position in the queue, {@code 0} if admitted or not queued
+ * @param queueLength number of users currently waiting
+ * @param estimatedWaitSeconds estimated time until admission, {@code null} if unknown
+ * @param admissionToken signed admission token, {@code null} unless admitted in an active room
+ * @param admittedUntil when the admission expires, {@code null} unless admitted in an active room
+ */
+@RegisterForReflection
+public record WaitingRoomStatusDTO(
+        UUID eventId,
+        boolean active,
+        boolean admitted,
+        long position,
+        long queueLength,
+        Long estimatedWaitSeconds,
+        String admissionToken,
+        Instant admittedUntil) {}
@@ -24,15 +24,19 @@ import java.util.UUID;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 
 import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.reservation.dto.UserEventLocationResponseDTO;
 import de.felixhertweck.seatreservation.reservation.dto.UserEventLocationSummaryDTO;
 import de.felixhertweck.seatreservation.reservation.service.EventLocationService;
+import de.felixhertweck.seatreservation.reservation.service.LocationPayloadCache;
 import io.quarkus.security.identity.SecurityIdentity;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -82,7 +86,13 @@ public class EventLocationResource {
     /**
      * Retrieves full structural details (seats, markers, areas) for a single event location by ID.
      *
+     * <p>The response is pre-serialized and sent gzip-compressed to clients that accept it. It
+     * carries an {@code ETag}; a request whose {@code If-None-Match} contains it gets {@code 304
+     * Not Modified} without a body.
+     *
      * @param id the event location ID
+     * @param ifNoneMatch the entity tags the client already has, if any
+     * @param acceptEncoding the content codings the client accepts, if any
      * @return full event location detail DTO
      */
     @GET
@@ -92,14 +102,66 @@ public class EventLocationResource {
             description = "OK",
             content =
                     @Content(schema = @Schema(implementation = UserEventLocationResponseDTO.class)))
+    @APIResponse(
+            responseCode = "304",
+            description = "Not Modified: The client's copy (If-None-Match) is current")
     @APIResponse(responseCode = "401", description = "Unauthorized")
     @APIResponse(
             responseCode = "403",
             description = "Forbidden: User does not have access to this location")
     @APIResponse(responseCode = "404", description = "Not Found: Location not found")
-    public UserEventLocationResponseDTO getLocationById(@PathParam("id") UUID id) {
+    public Response getLocationById(
+            @PathParam("id") UUID id,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         String username = securityIdentity.getPrincipal().getName();
         LOG.debugf("Received GET request to /api/user/locations/%s", id);
-        return eventLocationService.getLocationByIdForCurrentUser(id, username);
+        LocationPayloadCache.Payload payload =
+                eventLocationService.getLocationPayloadForCurrentUser(id, username);
+
+        Response.ResponseBuilder response;
+        if (matches(ifNoneMatch, payload.etag())) {
+            response = Response.notModified();
+        } else if (payload.gzip() != null && acceptsGzip(acceptEncoding)) {
+            response = Response.ok(payload.gzip()).header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        } else {
+            response = Response.ok(payload.json());
+        }
+        // Private: the response depends on the user's access. No-cache: revalidate every time.
+        return response.type(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, payload.etag())
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            // Weak comparison: proxies that re-encode the body mark our tag as weak.
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 }
@@ -27,10 +27,12 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
 import de.felixhertweck.seatreservation.reservation.dto.UserEventResponseDTO;
 import de.felixhertweck.seatreservation.reservation.service.EventService;
 import de.felixhertweck.seatreservation.utils.UserSecurityContext;
@@ -100,4 +102,34 @@ public class EventResource {
         LOG.debugf("Received GET request to /api/user/events/%s", id);
         return eventService.getEventByIdForCurrentUser(id, currentUser);
     }
+
+    /**
+     * Retrieves the seat statuses of a single event, either as the changes since {@code
+     * sinceVersion} or, if it is omitted or no longer known, as a full snapshot. Clients keeping a
+     * seat map open should poll this instead of {@link #getEventById}, starting from the {@code
+     * seatStatusVersion} of the detail response.
+     *
+     * @param id the event ID
+     * @param sinceVersion the version the client already has (optional)
+     * @return the changed seat statuses and the version to resume from
+     */
+    @GET
+    @Path("/{id}/seat-statuses")
+    @APIResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(schema = @Schema(implementation = SeatStatusDeltaDTO.class)))
+    @APIResponse(responseCode = "401", description = "Unauthorized")
+    @APIResponse(
+            responseCode = "403",
+            description = "Forbidden: User does not have access to this event")
+    @APIResponse(responseCode = "404", description = "Not Found: Event not found")
+    public SeatStatusDeltaDTO getSeatStatuses(
+            @PathParam("id") UUID id, @QueryParam("sinceVersion") Long sinceVersion) {
+        User currentUser = userSecurityContext.getCurrentUserReference();
+        LOG.debugf(
+                "Received GET request to /api/user/events/%s/seat-statuses?sinceVersion=%s",
+                id, sinceVersion);
+        return eventService.getSeatStatusChangesForCurrentUser(id, currentUser, sinceVersion);
+    }
 }
@@ -20,6 +20,7 @@
 package de.felixhertweck.seatreservation.reservation.resource;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -30,6 +31,7 @@ import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
@@ -44,6 +46,7 @@ import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.reservation.dto.UserReservationResponseDTO;
 import de.felixhertweck.seatreservation.reservation.dto.UserReservationsRequestDTO;
 import de.felixhertweck.seatreservation.reservation.service.ReservationService;
+import de.felixhertweck.seatreservation.reservation.service.WaitingRoomService;
 import de.felixhertweck.seatreservation.utils.UserSecurityContext;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -61,6 +64,8 @@ public class ReservationResource {
 
     @Inject ReservationService reservationService;
 
+    @Inject WaitingRoomService waitingRoomService;
+
     @Inject UserSecurityContext userSecurityContext;
 
     @GET
@@ -133,13 +138,27 @@ public class ReservationResource {
             description = "Forbidden: Only authenticated users can access this resource")
     @APIResponse(responseCode = "404", description = "Not Found: Event or seat not found")
     @APIResponse(responseCode = "409", description = "Conflict: Seat already reserved or blocked")
+    @APIResponse(
+            responseCode = "429",
+            description =
+                    "Too Many Requests: The event's waiting room is active and you were not"
+                            + " admitted yet")
     public List<UserReservationResponseDTO> createReservation(
-            @Valid UserReservationsRequestDTO dto) {
+            @Valid UserReservationsRequestDTO dto,
+            @HeaderParam(WaitingRoomService.ADMISSION_HEADER) String admissionToken) {
+        // Checked before loading the user, so requests without admission don't reach the database.
+        waitingRoomService.assertAdmitted(
+                dto.getEventId(), userSecurityContext.getAuthenticatedUser().id(), admissionToken);
         User currentUser = userSecurityContext.getCurrentUser();
         LOG.debugf(
                 "Received POST request to /api/user/reservations for user ID: %s", currentUser.id);
-        List<UserReservationResponseDTO> createdReservations =
-                reservationService.createReservationForUser(dto, currentUser);
+        long started = System.nanoTime();
+        List<UserReservationResponseDTO> createdReservations;
+        try {
+            createdReservations = reservationService.createReservationForUser(dto, currentUser);
+        } finally {
+            waitingRoomService.recordBookingLatency(Duration.ofNanos(System.nanoTime() - started));
+        }
         LOG.debugf(
                 "Created %d reservations for user ID: %s",
                 createdReservations.size(), currentUser.id);
@@ -23,6 +23,7 @@ import java.util.UUID;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
@@ -32,6 +33,7 @@ import jakarta.ws.rs.core.MediaType;
 import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.reservation.dto.SeatCartEntryDTO;
 import de.felixhertweck.seatreservation.reservation.service.SeatCartService;
+import de.felixhertweck.seatreservation.reservation.service.WaitingRoomService;
 import de.felixhertweck.seatreservation.utils.UserSecurityContext;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -47,6 +49,8 @@ public class SeatCartResource {
 
     @Inject SeatCartService seatCartService;
 
+    @Inject WaitingRoomService waitingRoomService;
+
     @Inject UserSecurityContext userSecurityContext;
 
     @POST
@@ -68,12 +72,20 @@ public class SeatCartResource {
             responseCode = "409",
             description =
                     "Conflict: Seat is already reserved, blocked, or held by another user's cart")
+    @APIResponse(
+            responseCode = "429",
+            description =
+                    "Too Many Requests: The event's waiting room is active and you were not"
+                            + " admitted yet")
     public SeatCartEntryDTO addSeatToCart(
-            @PathParam("eventId") UUID eventId, @PathParam("seatId") UUID seatId) {
+            @PathParam("eventId") UUID eventId,
+            @PathParam("seatId") UUID seatId,
+            @HeaderParam(WaitingRoomService.ADMISSION_HEADER) String admissionToken) {
         UUID userId = userSecurityContext.getAuthenticatedUser().id();
         LOG.debugf(
                 "Received POST request to /api/user/seatcart/%s/%s for user ID: %s",
                 eventId, seatId, userId);
+        waitingRoomService.assertAdmitted(eventId, userId, admissionToken);
         return seatCartService.addSeatToCart(eventId, seatId, userId);
     }
 
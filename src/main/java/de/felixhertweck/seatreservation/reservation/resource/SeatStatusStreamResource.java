@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.resource;
+
+import java.util.UUID;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+
+import de.felixhertweck.seatreservation.common.exception.EventNotFoundException;
+import de.felixhertweck.seatreservation.model.entity.Roles;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
+import de.felixhertweck.seatreservation.reservation.service.EventService;
+import de.felixhertweck.seatreservation.reservation.service.SeatStatusStreamService;
+import de.felixhertweck.seatreservation.utils.UserSecurityContext;
+import io.quarkus.websockets.next.OnClose;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.PathParam;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import org.jboss.logging.Logger;
+
+/**
+ * Push alternative to polling {@code GET /api/user/events/{id}/seat-statuses}: sends a full seat
+ * status snapshot on connect, followed by batched {@link SeatStatusDeltaDTO} deltas whenever seats
+ * of the event change.
+ */
+@WebSocket(path = "/api/user/events/{eventId}/seat-statuses/stream")
+@RolesAllowed({Roles.USER})
+public class SeatStatusStreamResource {
+
+    private static final Logger LOG = Logger.getLogger(SeatStatusStreamResource.class);
+
+    @Inject EventService eventService;
+
+    @Inject SeatStatusStreamService seatStatusStreamService;
+
+    @Inject UserSecurityContext userSecurityContext;
+
+    /**
+     * Checks that the user may see the event, then subscribes the connection and sends the initial
+     * snapshot.
+     *
+     * @param connection the WebSocket connection
+     * @param eventIdStr the event ID from the path parameter as String
+     * @throws EventNotFoundException if the event is not found or not accessible by user
+     */
+    @OnOpen
+    public void onOpen(WebSocketConnection connection, @PathParam("eventId") String eventIdStr) {
+        UUID eventId = parseEventId(eventIdStr);
+        User currentUser = userSecurityContext.getCurrentUserReference();
+        LOG.debugf(
+                "Seat status stream opened for event %s by user ID: %s", eventId, currentUser.id);
+
+        SeatStatusDeltaDTO snapshot =
+                eventService.getSeatStatusChangesForCurrentUser(eventId, currentUser, null);
+        seatStatusStreamService.subscribe(eventId, currentUser.id, connection, snapshot);
+    }
+
+    /**
+     * Unsubscribes the connection.
+     *
+     * @param connection the WebSocket connection
+     * @param eventIdStr the event ID from the path parameter as String
+     */
+    @OnClose
+    public void onClose(WebSocketConnection connection, @PathParam("eventId") String eventIdStr) {
+        LOG.debugf("Seat status stream closed for event %s", eventIdStr);
+        seatStatusStreamService.unsubscribe(parseEventId(eventIdStr), connection);
+    }
+
+    private static UUID parseEventId(String eventIdStr) {
+        try {
+            return UUID.fromString(eventIdStr);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new EventNotFoundException("Event with id " + eventIdStr + " not found");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.resource;
+
+import java.util.UUID;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import de.felixhertweck.seatreservation.model.entity.Roles;
+import de.felixhertweck.seatreservation.reservation.dto.WaitingRoomStatusDTO;
+import de.felixhertweck.seatreservation.reservation.service.WaitingRoomService;
+import de.felixhertweck.seatreservation.utils.UserSecurityContext;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.jboss.logging.Logger;
+
+@Path("/api/user/events/{eventId}/waiting-room")
+@RolesAllowed({Roles.USER})
+@Produces(MediaType.APPLICATION_JSON)
+public class WaitingRoomResource {
+
+    private static final Logger LOG = Logger.getLogger(WaitingRoomResource.class);
+
+    @Inject WaitingRoomService waitingRoomService;
+
+    @Inject UserSecurityContext userSecurityContext;
+
+    /**
+     * Joins the event's waiting room. Clients poll {@link #getStatus} afterwards until they are
+     * admitted and send the returned admission token with their cart writes and reservations.
+     *
+     * @param eventId the event ID
+     * @return the user's place in the waiting room
+     */
+    @POST
+    @APIResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(schema = @Schema(implementation = WaitingRoomStatusDTO.class)))
+    @APIResponse(responseCode = "401", description = "Unauthorized")
+    @APIResponse(
+            responseCode = "403",
+            description = "Forbidden: Only authenticated users can access this resource")
+    public WaitingRoomStatusDTO join(@PathParam("eventId") UUID eventId) {
+        UUID userId = userSecurityContext.getAuthenticatedUser().id();
+        LOG.debugf(
+                "Received POST request to /api/user/events/%s/waiting-room for user ID: %s",
+                eventId, userId);
+        return waitingRoomService.join(eventId, userId);
+    }
+
+    /**
+     * Returns the user's place in the event's waiting room, including the admission token once the
+     * user was admitted.
+     *
+     * @param eventId the event ID
+     * @return the user's place in the waiting room
+     */
+    @GET
+    @APIResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(schema = @Schema(implementation = WaitingRoomStatusDTO.class)))
+    @APIResponse(responseCode = "401", description = "Unauthorized")
+    @APIResponse(
+            responseCode = "403",
+            description = "Forbidden: Only authenticated users can access this resource")
+    public WaitingRoomStatusDTO getStatus(@PathParam("eventId") UUID eventId) {
+        UUID userId = userSecurityContext.getAuthenticatedUser().id();
+        LOG.debugf(
+                "Received GET request to /api/user/events/%s/waiting-room for user ID: %s",
+                eventId, userId);
+        return waitingRoomService.getStatus(eventId, userId);
+    }
+}
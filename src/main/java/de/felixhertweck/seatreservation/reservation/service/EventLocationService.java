@@ -20,6 +20,7 @@
 package de.felixhertweck.seatreservation.reservation.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -57,6 +58,7 @@ public class EventLocationService {
     @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
     @Inject ReservationRepository reservationRepository;
     @Inject SeatmapCacheService seatmapCacheService;
+    @Inject LocationPayloadCache locationPayloadCache;
 
     /**
      * Retrieves all event locations for which the specified user has event allowances or active
@@ -89,18 +91,32 @@ public class EventLocationService {
     }
 
     /**
-     * Retrieves detail for a single event location by ID if the specified user has access to it.
+     * Retrieves detail for a single event location by ID if the specified user has access to it,
+     * already serialized and compressed. The payload is only rebuilt after the location or its
+     * geometry changed.
      *
      * @param locationId the ID of the event location to retrieve
      * @param username the username of the requesting user
-     * @return the detail DTO of the event location
+     * @return the serialized detail DTO of the event location
      * @throws UserNotFoundException if the user is not found
      * @throws EventLocationNotFoundException if the event location is not found
      * @throws AccessDeniedException if the user is not authorized to access the location
      */
-    public UserEventLocationResponseDTO getLocationByIdForCurrentUser(
+    public LocationPayloadCache.Payload getLocationPayloadForCurrentUser(
             UUID locationId, String username)
             throws UserNotFoundException, EventLocationNotFoundException, AccessDeniedException {
+        EventLocation location = findAccessibleLocation(locationId, username);
+        List<SeatDTO> seats = seatmapCacheService.getSeatsByLocation(locationId);
+        List<EventLocationMakerDTO> markers = seatmapCacheService.getMarkersByLocation(locationId);
+        List<AreaResponseDTO> areaResponses = seatmapCacheService.getAreasByLocation(locationId);
+        return locationPayloadCache.get(
+                locationId,
+                Arrays.asList(
+                        location.getName(), location.getAddress(), seats, markers, areaResponses),
+                () -> toResponse(location, seats, markers, areaResponses));
+    }
+
+    private EventLocation findAccessibleLocation(UUID locationId, String username) {
         List<UserEventLocationSummaryDTO> allowedLocations = getLocationsForCurrentUser(username);
         boolean hasAccess = allowedLocations.stream().anyMatch(loc -> loc.id().equals(locationId));
 
@@ -113,21 +129,20 @@ public class EventLocationService {
             throw new AccessDeniedException("User is not authorized to access this location");
         }
 
-        EventLocation location =
-                eventLocationRepository
-                        .findByIdOptional(locationId)
-                        .orElseThrow(
-                                () ->
-                                        new EventLocationNotFoundException(
-                                                "EventLocation with id "
-                                                        + locationId
-                                                        + " not found"));
+        return eventLocationRepository
+                .findByIdOptional(locationId)
+                .orElseThrow(
+                        () ->
+                                new EventLocationNotFoundException(
+                                        "EventLocation with id " + locationId + " not found"));
+    }
 
-        List<SeatDTO> seats = seatmapCacheService.getSeatsByLocation(locationId);
-        List<EventLocationMakerDTO> markers = seatmapCacheService.getMarkersByLocation(locationId);
-        List<AreaResponseDTO> areaResponses = seatmapCacheService.getAreasByLocation(locationId);
+    private UserEventLocationResponseDTO toResponse(
+            EventLocation location,
+            List<SeatDTO> seats,
+            List<EventLocationMakerDTO> markers,
+            List<AreaResponseDTO> areaResponses) {
         List<AreaDTO> areas = buildAreaDtos(areaResponses, seats);
-
         return new UserEventLocationResponseDTO(
                 location.getId(), location.getName(), location.getAddress(), seats, markers, areas);
     }
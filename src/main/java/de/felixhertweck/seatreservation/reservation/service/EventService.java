@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -40,6 +39,7 @@ import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepository;
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
 import de.felixhertweck.seatreservation.reservation.dto.UserEventResponseDTO;
 import org.jboss.logging.Logger;
 
@@ -51,6 +51,8 @@ public class EventService {
     @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
     @Inject ReservationRepository reservationRepository;
     @Inject SeatCartService seatCartService;
+    @Inject SeatCartAccessGrantStore accessGrantStore;
+    @Inject SeatStatusIndex seatStatusIndex;
 
     /**
      * Retrieves lightweight event metadata summaries for all events accessible to the current user.
@@ -114,15 +116,68 @@ public class EventService {
             throws EventNotFoundException {
         LOG.debugf("Retrieving event detail for event ID %s, user ID %s", eventId, user.id);
 
-        Event event = null;
-        int allowedCount = 0;
+        EventUserAllowance allowance =
+                eventUserAllowanceRepository.findByUserAndEventId(user, eventId).orElse(null);
+        Event event = findAccessibleEvent(eventId, user, allowance);
+        int allowedCount = allowance != null ? allowance.getReservationsAllowedCount() : 0;
 
-        Optional<EventUserAllowance> allowanceOpt =
-                eventUserAllowanceRepository.findByUserAndEventId(user, eventId);
-        if (allowanceOpt.isPresent()) {
-            EventUserAllowance allowance = allowanceOpt.get();
+        // Read before the reservations, so a client resuming the delta feed from this version can
+        // at worst see a change twice, never miss one.
+        long seatStatusVersion = seatStatusIndex.currentVersion(eventId);
+
+        List<Reservation> reservations =
+                reservationRepository.findByEventIdsWithSeat(Set.of(eventId));
+
+        UserEventResponseDTO dtoWithStatuses =
+                new UserEventResponseDTO(event, allowedCount, reservations);
+
+        return withPendingSeatStatuses(dtoWithStatuses, user.id, seatStatusVersion);
+    }
+
+    /**
+     * Retrieves the seat statuses of a single event from the in-memory {@link SeatStatusIndex},
+     * either as the changes since {@code sinceVersion} or as a full snapshot. Meant for clients
+     * that keep an event's seat map open and poll it: unlike {@link #getEventByIdForCurrentUser}
+     * this does not load the event's reservations or scan its seat cart index.
+     *
+     * <p>If the user still holds a seat-cart access grant for the event (minted by the event
+     * endpoints and refreshed on every cart write), access is taken from that grant without a
+     * Postgres read; otherwise it is checked exactly like {@link #getEventByIdForCurrentUser}.
+     *
+     * @param eventId the event ID
+     * @param user reference to current user
+     * @param sinceVersion the version the client already has, or {@code null} for a full snapshot
+     * @return the changed seat statuses and the version to resume from
+     * @throws EventNotFoundException if the event is not found or not accessible by user
+     */
+    @Transactional
+    public SeatStatusDeltaDTO getSeatStatusChangesForCurrentUser(
+            UUID eventId, User user, Long sinceVersion) throws EventNotFoundException {
+        LOG.debugf(
+                "Retrieving seat status changes for event ID %s since version %s, user ID %s",
+                eventId, sinceVersion, user.id);
+
+        if (accessGrantStore.get(eventId, user.id).isEmpty()) {
+            findAccessibleEvent(
+                    eventId,
+                    user,
+                    eventUserAllowanceRepository.findByUserAndEventId(user, eventId).orElse(null));
+        }
+
+        return seatStatusIndex.getChangesSince(eventId, user.id, sinceVersion);
+    }
+
+    /**
+     * Resolves the event if the user may see it: through their allowance (also re-minting their
+     * seat-cart access grant), or through a non-blocked reservation of theirs.
+     *
+     * @throws EventNotFoundException if the event is not found or not accessible by user
+     */
+    private Event findAccessibleEvent(UUID eventId, User user, EventUserAllowance allowance)
+            throws EventNotFoundException {
+        Event event;
+        if (allowance != null) {
             event = allowance.getEvent();
-            allowedCount = allowance.getReservationsAllowedCount();
             seatCartService.grantAccess(
                     event.getId(), user.id, allowance.getReservationsAllowedCount());
         } else {
@@ -139,14 +194,7 @@ public class EventService {
         if (event == null) {
             throw new EventNotFoundException("Event with id " + eventId + " not found");
         }
-
-        List<Reservation> reservations =
-                reservationRepository.findByEventIdsWithSeat(Set.of(eventId));
-
-        UserEventResponseDTO dtoWithStatuses =
-                new UserEventResponseDTO(event, allowedCount, reservations);
-
-        return withPendingSeatStatuses(dtoWithStatuses, user.id);
+        return event;
     }
 
     /**
@@ -157,11 +205,9 @@ public class EventService {
      * requesting user holds themselves are excluded - those are the user's own in-progress
      * selection, not something blocking them, so they must stay selectable.
      */
-    private UserEventResponseDTO withPendingSeatStatuses(UserEventResponseDTO dto, UUID userId) {
+    private UserEventResponseDTO withPendingSeatStatuses(
+            UserEventResponseDTO dto, UUID userId, long seatStatusVersion) {
         Set<UUID> pendingSeatIds = seatCartService.findPendingSeatIds(dto.id(), userId);
-        if (pendingSeatIds.isEmpty()) {
-            return dto;
-        }
 
         List<SeatStatusDTO> seatStatuses =
                 dto.seatStatuses() == null
@@ -187,6 +233,7 @@ public class EventService {
                 dto.locationId(),
                 dto.reservationsAllowed(),
                 dto.status(),
-                dto.cancellationReason());
+                dto.cancellationReason(),
+                seatStatusVersion);
     }
 }
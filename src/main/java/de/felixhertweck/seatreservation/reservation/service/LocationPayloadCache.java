@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Serialized and compressed seat map responses ({@code GET /api/user/locations/{id}}), so the
+ * thousands of seats of a location are neither regrouped nor re-serialized on every request.
+ *
+ * <p>A payload is kept together with the data it was built from: the location's name and address
+ * and the geometry lists of {@link
+ * de.felixhertweck.seatreservation.management.service.SeatmapCacheService}. Those lists are the
+ * same instances until the geometry is invalidated, so comparing them is cheap and a change to the
+ * geometry rebuilds the payload on its next request, on every instance. At most {@code
+ * seatmap-cache.payload.max-entries} locations are kept (least recently used first out).
+ */
+@ApplicationScoped
+public class LocationPayloadCache {
+
+    /**
+     * A serialized response.
+     *
+     * @param etag the quoted entity tag, derived from the JSON
+     * @param json the JSON body
+     * @param gzip the gzip-compressed JSON, or {@code null} if compressing does not make it smaller
+     */
+    public record Payload(String etag, byte[] json, byte[] gzip) {}
+
+    private record Entry(List<?> sources, Payload payload) {}
+
+    @Inject ObjectMapper objectMapper;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "seatmap-cache.payload.max-entries", defaultValue = "64")
+    int maxEntries;
+
+    private final Map<UUID, Entry> payloads =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+
+    private Counter built;
+
+    @PostConstruct
+    void init() {
+        if (meterRegistry != null) {
+            built =
+                    Counter.builder("seatmap.payload.built")
+                            .description("Seat map responses serialized and compressed")
+                            .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Returns a location's payload, building it if there is none or it was built from other data.
+     *
+     * @param locationId the location ID
+     * @param sources everything the response is built from; compared with {@code equals}, which for
+     *     the cached geometry lists is an identity check until they are invalidated
+     * @param response builds the response object to serialize
+     * @return the payload
+     */
+    public Payload get(UUID locationId, List<?> sources, Supplier<?> response) {
+        synchronized (payloads) {
+            Entry entry = payloads.get(locationId);
+            if (entry != null && entry.sources().equals(sources)) {
+                return entry.payload();
+            }
+        }
+        Payload payload = build(response.get());
+        if (maxEntries > 0) {
+            synchronized (payloads) {
+                payloads.put(locationId, new Entry(sources, payload));
+            }
+        }
+        return payload;
+    }
+
+    private Payload build(Object response) {
+        if (built != null) {
+            built.increment();
+        }
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize seat map", e);
+        }
+        byte[] gzip = gzip(json);
+        return new Payload(etag(json), json, gzip.length < json.length ? gzip : null);
+    }
+
+    static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            // 128 bits are plenty to tell two versions of one location apart.
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        // Built once per geometry change and then served many times: worth the best compression.
+        try (GZIPOutputStream gzip =
+                new GZIPOutputStream(out) {
+                    {
+                        def.setLevel(Deflater.BEST_COMPRESSION);
+                    }
+                }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress seat map", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -69,6 +69,7 @@ public class ReservationService {
     @Inject SeatRepository seatRepository;
     @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
     @Inject SeatCartService seatCartService;
+    @Inject SeatStatusIndex seatStatusIndex;
     @Inject CheckInTokenService checkInTokenService;
     @Inject jakarta.enterprise.event.Event<ReservationCreatedEvent> reservationCreatedBus;
     @Inject jakarta.enterprise.event.Event<ReservationCancelledEvent> reservationCancelledBus;
@@ -259,32 +260,10 @@ public class ReservationService {
         }
         LOG.debugf("Event ID: %s is still bookable.", event.id);
 
-        // Check if seats are already reserved
-        List<Reservation> existingReservations =
-                reservationRepository.findByEventIdAndSeatIds(
-                        event.id, new ArrayList<>(dto.getSeatIds()));
-
-        Set<UUID> reservedSeatIds = new java.util.HashSet<>();
-        Set<UUID> blockedSeatIds = new java.util.HashSet<>();
-
-        for (Reservation r : existingReservations) {
-            if (r.getStatus() == ReservationStatus.RESERVED) {
-                reservedSeatIds.add(r.getSeat().id);
-            } else if (r.getStatus() == ReservationStatus.BLOCKED) {
-                blockedSeatIds.add(r.getSeat().id);
-            }
-        }
-
         CheckInToken checkInToken = checkInTokenService.getOrCreateForUser(currentUser, event);
         List<Reservation> newReservations = new ArrayList<>();
         for (Seat seat : seats) {
-            if (reservedSeatIds.contains(seat.id)) {
-                LOG.warnf("Seat ID: %s is already reserved for event ID: %s.", seat.id, event.id);
-                throw new SeatAlreadyReservedException("One or more seats are already reserved");
-            } else if (blockedSeatIds.contains(seat.id)) {
-                LOG.warnf("Seat ID: %s is blocked for event ID: %s.", seat.id, event.id);
-                throw new SeatBlockedException("One or more seats are blocked");
-            } else if (seatCartService.isHeldByAnotherUser(event.id, seat.id, currentUser.id)) {
+            if (seatCartService.isHeldByAnotherUser(event.id, seat.id, currentUser.id)) {
                 LOG.warnf(
                         "Seat ID: %s for event ID: %s is held by another user's cart.",
                         seat.id, event.id);
@@ -302,17 +281,21 @@ public class ReservationService {
             LOG.debugf("Prepared new reservation for seat ID: %s.", seat.id);
         }
 
-        // Persist the new reservations
-        reservationRepository.persistAll(newReservations);
+        // Persist the new reservations; seats that are already taken are skipped by the insert
+        // and only looked up when there are any.
+        ReservationRepository.InsertResult insertResult =
+                reservationRepository.insertAll(newReservations);
+        if (insertResult.hasConflicts()) {
+            throw seatConflict(event.id, insertResult.conflictingSeatIds());
+        }
+        newReservations = insertResult.inserted();
         LOG.infof(
                 "Persisted %d new reservations for user ID: %s and event ID: %s.",
                 newReservations.size(), currentUser.id, event.id);
-        LOG.debugf(
-                "Persisted %d new reservations for user ID: %s and event ID: %s.",
-                newReservations.size(), currentUser.id, event.id);
 
         // Release any Redis cart holds for these seats now that they're actually reserved.
         seatCartService.releaseSeats(event.id, dto.getSeatIds());
+        seatStatusIndex.recordPersisted(event.id, dto.getSeatIds(), ReservationStatus.RESERVED);
 
         // Update the user's allowance
         eventUserAllowance.setReservationsAllowedCount(
@@ -333,6 +316,24 @@ public class ReservationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Builds the exception for seats the reservation insert skipped because they already have a
+     * reservation. Throwing it rolls back the seats of the same request that were inserted.
+     */
+    private RuntimeException seatConflict(UUID eventId, Set<UUID> conflictingSeatIds) {
+        List<Reservation> existing =
+                reservationRepository.findByEventIdAndSeatIds(
+                        eventId, new ArrayList<>(conflictingSeatIds));
+        if (existing.stream().anyMatch(r -> r.getStatus() == ReservationStatus.BLOCKED)
+                && existing.stream().noneMatch(r -> r.getStatus() == ReservationStatus.RESERVED)) {
+            LOG.warnf("Seat IDs: %s are blocked for event ID: %s.", conflictingSeatIds, eventId);
+            return new SeatBlockedException("One or more seats are blocked");
+        }
+        LOG.warnf(
+                "Seat IDs: %s are already reserved for event ID: %s.", conflictingSeatIds, eventId);
+        return new SeatAlreadyReservedException("One or more seats are already reserved");
+    }
+
     /**
      * Deletes reservations with the given IDs for the specified user. Ensures that the user is
      * authorized to delete each reservation and updates the user's allowance accordingly. Sends a
@@ -423,6 +424,8 @@ public class ReservationService {
             // Delete reservations for the current event in a single batch query
             List<UUID> reservationIdsToDelete = entry.getValue().stream().map(r -> r.id).toList();
             reservationRepository.deleteByIds(reservationIdsToDelete);
+            List<UUID> freedSeatIds = entry.getValue().stream().map(r -> r.getSeat().id).toList();
+            seatStatusIndex.recordPersisted(entry.getKey(), freedSeatIds, null);
             LOG.infof(
                     "Deleted reservations with IDs %s for user ID: %s.",
                     reservationIdsToDelete, currentUser.id);
@@ -32,8 +32,8 @@ import io.quarkus.redis.datasource.value.ValueCommands;
 
 /**
  * Thin wrapper around the single Redis key that records a user's seat-cart access grant for an
- * event ({@code seatcart:access:<eventId>:<userId>} -> their allowed seat count). Holds no business
- * logic (quota checks, self-healing on expiry, ...) - that stays in {@link SeatCartService}.
+ * event ({@link SeatCartKeys#accessGrant} -> their allowed seat count). Holds no business logic
+ * (quota checks, self-healing on expiry, ...) - that stays in {@link SeatCartService}.
  *
  * <p>Kept as its own bean (rather than folded into {@link SeatCartService}) so {@link
  * de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepository} can invalidate a
@@ -44,13 +44,11 @@ import io.quarkus.redis.datasource.value.ValueCommands;
 @ApplicationScoped
 public class SeatCartAccessGrantStore {
 
-    private static final String ACCESS_CACHE_PREFIX = "seatcart:access:";
-
     private final ValueCommands<String, String> valueCommands;
     private final KeyCommands<String> keyCommands;
 
     @Inject
-    public SeatCartAccessGrantStore(RedisDataSource redisDataSource) {
+    public SeatCartAccessGrantStore(@SeatCartRedis RedisDataSource redisDataSource) {
         this.valueCommands = redisDataSource.value(String.class);
         this.keyCommands = redisDataSource.key(String.class);
     }
@@ -78,6 +76,6 @@ public class SeatCartAccessGrantStore {
     }
 
     private static String key(UUID eventId, UUID userId) {
-        return ACCESS_CACHE_PREFIX + eventId + ":" + userId;
+        return SeatCartKeys.accessGrant(eventId, userId);
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import de.felixhertweck.seatreservation.common.events.SeatHoldExpiredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands.RedisSubscriber;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.mutiny.redis.client.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Cleans up after seat cart holds as soon as Redis expires them, instead of leaving their index
+ * entries until the next read prunes them, and fires a {@link SeatHoldExpiredEvent} for each freed
+ * seat.
+ *
+ * <p>Listens to Redis' {@code expired} keyevent notifications, which require {@code
+ * notify-keyspace-events} to contain {@code E} and {@code x}; with {@code
+ * seatcart.expiry-listener.configure-redis} the listener adds them itself on startup. Every
+ * instance receives every notification. The cleanup ({@link SeatCartService#cleanUpExpiredHold}) is
+ * idempotent, so only the first instance actually removes anything, while each instance fires the
+ * event for its own observers. Notifications are fire-and-forget: an expiry missed while an
+ * instance was down or disconnected is still pruned lazily by the index reads. On a Redis Cluster
+ * notifications are only published on the node owning the key, so holds on the other nodes rely on
+ * that lazy pruning as well.
+ *
+ * <p>Records {@code seatcart.hold.expiry.lag}, the time from a hold's scheduled expiry to its
+ * cleanup - Redis expires keys lazily or in sampled background cycles, so this can grow under load.
+ */
+@ApplicationScoped
+public class SeatCartExpiryListener {
+
+    private static final Logger LOG = Logger.getLogger(SeatCartExpiryListener.class);
+
+    static final String EXPIRED_CHANNEL_PATTERN = "__keyevent@*__:expired";
+    private static final String NOTIFY_CONFIG = "notify-keyspace-events";
+
+    @ConfigProperty(name = "seatcart.expiry-listener.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "seatcart.expiry-listener.configure-redis", defaultValue = "true")
+    boolean configureRedis;
+
+    private final RedisDataSource redisDataSource;
+    private final SeatCartService seatCartService;
+    private final Event<SeatHoldExpiredEvent> seatHoldExpiredBus;
+    private final Counter expiredCounter;
+    private final Timer expiryLag;
+
+    /** Single thread running the cleanups, off the Redis connection's event loop. */
+    private ExecutorService dispatcher;
+
+    private RedisSubscriber subscriber;
+
+    @Inject
+    public SeatCartExpiryListener(
+            @SeatCartRedis RedisDataSource redisDataSource,
+            SeatCartService seatCartService,
+            Event<SeatHoldExpiredEvent> seatHoldExpiredBus,
+            MeterRegistry meterRegistry) {
+        this.redisDataSource = redisDataSource;
+        this.seatCartService = seatCartService;
+        this.seatHoldExpiredBus = seatHoldExpiredBus;
+        if (meterRegistry != null) {
+            this.expiredCounter =
+                    Counter.builder("seatcart.holds.expired")
+                            .description("Expired seat cart holds cleaned up by this instance")
+                            .register(meterRegistry);
+            this.expiryLag =
+                    Timer.builder("seatcart.hold.expiry.lag")
+                            .description("Time from a seat hold's scheduled expiry to its cleanup")
+                            .register(meterRegistry);
+        } else {
+            this.expiredCounter = null;
+            this.expiryLag = null;
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            LOG.debug("Seat cart expiry listener is disabled.");
+            return;
+        }
+        dispatcher =
+                Executors.newSingleThreadExecutor(
+                        Thread.ofPlatform().name("seatcart-expiry").daemon().factory());
+        if (configureRedis) {
+            enableExpiryNotifications();
+        }
+        try {
+            subscriber =
+                    redisDataSource
+                            .pubsub(String.class)
+                            .subscribeToPattern(EXPIRED_CHANNEL_PATTERN, this::onExpiredKey);
+            LOG.debug("Listening for expired seat cart holds.");
+        } catch (RuntimeException e) {
+            LOG.warn(
+                    "Failed to subscribe to Redis expiry notifications; expired seat cart holds"
+                            + " are only pruned when read.",
+                    e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (subscriber != null) {
+            try {
+                subscriber.unsubscribe();
+            } catch (RuntimeException e) {
+                LOG.debugf(e, "Failed to unsubscribe from Redis expiry notifications");
+            }
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void onExpiredKey(String key) {
+        if (key.startsWith(SeatCartKeys.PREFIX)) {
+            dispatcher.execute(() -> handle(key));
+        }
+    }
+
+    /**
+     * Cleans up after one expired key and fires the event if it was a seat hold that is still free.
+     *
+     * @param key the expired key
+     * @return whether a {@link SeatHoldExpiredEvent} was fired
+     */
+    boolean handle(String key) {
+        UUID[] ids = SeatCartKeys.parseHold(key);
+        if (ids == null) {
+            return false; // An access grant or another non-hold key
+        }
+        UUID eventId = ids[0];
+        UUID seatId = ids[1];
+        try {
+            SeatCartService.ExpiredHold expired =
+                    seatCartService.cleanUpExpiredHold(eventId, seatId);
+            if (expired == null) {
+                LOG.debugf(
+                        "Seat %s of event %s was held again before its cleanup", seatId, eventId);
+                return false;
+            }
+            if (expired.cleanedUp()) {
+                if (expiredCounter != null) {
+                    expiredCounter.increment();
+                }
+                if (expiryLag != null && expired.expiresAtMillis() > 0) {
+                    long lagMillis = System.currentTimeMillis() - expired.expiresAtMillis();
+                    expiryLag.record(Duration.ofMillis(Math.max(0, lagMillis)));
+                }
+            }
+            LOG.debugf("Seat cart hold on seat %s of event %s expired", seatId, eventId);
+            seatHoldExpiredBus.fire(new SeatHoldExpiredEvent(eventId, seatId, expired.userId()));
+            return true;
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Failed to clean up expired hold on seat %s of event %s", seatId, eventId);
+            return false;
+        }
+    }
+
+    /**
+     * Adds the {@code E} and {@code x} flags to {@code notify-keyspace-events}, keeping the others.
+     * Managed Redis services often forbid {@code CONFIG}; there the flags have to be set through
+     * the provider instead.
+     */
+    private void enableExpiryNotifications() {
+        try {
+            Response reply = redisDataSource.execute("CONFIG", "GET", NOTIFY_CONFIG);
+            // RESP2 replies with a [name, value] array, RESP3 with a map.
+            Response value = reply.size() == 2 ? reply.get(1) : reply.get(NOTIFY_CONFIG);
+            String flags = value != null ? value.toString() : "";
+            String wanted = flags;
+            if (wanted.indexOf('E') < 0) {
+                wanted += "E";
+            }
+            if (wanted.indexOf('x') < 0 && wanted.indexOf('A') < 0) {
+                wanted += "x";
+            }
+            if (!wanted.equals(flags)) {
+                redisDataSource.execute("CONFIG", "SET", NOTIFY_CONFIG, wanted);
+                LOG.infof("Set Redis %s from '%s' to '%s'.", NOTIFY_CONFIG, flags, wanted);
+            }
+        } catch (RuntimeException e) {
+            LOG.warnf(
+                    e,
+                    "Could not enable Redis expiry notifications; make sure %s contains 'Ex'.",
+                    NOTIFY_CONFIG);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.keys.KeyScanArgs;
+import io.quarkus.redis.datasource.keys.KeyScanCursor;
+import io.quarkus.redis.datasource.set.SetCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.scheduler.Scheduled;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Moves seat cart keys of the layout used before {@link SeatCartKeys} ({@code
+ * seatcart:<eventId>:<seatId>}, {@code seatcart:access:<eventId>:<userId>}, {@code
+ * seatcart:idx:<eventId>}, {@code seatcart:useridx:<eventId>:<userId>}) to the hash-tagged layout,
+ * while the application keeps running.
+ *
+ * <p>Holds and access grants are copied with their remaining TTL (a hold already taken in the new
+ * layout wins), the new indexes are rebuilt from the copied holds, and the old keys are deleted.
+ * The old keys live on the default Redis client, the new ones on the {@link SeatCartRedis} one;
+ * both may be the same. Sweeps repeat every {@code seatcart.legacy-migration.interval}, so holds
+ * written by instances still running the previous version during a rolling deploy are picked up as
+ * well. Once a sweep finds nothing after the longest cart TTL has passed since startup, there can't
+ * be any left and the sweeps stop.
+ */
+@ApplicationScoped
+public class SeatCartKeyMigration {
+
+    private static final Logger LOG = Logger.getLogger(SeatCartKeyMigration.class);
+    private static final String LEGACY_INDEX_PREFIX = SeatCartKeys.PREFIX + "idx:";
+    private static final String LEGACY_USER_INDEX_PREFIX = SeatCartKeys.PREFIX + "useridx:";
+    private static final String LEGACY_ACCESS_PREFIX = SeatCartKeys.PREFIX + "access:";
+    private static final int SCAN_COUNT = 500;
+
+    @ConfigProperty(name = "seatcart.legacy-migration.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "seatcart.ttl-seconds")
+    long ttlSeconds;
+
+    @ConfigProperty(name = "seatcart.access-grant-ttl-buffer-seconds")
+    long accessGrantTtlBufferSeconds;
+
+    private final Instant startedAt = Instant.now();
+    private volatile boolean finished;
+
+    private final KeyCommands<String> legacyKeys;
+    private final ValueCommands<String, String> legacyValues;
+    private final ValueCommands<String, String> valueCommands;
+    private final SetCommands<String, String> setCommands;
+    private final HashCommands<String, String, String> hashCommands;
+
+    @Inject
+    public SeatCartKeyMigration(
+            RedisDataSource legacyDataSource, @SeatCartRedis RedisDataSource redisDataSource) {
+        this.legacyKeys = legacyDataSource.key(String.class);
+        this.legacyValues = legacyDataSource.value(String.class);
+        this.valueCommands = redisDataSource.value(String.class);
+        this.setCommands = redisDataSource.set(String.class);
+        this.hashCommands = redisDataSource.hash(String.class);
+    }
+
+    @Scheduled(
+            every = "${seatcart.legacy-migration.interval:1m}",
+            delay = 5,
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledSweep() {
+        if (!enabled || finished) {
+            return;
+        }
+        int moved = sweep();
+        Duration maxTtl = Duration.ofSeconds(ttlSeconds + accessGrantTtlBufferSeconds);
+        if (moved == 0 && Instant.now().isAfter(startedAt.plus(maxTtl))) {
+            finished = true;
+            LOG.info("No seat cart keys of the old layout left; migration finished.");
+        }
+    }
+
+    /**
+     * Moves every old-layout key found by one {@code SCAN} pass.
+     *
+     * @return the number of old-layout keys handled
+     */
+    int sweep() {
+        int moved = 0;
+        KeyScanCursor<String> cursor =
+                legacyKeys.scan(
+                        new KeyScanArgs().match(SeatCartKeys.PREFIX + "*").count(SCAN_COUNT));
+        while (cursor.hasNext()) {
+            for (String key : cursor.next()) {
+                try {
+                    if (migrate(key)) {
+                        moved++;
+                    }
+                } catch (IllegalArgumentException e) {
+                    LOG.debugf("Skipping unrecognized seat cart key %s", key);
+                }
+            }
+        }
+        if (moved > 0) {
+            LOG.infof("Moved %d seat cart keys to the hash-tagged layout.", moved);
+        }
+        return moved;
+    }
+
+    private boolean migrate(String key) {
+        if (key.indexOf('{') >= 0) {
+            return false; // Already the new layout
+        }
+        if (key.startsWith(LEGACY_INDEX_PREFIX) || key.startsWith(LEGACY_USER_INDEX_PREFIX)) {
+            // Rebuilt from the holds they point to, which are moved on their own.
+            legacyKeys.del(key);
+        } else if (key.startsWith(LEGACY_ACCESS_PREFIX)) {
+            UUID[] ids = parseIds(key, LEGACY_ACCESS_PREFIX);
+            moveAccessGrant(key, ids[0], ids[1]);
+        } else {
+            UUID[] ids = parseIds(key, SeatCartKeys.PREFIX);
+            moveHold(key, ids[0], ids[1]);
+        }
+        return true;
+    }
+
+    /** Parses the {@code <uuid>:<uuid>} suffix of an old-layout key. */
+    private static UUID[] parseIds(String key, String prefix) {
+        String[] parts = key.substring(prefix.length()).split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Unexpected seat cart key: " + key);
+        }
+        return new UUID[] {UUID.fromString(parts[0]), UUID.fromString(parts[1])};
+    }
+
+    private void moveHold(String key, UUID eventId, UUID seatId) {
+        String owner = legacyValues.get(key);
+        long ttlMillis = legacyKeys.pttl(key);
+        if (owner != null && ttlMillis > 0) {
+            String current =
+                    valueCommands.setGet(
+                            SeatCartKeys.hold(eventId, seatId),
+                            owner,
+                            new SetArgs().nx().px(ttlMillis));
+            if (current == null || current.equals(owner)) {
+                setCommands.sadd(SeatCartKeys.index(eventId), seatId.toString());
+                setCommands.sadd(
+                        SeatCartKeys.userIndex(eventId, UUID.fromString(owner)), seatId.toString());
+                hashCommands.hset(
+                        SeatCartKeys.holders(eventId),
+                        seatId.toString(),
+                        SeatCartKeys.holder(
+                                UUID.fromString(owner), System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        legacyKeys.del(key);
+    }
+
+    private void moveAccessGrant(String key, UUID eventId, UUID userId) {
+        String allowedCount = legacyValues.get(key);
+        long ttlMillis = legacyKeys.pttl(key);
+        if (allowedCount != null && ttlMillis > 0) {
+            valueCommands.set(
+                    SeatCartKeys.accessGrant(eventId, userId),
+                    allowedCount,
+                    new SetArgs().nx().px(ttlMillis));
+        }
+        legacyKeys.del(key);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.util.UUID;
+
+/**
+ * Redis key layout of the seat cart. Every key of an event carries the event ID as a hash tag
+ * ({@code seatcart:{<eventId>}:...}), so all of them map to the same Redis Cluster hash slot and
+ * multi-key commands and scripts over one event's cart also work against a sharded deployment:
+ *
+ * <ul>
+ *   <li>{@code seatcart:{<eventId>}:seat:<seatId>} - a seat hold, value is the holding user's ID
+ *   <li>{@code seatcart:{<eventId>}:idx} - set of every held seat ID of the event
+ *   <li>{@code seatcart:{<eventId>}:useridx:<userId>} - set of the seat IDs held by one user
+ *   <li>{@code seatcart:{<eventId>}:holders} - hash of held seat ID -> {@code <userId>:<expiry
+ *       epoch millis>}, so a hold's indexes can still be cleaned up once the hold key expired
+ *   <li>{@code seatcart:{<eventId>}:access:<userId>} - a user's access grant (allowed seat count)
+ * </ul>
+ *
+ * <p>Keys written before this layout ({@code seatcart:<eventId>:<seatId>}, {@code
+ * seatcart:idx:<eventId>}, ...) are moved over by {@link SeatCartKeyMigration}.
+ */
+final class SeatCartKeys {
+
+    static final String PREFIX = "seatcart:";
+
+    private SeatCartKeys() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /** Common prefix of every key of the event, including the hash tag. */
+    static String eventPrefix(UUID eventId) {
+        return PREFIX + "{" + eventId + "}:";
+    }
+
+    /** Prefix of the event's seat hold keys; the seat ID completes it. */
+    static String holdPrefix(UUID eventId) {
+        return eventPrefix(eventId) + "seat:";
+    }
+
+    static String hold(UUID eventId, UUID seatId) {
+        return holdPrefix(eventId) + seatId;
+    }
+
+    static String index(UUID eventId) {
+        return eventPrefix(eventId) + "idx";
+    }
+
+    /** Prefix of the event's user index keys; the user ID completes it. */
+    static String userIndexPrefix(UUID eventId) {
+        return eventPrefix(eventId) + "useridx:";
+    }
+
+    static String userIndex(UUID eventId, UUID userId) {
+        return userIndexPrefix(eventId) + userId;
+    }
+
+    static String holders(UUID eventId) {
+        return eventPrefix(eventId) + "holders";
+    }
+
+    /** Value of a {@link #holders} entry. */
+    static String holder(UUID userId, long expiresAtMillis) {
+        return userId + ":" + expiresAtMillis;
+    }
+
+    /**
+     * Parses a seat hold key back into its event and seat ID.
+     *
+     * @return {@code {eventId, seatId}}, or {@code null} if {@code key} is not a hold key
+     */
+    static UUID[] parseHold(String key) {
+        int tagEnd = key.indexOf("}:seat:");
+        if (!key.startsWith(PREFIX + "{") || tagEnd < 0) {
+            return null;
+        }
+        try {
+            return new UUID[] {
+                UUID.fromString(key.substring(PREFIX.length() + 1, tagEnd)),
+                UUID.fromString(key.substring(tagEnd + "}:seat:".length()))
+            };
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String accessGrant(UUID eventId, UUID userId) {
+        return eventPrefix(eventId) + "access:" + userId;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.util.Optional;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Singleton;
+
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.RedisDataSource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Produces the {@link SeatCartRedis} data source. By default the seat cart shares the application's
+ * default Redis client; setting {@code seatcart.redis.client-name} moves it to a named client
+ * ({@code quarkus.redis.<name>.*}), e.g. one configured with {@code client-type: cluster} to spread
+ * big on-sales over a sharded deployment. The cart's key layout ({@link SeatCartKeys}) keeps each
+ * event in a single hash slot, so all of its commands and scripts work there unchanged.
+ */
+@ApplicationScoped
+public class SeatCartRedisProducer {
+
+    private static final Logger LOG = Logger.getLogger(SeatCartRedisProducer.class);
+
+    @ConfigProperty(name = "seatcart.redis.client-name")
+    Optional<String> clientName;
+
+    @Produces
+    @Singleton
+    @SeatCartRedis
+    RedisDataSource seatCartRedisDataSource(@Any Instance<RedisDataSource> dataSources) {
+        if (clientName.isEmpty() || clientName.get().isBlank()) {
+            return dataSources.select(Default.Literal.INSTANCE).get();
+        }
+        LOG.infof("Seat cart uses Redis client '%s'.", clientName.get());
+        return dataSources.select(new ClientNameLiteral(clientName.get())).get();
+    }
+
+    private static final class ClientNameLiteral extends AnnotationLiteral<RedisClientName>
+            implements RedisClientName {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+
+        ClientNameLiteral(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+    }
+}
@@ -45,10 +45,10 @@ import de.felixhertweck.seatreservation.reservation.exception.SeatAlreadyReserve
 import de.felixhertweck.seatreservation.reservation.exception.SeatBlockedException;
 import de.felixhertweck.seatreservation.reservation.exception.SeatCartAccessNotGrantedException;
 import de.felixhertweck.seatreservation.reservation.exception.SeatPendingException;
+import de.felixhertweck.seatreservation.utils.RedisScript;
 import io.quarkus.redis.datasource.RedisDataSource;
-import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.hash.HashCommands;
 import io.quarkus.redis.datasource.set.SetCommands;
-import io.quarkus.redis.datasource.value.SetArgs;
 import io.quarkus.redis.datasource.value.ValueCommands;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
@@ -60,20 +60,30 @@ import org.jboss.logging.Logger;
  * notes on each method) - the frontend re-fetches {@code GET /api/user/events} and retries on
  * conflict.
  *
- * <p>Each held seat is a single string key {@code seatcart:<eventId>:<seatId>} -> holding user's
- * ID, with a fixed TTL, so an unfinished selection releases itself automatically.
+ * <p>Each held seat is a single string key ({@link SeatCartKeys#hold}) -> holding user's ID, with a
+ * fixed TTL, so an unfinished selection releases itself automatically.
  *
- * <p>A per-event Redis set ({@code seatcart:idx:<eventId>}) indexes every currently held seat ID so
+ * <p>A per-event Redis set ({@link SeatCartKeys#index}) indexes every currently held seat ID so
  * {@link #findPendingSeatIds} doesn't require a keyspace-wide scan. A second, per-(event,user) set
- * ({@code seatcart:useridx:<eventId>:<userId>}) indexes just that user's holds, so the per-event
- * seat quota (see {@link #assertQuotaNotExceeded}) can be checked without scanning every held seat
- * in the event.
+ * ({@link SeatCartKeys#userIndex}) indexes just that user's holds, so the per-event seat quota can
+ * be checked without scanning every held seat in the event. All keys of an event share one Redis
+ * Cluster hash slot, see {@link SeatCartKeys}.
  *
- * <p>A separate per-(event,user) key ({@code seatcart:access:<eventId>:<userId>}), whose value is
- * the user's allowed seat count, records whether the user is currently allowed to write to this
- * event's cart at all - minted by {@link #grantAccess} when the user fetches their event list
- * (where the allowance check already runs for other reasons) and refreshed on every successful cart
- * write, so it never expires out from under an actively-selecting user. If it has expired, {@link
+ * <p>Since Redis has no per-member expiry, both indexes keep listing a hold after its key expired.
+ * {@link SeatCartExpiryListener} removes such entries as soon as Redis reports the expiry, using
+ * the per-event holders hash ({@link SeatCartKeys#holders}) to find the former holder; the index
+ * reads below still prune whatever it missed.
+ *
+ * <p>Cart writes ({@link #addSeatToCart}, {@link #removeSeatFromCart}, {@link #releaseSeats}) run
+ * as Lua scripts ({@link #HOLD_SCRIPT}, {@link #RELEASE_SCRIPT}, {@link #RELEASE_ALL_SCRIPT}): the
+ * ownership check, quota check, index maintenance and access-grant refresh happen atomically in one
+ * round trip, so concurrent clicks can no longer overshoot the quota.
+ *
+ * <p>A separate per-(event,user) key ({@link SeatCartKeys#accessGrant}), whose value is the user's
+ * allowed seat count, records whether the user is currently allowed to write to this event's cart
+ * at all - minted by {@link #grantAccess} when the user fetches their event list (where the
+ * allowance check already runs for other reasons) and refreshed on every successful cart write, so
+ * it never expires out from under an actively-selecting user. If it has expired, {@link
  * #assertAccessGranted} self-heals with a single direct Postgres check rather than forcing the
  * frontend into a full resync. The grant is also actively invalidated the moment the underlying
  * {@code EventUserAllowance} changes - see {@link SeatCartAccessGrantStore} and {@link
@@ -83,13 +93,166 @@ import org.jboss.logging.Logger;
 public class SeatCartService {
 
     private static final Logger LOG = Logger.getLogger(SeatCartService.class);
-    private static final String KEY_PREFIX = "seatcart:";
-    private static final String INDEX_KEY_PREFIX = "seatcart:idx:";
-    private static final String USER_INDEX_KEY_PREFIX = "seatcart:useridx:";
+
+    // Replies of HOLD_SCRIPT
+    private static final long HOLD_HELD_BY_OTHER = 0;
+    private static final long HOLD_CREATED = 1;
+    private static final long HOLD_REFRESHED = 2;
+    private static final long HOLD_QUOTA_EXCEEDED = -1;
+    private static final long HOLD_NO_ACCESS_GRANT = -2;
+
+    /**
+     * Holds a seat for a user, or refreshes the user's existing hold.
+     *
+     * <p>KEYS: hold key, event index, user index, access grant, holders hash. ARGV: user ID, seat
+     * ID, hold TTL, grant TTL, key prefix of the event's hold keys, allowed seat count (empty: read
+     * it from the access grant), the hold's expiry in epoch millis.
+     *
+     * <p>A new hold is only taken if the user holds fewer than the allowed number of seats; user
+     * index entries whose hold expired (or isn't the user's) are pruned while counting. Replies
+     * {@code 1} (held), {@code 2} (refreshed), {@code 0} (held by another user), {@code -1} (quota
+     * reached) or {@code -2} (no access grant and no allowed count passed).
+     *
+     * <p>The hold keys of the user's other seats are not declared in KEYS: they are built from
+     * ARGV[5] and the members of the user index, which are only known once the script runs.
+     * Declaring them would mean reading the user index in a separate round trip first, and another
+     * click could change it in between. This is still safe on a Redis Cluster, which only rejects
+     * keys outside the slots of the node running the script: ARGV[5] carries the same {@code
+     * {eventId}} hash tag as KEYS, so every derived key lives in the slot the declared keys route
+     * the script to.
+     */
+    static final RedisScript HOLD_SCRIPT =
+            new RedisScript(
+                    """
+                    local owner = redis.call('GET', KEYS[1])
+                    if owner and owner ~= ARGV[1] then
+                      return 0
+                    end
+                    local allowed = ARGV[6]
+                    if allowed == '' then
+                      allowed = redis.call('GET', KEYS[4])
+                      if not allowed then
+                        return -2
+                      end
+                    end
+                    local result = 2
+                    if owner then
+                      redis.call('EXPIRE', KEYS[1], ARGV[3])
+                    else
+                      local held = 0
+                      for _, seat in ipairs(redis.call('SMEMBERS', KEYS[3])) do
+                        if redis.call('GET', ARGV[5] .. seat) == ARGV[1] then
+                          held = held + 1
+                        else
+                          redis.call('SREM', KEYS[3], seat)
+                        end
+                      end
+                      if held >= tonumber(allowed) then
+                        return -1
+                      end
+                      redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+                      redis.call('SADD', KEYS[3], ARGV[2])
+                      result = 1
+                    end
+                    redis.call('SADD', KEYS[2], ARGV[2])
+                    redis.call('HSET', KEYS[5], ARGV[2], ARGV[1] .. ':' .. ARGV[7])
+                    redis.call('EXPIRE', KEYS[4], ARGV[4])
+                    return result
+                    """);
+
+    /**
+     * Releases a seat if it is held by the given user.
+     *
+     * <p>KEYS: hold key, event index, user index, holders hash. ARGV: user ID, seat ID. Replies
+     * {@code 1} if the hold was released, {@code 0} if it isn't the user's.
+     */
+    static final RedisScript RELEASE_SCRIPT =
+            new RedisScript(
+                    """
+                    if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                      return 0
+                    end
+                    redis.call('DEL', KEYS[1])
+                    redis.call('SREM', KEYS[2], ARGV[2])
+                    redis.call('SREM', KEYS[3], ARGV[2])
+                    redis.call('HDEL', KEYS[4], ARGV[2])
+                    return 1
+                    """);
+
+    /**
+     * Releases the given seats regardless of who holds them.
+     *
+     * <p>KEYS: event index, holders hash. ARGV: key prefix of the event's hold keys, key prefix of
+     * its user index keys, then the seat IDs. Each seat is also removed from the user index of its
+     * holder - the one in the hold key and, if the hold key already expired, the one recorded in
+     * the holders hash. Like in {@link #HOLD_SCRIPT}, the derived keys carry the same hash tag as
+     * KEYS. Replies the number of holds that were released.
+     */
+    static final RedisScript RELEASE_ALL_SCRIPT =
+            new RedisScript(
+                    """
+                    local released = 0
+                    for i = 3, #ARGV do
+                      local seat = ARGV[i]
+                      local owner = redis.call('GET', ARGV[1] .. seat)
+                      local holder = redis.call('HGET', KEYS[2], seat)
+                      if holder then
+                        local former = string.match(holder, '^(.*):')
+                        if former and former ~= owner then
+                          redis.call('SREM', ARGV[2] .. former, seat)
+                        end
+                      end
+                      if owner then
+                        redis.call('DEL', ARGV[1] .. seat)
+                        redis.call('SREM', ARGV[2] .. owner, seat)
+                        released = released + 1
+                      end
+                      redis.call('SREM', KEYS[1], seat)
+                      redis.call('HDEL', KEYS[2], seat)
+                    end
+                    return released
+                    """);
+
+    /**
+     * Removes the index entries of a hold whose key expired.
+     *
+     * <p>KEYS: hold key, event index, holders hash, and the holder's user index if known. ARGV:
+     * seat ID, the holders hash entry read beforehand (empty if there was none). The user index
+     * entry is only removed if the holders entry is still the one read, so a seat held again in
+     * between keeps counting towards the new holder's quota. Replies {@code 1} if something was
+     * cleaned up, {@code 0} if there was nothing left to clean up (e.g. another instance was
+     * faster) or {@code -1} if the seat is held again.
+     */
+    static final RedisScript EXPIRED_SCRIPT =
+            new RedisScript(
+                    """
+                    if redis.call('EXISTS', KEYS[1]) == 1 then
+                      return -1
+                    end
+                    local cleaned = redis.call('SREM', KEYS[2], ARGV[1])
+                    if ARGV[2] ~= '' and redis.call('HGET', KEYS[3], ARGV[1]) == ARGV[2] then
+                      redis.call('HDEL', KEYS[3], ARGV[1])
+                      if KEYS[4] then
+                        redis.call('SREM', KEYS[4], ARGV[1])
+                      end
+                      cleaned = 1
+                    end
+                    return cleaned
+                    """);
+
+    /**
+     * Outcome of {@link #cleanUpExpiredHold}.
+     *
+     * @param userId the user who held the seat, or {@code null} if unknown
+     * @param expiresAtMillis when the hold was due to expire in epoch millis, {@code 0} if unknown
+     * @param cleanedUp whether this call removed the index entries, rather than someone before
+     */
+    record ExpiredHold(UUID userId, long expiresAtMillis, boolean cleanedUp) {}
 
     @Inject ReservationRepository reservationRepository;
     @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
     @Inject SeatCartAccessGrantStore accessGrantStore;
+    @Inject SeatStatusIndex seatStatusIndex;
 
     @ConfigProperty(name = "seatcart.ttl-seconds")
     long ttlSeconds;
@@ -98,15 +261,17 @@ public class SeatCartService {
     @ConfigProperty(name = "seatcart.access-grant-ttl-buffer-seconds")
     long accessGrantTtlBufferSeconds;
 
+    private final RedisDataSource redisDataSource;
     private final ValueCommands<String, String> valueCommands;
-    private final KeyCommands<String> keyCommands;
     private final SetCommands<String, String> setCommands;
+    private final HashCommands<String, String, String> hashCommands;
 
     @Inject
-    public SeatCartService(RedisDataSource redisDataSource) {
+    public SeatCartService(@SeatCartRedis RedisDataSource redisDataSource) {
+        this.redisDataSource = redisDataSource;
         this.valueCommands = redisDataSource.value(String.class);
-        this.keyCommands = redisDataSource.key(String.class);
         this.setCommands = redisDataSource.set(String.class);
+        this.hashCommands = redisDataSource.hash(String.class);
     }
 
     /**
@@ -120,68 +285,81 @@ public class SeatCartService {
      *     for this event with other active cart holds
      */
     public SeatCartEntryDTO addSeatToCart(UUID eventId, UUID seatId, UUID userId) {
-        int allowedCount = assertAccessGranted(eventId, userId);
         assertSeatNotPersistedAsUnavailable(eventId, seatId);
 
-        String key = key(eventId, seatId);
-        String userIdStr = userId.toString();
-        String previousOwner =
-                valueCommands.setGet(
-                        key, userIdStr, new SetArgs().nx().ex(Duration.ofSeconds(ttlSeconds)));
+        // Common case: the access grant carries the allowed count and the script reads it itself.
+        long result = runHoldScript(eventId, seatId, userId, "");
+        if (result == HOLD_NO_ACCESS_GRANT) {
+            int allowedCount = assertAccessGranted(eventId, userId);
+            result = runHoldScript(eventId, seatId, userId, String.valueOf(allowedCount));
+        }
 
-        if (previousOwner != null && !previousOwner.equals(userIdStr)) {
+        if (result == HOLD_HELD_BY_OTHER) {
             LOG.warnf(
                     "Seat %s for event %s is held by another user's cart; rejecting hold for user"
                             + " %s.",
                     seatId, eventId, userId);
             throw new SeatPendingException("Seat is currently selected by another user");
         }
-
-        if (previousOwner == null) {
-            // Brand-new hold (not a refresh of one already owned by this user): only this case can
-            // push the user over their per-event quota, so only check and roll back here.
-            //
-            // Known race, accepted as-is: this check isn't atomic with the SET NX above, so two
-            // concurrent calls for different seats can both pass it. Not a booking-integrity risk
-            // since createReservationForUser re-enforces the real allowance from Postgres.
-            setCommands.sadd(userIndexKey(eventId, userId), seatId.toString());
-            if (countHeldSeats(eventId, userId) > allowedCount) {
-                keyCommands.del(key);
-                setCommands.srem(userIndexKey(eventId, userId), seatId.toString());
-                LOG.warnf(
-                        "user ID: %s reached their seat cart quota (%d) for event ID: %s.",
-                        userId, allowedCount, eventId);
-                throw new NoSeatsAvailableException(
-                        "You have reached your reservation limit for this event");
-            }
-        } else {
-            // Already held by this user: NX above was a no-op, refresh the TTL explicitly.
-            valueCommands.set(key, userIdStr, new SetArgs().ex(Duration.ofSeconds(ttlSeconds)));
+        if (result == HOLD_QUOTA_EXCEEDED) {
+            LOG.warnf(
+                    "user ID: %s reached their seat cart quota for event ID: %s.", userId, eventId);
+            throw new NoSeatsAvailableException(
+                    "You have reached your reservation limit for this event");
+        }
+        if (result != HOLD_CREATED && result != HOLD_REFRESHED) {
+            throw new IllegalStateException("Unexpected seat hold script result: " + result);
         }
 
-        // Track this seat in the event's index so findPendingSeatIds can look it up without
-        // scanning the whole keyspace. Idempotent (SADD), so safe on both new holds and refreshes.
-        setCommands.sadd(indexKey(eventId), seatId.toString());
-
-        // Sliding window: as long as the user keeps interacting with this event's cart, their
-        // access grant keeps getting pushed out instead of expiring mid-session.
-        accessGrantStore.refreshTtl(
-                eventId, userId, Duration.ofSeconds(ttlSeconds + accessGrantTtlBufferSeconds));
+        seatStatusIndex.recordHold(eventId, seatId, userId);
 
         return new SeatCartEntryDTO(seatId, Instant.now().plusSeconds(ttlSeconds));
     }
 
     /** Releases the seat from the cart, but only if it is currently held by {@code userId}. */
     public void removeSeatFromCart(UUID eventId, UUID seatId, UUID userId) {
-        String key = key(eventId, seatId);
-        String owner = valueCommands.get(key);
-        if (owner != null && owner.equals(userId.toString())) {
-            keyCommands.del(key);
-            setCommands.srem(indexKey(eventId), seatId.toString());
-            setCommands.srem(userIndexKey(eventId, userId), seatId.toString());
+        long released =
+                RELEASE_SCRIPT
+                        .execute(
+                                redisDataSource,
+                                List.of(
+                                        key(eventId, seatId),
+                                        indexKey(eventId),
+                                        userIndexKey(eventId, userId),
+                                        holdersKey(eventId)),
+                                userId.toString(),
+                                seatId.toString())
+                        .toLong();
+        if (released == 1) {
+            seatStatusIndex.recordRelease(eventId, List.of(seatId));
         }
     }
 
+    /**
+     * Runs {@link #HOLD_SCRIPT}. Besides taking the hold, the script keeps both indexes up to date
+     * and pushes the access grant's sliding TTL window out, so it never expires while the user
+     * keeps interacting with this event's cart.
+     */
+    private long runHoldScript(UUID eventId, UUID seatId, UUID userId, String allowedCount) {
+        return HOLD_SCRIPT
+                .execute(
+                        redisDataSource,
+                        List.of(
+                                key(eventId, seatId),
+                                indexKey(eventId),
+                                userIndexKey(eventId, userId),
+                                SeatCartKeys.accessGrant(eventId, userId),
+                                holdersKey(eventId)),
+                        userId.toString(),
+                        seatId.toString(),
+                        String.valueOf(ttlSeconds),
+                        String.valueOf(ttlSeconds + accessGrantTtlBufferSeconds),
+                        SeatCartKeys.holdPrefix(eventId),
+                        allowedCount,
+                        String.valueOf(System.currentTimeMillis() + ttlSeconds * 1000))
+                .toLong();
+    }
+
     /**
      * Releases the cart entries for the given seats, regardless of owner. Called after a
      * reservation is successfully persisted for these seats, so the next {@link #addSeatToCart} for
@@ -192,10 +370,53 @@ public class SeatCartService {
         if (seatIds == null || seatIds.isEmpty()) {
             return;
         }
-        String[] keys = seatIds.stream().map(seatId -> key(eventId, seatId)).toArray(String[]::new);
-        keyCommands.del(keys);
-        String[] seatIdStrs = seatIds.stream().map(UUID::toString).toArray(String[]::new);
-        setCommands.srem(indexKey(eventId), seatIdStrs);
+        List<String> args = new ArrayList<>(seatIds.size() + 2);
+        args.add(SeatCartKeys.holdPrefix(eventId));
+        args.add(SeatCartKeys.userIndexPrefix(eventId));
+        seatIds.forEach(seatId -> args.add(seatId.toString()));
+        RELEASE_ALL_SCRIPT.execute(
+                redisDataSource,
+                List.of(indexKey(eventId), holdersKey(eventId)),
+                args.toArray(String[]::new));
+        seatStatusIndex.recordRelease(eventId, seatIds);
+    }
+
+    /**
+     * Cleans up after a hold key expired via TTL: removes the seat from the event index, the
+     * holders hash and the former holder's user index, unless the seat was held again meanwhile.
+     * Called by {@link SeatCartExpiryListener} for every expired hold key; safe to run several
+     * times and on several instances for the same expiry.
+     *
+     * @param eventId the event ID
+     * @param seatId the seat whose hold expired
+     * @return the former hold, or {@code null} if the seat is held again
+     */
+    ExpiredHold cleanUpExpiredHold(UUID eventId, UUID seatId) {
+        String holder = hashCommands.hget(holdersKey(eventId), seatId.toString());
+        UUID userId = null;
+        long expiresAtMillis = 0;
+        if (holder != null) {
+            int separator = holder.lastIndexOf(':');
+            userId = UUID.fromString(holder.substring(0, separator));
+            expiresAtMillis = Long.parseLong(holder.substring(separator + 1));
+        }
+
+        List<String> keys = new ArrayList<>(4);
+        keys.add(key(eventId, seatId));
+        keys.add(indexKey(eventId));
+        keys.add(holdersKey(eventId));
+        if (userId != null) {
+            keys.add(userIndexKey(eventId, userId));
+        }
+        long result =
+                EXPIRED_SCRIPT
+                        .execute(
+                                redisDataSource,
+                                keys,
+                                seatId.toString(),
+                                holder != null ? holder : "")
+                        .toLong();
+        return result < 0 ? null : new ExpiredHold(userId, expiresAtMillis, result == 1);
     }
 
     /** Returns whether the given seat is currently held by a user other than {@code userId}. */
@@ -218,19 +439,30 @@ public class SeatCartService {
      * entries from the index.
      */
     public Set<UUID> findPendingSeatIds(UUID eventId, UUID requestingUserId) {
-        String requestingUserIdStr = requestingUserId.toString();
-        Map<UUID, String> liveHolds = resolveLiveHolds(eventId, indexKey(eventId));
-
         Set<UUID> pendingSeatIds = new HashSet<>();
-        liveHolds.forEach(
-                (seatId, owner) -> {
-                    if (!owner.equals(requestingUserIdStr)) {
-                        pendingSeatIds.add(seatId);
-                    }
-                });
+        findLiveHolds(eventId)
+                .forEach(
+                        (seatId, owner) -> {
+                            if (!owner.equals(requestingUserId)) {
+                                pendingSeatIds.add(seatId);
+                            }
+                        });
         return pendingSeatIds;
     }
 
+    /**
+     * Returns every seat in this event that currently has an active cart hold, mapped to the
+     * holding user's ID. Same index-backed lookup as {@link #findPendingSeatIds}, used by {@link
+     * SeatStatusIndex} to reconcile its in-memory view, which needs the holder to hide a user's own
+     * holds from themselves.
+     */
+    public Map<UUID, UUID> findLiveHolds(UUID eventId) {
+        Map<UUID, UUID> holds = new HashMap<>();
+        resolveLiveHolds(eventId, indexKey(eventId))
+                .forEach((seatId, owner) -> holds.put(seatId, UUID.fromString(owner)));
+        return holds;
+    }
+
     /**
      * Grants {@code userId} access to {@code eventId}'s cart for a sliding TTL window, remembering
      * their currently allowed seat count so {@link #addSeatToCart} can enforce the per-event quota
@@ -281,34 +513,6 @@ public class SeatCartService {
         return allowance.getReservationsAllowedCount();
     }
 
-    /**
-     * Counts how many seats {@code userId} currently holds in {@code eventId}'s cart. Backed by the
-     * per-(event,user) index set, verified against live hold keys via {@link #resolveLiveHolds} -
-     * an entry that isn't actually owned by {@code userId} (expired, or - defensively, though not
-     * reachable via any current write path - held by someone else) is pruned from the index rather
-     * than counted.
-     */
-    private int countHeldSeats(UUID eventId, UUID userId) {
-        String userIdStr = userId.toString();
-        Map<UUID, String> liveHolds = resolveLiveHolds(eventId, userIndexKey(eventId, userId));
-
-        int heldCount = 0;
-        List<String> staleSeatIdStrs = new ArrayList<>();
-        for (Map.Entry<UUID, String> entry : liveHolds.entrySet()) {
-            if (userIdStr.equals(entry.getValue())) {
-                heldCount++;
-            } else {
-                staleSeatIdStrs.add(entry.getKey().toString());
-            }
-        }
-
-        if (!staleSeatIdStrs.isEmpty()) {
-            setCommands.srem(userIndexKey(eventId, userId), staleSeatIdStrs.toArray(new String[0]));
-        }
-
-        return heldCount;
-    }
-
     /**
      * Resolves the seat IDs tracked in {@code indexSetKey} against their live hold keys via a
      * single {@code MGET}, and opportunistically prunes stale entries - holds that already expired
@@ -322,8 +526,7 @@ public class SeatCartService {
      * whether the hold actually expired. Expiry must be detected via {@code stillHeld.get(holdKey)
      * == null} instead.
      *
-     * <p>Shared by {@link #findPendingSeatIds} (index = the per-event set) and {@link
-     * #countHeldSeats} (index = the per-(event,user) set).
+     * <p>Used by {@link #findPendingSeatIds} and {@link #findLiveHolds} with the per-event set.
      */
     private Map<UUID, String> resolveLiveHolds(UUID eventId, String indexSetKey) {
         Set<String> candidateSeatIdStrs = setCommands.smembers(indexSetKey);
@@ -353,7 +556,9 @@ public class SeatCartService {
                 });
 
         if (!expiredSeatIdStrs.isEmpty()) {
-            setCommands.srem(indexSetKey, expiredSeatIdStrs.toArray(new String[0]));
+            String[] expired = expiredSeatIdStrs.toArray(new String[0]);
+            setCommands.srem(indexSetKey, expired);
+            hashCommands.hdel(holdersKey(eventId), expired);
         }
 
         return liveHolds;
@@ -372,14 +577,18 @@ public class SeatCartService {
     }
 
     private static String key(UUID eventId, UUID seatId) {
-        return KEY_PREFIX + eventId + ":" + seatId;
+        return SeatCartKeys.hold(eventId, seatId);
     }
 
     private static String indexKey(UUID eventId) {
-        return INDEX_KEY_PREFIX + eventId;
+        return SeatCartKeys.index(eventId);
     }
 
     private static String userIndexKey(UUID eventId, UUID userId) {
-        return USER_INDEX_KEY_PREFIX + eventId + ":" + userId;
+        return SeatCartKeys.userIndex(eventId, userId);
+    }
+
+    private static String holdersKey(UUID eventId) {
+        return SeatCartKeys.holders(eventId);
     }
 }
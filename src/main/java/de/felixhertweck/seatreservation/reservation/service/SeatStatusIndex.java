@@ -0,0 +1,513 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import de.felixhertweck.seatreservation.common.dto.SeatStatusDTO;
+import de.felixhertweck.seatreservation.common.events.SeatHoldExpiredEvent;
+import de.felixhertweck.seatreservation.management.service.SeatmapCacheService;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
+import io.quarkus.scheduler.Scheduled;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * In-memory, per-event index of seat statuses backing the seat status delta feed ({@code GET
+ * /api/user/events/{id}/seat-statuses?sinceVersion=}), so polling clients no longer cause a full
+ * reservation read plus a Redis {@code SMEMBERS}/{@code MGET} of the whole cart index per poll.
+ *
+ * <p>Each event's state is a compact byte array ({@code FREE}/{@code RESERVED}/{@code
+ * BLOCKED}/{@code PENDING}) keyed by a seat ordinal, plus the version at which each seat last
+ * changed. Ordinals are assigned on demand the first time a seat is seen as unavailable and are
+ * never reused, so a free seat that was never touched costs nothing. Versions come from a single
+ * clock that never goes backwards and is derived from wall-clock microseconds, so versions handed
+ * out by different instances are roughly comparable; a client switching instances at worst gets a
+ * full snapshot.
+ *
+ * <p>The write paths this instance knows about (reservations, cancellations, blocks and seat cart
+ * writes) update the index incrementally via {@link #recordPersisted}, {@link #recordHold} and
+ * {@link #recordRelease}. Persisted changes are applied only after the surrounding transaction
+ * commits, and expired cart holds are freed as soon as {@link SeatCartExpiryListener} reports them.
+ * Everything else - writes on another instance, cleanup jobs, expiries that were not reported - is
+ * caught up by reconciling the event against Postgres and Redis once it is older than {@code
+ * seat-status-index.max-age-seconds}. Reconciling diffs against the current state, so seats it
+ * corrects still show up in the next delta. Postgres stays the source of truth; this index only
+ * feeds the read-side view.
+ */
+@ApplicationScoped
+public class SeatStatusIndex {
+
+    private static final Logger LOG = Logger.getLogger(SeatStatusIndex.class);
+
+    private static final byte CODE_FREE = 0;
+    private static final byte CODE_RESERVED = 1;
+    private static final byte CODE_BLOCKED = 2;
+    private static final byte CODE_PENDING = 3;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    @Inject ReservationRepository reservationRepository;
+    @Inject SeatCartService seatCartService;
+    @Inject SeatmapCacheService seatmapCacheService;
+
+    @ConfigProperty(name = "seatcart.ttl-seconds")
+    long cartTtlSeconds;
+
+    /** How long an event's state is trusted before it is reconciled against Postgres/Redis. */
+    @ConfigProperty(name = "seat-status-index.max-age-seconds", defaultValue = "5")
+    long maxAgeSeconds;
+
+    /** Events nobody has read for this long are dropped from memory. */
+    @ConfigProperty(name = "seat-status-index.idle-eviction-minutes", defaultValue = "30")
+    long idleEvictionMinutes;
+
+    private final Map<UUID, EventSeatState> states = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Returns the seat statuses of an event as seen by {@code requestingUserId}, either as a delta
+     * since {@code sinceVersion} or as a full snapshot.
+     *
+     * <p>A full snapshot is returned if {@code sinceVersion} is {@code null}, older than this
+     * instance's state for the event (the state was created, e.g. after a restart or eviction,
+     * after the client's version was handed out) or newer than the current version (the client's
+     * version came from another instance that is ahead). Seats held in the requesting user's own
+     * cart are reported as free, matching {@link EventService#getEventByIdForCurrentUser}.
+     *
+     * @param eventId the event ID
+     * @param requestingUserId the user the statuses are rendered for
+     * @param sinceVersion the version the client already has, or {@code null}
+     * @return the changed seats, or all unavailable seats for a full snapshot
+     */
+    public SeatStatusDeltaDTO getChangesSince(
+            UUID eventId, UUID requestingUserId, Long sinceVersion) {
+        return changesSince(eventId, sinceVersion).renderFor(requestingUserId, sinceVersion);
+    }
+
+    /**
+     * Returns the seats of an event that changed since {@code sinceVersion}, or all unavailable
+     * seats for a full snapshot (same rules as {@link #getChangesSince}), without rendering them
+     * for a particular user yet. Lets a caller serving many users of the same event, like {@link
+     * SeatStatusStreamService}, read the state once and only render per user where a seat is held
+     * by that user.
+     *
+     * @param eventId the event ID
+     * @param sinceVersion the oldest version any of the caller's clients already has, or {@code
+     *     null}
+     * @return the changed seats, or all unavailable seats for a full snapshot
+     */
+    public Changes changesSince(UUID eventId, Long sinceVersion) {
+        EventSeatState state = freshState(eventId);
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            expireHolds(state, now);
+            state.lastReadAtMillis = now;
+
+            boolean fullSnapshot =
+                    sinceVersion == null
+                            || sinceVersion < state.createdVersion
+                            || sinceVersion > state.version;
+            List<SeatChange> seats = new ArrayList<>();
+            for (int ordinal = 0; ordinal < state.size; ordinal++) {
+                if (fullSnapshot
+                        ? state.codes[ordinal] != CODE_FREE
+                        : state.changedAt[ordinal] > sinceVersion) {
+                    seats.add(
+                            new SeatChange(
+                                    state.seatIds[ordinal],
+                                    toStatus(state.codes[ordinal]),
+                                    state.holders[ordinal],
+                                    state.changedAt[ordinal]));
+                }
+            }
+            LOG.debugf(
+                    "Serving %d seat statuses for event %s (since version %s, full snapshot: %b).",
+                    seats.size(), eventId, sinceVersion, fullSnapshot);
+            return new Changes(eventId, state.version, fullSnapshot, seats);
+        }
+    }
+
+    /**
+     * Returns the current version of an event's seat statuses. Read before loading a full seat
+     * status list elsewhere, so a client resuming the delta feed from it may at worst see a change
+     * twice, never miss one.
+     *
+     * @param eventId the event ID
+     * @return the current version
+     */
+    public long currentVersion(UUID eventId) {
+        EventSeatState state = freshState(eventId);
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            expireHolds(state, now);
+            state.lastReadAtMillis = now;
+            return state.version;
+        }
+    }
+
+    /**
+     * Records that the given seats were persisted with {@code status} (reserved or blocked), or
+     * freed again if {@code status} is {@code null}. Applied after the surrounding transaction
+     * commits; a no-op for events that are not currently indexed.
+     *
+     * @param eventId the event ID
+     * @param seatIds the affected seats
+     * @param status the new persisted status, or {@code null} if the reservations were removed
+     */
+    public void recordPersisted(UUID eventId, Collection<UUID> seatIds, ReservationStatus status) {
+        if (seatIds == null || seatIds.isEmpty() || !states.containsKey(eventId)) {
+            return;
+        }
+        List<UUID> affectedSeatIds = List.copyOf(seatIds);
+        byte code = status == null ? CODE_FREE : toCode(status);
+        seatmapCacheService.runAfterSuccessfulCommit(
+                () -> {
+                    EventSeatState state = states.get(eventId);
+                    if (state == null) {
+                        return;
+                    }
+                    synchronized (state) {
+                        for (UUID seatId : affectedSeatIds) {
+                            set(state, ordinalOf(state, seatId), code, null, 0);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Records a new or refreshed seat cart hold. Seats already persisted as reserved or blocked are
+     * left untouched.
+     *
+     * @param eventId the event ID
+     * @param seatId the held seat
+     * @param userId the holding user
+     */
+    public void recordHold(UUID eventId, UUID seatId, UUID userId) {
+        EventSeatState state = states.get(eventId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            int ordinal = ordinalOf(state, seatId);
+            byte current = state.codes[ordinal];
+            if (current == CODE_FREE || current == CODE_PENDING) {
+                set(
+                        state,
+                        ordinal,
+                        CODE_PENDING,
+                        userId,
+                        System.currentTimeMillis() + cartTtlSeconds * 1000);
+            }
+        }
+    }
+
+    /**
+     * Records that the cart holds for the given seats were released. Only seats currently shown as
+     * {@code PENDING} are freed, so releasing the holds of a just-reserved seat cannot clobber its
+     * reserved status.
+     *
+     * @param eventId the event ID
+     * @param seatIds the released seats
+     */
+    public void recordRelease(UUID eventId, Collection<UUID> seatIds) {
+        EventSeatState state = states.get(eventId);
+        if (state == null || seatIds == null) {
+            return;
+        }
+        synchronized (state) {
+            for (UUID seatId : seatIds) {
+                Integer ordinal = state.ordinals.get(seatId);
+                if (ordinal != null && state.codes[ordinal] == CODE_PENDING) {
+                    set(state, ordinal, CODE_FREE, null, 0);
+                }
+            }
+        }
+    }
+
+    /** Frees a seat whose cart hold expired, so it need not wait for the next reconcile. */
+    void onSeatHoldExpired(@Observes SeatHoldExpiredEvent event) {
+        recordRelease(event.eventId(), List.of(event.seatId()));
+    }
+
+    /** Drops the state of events nobody has read for {@code idleEvictionMinutes}. */
+    @Scheduled(
+            every = "${seat-status-index.eviction-interval:5m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void evictIdleEvents() {
+        long cutoff = System.currentTimeMillis() - idleEvictionMinutes * 60_000;
+        int before = states.size();
+        states.values().removeIf(state -> state.lastReadAtMillis < cutoff);
+        if (states.size() != before) {
+            LOG.debugf("Evicted %d idle event seat status indexes.", before - states.size());
+        }
+    }
+
+    /**
+     * Returns the event's state, creating and reconciling it first if needed. The first read of an
+     * event blocks until the initial reconcile is done; later reconciles are done by one reader
+     * while concurrent readers keep being served the slightly older state.
+     */
+    private EventSeatState freshState(UUID eventId) {
+        EventSeatState state =
+                states.computeIfAbsent(eventId, id -> new EventSeatState(nextVersion()));
+        if (!state.needsReconcile(System.currentTimeMillis(), maxAgeSeconds * 1000)) {
+            return state;
+        }
+
+        if (!state.initialized) {
+            synchronized (state.reconcileLock) {
+                if (!state.initialized) {
+                    reconcile(eventId, state);
+                }
+            }
+        } else if (state.reconciling.compareAndSet(false, true)) {
+            try {
+                reconcile(eventId, state);
+            } catch (RuntimeException e) {
+                LOG.warnf(
+                        e,
+                        "Failed to reconcile seat status index for event %s; serving the previous"
+                                + " state until the next attempt.",
+                        eventId);
+            } finally {
+                state.reconciling.set(false);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Reloads the event's persisted statuses (a plain projection, no entities) and live cart holds
+     * and applies every difference to the in-memory state, bumping the version of each seat that
+     * changed. A write recorded incrementally while the reload was running may be overwritten by
+     * the slightly older reload; the next reconcile corrects that.
+     */
+    private void reconcile(UUID eventId, EventSeatState state) {
+        Map<UUID, ReservationStatus> persisted =
+                reservationRepository.findSeatStatusesByEventId(eventId);
+        Map<UUID, UUID> holds = seatCartService.findLiveHolds(eventId);
+        long now = System.currentTimeMillis();
+        long holdExpiresAtMillis = now + cartTtlSeconds * 1000;
+
+        synchronized (state) {
+            Set<UUID> seatIds = new HashSet<>(state.ordinals.keySet());
+            seatIds.addAll(persisted.keySet());
+            seatIds.addAll(holds.keySet());
+
+            for (UUID seatId : seatIds) {
+                ReservationStatus status = persisted.get(seatId);
+                UUID holder = holds.get(seatId);
+                int ordinal = ordinalOf(state, seatId);
+                if (status == ReservationStatus.RESERVED || status == ReservationStatus.BLOCKED) {
+                    set(state, ordinal, toCode(status), null, 0);
+                } else if (holder != null) {
+                    set(state, ordinal, CODE_PENDING, holder, holdExpiresAtMillis);
+                } else {
+                    set(state, ordinal, CODE_FREE, null, 0);
+                }
+            }
+
+            state.initialized = true;
+            state.reconciledAtMillis = now;
+        }
+        LOG.debugf(
+                "Reconciled seat status index for event %s: %d persisted, %d held, version %d.",
+                eventId, persisted.size(), holds.size(), state.version);
+    }
+
+    /** Frees cart holds whose TTL ran out without this instance seeing them released. */
+    private void expireHolds(EventSeatState state, long now) {
+        for (int ordinal = 0; ordinal < state.size; ordinal++) {
+            if (state.codes[ordinal] == CODE_PENDING && state.holdExpiresAtMillis[ordinal] <= now) {
+                set(state, ordinal, CODE_FREE, null, 0);
+            }
+        }
+    }
+
+    /** Must be called while holding the state's monitor. */
+    private void set(EventSeatState state, int ordinal, byte code, UUID holder, long expiresAt) {
+        state.holdExpiresAtMillis[ordinal] = expiresAt;
+        if (state.codes[ordinal] == code && Objects.equals(state.holders[ordinal], holder)) {
+            return;
+        }
+        state.codes[ordinal] = code;
+        state.holders[ordinal] = holder;
+        state.version = nextVersion();
+        state.changedAt[ordinal] = state.version;
+    }
+
+    /** Must be called while holding the state's monitor. */
+    private static int ordinalOf(EventSeatState state, UUID seatId) {
+        Integer existing = state.ordinals.get(seatId);
+        if (existing != null) {
+            return existing;
+        }
+        if (state.size == state.seatIds.length) {
+            state.grow();
+        }
+        int ordinal = state.size++;
+        state.seatIds[ordinal] = seatId;
+        state.ordinals.put(seatId, ordinal);
+        return ordinal;
+    }
+
+    private static ReservationStatus toStatus(byte code) {
+        return switch (code) {
+            case CODE_RESERVED -> ReservationStatus.RESERVED;
+            case CODE_BLOCKED -> ReservationStatus.BLOCKED;
+            case CODE_PENDING -> ReservationStatus.PENDING;
+            default -> null;
+        };
+    }
+
+    private static byte toCode(ReservationStatus status) {
+        return switch (status) {
+            case RESERVED -> CODE_RESERVED;
+            case BLOCKED -> CODE_BLOCKED;
+            case PENDING -> CODE_PENDING;
+        };
+    }
+
+    /**
+     * Hands out versions from microsecond wall-clock time, but never the same or a smaller one
+     * twice, even if the clock steps back or several changes land in the same microsecond.
+     */
+    private long nextVersion() {
+        long nowMicros = System.currentTimeMillis() * 1000;
+        return clock.updateAndGet(previous -> Math.max(previous + 1, nowMicros));
+    }
+
+    /**
+     * One seat of a {@link Changes} result.
+     *
+     * @param seatId the seat
+     * @param status the seat's status, {@code null} if it is free
+     * @param holder the user holding the seat in their cart if it is pending, else {@code null}
+     * @param changedAt the version at which the seat last changed
+     */
+    public record SeatChange(UUID seatId, ReservationStatus status, UUID holder, long changedAt) {}
+
+    /**
+     * Changed (or, for a full snapshot, all unavailable) seats of one event, not yet rendered for a
+     * particular user.
+     *
+     * @param eventId the event ID
+     * @param version the version the changes were read at
+     * @param fullSnapshot whether {@code seats} is a full snapshot rather than a delta
+     * @param seats the seats
+     */
+    public record Changes(
+            UUID eventId, long version, boolean fullSnapshot, List<SeatChange> seats) {
+
+        /** Whether any of the seats is held in the given user's cart. */
+        public boolean concerns(UUID userId) {
+            for (SeatChange seat : seats) {
+                if (userId.equals(seat.holder())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Renders the seats as seen by {@code userId}: seats held in the user's own cart are
+         * reported as free, matching {@link EventService#getEventByIdForCurrentUser}. For a delta,
+         * seats that did not change after {@code sinceVersion} are left out, so the result can be
+         * narrowed down for a client that is further ahead than the version the changes were read
+         * from.
+         *
+         * @param userId the user the statuses are rendered for
+         * @param sinceVersion the version the client already has, or {@code null}
+         * @return the rendered delta or snapshot
+         */
+        public SeatStatusDeltaDTO renderFor(UUID userId, Long sinceVersion) {
+            List<SeatStatusDTO> seatStatuses = new ArrayList<>(seats.size());
+            for (SeatChange seat : seats) {
+                if (!fullSnapshot && sinceVersion != null && seat.changedAt() <= sinceVersion) {
+                    continue;
+                }
+                ReservationStatus status = userId.equals(seat.holder()) ? null : seat.status();
+                if (!fullSnapshot || status != null) {
+                    seatStatuses.add(new SeatStatusDTO(seat.seatId(), status));
+                }
+            }
+            return new SeatStatusDeltaDTO(eventId, version, fullSnapshot, seatStatuses);
+        }
+    }
+
+    /**
+     * Seat statuses of one event. The seat arrays and {@code version} are guarded by the instance's
+     * monitor; the reconcile bookkeeping is read without it.
+     */
+    private static final class EventSeatState {
+        final Object reconcileLock = new Object();
+        final AtomicBoolean reconciling = new AtomicBoolean();
+        final long createdVersion;
+        final Map<UUID, Integer> ordinals = new HashMap<>();
+
+        UUID[] seatIds = new UUID[INITIAL_CAPACITY];
+        byte[] codes = new byte[INITIAL_CAPACITY];
+        long[] changedAt = new long[INITIAL_CAPACITY];
+        UUID[] holders = new UUID[INITIAL_CAPACITY];
+        long[] holdExpiresAtMillis = new long[INITIAL_CAPACITY];
+        int size;
+        long version;
+
+        volatile boolean initialized;
+        volatile long reconciledAtMillis;
+        volatile long lastReadAtMillis = System.currentTimeMillis();
+
+        EventSeatState(long createdVersion) {
+            this.createdVersion = createdVersion;
+            this.version = createdVersion;
+        }
+
+        boolean needsReconcile(long now, long maxAgeMillis) {
+            return !initialized || now - reconciledAtMillis >= maxAgeMillis;
+        }
+
+        void grow() {
+            int capacity = seatIds.length * 2;
+            seatIds = Arrays.copyOf(seatIds, capacity);
+            codes = Arrays.copyOf(codes, capacity);
+            changedAt = Arrays.copyOf(changedAt, capacity);
+            holders = Arrays.copyOf(holders, capacity);
+            holdExpiresAtMillis = Arrays.copyOf(holdExpiresAtMillis, capacity);
+        }
+    }
+}
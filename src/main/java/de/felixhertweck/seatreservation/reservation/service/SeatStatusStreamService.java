@@ -0,0 +1,305 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
+import de.felixhertweck.seatreservation.supervisor.service.LiveViewSendQueue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.websockets.next.WebSocketConnection;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Pushes seat status deltas to users who keep an event's seat map open, instead of having every one
+ * of them poll {@code GET /api/user/events/{id}/seat-statuses}.
+ *
+ * <p>The deltas come from the {@link SeatStatusIndex}, which {@link SeatCartService} (holds and
+ * releases) and {@link ReservationService} (reservations and cancellations) already update. Rather
+ * than pushing every single change, all changes of a batching window are collected and sent
+ * together: once per window, each event with subscribers reads its changes from the index once,
+ * serializes them once for every subscriber not holding one of the changed seats, and renders a
+ * personalized message only for the few who do (their own holds are shown as free). Quiet events
+ * cost one version check per window and send nothing.
+ *
+ * <p>Each subscriber has a bounded {@link LiveViewSendQueue}; a subscriber that falls too far
+ * behind is dropped and gets a fresh snapshot when it reconnects.
+ */
+@ApplicationScoped
+public class SeatStatusStreamService {
+
+    private static final Logger LOG = Logger.getLogger(SeatStatusStreamService.class);
+
+    @Inject SeatStatusIndex seatStatusIndex;
+
+    @Inject MeterRegistry meterRegistry;
+
+    /** Proxy to self, so the ticker's flushes go through the request context interceptor. */
+    @Inject SeatStatusStreamService self;
+
+    /** Changes of this long are collected into one message per subscriber. */
+    @ConfigProperty(name = "seat-status-stream.batch-window-millis", defaultValue = "250")
+    long batchWindowMillis;
+
+    @ConfigProperty(name = "seat-status-stream.queue-capacity", defaultValue = "64")
+    int queueCapacity;
+
+    @ConfigProperty(name = "seat-status-stream.send-timeout-seconds", defaultValue = "10")
+    long sendTimeoutSeconds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<UUID, EventSubscribers> subscriptions = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService ticker;
+    private Timer sendLatency;
+
+    @PostConstruct
+    void init() {
+        if (meterRegistry != null) {
+            sendLatency =
+                    Timer.builder("seat.status.stream.send.latency")
+                            .description("Time from queueing a seat status delta to it being sent")
+                            .register(meterRegistry);
+        }
+        if (batchWindowMillis > 0) {
+            ticker =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("seat-status-stream").daemon().factory());
+            ticker.scheduleWithFixedDelay(
+                    this::safeFlush, batchWindowMillis, batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Subscribes a connection to an event's seat status changes and sends it the given snapshot as
+     * first message. The caller must have checked that the user may see the event.
+     *
+     * @param eventId the event ID
+     * @param userId the subscribing user, whose own cart holds are shown as free
+     * @param connection the WebSocket connection
+     * @param snapshot the user's full seat status snapshot; later deltas continue from its version
+     */
+    public void subscribe(
+            UUID eventId,
+            UUID userId,
+            WebSocketConnection connection,
+            SeatStatusDeltaDTO snapshot) {
+        Subscriber subscriber =
+                new Subscriber(
+                        userId,
+                        snapshot.version(),
+                        new LiveViewSendQueue(
+                                connection,
+                                queueCapacity,
+                                Duration.ofSeconds(sendTimeoutSeconds),
+                                sendLatency,
+                                null,
+                                dropped -> onDropped(eventId, dropped.connection())));
+        // Queue the snapshot before the flushing thread can see the subscriber, so no delta can
+        // overtake it.
+        subscriber.queue.enqueue(null, serialize(snapshot));
+        subscriptions.compute(
+                eventId,
+                (id, existing) -> {
+                    EventSubscribers group = existing != null ? existing : new EventSubscribers(id);
+                    group.byConnection.put(connection, subscriber);
+                    return group;
+                });
+        LOG.debugf("Seat status stream subscribed for event %s by user ID %s", eventId, userId);
+    }
+
+    /**
+     * Removes a connection's subscription, e.g. once it was closed.
+     *
+     * @param eventId the event ID
+     * @param connection the WebSocket connection
+     */
+    public void unsubscribe(UUID eventId, WebSocketConnection connection) {
+        Subscriber removed = remove(eventId, connection);
+        if (removed != null) {
+            removed.queue.close();
+            LOG.debugf("Seat status stream unsubscribed for event %s", eventId);
+        }
+    }
+
+    /** Number of connections currently subscribed to the event on this instance. */
+    public int subscriberCount(UUID eventId) {
+        EventSubscribers group = subscriptions.get(eventId);
+        return group != null ? group.byConnection.size() : 0;
+    }
+
+    /**
+     * Pushes the changes of the last batching window of every event with subscribers. Runs with
+     * its own request context, as checking the versions may reconcile the index from the database
+     * on the ticker thread.
+     */
+    @ActivateRequestContext
+    void flush() {
+        for (EventSubscribers group : subscriptions.values()) {
+            if (!group.byConnection.isEmpty()) {
+                flush(group);
+            }
+        }
+    }
+
+    private void safeFlush() {
+        try {
+            self.flush();
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the periodic task.
+            LOG.warn("Failed to push seat status deltas; retrying with the next batch.", e);
+        }
+    }
+
+    private void flush(EventSubscribers group) {
+        List<Subscriber> subscribers = List.copyOf(group.byConnection.values());
+        long oldest = Long.MAX_VALUE;
+        for (Subscriber subscriber : subscribers) {
+            oldest = Math.min(oldest, subscriber.sinceVersion);
+        }
+        if (oldest >= seatStatusIndex.currentVersion(group.eventId)) {
+            return;
+        }
+
+        SeatStatusIndex.Changes changes = seatStatusIndex.changesSince(group.eventId, oldest);
+        // Subscribers normally share one version, so this usually holds one shared message.
+        Map<Long, String> sharedPayloads = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sinceVersion;
+            if (since < changes.version() || changes.fullSnapshot()) {
+                String payload =
+                        changes.concerns(subscriber.userId)
+                                ? render(changes, subscriber.userId, since)
+                                : sharedPayloads.computeIfAbsent(
+                                        since, v -> render(changes, subscriber.userId, v));
+                if (payload != null) {
+                    subscriber.queue.enqueue(null, payload);
+                }
+                subscriber.sinceVersion = Math.max(since, changes.version());
+            }
+        }
+    }
+
+    /** Renders and serializes the changes for one user; {@code null} if none are left for them. */
+    private String render(SeatStatusIndex.Changes changes, UUID userId, long sinceVersion) {
+        SeatStatusDeltaDTO delta = changes.renderFor(userId, sinceVersion);
+        if (!delta.fullSnapshot() && delta.seatStatuses().isEmpty()) {
+            return null;
+        }
+        return serialize(delta);
+    }
+
+    private String serialize(SeatStatusDeltaDTO delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize seat status delta", e);
+        }
+    }
+
+    private void onDropped(UUID eventId, WebSocketConnection connection) {
+        if (remove(eventId, connection) != null && meterRegistry != null) {
+            meterRegistry.counter("seat.status.stream.subscribers.dropped").increment();
+        }
+    }
+
+    private Subscriber remove(UUID eventId, WebSocketConnection connection) {
+        Subscriber[] removed = new Subscriber[1];
+        subscriptions.computeIfPresent(
+                eventId,
+                (id, group) -> {
+                    removed[0] = group.byConnection.remove(connection);
+                    if (group.byConnection.isEmpty()) {
+                        group.close();
+                        return null;
+                    }
+                    return group;
+                });
+        return removed[0];
+    }
+
+    /** One subscribed connection. {@code sinceVersion} is only advanced by the flushing thread. */
+    private static final class Subscriber {
+        final UUID userId;
+        final LiveViewSendQueue queue;
+        volatile long sinceVersion;
+
+        Subscriber(UUID userId, long sinceVersion, LiveViewSendQueue queue) {
+            this.userId = userId;
+            this.sinceVersion = sinceVersion;
+            this.queue = queue;
+        }
+    }
+
+    /** The subscribers of one event, together with its subscriber gauge. */
+    private final class EventSubscribers {
+        final UUID eventId;
+        final Map<WebSocketConnection, Subscriber> byConnection = new ConcurrentHashMap<>();
+        final Gauge gauge;
+
+        EventSubscribers(UUID eventId) {
+            this.eventId = eventId;
+            this.gauge =
+                    meterRegistry == null
+                            ? null
+                            : Gauge.builder(
+                                            "seat.status.stream.subscribers",
+                                            byConnection,
+                                            Map::size)
+                                    .description(
+                                            "Connections subscribed to an event's seat status"
+                                                    + " stream on this instance")
+                                    .tag("eventId", eventId.toString())
+                                    .register(meterRegistry);
+        }
+
+        void close() {
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+            }
+        }
+    }
+}
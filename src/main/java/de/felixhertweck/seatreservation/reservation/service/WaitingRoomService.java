@@ -0,0 +1,550 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import de.felixhertweck.seatreservation.model.entity.Event;
+import de.felixhertweck.seatreservation.model.repository.EventRepository;
+import de.felixhertweck.seatreservation.reservation.dto.WaitingRoomStatusDTO;
+import de.felixhertweck.seatreservation.reservation.exception.WaitingRoomAdmissionRequiredException;
+import de.felixhertweck.seatreservation.utils.RedisScript;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.scheduler.Scheduled;
+import io.vertx.mutiny.redis.client.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Virtual waiting room in front of an event's cart around its booking start, so the rush of users
+ * opening the event at the same second doesn't exhaust the database connection pool.
+ *
+ * <p>From {@code opens-minutes-before-booking-start} until {@code
+ * active-minutes-after-booking-start} after the booking start, users join a FIFO queue per event (a
+ * Redis sorted set scored by join time). Once booking has started, every instance tries to admit
+ * the longest-waiting users once per {@code admission-interval}; a tick lock in Redis makes only
+ * one of them succeed per tick, so the admission rate does not grow with the number of instances.
+ * Admitted users get a signed token ({@link WaitingRoomTokenSigner}) to send with cart writes and
+ * the reservation request, where {@link #assertAdmitted} checks it without touching Redis or the
+ * database.
+ *
+ * <p>The admission rate follows the booking latency observed by this instance (additive increase,
+ * multiplicative decrease): it grows while reservations complete within {@code
+ * target-booking-latency-millis} and is cut back as soon as they get slower.
+ *
+ * <p>Keys carry the event ID as hash tag like the seat cart's ({@link SeatCartKeys}) and live on
+ * the same Redis client.
+ */
+@ApplicationScoped
+public class WaitingRoomService {
+
+    private static final Logger LOG = Logger.getLogger(WaitingRoomService.class);
+
+    /** Request header carrying the admission token. */
+    public static final String ADMISSION_HEADER = "X-Waiting-Room-Token";
+
+    static final String PREFIX = "waitingroom:";
+
+    /** The admission rate is multiplied by this when bookings get slower than the target. */
+    private static final double RATE_DECREASE_FACTOR = 0.75;
+
+    /** Weight of a new sample in the booking latency average. */
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    /** Tick locks expire this much before the next tick, so clock jitter doesn't skip ticks. */
+    private static final long TICK_LOCK_MARGIN_MILLIS = 50;
+
+    /**
+     * Reads a user's place in the queue, joining it first if asked to.
+     *
+     * <p>KEYS: queue, admitted hash. ARGV: user ID, now in epoch millis, {@code 1} to join, TTL of
+     * the queue key in seconds. Replies {@code {0, admitted until}} for an admitted user, otherwise
+     * {@code {position, queue length}}, the position being {@code -1} if the user is not queued.
+     */
+    static final RedisScript STATUS_SCRIPT =
+            new RedisScript(
+                    """
+                    local admittedUntil = redis.call('HGET', KEYS[2], ARGV[1])
+                    if admittedUntil and tonumber(admittedUntil) > tonumber(ARGV[2]) then
+                      return {0, tonumber(admittedUntil)}
+                    end
+                    if ARGV[3] == '1' then
+                      redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])
+                      redis.call('EXPIRE', KEYS[1], ARGV[4])
+                    end
+                    local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+                    if not rank then
+                      return {-1, redis.call('ZCARD', KEYS[1])}
+                    end
+                    return {rank + 1, redis.call('ZCARD', KEYS[1])}
+                    """);
+
+    /**
+     * Admits the longest-waiting users, unless another instance already did for this tick.
+     *
+     * <p>KEYS: queue, admitted hash, tick lock. ARGV: number of users to admit, admitted until in
+     * epoch millis, tick lock TTL in millis, TTL of the admitted hash in seconds. Replies {@code
+     * -1} if the tick was taken, otherwise the remaining queue length followed by user ID and join
+     * time of every admitted user.
+     */
+    static final RedisScript ADMIT_SCRIPT =
+            new RedisScript(
+                    """
+                    if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[3]) then
+                      return {-1}
+                    end
+                    local reply = {0}
+                    if tonumber(ARGV[1]) > 0 then
+                      local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+                      for i = 1, #popped, 2 do
+                        redis.call('HSET', KEYS[2], popped[i], ARGV[2])
+                        reply[#reply + 1] = popped[i]
+                        reply[#reply + 1] = popped[i + 1]
+                      end
+                      if #popped > 0 then
+                        redis.call('EXPIRE', KEYS[2], ARGV[4])
+                      end
+                    end
+                    reply[1] = redis.call('ZCARD', KEYS[1])
+                    return reply
+                    """);
+
+    @Inject EventRepository eventRepository;
+
+    @Inject WaitingRoomTokenSigner tokenSigner;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "waiting-room.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "waiting-room.opens-minutes-before-booking-start", defaultValue = "15")
+    long opensMinutesBeforeBookingStart;
+
+    @ConfigProperty(name = "waiting-room.active-minutes-after-booking-start", defaultValue = "30")
+    long activeMinutesAfterBookingStart;
+
+    /** How long an admission (and its token) stays valid. */
+    @ConfigProperty(name = "waiting-room.admission-minutes", defaultValue = "15")
+    long admissionMinutes;
+
+    @ConfigProperty(name = "waiting-room.admission-interval", defaultValue = "1s")
+    Duration admissionInterval;
+
+    @ConfigProperty(name = "waiting-room.initial-admissions-per-second", defaultValue = "20")
+    double initialAdmissionsPerSecond;
+
+    @ConfigProperty(name = "waiting-room.min-admissions-per-second", defaultValue = "2")
+    double minAdmissionsPerSecond;
+
+    @ConfigProperty(name = "waiting-room.max-admissions-per-second", defaultValue = "200")
+    double maxAdmissionsPerSecond;
+
+    @ConfigProperty(name = "waiting-room.target-booking-latency-millis", defaultValue = "500")
+    long targetBookingLatencyMillis;
+
+    /** How long an event's booking window is cached before it is read from the database again. */
+    @ConfigProperty(name = "waiting-room.window-cache-seconds", defaultValue = "30")
+    long windowCacheSeconds;
+
+    private final RedisDataSource redisDataSource;
+
+    private final Map<UUID, Room> rooms = new ConcurrentHashMap<>();
+
+    private double admissionsPerSecond;
+    private double bookingLatencyMillis = -1;
+    private long bookingsSinceLastTick;
+
+    private Counter admittedCounter;
+    private Counter rejectedCounter;
+    private Timer waitTime;
+
+    @Inject
+    public WaitingRoomService(@SeatCartRedis RedisDataSource redisDataSource) {
+        this.redisDataSource = redisDataSource;
+    }
+
+    @PostConstruct
+    void init() {
+        admissionsPerSecond = initialAdmissionsPerSecond;
+        if (meterRegistry != null) {
+            admittedCounter =
+                    Counter.builder("waitingroom.admitted")
+                            .description("Users admitted from a waiting room")
+                            .register(meterRegistry);
+            rejectedCounter =
+                    Counter.builder("waitingroom.rejected")
+                            .description("Cart writes and reservations rejected without admission")
+                            .register(meterRegistry);
+            waitTime =
+                    Timer.builder("waitingroom.wait.time")
+                            .description("Time users spent in a waiting room before admission")
+                            .register(meterRegistry);
+            Gauge.builder("waitingroom.admission.rate", this, s -> s.currentAdmissionRate())
+                    .description("Users admitted per second and event")
+                    .register(meterRegistry);
+            Gauge.builder("waitingroom.booking.latency", this, s -> s.currentBookingLatency())
+                    .description("Smoothed reservation latency in milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Puts the user into the event's queue, unless already queued or admitted.
+     *
+     * @param eventId the event ID
+     * @param userId the user ID
+     * @return the user's place in the waiting room
+     */
+    public WaitingRoomStatusDTO join(UUID eventId, UUID userId) {
+        return status(eventId, userId, true);
+    }
+
+    /**
+     * Returns the user's place in the event's waiting room without joining the queue.
+     *
+     * @param eventId the event ID
+     * @param userId the user ID
+     * @return the user's place in the waiting room
+     */
+    public WaitingRoomStatusDTO getStatus(UUID eventId, UUID userId) {
+        return status(eventId, userId, false);
+    }
+
+    /**
+     * Rejects a cart write or reservation of a user who was not admitted while the event's waiting
+     * room is active. Only checks the token signature, so it costs neither a Redis nor a database
+     * round trip; the event's booking window is read from the database at most once per {@code
+     * window-cache-seconds}.
+     *
+     * @param eventId the event the request is for
+     * @param userId the requesting user
+     * @param admissionToken the token from the {@value #ADMISSION_HEADER} header, may be {@code
+     *     null}
+     * @throws WaitingRoomAdmissionRequiredException if the waiting room is active and the token
+     *     doesn't admit the user
+     */
+    public void assertAdmitted(UUID eventId, UUID userId, String admissionToken) {
+        if (!enabled || eventId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (!room(eventId).isActive(now)
+                || tokenSigner.verify(admissionToken, eventId, userId, now)) {
+            return;
+        }
+        if (rejectedCounter != null) {
+            rejectedCounter.increment();
+        }
+        LOG.debugf(
+                "Rejected request of user ID: %s for event ID: %s without waiting room admission.",
+                userId, eventId);
+        throw new WaitingRoomAdmissionRequiredException(
+                "Please wait in the waiting room until you are admitted to this event");
+    }
+
+    /**
+     * Feeds the duration of a completed reservation request into the admission rate control.
+     *
+     * @param latency how long the reservation took
+     */
+    public synchronized void recordBookingLatency(Duration latency) {
+        double millis = latency.toNanos() / 1_000_000.0;
+        bookingLatencyMillis =
+                bookingLatencyMillis < 0
+                        ? millis
+                        : bookingLatencyMillis
+                                + LATENCY_SMOOTHING * (millis - bookingLatencyMillis);
+        bookingsSinceLastTick++;
+    }
+
+    @Scheduled(
+            every = "${waiting-room.admission-interval:1s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledAdmit() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            admitAll();
+        } catch (RuntimeException e) {
+            LOG.error("Waiting room admission failed", e);
+        }
+    }
+
+    /**
+     * Runs one admission tick: adjusts the admission rate, admits users of every event whose
+     * booking has started and forgets events whose waiting room isn't active.
+     */
+    void admitAll() {
+        double rate = adjustAdmissionRate();
+        long now = System.currentTimeMillis();
+        for (Iterator<Map.Entry<UUID, Room>> it = rooms.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<UUID, Room> entry = it.next();
+            Room room = entry.getValue();
+            if (!room.isActive(now)) {
+                // Read again on the next request, in case the booking start was moved.
+                if (room.isStale()) {
+                    it.remove();
+                    room.removeGauge();
+                }
+                continue;
+            }
+            room.registerGauge(entry.getKey());
+            if (room.isAdmitting(now)) {
+                admit(entry.getKey(), room, rate, now);
+            }
+        }
+    }
+
+    private void admit(UUID eventId, Room room, double rate, long now) {
+        double budget = rate * admissionInterval.toMillis() / 1000.0 + room.carry;
+        long count = (long) budget;
+        room.carry = budget - count;
+        Response reply =
+                ADMIT_SCRIPT.execute(
+                        redisDataSource,
+                        List.of(queueKey(eventId), admittedKey(eventId), tickKey(eventId)),
+                        String.valueOf(count),
+                        String.valueOf(now + TimeUnit.MINUTES.toMillis(admissionMinutes)),
+                        String.valueOf(
+                                Math.max(
+                                        1, admissionInterval.toMillis() - TICK_LOCK_MARGIN_MILLIS)),
+                        String.valueOf(keyTtlSeconds(room, now)));
+        long queueLength = reply.get(0).toLong();
+        if (queueLength < 0) {
+            // Another instance admitted for this tick.
+            room.carry = 0;
+            return;
+        }
+        room.queueLength.set(queueLength);
+        int admitted = (reply.size() - 1) / 2;
+        for (int i = 0; i < admitted; i++) {
+            long joinedAt = (long) Double.parseDouble(reply.get(2 + 2 * i).toString());
+            if (waitTime != null) {
+                waitTime.record(Math.max(0, now - joinedAt), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (admitted > 0) {
+            if (admittedCounter != null) {
+                admittedCounter.increment(admitted);
+            }
+            LOG.debugf(
+                    "Admitted %d users to event ID: %s, %d still waiting.",
+                    admitted, eventId, queueLength);
+        }
+    }
+
+    /**
+     * Additive increase while bookings are fast enough, multiplicative decrease once they are not.
+     * Ticks without any booking leave the rate as it is.
+     */
+    private synchronized double adjustAdmissionRate() {
+        if (bookingsSinceLastTick > 0) {
+            if (bookingLatencyMillis > targetBookingLatencyMillis) {
+                admissionsPerSecond =
+                        Math.max(
+                                minAdmissionsPerSecond, admissionsPerSecond * RATE_DECREASE_FACTOR);
+            } else {
+                admissionsPerSecond =
+                        Math.min(
+                                maxAdmissionsPerSecond,
+                                admissionsPerSecond + minAdmissionsPerSecond);
+            }
+            bookingsSinceLastTick = 0;
+        }
+        return admissionsPerSecond;
+    }
+
+    synchronized double currentAdmissionRate() {
+        return admissionsPerSecond;
+    }
+
+    private synchronized double currentBookingLatency() {
+        return Math.max(0, bookingLatencyMillis);
+    }
+
+    private WaitingRoomStatusDTO status(UUID eventId, UUID userId, boolean join) {
+        long now = System.currentTimeMillis();
+        Room room = enabled ? room(eventId) : null;
+        if (room == null || !room.isActive(now)) {
+            return new WaitingRoomStatusDTO(eventId, false, true, 0, 0, null, null, null);
+        }
+        Response reply =
+                STATUS_SCRIPT.execute(
+                        redisDataSource,
+                        List.of(queueKey(eventId), admittedKey(eventId)),
+                        userId.toString(),
+                        String.valueOf(now),
+                        join ? "1" : "0",
+                        String.valueOf(keyTtlSeconds(room, now)));
+        long position = reply.get(0).toLong();
+        if (position == 0) {
+            long admittedUntil = reply.get(1).toLong();
+            return new WaitingRoomStatusDTO(
+                    eventId,
+                    true,
+                    true,
+                    0,
+                    room.queueLength.get(),
+                    0L,
+                    tokenSigner.sign(eventId, userId, admittedUntil),
+                    Instant.ofEpochMilli(admittedUntil));
+        }
+        long queueLength = reply.get(1).toLong();
+        room.queueLength.set(queueLength);
+        room.registerGauge(eventId);
+        return new WaitingRoomStatusDTO(
+                eventId,
+                true,
+                false,
+                Math.max(0, position),
+                queueLength,
+                position > 0 ? estimatedWaitSeconds(room, position, now) : null,
+                null,
+                null);
+    }
+
+    private long estimatedWaitSeconds(Room room, long position, long now) {
+        long untilBookingStart = Math.max(0, room.window.bookingStart.toEpochMilli() - now) / 1000;
+        return untilBookingStart + (long) Math.ceil(position / currentAdmissionRate());
+    }
+
+    /** Keeps queue and admissions around until the last admission granted expired. */
+    private long keyTtlSeconds(Room room, long now) {
+        long untilClosed = Math.max(0, room.window.closesAt.toEpochMilli() - now) / 1000;
+        return untilClosed + TimeUnit.MINUTES.toSeconds(admissionMinutes) + 60;
+    }
+
+    private Room room(UUID eventId) {
+        Room room = rooms.computeIfAbsent(eventId, id -> new Room());
+        if (room.isStale()) {
+            synchronized (room) {
+                if (room.isStale()) {
+                    room.window =
+                            new Window(
+                                    eventRepository
+                                            .findByIdOptional(eventId)
+                                            .map(Event::getBookingStartTime)
+                                            .orElse(null));
+                }
+            }
+        }
+        return room;
+    }
+
+    static String queueKey(UUID eventId) {
+        return PREFIX + "{" + eventId + "}:queue";
+    }
+
+    static String admittedKey(UUID eventId) {
+        return PREFIX + "{" + eventId + "}:admitted";
+    }
+
+    static String tickKey(UUID eventId) {
+        return PREFIX + "{" + eventId + "}:tick";
+    }
+
+    /** An event's booking window as last read from the database. */
+    private final class Window {
+        final Instant bookingStart;
+        final Instant opensAt;
+        final Instant closesAt;
+        final long loadedAtNanos = System.nanoTime();
+
+        Window(Instant bookingStart) {
+            this.bookingStart = bookingStart;
+            this.opensAt =
+                    bookingStart != null
+                            ? bookingStart.minus(Duration.ofMinutes(opensMinutesBeforeBookingStart))
+                            : null;
+            this.closesAt =
+                    bookingStart != null
+                            ? bookingStart.plus(Duration.ofMinutes(activeMinutesAfterBookingStart))
+                            : null;
+        }
+    }
+
+    /** Waiting room state of one event on this instance. */
+    private final class Room {
+        volatile Window window;
+        final AtomicLong queueLength = new AtomicLong();
+
+        /** Fraction of an admission left over from the previous tick. */
+        double carry;
+
+        private Gauge gauge;
+
+        boolean isStale() {
+            Window current = window;
+            return current == null
+                    || System.nanoTime() - current.loadedAtNanos
+                            > TimeUnit.SECONDS.toNanos(windowCacheSeconds);
+        }
+
+        boolean isActive(long now) {
+            return isActive(window, now);
+        }
+
+        boolean isAdmitting(long now) {
+            Window current = window;
+            return isActive(current, now) && now >= current.bookingStart.toEpochMilli();
+        }
+
+        private static boolean isActive(Window window, long now) {
+            return window != null
+                    && window.opensAt != null
+                    && now >= window.opensAt.toEpochMilli()
+                    && now < window.closesAt.toEpochMilli();
+        }
+
+        synchronized void registerGauge(UUID eventId) {
+            if (gauge == null && meterRegistry != null) {
+                gauge =
+                        Gauge.builder("waitingroom.queue.length", queueLength, AtomicLong::get)
+                                .description("Users waiting in an event's waiting room")
+                                .tag("eventId", eventId.toString())
+                                .register(meterRegistry);
+            }
+        }
+
+        synchronized void removeGauge() {
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+                gauge = null;
+            }
+        }
+    }
+}
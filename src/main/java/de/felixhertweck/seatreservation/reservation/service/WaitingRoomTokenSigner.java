@@ -0,0 +1,142 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import de.felixhertweck.seatreservation.utils.SecretKeyFiles;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Signs and verifies waiting room admission tokens.
+ *
+ * <p>A token is {@code <expiry epoch millis>.<HMAC-SHA256>} over event ID, user ID and expiry,
+ * keyed with a sub-key derived from the server's encryption key ({@code
+ * security.encryption-key-location}) like {@link
+ * de.felixhertweck.seatreservation.security.service.RefreshTokenHasher}. Checking one therefore
+ * needs neither Redis nor the database, which is what lets cart writes of users who were not
+ * admitted be turned away before they cost anything.
+ */
+@ApplicationScoped
+public class WaitingRoomTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_LABEL =
+            "waiting-room-admission-v1".getBytes(StandardCharsets.UTF_8);
+
+    @ConfigProperty(name = "security.encryption-key-location")
+    String encryptionKeyLocation;
+
+    private volatile SecretKeySpec key;
+
+    public WaitingRoomTokenSigner() {}
+
+    /** Creates a signer with the given master key, for tests and benchmarks. */
+    WaitingRoomTokenSigner(byte[] masterKey) {
+        this.key = deriveKey(masterKey);
+    }
+
+    /**
+     * Issues an admission token.
+     *
+     * @param eventId the event the user was admitted to
+     * @param userId the admitted user
+     * @param expiresAtMillis end of the admission in epoch millis
+     * @return the token
+     */
+    public String sign(UUID eventId, UUID userId, long expiresAtMillis) {
+        return expiresAtMillis
+                + "."
+                + Base64.getUrlEncoder()
+                        .withoutPadding()
+                        .encodeToString(signature(eventId, userId, expiresAtMillis));
+    }
+
+    /**
+     * Checks that a token was issued for this event and user and has not expired.
+     *
+     * @param token the token as sent by the client, may be {@code null}
+     * @param eventId the event the request is for
+     * @param userId the requesting user
+     * @param nowMillis the current time in epoch millis
+     * @return whether the token admits the user
+     */
+    public boolean verify(String token, UUID eventId, UUID userId, long nowMillis) {
+        if (token == null) {
+            return false;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+        long expiresAtMillis;
+        byte[] presented;
+        try {
+            expiresAtMillis = Long.parseLong(token.substring(0, separator));
+            presented = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return expiresAtMillis > nowMillis
+                && MessageDigest.isEqual(signature(eventId, userId, expiresAtMillis), presented);
+    }
+
+    private byte[] signature(UUID eventId, UUID userId, long expiresAtMillis) {
+        return mac(
+                key(),
+                (eventId + ":" + userId + ":" + expiresAtMillis).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SecretKeySpec key() {
+        SecretKeySpec current = key;
+        if (current == null) {
+            synchronized (this) {
+                current = key;
+                if (current == null) {
+                    current = deriveKey(SecretKeyFiles.readBase64Key(encryptionKeyLocation, 32));
+                    key = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static SecretKeySpec deriveKey(byte[] masterKey) {
+        byte[] subKey = mac(new SecretKeySpec(masterKey, ALGORITHM), KEY_LABEL);
+        return new SecretKeySpec(subKey, ALGORITHM);
+    }
+
+    private static byte[] mac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
@@ -26,12 +26,15 @@ import jakarta.inject.Inject;
 import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 
+import de.felixhertweck.seatreservation.model.repository.ConfirmationRenderJobRepository;
+import de.felixhertweck.seatreservation.model.repository.EmailAttachmentBlobRepository;
 import de.felixhertweck.seatreservation.model.repository.EmailCooldownRepository;
 import de.felixhertweck.seatreservation.model.repository.EmailSeatMapTokenRepository;
 import de.felixhertweck.seatreservation.model.repository.EmailVerificationRepository;
 import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.OutboundEmailRepository;
 import de.felixhertweck.seatreservation.model.repository.RefreshTokenRepository;
+import de.felixhertweck.seatreservation.model.repository.ScheduledTaskRepository;
 import de.felixhertweck.seatreservation.model.repository.TwoFactorAttemptRepository;
 import io.quarkus.scheduler.Scheduled;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -59,17 +62,30 @@ public class DatabaseCleanup {
 
     @Inject OutboundEmailRepository outboundEmailRepository;
 
+    @Inject EmailAttachmentBlobRepository emailAttachmentBlobRepository;
+
     @Inject EmailCooldownRepository emailCooldownRepository;
 
+    @Inject ConfirmationRenderJobRepository confirmationRenderJobRepository;
+
+    @Inject ScheduledTaskRepository scheduledTaskRepository;
+
     @ConfigProperty(name = "email.queue.retention-days", defaultValue = "30")
     long outboundEmailRetentionDays;
 
+    @ConfigProperty(name = "email.render.retention-days", defaultValue = "7")
+    long confirmationRenderJobRetentionDays;
+
+    @ConfigProperty(name = "scheduled-tasks.retention-days", defaultValue = "7")
+    long scheduledTaskRetentionDays;
+
     /**
      * Cleans up delivered and permanently failed emails from the outbox.
      *
      * <p>Runs daily at 4:30 AM. Removes {@code SENT} and {@code FAILED} outbox rows (including
      * their stored attachments) that were last updated before the configured retention window,
      * keeping the outbox table small while preserving recent history for troubleshooting.
+     * Attachment blobs that are no longer referenced by any remaining mail are deleted afterwards.
      */
     @Scheduled(cron = "0 30 4 * * ?") // Every day at 4:30 AM
     @Transactional
@@ -83,11 +99,65 @@ public class DatabaseCleanup {
             } else {
                 LOG.debug("No finished outbound emails found to clean up.");
             }
+            long deletedBlobs = emailAttachmentBlobRepository.deleteUnreferenced();
+            if (deletedBlobs > 0) {
+                LOG.infof("Removed %d unreferenced email attachment blobs.", deletedBlobs);
+            }
         } catch (PersistenceException e) {
             LOG.error("Error during outbound email cleanup", e);
         }
     }
 
+    /**
+     * Cleans up finished confirmation render jobs.
+     *
+     * <p>Runs daily at 4:45 AM. Removes {@code DONE} and {@code FAILED} render jobs that were last
+     * updated before the configured retention window; the rendered mails themselves live on in the
+     * email outbox.
+     */
+    @Scheduled(cron = "0 45 4 * * ?") // Every day at 4:45 AM
+    @Transactional
+    public void cleanupFinishedConfirmationRenderJobs() {
+        LOG.info("Starting scheduled cleanup of finished confirmation render jobs.");
+        try {
+            Instant cutoff =
+                    Instant.now().minus(confirmationRenderJobRetentionDays, ChronoUnit.DAYS);
+            long deletedCount = confirmationRenderJobRepository.deleteFinishedBefore(cutoff);
+            if (deletedCount > 0) {
+                LOG.infof(
+                        "Successfully cleaned up %d finished confirmation render jobs.",
+                        deletedCount);
+            } else {
+                LOG.debug("No finished confirmation render jobs found to clean up.");
+            }
+        } catch (PersistenceException e) {
+            LOG.error("Error during confirmation render job cleanup", e);
+        }
+    }
+
+    /**
+     * Cleans up finished scheduled tasks.
+     *
+     * <p>Runs daily at 4:50 AM. Removes {@code DONE} and {@code FAILED} tasks (such as sent event
+     * reminders and their batches) that were last updated before the configured retention window.
+     */
+    @Scheduled(cron = "0 50 4 * * ?") // Every day at 4:50 AM
+    @Transactional
+    public void cleanupFinishedScheduledTasks() {
+        LOG.info("Starting scheduled cleanup of finished scheduled tasks.");
+        try {
+            Instant cutoff = Instant.now().minus(scheduledTaskRetentionDays, ChronoUnit.DAYS);
+            long deletedCount = scheduledTaskRepository.deleteFinishedBefore(cutoff);
+            if (deletedCount > 0) {
+                LOG.infof("Successfully cleaned up %d finished scheduled tasks.", deletedCount);
+            } else {
+                LOG.debug("No finished scheduled tasks found to clean up.");
+            }
+        } catch (PersistenceException e) {
+            LOG.error("Error during scheduled task cleanup", e);
+        }
+    }
+
     /**
      * Cleans up expired email verification entries.
      *
@@ -0,0 +1,309 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import de.felixhertweck.seatreservation.email.render.ConfirmationRenderDispatcher;
+import de.felixhertweck.seatreservation.email.service.NotificationService;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTask;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskStatus;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskType;
+import de.felixhertweck.seatreservation.model.repository.ScheduledTaskRepository;
+import de.felixhertweck.seatreservation.utils.OutboxPump;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Polls the durable {@link ScheduledTask} table and runs due tasks on a bounded worker pool.
+ *
+ * <p>Every instance polls, but tasks are claimed with {@code FOR UPDATE SKIP LOCKED} ({@link
+ * ScheduledTaskRepository#claimDue}), so each task runs on exactly one of them. Because the tasks
+ * live in the database, nothing is lost on restart and nothing has to be rebuilt on startup; a task
+ * left in {@link ScheduledTaskStatus#RUNNING} by a crashed instance is requeued after {@code
+ * scheduled-tasks.running-timeout-seconds}.
+ *
+ * <p>Each task runs in its own transaction together with its completion, so a failure rolls back
+ * all of its work (for reminders: the queued mails) and schedules a retry with exponential
+ * back-off. The pump works like the one of {@link ConfirmationRenderDispatcher}: it only claims as
+ * many tasks as there are free worker slots, so reminder batches of a large event run in parallel
+ * on {@code scheduled-tasks.worker-threads} threads while the rest waits in the database.
+ */
+@ApplicationScoped
+public class ScheduledTaskDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(ScheduledTaskDispatcher.class);
+
+    @Inject ScheduledTaskRepository scheduledTaskRepository;
+
+    @Inject NotificationService notificationService;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @Inject ScheduledTaskDispatcher self;
+
+    @ConfigProperty(name = "scheduled-tasks.worker-threads", defaultValue = "4")
+    int workerThreads;
+
+    @ConfigProperty(name = "scheduled-tasks.queue-capacity", defaultValue = "20")
+    int queueCapacity;
+
+    @ConfigProperty(name = "scheduled-tasks.batch-size", defaultValue = "10")
+    int batchSize;
+
+    @ConfigProperty(name = "scheduled-tasks.retry-backoff-seconds", defaultValue = "60")
+    long retryBackoffSeconds;
+
+    @ConfigProperty(name = "scheduled-tasks.max-backoff-seconds", defaultValue = "1800")
+    long maxBackoffSeconds;
+
+    @ConfigProperty(name = "scheduled-tasks.running-timeout-seconds", defaultValue = "600")
+    long runningTimeoutSeconds;
+
+    private ExecutorService workers;
+
+    /** One permit per task that may be claimed but not yet finished (running or queued). */
+    private Semaphore slots;
+
+    /** The single pump claiming due tasks and handing them to the workers. */
+    private final OutboxPump pump = new OutboxPump("scheduled-task-pump", this::submitDue);
+
+    @PostConstruct
+    void init() {
+        workers =
+                Executors.newFixedThreadPool(
+                        workerThreads,
+                        Thread.ofPlatform().name("scheduled-task-", 0).daemon().factory());
+        slots = new Semaphore(workerThreads + queueCapacity);
+        if (meterRegistry != null) {
+            Gauge.builder(
+                            "scheduled.task.queue.depth",
+                            slots,
+                            s -> workerThreads + queueCapacity - s.availablePermits())
+                    .description("Scheduled tasks claimed and not yet finished")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (workers != null) {
+            // Tasks still running are left in RUNNING and requeued after the timeout.
+            workers.shutdownNow();
+        }
+    }
+
+    /** Regular poll for tasks that became due. */
+    @Scheduled(
+            every = "${scheduled-tasks.poll-interval:15s}",
+            concurrentExecution = ConcurrentExecution.SKIP)
+    void scheduledPump() {
+        pump.trigger();
+    }
+
+    /**
+     * Waits for at least one free worker slot, then claims up to that many due tasks and hands them
+     * to the worker pool.
+     *
+     * @return the number of submitted tasks
+     */
+    private int submitDue() {
+        slots.acquireUninterruptibly();
+        slots.release();
+        int free = Math.min(batchSize, slots.availablePermits());
+        List<UUID> claimed = self.claimDueIds(free);
+        for (UUID id : claimed) {
+            // Only this (single) pump acquires permits, so the claim above never over-commits.
+            slots.acquireUninterruptibly();
+            workers.execute(
+                    () -> {
+                        try {
+                            if (runOne(id) == ScheduledTaskType.EVENT_REMINDER) {
+                                // Start on the batches it just created without waiting for the
+                                // next poll.
+                                pump.trigger();
+                            }
+                        } finally {
+                            slots.release();
+                        }
+                    });
+        }
+        return claimed.size();
+    }
+
+    /**
+     * Runs all tasks that are currently due on the calling thread, including tasks that become due
+     * while draining (such as the batches of a reminder). Exposed so tests and operational tooling
+     * can drain the table deterministically without the worker pool.
+     *
+     * @return the number of tasks run successfully
+     */
+    public int drainQueue() {
+        int succeeded = 0;
+        List<UUID> claimed;
+        do {
+            claimed = self.claimDueIds(batchSize);
+            for (UUID id : claimed) {
+                if (runOne(id) != null) {
+                    succeeded++;
+                }
+            }
+        } while (!claimed.isEmpty());
+        return succeeded;
+    }
+
+    /**
+     * Atomically claims up to {@code limit} due tasks, first requeueing any task left in {@link
+     * ScheduledTaskStatus#RUNNING} by a crashed instance.
+     *
+     * @param limit the maximum number of tasks to claim
+     * @return the ids of the claimed tasks
+     */
+    @Transactional
+    public List<UUID> claimDueIds(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        long requeued =
+                scheduledTaskRepository.requeueStaleRunning(
+                        now.minusSeconds(runningTimeoutSeconds));
+        if (requeued > 0) {
+            LOG.warnf("Requeued %d stale scheduled task(s)", requeued);
+        }
+        return scheduledTaskRepository.claimDue(now, limit);
+    }
+
+    /**
+     * Runs one claimed task and records the outcome and its duration.
+     *
+     * @param id the task id
+     * @return the type of the task if it ran successfully, otherwise {@code null}
+     */
+    ScheduledTaskType runOne(UUID id) {
+        long start = System.nanoTime();
+        ScheduledTaskType type;
+        try {
+            type = self.run(id);
+        } catch (RuntimeException e) {
+            self.markFailure(id, e);
+            type = null;
+        }
+        if (meterRegistry != null) {
+            meterRegistry
+                    .timer(
+                            "scheduled.task.duration",
+                            "outcome",
+                            type != null ? "success" : "failure")
+                    .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+        return type;
+    }
+
+    /**
+     * Loads a claimed task, performs its work and marks it {@link ScheduledTaskStatus#DONE}, all in
+     * one transaction.
+     *
+     * @param id the task id
+     * @return the type of the task, or {@code null} if the task no longer exists
+     */
+    @Transactional
+    public ScheduledTaskType run(UUID id) {
+        ScheduledTask task = scheduledTaskRepository.findById(id);
+        if (task == null) {
+            LOG.warnf("Scheduled task id=%s disappeared before running", id);
+            return null;
+        }
+
+        switch (task.getType()) {
+            case EVENT_REMINDER -> notificationService.planEventReminder(task);
+            case EVENT_REMINDER_BATCH -> notificationService.sendReminderBatch(task);
+        }
+
+        task.setStatus(ScheduledTaskStatus.DONE);
+        task.setAttempts(task.getAttempts() + 1);
+        task.setUpdatedAt(Instant.now());
+        task.setLastError(null);
+        LOG.debugf("Scheduled task id=%s (%s) finished", id, task.getType());
+        return task.getType();
+    }
+
+    /**
+     * Records a failed attempt and either schedules a retry with exponential back-off or, once the
+     * attempt limit is reached, marks the task as {@link ScheduledTaskStatus#FAILED}.
+     *
+     * @param id the task id
+     * @param error the failure that occurred
+     */
+    @Transactional
+    public void markFailure(UUID id, Exception error) {
+        ScheduledTask task = scheduledTaskRepository.findById(id);
+        if (task == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setUpdatedAt(now);
+        task.setLastError(OutboxPump.lastError(error));
+
+        if (attempts >= task.getMaxAttempts()) {
+            task.setStatus(ScheduledTaskStatus.FAILED);
+            if (meterRegistry != null) {
+                meterRegistry.counter("scheduled.task.failed").increment();
+            }
+            LOG.errorf(
+                    error,
+                    "Scheduled task id=%s (%s) permanently failed after %d attempt(s)",
+                    id,
+                    task.getType(),
+                    attempts);
+        } else {
+            task.setStatus(ScheduledTaskStatus.PENDING);
+            task.setNextAttemptAt(
+                    now.plusSeconds(
+                            OutboxPump.backoffSeconds(
+                                    attempts, retryBackoffSeconds, maxBackoffSeconds)));
+            LOG.warnf(
+                    error,
+                    "Scheduled task id=%s (%s) failed (attempt %d/%d); retrying at %s",
+                    id,
+                    task.getType(),
+                    attempts,
+                    task.getMaxAttempts(),
+                    task.getNextAttemptAt());
+        }
+    }
+}
@@ -54,6 +54,9 @@ import de.felixhertweck.seatreservation.security.service.TokenService;
 import de.felixhertweck.seatreservation.security.service.TwoFactorService;
 import de.felixhertweck.seatreservation.utils.UserSecurityContext;
 import io.quarkus.security.Authenticated;
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
@@ -75,6 +78,7 @@ public class AuthResource {
     @Inject UserSecurityContext userSecurityContext;
     @Inject TwoFactorService twoFactorService;
     @Inject AltchaService altchaService;
+    @Inject CurrentVertxRequest currentVertxRequest;
 
     /**
      * Gets the current registration status.
@@ -154,7 +158,8 @@ public class AuthResource {
         LOG.debugf("LoginRequestDTO: %s", loginRequest.toString());
         altchaService.verifyAndConsume(loginRequest.getAltchaPayload());
         User user =
-                authService.authenticate(loginRequest.getUsername(), loginRequest.getPassword());
+                authService.authenticate(
+                        loginRequest.getUsername(), loginRequest.getPassword(), clientAddress());
 
         Optional<TwoFactorRequiredDTO> challenge = twoFactorService.challengeIfRequired(user);
         if (challenge.isPresent()) {
@@ -168,6 +173,16 @@ public class AuthResource {
         return authCookieResponse(user);
     }
 
+    /**
+     * Returns the address of the calling client, as seen after any configured proxy forwarding
+     * ({@code quarkus.http.proxy.*}), or null if it is not known.
+     */
+    private String clientAddress() {
+        RoutingContext ctx = currentVertxRequest.getCurrent();
+        SocketAddress address = ctx != null ? ctx.request().remoteAddress() : null;
+        return address != null ? address.hostAddress() : null;
+    }
+
     /**
      * Registers a new user and returns JWT and refresh token cookies.
      *
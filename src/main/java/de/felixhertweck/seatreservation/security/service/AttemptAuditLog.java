@@ -0,0 +1,222 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import de.felixhertweck.seatreservation.model.entity.LoginAttempt;
+import de.felixhertweck.seatreservation.model.entity.TwoFactorAttempt;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
+import de.felixhertweck.seatreservation.model.repository.TwoFactorAttemptRepository;
+import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit trail of login and 2FA attempts ({@code login_attempts}, {@code
+ * two_factor_attempts}) in batches off the request path.
+ *
+ * <p>Attempts are queued in memory and inserted by a scheduled flush, one short transaction per
+ * batch of up to {@code attempt-audit.batch-size} rows, so a burst of logins does not turn into a
+ * burst of single-row transactions. A batch that fails is retried row by row, so one bad row only
+ * loses itself. The lockouts do not read these tables ({@link AttemptThrottle}
+ * keeps its own counters), so an entry that is still queued -- or dropped because the bounded queue
+ * is full -- never lets an attacker past a lockout. Queued entries are flushed on shutdown.
+ */
+@ApplicationScoped
+public class AttemptAuditLog {
+
+    private static final Logger LOG = Logger.getLogger(AttemptAuditLog.class);
+
+    private record Entry(String username, UUID userId, Instant attemptTime, boolean successful) {}
+
+    @Inject LoginAttemptRepository loginAttemptRepository;
+
+    @Inject TwoFactorAttemptRepository twoFactorAttemptRepository;
+
+    @Inject UserRepository userRepository;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "attempt-audit.queue-capacity", defaultValue = "10000")
+    int queueCapacity;
+
+    @ConfigProperty(name = "attempt-audit.batch-size", defaultValue = "500")
+    int batchSize;
+
+    private BlockingQueue<Entry> loginAttempts;
+    private BlockingQueue<Entry> twoFactorAttempts;
+
+    @PostConstruct
+    void init() {
+        loginAttempts = new ArrayBlockingQueue<>(queueCapacity);
+        twoFactorAttempts = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Queues a password login attempt.
+     *
+     * @param username the username the attempt was made for
+     * @param user the matching account, or null if there is none
+     * @param successful whether the login succeeded
+     */
+    public void recordLogin(String username, User user, boolean successful) {
+        enqueue(
+                loginAttempts,
+                "login",
+                new Entry(username, user != null ? user.id : null, Instant.now(), successful));
+    }
+
+    /**
+     * Queues a login of an account that has no password involved, e.g. a passkey sign-in.
+     *
+     * @param user the account that logged in
+     * @param successful whether the login succeeded
+     */
+    public void recordLogin(User user, boolean successful) {
+        recordLogin(user.getUsername(), user, successful);
+    }
+
+    /**
+     * Queues a 2FA verification attempt.
+     *
+     * @param user the user the attempt was made for
+     * @param successful whether the code was accepted
+     */
+    public void recordTwoFactor(User user, boolean successful) {
+        enqueue(twoFactorAttempts, "2fa", new Entry(null, user.id, Instant.now(), successful));
+    }
+
+    private void enqueue(BlockingQueue<Entry> queue, String type, Entry entry) {
+        if (!queue.offer(entry)) {
+            LOG.warnf("Attempt audit queue (%s) is full; dropping an audit entry.", type);
+            if (meterRegistry != null) {
+                meterRegistry.counter("auth.attempt-audit.dropped", "type", type).increment();
+            }
+        }
+    }
+
+    @Scheduled(
+            every = "${attempt-audit.flush-interval:2s}",
+            concurrentExecution = ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        flush();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        int flushed = flush();
+        if (flushed > 0) {
+            LOG.infof("Flushed %d queued login/2FA audit entries on shutdown.", flushed);
+        }
+    }
+
+    /**
+     * Writes all queued attempts. Exposed so tests and operational tooling can drain the queues
+     * deterministically.
+     *
+     * @return the number of written entries
+     */
+    public int flush() {
+        return drain(loginAttempts, "login", this::insertLoginAttempts)
+                + drain(twoFactorAttempts, "2fa", this::insertTwoFactorAttempts);
+    }
+
+    private int drain(BlockingQueue<Entry> queue, String type, Consumer<List<Entry>> insert) {
+        int total = 0;
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> insert.accept(batch));
+                total += batch.size();
+            } catch (RuntimeException e) {
+                LOG.warnf(
+                        e,
+                        "Failed to write a batch of %d %s audit entries; retrying them one by one.",
+                        batch.size(),
+                        type);
+                total += insertOneByOne(batch, type, insert);
+            }
+            batch.clear();
+        }
+        return total;
+    }
+
+    /**
+     * Inserts each entry of a failed batch in its own transaction, so a single bad row (e.g. an
+     * account deleted while its entry was queued) only loses that row.
+     */
+    private int insertOneByOne(List<Entry> batch, String type, Consumer<List<Entry>> insert) {
+        int written = 0;
+        for (Entry entry : batch) {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> insert.accept(List.of(entry)));
+                written++;
+            } catch (RuntimeException e) {
+                // E.g. an account deleted in the meantime; the lockout state is unaffected.
+                LOG.warnf(e, "Failed to write a %s audit entry; dropping it.", type);
+                if (meterRegistry != null) {
+                    meterRegistry.counter("auth.attempt-audit.dropped", "type", type).increment();
+                }
+            }
+        }
+        return written;
+    }
+
+    private void insertLoginAttempts(List<Entry> batch) {
+        List<LoginAttempt> attempts = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            LoginAttempt attempt =
+                    new LoginAttempt(entry.username(), entry.attemptTime(), entry.successful());
+            if (entry.userId() != null) {
+                attempt.setUser(userRepository.getReference(entry.userId()));
+            }
+            attempts.add(attempt);
+        }
+        loginAttemptRepository.persist(attempts);
+    }
+
+    private void insertTwoFactorAttempts(List<Entry> batch) {
+        List<TwoFactorAttempt> attempts = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            attempts.add(
+                    new TwoFactorAttempt(
+                            userRepository.getReference(entry.userId()),
+                            entry.attemptTime(),
+                            entry.successful()));
+        }
+        twoFactorAttemptRepository.persist(attempts);
+    }
+}
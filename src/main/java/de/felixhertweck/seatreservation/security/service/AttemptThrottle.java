@@ -0,0 +1,176 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import de.felixhertweck.seatreservation.utils.RedisScript;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.redis.datasource.RedisDataSource;
+import org.jboss.logging.Logger;
+
+/**
+ * Sliding-window failure counters in Redis for the login and 2FA lockouts, so an attempt costs one
+ * script call per subject instead of aggregate queries on the audit tables.
+ *
+ * <p>Failures of a subject (a username, a client address, a user ID) are kept in a sorted set
+ * scored by the time of the failure. A {@link Policy} is a list of {@link Tier tiers}: a subject is
+ * locked while any tier has at least {@code attempts} failures within its {@code window}, until the
+ * oldest of them plus the tier's {@code lockoutDuration} -- the strictest tier wins. Counting and
+ * recording are single Lua scripts, so concurrent attempts on several instances see each other's
+ * failures atomically. Each set expires after the policy's longest window and keeps only as many
+ * entries as its largest tier needs, so a burst against one subject stays small.
+ */
+@ApplicationScoped
+public class AttemptThrottle {
+
+    private static final Logger LOG = Logger.getLogger(AttemptThrottle.class);
+
+    static final String KEY_PREFIX = "throttle:";
+
+    /**
+     * One lockout rule of a {@link Policy}.
+     *
+     * @param attempts failures within {@code window} that trigger the lockout
+     * @param window how far back failures are counted
+     * @param lockoutDuration how long after the oldest counted failure the subject stays locked
+     */
+    public record Tier(int attempts, Duration window, Duration lockoutDuration) {}
+
+    /**
+     * A named set of lockout tiers. The name is part of the Redis key, so subjects of different
+     * policies never share counters.
+     */
+    public record Policy(String name, List<Tier> tiers) {
+
+        /** Returns how long failures are kept: the longest window of all tiers. */
+        Duration retention() {
+            return tiers.stream().map(Tier::window).max(Duration::compareTo).orElseThrow();
+        }
+
+        /** Returns how many of the newest failures are kept: the most any tier counts. */
+        int maxTracked() {
+            return tiers.stream().mapToInt(Tier::attempts).max().orElseThrow();
+        }
+    }
+
+    /**
+     * Returns the time until which a subject is locked, or {@code -1} if it is not.
+     *
+     * <p>KEYS: failure set. ARGV: now in epoch millis, then attempts, window and lockout duration
+     * in millis for every tier.
+     */
+    static final RedisScript LOCKED_UNTIL_SCRIPT =
+            new RedisScript(
+                    """
+                    local now = tonumber(ARGV[1])
+                    local lockedUntil = -1
+                    for i = 2, #ARGV, 3 do
+                      local since = now - tonumber(ARGV[i + 1])
+                      if redis.call('ZCOUNT', KEYS[1], since, '+inf') >= tonumber(ARGV[i]) then
+                        local oldest = redis.call(
+                          'ZRANGEBYSCORE', KEYS[1], since, '+inf', 'WITHSCORES', 'LIMIT', 0, 1)
+                        local untilMillis = tonumber(oldest[2]) + tonumber(ARGV[i + 2])
+                        if untilMillis > lockedUntil then
+                          lockedUntil = untilMillis
+                        end
+                      end
+                    end
+                    return lockedUntil
+                    """);
+
+    /**
+     * Records a failure and trims the set to the failures that can still count.
+     *
+     * <p>KEYS: failure set. ARGV: now in epoch millis, unique member, retention in millis, number
+     * of newest failures to keep.
+     */
+    static final RedisScript RECORD_FAILURE_SCRIPT =
+            new RedisScript(
+                    """
+                    local now = tonumber(ARGV[1])
+                    local expired = '(' .. (now - tonumber(ARGV[3]))
+                    redis.call('ZADD', KEYS[1], now, ARGV[2])
+                    redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', expired)
+                    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[4]) - 1)
+                    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                    return redis.call('ZCARD', KEYS[1])
+                    """);
+
+    @Inject RedisDataSource redisDataSource;
+
+    @Inject MeterRegistry meterRegistry;
+
+    /**
+     * Checks whether a subject is currently locked under a policy.
+     *
+     * @param policy the lockout tiers to apply
+     * @param subject what the failures are counted for, e.g. a username
+     * @return the time the lockout ends, or empty if the subject is not locked
+     */
+    public Optional<Instant> lockedUntil(Policy policy, String subject) {
+        String[] args = new String[1 + policy.tiers().size() * 3];
+        args[0] = String.valueOf(Instant.now().toEpochMilli());
+        int i = 1;
+        for (Tier tier : policy.tiers()) {
+            args[i++] = String.valueOf(tier.attempts());
+            args[i++] = String.valueOf(tier.window().toMillis());
+            args[i++] = String.valueOf(tier.lockoutDuration().toMillis());
+        }
+
+        String key = key(policy, subject);
+        long lockedUntil =
+                LOCKED_UNTIL_SCRIPT.execute(redisDataSource, List.of(key), args).toLong();
+        if (lockedUntil < 0) {
+            return Optional.empty();
+        }
+        LOG.debugf("Subject locked by throttle policy %s until %d", policy.name(), lockedUntil);
+        if (meterRegistry != null) {
+            meterRegistry.counter("auth.throttle.locked", "policy", policy.name()).increment();
+        }
+        return Optional.of(Instant.ofEpochMilli(lockedUntil));
+    }
+
+    /**
+     * Records a failed attempt of a subject under a policy.
+     *
+     * @param policy the policy the failure counts towards
+     * @param subject what the failure is counted for, e.g. a username
+     */
+    public void recordFailure(Policy policy, String subject) {
+        RECORD_FAILURE_SCRIPT.execute(
+                redisDataSource,
+                List.of(key(policy, subject)),
+                String.valueOf(Instant.now().toEpochMilli()),
+                UUID.randomUUID().toString(),
+                String.valueOf(policy.retention().toMillis()),
+                String.valueOf(policy.maxTracked()));
+    }
+
+    static String key(Policy policy, String subject) {
+        return KEY_PREFIX + policy.name() + ":" + subject;
+    }
+}
@@ -26,6 +26,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 import jakarta.annotation.PostConstruct;
@@ -41,7 +42,6 @@ import de.felixhertweck.seatreservation.email.service.EmailService;
 import de.felixhertweck.seatreservation.model.entity.PasswordResetToken;
 import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.model.entity.User;
-import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.PasswordResetTokenRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.security.dto.PasswordResetConfirmDTO;
@@ -65,16 +65,20 @@ public class AuthService {
 
     private static final Logger LOG = Logger.getLogger(AuthService.class);
 
-    private record LockoutTier(int attempts, Duration window, Duration lockoutDuration) {}
-
     private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9._-]{3,64}$");
 
-    private static final List<LockoutTier> LOGIN_LOCKOUT_TIERS =
-            List.of(
-                    new LockoutTier(3, Duration.ofMinutes(15), Duration.ofSeconds(30)),
-                    new LockoutTier(5, Duration.ofMinutes(15), Duration.ofMinutes(2)),
-                    new LockoutTier(10, Duration.ofHours(1), Duration.ofMinutes(15)),
-                    new LockoutTier(15, Duration.ofHours(24), Duration.ofHours(1)));
+    private static final AttemptThrottle.Policy LOGIN_LOCKOUT_POLICY =
+            new AttemptThrottle.Policy(
+                    "login-user",
+                    List.of(
+                            new AttemptThrottle.Tier(
+                                    3, Duration.ofMinutes(15), Duration.ofSeconds(30)),
+                            new AttemptThrottle.Tier(
+                                    5, Duration.ofMinutes(15), Duration.ofMinutes(2)),
+                            new AttemptThrottle.Tier(
+                                    10, Duration.ofHours(1), Duration.ofMinutes(15)),
+                            new AttemptThrottle.Tier(
+                                    15, Duration.ofHours(24), Duration.ofHours(1))));
 
     @Inject UserRepository userRepository;
 
@@ -84,7 +88,9 @@ public class AuthService {
 
     @Inject EmailService emailService;
 
-    @Inject LoginAttemptRepository loginAttemptRepository;
+    @Inject AttemptThrottle attemptThrottle;
+
+    @Inject AttemptAuditLog attemptAuditLog;
 
     @Inject TokenService tokenService;
 
@@ -93,6 +99,12 @@ public class AuthService {
     @ConfigProperty(name = "registration.enabled", defaultValue = "true")
     boolean registrationEnabled;
 
+    @ConfigProperty(name = "login-throttle.client-max-failures", defaultValue = "100")
+    int clientMaxFailures;
+
+    @ConfigProperty(name = "login-throttle.client-window", defaultValue = "15m")
+    Duration clientWindow;
+
     private String randomPasswordHash;
 
     @PostConstruct
@@ -209,17 +221,19 @@ public class AuthService {
      *
      * @param username the username of the user
      * @param password the password of the user
+     * @param clientAddress the address the request came from, or null if unknown; failures are also
+     *     counted per address, so one client guessing across many usernames gets locked too
      * @return the authenticated User if authentication is successful
      * @throws AuthenticationFailedException if authentication fails
-     * @throws AccountLockedException if the account is temporarily locked due to too many failed
-     *     attempts
+     * @throws AccountLockedException if the account (or the client address) is temporarily locked
+     *     due to too many failed attempts
      */
-    public User authenticate(String username, String password)
+    public User authenticate(String username, String password, String clientAddress)
             throws AuthenticationFailedException, AccountLockedException {
         LOG.debugf("Attempting to authenticate user with username: %s", username);
 
         // Check if account is locked due to failed login attempts
-        checkAccountLockout(username);
+        checkAccountLockout(username, clientAddress);
 
         User user = userRepository.findByUsername(username);
         if (user == null) {
@@ -228,7 +242,7 @@ public class AuthService {
             // Perform password hash comparison with random hash to mitigate timing attacks
             BcryptUtil.matches(password, randomPasswordHash);
 
-            loginAttemptRepository.recordAttempt(username, false);
+            recordFailedLogin(username, null, clientAddress);
             throw new AuthenticationFailedException("Failed to authenticate user: " + username);
         }
         if (user.getPasswordHash() == null) {
@@ -240,40 +254,42 @@ public class AuthService {
             // avoid leaking that this account has no password set.
             BcryptUtil.matches(password, randomPasswordHash);
 
-            loginAttemptRepository.recordAttempt(user, false);
+            recordFailedLogin(username, user, clientAddress);
             throw new AuthenticationFailedException("Failed to authenticate user: " + username);
         }
         if (passwordMatches(password, user.getPasswordSalt(), user.getPasswordHash())) {
             LOG.infof("User %s authenticated successfully.", user.getUsername());
-            loginAttemptRepository.recordAttempt(user, true);
+            attemptAuditLog.recordLogin(user, true);
             return user;
         }
 
         LOG.warnf("Authentication failed for username %s: Password mismatch.", username);
-        loginAttemptRepository.recordAttempt(user, false);
+        recordFailedLogin(username, user, clientAddress);
         throw new AuthenticationFailedException("Failed to authenticate user: " + username);
     }
 
     /**
-     * Checks if the account is temporarily locked due to too many failed login attempts.
+     * Checks if the account or the client address is temporarily locked due to too many failed
+     * login attempts.
      *
      * @param username the username to check
-     * @throws AccountLockedException if the account is locked
+     * @param clientAddress the client address to check, or null to skip the per-client lockout
+     * @throws AccountLockedException if the account or the client is locked
      */
-    private void checkAccountLockout(String username) throws AccountLockedException {
-        Instant now = Instant.now();
-        Instant strictestRetryAfter = null;
-
-        for (LockoutTier tier : LOGIN_LOCKOUT_TIERS) {
-            Instant windowStart = now.minus(tier.window());
-            long failedAttempts = loginAttemptRepository.countFailedAttempts(username, windowStart);
-            if (failedAttempts >= tier.attempts()) {
-                Instant oldest =
-                        loginAttemptRepository.getOldestFailedAttemptTime(username, windowStart);
-                Instant retryAfter = (oldest != null ? oldest : now).plus(tier.lockoutDuration());
-                if (strictestRetryAfter == null || retryAfter.isAfter(strictestRetryAfter)) {
-                    strictestRetryAfter = retryAfter;
-                }
+    private void checkAccountLockout(String username, String clientAddress)
+            throws AccountLockedException {
+        Instant strictestRetryAfter =
+                attemptThrottle.lockedUntil(LOGIN_LOCKOUT_POLICY, username).orElse(null);
+
+        Optional<AttemptThrottle.Policy> clientPolicy = clientLockoutPolicy(clientAddress);
+        if (clientPolicy.isPresent()) {
+            Instant clientRetryAfter =
+                    attemptThrottle.lockedUntil(clientPolicy.get(), clientAddress).orElse(null);
+            if (clientRetryAfter != null
+                    && (strictestRetryAfter == null
+                            || clientRetryAfter.isAfter(strictestRetryAfter))) {
+                LOG.warnf("Too many failed logins from client address %s.", clientAddress);
+                strictestRetryAfter = clientRetryAfter;
             }
         }
 
@@ -288,6 +304,34 @@ public class AuthService {
         }
     }
 
+    private void recordFailedLogin(String username, User user, String clientAddress) {
+        attemptThrottle.recordFailure(LOGIN_LOCKOUT_POLICY, username);
+        clientLockoutPolicy(clientAddress)
+                .ifPresent(policy -> attemptThrottle.recordFailure(policy, clientAddress));
+        if (user != null) {
+            attemptAuditLog.recordLogin(user, false);
+        } else {
+            attemptAuditLog.recordLogin(username, null, false);
+        }
+    }
+
+    /**
+     * Returns the per-client lockout: {@code login-throttle.client-max-failures} failures within
+     * {@code login-throttle.client-window} lock the address until the oldest of them has left the
+     * window. Empty if the address is unknown or the limit is disabled ({@code 0}).
+     */
+    private Optional<AttemptThrottle.Policy> clientLockoutPolicy(String clientAddress) {
+        if (clientAddress == null || clientMaxFailures <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                new AttemptThrottle.Policy(
+                        "login-client",
+                        List.of(
+                                new AttemptThrottle.Tier(
+                                        clientMaxFailures, clientWindow, clientWindow))));
+    }
+
     public boolean passwordMatches(String password, String passwordSalt, String storedHash) {
         // Passkey-only accounts have no stored password hash and can never match.
         if (storedHash == null) {
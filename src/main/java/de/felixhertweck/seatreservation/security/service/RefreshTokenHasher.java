@@ -0,0 +1,123 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import de.felixhertweck.seatreservation.utils.SecretKeyFiles;
+import de.felixhertweck.seatreservation.utils.SecurityUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Hashes refresh token values for storage and lookup.
+ *
+ * <p>Refresh token values are 256 bits of random data, so a slow password hash adds nothing but CPU
+ * cost on every refresh. They are stored as HMAC-SHA256 digests instead, keyed with a sub-key
+ * derived from the server's encryption key ({@code security.encryption-key-location}), which makes
+ * the digest deterministic and therefore usable as an indexed lookup key, while a leaked table
+ * still cannot be checked against guessed values without the key.
+ *
+ * <p>Tokens issued before this change carry a bcrypt hash; {@link #isLegacyBcrypt(String)} lets the
+ * caller detect and upgrade those.
+ */
+@ApplicationScoped
+public class RefreshTokenHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_LABEL =
+            "refresh-token-digest-v1".getBytes(StandardCharsets.UTF_8);
+
+    @ConfigProperty(name = "security.encryption-key-location")
+    String encryptionKeyLocation;
+
+    private volatile SecretKeySpec key;
+
+    public RefreshTokenHasher() {}
+
+    /** Creates a hasher with the given master key, for tests and benchmarks. */
+    RefreshTokenHasher(byte[] masterKey) {
+        this.key = deriveKey(masterKey);
+    }
+
+    /**
+     * Computes the digest under which a refresh token value is stored.
+     *
+     * @param tokenValue the raw token value
+     * @return the lowercase hex encoded HMAC-SHA256 digest (64 characters)
+     */
+    public String digest(String tokenValue) {
+        return HexFormat.of().formatHex(mac(key(), tokenValue.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Checks a token value against a stored digest in constant time.
+     *
+     * @param tokenValue the raw token value
+     * @param storedDigest the digest stored for the token
+     * @return true if the digest of {@code tokenValue} equals {@code storedDigest}
+     */
+    public boolean matches(String tokenValue, String storedDigest) {
+        return SecurityUtils.constantTimeEquals(digest(tokenValue), storedDigest);
+    }
+
+    /**
+     * Returns whether a stored hash is a bcrypt hash from before refresh tokens were digested.
+     *
+     * @param storedHash the stored hash
+     * @return true for a bcrypt ({@code $2a$}/{@code $2b$}/{@code $2y$}) hash
+     */
+    public boolean isLegacyBcrypt(String storedHash) {
+        return storedHash != null && storedHash.startsWith("$2");
+    }
+
+    private SecretKeySpec key() {
+        SecretKeySpec current = key;
+        if (current == null) {
+            synchronized (this) {
+                current = key;
+                if (current == null) {
+                    current = deriveKey(SecretKeyFiles.readBase64Key(encryptionKeyLocation, 32));
+                    key = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static SecretKeySpec deriveKey(byte[] masterKey) {
+        byte[] subKey = mac(new SecretKeySpec(masterKey, ALGORITHM), KEY_LABEL);
+        return new SecretKeySpec(subKey, ALGORITHM);
+    }
+
+    private static byte[] mac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
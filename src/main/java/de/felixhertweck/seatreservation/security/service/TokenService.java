@@ -58,6 +58,8 @@ public class TokenService {
 
     @Inject RefreshTokenRepository refreshTokenRepository;
 
+    @Inject RefreshTokenHasher refreshTokenHasher;
+
     @Inject JWTParser parser;
 
     /**
@@ -125,7 +127,7 @@ public class TokenService {
                 java.util.Base64.getUrlEncoder()
                         .withoutPadding()
                         .encodeToString(SecurityUtils.generateRandomBytes(32));
-        String tokenHash = BcryptUtil.bcryptHash(tokenValue);
+        String tokenHash = refreshTokenHasher.digest(tokenValue);
 
         RefreshToken refreshToken =
                 new RefreshToken(
@@ -181,15 +183,12 @@ public class TokenService {
             throw new JwtInvalidException("Missing token_value in JWT");
         }
 
-        RefreshToken storedToken = refreshTokenRepository.findById(tokenId);
+        RefreshToken storedToken = findStoredToken(tokenId, tokenValue);
         if (storedToken == null) {
             throw new JwtInvalidException("Refresh token not found for token_id: " + tokenId);
         }
 
-        boolean isValid =
-                BcryptUtil.matches(tokenValue, storedToken.getTokenHash())
-                        && storedToken.getExpiresAt().isAfter(Instant.now());
-        if (!isValid) {
+        if (!storedToken.getExpiresAt().isAfter(Instant.now())) {
             throw new JwtInvalidException(
                     "Refresh token is invalid or expired for token_id: " + tokenId);
         }
@@ -197,6 +196,35 @@ public class TokenService {
         return storedToken.getUser();
     }
 
+    /**
+     * Looks up the stored token for a refresh token value. Tokens are found through the indexed
+     * digest of their value; tokens issued with a bcrypt hash are still accepted through their id
+     * and get their hash replaced by the digest on the way.
+     *
+     * @return the stored token, or null if there is none matching both id and value
+     */
+    private RefreshToken findStoredToken(UUID tokenId, String tokenValue) {
+        String digest = refreshTokenHasher.digest(tokenValue);
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(digest).orElse(null);
+        if (storedToken != null) {
+            return tokenId.equals(storedToken.id)
+                            && refreshTokenHasher.matches(tokenValue, storedToken.getTokenHash())
+                    ? storedToken
+                    : null;
+        }
+
+        storedToken = refreshTokenRepository.findById(tokenId);
+        if (storedToken == null
+                || !refreshTokenHasher.isLegacyBcrypt(storedToken.getTokenHash())
+                || !BcryptUtil.matches(tokenValue, storedToken.getTokenHash())) {
+            return null;
+        }
+        if (refreshTokenRepository.replaceTokenHash(tokenId, storedToken.getTokenHash(), digest)) {
+            LOG.debugf("Upgraded legacy refresh token hash for token_id: %s", tokenId);
+        }
+        return storedToken;
+    }
+
     /**
      * Creates a new HTTP cookie containing the refresh token.
      *
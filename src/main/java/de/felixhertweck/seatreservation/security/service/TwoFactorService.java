@@ -43,7 +43,6 @@ import de.felixhertweck.seatreservation.model.entity.TwoFactorBackupCode;
 import de.felixhertweck.seatreservation.model.entity.TwoFactorChallenge;
 import de.felixhertweck.seatreservation.model.entity.TwoFactorMethod;
 import de.felixhertweck.seatreservation.model.entity.User;
-import de.felixhertweck.seatreservation.model.repository.TwoFactorAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.TwoFactorBackupCodeRepository;
 import de.felixhertweck.seatreservation.model.repository.TwoFactorChallengeRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
@@ -71,7 +70,8 @@ public class TwoFactorService {
     @Inject UserRepository userRepository;
     @Inject TwoFactorBackupCodeRepository backupCodeRepository;
     @Inject TwoFactorChallengeRepository challengeRepository;
-    @Inject TwoFactorAttemptRepository twoFactorAttemptRepository;
+    @Inject AttemptThrottle attemptThrottle;
+    @Inject AttemptAuditLog attemptAuditLog;
     @Inject EmailService emailService;
     @Inject EmailCooldownService emailCooldownService;
     @Inject @Any Instance<SecondFactor> secondFactors;
@@ -200,7 +200,7 @@ public class TwoFactorService {
             }
             checkTwoFactorLockout(user);
             boolean valid = verifyTotpCode(user, code) || verifyAndConsumeBackupCode(user, code);
-            twoFactorAttemptRepository.recordAttempt(user, valid);
+            recordAttempt(user, valid);
             if (!valid) {
                 return Optional.empty();
             }
@@ -298,7 +298,7 @@ public class TwoFactorService {
             }
         }
 
-        twoFactorAttemptRepository.recordAttempt(user, verified);
+        recordAttempt(user, verified);
         return verified;
     }
 
@@ -472,7 +472,7 @@ public class TwoFactorService {
             }
         }
 
-        twoFactorAttemptRepository.recordAttempt(user, verified);
+        recordAttempt(user, verified);
 
         if (verified) {
             challenge.setUsed(true);
@@ -486,28 +486,35 @@ public class TwoFactorService {
     }
 
     private void checkTwoFactorLockout(User user) {
-        Instant lockoutWindowStart = Instant.now().minusSeconds(lockoutDurationSeconds);
-        long failedAttempts =
-                twoFactorAttemptRepository.countFailedAttempts(user, lockoutWindowStart);
-
-        if (failedAttempts >= maxFailedAttempts) {
-            Instant retryAfter = calculateRemainingLockoutTime(user, lockoutWindowStart);
+        Optional<Instant> retryAfter =
+                attemptThrottle.lockedUntil(twoFactorLockoutPolicy(), String.valueOf(user.id));
+        if (retryAfter.isPresent()) {
             LOG.warnf(
-                    "2FA verification locked for user ID: %s due to %d failed attempts. Remaining"
-                            + " lockout time: %s",
-                    user.id, failedAttempts, retryAfter);
+                    "2FA verification locked for user ID: %s. Remaining lockout time: %s",
+                    user.id, retryAfter.get());
             throw new AccountLockedException(
-                    "Too many failed 2FA attempts. Please try again later.", retryAfter);
+                    "Too many failed 2FA attempts. Please try again later.", retryAfter.get());
         }
     }
 
-    private Instant calculateRemainingLockoutTime(User user, Instant lockoutWindowStart) {
-        Instant oldestFailedAttempt =
-                twoFactorAttemptRepository.getOldestFailedAttemptTime(user, lockoutWindowStart);
-        if (oldestFailedAttempt == null) {
-            return Instant.now().plusSeconds(lockoutDurationSeconds);
+    private void recordAttempt(User user, boolean verified) {
+        if (!verified) {
+            attemptThrottle.recordFailure(twoFactorLockoutPolicy(), String.valueOf(user.id));
         }
-        return oldestFailedAttempt.plusSeconds(lockoutDurationSeconds);
+        attemptAuditLog.recordTwoFactor(user, verified);
+    }
+
+    /**
+     * {@code two-factor.max-failed-attempts} failures within {@code
+     * two-factor.lockout-duration-seconds} lock verification until that long after the oldest.
+     */
+    private AttemptThrottle.Policy twoFactorLockoutPolicy() {
+        Duration lockoutDuration = Duration.ofSeconds(lockoutDurationSeconds);
+        return new AttemptThrottle.Policy(
+                "2fa",
+                List.of(
+                        new AttemptThrottle.Tier(
+                                maxFailedAttempts, lockoutDuration, lockoutDuration)));
     }
 
     /**
@@ -33,7 +33,6 @@ import de.felixhertweck.seatreservation.common.exception.RegistrationDisabledExc
 import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.entity.WebAuthnCredential;
-import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.model.repository.WebAuthnCredentialRepository;
 import de.felixhertweck.seatreservation.security.dto.WebAuthnCredentialDTO;
@@ -65,7 +64,7 @@ public class WebAuthnService {
 
     @Inject AuthService authService;
 
-    @Inject LoginAttemptRepository loginAttemptRepository;
+    @Inject AttemptAuditLog attemptAuditLog;
 
     /**
      * @return whether the given user has at least one registered passkey
@@ -199,9 +198,8 @@ public class WebAuthnService {
     }
 
     /** Records a successful passkey login for audit parity with password logins. */
-    @Transactional
     public void recordSuccessfulLogin(User user) {
-        loginAttemptRepository.recordAttempt(user, true);
+        attemptAuditLog.recordLogin(user, true);
     }
 
     private void persistCredential(User user, WebAuthnCredentialRecord record, String label) {
@@ -53,6 +53,7 @@ import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.SeatRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.reservation.service.CheckInTokenService;
+import de.felixhertweck.seatreservation.reservation.service.SeatStatusIndex;
 import de.felixhertweck.seatreservation.supervisor.dto.BoxOfficeGuestReservationRequestDTO;
 import de.felixhertweck.seatreservation.supervisor.dto.BoxOfficeReservationRequestDTO;
 import de.felixhertweck.seatreservation.supervisor.dto.BoxOfficeReservationResponseDTO;
@@ -81,6 +82,8 @@ public class BoxOfficeService {
 
     @Inject CheckInTokenService checkInTokenService;
 
+    @Inject SeatStatusIndex seatStatusIndex;
+
     @Inject BoxOfficeGuestInfoRepository boxOfficeGuestInfoRepository;
 
     @Inject EventAuthorizationService eventAuthorizationService;
@@ -124,7 +127,8 @@ public class BoxOfficeService {
                         dto.isDeductAllowance(),
                         checkInToken);
 
-        reservationRepository.persistAll(newReservations);
+        newReservations = insertReservations(event, newReservations);
+        seatStatusIndex.recordPersisted(event.id, dto.getSeatIds(), ReservationStatus.RESERVED);
 
         // AuthenticatedUser only carries id/roles (no DB round trip); fetch the acting
         // supervisor's email so they receive a CC, matching
@@ -179,7 +183,8 @@ public class BoxOfficeService {
                         false,
                         checkInToken);
 
-        reservationRepository.persistAll(newReservations);
+        newReservations = insertReservations(event, newReservations);
+        seatStatusIndex.recordPersisted(event.id, dto.getSeatIds(), ReservationStatus.RESERVED);
 
         List<BoxOfficeGuestInfo> guestInfos =
                 newReservations.stream()
@@ -208,6 +213,26 @@ public class BoxOfficeService {
                 boxofficeUser.id, newReservations, confirmation.displayHtml());
     }
 
+    /**
+     * Inserts the reservations, rejecting the request if any of the seats is already taken. The
+     * unique constraint decides (instead of a look-up beforehand), and a taken seat is still
+     * rejected before any email/broadcast side effect runs; the exception rolls back the seats that
+     * were inserted.
+     */
+    private List<Reservation> insertReservations(Event event, List<Reservation> newReservations) {
+        ReservationRepository.InsertResult result =
+                reservationRepository.insertAll(newReservations);
+        if (result.hasConflicts()) {
+            UUID conflictingSeatId = result.conflictingSeatIds().iterator().next();
+            LOG.warnf(
+                    "Box office reservation for event %s rejected, seats %s are already taken.",
+                    event.getId(), result.conflictingSeatIds());
+            throw new ValidationException(
+                    "Seat with id " + conflictingSeatId + " is already reserved or blocked.");
+        }
+        return result.inserted();
+    }
+
     private List<Reservation> createReservationsForSeats(
             Event event,
             User reservationOwner,
@@ -223,18 +248,6 @@ public class BoxOfficeService {
                 seatRepository.findByIds(seatIds.stream().toList()).stream()
                         .collect(Collectors.toMap(s -> s.id, s -> s, (s1, s2) -> s1));
 
-        // Proactive conflict check (mirrors management.service.ReservationService.blockSeats) so
-        // a taken seat is rejected before any email/broadcast side effect runs, rather than only
-        // surfacing as a late unique-constraint violation at transaction commit.
-        List<Reservation> conflicting =
-                reservationRepository.findByEventIdAndSeatIds(
-                        event.getId(), new ArrayList<>(seatIds));
-        if (!conflicting.isEmpty()) {
-            UUID conflictingSeatId = conflicting.getFirst().getSeat().id;
-            throw new ValidationException(
-                    "Seat with id " + conflictingSeatId + " is already reserved or blocked.");
-        }
-
         EventUserAllowance allowance = null;
         if (deductAllowance) {
             allowance =
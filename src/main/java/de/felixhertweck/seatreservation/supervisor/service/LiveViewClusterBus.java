@@ -0,0 +1,289 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.supervisor.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands.RedisSubscriber;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import io.vertx.mutiny.redis.client.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Relays live view messages between backend instances over Redis pub/sub, one channel per event
+ * ({@code liveview:event:<eventId>}).
+ *
+ * <p>An instance only subscribes to an event's channel while it has local live view connections for
+ * that event. Outgoing messages are queued and published by a single background thread, which packs
+ * everything queued for the same event since its last pass into one Redis message, so a burst of
+ * check-ins costs one {@code PUBLISH} per event instead of one per reservation. Messages carry the
+ * already serialized payload and the sending instance's ID; an instance ignores its own messages
+ * because {@link LiveViewService} delivers those locally right away. Messages for events nobody is
+ * watching are not published at all: {@link #hasRemoteListeners} asks Redis ({@code PUBSUB
+ * NUMSUB}) whether any instance is subscribed to the event's channel, and reuses the answer for
+ * {@code liveview.cluster.interest-cache-millis}.
+ *
+ * <p>Redis is best-effort here: if it is unavailable, live view keeps working for connections on
+ * the instance that processed the change.
+ */
+@ApplicationScoped
+public class LiveViewClusterBus {
+
+    private static final Logger LOG = Logger.getLogger(LiveViewClusterBus.class);
+
+    static final String CHANNEL_PREFIX = "liveview:event:";
+
+    /** One relayed live view message: its coalesce key (may be null) and serialized payload. */
+    @RegisterForReflection
+    public record Message(String key, String payload) {}
+
+    /** What is actually published: all messages of one event from one pass of one instance. */
+    @RegisterForReflection
+    public record Batch(String origin, List<Message> messages) {}
+
+    private record Outgoing(UUID eventId, Message message) {}
+
+    private record Interest(boolean listening, long checkedAtMillis) {}
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Outgoing> outgoing = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Map<UUID, RedisSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, Interest> interest = new ConcurrentHashMap<>();
+
+    /** Single thread that publishes batches and changes subscriptions, in submission order. */
+    private ExecutorService dispatcher;
+
+    private final RedisDataSource redisDataSource;
+    private final PubSubCommands<String> pubSub;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long interestCacheMillis;
+    private final MeterRegistry meterRegistry;
+
+    @Inject
+    public LiveViewClusterBus(
+            RedisDataSource redisDataSource,
+            @ConfigProperty(name = "liveview.cluster.enabled", defaultValue = "true")
+                    boolean enabled,
+            @ConfigProperty(name = "liveview.cluster.max-batch-size", defaultValue = "100")
+                    int maxBatchSize,
+            @ConfigProperty(name = "liveview.cluster.interest-cache-millis", defaultValue = "1000")
+                    long interestCacheMillis,
+            MeterRegistry meterRegistry) {
+        this.redisDataSource = redisDataSource;
+        this.pubSub = redisDataSource.pubsub(String.class);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.interestCacheMillis = interestCacheMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        dispatcher =
+                Executors.newSingleThreadExecutor(
+                        Thread.ofPlatform().name("liveview-cluster").daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(this::unsubscribeQuietly);
+        subscribers.clear();
+    }
+
+    /**
+     * Whether any instance is subscribed to the event's channel, i.e. has live view connections
+     * for it. Only meaningful while this instance has none itself (it is subscribed otherwise).
+     * Answers are reused for {@code interestCacheMillis}, so a supervisor connecting elsewhere may
+     * miss changes of that long after its initial snapshot. If Redis cannot be asked, messages are
+     * relayed anyway.
+     *
+     * @param eventId the event ID
+     * @return {@code true} if messages for the event should be published
+     */
+    public boolean hasRemoteListeners(UUID eventId) {
+        if (!enabled) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Interest cached = interest.get(eventId);
+        if (cached != null && now - cached.checkedAtMillis() < interestCacheMillis) {
+            return cached.listening();
+        }
+        boolean listening;
+        try {
+            Response reply =
+                    redisDataSource.execute("PUBSUB", "NUMSUB", CHANNEL_PREFIX + eventId);
+            listening = reply.get(1).toLong() > 0;
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Failed to look up live view listeners of event %s", eventId);
+            listening = true;
+        }
+        interest.put(eventId, new Interest(listening, now));
+        return listening;
+    }
+
+    /**
+     * Queues a message for the other instances. Never blocks; the message is published by the
+     * background dispatcher together with whatever else is queued for the same event.
+     *
+     * @param eventId the event ID the message belongs to
+     * @param coalesceKey the message's coalesce key, or {@code null}
+     * @param payload the serialized message
+     */
+    public void publish(UUID eventId, String coalesceKey, String payload) {
+        if (!enabled) {
+            return;
+        }
+        outgoing.add(new Outgoing(eventId, new Message(coalesceKey, payload)));
+        if (flushScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Subscribes to or unsubscribes from an event's channel, depending on whether there are still
+     * local connections for it. Runs asynchronously on the dispatcher thread, so it may be called
+     * from any thread, and {@code hasLocalConnections} is evaluated there - the last call for an
+     * event always leaves the subscription matching the final state.
+     *
+     * @param eventId the event ID
+     * @param hasLocalConnections whether this instance still has connections for the event
+     * @param listener receives the coalesce key and payload of every message from other instances
+     */
+    public void refreshSubscription(
+            UUID eventId,
+            BooleanSupplier hasLocalConnections,
+            BiConsumer<String, String> listener) {
+        if (!enabled) {
+            return;
+        }
+        dispatcher.execute(
+                () -> {
+                    boolean wanted = hasLocalConnections.getAsBoolean();
+                    RedisSubscriber current = subscribers.get(eventId);
+                    if (wanted && current == null) {
+                        try {
+                            subscribers.put(
+                                    eventId,
+                                    pubSub.subscribe(
+                                            CHANNEL_PREFIX + eventId,
+                                            raw -> onMessage(eventId, raw, listener)));
+                            LOG.debugf("Subscribed to live view channel of event %s", eventId);
+                        } catch (RuntimeException e) {
+                            LOG.warnf(
+                                    e,
+                                    "Failed to subscribe to live view channel of event %s; only"
+                                            + " local changes will be pushed",
+                                    eventId);
+                        }
+                    } else if (!wanted && current != null) {
+                        subscribers.remove(eventId);
+                        unsubscribeQuietly(current);
+                        LOG.debugf("Unsubscribed from live view channel of event %s", eventId);
+                    }
+                });
+    }
+
+    private void flush() {
+        // Reset first: a message queued from now on schedules another pass.
+        flushScheduled.set(false);
+        Map<UUID, List<Message>> byEvent = new LinkedHashMap<>();
+        Outgoing next;
+        while ((next = outgoing.poll()) != null) {
+            byEvent.computeIfAbsent(next.eventId(), id -> new ArrayList<>()).add(next.message());
+        }
+        byEvent.forEach(
+                (eventId, messages) -> {
+                    for (int from = 0; from < messages.size(); from += maxBatchSize) {
+                        List<Message> chunk =
+                                messages.subList(
+                                        from, Math.min(from + maxBatchSize, messages.size()));
+                        publishBatch(eventId, chunk);
+                    }
+                });
+    }
+
+    private void publishBatch(UUID eventId, List<Message> messages) {
+        try {
+            pubSub.publish(
+                    CHANNEL_PREFIX + eventId,
+                    objectMapper.writeValueAsString(new Batch(nodeId, messages)));
+            if (meterRegistry != null) {
+                meterRegistry.summary("liveview.cluster.batch.size").record(messages.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warnf(
+                    e,
+                    "Failed to publish %d live view message(s) for event %s to other instances",
+                    messages.size(),
+                    eventId);
+        }
+    }
+
+    private void onMessage(UUID eventId, String raw, BiConsumer<String, String> listener) {
+        Batch batch;
+        try {
+            batch = objectMapper.readValue(raw, Batch.class);
+        } catch (IOException e) {
+            LOG.warnf(e, "Ignoring malformed live view message for event %s", eventId);
+            return;
+        }
+        if (nodeId.equals(batch.origin())) {
+            return;
+        }
+        for (Message message : batch.messages()) {
+            listener.accept(message.key(), message.payload());
+        }
+    }
+
+    private void unsubscribeQuietly(RedisSubscriber subscriber) {
+        try {
+            subscriber.unsubscribe();
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Failed to unsubscribe from live view channel");
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.supervisor.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.websockets.next.WebSocketConnection;
+import org.jboss.logging.Logger;
+
+/**
+ * Bounded outbound queue of one live view WebSocket connection.
+ *
+ * <p>Messages are already serialized when they arrive and are written one at a time without ever
+ * blocking the caller: {@link #enqueue} only appends and, if the connection is idle, starts the
+ * next non-blocking send, whose completion picks up the following message. A message with a
+ * coalesce key replaces a still-queued message with the same key, so a slow consumer only receives
+ * the latest state of a reservation. A consumer that still falls {@code capacity} messages behind,
+ * or whose send does not complete within the send timeout, is closed and dropped; the client
+ * reconnects and gets a fresh initial snapshot.
+ *
+ * <p>Also used for the user-facing seat status stream ({@link
+ * de.felixhertweck.seatreservation.reservation.service.SeatStatusStreamService}).
+ */
+public final class LiveViewSendQueue {
+
+    private static final Logger LOG = Logger.getLogger(LiveViewSendQueue.class);
+
+    private static final class Pending {
+        final String key;
+        final long enqueuedAtNanos;
+        String payload;
+
+        Pending(String key, String payload) {
+            this.key = key;
+            this.payload = payload;
+            this.enqueuedAtNanos = System.nanoTime();
+        }
+    }
+
+    private final WebSocketConnection connection;
+    private final int capacity;
+    private final Duration sendTimeout;
+    private final Timer sendLatency;
+    private final Counter coalesced;
+    private final Consumer<LiveViewSendQueue> onDrop;
+
+    // All mutable state below is guarded by this.
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private final Map<String, Pending> queuedByKey = new HashMap<>();
+    private boolean sending;
+    private boolean draining;
+    private boolean closed;
+
+    /**
+     * @param connection the connection to write to
+     * @param capacity max number of queued messages before the consumer counts as lagging
+     * @param sendTimeout max time a single send may take before the consumer counts as lagging
+     * @param sendLatency records enqueue-to-sent latency, or {@code null}
+     * @param coalesced counts messages replaced by a newer one with the same key, or {@code null}
+     * @param onDrop called once when the consumer is dropped for lagging or a failed send
+     */
+    public LiveViewSendQueue(
+            WebSocketConnection connection,
+            int capacity,
+            Duration sendTimeout,
+            Timer sendLatency,
+            Counter coalesced,
+            Consumer<LiveViewSendQueue> onDrop) {
+        this.connection = connection;
+        this.capacity = capacity;
+        this.sendTimeout = sendTimeout;
+        this.sendLatency = sendLatency;
+        this.coalesced = coalesced;
+        this.onDrop = onDrop;
+    }
+
+    public WebSocketConnection connection() {
+        return connection;
+    }
+
+    public synchronized int depth() {
+        return queue.size();
+    }
+
+    /**
+     * Queues a serialized message and starts sending if the connection is idle.
+     *
+     * @param coalesceKey key of the state the message describes, or {@code null} if the message
+     *     must never be replaced
+     * @param payload the serialized message
+     */
+    public void enqueue(String coalesceKey, String payload) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Pending queued = coalesceKey != null ? queuedByKey.get(coalesceKey) : null;
+            if (queued != null) {
+                queued.payload = payload;
+                if (coalesced != null) {
+                    coalesced.increment();
+                }
+                return;
+            }
+            if (queue.size() < capacity) {
+                Pending pending = new Pending(coalesceKey, payload);
+                queue.addLast(pending);
+                if (coalesceKey != null) {
+                    queuedByKey.put(coalesceKey, pending);
+                }
+                queued = pending;
+            }
+        }
+        if (queued == null) {
+            drop("outbound queue full");
+            return;
+        }
+        drain();
+    }
+
+    /** Discards all queued messages without closing the connection, e.g. once it was closed. */
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+        queuedByKey.clear();
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                // The thread already draining picks up whatever was queued meanwhile.
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            Pending next;
+            synchronized (this) {
+                next = closed || sending ? null : queue.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+                if (next.key != null) {
+                    queuedByKey.remove(next.key);
+                }
+                sending = true;
+            }
+            send(next);
+        }
+    }
+
+    private void send(Pending pending) {
+        try {
+            connection
+                    .sendText(pending.payload)
+                    .ifNoItem()
+                    .after(sendTimeout)
+                    .fail()
+                    .subscribe()
+                    .with(ignored -> onSent(pending), this::onSendFailure);
+        } catch (RuntimeException e) {
+            onSendFailure(e);
+        }
+    }
+
+    private void onSent(Pending pending) {
+        if (sendLatency != null) {
+            sendLatency.record(Duration.ofNanos(System.nanoTime() - pending.enqueuedAtNanos));
+        }
+        boolean resume;
+        synchronized (this) {
+            sending = false;
+            // A send that completed synchronously is picked up by the running drain loop.
+            resume = !draining;
+        }
+        if (resume) {
+            drain();
+        }
+    }
+
+    private void onSendFailure(Throwable failure) {
+        LOG.debugf(failure, "Live view send failed for connection %s", connection.id());
+        drop("send failed: " + failure.getMessage());
+    }
+
+    private void drop(String reason) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            close();
+        }
+        LOG.warnf("Dropping lagging live view connection %s (%s)", connection.id(), reason);
+        onDrop.accept(this);
+        try {
+            connection
+                    .close()
+                    .subscribe()
+                    .with(
+                            ignored -> {},
+                            failure ->
+                                    LOG.debugf(
+                                            failure,
+                                            "Closing live view connection %s failed",
+                                            connection.id()));
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Closing live view connection %s failed", connection.id());
+        }
+    }
+}
@@ -20,13 +20,14 @@
 package de.felixhertweck.seatreservation.supervisor.service;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -34,6 +35,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import de.felixhertweck.seatreservation.common.exception.AccessDeniedException;
+import de.felixhertweck.seatreservation.management.service.SeatmapCacheService;
 import de.felixhertweck.seatreservation.model.entity.BoxOfficeGuestInfo;
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
@@ -48,8 +50,13 @@ import de.felixhertweck.seatreservation.supervisor.dto.WebsocketUpdateDTO;
 import de.felixhertweck.seatreservation.supervisor.exception.BookingDeadlineNotPassedException;
 import de.felixhertweck.seatreservation.supervisor.exception.InvalidEventIdException;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.arc.Lock;
 import io.quarkus.websockets.next.WebSocketConnection;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 @ApplicationScoped
@@ -65,10 +72,25 @@ public class LiveViewService {
 
     @Inject EventAuthorizationService eventAuthorizationService;
 
-    // Map: eventId -> List of WebSocket Connections
-    private final Map<UUID, List<WebSocketConnection>> eventSubscriptions =
+    @Inject SeatmapCacheService seatmapCacheService;
+
+    @Inject LiveViewClusterBus clusterBus;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "liveview.outbound.queue-capacity", defaultValue = "256")
+    int queueCapacity;
+
+    @ConfigProperty(name = "liveview.outbound.send-timeout-seconds", defaultValue = "10")
+    long sendTimeoutSeconds;
+
+    // Map: eventId -> (WebSocket Connection -> its outbound send queue)
+    private final Map<UUID, Map<WebSocketConnection, LiveViewSendQueue>> eventSubscriptions =
             new ConcurrentHashMap<>();
 
+    private Timer sendLatency;
+    private Counter coalesced;
+
     // Configured ObjectMapper for JSON serialization
     private final ObjectMapper objectMapper;
 
@@ -79,6 +101,23 @@ public class LiveViewService {
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
+    @PostConstruct
+    void init() {
+        if (meterRegistry != null) {
+            Gauge.builder("liveview.outbound.queue.depth", this, LiveViewService::totalDepth)
+                    .description("Live view messages queued and not yet sent, over all connections")
+                    .register(meterRegistry);
+            sendLatency =
+                    Timer.builder("liveview.send.latency")
+                            .description("Time from queueing a live view message to it being sent")
+                            .register(meterRegistry);
+            coalesced =
+                    Counter.builder("liveview.messages.coalesced")
+                            .description("Queued live view updates replaced by a newer one")
+                            .register(meterRegistry);
+        }
+    }
+
     /**
      * Registers a WebSocket connection for a specific event by parsing the event ID string. Sends
      * all current reservations for the event as initial message.
@@ -170,13 +209,30 @@ public class LiveViewService {
     public void registerConnection(UUID eventId, WebSocketConnection connection) {
         LOG.debugf("Registering WebSocket connection for event %s", eventId);
 
-        eventSubscriptions.computeIfAbsent(eventId, k -> new ArrayList<>()).add(connection);
-        LOG.debugf(
-                "Connection registered for event %s. Total connections: %d",
-                eventId, eventSubscriptions.get(eventId).size());
+        LiveViewSendQueue sendQueue =
+                new LiveViewSendQueue(
+                        connection,
+                        queueCapacity,
+                        Duration.ofSeconds(sendTimeoutSeconds),
+                        sendLatency,
+                        coalesced,
+                        dropped -> onConnectionDropped(eventId, dropped));
+        int total =
+                eventSubscriptions
+                        .compute(
+                                eventId,
+                                (id, existing) -> {
+                                    Map<WebSocketConnection, LiveViewSendQueue> connections =
+                                            existing != null ? existing : new ConcurrentHashMap<>();
+                                    connections.put(connection, sendQueue);
+                                    return connections;
+                                })
+                        .size();
+        refreshClusterSubscription(eventId);
+        LOG.debugf("Connection registered for event %s. Total connections: %d", eventId, total);
 
         // Send initial reservations
-        sendInitialReservations(eventId, connection);
+        sendInitialReservations(eventId, sendQueue);
     }
 
     /**
@@ -189,22 +245,76 @@ public class LiveViewService {
     public void unregisterConnection(UUID eventId, WebSocketConnection connection) {
         LOG.debugf("Unregistering WebSocket connection for event %s", eventId);
 
-        List<WebSocketConnection> connections = eventSubscriptions.get(eventId);
-        if (connections != null) {
-            connections.remove(connection);
-            LOG.debugf(
-                    "Connection unregistered for event %s. Remaining connections: %d",
-                    eventId, connections.size());
-
-            // Remove event entry if no more connections
-            if (connections.isEmpty()) {
-                eventSubscriptions.remove(eventId);
-                LOG.debugf(
-                        "No more connections for event %s, removing subscription entry.", eventId);
+        if (!eventSubscriptions.containsKey(eventId)) {
+            return;
+        }
+        LiveViewSendQueue sendQueue = removeConnection(eventId, connection, null);
+        if (sendQueue != null) {
+            sendQueue.close();
+        }
+        LOG.debugf(
+                "Connection unregistered for event %s. Remaining connections: %d",
+                eventId, getActiveConnectionCount(eventId));
+        refreshClusterSubscription(eventId);
+    }
+
+    private void onConnectionDropped(UUID eventId, LiveViewSendQueue sendQueue) {
+        // Called from the send queue, outside of this bean's lock.
+        if (removeConnection(eventId, sendQueue.connection(), sendQueue) != null) {
+            if (meterRegistry != null) {
+                meterRegistry.counter("liveview.connections.dropped").increment();
             }
+            refreshClusterSubscription(eventId);
         }
     }
 
+    /**
+     * Removes a connection, and the event's entry along with its last connection, in one atomic
+     * step, so a concurrent registration never adds to an entry that is being removed.
+     *
+     * @param eventId the event ID
+     * @param connection the connection to remove
+     * @param expected only remove the connection if it is still mapped to this send queue; {@code
+     *     null} to remove it regardless
+     * @return the removed send queue, or {@code null} if nothing was removed
+     */
+    private LiveViewSendQueue removeConnection(
+            UUID eventId, WebSocketConnection connection, LiveViewSendQueue expected) {
+        LiveViewSendQueue[] removed = new LiveViewSendQueue[1];
+        eventSubscriptions.computeIfPresent(
+                eventId,
+                (id, connections) -> {
+                    if (expected == null) {
+                        removed[0] = connections.remove(connection);
+                    } else if (connections.remove(connection, expected)) {
+                        removed[0] = expected;
+                    }
+                    if (connections.isEmpty()) {
+                        LOG.debugf(
+                                "No more connections for event %s, removing subscription entry.",
+                                id);
+                        return null;
+                    }
+                    return connections;
+                });
+        return removed[0];
+    }
+
+    /** Listens on the event's cluster channel only while this instance has connections for it. */
+    private void refreshClusterSubscription(UUID eventId) {
+        clusterBus.refreshSubscription(
+                eventId,
+                () -> eventSubscriptions.containsKey(eventId),
+                (coalesceKey, payload) -> deliverLocally(eventId, coalesceKey, payload));
+    }
+
+    private double totalDepth() {
+        return eventSubscriptions.values().stream()
+                .flatMap(connections -> connections.values().stream())
+                .mapToInt(LiveViewSendQueue::depth)
+                .sum();
+    }
+
     /** Mirrors BoxOfficeService/CheckInService's private assertBookingDeadlinePassed check. */
     private void assertBookingDeadlinePassed(Event event) {
         Instant deadline = event != null ? event.getBookingDeadline() : null;
@@ -216,12 +326,12 @@ public class LiveViewService {
     }
 
     /**
-     * Sends the initial list of reservations for an event to a specific connection.
+     * Queues the initial list of reservations for an event as the first message of a connection.
      *
      * @param eventId the event ID
-     * @param connection the WebSocket connection to send to
+     * @param sendQueue the send queue of the WebSocket connection to send to
      */
-    private void sendInitialReservations(UUID eventId, WebSocketConnection connection) {
+    private void sendInitialReservations(UUID eventId, LiveViewSendQueue sendQueue) {
         LOG.debugf("Sending initial reservations for event %s", eventId);
 
         try {
@@ -249,13 +359,10 @@ public class LiveViewService {
 
             WebsocketInitialDTO initialMessage =
                     WebsocketInitialDTO.initial(location, event, reservationDtos);
-            connection
-                    .sendText(objectMapper.writeValueAsString(initialMessage))
-                    .await()
-                    .indefinitely();
+            sendQueue.enqueue(null, objectMapper.writeValueAsString(initialMessage));
 
             LOG.debugf(
-                    "Sent %d initial reservations to connection for event %s",
+                    "Queued %d initial reservations to connection for event %s",
                     reservations.size(), eventId);
         } catch (IOException e) {
             LOG.errorf(e, "Error sending initial reservations for event %s to connection", eventId);
@@ -263,7 +370,9 @@ public class LiveViewService {
     }
 
     /**
-     * Broadcasts a check-in update to all subscribed clients for an event.
+     * Broadcasts a check-in update to all subscribed clients for an event once the current
+     * transaction commits. A client that has not yet received an earlier update of the same
+     * reservation only gets the latest one.
      *
      * @param eventId the event ID
      * @param reservation the reservation that was checked in
@@ -272,21 +381,19 @@ public class LiveViewService {
         LOG.debugf(
                 "Broadcasting check-in update for event %s, reservation: %s", eventId, reservation);
 
-        List<WebSocketConnection> connections = eventSubscriptions.get(eventId);
-        if (connections == null || connections.isEmpty()) {
-            LOG.debugf("No active connections for event %s", eventId);
+        if (!hasConnections(eventId)) {
             return;
         }
 
         WebsocketUpdateDTO update = WebsocketUpdateDTO.update(reservation);
-        broadcastToConnections(connections, update, eventId);
+        broadcastToConnections(eventId, "UPDATE:" + reservation.id, update);
     }
 
     /**
-     * Broadcasts a brand new reservation to all subscribed clients for an event, so they can add it
-     * to their reservation list instead of only patching the live status of a reservation they
-     * already knew about (which {@link #broadcastUpdate} does). Currently only used by the box
-     * office creation flow.
+     * Broadcasts a brand new reservation to all subscribed clients for an event once the current
+     * transaction commits, so they can add it to their reservation list instead of only patching
+     * the live status of a reservation they already knew about (which {@link #broadcastUpdate}
+     * does). Currently only used by the box office creation flow.
      *
      * @param eventId the event ID
      * @param reservation the reservation that was just created
@@ -296,48 +403,68 @@ public class LiveViewService {
         LOG.debugf(
                 "Broadcasting new reservation for event %s, reservation: %s", eventId, reservation);
 
-        List<WebSocketConnection> connections = eventSubscriptions.get(eventId);
-        if (connections == null || connections.isEmpty()) {
-            LOG.debugf("No active connections for event %s", eventId);
+        if (!hasConnections(eventId)) {
             return;
         }
 
         WebsocketNewReservationDTO newReservation =
                 WebsocketNewReservationDTO.newReservation(reservation, guestName);
-        broadcastToConnections(connections, newReservation, eventId);
+        broadcastToConnections(eventId, null, newReservation);
+    }
+
+    private boolean hasConnections(UUID eventId) {
+        Map<WebSocketConnection, LiveViewSendQueue> connections = eventSubscriptions.get(eventId);
+        if (connections != null && !connections.isEmpty()) {
+            return true;
+        }
+        if (clusterBus.hasRemoteListeners(eventId)) {
+            return true;
+        }
+        LOG.debugf("No active connections for event %s", eventId);
+        return false;
     }
 
     /**
-     * Helper method to broadcast a message to all connections in a list.
+     * Helper method to broadcast a message to all connections of an event. The message is
+     * serialized once, right away (while lazy entity state is still reachable), and handed to the
+     * connections' send queues after the current transaction commits, so neither a rollback nor a
+     * slow client can affect the caller. Other backend instances get it via {@link
+     * LiveViewClusterBus}.
      *
-     * @param connections the list of connections to broadcast to
+     * @param eventId the event ID
+     * @param coalesceKey key under which a newer message replaces a still-queued one, or {@code
+     *     null}
      * @param message the message to send
-     * @param eventId the event ID (for logging)
      */
-    private void broadcastToConnections(
-            List<WebSocketConnection> connections, Object message, UUID eventId) {
-        List<WebSocketConnection> failedConnections = new ArrayList<>();
-
-        for (WebSocketConnection connection : connections) {
-            try {
-                connection
-                        .sendText(objectMapper.writeValueAsString(message))
-                        .await()
-                        .indefinitely();
-                LOG.debugf("Message sent to connection for event %s", eventId);
-            } catch (IOException e) {
-                LOG.error("Error sending message to connection for event " + eventId, e);
-                failedConnections.add(connection);
-            }
+    private void broadcastToConnections(UUID eventId, String coalesceKey, Object message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (IOException e) {
+            LOG.error("Error serializing live view message for event " + eventId, e);
+            return;
         }
+        seatmapCacheService.runAfterSuccessfulCommit(
+                () -> {
+                    deliverLocally(eventId, coalesceKey, payload);
+                    clusterBus.publish(eventId, coalesceKey, payload);
+                });
+    }
 
-        // Remove failed connections
-        if (!failedConnections.isEmpty()) {
-            LOG.debugf(
-                    "Removing %d failed connections for event %s",
-                    failedConnections.size(), eventId);
-            connections.removeAll(failedConnections);
+    /**
+     * Hands a serialized message to the send queues of this instance's connections for an event.
+     * Called for local changes after commit and by {@link LiveViewClusterBus} for changes made on
+     * other instances.
+     */
+    private void deliverLocally(UUID eventId, String coalesceKey, String payload) {
+        Map<WebSocketConnection, LiveViewSendQueue> connections = eventSubscriptions.get(eventId);
+        if (connections == null) {
+            return;
+        }
+        for (LiveViewSendQueue sendQueue : connections.values()) {
+            sendQueue.enqueue(coalesceKey, payload);
         }
+        LOG.debugf("Message queued for %d connections of event %s", connections.size(), eventId);
     }
 
     /**
@@ -347,7 +474,7 @@ public class LiveViewService {
      * @return the number of active connections
      */
     public int getActiveConnectionCount(UUID eventId) {
-        List<WebSocketConnection> connections = eventSubscriptions.get(eventId);
+        Map<WebSocketConnection, LiveViewSendQueue> connections = eventSubscriptions.get(eventId);
         return connections == null ? 0 : connections.size();
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.userManagment.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * A row a user import rejected.
+ *
+ * @param row row number in the input, counting from 1 (CSV: record number including the header)
+ * @param username the row's username, {@code null} if it couldn't be read
+ * @param message why the row was rejected
+ */
+@RegisterForReflection
+public record UserImportErrorDTO(long row, String username, String message) {}
@@ -0,0 +1,41 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.userManagment.dto;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Result of a streaming user import. Rows that failed don't affect the others.
+ *
+ * @param processed number of rows read
+ * @param imported number of users created
+ * @param failed number of rows that were rejected
+ * @param errors the rejected rows, at most {@code user-import.max-reported-errors} of them
+ * @param errorsTruncated whether more rows failed than {@code errors} lists
+ */
+@RegisterForReflection
+public record UserImportReportDTO(
+        long processed,
+        long imported,
+        long failed,
+        List<UserImportErrorDTO> errors,
+        boolean errorsTruncated) {}
@@ -19,6 +19,7 @@
  */
 package de.felixhertweck.seatreservation.userManagment.resource;
 
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -44,11 +45,18 @@ import de.felixhertweck.seatreservation.model.entity.Roles;
 import de.felixhertweck.seatreservation.userManagment.dto.AdminUserCreationDto;
 import de.felixhertweck.seatreservation.userManagment.dto.AdminUserUpdateDTO;
 import de.felixhertweck.seatreservation.userManagment.dto.UserCreationDTO;
+import de.felixhertweck.seatreservation.userManagment.dto.UserImportReportDTO;
 import de.felixhertweck.seatreservation.userManagment.dto.UserProfileUpdateDTO;
+import de.felixhertweck.seatreservation.userManagment.service.UserImportService;
 import de.felixhertweck.seatreservation.userManagment.service.UserService;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
 import de.felixhertweck.seatreservation.utils.UserSecurityContext;
 import io.quarkus.security.Authenticated;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.jboss.logging.Logger;
 
@@ -65,6 +73,7 @@ public class UserResource {
     private static final Logger LOG = Logger.getLogger(UserResource.class);
 
     @Inject UserService userService;
+    @Inject UserImportService userImportService;
     @Inject SecurityContext securityContext;
     @Inject UserSecurityContext userSecurityContext;
 
@@ -95,6 +104,62 @@ public class UserResource {
         return importedUsers;
     }
 
+    /**
+     * Imports users from a JSON array of user creation DTOs, read as a stream. Unlike {@link
+     * #importUsers}, invalid or conflicting rows are reported and skipped instead of failing the
+     * whole import, and users are committed in chunks.
+     *
+     * @param body the JSON array
+     * @return counts and the rejected rows
+     */
+    @POST
+    @Path("/admin/import/stream")
+    @RolesAllowed(Roles.ADMIN)
+    @Operation(summary = "Import Users Stream")
+    @RequestBody(
+            required = true,
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema =
+                                    @Schema(
+                                            type = SchemaType.ARRAY,
+                                            implementation = AdminUserCreationDto.class)))
+    @APIResponse(responseCode = "200", description = "Import finished, see report for failed rows")
+    @APIResponse(responseCode = "401", description = "Unauthorized")
+    @APIResponse(
+            responseCode = "403",
+            description = "Forbidden: Only ADMIN role can access this resource")
+    public UserImportReportDTO importUsersStream(InputStream body) {
+        LOG.debug("Received POST request to /api/users/admin/import/stream (JSON).");
+        return userImportService.importUsers(body, UserImportService.Format.JSON);
+    }
+
+    /**
+     * Imports users from an attendee CSV ({@code firstname;lastname;password;email}, optional
+     * header), read as a stream. Usernames are derived from first and last name.
+     *
+     * @param body the CSV
+     * @return counts and the rejected rows
+     */
+    @POST
+    @Path("/admin/import/stream")
+    @Consumes("text/csv")
+    @RolesAllowed(Roles.ADMIN)
+    @Operation(summary = "Import Users Stream")
+    @RequestBody(
+            required = true,
+            content = @Content(mediaType = "text/csv", schema = @Schema(type = SchemaType.STRING)))
+    @APIResponse(responseCode = "200", description = "Import finished, see report for failed rows")
+    @APIResponse(responseCode = "401", description = "Unauthorized")
+    @APIResponse(
+            responseCode = "403",
+            description = "Forbidden: Only ADMIN role can access this resource")
+    public UserImportReportDTO importUsersCsvStream(InputStream body) {
+        LOG.debug("Received POST request to /api/users/admin/import/stream (CSV).");
+        return userImportService.importUsers(body, UserImportService.Format.CSV);
+    }
+
     /**
      * Creates a new user with the provided creation details.
      *
@@ -0,0 +1,406 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.userManagment.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.felixhertweck.seatreservation.importer.CsvUserRecords;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import de.felixhertweck.seatreservation.sanitization.HtmlSanitizerUtils;
+import de.felixhertweck.seatreservation.userManagment.dto.AdminUserCreationDto;
+import de.felixhertweck.seatreservation.userManagment.dto.UserImportErrorDTO;
+import de.felixhertweck.seatreservation.userManagment.dto.UserImportReportDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Streaming bulk import of users from CSV (the attendee format of {@link CsvUserRecords}) or a JSON
+ * array of {@link AdminUserCreationDto}s.
+ *
+ * <p>Rows are read one at a time and imported in chunks of {@code user-import.chunk-size}: the
+ * usernames of a chunk are checked in one query, the passwords are hashed in parallel on a pool of
+ * {@code user-import.hash-threads}, and the chunk is committed in its own transaction (inserted in
+ * JDBC batches). Neither the input nor the transaction grows with the size of the file. A row that
+ * is invalid or can't be saved is reported and skipped; if a chunk fails to commit, its rows are
+ * retried one by one so only the offending ones are lost. Unlike {@link UserService#importUsers},
+ * the import is therefore not all-or-nothing.
+ */
+@ApplicationScoped
+public class UserImportService {
+
+    private static final Logger LOG = Logger.getLogger(UserImportService.class);
+
+    /** Input format of an import. */
+    public enum Format {
+        CSV,
+        JSON
+    }
+
+    @Inject UserRepository userRepository;
+
+    @Inject ObjectMapper objectMapper;
+
+    @Inject Validator validator;
+
+    @Inject MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "user-import.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    /** Threads hashing passwords, shared by all running imports; 0 uses one per CPU core. */
+    @ConfigProperty(name = "user-import.hash-threads", defaultValue = "0")
+    int hashThreads;
+
+    @ConfigProperty(name = "user-import.max-reported-errors", defaultValue = "1000")
+    int maxReportedErrors;
+
+    private ExecutorService hashers;
+
+    private Counter importedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        hashers =
+                Executors.newFixedThreadPool(
+                        threads,
+                        Thread.ofPlatform().name("user-import-hash-", 0).daemon().factory());
+        if (meterRegistry != null) {
+            importedCounter =
+                    Counter.builder("user.import.rows")
+                            .description("Rows of user imports")
+                            .tag("outcome", "imported")
+                            .register(meterRegistry);
+            failedCounter =
+                    Counter.builder("user.import.rows")
+                            .description("Rows of user imports")
+                            .tag("outcome", "failed")
+                            .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (hashers != null) {
+            hashers.shutdownNow();
+        }
+    }
+
+    /**
+     * Imports the users of the input. Users are created without sending email verifications, like
+     * {@link UserService#importUsers}.
+     *
+     * @param input the CSV or JSON input, read as a stream and closed afterwards
+     * @param format the input format
+     * @return counts and the rejected rows
+     */
+    public UserImportReportDTO importUsers(InputStream input, Format format) {
+        Progress progress = new Progress();
+        Set<String> seenUsernames = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        LOG.infof("Starting %s user import in chunks of %d.", format, chunkSize);
+
+        try (RowSource rows = format == Format.CSV ? csvRows(input) : jsonRows(input)) {
+            Row row;
+            while ((row = rows.next()) != null) {
+                progress.processed++;
+                String error = row.error != null ? row.error : validate(row.user, seenUsernames);
+                if (error != null) {
+                    progress.fail(row, error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOG.warnf(e, "User import input unreadable after %d rows.", progress.processed);
+            progress.processed++;
+            progress.fail(
+                    new Row(progress.processed, null, null),
+                    "Input could not be read from here on: " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+
+        LOG.infof(
+                "User import finished: %d rows processed, %d users imported, %d rows failed.",
+                progress.processed, progress.imported, progress.failed);
+        return new UserImportReportDTO(
+                progress.processed,
+                progress.imported,
+                progress.failed,
+                List.copyOf(progress.errors),
+                progress.failed > progress.errors.size());
+    }
+
+    private String validate(AdminUserCreationDto user, Set<String> seenUsernames) {
+        Set<ConstraintViolation<AdminUserCreationDto>> violations = validator.validate(user);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (user.getPassword().isBlank()) {
+            return "Password cannot be empty.";
+        }
+        if (UserService.isReservedUsername(user.getUsername())) {
+            return "Username '" + user.getUsername() + "' is reserved and cannot be used.";
+        }
+        if (!seenUsernames.add(user.getUsername())) {
+            return "User with username " + user.getUsername() + " occurs more than once.";
+        }
+        return null;
+    }
+
+    private void importChunk(List<Row> chunk, Progress progress) {
+        Set<String> usernames = new HashSet<>(chunk.size());
+        for (Row row : chunk) {
+            usernames.add(row.user.getUsername());
+        }
+        Set<String> existing =
+                new HashSet<>(
+                        QuarkusTransaction.requiringNew()
+                                .call(() -> userRepository.findExistingUsernames(usernames)));
+
+        List<Row> toCreate = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.user.getUsername())) {
+                progress.fail(
+                        row, "User with username " + row.user.getUsername() + " already exists.");
+            } else {
+                toCreate.add(row);
+            }
+        }
+        if (toCreate.isEmpty()) {
+            return;
+        }
+
+        hashPasswords(toCreate);
+
+        try {
+            QuarkusTransaction.requiringNew()
+                    .run(() -> userRepository.persist(toCreate.stream().map(Row::toUser)));
+            progress.imported(toCreate.size());
+        } catch (RuntimeException e) {
+            // E.g. a username that was taken concurrently; find out which rows are affected.
+            LOG.warnf(
+                    e,
+                    "Committing %d imported users failed, saving them one by one.",
+                    toCreate.size());
+            for (Row row : toCreate) {
+                try {
+                    QuarkusTransaction.requiringNew()
+                            .run(() -> userRepository.persist(row.toUser()));
+                    progress.imported(1);
+                } catch (RuntimeException rowError) {
+                    progress.fail(row, "User could not be saved: " + rootMessage(rowError));
+                }
+            }
+        }
+        LOG.infof(
+                "User import progress: %d rows processed, %d users imported, %d rows failed.",
+                progress.processed, progress.imported, progress.failed);
+    }
+
+    /** BCrypt dominates the cost of an import, so it runs on all hash threads at once. */
+    private void hashPasswords(List<Row> rows) {
+        CompletableFuture<?>[] hashed = new CompletableFuture<?>[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            hashed[i] = CompletableFuture.runAsync(rows.get(i)::hashPassword, hashers);
+        }
+        CompletableFuture.allOf(hashed).join();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private RowSource csvRows(InputStream input) throws IOException {
+        CSVParser parser =
+                CsvUserRecords.parse(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Iterator<CSVRecord> records = parser.iterator();
+        return new RowSource() {
+            private boolean first = true;
+
+            @Override
+            public Row next() {
+                while (records.hasNext()) {
+                    CSVRecord record = records.next();
+                    if (first) {
+                        first = false;
+                        if (CsvUserRecords.looksLikeHeader(record)) {
+                            continue;
+                        }
+                    }
+                    // Names are sanitized like XssSanitizingDeserializer does for the JSON
+                    // format; email and password are @NoHtmlSanitize there and stay as they are.
+                    AdminUserCreationDto user =
+                            CsvUserRecords.toDto(record, HtmlSanitizerUtils::sanitize);
+                    return user != null
+                            ? new Row(record.getRecordNumber(), user, null)
+                            : new Row(
+                                    record.getRecordNumber(),
+                                    null,
+                                    "Firstname, lastname and password are required.");
+                }
+                return null;
+            }
+
+            @Override
+            public void close() throws IOException {
+                parser.close();
+            }
+        };
+    }
+
+    private RowSource jsonRows(InputStream input) throws IOException {
+        MappingIterator<AdminUserCreationDto> values =
+                objectMapper.readerFor(AdminUserCreationDto.class).readValues(input);
+        return new RowSource() {
+            private long rowNumber;
+
+            @Override
+            public Row next() throws IOException {
+                if (!values.hasNextValue()) {
+                    return null;
+                }
+                rowNumber++;
+                try {
+                    return new Row(rowNumber, values.nextValue(), null);
+                } catch (JsonMappingException e) {
+                    // The iterator skips the rest of the broken element on the next call.
+                    return new Row(rowNumber, null, "Invalid user: " + e.getOriginalMessage());
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                values.close();
+            }
+        };
+    }
+
+    private interface RowSource extends Closeable {
+        /** Returns the next row, or {@code null} at the end of the input. */
+        Row next() throws IOException;
+    }
+
+    private static final class Row {
+        final long number;
+        final AdminUserCreationDto user;
+        final String error;
+        String salt;
+        String passwordHash;
+
+        Row(long number, AdminUserCreationDto user, String error) {
+            this.number = number;
+            this.user = user;
+            this.error = error;
+        }
+
+        void hashPassword() {
+            salt = UserService.generateSalt();
+            passwordHash = BcryptUtil.bcryptHash(user.getPassword() + salt);
+        }
+
+        User toUser() {
+            String email = user.getEmail();
+            return new User(
+                    user.getUsername(),
+                    email != null && !email.isBlank() ? email : null,
+                    Boolean.TRUE.equals(user.getEmailVerified()),
+                    false,
+                    passwordHash,
+                    salt,
+                    user.getFirstname(),
+                    user.getLastname(),
+                    user.getRoles(),
+                    user.getTags());
+        }
+    }
+
+    private final class Progress {
+        long processed;
+        long imported;
+        long failed;
+        final List<UserImportErrorDTO> errors = new ArrayList<>();
+
+        void imported(int count) {
+            imported += count;
+            if (importedCounter != null) {
+                importedCounter.increment(count);
+            }
+        }
+
+        void fail(Row row, String message) {
+            failed++;
+            if (failedCounter != null) {
+                failedCounter.increment();
+            }
+            if (errors.size() < maxReportedErrors) {
+                errors.add(
+                        new UserImportErrorDTO(
+                                row.number,
+                                row.user != null ? row.user.getUsername() : null,
+                                message));
+            }
+        }
+    }
+}
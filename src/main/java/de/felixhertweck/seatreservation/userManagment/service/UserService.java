@@ -206,7 +206,7 @@ public class UserService {
             throw new InvalidUserException("Password cannot be empty.");
         }
 
-        if (RESERVED_USERNAMES.contains(userCreationDTO.getUsername().trim().toLowerCase())) {
+        if (isReservedUsername(userCreationDTO.getUsername())) {
             LOG.warnf(
                     "Attempt to create user with reserved username: %s",
                     userCreationDTO.getUsername());
@@ -742,7 +742,11 @@ public class UserService {
         LOG.infof("Email confirmation resent to %s for user ID: %s", user.getEmail(), user.id);
     }
 
-    private String generateSalt() {
+    static boolean isReservedUsername(String username) {
+        return RESERVED_USERNAMES.contains(username.trim().toLowerCase());
+    }
+
+    static String generateSalt() {
         byte[] salt = SecurityUtils.generateRandomBytes(16);
         return Base64.getEncoder().encodeToString(salt);
     }
@@ -19,11 +19,7 @@
  */
 package de.felixhertweck.seatreservation.utils;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.util.Base64;
 import javax.crypto.Cipher;
@@ -129,27 +125,7 @@ public class EncryptedStringConverter implements AttributeConverter<String, Stri
         String location =
                 ConfigProvider.getConfig()
                         .getValue("security.encryption-key-location", String.class);
-        String base64Key;
-        try {
-            base64Key = Files.readString(Path.of(location)).trim();
-        } catch (IOException e) {
-            throw new UncheckedIOException("Failed to read encryption key from " + location, e);
-        }
-        byte[] keyBytes;
-        try {
-            keyBytes = Base64.getDecoder().decode(base64Key);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalStateException(
-                    "Encryption key at " + location + " is not valid Base64", e);
-        }
-        if (keyBytes.length != 32) {
-            throw new IllegalStateException(
-                    "Encryption key at "
-                            + location
-                            + " must decode to exactly 32 bytes for AES-256 (got "
-                            + keyBytes.length
-                            + "); generate one with `openssl rand -base64 32`");
-        }
-        return new SecretKeySpec(keyBytes, "AES");
+        // 32 bytes for AES-256
+        return new SecretKeySpec(SecretKeyFiles.readBase64Key(location, 32), "AES");
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Shared plumbing of the database-backed outboxes (outbound mails, confirmation renders, scheduled
+ * tasks, push retries): a loop that works off due rows until none are left, and the retry
+ * bookkeeping every outbox row needs.
+ *
+ * <p>{@link #trigger} runs the given pass on a virtual thread again and again until it reports that
+ * it processed nothing, coalescing concurrent triggers (e.g. from a bulk operation enqueuing many
+ * rows at once) into a single loop so each one doesn't open its own database connection. Once the
+ * loop finds nothing left it releases the running flag and checks once more whether a trigger
+ * arrived meanwhile. Without that recheck, a trigger landing between the last (empty) pass and the
+ * release would see the loop still running, assume it will pick up its row, and return without
+ * starting a new one - silently falling back to the next scheduled poll.
+ */
+public final class OutboxPump {
+
+    private static final Logger LOG = Logger.getLogger(OutboxPump.class);
+
+    /** Longest error message stored on an outbox row, see {@link #lastError}. */
+    public static final int MAX_ERROR_LENGTH = 2048;
+
+    private final String threadName;
+    private final IntSupplier pass;
+
+    /** Guards against more than one loop running at the same time. */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** Lets a trigger that arrives while the loop is winding down ask for one more pass. */
+    private final AtomicBoolean pendingRerun = new AtomicBoolean(false);
+
+    /**
+     * @param threadName name of the virtual thread running the loop
+     * @param pass one pass over the outbox, returning the number of rows it processed (or handed
+     *     off); the loop stops once a pass returns {@code 0}
+     */
+    public OutboxPump(String threadName, IntSupplier pass) {
+        this.threadName = threadName;
+        this.pass = pass;
+    }
+
+    /** Starts the loop unless it is already running, in which case it makes one more pass. */
+    public void trigger() {
+        pendingRerun.set(true);
+        if (running.compareAndSet(false, true)) {
+            Thread.ofVirtual().name(threadName).start(this::loop);
+        }
+    }
+
+    private void loop() {
+        try {
+            do {
+                pendingRerun.set(false);
+                int processed;
+                do {
+                    processed = pass.getAsInt();
+                } while (processed > 0);
+                running.set(false);
+            } while (pendingRerun.get() && running.compareAndSet(false, true));
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Outbox loop %s failed", threadName);
+            running.set(false);
+        }
+    }
+
+    /**
+     * Computes the exponential back-off before the next attempt: 1x, 2x, 4x, 8x ... of {@code
+     * baseSeconds}, capped at {@code maxSeconds}.
+     *
+     * @param attempts the number of attempts made so far, at least 1
+     * @param baseSeconds the delay after the first attempt
+     * @param maxSeconds the upper bound of the delay
+     * @return the delay in seconds
+     */
+    public static long backoffSeconds(int attempts, long baseSeconds, long maxSeconds) {
+        long factor = 1L << Math.min(attempts - 1, 16);
+        return Math.min(baseSeconds * factor, maxSeconds);
+    }
+
+    /**
+     * Renders a failure for an outbox row's last error column, cut to {@link #MAX_ERROR_LENGTH}.
+     *
+     * @param error the failure
+     * @return the error message to store
+     */
+    public static String lastError(Exception error) {
+        String value = error.toString();
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A Lua script run server-side by Redis, so a multi-step read-check-write sequence costs a single
+ * round trip and executes atomically.
+ *
+ * <p>Scripts are invoked with {@code EVALSHA}, so only the SHA1 digest goes over the wire. The
+ * script body is sent only when Redis answers {@code NOSCRIPT}, i.e. on first use and after a Redis
+ * restart or {@code SCRIPT FLUSH}. It is sent with {@code EVAL} and the same keys rather than a
+ * keyless {@code SCRIPT LOAD}, so on a Redis Cluster it reaches the node that owns the keys' slot
+ * (and caches the script there) instead of an arbitrary node.
+ */
+public final class RedisScript {
+
+    private final String source;
+    private final String sha1;
+
+    public RedisScript(String source) {
+        this.source = source;
+        try {
+            this.sha1 =
+                    HexFormat.of()
+                            .formatHex(
+                                    MessageDigest.getInstance("SHA-1")
+                                            .digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    /** Returns the Lua source of this script. */
+    public String source() {
+        return source;
+    }
+
+    /** Returns the SHA1 digest Redis knows this script by. */
+    public String sha1() {
+        return sha1;
+    }
+
+    /**
+     * Runs the script, sending its source along if it isn't in the Redis script cache yet.
+     *
+     * @param redisDataSource the data source to run the script on
+     * @param keys the keys the script accesses ({@code KEYS} in Lua)
+     * @param args further arguments ({@code ARGV} in Lua)
+     * @return the script's reply
+     */
+    public Response execute(RedisDataSource redisDataSource, List<String> keys, String... args) {
+        String[] evalArgs = new String[2 + keys.size() + args.length];
+        evalArgs[0] = sha1;
+        evalArgs[1] = String.valueOf(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            evalArgs[2 + i] = keys.get(i);
+        }
+        System.arraycopy(args, 0, evalArgs, 2 + keys.size(), args.length);
+
+        try {
+            return redisDataSource.execute("EVALSHA", evalArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            evalArgs[0] = source;
+            return redisDataSource.execute("EVAL", evalArgs);
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().startsWith("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.User;
+
+/**
+ * The columns of a reservation that {@link ReservationExporter} writes, read as a projection so an
+ * export doesn't load reservation, seat and user entities.
+ *
+ * @param id reservation ID
+ * @param status reservation status
+ * @param seatNumber seat number
+ * @param seatRow seat row
+ * @param entrance name of the seat's entrance, {@code null} if none
+ * @param area name of the seat's area, {@code null} if none
+ * @param firstname first name of the user
+ * @param lastname last name of the user
+ * @param reservationDate when the reservation was made
+ */
+public record ReservationExportRow(
+        UUID id,
+        ReservationStatus status,
+        String seatNumber,
+        String seatRow,
+        String entrance,
+        String area,
+        String firstname,
+        String lastname,
+        Instant reservationDate) {
+
+    /**
+     * Reads the row from a loaded reservation.
+     *
+     * @param reservation the reservation, with seat and user
+     * @return the row
+     */
+    public static ReservationExportRow of(Reservation reservation) {
+        Seat seat = reservation.getSeat();
+        User user = reservation.getUser();
+        return new ReservationExportRow(
+                reservation.id,
+                reservation.getStatus(),
+                seat.getSeatNumber(),
+                seat.getSeatRow(),
+                seat.getEntrance() != null ? seat.getEntrance().getName() : null,
+                seat.getArea() != null ? seat.getArea().getName() : null,
+                user.getFirstname(),
+                user.getLastname(),
+                reservation.getReservationDate());
+    }
+}
@@ -24,12 +24,21 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
@@ -38,6 +47,7 @@ import com.lowagie.text.Font;
 import com.lowagie.text.FontFactory;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.AcroFields;
 import com.lowagie.text.pdf.ColumnText;
 import com.lowagie.text.pdf.PdfContentByte;
@@ -47,12 +57,32 @@ import com.lowagie.text.pdf.PdfStamper;
 import com.lowagie.text.pdf.PdfWriter;
 import de.felixhertweck.seatreservation.model.entity.Reservation;
 import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
-import de.felixhertweck.seatreservation.model.entity.User;
 
 public class ReservationExporter {
 
     private static final String TEMPLATE_PATH_RESERVED = "/export-template/reserved.pdf";
 
+    private static final String TEMPLATE_PATH_BLOCKED = "/export-template/blocked.pdf";
+
+    /**
+     * Pages a PDF export renders ahead of the merged document. Bounds how many rendered pages are
+     * held in memory at once, independent of the number of reservations.
+     */
+    public static final int PDF_RENDER_CHUNK_SIZE = 64;
+
+    /**
+     * A4 in landscape without a {@code /Rotate} entry, so standard pages can be imported into the
+     * merged document as they are.
+     */
+    private static final Rectangle A4_LANDSCAPE =
+            new Rectangle(PageSize.A4.getHeight(), PageSize.A4.getWidth());
+
+    private static final DateTimeFormatter CSV_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    /** Template PDFs by path, read once; empty if no template exists at that path. */
+    private static final Map<String, Optional<byte[]>> TEMPLATES = new ConcurrentHashMap<>();
+
     private static String escapeCsvField(String field) {
         if (field == null || field.isEmpty()) {
             return "";
@@ -97,8 +127,6 @@ public class ReservationExporter {
         return Character.isWhitespace(c) || Character.isSpaceChar(c);
     }
 
-    private static final String TEMPLATE_PATH_BLOCKED = "/export-template/blocked.pdf";
-
     /**
      * Exports a list of reservations to a CSV format.
      *
@@ -108,47 +136,50 @@ public class ReservationExporter {
      */
     public static ByteArrayOutputStream exportReservationsToCsv(Iterable<Reservation> reservations)
             throws IOException {
+        List<ReservationExportRow> rows = new ArrayList<>();
+        reservations.forEach(reservation -> rows.add(ReservationExportRow.of(reservation)));
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (BufferedWriter writer =
-                new BufferedWriter(new OutputStreamWriter(baos, StandardCharsets.UTF_8))) {
-            // CSV Header - Using CRLF line terminator for RFC compliance
+        writeCsv(rows, baos);
+        return baos;
+    }
+
+    /**
+     * Writes reservations as CSV to a stream, one row at a time, so the export never has to be held
+     * in memory. The stream is flushed but not closed.
+     *
+     * @param rows the rows to export, in export order
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeCsv(Iterable<ReservationExportRow> rows, OutputStream out)
+            throws IOException {
+        BufferedWriter writer =
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // CSV Header - Using CRLF line terminator for RFC compliance
+        writer.write(
+                "ID,Reservation Status,Seat Number,Seat Row,Entrance,Area,First Name,Last"
+                        + " Name,Reservation Date\r\n");
+
+        for (ReservationExportRow row : rows) {
             writer.write(
-                    "ID,Reservation Status,Seat Number,Seat Row,Entrance,Area,First Name,Last"
-                            + " Name,Reservation Date\r\n");
-
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
-
-            for (Reservation reservation : reservations) {
-                writer.write(
-                        String.format(
-                                "%s,%s,%s,%s,%s,%s,%s,%s,%s\r\n",
-                                escapeCsvField(
-                                        reservation.id != null ? reservation.id.toString() : ""),
-                                escapeCsvField(
-                                        reservation.getStatus() != null
-                                                ? reservation.getStatus().toString()
-                                                : ""),
-                                escapeCsvField(reservation.getSeat().getSeatNumber()),
-                                escapeCsvField(reservation.getSeat().getSeatRow()),
-                                escapeCsvField(
-                                        reservation.getSeat().getEntrance() == null
-                                                ? ""
-                                                : reservation.getSeat().getEntrance().getName()),
-                                escapeCsvField(
-                                        reservation.getSeat().getArea() == null
-                                                ? ""
-                                                : reservation.getSeat().getArea().getName()),
-                                escapeCsvField(reservation.getUser().getFirstname()),
-                                escapeCsvField(reservation.getUser().getLastname()),
-                                escapeCsvField(
-                                        reservation
-                                                .getReservationDate()
-                                                .atZone(ZoneId.systemDefault())
-                                                .format(formatter))));
-            }
-            writer.flush();
+                    String.format(
+                            "%s,%s,%s,%s,%s,%s,%s,%s,%s\r\n",
+                            escapeCsvField(row.id() != null ? row.id().toString() : null),
+                            escapeCsvField(row.status() != null ? row.status().toString() : null),
+                            escapeCsvField(row.seatNumber()),
+                            escapeCsvField(row.seatRow()),
+                            escapeCsvField(row.entrance()),
+                            escapeCsvField(row.area()),
+                            escapeCsvField(row.firstname()),
+                            escapeCsvField(row.lastname()),
+                            escapeCsvField(
+                                    row.reservationDate() != null
+                                            ? row.reservationDate()
+                                                    .atZone(ZoneId.systemDefault())
+                                                    .format(CSV_DATE_FORMATTER)
+                                            : null)));
         }
-        return baos;
+        writer.flush();
     }
 
     /**
@@ -163,50 +194,146 @@ public class ReservationExporter {
      */
     public static ByteArrayOutputStream exportReservationsToPdf(
             List<Reservation> reservations, String reservedUntilValue) throws IOException {
-        try (ByteArrayOutputStream finalBaos = new ByteArrayOutputStream()) {
-            try (Document document = new Document()) {
-                PdfWriter writer = PdfWriter.getInstance(document, finalBaos);
-                document.open();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writePdf(
+                reservations.stream().map(ReservationExportRow::of).toList(),
+                reservedUntilValue,
+                baos,
+                Runnable::run);
+        return baos;
+    }
 
-                if (reservations.isEmpty()) {
-                    addNoReservationsPage(writer, document);
-                } else {
-                    for (Reservation reservation : reservations) {
-                        if (reservation.getStatus() == ReservationStatus.BLOCKED) {
-                            byte[] templateBytes = loadTemplatePdf(TEMPLATE_PATH_BLOCKED);
-                            if (templateBytes != null) {
-                                addPageFromTemplate(
-                                        writer, document, reservation, null, templateBytes);
-                            } else {
-                                addStandardBlockedPage(writer, document, reservation);
-                            }
-                        } else { // RESERVED or other statuses
-                            byte[] templateBytes = loadTemplatePdf(TEMPLATE_PATH_RESERVED);
-                            if (templateBytes != null) {
-                                addPageFromTemplate(
-                                        writer,
-                                        document,
-                                        reservation,
-                                        reservedUntilValue,
-                                        templateBytes);
-                            } else {
-                                addStandardReservedPage(
-                                        writer, document, reservation, reservedUntilValue);
-                            }
-                        }
-                    }
+    /**
+     * Writes reservations as a PDF to a stream, one page per reservation, like {@link
+     * #exportReservationsToPdf(List, String)}.
+     *
+     * <p>Pages are rendered as single-page documents on {@code renderExecutor}, at most {@link
+     * #PDF_RENDER_CHUNK_SIZE} ahead, and appended to the output in row order as soon as they are
+     * done. Every appended page is released from the writer right away, so memory use depends on
+     * the chunk size rather than on the number of reservations. The stream is not closed.
+     *
+     * @param rows the rows to export, in export order
+     * @param reservedUntilValue the "reserved until" value
+     * @param out the stream to write to
+     * @param renderExecutor executor rendering the pages; {@code Runnable::run} renders them on the
+     *     calling thread
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writePdf(
+            Iterable<ReservationExportRow> rows,
+            String reservedUntilValue,
+            OutputStream out,
+            Executor renderExecutor)
+            throws IOException {
+        byte[] blockedTemplate = loadTemplatePdf(TEMPLATE_PATH_BLOCKED);
+        byte[] reservedTemplate = loadTemplatePdf(TEMPLATE_PATH_RESERVED);
+        try (Document document = new Document()) {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+
+            List<CompletableFuture<byte[]>> pages = new ArrayList<>(PDF_RENDER_CHUNK_SIZE);
+            boolean empty = true;
+            for (ReservationExportRow row : rows) {
+                empty = false;
+                byte[] template =
+                        row.status() == ReservationStatus.BLOCKED
+                                ? blockedTemplate
+                                : reservedTemplate;
+                pages.add(
+                        CompletableFuture.supplyAsync(
+                                () -> renderPage(row, reservedUntilValue, template),
+                                renderExecutor));
+                if (pages.size() == PDF_RENDER_CHUNK_SIZE) {
+                    appendPages(writer, document, pages);
+                    pages.clear();
                 }
             }
-            return finalBaos;
+            appendPages(writer, document, pages);
+
+            if (empty) {
+                addNoReservationsPage(writer, document);
+            }
         } catch (DocumentException e) {
             throw new IOException("Error creating PDF document", e);
         }
     }
 
+    private static void appendPages(
+            PdfWriter writer, Document document, List<CompletableFuture<byte[]>> pages)
+            throws IOException {
+        try {
+            for (CompletableFuture<byte[]> page : pages) {
+                PdfReader reader = new PdfReader(page.join());
+                try {
+                    document.setPageSize(reader.getPageSizeWithRotation(1));
+                    document.newPage();
+                    PdfImportedPage importedPage = writer.getImportedPage(reader, 1);
+                    writer.getDirectContentUnder().addTemplate(importedPage, 0, 0);
+                    writer.freeReader(reader);
+                } finally {
+                    reader.close();
+                }
+            }
+        } catch (CompletionException e) {
+            pages.forEach(page -> page.cancel(false));
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IOException("Error rendering PDF page", e.getCause());
+        }
+    }
+
+    /** Renders the page for one reservation as a single-page PDF. */
+    private static byte[] renderPage(
+            ReservationExportRow row, String reservedUntilValue, byte[] templatePdfBytes) {
+        try {
+            if (templatePdfBytes != null) {
+                return fillTemplate(
+                        row,
+                        row.status() == ReservationStatus.BLOCKED ? null : reservedUntilValue,
+                        templatePdfBytes);
+            }
+            ByteArrayOutputStream page = new ByteArrayOutputStream();
+            try (Document document = new Document(A4_LANDSCAPE)) {
+                PdfWriter writer = PdfWriter.getInstance(document, page);
+                document.open();
+                if (row.status() == ReservationStatus.BLOCKED) {
+                    addStandardBlockedPage(writer, document, row);
+                } else { // RESERVED or other statuses
+                    addStandardReservedPage(writer, document, row, reservedUntilValue);
+                }
+            }
+            return page.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (DocumentException e) {
+            throw new UncheckedIOException(new IOException("Error creating PDF page", e));
+        }
+    }
+
     private static byte[] loadTemplatePdf(String path) throws IOException {
         if (path == null || path.trim().isEmpty()) {
             return null;
         }
+        try {
+            return TEMPLATES
+                    .computeIfAbsent(
+                            path,
+                            p -> {
+                                try {
+                                    return Optional.ofNullable(readTemplatePdf(p));
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            })
+                    .orElse(null);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static byte[] readTemplatePdf(String path) throws IOException {
         InputStream resourceStream = ReservationExporter.class.getResourceAsStream(path);
         if (resourceStream != null) {
             try (InputStream is = resourceStream) {
@@ -220,57 +347,37 @@ public class ReservationExporter {
         return null;
     }
 
-    private static void addPageFromTemplate(
-            PdfWriter writer,
-            Document document,
-            Reservation reservation,
-            String reservedUntilValue,
-            byte[] templatePdfBytes)
+    /**
+     * Fills the form fields of a template. {@link PdfStamper} modifies the reader it stamps, so
+     * every page parses the cached template bytes again rather than sharing one reader.
+     */
+    private static byte[] fillTemplate(
+            ReservationExportRow row, String reservedUntilValue, byte[] templatePdfBytes)
             throws IOException, DocumentException {
         try (ByteArrayOutputStream tempBaos = new ByteArrayOutputStream()) {
             PdfReader reader = new PdfReader(templatePdfBytes);
             PdfStamper stamper = new PdfStamper(reader, tempBaos);
             AcroFields form = stamper.getAcroFields();
 
-            if (reservation.getStatus() == ReservationStatus.BLOCKED) {
-                String seatInfo =
-                        String.format(
-                                "%s (%s)",
-                                reservation.getSeat().getSeatNumber(),
-                                reservation.getSeat().getSeatRow());
-                form.setField("seatInfo", seatInfo);
-            } else {
+            String seatInfo = String.format("%s (%s)", row.seatNumber(), row.seatRow());
+            if (row.status() != ReservationStatus.BLOCKED) {
                 if (reservedUntilValue != null) {
                     form.setField("reservedUntil", reservedUntilValue);
                 }
-                User user = reservation.getUser();
-                String userName = user.getFirstname() + " " + user.getLastname();
-                form.setField("userName", userName);
-                String seatInfo =
-                        String.format(
-                                "%s (%s)",
-                                reservation.getSeat().getSeatNumber(),
-                                reservation.getSeat().getSeatRow());
-                form.setField("seatInfo", seatInfo);
+                form.setField("userName", row.firstname() + " " + row.lastname());
             }
+            form.setField("seatInfo", seatInfo);
 
             stamper.setFormFlattening(true);
             stamper.close();
-
-            byte[] filledPageBytes = tempBaos.toByteArray();
-            PdfReader filledReader = new PdfReader(filledPageBytes);
-            document.setPageSize(filledReader.getPageSizeWithRotation(1));
-            document.newPage();
-            PdfImportedPage importedPage = writer.getImportedPage(filledReader, 1);
-            writer.getDirectContentUnder().addTemplate(importedPage, 0, 0);
-            filledReader.close();
             reader.close();
+            return tempBaos.toByteArray();
         }
     }
 
     private static void addStandardBlockedPage(
-            PdfWriter writer, Document document, Reservation reservation) {
-        document.setPageSize(PageSize.A4.rotate());
+            PdfWriter writer, Document document, ReservationExportRow row) {
+        document.setPageSize(A4_LANDSCAPE);
         document.newPage();
         PdfContentByte canvas = writer.getDirectContent();
         float centerX = document.getPageSize().getWidth() / 2;
@@ -283,10 +390,7 @@ public class ReservationExporter {
         ColumnText.showTextAligned(
                 canvas, Element.ALIGN_CENTER, blockedText, centerX, pageHeight - 100, 0);
 
-        String seatInfo =
-                String.format(
-                        "%s (%s)",
-                        reservation.getSeat().getSeatNumber(), reservation.getSeat().getSeatRow());
+        String seatInfo = String.format("%s (%s)", row.seatNumber(), row.seatRow());
         Phrase seat = new Phrase(seatInfo, seatFont);
         ColumnText.showTextAligned(canvas, Element.ALIGN_CENTER, seat, centerX, pageHeight / 2, 0);
     }
@@ -294,9 +398,9 @@ public class ReservationExporter {
     private static void addStandardReservedPage(
             PdfWriter writer,
             Document document,
-            Reservation reservation,
+            ReservationExportRow row,
             String reservedUntilValue) {
-        document.setPageSize(PageSize.A4.rotate());
+        document.setPageSize(A4_LANDSCAPE);
         document.newPage();
         PdfContentByte canvas = writer.getDirectContent();
         float centerX = document.getPageSize().getWidth() / 2;
@@ -340,8 +444,7 @@ public class ReservationExporter {
                 pageHeight / 2 + 50,
                 0);
 
-        User user = reservation.getUser();
-        String userName = user.getFirstname() + " " + user.getLastname();
+        String userName = row.firstname() + " " + row.lastname();
         ColumnText.showTextAligned(
                 canvas,
                 Element.ALIGN_CENTER,
@@ -350,10 +453,7 @@ public class ReservationExporter {
                 pageHeight / 2,
                 0);
 
-        String seatInfo =
-                String.format(
-                        "%s (%s)",
-                        reservation.getSeat().getSeatNumber(), reservation.getSeat().getSeatRow());
+        String seatInfo = String.format("%s (%s)", row.seatNumber(), row.seatRow());
         ColumnText.showTextAligned(
                 canvas, Element.ALIGN_CENTER, new Phrase(seatInfo, seatFont), centerX, 100, 0);
     }
@@ -0,0 +1,76 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+/**
+ * Reads symmetric key material from a key file holding a base64-encoded key (e.g. generated with
+ * {@code openssl rand -base64 32}), as used for {@code security.encryption-key-location}.
+ */
+public final class SecretKeyFiles {
+
+    /** Private constructor to prevent instantiation. */
+    private SecretKeyFiles() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Reads and decodes the key stored at {@code location}.
+     *
+     * @param location path of the key file
+     * @param expectedLength the required key length in bytes
+     * @return the decoded key bytes
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalStateException if the file is not valid Base64 or has the wrong length
+     */
+    public static byte[] readBase64Key(String location, int expectedLength) {
+        String base64Key;
+        try {
+            base64Key = Files.readString(Path.of(location)).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read encryption key from " + location, e);
+        }
+        byte[] keyBytes;
+        try {
+            keyBytes = Base64.getDecoder().decode(base64Key);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(
+                    "Encryption key at " + location + " is not valid Base64", e);
+        }
+        if (keyBytes.length != expectedLength) {
+            throw new IllegalStateException(
+                    "Encryption key at "
+                            + location
+                            + " must decode to exactly "
+                            + expectedLength
+                            + " bytes (got "
+                            + keyBytes.length
+                            + "); generate one with `openssl rand -base64 "
+                            + expectedLength
+                            + "`");
+        }
+        return keyBytes;
+    }
+}
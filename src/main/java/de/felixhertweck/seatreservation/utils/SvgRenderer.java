@@ -49,6 +49,27 @@ public class SvgRenderer {
         "#2dd4bf", // teal
     };
 
+    /** Each logical seat map unit is this many SVG units. */
+    public static final int SEAT_SCALE = 40;
+
+    /** Radius of the circle representing a seat, in SVG units. */
+    public static final int SEAT_RADIUS = 15;
+
+    /** Font size of the seat number drawn on each seat, in SVG units. */
+    public static final int SEAT_TEXT_HEIGHT = 12;
+
+    /** Padding around the entire seat map, in SVG units. */
+    private static final int PADDING = 20;
+
+    public static final String NEW_RESERVATION_COLOR = "#2B7FFF";
+    public static final String EXISTING_RESERVATION_COLOR = "#F0B100";
+    // Matches the "available" green used by every other seatmap in the app (Tailwind's
+    // green-500), so this color means the same thing everywhere.
+    public static final String AVAILABLE_COLOR = "#22C55E";
+
+    /** The {@code viewBox} of a rendered seat map, in SVG units. */
+    public record ViewBox(int x, int y, int width, int height) {}
+
     /**
      * Renders a collection of seats as SVG with reserved seat numbers. No markers are included in
      * the output.
@@ -107,70 +128,22 @@ public class SvgRenderer {
             return "";
         }
 
-        // Configuration
-        int scale = 40; // Each logical unit is 40 SVG units
-        int radius = 15; // Radius of the circle representing a seat
-        int padding = 20; // Padding around the entire seat map
-        int textHeight = 12; // Font size for the seat number
+        int scale = SEAT_SCALE;
+        int radius = SEAT_RADIUS;
+        int textHeight = SEAT_TEXT_HEIGHT;
         int markerTextHeight = 14; // Font size for marker labels
 
-        // Calculate Bounding Box of logical coordinates for seats
-        int minX = Integer.MAX_VALUE;
-        int minY = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
-        int maxY = Integer.MIN_VALUE;
-
-        for (Seat seat : allSeats) {
-            minX = Math.min(minX, seat.getCoordinate().xCoordinate());
-            minY = Math.min(minY, seat.getCoordinate().yCoordinate());
-            maxX = Math.max(maxX, seat.getCoordinate().xCoordinate());
-            maxY = Math.max(maxY, seat.getCoordinate().yCoordinate());
-        }
-
-        // Include markers in bounding box calculation if they exist
-        if (markers != null && !markers.isEmpty()) {
-            for (EventLocationMarker marker : markers) {
-                if (marker.getCoordinate() != null) {
-                    minX = Math.min(minX, marker.getCoordinate().xCoordinate());
-                    minY = Math.min(minY, marker.getCoordinate().yCoordinate());
-                    maxX = Math.max(maxX, marker.getCoordinate().xCoordinate());
-                    maxY = Math.max(maxY, marker.getCoordinate().yCoordinate());
-                }
-            }
-        }
-
-        // Include custom area boundary points in the bounding box calculation so polygons drawn
-        // outside the seats' extent (e.g. a rounded balcony edge) aren't clipped by the viewBox.
-        if (areas != null && !areas.isEmpty()) {
-            for (AreaDTO area : areas) {
-                List<CoordinateDTO> boundary = area.boundary();
-                if (boundary == null) {
-                    continue;
-                }
-                for (CoordinateDTO point : boundary) {
-                    minX = Math.min(minX, point.xCoordinate());
-                    minY = Math.min(minY, point.yCoordinate());
-                    maxX = Math.max(maxX, point.xCoordinate());
-                    maxY = Math.max(maxY, point.yCoordinate());
-                }
-            }
-        }
-
-        // Calculate viewBox dimensions based on scaled coordinates
-        int viewboxX = (minX * scale) - radius - padding;
-        int viewboxY = (minY * scale) - radius - padding;
-        int viewboxWidth = ((maxX - minX) * scale) + 2 * (radius + padding);
-        int viewboxHeight = ((maxY - minY) * scale) + 2 * (radius + padding) + textHeight;
+        ViewBox viewBox = computeViewBox(allSeats, markers, areas);
 
         StringBuilder sb = new StringBuilder();
         sb.append("<svg width=\"100%\" viewBox=\"")
-                .append(viewboxX)
+                .append(viewBox.x())
                 .append(" ")
-                .append(viewboxY)
+                .append(viewBox.y())
                 .append(" ")
-                .append(viewboxWidth)
+                .append(viewBox.width())
                 .append(" ")
-                .append(viewboxHeight)
+                .append(viewBox.height())
                 .append("\" xmlns=\"http://www.w3.org/2000/svg\">\n");
 
         // Render area zones first (further back than markers and seats)
@@ -206,13 +179,11 @@ public class SvgRenderer {
         for (Seat seat : allSeats) {
             String color;
             if (newReservedSeatNumbers.contains(seat.getSeatNumber())) {
-                color = "#2B7FFF";
+                color = NEW_RESERVATION_COLOR;
             } else if (existingReservedSeatNumbers.contains(seat.getSeatNumber())) {
-                color = "#F0B100";
+                color = EXISTING_RESERVATION_COLOR;
             } else {
-                // Matches the "available" green used by every other seatmap in the app
-                // (Tailwind's green-500), so this color means the same thing everywhere.
-                color = "#22C55E";
+                color = AVAILABLE_COLOR;
             }
 
             // Apply scaling to the coordinates when drawing
@@ -243,6 +214,69 @@ public class SvgRenderer {
         return sb.toString();
     }
 
+    /**
+     * Computes the {@code viewBox} {@link #renderSeats} uses for the given layout: the bounding box
+     * of all seats, marker positions and custom area boundary points, plus padding.
+     *
+     * @param allSeats the seats to render; must not be empty
+     * @param markers the markers to render (optional)
+     * @param areas the areas to render (optional)
+     * @return the view box in SVG units
+     */
+    public static ViewBox computeViewBox(
+            Collection<Seat> allSeats,
+            Collection<EventLocationMarker> markers,
+            Collection<AreaDTO> areas) {
+        // Calculate Bounding Box of logical coordinates for seats
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+
+        for (Seat seat : allSeats) {
+            minX = Math.min(minX, seat.getCoordinate().xCoordinate());
+            minY = Math.min(minY, seat.getCoordinate().yCoordinate());
+            maxX = Math.max(maxX, seat.getCoordinate().xCoordinate());
+            maxY = Math.max(maxY, seat.getCoordinate().yCoordinate());
+        }
+
+        // Include markers in bounding box calculation if they exist
+        if (markers != null && !markers.isEmpty()) {
+            for (EventLocationMarker marker : markers) {
+                if (marker.getCoordinate() != null) {
+                    minX = Math.min(minX, marker.getCoordinate().xCoordinate());
+                    minY = Math.min(minY, marker.getCoordinate().yCoordinate());
+                    maxX = Math.max(maxX, marker.getCoordinate().xCoordinate());
+                    maxY = Math.max(maxY, marker.getCoordinate().yCoordinate());
+                }
+            }
+        }
+
+        // Include custom area boundary points in the bounding box calculation so polygons drawn
+        // outside the seats' extent (e.g. a rounded balcony edge) aren't clipped by the viewBox.
+        if (areas != null && !areas.isEmpty()) {
+            for (AreaDTO area : areas) {
+                List<CoordinateDTO> boundary = area.boundary();
+                if (boundary == null) {
+                    continue;
+                }
+                for (CoordinateDTO point : boundary) {
+                    minX = Math.min(minX, point.xCoordinate());
+                    minY = Math.min(minY, point.yCoordinate());
+                    maxX = Math.max(maxX, point.xCoordinate());
+                    maxY = Math.max(maxY, point.yCoordinate());
+                }
+            }
+        }
+
+        // Calculate viewBox dimensions based on scaled coordinates
+        return new ViewBox(
+                (minX * SEAT_SCALE) - SEAT_RADIUS - PADDING,
+                (minY * SEAT_SCALE) - SEAT_RADIUS - PADDING,
+                ((maxX - minX) * SEAT_SCALE) + 2 * (SEAT_RADIUS + PADDING),
+                ((maxY - minY) * SEAT_SCALE) + 2 * (SEAT_RADIUS + PADDING) + SEAT_TEXT_HEIGHT);
+    }
+
     private static final int AREA_ZONE_INSET = 20;
     private static final int AREA_LABEL_FONT_SIZE = 13;
 
@@ -19,15 +19,19 @@
  */
 package de.felixhertweck.seatreservation.utils;
 
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import javax.imageio.ImageIO;
 
 import de.felixhertweck.seatreservation.common.exception.ValidationException;
+import org.apache.batik.ext.awt.image.rendered.IndexImage;
 import org.apache.batik.transcoder.TranscoderException;
 import org.apache.batik.transcoder.TranscoderInput;
 import org.apache.batik.transcoder.TranscoderOutput;
+import org.apache.batik.transcoder.image.ImageTranscoder;
 import org.apache.batik.transcoder.image.PNGTranscoder;
 import org.jboss.logging.Logger;
 
@@ -37,6 +41,12 @@ import org.jboss.logging.Logger;
 public class SvgToPngConverter {
     private static final Logger LOG = Logger.getLogger(SvgToPngConverter.class);
 
+    /** Width and height of the produced images in pixels. */
+    public static final int IMAGE_SIZE = 800;
+
+    /** Palette size of the produced (indexed) PNGs. */
+    private static final int PNG_COLORS = 256;
+
     /**
      * Converts an SVG string to a PNG byte array.
      *
@@ -58,17 +68,11 @@ public class SvgToPngConverter {
                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
 
             PNGTranscoder transcoder = new PNGTranscoder();
-
-            // Set desired image dimensions
-            transcoder.addTranscodingHint(PNGTranscoder.KEY_WIDTH, 800f);
-            transcoder.addTranscodingHint(PNGTranscoder.KEY_HEIGHT, 800f);
-
-            // Set white background color
-            transcoder.addTranscodingHint(PNGTranscoder.KEY_BACKGROUND_COLOR, java.awt.Color.WHITE);
+            addImageHints(transcoder);
 
             // Use indexed color with higher bit depth for smaller file size
             // 256 colors (8-bit) provides good quality with significant compression
-            transcoder.addTranscodingHint(PNGTranscoder.KEY_INDEXED, 256);
+            transcoder.addTranscodingHint(PNGTranscoder.KEY_INDEXED, PNG_COLORS);
 
             TranscoderInput input = new TranscoderInput(inputStream);
             TranscoderOutput output = new TranscoderOutput(outputStream);
@@ -80,4 +84,67 @@ public class SvgToPngConverter {
             return pngData;
         }
     }
+
+    /**
+     * Rasterizes an SVG string into an {@value #IMAGE_SIZE}x{@value #IMAGE_SIZE} RGB image with the
+     * same sizing and background as {@link #convertSvgToPng(String)}, for callers that draw on the
+     * result before encoding it with {@link #encodePng(BufferedImage)}.
+     *
+     * @param svgContent the SVG content as a string
+     * @return the rasterized image
+     * @throws TranscoderException if the transcoding fails
+     */
+    public static BufferedImage convertSvgToImage(String svgContent) throws TranscoderException {
+        if (svgContent == null || svgContent.isEmpty()) {
+            throw new ValidationException("SVG content cannot be null or empty");
+        }
+
+        BufferedImageTranscoder transcoder = new BufferedImageTranscoder();
+        addImageHints(transcoder);
+        transcoder.transcode(
+                new TranscoderInput(
+                        new ByteArrayInputStream(svgContent.getBytes(StandardCharsets.UTF_8))),
+                new TranscoderOutput());
+        return transcoder.image;
+    }
+
+    /**
+     * Encodes an image as an indexed-color PNG, matching the output of {@link
+     * #convertSvgToPng(String)}.
+     *
+     * @param image the image to encode
+     * @return the PNG image as a byte array
+     * @throws IOException if an I/O error occurs
+     */
+    public static byte[] encodePng(BufferedImage image) throws IOException {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            ImageIO.write(IndexImage.getIndexedImage(image, PNG_COLORS), "png", outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static void addImageHints(ImageTranscoder transcoder) {
+        // Set desired image dimensions
+        transcoder.addTranscodingHint(ImageTranscoder.KEY_WIDTH, (float) IMAGE_SIZE);
+        transcoder.addTranscodingHint(ImageTranscoder.KEY_HEIGHT, (float) IMAGE_SIZE);
+
+        // Set white background color
+        transcoder.addTranscodingHint(ImageTranscoder.KEY_BACKGROUND_COLOR, java.awt.Color.WHITE);
+    }
+
+    /** Keeps the rasterized image instead of encoding it. */
+    private static final class BufferedImageTranscoder extends ImageTranscoder {
+
+        private BufferedImage image;
+
+        @Override
+        public BufferedImage createImage(int width, int height) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        @Override
+        public void writeImage(BufferedImage img, TranscoderOutput output) {
+            this.image = img;
+        }
+    }
 }
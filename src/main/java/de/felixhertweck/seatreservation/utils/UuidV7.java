@@ -0,0 +1,51 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates time-ordered UUIDs (version 7, RFC 9562) like the ones Hibernate assigns to entities,
+ * for rows that are inserted without going through {@code persist}.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {}
+
+    /**
+     * Generates a version 7 UUID: 48 bits of Unix epoch milliseconds followed by random bits.
+     *
+     * @return a new version 7 UUID
+     */
+    public static UUID generate() {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+        long millis = System.currentTimeMillis();
+        long msb = (millis << 16) | 0x7000L | ((random[0] & 0x0FL) << 8) | (random[1] & 0xFFL);
+        long lsb = 0x80L | (random[2] & 0x3FL);
+        for (int i = 3; i < 10; i++) {
+            lsb = (lsb << 8) | (random[i] & 0xFFL);
+        }
+        return new UUID(msb, lsb);
+    }
+}
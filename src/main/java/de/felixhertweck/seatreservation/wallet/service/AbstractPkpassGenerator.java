@@ -32,9 +32,11 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import jakarta.inject.Inject;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.felixhertweck.seatreservation.wallet.dto.WalletPassData;
+import org.jboss.logging.Logger;
 
 /**
  * Base class for PKPASS generators. Encapsulates common pass.json construction, manifest SHA-1
@@ -45,8 +47,12 @@ public abstract class AbstractPkpassGenerator extends AbstractWalletPassGenerato
     protected static final String KEY_LABEL = "label";
     protected static final String KEY_VALUE = "value";
 
+    private static final Logger LOG = Logger.getLogger(AbstractPkpassGenerator.class);
+
     protected final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Inject PkpassCache pkpassCache;
+
     protected byte[] buildPassJson(WalletPassData data, String passTypeIdentifier, String teamId)
             throws IOException {
         return buildPassJson(List.of(data), passTypeIdentifier, teamId);
@@ -226,6 +232,43 @@ public abstract class AbstractPkpassGenerator extends AbstractWalletPassGenerato
         return objectMapper.writeValueAsBytes(manifest);
     }
 
+    /**
+     * Builds the .pkpass archive (pass.json, manifest and optional signature) for a pass.json, or
+     * returns the archive built earlier for the same content and certificate from the {@link
+     * PkpassCache}. If signing fails, an unsigned archive is returned and not cached.
+     *
+     * @param passJson the pass.json contents
+     * @param signing the material to sign the manifest with, or {@code null} for an unsigned
+     *     archive
+     * @return the archive
+     * @throws NoSuchAlgorithmException if SHA-1 is not available for the manifest
+     * @throws IOException if building the archive fails
+     */
+    protected byte[] buildPkpass(byte[] passJson, ApplePassSigner.SigningMaterial signing)
+            throws NoSuchAlgorithmException, IOException {
+        String key = pkpassCache.key(passJson, signing);
+        byte[] cached = pkpassCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] manifest = buildManifest(Map.of("pass.json", passJson));
+        byte[] signature = null;
+        if (signing != null) {
+            try {
+                signature = signing.sign(manifest);
+            } catch (Exception e) {
+                LOG.warnf(
+                        "Could not sign Apple Wallet pass (%s). Generating unsigned PKPASS"
+                                + " archive.",
+                        e.getMessage());
+                return buildZip(passJson, manifest, null);
+            }
+        }
+        byte[] pkpass = buildZip(passJson, manifest, signature);
+        pkpassCache.put(key, pkpass);
+        return pkpass;
+    }
+
     protected byte[] buildZip(byte[] passJson, byte[] manifest, byte[] signature)
             throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
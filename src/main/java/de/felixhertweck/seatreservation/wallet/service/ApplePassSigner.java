@@ -0,0 +1,311 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.wallet.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.bouncycastle.cert.jcajce.JcaCertStore;
+import org.bouncycastle.cms.CMSException;
+import org.bouncycastle.cms.CMSProcessableByteArray;
+import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.jcajce.JcaSignerInfoGeneratorBuilder;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.DigestCalculatorProvider;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Holds the Apple Wallet pass signing material: the private key and certificate from the PKCS#12
+ * file and the chain including the WWDR intermediate certificate.
+ *
+ * <p>The files are read once. Afterwards they are only checked for changes (modification time and
+ * size), at most every {@code wallet.apple.certificate-check-interval-seconds}, and reloaded when
+ * one of them was replaced, so a renewed certificate is picked up without a restart. A missing or
+ * invalid certificate is remembered the same way, so unsigned passes don't retry the load on every
+ * call.
+ */
+@ApplicationScoped
+public class ApplePassSigner {
+
+    static {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    private static final Logger LOG = Logger.getLogger(ApplePassSigner.class);
+
+    /** Path to the PKCS#12 (.p12) file exported from Keychain Access with the private key. */
+    @ConfigProperty(name = "wallet.apple.certificate-path", defaultValue = "keys/pass.p12")
+    String certificatePath;
+
+    /** Password for the .p12 file. May be empty for password-less keystores. */
+    @ConfigProperty(name = "wallet.apple.certificate-password")
+    Optional<String> certificatePassword;
+
+    /**
+     * Path to the Apple WWDR Intermediate Certificate (.pem or .cer), available from
+     * developer.apple.com/certificationauthority.
+     */
+    @ConfigProperty(name = "wallet.apple.wwdr-certificate-path", defaultValue = "keys/wwdr.pem")
+    String wwdrCertificatePath;
+
+    @ConfigProperty(name = "wallet.apple.certificate-check-interval-seconds", defaultValue = "10")
+    long checkIntervalSeconds;
+
+    private volatile Loaded loaded;
+
+    /**
+     * Size and modification time of a file, to notice when it was replaced.
+     *
+     * @param lastModified the file's modification time
+     * @param size the file's size in bytes
+     */
+    private record FileVersion(FileTime lastModified, long size) {
+
+        static FileVersion of(String path) throws IOException {
+            if (path == null) {
+                return null;
+            }
+            try {
+                BasicFileAttributes attributes =
+                        Files.readAttributes(Path.of(path), BasicFileAttributes.class);
+                return new FileVersion(attributes.lastModifiedTime(), attributes.size());
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The outcome of the last load together with the file versions it was loaded from.
+     *
+     * @param certificate version of the PKCS#12 file, {@code null} if it did not exist
+     * @param wwdr version of the WWDR certificate file, {@code null} if it did not exist
+     * @param material the loaded material, {@code null} if passes stay unsigned
+     * @param checkedAtNanos when the files were last checked, in {@link System#nanoTime()}
+     */
+    private record Loaded(
+            FileVersion certificate,
+            FileVersion wwdr,
+            SigningMaterial material,
+            long checkedAtNanos) {}
+
+    /**
+     * A loaded signing key with its certificate chain. Everything expensive to set up is created
+     * once; only the {@link ContentSigner} and the {@link CMSSignedDataGenerator}, which are not
+     * thread-safe, are created per signature.
+     */
+    public static final class SigningMaterial {
+
+        private final PrivateKey signingKey;
+        private final X509Certificate signingCertificate;
+        private final JcaCertStore certificates;
+        private final DigestCalculatorProvider digestCalculatorProvider;
+        private final String id;
+
+        SigningMaterial(
+                PrivateKey signingKey,
+                X509Certificate signingCertificate,
+                X509Certificate wwdrCertificate)
+                throws GeneralSecurityException, OperatorCreationException {
+            this.signingKey = signingKey;
+            this.signingCertificate = signingCertificate;
+            // Include the full chain (signing cert + WWDR) so Apple can verify without network
+            this.certificates = new JcaCertStore(List.of(signingCertificate, wwdrCertificate));
+            this.digestCalculatorProvider =
+                    new JcaDigestCalculatorProviderBuilder()
+                            .setProvider(BouncyCastleProvider.PROVIDER_NAME)
+                            .build();
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(signingCertificate.getEncoded());
+            sha256.update(wwdrCertificate.getEncoded());
+            this.id = HexFormat.of().formatHex(sha256.digest());
+        }
+
+        /**
+         * Identifies the certificate chain, so archives signed with a previous certificate are not
+         * mistaken for current ones.
+         *
+         * @return hex SHA-256 of the signing and WWDR certificates
+         */
+        public String id() {
+            return id;
+        }
+
+        /**
+         * Creates the detached PKCS#7/CMS signature (SHA256withRSA, no SMIME capabilities) of a
+         * pass manifest.
+         *
+         * @param manifestBytes the manifest.json contents
+         * @return the DER-encoded signature
+         * @throws CMSException if the signature cannot be created
+         * @throws OperatorCreationException if no signer can be created for the key
+         * @throws IOException if encoding the signature fails
+         */
+        public byte[] sign(byte[] manifestBytes)
+                throws CMSException, OperatorCreationException, IOException {
+            ContentSigner contentSigner =
+                    new JcaContentSignerBuilder("SHA256withRSA")
+                            .setProvider(BouncyCastleProvider.PROVIDER_NAME)
+                            .build(signingKey);
+            CMSSignedDataGenerator gen = new CMSSignedDataGenerator();
+            gen.addSignerInfoGenerator(
+                    new JcaSignerInfoGeneratorBuilder(digestCalculatorProvider)
+                            .build(contentSigner, signingCertificate));
+            gen.addCertificates(certificates);
+            // Detached signature (manifest bytes not embedded in the signature blob)
+            return gen.generate(new CMSProcessableByteArray(manifestBytes), false).getEncoded();
+        }
+    }
+
+    /**
+     * Returns the current signing material, loading or reloading it if the files changed.
+     *
+     * @return the signing material, or {@code null} if passes have to stay unsigned because the
+     *     certificate is missing or invalid
+     */
+    public SigningMaterial current() {
+        Loaded snapshot = loaded;
+        if (snapshot != null && !isCheckDue(snapshot)) {
+            return snapshot.material();
+        }
+        synchronized (this) {
+            snapshot = loaded;
+            if (snapshot != null && !isCheckDue(snapshot)) {
+                return snapshot.material();
+            }
+            long now = System.nanoTime();
+            FileVersion certificate;
+            FileVersion wwdr;
+            try {
+                certificate = FileVersion.of(certificatePath);
+                wwdr = FileVersion.of(wwdrCertificatePath);
+            } catch (IOException e) {
+                LOG.warnf("Could not check Apple Pass certificate files: %s", e.getMessage());
+                return snapshot != null ? snapshot.material() : null;
+            }
+            if (snapshot != null
+                    && Objects.equals(certificate, snapshot.certificate())
+                    && Objects.equals(wwdr, snapshot.wwdr())) {
+                loaded = new Loaded(certificate, wwdr, snapshot.material(), now);
+                return snapshot.material();
+            }
+
+            SigningMaterial material = null;
+            if (certificate == null) {
+                LOG.info(
+                        "Apple Pass signing certificate file not found. Generating unsigned PKPASS"
+                                + " archives.");
+            } else {
+                try {
+                    material = load();
+                    LOG.infof("Loaded Apple Pass signing certificate from %s", certificatePath);
+                } catch (Exception e) {
+                    LOG.warnf(
+                            "Could not load Apple Wallet pass signing certificate (certificate"
+                                    + " missing or invalid: %s). Generating unsigned PKPASS"
+                                    + " archives.",
+                            e.getMessage());
+                }
+            }
+            loaded = new Loaded(certificate, wwdr, material, now);
+            return material;
+        }
+    }
+
+    private boolean isCheckDue(Loaded snapshot) {
+        return System.nanoTime() - snapshot.checkedAtNanos()
+                >= TimeUnit.SECONDS.toNanos(checkIntervalSeconds);
+    }
+
+    /**
+     * Reads the signing material from the configured files.
+     *
+     * @return the signing material
+     * @throws GeneralSecurityException if the key store or a certificate cannot be read
+     * @throws IOException if a file cannot be read
+     * @throws OperatorCreationException if the digest calculators cannot be set up
+     */
+    SigningMaterial load() throws GeneralSecurityException, IOException, OperatorCreationException {
+        // Load the Pass Signing Certificate + private key from the .p12
+        char[] password = certificatePassword.orElse("").toCharArray();
+        KeyStore p12 = KeyStore.getInstance("PKCS12", BouncyCastleProvider.PROVIDER_NAME);
+        try (InputStream is = new FileInputStream(certificatePath)) {
+            p12.load(is, password);
+        }
+
+        PrivateKey signingKey = null;
+        X509Certificate signingCert = null;
+        Enumeration<String> aliases = p12.aliases();
+        while (aliases.hasMoreElements()) {
+            String alias = aliases.nextElement();
+            if (p12.isKeyEntry(alias)) {
+                signingKey = (PrivateKey) p12.getKey(alias, password);
+                signingCert = (X509Certificate) p12.getCertificate(alias);
+                break;
+            }
+        }
+        if (signingKey == null || signingCert == null) {
+            throw new IllegalStateException(
+                    "No private key entry found in Apple Pass certificate file: "
+                            + certificatePath);
+        }
+
+        return new SigningMaterial(signingKey, signingCert, loadWwdrCertificate());
+    }
+
+    private X509Certificate loadWwdrCertificate() throws IOException {
+        byte[] certBytes = Files.readAllBytes(Path.of(wwdrCertificatePath));
+        try (InputStream is = new ByteArrayInputStream(certBytes)) {
+            // PEM and DER are both accepted
+            return (X509Certificate)
+                    CertificateFactory.getInstance("X.509").generateCertificate(is);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to load WWDR certificate from " + wwdrCertificatePath, e);
+        }
+    }
+}
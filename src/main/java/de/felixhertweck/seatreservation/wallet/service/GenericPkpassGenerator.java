@@ -68,9 +68,7 @@ public class GenericPkpassGenerator extends AbstractPkpassGenerator {
                     "Generating Generic PKPass (.pkpass) for single reservation ID: %s",
                     first.reservationId());
             try {
-                byte[] passJsonBytes = buildPassJson(first, passTypeIdentifier, teamId);
-                byte[] manifestBytes = buildManifest(Map.of("pass.json", passJsonBytes));
-                byte[] pkpass = buildZip(passJsonBytes, manifestBytes, null);
+                byte[] pkpass = buildPkpass(buildPassJson(first, passTypeIdentifier, teamId), null);
                 String filename = String.format("ticket_%s.pkpass", first.reservationId());
                 return WalletPassResponseDTO.forGenericPkpass(pkpass, filename);
             } catch (Exception e) {
@@ -88,9 +86,8 @@ public class GenericPkpassGenerator extends AbstractPkpassGenerator {
                 Map<String, byte[]> bundleEntries = new HashMap<>();
                 for (int i = 0; i < allSeatReservations.size(); i++) {
                     WalletPassData seatData = allSeatReservations.get(i);
-                    byte[] passJsonBytes = buildPassJson(seatData, passTypeIdentifier, teamId);
-                    byte[] manifestBytes = buildManifest(Map.of("pass.json", passJsonBytes));
-                    byte[] singlePkpass = buildZip(passJsonBytes, manifestBytes, null);
+                    byte[] singlePkpass =
+                            buildPkpass(buildPassJson(seatData, passTypeIdentifier, teamId), null);
                     bundleEntries.put(
                             String.format("pass_%d_%s.pkpass", i + 1, seatData.reservationId()),
                             singlePkpass);
@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.wallet.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Content-addressed cache of built {@code .pkpass} archives, so downloading the same pass again
+ * neither re-zips nor re-signs it.
+ *
+ * <p>Archives are keyed by the SHA-256 digest of their pass.json and the certificate they were
+ * signed with. Any change to a reservation shows up in the pass.json and therefore in the key, so
+ * entries never need to be invalidated; the least recently used ones are dropped once more than
+ * {@code wallet.pkpass-cache.max-entries} archives are cached.
+ */
+@ApplicationScoped
+public class PkpassCache {
+
+    private static final String UNSIGNED = "unsigned";
+
+    @ConfigProperty(name = "wallet.pkpass-cache.max-entries", defaultValue = "1000")
+    int maxEntries;
+
+    private final Map<String, byte[]> archives =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+
+    /**
+     * Computes the cache key of an archive.
+     *
+     * @param passJson the pass.json contents
+     * @param signing the material the archive is signed with, or {@code null} if it is unsigned
+     * @return the cache key
+     */
+    public String key(byte[] passJson, ApplePassSigner.SigningMaterial signing) {
+        try {
+            String digest =
+                    HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(passJson));
+            return digest + ":" + (signing != null ? signing.id() : UNSIGNED);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Looks up a cached archive.
+     *
+     * @param key the key from {@link #key(byte[], ApplePassSigner.SigningMaterial)}
+     * @return the archive, or {@code null} if it is not cached
+     */
+    public byte[] get(String key) {
+        synchronized (archives) {
+            return archives.get(key);
+        }
+    }
+
+    /**
+     * Caches an archive.
+     *
+     * @param key the key from {@link #key(byte[], ApplePassSigner.SigningMaterial)}
+     * @param archive the archive; must not be modified afterwards
+     */
+    public void put(String key, byte[] archive) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        synchronized (archives) {
+            archives.put(key, archive);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Migration V13: Add confirmation_render_jobs so reservation confirmation mails (seat map PNG, QR
+-- code) are rendered by a background worker after the booking transaction has committed.
+
+CREATE TABLE confirmation_render_jobs (
+    id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    event_id uuid NOT NULL,
+    status character varying(16) NOT NULL,
+    attempts integer NOT NULL,
+    max_attempts integer NOT NULL,
+    next_attempt_at timestamp(6) with time zone NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    last_error character varying(2048),
+    CONSTRAINT confirmation_render_jobs_pkey PRIMARY KEY (id),
+    CONSTRAINT confirmation_render_jobs_status_check CHECK (((status)::text = ANY ((ARRAY['PENDING'::character varying, 'RENDERING'::character varying, 'DONE'::character varying, 'FAILED'::character varying])::text[]))),
+    CONSTRAINT confirmation_render_jobs_user_id_fkey FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT confirmation_render_jobs_event_id_fkey FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_confirmation_render_job_status_next_attempt ON confirmation_render_jobs USING btree (status, next_attempt_at);
+
+CREATE TABLE confirmation_render_job_reservations (
+    job_id uuid NOT NULL,
+    reservation_id uuid NOT NULL,
+    CONSTRAINT confirmation_render_job_reservations_job_id_fkey FOREIGN KEY (job_id) REFERENCES confirmation_render_jobs(id) ON DELETE CASCADE
+);
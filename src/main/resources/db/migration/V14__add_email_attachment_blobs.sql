@@ -0,0 +1,33 @@
+-- Migration V14: Store outbox attachment bytes content-addressed in email_attachment_blobs (keyed
+-- by SHA-256) instead of one large object per attachment row, so byte-identical
+-- seat maps and logos on many mails are stored once.
+
+CREATE TABLE email_attachment_blobs (
+    id uuid NOT NULL,
+    sha256 character varying(64) NOT NULL,
+    size_bytes bigint NOT NULL,
+    data bytea NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT email_attachment_blobs_pkey PRIMARY KEY (id),
+    CONSTRAINT email_attachment_blobs_sha256_key UNIQUE (sha256)
+);
+
+-- Move existing attachment content over, one blob per distinct content.
+ALTER TABLE outbound_email_attachments ADD COLUMN sha256 character varying(64);
+UPDATE outbound_email_attachments SET sha256 = encode(sha256(lo_get(data)), 'hex');  -- NOSONAR: intentional full-table backfill
+
+INSERT INTO email_attachment_blobs (id, sha256, size_bytes, data, created_at)
+SELECT gen_random_uuid(), d.sha256, length(lo_get(d.lo)), lo_get(d.lo), now()
+FROM (SELECT sha256, min(data) AS lo FROM outbound_email_attachments GROUP BY sha256) d;
+
+ALTER TABLE outbound_email_attachments ADD COLUMN blob_id uuid;
+UPDATE outbound_email_attachments a SET blob_id = b.id FROM email_attachment_blobs b WHERE b.sha256 = a.sha256;
+ALTER TABLE outbound_email_attachments ALTER COLUMN blob_id SET NOT NULL;
+ALTER TABLE outbound_email_attachments ADD CONSTRAINT outbound_email_attachments_blob_id_fkey FOREIGN KEY (blob_id) REFERENCES email_attachment_blobs(id);
+
+-- The old large objects are not removed together with their rows; unlink them explicitly.
+SELECT lo_unlink(data) FROM outbound_email_attachments;
+ALTER TABLE outbound_email_attachments DROP COLUMN data;
+ALTER TABLE outbound_email_attachments DROP COLUMN sha256;
+
+CREATE INDEX idx_outbound_email_attachment_blob ON outbound_email_attachments USING btree (blob_id);
@@ -0,0 +1,38 @@
+-- Migration V15: Add scheduled_tasks, a durable replacement for the in-memory scheduler jobs that
+-- used to send event reminders. Due tasks are claimed with FOR UPDATE SKIP LOCKED, so they survive
+-- restarts and run on exactly one instance. In-memory jobs were lost on every restart, so the
+-- reminder task is (re)created once below for every active event whose reminder is still due.
+
+CREATE TABLE scheduled_tasks (
+    id uuid NOT NULL,
+    type character varying(32) NOT NULL,
+    event_id uuid NOT NULL,
+    status character varying(16) NOT NULL,
+    attempts integer NOT NULL,
+    max_attempts integer NOT NULL,
+    next_attempt_at timestamp(6) with time zone NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    last_error character varying(2048),
+    CONSTRAINT scheduled_tasks_pkey PRIMARY KEY (id),
+    CONSTRAINT scheduled_tasks_type_check CHECK (((type)::text = ANY ((ARRAY['EVENT_REMINDER'::character varying, 'EVENT_REMINDER_BATCH'::character varying])::text[]))),
+    CONSTRAINT scheduled_tasks_status_check CHECK (((status)::text = ANY ((ARRAY['PENDING'::character varying, 'RUNNING'::character varying, 'DONE'::character varying, 'FAILED'::character varying])::text[]))),
+    CONSTRAINT scheduled_tasks_event_id_fkey FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_scheduled_task_status_next_attempt ON scheduled_tasks USING btree (status, next_attempt_at);
+CREATE INDEX idx_scheduled_task_event ON scheduled_tasks USING btree (event_id);
+
+CREATE TABLE scheduled_task_users (
+    task_id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    CONSTRAINT scheduled_task_users_task_id_fkey FOREIGN KEY (task_id) REFERENCES scheduled_tasks(id) ON DELETE CASCADE
+);
+
+INSERT INTO scheduled_tasks (id, type, event_id, status, attempts, max_attempts, next_attempt_at, created_at, updated_at)
+SELECT gen_random_uuid(), 'EVENT_REMINDER', e.id, 'PENDING', 0, 5, e.remindersenddate, now(), now()
+FROM events e
+WHERE e.remindersenddate IS NOT NULL
+  AND e.remindersenddate > now()
+  AND e.remindersent = false
+  AND e.status = 'ACTIVE';
@@ -0,0 +1,4 @@
+-- Migration V16: Refresh tokens are now stored as an HMAC-SHA256 digest of their value and looked
+-- up by it, so the hash column gets a unique index. Existing bcrypt hashes stay valid: they are
+-- replaced by the digest on the token's next use or removed once the token expires.
+CREATE UNIQUE INDEX idx_refresh_token_hash ON refresh_tokens USING btree (tokenhash);
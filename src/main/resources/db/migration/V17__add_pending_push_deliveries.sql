@@ -0,0 +1,16 @@
+-- Migration V17: Add pending_push_deliveries, the durable retry queue for Web Push messages the
+-- push service answered with 429 or 5xx.
+
+CREATE TABLE pending_push_deliveries (
+    id uuid NOT NULL,
+    subscription_id uuid NOT NULL,
+    payload text NOT NULL,
+    attempts integer NOT NULL,
+    next_attempt_at timestamp(6) with time zone NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    last_status integer NOT NULL,
+    CONSTRAINT pending_push_deliveries_pkey PRIMARY KEY (id),
+    CONSTRAINT pending_push_deliveries_subscription_id_fkey FOREIGN KEY (subscription_id) REFERENCES user_push_subscriptions(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_pending_push_delivery_next_attempt ON pending_push_deliveries USING btree (next_attempt_at);
@@ -27,38 +27,45 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.felixhertweck.seatreservation.common.events.EventCancelledEvent;
 import de.felixhertweck.seatreservation.common.events.EventRescheduledEvent;
 import de.felixhertweck.seatreservation.email.service.EmailService;
 import de.felixhertweck.seatreservation.email.service.NotificationService;
 import de.felixhertweck.seatreservation.management.service.EventService;
-import de.felixhertweck.seatreservation.management.service.ReservationService;
-import de.felixhertweck.seatreservation.model.entity.Coordinate;
 import de.felixhertweck.seatreservation.model.entity.Event;
-import de.felixhertweck.seatreservation.model.entity.EventLocation;
-import de.felixhertweck.seatreservation.model.entity.EventLocationArea;
-import de.felixhertweck.seatreservation.model.entity.EventLocationMarker;
 import de.felixhertweck.seatreservation.model.entity.Reservation;
 import de.felixhertweck.seatreservation.model.entity.Roles;
-import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTask;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskStatus;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskType;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.model.repository.ScheduledTaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -68,10 +75,10 @@ class NotificationServiceTest {
 
     @Mock private EventService eventService;
 
-    @Mock private ReservationService reservationService;
-
     @Mock private ReservationRepository reservationRepository;
 
+    @Mock private ScheduledTaskRepository scheduledTaskRepository;
+
     @Mock private EmailService emailService;
 
     @InjectMocks private NotificationService notificationService;
@@ -101,74 +108,177 @@ class NotificationServiceTest {
         Field selfField = NotificationService.class.getDeclaredField("self");
         selfField.setAccessible(true);
         selfField.set(notificationService, notificationService);
+
+        setConfig("maxAttempts", 5);
+        setConfig("recipientsPerBatch", 2);
     }
 
-    // Note: The old periodic scheduling tests have been removed as the implementation
-    // now uses programmatic scheduling where reminders are scheduled when events are
-    // created/updated.
-    // These tests would have tested the old sendEventReminders() method which no longer exists.
-
-    // loadReminderData() force-loads event.getEventLocation()'s seats/markers/areas (and each
-    // area's boundary) before returning, since sendReminderEmails() later reads them outside the
-    // @Transactional boundary (see eagerLoadEntities()). Because eventService/reservationService
-    // are Mockito mocks here, event/location/reservation are plain POJOs, never real Hibernate
-    // proxies - so these tests cannot reproduce a genuine LazyInitializationException. What they do
-    // verify: the eager-load traversal is null-safe and structurally correct for a location that
-    // actually has seats, markers, areas and boundary points, and for the null-location and
-    // empty-collection edge cases. Verifying against a real lazy proxy needs a @QuarkusTest with a
-    // genuine persistence context.
+    private void setConfig(String name, int value) throws Exception {
+        Field field = NotificationService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.setInt(notificationService, value);
+    }
 
     @Test
-    void loadReminderData_WithFullEventLocationGraph_DoesNotThrow() {
-        // Arrange
-        EventLocation location = new EventLocation("Main Hall", "Test Street 1", null);
-        Seat seat = new Seat("A1", location, "A", 1, 1, null, null);
-        location.setSeats(List.of(seat));
-        location.setMarkers(List.of(new EventLocationMarker("Entrance", 0, 0)));
+    void scheduleEventReminder_FutureDate_PersistsReminderTask() {
+        UUID eventId = id(1);
+        Instant reminderDate = Instant.now().plusSeconds(3600);
+        when(scheduledTaskRepository.findPendingByEventIdAndType(
+                        eventId, ScheduledTaskType.EVENT_REMINDER))
+                .thenReturn(Optional.empty());
+        when(eventService.findById(eventId)).thenReturn(testEvent);
 
-        EventLocationArea area = new EventLocationArea("VIP");
-        area.setBoundary(List.of(new Coordinate(0, 0), new Coordinate(5, 0), new Coordinate(5, 5)));
-        location.setAreas(List.of(area));
+        notificationService.scheduleEventReminder(eventId, reminderDate);
+
+        ArgumentCaptor<ScheduledTask> captor = ArgumentCaptor.forClass(ScheduledTask.class);
+        verify(scheduledTaskRepository)
+                .deletePendingByEventIdAndType(eventId, ScheduledTaskType.EVENT_REMINDER);
+        verify(scheduledTaskRepository).persist(captor.capture());
+        ScheduledTask task = captor.getValue();
+        assertEquals(ScheduledTaskType.EVENT_REMINDER, task.getType());
+        assertEquals(ScheduledTaskStatus.PENDING, task.getStatus());
+        assertEquals(testEvent, task.getEvent());
+        assertEquals(reminderDate, task.getNextAttemptAt());
+        assertEquals(5, task.getMaxAttempts());
+    }
 
-        testEvent.setEventLocation(location);
-        testReservation.setSeat(seat);
+    @Test
+    void scheduleEventReminder_UnchangedDate_KeepsPendingTask() {
+        UUID eventId = id(1);
+        Instant reminderDate = Instant.now().plusSeconds(3600);
+        ScheduledTask pending =
+                new ScheduledTask(
+                        ScheduledTaskType.EVENT_REMINDER,
+                        testEvent,
+                        reminderDate.truncatedTo(ChronoUnit.MICROS),
+                        5);
+        when(scheduledTaskRepository.findPendingByEventIdAndType(
+                        eventId, ScheduledTaskType.EVENT_REMINDER))
+                .thenReturn(Optional.of(pending));
+
+        notificationService.scheduleEventReminder(eventId, reminderDate);
+
+        verify(scheduledTaskRepository, never()).deletePendingByEventIdAndType(any(), any());
+        verify(scheduledTaskRepository, never()).persist(any(ScheduledTask.class));
+    }
 
-        when(eventService.findById(id(1))).thenReturn(testEvent);
-        when(reservationService.findByEvent(testEvent)).thenReturn(List.of(testReservation));
+    @Test
+    void scheduleEventReminder_PastDate_OnlyCancelsPendingTasks() {
+        UUID eventId = id(1);
+        Instant reminderDate = Instant.now().minusSeconds(60);
+        when(scheduledTaskRepository.findPendingByEventIdAndType(
+                        eventId, ScheduledTaskType.EVENT_REMINDER))
+                .thenReturn(Optional.empty());
+
+        notificationService.scheduleEventReminder(eventId, reminderDate);
+
+        verify(scheduledTaskRepository)
+                .deletePendingByEventIdAndType(eventId, ScheduledTaskType.EVENT_REMINDER);
+        verify(scheduledTaskRepository, never()).persist(any(ScheduledTask.class));
+    }
 
-        // Act & Assert
-        NotificationService.ReminderData data =
-                assertDoesNotThrow(() -> notificationService.loadReminderData(id(1)));
-        assertNotNull(data);
-        verify(eventService).findById(id(1));
-        verify(reservationService).findByEvent(testEvent);
+    @Test
+    void scheduleEventReminder_NullDate_CancelsPendingTasks() {
+        notificationService.scheduleEventReminder(id(1), null);
+
+        verify(scheduledTaskRepository)
+                .deletePendingByEventIdAndType(id(1), ScheduledTaskType.EVENT_REMINDER);
+        verify(scheduledTaskRepository, never()).deletePendingByEventId(any());
+        verify(scheduledTaskRepository, never()).persist(any(ScheduledTask.class));
     }
 
     @Test
-    void loadReminderData_WithNullEventLocation_DoesNotThrow() {
-        // Arrange: testEvent has no location set (default from setUp()).
-        when(eventService.findById(id(2))).thenReturn(testEvent);
-        when(reservationService.findByEvent(testEvent)).thenReturn(List.of(testReservation));
+    void planEventReminder_SplitsRecipientsIntoBatches() {
+        testEvent.id = id(10);
+        List<UUID> userIds = List.of(id(1), id(2), id(3), id(4), id(5));
+        when(reservationRepository.findDistinctUserIdsByEventId(testEvent.id)).thenReturn(userIds);
+        ScheduledTask task =
+                new ScheduledTask(ScheduledTaskType.EVENT_REMINDER, testEvent, Instant.now(), 5);
+
+        int batches = notificationService.planEventReminder(task);
+
+        assertEquals(3, batches);
+        ArgumentCaptor<ScheduledTask> captor = ArgumentCaptor.forClass(ScheduledTask.class);
+        verify(scheduledTaskRepository, times(3)).persist(captor.capture());
+        List<ScheduledTask> created = captor.getAllValues();
+        assertTrue(
+                created.stream()
+                        .allMatch(b -> b.getType() == ScheduledTaskType.EVENT_REMINDER_BATCH));
+        assertEquals(List.of(id(1), id(2)), created.get(0).getUserIds());
+        assertEquals(List.of(id(3), id(4)), created.get(1).getUserIds());
+        assertEquals(List.of(id(5)), created.get(2).getUserIds());
+        verify(eventService).markReminderAsSent(testEvent);
+    }
 
-        // Act & Assert
-        NotificationService.ReminderData data =
-                assertDoesNotThrow(() -> notificationService.loadReminderData(id(2)));
-        assertNotNull(data);
+    @Test
+    void planEventReminder_ReminderAlreadySent_CreatesNoBatches() {
+        testEvent.setReminderSent(true);
+        ScheduledTask task =
+                new ScheduledTask(ScheduledTaskType.EVENT_REMINDER, testEvent, Instant.now(), 5);
+
+        assertEquals(0, notificationService.planEventReminder(task));
+
+        verify(reservationRepository, never()).findDistinctUserIdsByEventId(any());
+        verify(scheduledTaskRepository, never()).persist(any(ScheduledTask.class));
+        verify(eventService, never()).markReminderAsSent(any());
+    }
+
+    @Test
+    void sendReminderBatch_SendsOneMailPerUserAndContinuesAfterFailure() {
+        testEvent.id = id(10);
+        testUser.id = id(1);
+        User user2 = new User();
+        user2.id = id(2);
+        user2.setEmail("user2@example.com");
+
+        Reservation res1 = new Reservation();
+        res1.setUser(testUser);
+        Reservation res2 = new Reservation();
+        res2.setUser(testUser);
+        Reservation res3 = new Reservation();
+        res3.setUser(user2);
+
+        ScheduledTask batch =
+                new ScheduledTask(
+                        ScheduledTaskType.EVENT_REMINDER_BATCH, testEvent, Instant.now(), 5);
+        batch.setUserIds(List.of(id(1), id(2)));
+        when(reservationRepository.findByEventIdAndUserIdsWithUserAndSeat(
+                        testEvent.id, List.of(id(1), id(2))))
+                .thenReturn(List.of(res1, res2, res3));
+        doAnswer(
+                        invocation -> {
+                            if (invocation.getArgument(0) == testUser) {
+                                throw new RuntimeException("Template rendering failed");
+                            }
+                            return null;
+                        })
+                .when(emailService)
+                .sendEventReminder(any(), any(), any());
+
+        assertDoesNotThrow(() -> notificationService.sendReminderBatch(batch));
+
+        verify(emailService)
+                .sendEventReminder(eq(testUser), eq(testEvent), argThat(list -> list.size() == 2));
+        verify(emailService)
+                .sendEventReminder(eq(user2), eq(testEvent), argThat(list -> list.size() == 1));
     }
 
     @Test
-    void loadReminderData_WithEmptyLocationCollections_DoesNotThrow() {
-        // Arrange: a location with no seats/markers/areas (all default to empty lists).
-        EventLocation location = new EventLocation("Empty Hall", "Test Street 2", null);
-        testEvent.setEventLocation(location);
+    void onEventCancelled_CancelsPendingReminderTasks() {
+        UUID eventId = id(10);
+        EventCancelledEvent cancelledEvent =
+                new EventCancelledEvent(
+                        eventId,
+                        "Test Event",
+                        Instant.now(),
+                        Instant.now().plusSeconds(3600),
+                        "Test Location",
+                        "Cancelled due to storm",
+                        List.of());
 
-        when(eventService.findById(id(3))).thenReturn(testEvent);
-        when(reservationService.findByEvent(testEvent)).thenReturn(List.of(testReservation));
+        notificationService.onEventCancelled(cancelledEvent);
 
-        // Act & Assert
-        NotificationService.ReminderData data =
-                assertDoesNotThrow(() -> notificationService.loadReminderData(id(3)));
-        assertNotNull(data);
+        verify(scheduledTaskRepository).deletePendingByEventId(eventId);
     }
 
     @Test
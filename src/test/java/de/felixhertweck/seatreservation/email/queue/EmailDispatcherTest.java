@@ -20,23 +20,31 @@
 package de.felixhertweck.seatreservation.email.queue;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.felixhertweck.seatreservation.model.entity.EmailAttachmentBlob;
+import de.felixhertweck.seatreservation.model.entity.EmailPriority;
 import de.felixhertweck.seatreservation.model.entity.EmailStatus;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmail;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmailAttachment;
@@ -45,6 +53,8 @@ import io.quarkus.mailer.Mail;
 import io.quarkus.mailer.Mailer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -67,6 +77,14 @@ class EmailDispatcherTest {
         emailDispatcher.retryBackoffSeconds = 60;
         emailDispatcher.maxBackoffSeconds = 3600;
         emailDispatcher.sendingTimeoutSeconds = 300;
+        emailDispatcher.workers = 1;
+        emailDispatcher.maxConcurrentPerDomain = 4;
+        emailDispatcher.markSentChunkSize = 10;
+    }
+
+    private static EmailDispatcher.PreparedMail prepared(UUID id, Mail mail) {
+        return new EmailDispatcher.PreparedMail(
+                id, mail, EmailPriority.TRANSACTIONAL, Instant.now());
     }
 
     @Test
@@ -88,7 +106,7 @@ class EmailDispatcherTest {
         int result = emailDispatcher.drainQueue();
 
         assertEquals(0, result);
-        verify(emailDispatcher, never()).buildMail(any());
+        verify(emailDispatcher, never()).buildMails(any());
     }
 
     @Test
@@ -97,26 +115,27 @@ class EmailDispatcherTest {
         when(emailDispatcher.claimDueIds(20)).thenReturn(List.of(emailId));
 
         Mail mockMail = new Mail();
-        when(emailDispatcher.buildMail(emailId)).thenReturn(mockMail);
+        when(emailDispatcher.buildMails(List.of(emailId)))
+                .thenReturn(List.of(prepared(emailId, mockMail)));
 
         int result = emailDispatcher.drainQueue();
 
         assertEquals(1, result);
         verify(mailer, times(1)).send(mockMail);
-        verify(emailDispatcher, times(1)).markSent(emailId);
+        verify(emailDispatcher, times(1)).markSent(List.of(emailId));
     }
 
     @Test
     void testDrainQueueWithVanishedMessage() {
         UUID emailId = UUID.randomUUID();
         when(emailDispatcher.claimDueIds(20)).thenReturn(List.of(emailId));
-        when(emailDispatcher.buildMail(emailId)).thenReturn(null);
+        when(emailDispatcher.buildMails(List.of(emailId))).thenReturn(List.of());
 
         int result = emailDispatcher.drainQueue();
 
         assertEquals(0, result);
         verify(mailer, never()).send(any());
-        verify(emailDispatcher, never()).markSent(any());
+        verify(emailDispatcher, never()).markSent(anyList());
         verify(emailDispatcher, never()).markFailure(any(), any());
     }
 
@@ -126,14 +145,97 @@ class EmailDispatcherTest {
         when(emailDispatcher.claimDueIds(20)).thenReturn(List.of(emailId));
 
         Mail mockMail = new Mail();
-        when(emailDispatcher.buildMail(emailId)).thenReturn(mockMail);
+        when(emailDispatcher.buildMails(List.of(emailId)))
+                .thenReturn(List.of(prepared(emailId, mockMail)));
         doThrow(new RuntimeException("SMTP Server Down")).when(mailer).send(mockMail);
 
         int result = emailDispatcher.drainQueue();
 
         assertEquals(0, result);
         verify(emailDispatcher, times(1)).markFailure(any(UUID.class), any(Exception.class));
-        verify(emailDispatcher, never()).markSent(any());
+        verify(emailDispatcher, never()).markSent(anyList());
+    }
+
+    @Test
+    void testDrainQueueWithWorkersSendsInParallelAndMarksSentOnce() {
+        emailDispatcher.workers = 4;
+        List<UUID> ids = new ArrayList<>();
+        List<EmailDispatcher.PreparedMail> mails = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            UUID id = UUID.randomUUID();
+            Mail mail = new Mail().addTo("user" + i + "@domain" + i + ".test");
+            ids.add(id);
+            mails.add(prepared(id, mail));
+        }
+        when(emailDispatcher.claimDueIds(20)).thenReturn(ids);
+        when(emailDispatcher.buildMails(ids)).thenReturn(mails);
+        doThrow(new RuntimeException("Mailbox unavailable"))
+                .when(mailer)
+                .send(mails.getFirst().mail());
+
+        int result = emailDispatcher.drainQueue();
+
+        assertEquals(5, result);
+        verify(mailer, times(6)).send(any());
+        verify(emailDispatcher, times(1)).markFailure(eq(ids.getFirst()), any(Exception.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> sent = ArgumentCaptor.forClass(List.class);
+        verify(emailDispatcher, times(1)).markSent(sent.capture());
+        assertEquals(Set.copyOf(ids.subList(1, ids.size())), Set.copyOf(sent.getValue()));
+    }
+
+    @Test
+    void testDrainQueueMarksSentInChunksAsMailsAreDelivered() {
+        emailDispatcher.markSentChunkSize = 2;
+        List<UUID> ids = new ArrayList<>();
+        List<EmailDispatcher.PreparedMail> mails = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            mails.add(prepared(id, new Mail().addTo("user" + i + "@example.test")));
+        }
+        when(emailDispatcher.claimDueIds(20)).thenReturn(ids);
+        when(emailDispatcher.buildMails(ids)).thenReturn(mails);
+
+        assertEquals(5, emailDispatcher.drainQueue());
+
+        // The first chunk is marked before the third mail goes out, not after the whole batch.
+        InOrder inOrder = inOrder(mailer, emailDispatcher);
+        inOrder.verify(mailer, times(2)).send(any());
+        inOrder.verify(emailDispatcher).markSent(ids.subList(0, 2));
+        inOrder.verify(mailer, times(2)).send(any());
+        inOrder.verify(emailDispatcher).markSent(ids.subList(2, 4));
+        inOrder.verify(mailer).send(any());
+        inOrder.verify(emailDispatcher).markSent(ids.subList(4, 5));
+    }
+
+    @Test
+    void testDrainQueueLimitsConcurrentSendsPerRecipientDomain() {
+        emailDispatcher.workers = 4;
+        emailDispatcher.maxConcurrentPerDomain = 1;
+        List<UUID> ids = new ArrayList<>();
+        List<EmailDispatcher.PreparedMail> mails = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            mails.add(prepared(id, new Mail().addTo("user" + i + "@Example.test")));
+        }
+        when(emailDispatcher.claimDueIds(20)).thenReturn(ids);
+        when(emailDispatcher.buildMails(ids)).thenReturn(mails);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(
+                        invocation -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            Thread.sleep(20);
+                            inFlight.decrementAndGet();
+                            return null;
+                        })
+                .when(mailer)
+                .send(any());
+
+        assertEquals(4, emailDispatcher.drainQueue());
+        assertEquals(1, maxInFlight.get());
     }
 
     @Test
@@ -151,17 +253,18 @@ class EmailDispatcherTest {
     }
 
     @Test
-    void testBuildMailWithNonExistentEmail() {
+    void testBuildMailsWithNonExistentEmail() {
         UUID emailId = UUID.randomUUID();
-        when(outboundEmailRepository.findById(emailId)).thenReturn(null);
+        when(outboundEmailRepository.findByIdsWithAttachments(List.of(emailId)))
+                .thenReturn(List.of());
 
-        Mail result = emailDispatcher.buildMail(emailId);
+        List<EmailDispatcher.PreparedMail> result = emailDispatcher.buildMails(List.of(emailId));
 
-        assertNull(result);
+        assertTrue(result.isEmpty());
     }
 
     @Test
-    void testBuildMailSuccessfullyWithoutAttachments() {
+    void testBuildMailsSuccessfullyWithoutAttachments() {
         UUID emailId = UUID.randomUUID();
         OutboundEmail email = new OutboundEmail();
         email.id = emailId;
@@ -171,11 +274,14 @@ class EmailDispatcherTest {
         email.setCc(List.of("cc@test.com"));
         email.setBcc(List.of("bcc@test.com"));
 
-        when(outboundEmailRepository.findById(emailId)).thenReturn(email);
+        when(outboundEmailRepository.findByIdsWithAttachments(List.of(emailId)))
+                .thenReturn(List.of(email));
 
-        Mail mail = emailDispatcher.buildMail(emailId);
+        List<EmailDispatcher.PreparedMail> mails = emailDispatcher.buildMails(List.of(emailId));
 
-        assertNotNull(mail);
+        assertEquals(1, mails.size());
+        assertEquals(emailId, mails.getFirst().id());
+        Mail mail = mails.getFirst().mail();
         assertEquals("Test Subject", mail.getSubject());
         assertEquals("<h1>Hello!</h1>", mail.getHtml());
         assertEquals(List.of("to@test.com"), mail.getTo());
@@ -185,7 +291,7 @@ class EmailDispatcherTest {
     }
 
     @Test
-    void testBuildMailWithAttachmentsAndInlineAttachments() {
+    void testBuildMailsWithAttachmentsAndInlineAttachments() {
         UUID emailId = UUID.randomUUID();
         OutboundEmail email = new OutboundEmail();
         email.id = emailId;
@@ -195,19 +301,28 @@ class EmailDispatcherTest {
 
         OutboundEmailAttachment regularAttachment =
                 new OutboundEmailAttachment(
-                        "doc.pdf", "application/pdf", null, "pdf-data".getBytes());
+                        "doc.pdf",
+                        "application/pdf",
+                        null,
+                        new EmailAttachmentBlob("pdf-hash", "pdf-data".getBytes()));
         OutboundEmailAttachment inlineAttachment =
                 new OutboundEmailAttachment(
-                        "image.png", "image/png", "img-cid-1", "png-data".getBytes());
+                        "image.png",
+                        "image/png",
+                        "img-cid-1",
+                        new EmailAttachmentBlob("png-hash", "png-data".getBytes()));
 
         email.addAttachment(regularAttachment);
         email.addAttachment(inlineAttachment);
 
-        when(outboundEmailRepository.findById(emailId)).thenReturn(email);
+        when(outboundEmailRepository.findByIdsWithAttachments(List.of(emailId)))
+                .thenReturn(List.of(email));
 
-        Mail mail = emailDispatcher.buildMail(emailId);
+        List<EmailDispatcher.PreparedMail> mails = emailDispatcher.buildMails(List.of(emailId));
 
-        assertNotNull(mail);
+        assertEquals(1, mails.size());
+        assertEquals(emailId, mails.getFirst().id());
+        Mail mail = mails.getFirst().mail();
         assertEquals(2, mail.getAttachments().size());
 
         io.quarkus.mailer.Attachment att1 = mail.getAttachments().get(0);
@@ -223,32 +338,36 @@ class EmailDispatcherTest {
     }
 
     @Test
-    void testMarkSent() {
-        UUID emailId = UUID.randomUUID();
-        OutboundEmail email = new OutboundEmail();
-        email.id = emailId;
-        email.setStatus(EmailStatus.PENDING);
-        email.setAttempts(1);
-        email.setLastError("Old Error");
+    void testMarkSentUpdatesAllInOneStatement() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(outboundEmailRepository.markSent(eq(ids), any(Instant.class))).thenReturn(2L);
 
-        when(outboundEmailRepository.findById(emailId)).thenReturn(email);
-
-        emailDispatcher.markSent(emailId);
+        emailDispatcher.markSent(ids);
 
-        assertEquals(EmailStatus.SENT, email.getStatus());
-        assertEquals(2, email.getAttempts());
-        assertNull(email.getLastError());
-        assertNotNull(email.getSentAt());
-        assertNotNull(email.getUpdatedAt());
+        verify(outboundEmailRepository, times(1)).markSent(eq(ids), any(Instant.class));
+        verify(outboundEmailRepository, never()).findById(any());
     }
 
     @Test
-    void testMarkSentWithNonExistentEmail() {
-        UUID emailId = UUID.randomUUID();
-        when(outboundEmailRepository.findById(emailId)).thenReturn(null);
+    void testBuildMailsSkipsVanishedMessages() {
+        UUID existingId = UUID.randomUUID();
+        UUID vanishedId = UUID.randomUUID();
+        OutboundEmail email = new OutboundEmail();
+        email.id = existingId;
+        email.setSubject("Bulk");
+        email.setHtmlBody("<p>Reminder</p>");
+        email.setTo(List.of("to@test.com"));
+        email.setPriority(EmailPriority.BULK);
+        when(outboundEmailRepository.findByIdsWithAttachments(List.of(existingId, vanishedId)))
+                .thenReturn(List.of(email));
+
+        List<EmailDispatcher.PreparedMail> mails =
+                emailDispatcher.buildMails(List.of(existingId, vanishedId));
 
-        // This should run without throwing any NullPointerException or error
-        emailDispatcher.markSent(emailId);
+        assertEquals(1, mails.size());
+        assertEquals(existingId, mails.getFirst().id());
+        assertEquals(EmailPriority.BULK, mails.getFirst().priority());
+        assertEquals("Bulk", mails.getFirst().mail().getSubject());
     }
 
     @Test
@@ -26,10 +26,12 @@ import jakarta.enterprise.event.Event;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import de.felixhertweck.seatreservation.model.entity.EmailAttachmentBlob;
 import de.felixhertweck.seatreservation.model.entity.EmailPriority;
 import de.felixhertweck.seatreservation.model.entity.EmailStatus;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmail;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmailAttachment;
+import de.felixhertweck.seatreservation.model.repository.EmailAttachmentBlobRepository;
 import de.felixhertweck.seatreservation.model.repository.OutboundEmailRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class EmailQueueServiceTest {
 
     @Mock private OutboundEmailRepository outboundEmailRepository;
+    @Mock private EmailAttachmentBlobRepository emailAttachmentBlobRepository;
     @Mock private Event<EmailEnqueuedEvent> emailEnqueuedEvent;
 
     @InjectMocks private EmailQueueService emailQueueService;
@@ -111,8 +114,17 @@ class EmailQueueServiceTest {
         assertEquals(result.id, eventCaptor.getValue().emailId());
     }
 
+    private void stubBlobStore() {
+        when(emailAttachmentBlobRepository.acquire(anyString(), any(byte[].class)))
+                .thenAnswer(
+                        invocation ->
+                                new EmailAttachmentBlob(
+                                        invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
     @Test
     void enqueue_withAttachments_mapsAndSavesAttachments() {
+        stubBlobStore();
         byte[] data1 = new byte[] {1, 2, 3};
         byte[] data2 = new byte[] {4, 5, 6};
         EmailAttachment attachment1 = EmailAttachment.file("file.pdf", "application/pdf", data1);
@@ -155,4 +167,35 @@ class EmailQueueServiceTest {
         verify(emailEnqueuedEvent).fire(eventCaptor.capture());
         assertEquals(result.id, eventCaptor.getValue().emailId());
     }
+
+    @Test
+    void enqueue_withIdenticalAttachments_storesContentUnderSameHash() {
+        stubBlobStore();
+        byte[] png = new byte[] {7, 8, 9};
+        byte[] data = new byte[] {1};
+        EmailMessage first =
+                EmailMessage.builder()
+                        .to("a@example.com")
+                        .subject("First")
+                        .htmlBody("<p>1</p>")
+                        .attachment(EmailAttachment.inline("map.png", "image/png", "map", png))
+                        .build();
+        EmailMessage second =
+                EmailMessage.builder()
+                        .to("b@example.com")
+                        .subject("Second")
+                        .htmlBody("<p>2</p>")
+                        .attachment(EmailAttachment.file("copy.png", "image/png", png.clone()))
+                        .attachment(EmailAttachment.file("other.pdf", "application/pdf", data))
+                        .build();
+
+        emailQueueService.enqueue(first);
+        emailQueueService.enqueue(second);
+
+        ArgumentCaptor<String> hashes = ArgumentCaptor.forClass(String.class);
+        verify(emailAttachmentBlobRepository, times(3)).acquire(hashes.capture(), any());
+        assertEquals(hashes.getAllValues().get(0), hashes.getAllValues().get(1));
+        assertNotEquals(hashes.getAllValues().get(0), hashes.getAllValues().get(2));
+        assertEquals(64, hashes.getAllValues().get(0).length());
+    }
 }
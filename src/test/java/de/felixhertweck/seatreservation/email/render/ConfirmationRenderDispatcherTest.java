@@ -0,0 +1,202 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.render;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.felixhertweck.seatreservation.email.service.ReservationEmailContent;
+import de.felixhertweck.seatreservation.model.entity.ConfirmationRenderJob;
+import de.felixhertweck.seatreservation.model.entity.RenderJobStatus;
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.ConfirmationRenderJobRepository;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+class ConfirmationRenderDispatcherTest {
+
+    @InjectMocks @Spy private ConfirmationRenderDispatcher dispatcher;
+
+    @Mock private ConfirmationRenderJobRepository confirmationRenderJobRepository;
+
+    @Mock private ReservationRepository reservationRepository;
+
+    @Mock private ReservationEmailContent reservationEmailContent;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        dispatcher.self = dispatcher;
+        dispatcher.batchSize = 20;
+        dispatcher.retryBackoffSeconds = 30;
+        dispatcher.maxBackoffSeconds = 900;
+        dispatcher.renderingTimeoutSeconds = 300;
+
+        user = new User();
+        user.id = UUID.randomUUID();
+    }
+
+    private ConfirmationRenderJob job(UUID id, List<UUID> reservationIds) {
+        ConfirmationRenderJob job = new ConfirmationRenderJob();
+        job.id = id;
+        job.setUser(user);
+        job.setReservationIds(new ArrayList<>(reservationIds));
+        job.setStatus(RenderJobStatus.RENDERING);
+        job.setMaxAttempts(3);
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(Instant.now());
+        when(confirmationRenderJobRepository.findByIdForUpdate(id)).thenReturn(job);
+        return job;
+    }
+
+    private static Reservation reservation(UUID id) {
+        Reservation reservation = new Reservation();
+        reservation.id = id;
+        return reservation;
+    }
+
+    @Test
+    void drainQueue_nothingClaimed_rendersNothing() {
+        when(dispatcher.claimDueIds(20)).thenReturn(Collections.emptyList());
+
+        assertEquals(0, dispatcher.drainQueue());
+        verify(reservationEmailContent, never())
+                .sendReservationConfirmation(any(), anyList(), any(), anyBoolean());
+    }
+
+    @Test
+    void claimDueIds_requeuesStaleJobsBeforeClaiming() {
+        List<UUID> expected = List.of(UUID.randomUUID());
+        when(confirmationRenderJobRepository.claimDue(any(Instant.class), anyInt()))
+                .thenReturn(expected);
+
+        assertEquals(expected, dispatcher.claimDueIds(5));
+        verify(confirmationRenderJobRepository).requeueStaleRendering(any(Instant.class));
+    }
+
+    @Test
+    void claimDueIds_withoutCapacity_claimsNothing() {
+        assertTrue(dispatcher.claimDueIds(0).isEmpty());
+        verify(confirmationRenderJobRepository, never()).claimDue(any(), anyInt());
+    }
+
+    @Test
+    void render_sendsConfirmationInOriginalOrderAndMarksDone() {
+        UUID jobId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        ConfirmationRenderJob job = job(jobId, List.of(first, second));
+        Reservation r1 = reservation(first);
+        Reservation r2 = reservation(second);
+        // Repository returns them in a different order than they were booked.
+        when(reservationRepository.findByIds(anyList())).thenReturn(List.of(r2, r1));
+        when(dispatcher.claimDueIds(20)).thenReturn(List.of(jobId));
+
+        assertEquals(1, dispatcher.drainQueue());
+
+        verify(reservationEmailContent)
+                .sendReservationConfirmation(eq(user), eq(List.of(r1, r2)), isNull(), eq(true));
+        assertEquals(RenderJobStatus.DONE, job.getStatus());
+        assertEquals(1, job.getAttempts());
+    }
+
+    @Test
+    void render_withAllReservationsCancelled_skipsMailButFinishesJob() {
+        UUID jobId = UUID.randomUUID();
+        ConfirmationRenderJob job = job(jobId, List.of(UUID.randomUUID()));
+        when(reservationRepository.findByIds(anyList())).thenReturn(List.of());
+
+        assertNotNull(dispatcher.render(jobId));
+
+        verify(reservationEmailContent, never())
+                .sendReservationConfirmation(any(), anyList(), any(), anyBoolean());
+        assertEquals(RenderJobStatus.DONE, job.getStatus());
+    }
+
+    @Test
+    void render_jobNoLongerRendering_skipsMail() {
+        UUID jobId = UUID.randomUUID();
+        ConfirmationRenderJob job = job(jobId, List.of(UUID.randomUUID()));
+        // Requeued as stale and finished by another worker meanwhile.
+        job.setStatus(RenderJobStatus.DONE);
+        job.setAttempts(1);
+
+        assertNull(dispatcher.render(jobId));
+
+        verify(reservationRepository, never()).findByIds(anyList());
+        verify(reservationEmailContent, never())
+                .sendReservationConfirmation(any(), anyList(), any(), anyBoolean());
+        assertEquals(RenderJobStatus.DONE, job.getStatus());
+        assertEquals(1, job.getAttempts());
+    }
+
+    @Test
+    void renderFailure_isRetriedThenMarkedFailed() {
+        UUID jobId = UUID.randomUUID();
+        UUID reservationId = UUID.randomUUID();
+        ConfirmationRenderJob job = job(jobId, List.of(reservationId));
+        when(reservationRepository.findByIds(anyList()))
+                .thenReturn(List.of(reservation(reservationId)));
+        doThrow(new IllegalStateException("Batik exploded"))
+                .when(reservationEmailContent)
+                .sendReservationConfirmation(any(), anyList(), any(), anyBoolean());
+
+        dispatcher.renderOne(jobId);
+        assertEquals(RenderJobStatus.PENDING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertTrue(job.getNextAttemptAt().isAfter(Instant.now().minusSeconds(1)));
+
+        // Each retry is claimed again before it renders.
+        job.setStatus(RenderJobStatus.RENDERING);
+        dispatcher.renderOne(jobId);
+        job.setStatus(RenderJobStatus.RENDERING);
+        dispatcher.renderOne(jobId);
+        assertEquals(RenderJobStatus.FAILED, job.getStatus());
+        assertEquals(3, job.getAttempts());
+        verify(dispatcher, times(3)).markFailure(eq(jobId), any(Exception.class));
+    }
+}
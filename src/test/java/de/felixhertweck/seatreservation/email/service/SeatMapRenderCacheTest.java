@@ -0,0 +1,141 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.email.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.felixhertweck.seatreservation.common.events.SeatmapGeometryChangedEvent;
+import de.felixhertweck.seatreservation.model.entity.Coordinate;
+import de.felixhertweck.seatreservation.model.entity.EventLocationMarker;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.utils.SvgRenderer;
+import de.felixhertweck.seatreservation.utils.SvgToPngConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatMapRenderCacheTest {
+
+    private final UUID locationId = id(1);
+
+    private SeatMapRenderCache cache;
+    private List<Seat> seats;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SeatMapRenderCache();
+        cache.maxEntries = 16;
+
+        seats = new ArrayList<>();
+        for (int x = 0; x < 5; x++) {
+            Seat seat = new Seat("A" + x, "A", null);
+            seat.id = id(100 + x);
+            seat.setCoordinate(new Coordinate(x, 0));
+            seats.add(seat);
+        }
+    }
+
+    private BufferedImage render(Set<String> newSeats, Set<String> existingSeats) throws Exception {
+        byte[] png =
+                cache.renderPng(
+                        locationId,
+                        seats,
+                        newSeats,
+                        existingSeats,
+                        List.of(new EventLocationMarker("Stage", 2, 2)),
+                        List.of());
+        return ImageIO.read(new ByteArrayInputStream(png));
+    }
+
+    /** Pixel color just inside the left edge of a seat, clear of its label. */
+    private Color seatColor(BufferedImage image, Seat seat) {
+        SvgRenderer.ViewBox viewBox =
+                SvgRenderer.computeViewBox(
+                        seats, List.of(new EventLocationMarker("Stage", 2, 2)), List.of());
+        double size = SvgToPngConverter.IMAGE_SIZE;
+        double scale = Math.min(size / viewBox.width(), size / viewBox.height());
+        double offsetX = (size - viewBox.width() * scale) / 2 - viewBox.x() * scale;
+        double offsetY = (size - viewBox.height() * scale) / 2 - viewBox.y() * scale;
+        double x = seat.getCoordinate().xCoordinate() * SvgRenderer.SEAT_SCALE - 10;
+        double y = seat.getCoordinate().yCoordinate() * SvgRenderer.SEAT_SCALE;
+        return new Color(image.getRGB((int) (x * scale + offsetX), (int) (y * scale + offsetY)));
+    }
+
+    private static void assertColorNear(String expected, Color actual) {
+        Color color = Color.decode(expected);
+        int distance =
+                Math.abs(color.getRed() - actual.getRed())
+                        + Math.abs(color.getGreen() - actual.getGreen())
+                        + Math.abs(color.getBlue() - actual.getBlue());
+        assertTrue(distance < 30, "expected " + expected + " but was " + actual);
+    }
+
+    @Test
+    void renderPng_HighlightsOnlyTheRecipientsSeats() throws Exception {
+        BufferedImage image = render(Set.of("A1"), Set.of("A3"));
+
+        assertEquals(SvgToPngConverter.IMAGE_SIZE, image.getWidth());
+        assertEquals(SvgToPngConverter.IMAGE_SIZE, image.getHeight());
+        assertColorNear(SvgRenderer.AVAILABLE_COLOR, seatColor(image, seats.get(0)));
+        assertColorNear(SvgRenderer.NEW_RESERVATION_COLOR, seatColor(image, seats.get(1)));
+        assertColorNear(SvgRenderer.EXISTING_RESERVATION_COLOR, seatColor(image, seats.get(3)));
+    }
+
+    @Test
+    void renderPng_HighlightsDoNotLeakIntoTheCachedBaseLayer() throws Exception {
+        render(Set.of("A1"), Set.of());
+
+        BufferedImage image = render(Set.of("A2"), Set.of());
+
+        assertColorNear(SvgRenderer.AVAILABLE_COLOR, seatColor(image, seats.get(1)));
+        assertColorNear(SvgRenderer.NEW_RESERVATION_COLOR, seatColor(image, seats.get(2)));
+    }
+
+    @Test
+    void renderPng_ChangedGeometry_IsRenderedAgain() throws Exception {
+        render(Set.of(), Set.of());
+
+        seats.get(4).setCoordinate(new Coordinate(4, 1));
+        BufferedImage image = render(Set.of(), Set.of());
+
+        assertColorNear(SvgRenderer.AVAILABLE_COLOR, seatColor(image, seats.get(4)));
+    }
+
+    @Test
+    void onGeometryChanged_DropsBaseLayer() throws Exception {
+        render(Set.of(), Set.of());
+
+        cache.onGeometryChanged(new SeatmapGeometryChangedEvent(locationId));
+        BufferedImage image = render(Set.of("A0"), Set.of());
+
+        assertColorNear(SvgRenderer.NEW_RESERVATION_COLOR, seatColor(image, seats.get(0)));
+    }
+}
@@ -0,0 +1,502 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import jakarta.inject.Inject;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.felixhertweck.seatreservation.email.queue.EmailDispatcher;
+import de.felixhertweck.seatreservation.email.render.ConfirmationRenderDispatcher;
+import de.felixhertweck.seatreservation.model.entity.EmailStatus;
+import de.felixhertweck.seatreservation.model.entity.Event;
+import de.felixhertweck.seatreservation.model.entity.EventLocation;
+import de.felixhertweck.seatreservation.model.entity.EventUserAllowance;
+import de.felixhertweck.seatreservation.model.entity.RenderJobStatus;
+import de.felixhertweck.seatreservation.model.entity.Roles;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.ConfirmationRenderJobRepository;
+import de.felixhertweck.seatreservation.model.repository.EventLocationRepository;
+import de.felixhertweck.seatreservation.model.repository.EventRepository;
+import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepository;
+import de.felixhertweck.seatreservation.model.repository.OutboundEmailRepository;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.model.repository.SeatRepository;
+import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import de.felixhertweck.seatreservation.reservation.dto.UserReservationsRequestDTO;
+import de.felixhertweck.seatreservation.reservation.service.WaitingRoomService;
+import de.felixhertweck.seatreservation.security.service.TokenService;
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.quarkus.mailer.MockMailbox;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Booking-rush load test. Seeds a large event location and thousands of users with an allowance,
+ * lets them all book at once over HTTP like the web client does (queue in the event's waiting
+ * room until admitted, {@code POST /api/user/seatcart/{eventId}/{seatId}} per seat with the
+ * admission token, then {@code POST /api/user/reservations}) and finally drains the confirmation
+ * render and email queues into the mock mailbox, which stands in for the SMTP server. Postgres and
+ * Redis are the Dev Services (Testcontainers) instances of the test profile, so every run starts
+ * from empty containers.
+ *
+ * <p>The waiting room is enabled for this test, so the admission control in front of the cart and
+ * reservation endpoints paces the rush as it would in production. Its rate can be tuned with the
+ * usual {@code waiting-room.*} properties, e.g. {@code
+ * -Dwaiting-room.initial-admissions-per-second=100}.
+ *
+ * <p>Throughput, p50/p99 latency per endpoint, conflict and error rates and connection pool
+ * saturation are logged and written to {@code target/loadtest/booking-rush.json}. The test is
+ * tagged {@code load} and only runs with {@code ./mvnw -Pload-test test}; {@link
+ * BookingRushScenario} lists the parameters.
+ */
+@QuarkusTest
+@TestProfile(BookingRushLoadTest.WaitingRoomProfile.class)
+@Tag("load")
+class BookingRushLoadTest {
+
+    private static final Logger LOG = Logger.getLogger(BookingRushLoadTest.class);
+
+    private static final int SEATS_PER_ROW = 50;
+    private static final int SEED_CHUNK_SIZE = 500;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(10);
+    private static final String WAITING_ROOM = "/api/user/events/{eventId}/waiting-room";
+    private static final String SEAT_CART = "/api/user/seatcart/{eventId}/{seatId}";
+    private static final String RESERVATIONS = "/api/user/reservations";
+    private static final Duration ADMISSION_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration ADMISSION_POLL_INTERVAL = Duration.ofMillis(200);
+
+    @Inject UserRepository userRepository;
+    @Inject EventLocationRepository eventLocationRepository;
+    @Inject SeatRepository seatRepository;
+    @Inject EventRepository eventRepository;
+    @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
+    @Inject ReservationRepository reservationRepository;
+    @Inject ConfirmationRenderJobRepository confirmationRenderJobRepository;
+    @Inject OutboundEmailRepository outboundEmailRepository;
+
+    @Inject TokenService tokenService;
+    @Inject ConfirmationRenderDispatcher confirmationRenderDispatcher;
+    @Inject EmailDispatcher emailDispatcher;
+
+    @Inject MockMailbox mailbox;
+    @Inject AgroalDataSource dataSource;
+    @Inject ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "quarkus.datasource.jdbc.max-size", defaultValue = "20")
+    int poolMaxSize;
+
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final AtomicInteger booked = new AtomicInteger();
+    private final AtomicInteger conflicts = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private record Seeded(UUID eventId, List<UUID> seatIds, List<User> users) {}
+
+    @Test
+    void bookingRush() throws Exception {
+        BookingRushScenario scenario = BookingRushScenario.fromSystemProperties();
+        LOG.infof("Booking rush scenario: %s", scenario);
+        Seeded seeded = seed(scenario, Long.toString(System.currentTimeMillis(), 36));
+
+        mailbox.clear();
+        dataSource.getMetrics().reset();
+        AtomicLong peakActive = new AtomicLong();
+        AtomicLong peakAwaiting = new AtomicLong();
+
+        ScheduledExecutorService poolSampler = Executors.newSingleThreadScheduledExecutor();
+        poolSampler.scheduleAtFixedRate(
+                () -> {
+                    AgroalDataSourceMetrics metrics = dataSource.getMetrics();
+                    peakActive.accumulateAndGet(metrics.activeCount(), Math::max);
+                    peakAwaiting.accumulateAndGet(metrics.awaitingCount(), Math::max);
+                },
+                0,
+                10,
+                TimeUnit.MILLISECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(scenario.concurrency());
+        long rushStart = System.nanoTime();
+        List<Future<?>> flows = new ArrayList<>(scenario.users());
+        for (int i = 0; i < scenario.users(); i++) {
+            int index = i;
+            flows.add(clients.submit(() -> bookingFlow(scenario, seeded, index)));
+        }
+        for (Future<?> flow : flows) {
+            flow.get();
+        }
+        long rushNanos = System.nanoTime() - rushStart;
+        clients.shutdown();
+
+        long drainStart = System.nanoTime();
+        boolean drained = drainQueues();
+        long drainNanos = System.nanoTime() - drainStart;
+        poolSampler.shutdownNow();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario);
+        report.put("rushSeconds", rushNanos / 1e9);
+        report.put("flowsPerSecond", scenario.users() / (rushNanos / 1e9));
+        report.put("bookingsPerSecond", booked.get() / (rushNanos / 1e9));
+        report.put("booked", booked.get());
+        report.put("conflicts", conflicts.get());
+        report.put("errors", errors.get());
+        report.put("conflictRate", (double) conflicts.get() / scenario.users());
+        report.put("errorRate", (double) errors.get() / scenario.users());
+        report.put("latenciesMillis", latencies.summarize());
+        AgroalDataSourceMetrics metrics = dataSource.getMetrics();
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("maxSize", poolMaxSize);
+        pool.put("maxUsed", metrics.maxUsedCount());
+        pool.put("peakActive", peakActive.get());
+        pool.put("peakAwaiting", peakAwaiting.get());
+        pool.put("blockingTimeMaxMillis", metrics.blockingTimeMax().toMillis());
+        pool.put("blockingTimeAverageMillis", metrics.blockingTimeAverage().toMillis());
+        report.put("connectionPool", pool);
+        Map<String, Object> mail = new LinkedHashMap<>();
+        mail.put("sent", mailbox.getTotalMessagesSent());
+        mail.put("drainSeconds", drainNanos / 1e9);
+        mail.put("drained", drained);
+        report.put("mail", mail);
+        writeReport(report);
+
+        assertEquals(0L, doubleBookedSeats(seeded.eventId()));
+        assertEquals(
+                (long) booked.get() * scenario.seatsPerUser(),
+                reservationRepository.count("event.id", seeded.eventId()));
+        assertTrue(drained, "confirmation render and email queues did not drain in time");
+    }
+
+    /**
+     * One user's booking: wait for admission, hold each chosen seat in the cart, then book them. A
+     * seat taken by someone else ({@code 409}) counts as a conflict and releases the user's holds,
+     * like closing the dialog. Any other failure, including one while releasing, counts as an
+     * error, so a single broken flow doesn't end the run.
+     */
+    private void bookingFlow(BookingRushScenario scenario, Seeded seeded, int index) {
+        User user = seeded.users().get(index);
+        UUID eventId = seeded.eventId();
+        Set<UUID> seatIds =
+                pickSeats(scenario, seeded.seatIds(), new Random(scenario.seed() + index));
+        long start = System.nanoTime();
+        try {
+            String admissionToken = awaitAdmission(user, eventId);
+            // Issued after the wait, which may take longer than a token is valid.
+            String jwt = tokenService.generateToken(user);
+            for (UUID seatId : seatIds) {
+                int status =
+                        latencies.time(
+                                "POST " + SEAT_CART,
+                                () ->
+                                        admitted(jwt, admissionToken)
+                                                .post(SEAT_CART, eventId, seatId)
+                                                .statusCode());
+                if (status == 409) {
+                    releaseHolds(jwt, eventId, seatIds);
+                    conflicts.incrementAndGet();
+                    return;
+                }
+                expectOk(status, "seat cart hold");
+            }
+            int status =
+                    latencies.time(
+                            "POST " + RESERVATIONS,
+                            () ->
+                                    admitted(jwt, admissionToken)
+                                            .contentType(ContentType.JSON)
+                                            .body(new UserReservationsRequestDTO(eventId, seatIds))
+                                            .post(RESERVATIONS)
+                                            .statusCode());
+            if (status == 409) {
+                releaseHolds(jwt, eventId, seatIds);
+                conflicts.incrementAndGet();
+                return;
+            }
+            expectOk(status, "reservation");
+            latencies.record("flow", System.nanoTime() - start);
+            booked.incrementAndGet();
+        } catch (RuntimeException | InterruptedException e) {
+            errors.incrementAndGet();
+            LOG.debugf(e, "Booking flow of load test user %d failed", index);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Joins the event's waiting room and polls it until the user is admitted.
+     *
+     * @return the admission token, or {@code null} if the waiting room isn't active for the event
+     */
+    private String awaitAdmission(User user, UUID eventId) throws InterruptedException {
+        String jwt = tokenService.generateToken(user);
+        long start = System.nanoTime();
+        long deadline = start + ADMISSION_TIMEOUT.toNanos();
+        JsonPath status =
+                latencies.time(
+                        "POST " + WAITING_ROOM,
+                        () -> waitingRoomStatus(authenticated(jwt).post(WAITING_ROOM, eventId)));
+        while (status.getBoolean("active") && !status.getBoolean("admitted")) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Not admitted within " + ADMISSION_TIMEOUT);
+            }
+            Thread.sleep(ADMISSION_POLL_INTERVAL.toMillis());
+            status =
+                    latencies.time(
+                            "GET " + WAITING_ROOM,
+                            () -> waitingRoomStatus(authenticated(jwt).get(WAITING_ROOM, eventId)));
+        }
+        latencies.record("waiting-room.wait", System.nanoTime() - start);
+        return status.getString("admissionToken");
+    }
+
+    private static JsonPath waitingRoomStatus(Response response) {
+        expectOk(response.statusCode(), "waiting room");
+        return response.jsonPath();
+    }
+
+    /** Releases the user's holds after a conflict; a hold that isn't the user's is left alone. */
+    private void releaseHolds(String jwt, UUID eventId, Set<UUID> seatIds) {
+        for (UUID seatId : seatIds) {
+            int status =
+                    latencies.time(
+                            "DELETE " + SEAT_CART,
+                            () ->
+                                    authenticated(jwt)
+                                            .delete(SEAT_CART, eventId, seatId)
+                                            .statusCode());
+            expectOk(status, "seat cart release");
+        }
+    }
+
+    private static RequestSpecification authenticated(String jwt) {
+        return given().cookie("jwt", jwt);
+    }
+
+    private static RequestSpecification admitted(String jwt, String admissionToken) {
+        RequestSpecification request = authenticated(jwt);
+        return admissionToken != null
+                ? request.header(WaitingRoomService.ADMISSION_HEADER, admissionToken)
+                : request;
+    }
+
+    private static void expectOk(int status, String operation) {
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException(operation + " failed with HTTP " + status);
+        }
+    }
+
+    /** Picks adjacent seats, from the front block for {@code hotDemandShare} of the users. */
+    private static Set<UUID> pickSeats(
+            BookingRushScenario scenario, List<UUID> seatIds, Random random) {
+        int hotSeats =
+                Math.max(scenario.seatsPerUser(), (int) (seatIds.size() * scenario.hotSeatShare()));
+        boolean hot = random.nextDouble() < scenario.hotDemandShare();
+        int from = hot ? 0 : hotSeats;
+        int range = (hot ? hotSeats : seatIds.size() - hotSeats) - scenario.seatsPerUser();
+        int first = from + random.nextInt(Math.max(1, range + 1));
+        return new LinkedHashSet<>(seatIds.subList(first, first + scenario.seatsPerUser()));
+    }
+
+    private Seeded seed(BookingRushScenario scenario, String runId) {
+        long start = System.nanoTime();
+        User manager =
+                QuarkusTransaction.requiringNew()
+                        .call(() -> persistUser(runId + "-manager", Roles.MANAGER));
+        List<UUID> seatIds = new ArrayList<>(scenario.seats());
+        UUID eventId =
+                QuarkusTransaction.requiringNew()
+                        .call(() -> persistEvent(scenario, runId, manager, seatIds));
+
+        List<User> users = new ArrayList<>(scenario.users());
+        for (int from = 0; from < scenario.users(); from += SEED_CHUNK_SIZE) {
+            int first = from;
+            int last = Math.min(from + SEED_CHUNK_SIZE, scenario.users());
+            users.addAll(
+                    QuarkusTransaction.requiringNew()
+                            .call(() -> persistUsers(scenario, runId, eventId, first, last)));
+        }
+        LOG.infof(
+                "Seeded %d seats and %d users in %d ms",
+                scenario.seats(),
+                scenario.users(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return new Seeded(eventId, seatIds, users);
+    }
+
+    /** Persists the location with its seats (ids added to {@code seatIds}) and a bookable event. */
+    private UUID persistEvent(
+            BookingRushScenario scenario, String runId, User manager, List<UUID> seatIds) {
+        EventLocation location =
+                new EventLocation("Load test arena " + runId, "Teststraße 1", manager);
+        eventLocationRepository.persist(location);
+        for (int i = 0; i < scenario.seats(); i++) {
+            int row = i / SEATS_PER_ROW;
+            Seat seat = new Seat("S" + i, location, "R" + row, i % SEATS_PER_ROW, row, null, null);
+            seatRepository.persist(seat);
+            seatIds.add(seat.id);
+        }
+        Instant now = Instant.now();
+        Instant eventStart = now.plus(Duration.ofDays(30));
+        Event event =
+                new Event(
+                        "Booking rush " + runId,
+                        "Load test event",
+                        eventStart,
+                        eventStart.plus(Duration.ofHours(3)),
+                        eventStart.minus(Duration.ofDays(1)),
+                        now.minus(Duration.ofMinutes(1)),
+                        location,
+                        manager,
+                        null,
+                        Set.of());
+        eventRepository.persist(event);
+        return event.id;
+    }
+
+    private List<User> persistUsers(
+            BookingRushScenario scenario, String runId, UUID eventId, int first, int last) {
+        Event event = eventRepository.findById(eventId);
+        List<User> users = new ArrayList<>(last - first);
+        for (int i = first; i < last; i++) {
+            User user = persistUser(runId + "-user-" + i, Roles.USER);
+            eventUserAllowanceRepository.persist(
+                    new EventUserAllowance(user, event, scenario.seatsPerUser()));
+            users.add(user);
+        }
+        return users;
+    }
+
+    private User persistUser(String username, String role) {
+        User user =
+                new User(
+                        username,
+                        username + "@example.com",
+                        true,
+                        true,
+                        "hash",
+                        "salt",
+                        "Load",
+                        "Test",
+                        Set.of(role),
+                        Set.of());
+        userRepository.persist(user);
+        return user;
+    }
+
+    /**
+     * Drains the confirmation render and email queues until nothing is pending any more. The
+     * dispatchers' own after-commit triggers work on the same queues in the background.
+     *
+     * @return {@code true} if both queues drained within {@link #DRAIN_TIMEOUT}
+     */
+    private boolean drainQueues() throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            confirmationRenderDispatcher.drainQueue();
+            emailDispatcher.drainQueue();
+            if (QuarkusTransaction.requiringNew().call(this::openQueueEntries) == 0) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private long openQueueEntries() {
+        return confirmationRenderJobRepository.countByStatus(RenderJobStatus.PENDING)
+                + confirmationRenderJobRepository.countByStatus(RenderJobStatus.RENDERING)
+                + outboundEmailRepository.countByStatus(EmailStatus.PENDING)
+                + outboundEmailRepository.countByStatus(EmailStatus.SENDING);
+    }
+
+    private long doubleBookedSeats(UUID eventId) {
+        long reservations =
+                QuarkusTransaction.requiringNew()
+                        .call(() -> reservationRepository.count("event.id", eventId));
+        long distinctSeats =
+                QuarkusTransaction.requiringNew()
+                        .call(
+                                () ->
+                                        reservationRepository
+                                                .getEntityManager()
+                                                .createQuery(
+                                                        "select count(distinct r.seat.id) from"
+                                                                + " Reservation r where r.event.id"
+                                                                + " = ?1",
+                                                        Long.class)
+                                                .setParameter(1, eventId)
+                                                .getSingleResult());
+        return reservations - distinctSeats;
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path file = Path.of(System.getProperty("loadtest.report-dir", "target/loadtest"));
+        Files.createDirectories(file);
+        file = file.resolve("booking-rush.json");
+        Files.writeString(file, json);
+        LOG.infof("Booking rush report (%s):%n%s", file.toAbsolutePath(), json);
+    }
+
+    /** Puts the event's waiting room in front of the cart and reservation endpoints. */
+    public static class WaitingRoomProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("waiting-room.enabled", "true");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.loadtest;
+
+/**
+ * Parameters of a {@link BookingRushLoadTest} run. They are read from {@code loadtest.*} system
+ * properties, so a production spike can be replayed locally, e.g. {@code ./mvnw -Pload-test test
+ * -Dloadtest.users=5000 -Dloadtest.concurrency=200}.
+ *
+ * @param users number of users; each one attempts a single booking
+ * @param seats number of seats in the event location
+ * @param seatsPerUser seats each user selects and books (also their allowance)
+ * @param concurrency number of users booking at the same time
+ * @param hotSeatShare share of the seats forming the sought-after front block
+ * @param hotDemandShare share of users aiming for the front block; this drives the conflicts
+ * @param seed random seed for the seat choice, so runs are repeatable
+ */
+record BookingRushScenario(
+        int users,
+        int seats,
+        int seatsPerUser,
+        int concurrency,
+        double hotSeatShare,
+        double hotDemandShare,
+        long seed) {
+
+    static BookingRushScenario fromSystemProperties() {
+        return new BookingRushScenario(
+                Integer.getInteger("loadtest.users", 2000),
+                Integer.getInteger("loadtest.seats", 5000),
+                Integer.getInteger("loadtest.seats-per-user", 2),
+                Integer.getInteger("loadtest.concurrency", 50),
+                doubleProperty("loadtest.hot-seat-share", 0.05),
+                doubleProperty("loadtest.hot-demand-share", 0.3),
+                Long.getLong("loadtest.seed", 42L));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/** Collects the latencies of a load test run per operation and summarizes them as percentiles. */
+final class LatencyRecorder {
+
+    private final Map<String, Queue<Long>> samples = new ConcurrentHashMap<>();
+
+    /**
+     * Latency summary of one operation, in milliseconds.
+     *
+     * @param count number of recorded calls
+     * @param p50 median latency
+     * @param p99 99th percentile latency
+     * @param max slowest call
+     */
+    record Summary(int count, double p50, double p99, double max) {}
+
+    void record(String operation, long nanos) {
+        samples.computeIfAbsent(operation, o -> new ConcurrentLinkedQueue<>()).add(nanos);
+    }
+
+    /** Runs {@code action} and records its latency, whether it succeeds or throws. */
+    <T> T time(String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(operation, System.nanoTime() - start);
+        }
+    }
+
+    /** Returns the summary of every recorded operation, by operation name. */
+    Map<String, Summary> summarize() {
+        Map<String, Summary> summaries = new TreeMap<>();
+        samples.forEach(
+                (operation, values) -> {
+                    long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+                    Arrays.sort(sorted);
+                    summaries.put(
+                            operation,
+                            new Summary(
+                                    sorted.length,
+                                    millis(percentile(sorted, 0.50)),
+                                    millis(percentile(sorted, 0.99)),
+                                    millis(sorted[sorted.length - 1])));
+                });
+        return summaries;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
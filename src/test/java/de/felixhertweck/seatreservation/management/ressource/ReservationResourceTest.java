@@ -30,7 +30,9 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
@@ -460,6 +462,31 @@ public class ReservationResourceTest {
                 .contentType("application/pdf");
     }
 
+    @Test
+    @TestSecurity(
+            user = "manager",
+            roles = {"MANAGER"})
+    void testExportReservationsToCsv() {
+        given().when()
+                .get("/api/manager/reservations/export/" + testEvent.id + "/csv")
+                .then()
+                .statusCode(200)
+                .contentType("text/csv")
+                .body(startsWith("ID,Reservation Status,Seat Number"))
+                .body(containsString(testReservation.id + ",,A1,"));
+    }
+
+    @Test
+    @TestSecurity(
+            user = "manager",
+            roles = {"MANAGER"})
+    void testExportReservationsToCsvEventNotFound() {
+        given().when()
+                .get("/api/manager/reservations/export/" + id(999) + "/csv")
+                .then()
+                .statusCode(404);
+    }
+
     @Test
     @TestSecurity(
             user = "manager",
@@ -30,17 +30,15 @@ import jakarta.inject.Inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.felixhertweck.seatreservation.management.dto.ManagementOverviewDTO;
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
-import de.felixhertweck.seatreservation.model.entity.EventUserAllowance;
-import de.felixhertweck.seatreservation.model.entity.Reservation;
 import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
 import de.felixhertweck.seatreservation.model.entity.Roles;
-import de.felixhertweck.seatreservation.model.entity.Seat;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.repository.EventLocationRepository;
 import de.felixhertweck.seatreservation.model.repository.EventRepository;
@@ -74,9 +72,6 @@ public class OverviewServiceTest {
     private EventLocation location;
     private Event upcomingEvent;
     private Event pastEvent;
-    private Reservation reservation;
-    private Reservation blockedReservation;
-    private EventUserAllowance allowance;
 
     @BeforeEach
     void setUp() {
@@ -165,45 +160,23 @@ public class OverviewServiceTest {
                         null,
                         Set.of());
         pastEvent.id = id(101);
-
-        Seat seat = new Seat("S1", location, "1", 1, 1, null, null);
-        seat.id = id(200);
-
-        reservation =
-                new Reservation(
-                        regularUser,
-                        upcomingEvent,
-                        seat,
-                        Instant.now(),
-                        ReservationStatus.RESERVED,
-                        null);
-        reservation.id = id(300);
-
-        Seat blockedSeat = new Seat("S2", location, "1", 1, 2, null, null);
-        blockedSeat.id = id(201);
-
-        blockedReservation =
-                new Reservation(
-                        null,
-                        upcomingEvent,
-                        blockedSeat,
-                        Instant.now(),
-                        ReservationStatus.BLOCKED,
-                        null);
-        blockedReservation.id = id(301);
-
-        allowance = new EventUserAllowance(regularUser, upcomingEvent, 3);
-        allowance.id = id(400);
     }
 
     @Test
     void getOverview_AsManager_Success() {
         when(eventRepository.findByManager(managerUser))
                 .thenReturn(List.of(upcomingEvent, pastEvent));
-        when(reservationRepository.findByManager(managerUser))
-                .thenReturn(List.of(reservation, blockedReservation));
-        when(eventUserAllowanceRepository.findByEventManager(managerUser))
-                .thenReturn(List.of(allowance));
+        when(reservationRepository.countByEventAndStatus(managerUser))
+                .thenReturn(
+                        Map.of(
+                                upcomingEvent.id,
+                                Map.of(
+                                        ReservationStatus.RESERVED,
+                                        1L,
+                                        ReservationStatus.BLOCKED,
+                                        1L)));
+        when(reservationRepository.countReservedWithinAllowances(managerUser)).thenReturn(1L);
+        when(eventUserAllowanceRepository.sumReservationsAllowedCount(managerUser)).thenReturn(3L);
         when(eventLocationRepository.getSeatCountsByLocationIds(Set.of(location.id)))
                 .thenReturn(Map.of(location.id, 10));
 
@@ -235,8 +208,10 @@ public class OverviewServiceTest {
     @Test
     void getOverview_AsAdmin_Success() {
         when(eventRepository.listAll()).thenReturn(List.of(upcomingEvent));
-        when(reservationRepository.listAll()).thenReturn(List.of(reservation));
-        when(eventUserAllowanceRepository.listAll()).thenReturn(List.of(allowance));
+        when(reservationRepository.countByEventAndStatus(null))
+                .thenReturn(Map.of(upcomingEvent.id, Map.of(ReservationStatus.RESERVED, 1L)));
+        when(reservationRepository.countReservedWithinAllowances(null)).thenReturn(1L);
+        when(eventUserAllowanceRepository.sumReservationsAllowedCount(null)).thenReturn(3L);
         when(eventLocationRepository.getSeatCountsByLocationIds(Set.of(location.id)))
                 .thenReturn(Map.of(location.id, 10));
 
@@ -244,6 +219,10 @@ public class OverviewServiceTest {
 
         assertNotNull(overview);
         assertEquals(1, overview.stats().eventsCount());
+        assertEquals(1, overview.stats().reservationsReserved());
+        assertEquals(4, overview.stats().contingentGranted());
         verify(eventRepository).listAll();
+        verify(reservationRepository, never()).listAll();
+        verify(eventUserAllowanceRepository, never()).listAll();
     }
 }
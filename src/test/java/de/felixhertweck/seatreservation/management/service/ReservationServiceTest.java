@@ -25,7 +25,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -37,7 +36,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -115,6 +113,12 @@ class ReservationServiceTest {
                         inv ->
                                 new de.felixhertweck.seatreservation.model.entity.CheckInToken(
                                         inv.getArgument(0), inv.getArgument(1), "CODE123"));
+        // Every seat is free unless a test reports conflicting seats.
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
+                        inv ->
+                                new ReservationRepository.InsertResult(
+                                        inv.getArgument(0), Set.of()));
 
         adminUser =
                 new User(
@@ -238,20 +242,19 @@ class ReservationServiceTest {
                 .thenReturn(Optional.of(allowance));
         doNothing().when(eventUserAllowanceRepository).persist(any(EventUserAllowance.class));
 
-        doAnswer(
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
                         inv -> {
                             List<Reservation> reservations = inv.getArgument(0);
                             reservations.forEach(res -> res.id = id(99));
-                            return null;
-                        })
-                .when(reservationRepository)
-                .persistAll(anyList());
+                            return new ReservationRepository.InsertResult(reservations, Set.of());
+                        });
 
         Set<ReservationResponseDTO> created = reservationService.createReservations(dto, adminUser);
 
         assertNotNull(created);
         assertEquals(regularUser.id, created.iterator().next().user().id());
-        verify(reservationRepository).persistAll(anyList());
+        verify(reservationRepository).insertAll(anyList());
         verify(eventUserAllowanceRepository).persist(any(EventUserAllowance.class));
         assertEquals(0, allowance.getReservationsAllowedCount()); // Allowance should be decremented
     }
@@ -297,20 +300,19 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat));
         // No allowance setup needed as it should be skipped
 
-        doAnswer(
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
                         inv -> {
                             List<Reservation> reservations = inv.getArgument(0);
                             reservations.forEach(res -> res.id = id(99));
-                            return null;
-                        })
-                .when(reservationRepository)
-                .persistAll(anyList());
+                            return new ReservationRepository.InsertResult(reservations, Set.of());
+                        });
 
         Set<ReservationResponseDTO> created = reservationService.createReservations(dto, adminUser);
 
         assertNotNull(created);
         assertEquals(regularUser.id, created.iterator().next().user().id());
-        verify(reservationRepository).persistAll(anyList());
+        verify(reservationRepository).insertAll(anyList());
         verify(eventUserAllowanceRepository, never())
                 .persist(any(EventUserAllowance.class)); // Verify allowance was not persisted
     }
@@ -328,21 +330,20 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat));
         // No allowance setup needed as it should be skipped
 
-        doAnswer(
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
                         inv -> {
                             List<Reservation> reservations = inv.getArgument(0);
                             reservations.forEach(res -> res.id = id(99));
-                            return null;
-                        })
-                .when(reservationRepository)
-                .persistAll(anyList());
+                            return new ReservationRepository.InsertResult(reservations, Set.of());
+                        });
 
         Set<ReservationResponseDTO> created =
                 reservationService.createReservations(dto, managerUser);
 
         assertNotNull(created);
         assertEquals(regularUser.id, created.iterator().next().user().id());
-        verify(reservationRepository).persistAll(anyList());
+        verify(reservationRepository).insertAll(anyList());
         verify(eventUserAllowanceRepository, never())
                 .persist(any(EventUserAllowance.class)); // Verify allowance was not persisted
     }
@@ -366,7 +367,7 @@ class ReservationServiceTest {
 
         assertNotNull(created);
         assertEquals(regularUser.id, created.iterator().next().user().id());
-        verify(reservationRepository).persistAll(anyList());
+        verify(reservationRepository).insertAll(anyList());
         verify(eventUserAllowanceRepository).persist(any(EventUserAllowance.class));
         assertEquals(0, allowance.getReservationsAllowedCount()); // Allowance should be decremented
     }
@@ -736,12 +737,11 @@ class ReservationServiceTest {
     void blockSeats_Success() {
         when(eventRepository.findByIdOptional(event.id)).thenReturn(Optional.of(event));
         mockSeatFind(List.of(seat.id), List.of(seat));
-        when(reservationRepository.findByEventIdAndSeatIds(event.id, List.of(seat.id)))
-                .thenReturn(Collections.emptyList());
 
         reservationService.blockSeats(event.id, List.of(seat.id), managerUser);
 
-        verify(reservationRepository).persist(any(Iterable.class));
+        verify(reservationRepository).insertAll(anyList());
+        verify(reservationRepository, never()).findByEventIdAndSeatIds(any(), any());
     }
 
     @Test
@@ -758,8 +758,8 @@ class ReservationServiceTest {
     void blockSeats_SeatAlreadyReserved() {
         when(eventRepository.findByIdOptional(event.id)).thenReturn(Optional.of(event));
         mockSeatFind(List.of(seat.id), List.of(seat));
-        when(reservationRepository.findByEventIdAndSeatIds(event.id, List.of(seat.id)))
-                .thenReturn(List.of(reservation));
+        when(reservationRepository.insertAll(anyList()))
+                .thenReturn(new ReservationRepository.InsertResult(List.of(), Set.of(seat.id)));
         List<UUID> seatIds = List.of(seat.id);
 
         assertThrows(
@@ -19,6 +19,7 @@
  */
 package de.felixhertweck.seatreservation.management.service;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,13 +27,18 @@ import java.util.UUID;
 import jakarta.inject.Inject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.felixhertweck.seatreservation.common.dto.CoordinateDTO;
 import de.felixhertweck.seatreservation.common.dto.EventLocationMakerDTO;
 import de.felixhertweck.seatreservation.common.dto.SeatDTO;
@@ -58,8 +64,8 @@ import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepos
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.SeatRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
-import de.felixhertweck.seatreservation.reservation.dto.UserEventLocationResponseDTO;
 import de.felixhertweck.seatreservation.reservation.service.EventLocationService;
+import de.felixhertweck.seatreservation.reservation.service.LocationPayloadCache;
 import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
@@ -84,6 +90,7 @@ public class SeatmapCacheServiceTest {
     @Inject EntranceService entranceService;
     @Inject SeatmapCacheService seatmapCacheService;
     @Inject EventLocationService reservationEventLocationService;
+    @Inject ObjectMapper objectMapper;
 
     private EventLocation location;
     private EventLocation otherLocation;
@@ -440,8 +447,12 @@ public class SeatmapCacheServiceTest {
         verify(seatRepository, times(2)).findByEventLocation(otherLocation);
     }
 
+    private JsonNode readPayload(LocationPayloadCache.Payload payload) throws IOException {
+        return objectMapper.readTree(payload.json());
+    }
+
     @Test
-    void testCrossPathCacheSharing_ManagerAndCustomerShareCache() {
+    void testCrossPathCacheSharing_ManagerAndCustomerShareCache() throws IOException {
         Seat seat = new Seat("A1", "", location);
         seat.id = UUID.randomUUID();
         when(seatRepository.findByEventLocation(location)).thenReturn(List.of(seat));
@@ -452,38 +463,61 @@ public class SeatmapCacheServiceTest {
         assertEquals(1, managerSeats.size());
 
         // Call 2: Customer path
-        UserEventLocationResponseDTO customerLocation =
-                reservationEventLocationService.getLocationByIdForCurrentUser(
+        LocationPayloadCache.Payload customerLocation =
+                reservationEventLocationService.getLocationPayloadForCurrentUser(
                         locationId, customerUsername);
-        assertEquals(1, customerLocation.seats().size());
+        assertEquals(1, readPayload(customerLocation).get("seats").size());
 
         // Repository findByEventLocation should only have been called once
         verify(seatRepository, times(1)).findByEventLocation(location);
     }
 
     @Test
-    void testCustomerPathCacheInvalidation_ManagerWriteInvalidatesCustomerRead() {
+    void testCustomerPathPayloadReusedWhileGeometryUnchanged() {
+        Seat seat = new Seat("A1", "", location);
+        seat.id = UUID.randomUUID();
+        when(seatRepository.findByEventLocation(location)).thenReturn(List.of(seat));
+
+        LocationPayloadCache.Payload first =
+                reservationEventLocationService.getLocationPayloadForCurrentUser(
+                        locationId, customerUsername);
+        LocationPayloadCache.Payload second =
+                reservationEventLocationService.getLocationPayloadForCurrentUser(
+                        locationId, customerUsername);
+
+        assertSame(first, second);
+        verify(seatRepository, times(1)).findByEventLocation(location);
+    }
+
+    @Test
+    void testCustomerPathCacheInvalidation_ManagerWriteInvalidatesCustomerRead()
+            throws IOException {
         Seat seat1 = new Seat("A1", "", location);
         seat1.id = UUID.randomUUID();
         when(seatRepository.findByEventLocation(location)).thenReturn(List.of(seat1));
 
         // Populate cache via customer path
-        UserEventLocationResponseDTO initialLocation =
-                reservationEventLocationService.getLocationByIdForCurrentUser(
+        LocationPayloadCache.Payload initialLocation =
+                reservationEventLocationService.getLocationPayloadForCurrentUser(
                         locationId, customerUsername);
-        assertEquals(1, initialLocation.seats().size());
+        assertEquals(1, readPayload(initialLocation).get("seats").size());
         verify(seatRepository, times(1)).findByEventLocation(location);
 
-        // Manager invalidates cache (e.g. manager write operation)
+        // A manager adds a seat and invalidates the cache
+        Seat seat2 = new Seat("A2", "", location);
+        seat2.id = UUID.randomUUID();
+        when(seatRepository.findByEventLocation(location)).thenReturn(List.of(seat1, seat2));
         seatmapCacheService.invalidateSeats(locationId);
 
         // Call customer path again
-        UserEventLocationResponseDTO updatedLocation =
-                reservationEventLocationService.getLocationByIdForCurrentUser(
+        LocationPayloadCache.Payload updatedLocation =
+                reservationEventLocationService.getLocationPayloadForCurrentUser(
                         locationId, customerUsername);
-        assertEquals(1, updatedLocation.seats().size());
 
-        // Repository should be queried a second time
+        // Repository should be queried a second time and the payload rebuilt
         verify(seatRepository, times(2)).findByEventLocation(location);
+        assertNotSame(initialLocation, updatedLocation);
+        assertNotEquals(initialLocation.etag(), updatedLocation.etag());
+        assertEquals(2, readPayload(updatedLocation).get("seats").size());
     }
 }
@@ -0,0 +1,209 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.management.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class SeatmapNearCacheTest {
+
+    private static final String CACHE = SeatmapCacheService.CACHE_SEATS;
+
+    private final UUID locationId = id(1);
+
+    private PubSubCommands<String> pubSub;
+    private SeatmapNearCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pubSub = mock(PubSubCommands.class);
+        cache = newCache(pubSub);
+        loads = new AtomicInteger();
+    }
+
+    private static SeatmapNearCache newCache(PubSubCommands<String> pubSub) {
+        RedisDataSource redisDataSource = mock(RedisDataSource.class);
+        when(redisDataSource.pubsub(String.class)).thenReturn(pubSub);
+        SeatmapNearCache cache = new SeatmapNearCache();
+        cache.redisDataSource = redisDataSource;
+        cache.enabled = true;
+        cache.maxEntries = 2;
+        cache.expireAfterWrite = Duration.ofMinutes(1);
+        return cache;
+    }
+
+    private List<String> load(UUID locationId) {
+        return new ArrayList<>(List.of("seat-" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void get_SecondReadIsServedLocally() {
+        List<String> first = cache.get(CACHE, locationId, this::load);
+        List<String> second = cache.get(CACHE, locationId, this::load);
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals(0.5, cache.l1HitRatio());
+    }
+
+    @Test
+    void get_ReturnsImmutableCopy() {
+        List<String> seats = cache.get(CACHE, locationId, this::load);
+
+        assertThrows(UnsupportedOperationException.class, () -> seats.add("extra"));
+    }
+
+    @Test
+    void invalidate_ReloadsAndPublishes() {
+        cache.get(CACHE, locationId, this::load);
+
+        cache.invalidate(CACHE, locationId);
+
+        assertEquals(List.of("seat-2"), cache.get(CACHE, locationId, this::load));
+        verify(pubSub).publish(eq(SeatmapNearCache.CHANNEL), anyString());
+    }
+
+    @Test
+    void invalidateAll_DropsEveryCacheOfLocation() {
+        String areas = SeatmapCacheService.CACHE_AREAS;
+        cache.get(CACHE, locationId, this::load);
+        cache.get(areas, locationId, this::load);
+
+        cache.invalidate(null, locationId);
+
+        cache.get(CACHE, locationId, this::load);
+        cache.get(areas, locationId, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void loadRacingInvalidation_IsNotStored() {
+        cache.get(
+                CACHE,
+                locationId,
+                loadedId -> {
+                    cache.invalidate(CACHE, loadedId);
+                    return load(loadedId);
+                });
+
+        cache.get(CACHE, locationId, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidationFromOtherInstance_EvictsLocalCopy() {
+        PubSubCommands<String> otherPubSub = mock(PubSubCommands.class);
+        SeatmapNearCache other = newCache(otherPubSub);
+        cache.get(CACHE, locationId, this::load);
+
+        other.invalidate(CACHE, locationId);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(otherPubSub).publish(eq(SeatmapNearCache.CHANNEL), message.capture());
+        cache.onMessage(message.getValue());
+
+        cache.get(CACHE, locationId, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void ownInvalidationEcho_IsIgnored() {
+        cache.invalidate(CACHE, locationId);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(pubSub).publish(eq(SeatmapNearCache.CHANNEL), message.capture());
+        cache.get(CACHE, locationId, this::load);
+
+        cache.onMessage(message.getValue());
+
+        cache.get(CACHE, locationId, this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void leastRecentlyUsedLocation_IsEvictedBeyondMaxEntries() {
+        UUID second = id(2);
+        UUID third = id(3);
+        cache.get(CACHE, locationId, this::load);
+        cache.get(CACHE, second, this::load);
+        cache.get(CACHE, locationId, this::load);
+
+        cache.get(CACHE, third, this::load);
+
+        cache.get(CACHE, locationId, this::load);
+        assertEquals(3, loads.get());
+        cache.get(CACHE, second, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void expiredEntry_IsReloaded() {
+        cache.expireAfterWrite = Duration.ZERO;
+        cache.get(CACHE, locationId, this::load);
+
+        cache.get(CACHE, locationId, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void l2HitRatio_CountsDatabaseLoadsAsMisses() {
+        cache.get(CACHE, locationId, this::load);
+        cache.get(CACHE, id(2), this::load);
+        cache.recordL2Miss();
+
+        assertEquals(0.5, cache.l2HitRatio());
+    }
+
+    @Test
+    void disabled_AlwaysLoadsAndDoesNotPublish() {
+        cache.enabled = false;
+
+        cache.get(CACHE, locationId, this::load);
+        cache.get(CACHE, locationId, this::load);
+        cache.invalidate(CACHE, locationId);
+
+        assertEquals(2, loads.get());
+        verify(pubSub, never()).publish(anyString(), anyString());
+    }
+}
@@ -24,6 +24,7 @@ import java.time.Instant;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -42,7 +43,8 @@ import org.junit.jupiter.api.Test;
  * invalidate any cached Redis seat-cart access grant for the affected user/event - see {@link
  * SeatCartAccessGrantStore} and the PR #449 review follow-up: without this, a user whose {@code
  * EventUserAllowance} changes (or is revoked entirely) would keep acting on a stale cached grant
- * for up to the grant's TTL.
+ * for up to the grant's TTL. Also runs the allowance sum behind the manager overview against the
+ * database.
  */
 @QuarkusTest
 public class EventUserAllowanceRepositoryTest {
@@ -53,6 +55,7 @@ public class EventUserAllowanceRepositoryTest {
     @Inject EventRepository eventRepository;
     @Inject EventLocationRepository eventLocationRepository;
 
+    private User manager;
     private User testUser;
     private EventLocation testLocation;
     private Event testEvent;
@@ -62,7 +65,7 @@ public class EventUserAllowanceRepositoryTest {
     void setUp() {
         eventUserAllowanceRepository.deleteAll();
 
-        User manager = userRepository.findByUsernameOptional("manager").orElseThrow();
+        manager = userRepository.findByUsernameOptional("manager").orElseThrow();
         testUser = userRepository.findByUsernameOptional("user").orElseThrow();
 
         testLocation = new EventLocation();
@@ -73,6 +76,7 @@ public class EventUserAllowanceRepositoryTest {
         testEvent = new Event();
         testEvent.setName("Test Event for Allowance Repository Test");
         testEvent.setEventLocation(testLocation);
+        testEvent.setManager(manager);
         testEvent.setStartTime(Instant.now().plusSeconds(Duration.ofDays(2).toSeconds()));
         testEvent.setEndTime(
                 Instant.now()
@@ -118,4 +122,17 @@ public class EventUserAllowanceRepositoryTest {
 
         assertTrue(accessGrantStore.get(testEvent.id, testUser.id).isEmpty());
     }
+
+    @Test
+    @Transactional
+    void sumReservationsAllowedCount_SumsAllowancesOfManagedEvents() {
+        eventUserAllowanceRepository.persist(new EventUserAllowance(testUser, testEvent, 2));
+        eventUserAllowanceRepository.persist(new EventUserAllowance(manager, testEvent, 3));
+        eventUserAllowanceRepository.flush();
+
+        assertEquals(5L, eventUserAllowanceRepository.sumReservationsAllowedCount(null));
+        assertEquals(5L, eventUserAllowanceRepository.sumReservationsAllowedCount(manager));
+        // The user doesn't manage the event, so nothing matches MEMBER OF and the sum is 0.
+        assertEquals(0L, eventUserAllowanceRepository.sumReservationsAllowedCount(testUser));
+    }
 }
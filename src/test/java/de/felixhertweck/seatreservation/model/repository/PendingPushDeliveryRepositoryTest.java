@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.felixhertweck.seatreservation.model.entity.PendingPushDelivery;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.entity.UserPushSubscription;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Every test runs in a single rolled-back transaction, so the scheduled retry poller never sees
+ * (and never claims) the rows created here.
+ */
+@QuarkusTest
+class PendingPushDeliveryRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Inject PendingPushDeliveryRepository repository;
+
+    @Inject UserPushSubscriptionRepository subscriptionRepository;
+
+    @Inject UserRepository userRepository;
+
+    private UserPushSubscription persistSubscription(String endpoint) {
+        User user = userRepository.findByUsernameOptional("user").orElseThrow();
+        UserPushSubscription subscription =
+                new UserPushSubscription(user, endpoint, "p256dh", "auth");
+        subscriptionRepository.persist(subscription);
+        return subscription;
+    }
+
+    private PendingPushDelivery persistDelivery(
+            UserPushSubscription subscription, Instant nextAttemptAt) {
+        PendingPushDelivery delivery =
+                new PendingPushDelivery(subscription, "{}", 1, nextAttemptAt, 503);
+        repository.persist(delivery);
+        return delivery;
+    }
+
+    private Instant reloadNextAttemptAt(UUID id) {
+        repository.getEntityManager().clear();
+        return repository.findById(id).getNextAttemptAt();
+    }
+
+    @Test
+    @TestTransaction
+    void claimDue_ClaimsOnlyDueRowsEarliestFirst() {
+        repository.deleteAll();
+        UserPushSubscription subscription = persistSubscription("https://push.test/claim-due");
+        PendingPushDelivery later = persistDelivery(subscription, NOW.minusSeconds(10));
+        PendingPushDelivery earlier = persistDelivery(subscription, NOW.minusSeconds(60));
+        PendingPushDelivery notYetDue = persistDelivery(subscription, NOW.plusSeconds(60));
+        repository.flush();
+
+        List<UUID> first = repository.claimDue(NOW, NOW.plus(LEASE), 1);
+        List<UUID> second = repository.claimDue(NOW, NOW.plus(LEASE), 10);
+
+        assertEquals(List.of(earlier.id), first);
+        assertEquals(List.of(later.id), second);
+        assertEquals(NOW.plus(LEASE), reloadNextAttemptAt(earlier.id));
+        assertEquals(NOW.plusSeconds(60), reloadNextAttemptAt(notYetDue.id));
+    }
+
+    @Test
+    @TestTransaction
+    void claimDue_LeaseHidesClaimedRowsUntilItExpires() {
+        repository.deleteAll();
+        UserPushSubscription subscription = persistSubscription("https://push.test/claim-lease");
+        PendingPushDelivery delivery = persistDelivery(subscription, NOW.minusSeconds(1));
+        repository.flush();
+
+        assertEquals(List.of(delivery.id), repository.claimDue(NOW, NOW.plus(LEASE), 10));
+        assertTrue(repository.claimDue(NOW, NOW.plus(LEASE), 10).isEmpty());
+        Instant beforeExpiry = NOW.plus(LEASE).minusSeconds(1);
+        assertTrue(repository.claimDue(beforeExpiry, beforeExpiry.plus(LEASE), 10).isEmpty());
+
+        Instant afterLease = NOW.plus(LEASE);
+        assertEquals(
+                List.of(delivery.id), repository.claimDue(afterLease, afterLease.plus(LEASE), 10));
+    }
+}
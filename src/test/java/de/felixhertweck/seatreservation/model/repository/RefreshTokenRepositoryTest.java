@@ -240,4 +240,32 @@ public class RefreshTokenRepositoryTest {
         assertEquals(2, remainingTokens.size());
         assertTrue(remainingTokens.stream().noneMatch(t -> t.id.equals(token2.id)));
     }
+
+    @Test
+    @Transactional
+    void testFindByTokenHash() {
+        RefreshToken token =
+                new RefreshToken(
+                        "hash1", testUser, Instant.now(), Instant.now().plus(Duration.ofDays(7)));
+        token.persist();
+
+        assertEquals(token.id, refreshTokenRepository.findByTokenHash("hash1").orElseThrow().id);
+        assertTrue(refreshTokenRepository.findByTokenHash("hash2").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void testReplaceTokenHash_OnlyIfUnchanged() {
+        RefreshToken token =
+                new RefreshToken(
+                        "hash1", testUser, Instant.now(), Instant.now().plus(Duration.ofDays(7)));
+        token.persist();
+
+        // A stale expected hash (e.g. a concurrent upgrade already happened) changes nothing
+        assertFalse(refreshTokenRepository.replaceTokenHash(token.id, "other", "hash2"));
+        assertTrue(refreshTokenRepository.replaceTokenHash(token.id, "hash1", "hash2"));
+
+        assertTrue(refreshTokenRepository.findByTokenHash("hash1").isEmpty());
+        assertEquals(token.id, refreshTokenRepository.findByTokenHash("hash2").orElseThrow().id);
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.model.repository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.felixhertweck.seatreservation.model.entity.CheckInToken;
+import de.felixhertweck.seatreservation.model.entity.Event;
+import de.felixhertweck.seatreservation.model.entity.EventLocation;
+import de.felixhertweck.seatreservation.model.entity.EventUserAllowance;
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.utils.CodeGenerator;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs {@link ReservationRepository#insertAll} against a real database, where the unique constraint
+ * on {@code (event_id, seat_id)} decides which rows are skipped, and checks the aggregate queries
+ * behind the manager overview.
+ */
+@QuarkusTest
+class ReservationRepositoryTest {
+
+    @Inject ReservationRepository reservationRepository;
+    @Inject UserRepository userRepository;
+    @Inject EventLocationRepository eventLocationRepository;
+    @Inject SeatRepository seatRepository;
+    @Inject EventRepository eventRepository;
+    @Inject CheckInTokenRepository checkInTokenRepository;
+    @Inject EventUserAllowanceRepository eventUserAllowanceRepository;
+
+    private User manager;
+    private User testUser;
+    private EventLocation testLocation;
+    private Event testEvent;
+    private final List<Seat> seats = new ArrayList<>();
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        manager = userRepository.findByUsernameOptional("manager").orElseThrow();
+        testUser = userRepository.findByUsernameOptional("user").orElseThrow();
+
+        testLocation = new EventLocation("Insert Test Hall", "Test Street 1", manager);
+        eventLocationRepository.persist(testLocation);
+
+        testEvent =
+                new Event(
+                        "Insert Test Event",
+                        "Description",
+                        Instant.now().plus(1, ChronoUnit.DAYS),
+                        Instant.now().plus(1, ChronoUnit.DAYS).plusSeconds(3600),
+                        Instant.now().plus(12, ChronoUnit.HOURS),
+                        Instant.now().minus(1, ChronoUnit.DAYS),
+                        testLocation,
+                        manager,
+                        null,
+                        null);
+        eventRepository.persist(testEvent);
+
+        seats.clear();
+        for (int column = 1; column <= 4; column++) {
+            Seat seat = new Seat("A" + column, testLocation, "A", column, 1, null, null);
+            seatRepository.persist(seat);
+            seats.add(seat);
+        }
+    }
+
+    @AfterEach
+    @Transactional
+    void tearDown() {
+        // Targeted deletes only; the seeded location from import.sql can't be removed.
+        reservationRepository.delete("event.id", testEvent.id);
+        eventUserAllowanceRepository.delete("event.id", testEvent.id);
+        checkInTokenRepository.delete("event.id", testEvent.id);
+        eventRepository.deleteById(testEvent.id);
+        seatRepository.delete("location.id", testLocation.id);
+        eventLocationRepository.deleteById(testLocation.id);
+    }
+
+    private Reservation newReservation(Seat seat, User user, CheckInToken token) {
+        return new Reservation(
+                user,
+                eventRepository.findById(testEvent.id),
+                seatRepository.findById(seat.id),
+                Instant.now(),
+                user != null ? ReservationStatus.RESERVED : ReservationStatus.BLOCKED,
+                token);
+    }
+
+    @Test
+    @Transactional
+    void insertAll_OverlappingExistingRows_ReportsConflictsAndKeepsOrder() {
+        CheckInToken token =
+                new CheckInToken(
+                        testUser,
+                        eventRepository.findById(testEvent.id),
+                        CodeGenerator.generateRandomCode());
+        checkInTokenRepository.persist(token);
+        reservationRepository.persist(newReservation(seats.get(1), testUser, token));
+        reservationRepository.flush();
+
+        ReservationRepository.InsertResult result =
+                reservationRepository.insertAll(
+                        List.of(
+                                newReservation(seats.get(2), testUser, token),
+                                newReservation(seats.get(0), testUser, token),
+                                newReservation(seats.get(1), testUser, token),
+                                newReservation(seats.get(3), testUser, token)));
+
+        assertTrue(result.hasConflicts());
+        assertEquals(Set.of(seats.get(1).id), result.conflictingSeatIds());
+        List<Reservation> inserted = result.inserted();
+        assertEquals(
+                List.of(seats.get(2).id, seats.get(0).id, seats.get(3).id),
+                inserted.stream().map(r -> r.getSeat().id).toList());
+        for (Reservation reservation : inserted) {
+            assertNotNull(reservation.id);
+            assertEquals(testUser.id, reservation.getUser().id);
+            assertEquals(token.id, reservation.getCheckInToken().id);
+            assertEquals(ReservationStatus.RESERVED, reservation.getStatus());
+        }
+        assertEquals(4, reservationRepository.count("event.id", testEvent.id));
+    }
+
+    @Test
+    @Transactional
+    void insertAll_WithoutUserAndCheckInToken_InsertsRowsWithNulls() {
+        ReservationRepository.InsertResult result =
+                reservationRepository.insertAll(
+                        List.of(
+                                newReservation(seats.get(0), null, null),
+                                newReservation(seats.get(1), null, null)));
+
+        assertFalse(result.hasConflicts());
+        assertEquals(2, result.inserted().size());
+        for (Reservation reservation : result.inserted()) {
+            assertNull(reservation.getUser());
+            assertNull(reservation.getCheckInToken());
+            assertEquals(ReservationStatus.BLOCKED, reservation.getStatus());
+        }
+    }
+
+    @Test
+    @Transactional
+    void insertAll_EmptyList_InsertsNothing() {
+        ReservationRepository.InsertResult result = reservationRepository.insertAll(List.of());
+
+        assertTrue(result.inserted().isEmpty());
+        assertFalse(result.hasConflicts());
+    }
+
+    @Test
+    @Transactional
+    void countByEventAndStatus_GroupsByEventAndStatus() {
+        reservationRepository.persist(newReservation(seats.get(0), testUser, null));
+        reservationRepository.persist(newReservation(seats.get(1), testUser, null));
+        reservationRepository.persist(newReservation(seats.get(2), null, null));
+        reservationRepository.flush();
+
+        Map<ReservationStatus, Long> expected =
+                Map.of(ReservationStatus.RESERVED, 2L, ReservationStatus.BLOCKED, 1L);
+        assertEquals(expected, reservationRepository.countByEventAndStatus(null).get(testEvent.id));
+        assertEquals(
+                expected, reservationRepository.countByEventAndStatus(manager).get(testEvent.id));
+        // The user doesn't manage the event, so it is filtered out by MEMBER OF.
+        assertFalse(
+                reservationRepository.countByEventAndStatus(testUser).containsKey(testEvent.id));
+    }
+
+    @Test
+    @Transactional
+    void countReservedWithinAllowances_CountsOnlyReservationsBackedByAnAllowance() {
+        long allBefore = reservationRepository.countReservedWithinAllowances(null);
+        long managerBefore = reservationRepository.countReservedWithinAllowances(manager);
+        long otherBefore = reservationRepository.countReservedWithinAllowances(testUser);
+
+        eventUserAllowanceRepository.persist(
+                new EventUserAllowance(testUser, eventRepository.findById(testEvent.id), 1));
+        reservationRepository.persist(newReservation(seats.get(0), testUser, null));
+        reservationRepository.persist(newReservation(seats.get(1), testUser, null));
+        // Reserved without an allowance of its user, and blocked: neither counts.
+        reservationRepository.persist(newReservation(seats.get(2), manager, null));
+        reservationRepository.persist(newReservation(seats.get(3), null, null));
+        reservationRepository.flush();
+
+        assertEquals(allBefore + 2, reservationRepository.countReservedWithinAllowances(null));
+        assertEquals(
+                managerBefore + 2, reservationRepository.countReservedWithinAllowances(manager));
+        assertEquals(otherBefore, reservationRepository.countReservedWithinAllowances(testUser));
+    }
+}
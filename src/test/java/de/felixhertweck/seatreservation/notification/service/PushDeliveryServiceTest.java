@@ -0,0 +1,129 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.notification.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.felixhertweck.seatreservation.model.entity.PendingPushDelivery;
+import de.felixhertweck.seatreservation.model.entity.UserPushSubscription;
+import de.felixhertweck.seatreservation.model.repository.PendingPushDeliveryRepository;
+import de.felixhertweck.seatreservation.model.repository.UserPushSubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PushDeliveryServiceTest {
+
+    private final UUID subscriptionId = id(1);
+    private final UUID retryId = id(2);
+    private final byte[] payload = "{\"title\":\"T\"}".getBytes(StandardCharsets.UTF_8);
+
+    private UserPushSubscriptionRepository pushSubscriptionRepository;
+    private PendingPushDeliveryRepository pendingPushDeliveryRepository;
+    private PushDeliveryService service;
+
+    @BeforeEach
+    void setUp() {
+        pushSubscriptionRepository = mock(UserPushSubscriptionRepository.class);
+        pendingPushDeliveryRepository = mock(PendingPushDeliveryRepository.class);
+
+        service = new PushDeliveryService();
+        service.pushSubscriptionRepository = pushSubscriptionRepository;
+        service.pendingPushDeliveryRepository = pendingPushDeliveryRepository;
+        service.maxAttempts = 3;
+        service.retryBackoffSeconds = 30;
+        service.maxBackoffSeconds = 3600;
+    }
+
+    @Test
+    void recordOutcome_Throttled_QueuesRetryAfterRequestedDelay() {
+        UserPushSubscription subscription = new UserPushSubscription();
+        when(pushSubscriptionRepository.findById(subscriptionId)).thenReturn(subscription);
+        Instant before = Instant.now();
+
+        service.recordOutcome(
+                subscriptionId,
+                null,
+                payload,
+                1,
+                new WebPushService.Result(429, Duration.ofSeconds(120)));
+
+        ArgumentCaptor<PendingPushDelivery> captor =
+                ArgumentCaptor.forClass(PendingPushDelivery.class);
+        verify(pendingPushDeliveryRepository).persist(captor.capture());
+        PendingPushDelivery retry = captor.getValue();
+        assertEquals(subscription, retry.getSubscription());
+        assertEquals("{\"title\":\"T\"}", retry.getPayload());
+        assertEquals(1, retry.getAttempts());
+        assertEquals(429, retry.getLastStatus());
+        assertFalse(retry.getNextAttemptAt().isBefore(before.plusSeconds(120)));
+    }
+
+    @Test
+    void recordOutcome_LastAttemptFailed_DropsRetry() {
+        service.recordOutcome(
+                subscriptionId, retryId, payload, 3, new WebPushService.Result(503, null));
+
+        verify(pendingPushDeliveryRepository).deleteById(retryId);
+        verify(pendingPushDeliveryRepository, never()).persist(any(PendingPushDelivery.class));
+        verify(pushSubscriptionRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void recordOutcome_Gone_DeletesSubscriptionAndRetry() {
+        service.recordOutcome(
+                subscriptionId, retryId, payload, 2, new WebPushService.Result(410, null));
+
+        verify(pendingPushDeliveryRepository).deleteById(retryId);
+        verify(pushSubscriptionRepository).deleteById(subscriptionId);
+    }
+
+    @Test
+    void retryDelay_WithoutRetryAfter_BacksOffExponentially() {
+        WebPushService.Result unavailable = new WebPushService.Result(503, null);
+
+        assertEquals(Duration.ofSeconds(30), service.retryDelay(unavailable, 1));
+        assertEquals(Duration.ofSeconds(60), service.retryDelay(unavailable, 2));
+        assertEquals(Duration.ofSeconds(3600), service.retryDelay(unavailable, 20));
+    }
+
+    @Test
+    void retryDelay_WithRetryAfter_UsesItButNotBelowBaseBackoff() {
+        assertEquals(
+                Duration.ofSeconds(120),
+                service.retryDelay(new WebPushService.Result(429, Duration.ofSeconds(120)), 1));
+        assertEquals(
+                Duration.ofSeconds(30),
+                service.retryDelay(new WebPushService.Result(429, Duration.ZERO), 1));
+    }
+}
@@ -28,6 +28,7 @@ import java.security.SecureRandom;
 import java.security.Signature;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
 import javax.crypto.Cipher;
@@ -104,10 +105,13 @@ class WebPushCryptoTest {
                                 WebPushCrypto.encodeUncompressedPoint(
                                         (ECPublicKey) vapid.getPublic()));
 
+        long expiresAt = Instant.now().getEpochSecond() + 12 * 3600;
+
         String header =
                 WebPushCrypto.buildVapidAuthorizationHeader(
                         objectMapper,
-                        "https://fcm.googleapis.com/wp/abc123",
+                        WebPushCrypto.originOf("https://fcm.googleapis.com/wp/abc123"),
+                        expiresAt,
                         vapid.getPrivate(),
                         publicKeyBase64,
                         "mailto:test@example.com");
@@ -122,6 +126,7 @@ class WebPushCryptoTest {
         String claimsJson =
                 new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
         assertTrue(claimsJson.contains("\"aud\":\"https://fcm.googleapis.com\""));
+        assertTrue(claimsJson.contains("\"exp\":" + expiresAt));
         assertTrue(claimsJson.contains("\"sub\":\"mailto:test@example.com\""));
 
         byte[] signature = Base64.getUrlDecoder().decode(parts[2]);
@@ -0,0 +1,185 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.notification.service;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import de.felixhertweck.seatreservation.model.entity.UserPushSubscription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Sends real Web Push requests to a local HTTP server standing in for a push service. */
+class WebPushServiceTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private WebPushService service;
+    private SimpleMeterRegistry meterRegistry;
+
+    private volatile int responseStatus = 201;
+    private volatile String retryAfter;
+    private volatile long responseDelayMillis;
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.createContext(
+                "/push/",
+                exchange -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        exchange.getRequestBody().readAllBytes();
+                        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+                        if (responseDelayMillis > 0) {
+                            Thread.sleep(responseDelayMillis);
+                        }
+                        if (retryAfter != null) {
+                            exchange.getResponseHeaders().add("Retry-After", retryAfter);
+                        }
+                        inFlight.decrementAndGet();
+                        exchange.sendResponseHeaders(responseStatus, -1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        exchange.close();
+                    }
+                });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        service = new WebPushService();
+        service.configuredPublicKey = Optional.empty();
+        service.configuredPrivateKey = Optional.empty();
+        service.vapidSubject = "mailto:test@example.com";
+        service.objectMapper = new ObjectMapper();
+        service.meterRegistry = meterRegistry;
+        service.maxConcurrentPerService = 2;
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private UserPushSubscription subscription(int index) throws Exception {
+        KeyPair browser = WebPushCrypto.generateKeyPair();
+        byte[] auth = new byte[16];
+        new SecureRandom().nextBytes(auth);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String endpoint =
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/push/device-" + index;
+        return new UserPushSubscription(
+                null,
+                endpoint,
+                encoder.encodeToString(
+                        WebPushCrypto.encodeUncompressedPoint((ECPublicKey) browser.getPublic())),
+                encoder.encodeToString(auth));
+    }
+
+    @Test
+    void sendAsync_DeliversAndReusesVapidHeaderPerPushService() throws Exception {
+        byte[] payload = service.encodePayload("Title", "Message", "/events");
+
+        WebPushService.Result first = service.sendAsync(subscription(1), payload).join();
+        WebPushService.Result second = service.sendAsync(subscription(2), payload).join();
+
+        assertTrue(first.delivered());
+        assertTrue(second.delivered());
+        assertEquals(2, authorizations.size());
+        assertTrue(authorizations.get(0).startsWith("vapid t="));
+        assertEquals(authorizations.get(0), authorizations.get(1));
+        assertEquals(1.0, meterRegistry.counter("push.vapid.signed").count());
+    }
+
+    @Test
+    void sendAsync_ThrottledResponse_IsRetryableWithRetryAfter() throws Exception {
+        responseStatus = 429;
+        retryAfter = "120";
+
+        WebPushService.Result result =
+                service.sendAsync(subscription(1), service.encodePayload("T", "M", null)).join();
+
+        assertEquals(429, result.status());
+        assertTrue(result.retryable());
+        assertEquals(Duration.ofSeconds(120), result.retryAfter());
+    }
+
+    @Test
+    void sendAsync_LimitsConcurrentRequestsPerPushService() throws Exception {
+        responseDelayMillis = 100;
+        byte[] payload = service.encodePayload("Title", "Message", null);
+
+        List<CompletableFuture<WebPushService.Result>> sends = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            sends.add(service.sendAsync(subscription(i), payload));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(sends.stream().allMatch(send -> send.join().delivered()));
+        assertEquals(8, authorizations.size());
+        assertTrue(maxInFlight.get() <= 2, "max in flight was " + maxInFlight.get());
+    }
+
+    @Test
+    void parseRetryAfter_AcceptsSecondsAndHttpDate() {
+        Instant now = Instant.parse("2026-10-16T12:00:00Z");
+
+        assertEquals(Duration.ofSeconds(30), WebPushService.parseRetryAfter("30", now));
+        assertEquals(
+                Duration.ofSeconds(90),
+                WebPushService.parseRetryAfter("Fri, 16 Oct 2026 12:01:30 GMT", now));
+        assertEquals(
+                Duration.ZERO,
+                WebPushService.parseRetryAfter("Fri, 16 Oct 2026 11:00:00 GMT", now));
+        assertNull(WebPushService.parseRetryAfter("soon", now));
+        assertNull(WebPushService.parseRetryAfter(null, now));
+    }
+}
@@ -24,6 +24,7 @@ import jakarta.transaction.Transactional;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.hasSize;
 
 import de.felixhertweck.seatreservation.model.entity.Reservation;
@@ -183,6 +184,46 @@ class EventLocationResourceTest {
                 .body("address", is("123 Test St"));
     }
 
+    @Test
+    @TestSecurity(
+            user = "user",
+            roles = {"USER"})
+    void getLocationById_MatchingIfNoneMatch_Returns304() {
+        var location = eventLocationRepository.findAll().firstResult();
+
+        String etag =
+                given().when()
+                        .get("/api/user/locations/" + location.getId())
+                        .then()
+                        .statusCode(200)
+                        .header("Cache-Control", is("private, no-cache"))
+                        .extract()
+                        .header("ETag");
+
+        given().header("If-None-Match", etag)
+                .when()
+                .get("/api/user/locations/" + location.getId())
+                .then()
+                .statusCode(304)
+                .header("ETag", is(etag))
+                .body(is(emptyString()));
+    }
+
+    @Test
+    @TestSecurity(
+            user = "user",
+            roles = {"USER"})
+    void getLocationById_StaleIfNoneMatch_ReturnsFullDetail() {
+        var location = eventLocationRepository.findAll().firstResult();
+
+        given().header("If-None-Match", "\"outdated\"")
+                .when()
+                .get("/api/user/locations/" + location.getId())
+                .then()
+                .statusCode(200)
+                .body("name", is("My Test Location"));
+    }
+
     @Test
     @TestSecurity(
             user = "user",
@@ -21,6 +21,7 @@ package de.felixhertweck.seatreservation.reservation.service;
 
 import static de.felixhertweck.seatreservation.testutil.TestIds.id;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,8 @@ import jakarta.inject.Inject;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.felixhertweck.seatreservation.common.exception.UserNotFoundException;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
 import de.felixhertweck.seatreservation.model.entity.EventLocationArea;
@@ -41,7 +44,6 @@ import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepos
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
 import de.felixhertweck.seatreservation.model.repository.SeatRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
-import de.felixhertweck.seatreservation.reservation.dto.UserEventLocationResponseDTO;
 import de.felixhertweck.seatreservation.reservation.dto.UserEventLocationSummaryDTO;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
@@ -53,6 +55,8 @@ class EventLocationServiceTest {
 
     @Inject EventLocationService eventLocationService;
 
+    @Inject ObjectMapper objectMapper;
+
     @InjectMock UserRepository userRepository;
 
     @InjectMock EventLocationRepository eventLocationRepository;
@@ -231,7 +235,7 @@ class EventLocationServiceTest {
     }
 
     @Test
-    void getLocationByIdForCurrentUser_GroupsSeatsIntoAreas() {
+    void getLocationPayloadForCurrentUser_GroupsSeatsIntoAreas() throws IOException {
         // Location A has two seats sharing an area, exposed via the allowance
         var parkett = new EventLocationArea("Parkett");
         parkett.id = id(1);
@@ -255,11 +259,12 @@ class EventLocationServiceTest {
         when(areaRepository.findByEventLocation(locationA)).thenReturn(List.of(parkett));
         when(markerRepository.findByEventLocation(locationA)).thenReturn(List.of());
 
-        UserEventLocationResponseDTO locationDto =
-                eventLocationService.getLocationByIdForCurrentUser(locationA.id, "testuser");
+        LocationPayloadCache.Payload payload =
+                eventLocationService.getLocationPayloadForCurrentUser(locationA.id, "testuser");
+        JsonNode areas = objectMapper.readTree(payload.json()).get("areas");
 
-        assertEquals(1, locationDto.areas().size());
-        assertEquals("Parkett", locationDto.areas().getFirst().name());
-        assertEquals(2, locationDto.areas().getFirst().seatIds().size());
+        assertEquals(1, areas.size());
+        assertEquals("Parkett", areas.get(0).get("name").asText());
+        assertEquals(2, areas.get(0).get("seatIds").size());
     }
 }
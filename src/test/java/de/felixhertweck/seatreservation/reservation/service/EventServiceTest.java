@@ -29,10 +29,13 @@ import java.util.UUID;
 import jakarta.inject.Inject;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.felixhertweck.seatreservation.common.dto.SeatStatusDTO;
 import de.felixhertweck.seatreservation.common.exception.EventNotFoundException;
 import de.felixhertweck.seatreservation.model.entity.Event;
 import de.felixhertweck.seatreservation.model.entity.EventLocation;
@@ -42,6 +45,7 @@ import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
 import de.felixhertweck.seatreservation.model.entity.User;
 import de.felixhertweck.seatreservation.model.repository.EventUserAllowanceRepository;
 import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
 import de.felixhertweck.seatreservation.reservation.dto.UserEventResponseDTO;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
@@ -56,6 +60,8 @@ class EventServiceTest {
     @InjectMock EventUserAllowanceRepository eventUserAllowanceRepository;
     @InjectMock ReservationRepository reservationRepository;
     @InjectMock SeatCartService seatCartService;
+    @InjectMock SeatCartAccessGrantStore accessGrantStore;
+    @InjectMock SeatStatusIndex seatStatusIndex;
 
     private User user;
     private Event event1;
@@ -286,4 +292,67 @@ class EventServiceTest {
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void getEventByIdForCurrentUser_IncludesSeatStatusVersion() {
+        when(eventUserAllowanceRepository.findByUserAndEventId(user, event1.id))
+                .thenReturn(Optional.of(allowance1));
+        mockReservationsByEventQuery(Set.of(event1.id), List.of());
+        when(seatCartService.findPendingSeatIds(event1.id, user.id))
+                .thenReturn(Collections.emptySet());
+        when(seatStatusIndex.currentVersion(event1.id)).thenReturn(42L);
+
+        UserEventResponseDTO dto = eventService.getEventByIdForCurrentUser(event1.id, user);
+
+        assertEquals(42L, dto.seatStatusVersion());
+    }
+
+    @Test
+    void getSeatStatusChangesForCurrentUser_WithAccessGrant_SkipsAccessQueries() {
+        SeatStatusDeltaDTO delta =
+                new SeatStatusDeltaDTO(
+                        event1.id,
+                        7L,
+                        false,
+                        List.of(new SeatStatusDTO(id(10), ReservationStatus.RESERVED)));
+        when(accessGrantStore.get(event1.id, user.id)).thenReturn(Optional.of(5));
+        when(seatStatusIndex.getChangesSince(event1.id, user.id, 3L)).thenReturn(delta);
+
+        SeatStatusDeltaDTO result =
+                eventService.getSeatStatusChangesForCurrentUser(event1.id, user, 3L);
+
+        assertEquals(delta, result);
+        verify(eventUserAllowanceRepository, never()).findByUserAndEventId(any(), any());
+        verify(reservationRepository, never()).findByUserAndEventId(any(), any());
+        verify(reservationRepository, never()).findByEventIdsWithSeat(any());
+    }
+
+    @Test
+    void getSeatStatusChangesForCurrentUser_WithoutGrant_ChecksAllowanceAndRemintsGrant() {
+        when(accessGrantStore.get(event1.id, user.id)).thenReturn(Optional.empty());
+        when(eventUserAllowanceRepository.findByUserAndEventId(user, event1.id))
+                .thenReturn(Optional.of(allowance1));
+        when(seatStatusIndex.getChangesSince(event1.id, user.id, null))
+                .thenReturn(new SeatStatusDeltaDTO(event1.id, 1L, true, List.of()));
+
+        SeatStatusDeltaDTO result =
+                eventService.getSeatStatusChangesForCurrentUser(event1.id, user, null);
+
+        assertTrue(result.fullSnapshot());
+        verify(seatCartService, times(1)).grantAccess(event1.id, user.id, 5);
+    }
+
+    @Test
+    void getSeatStatusChangesForCurrentUser_WithoutAccess_ThrowsException() {
+        when(accessGrantStore.get(event1.id, user.id)).thenReturn(Optional.empty());
+        when(eventUserAllowanceRepository.findByUserAndEventId(user, event1.id))
+                .thenReturn(Optional.empty());
+        when(reservationRepository.findByUserAndEventId(user, event1.id))
+                .thenReturn(Collections.emptyList());
+
+        assertThrows(
+                EventNotFoundException.class,
+                () -> eventService.getSeatStatusChangesForCurrentUser(event1.id, user, 3L));
+        verify(seatStatusIndex, never()).getChangesSince(any(), any(), any());
+    }
 }
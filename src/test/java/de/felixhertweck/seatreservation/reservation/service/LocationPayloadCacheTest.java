@@ -0,0 +1,121 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LocationPayloadCacheTest {
+
+    private final UUID locationId = id(1);
+
+    private LocationPayloadCache cache;
+    private AtomicInteger builds;
+    private List<String> seats;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LocationPayloadCache();
+        cache.objectMapper = new ObjectMapper();
+        cache.maxEntries = 2;
+        builds = new AtomicInteger();
+        seats = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            seats.add("seat-" + i);
+        }
+    }
+
+    private Supplier<Object> response(String name, List<String> seats) {
+        return () -> {
+            builds.incrementAndGet();
+            return Map.of("name", name, "seats", seats);
+        };
+    }
+
+    private LocationPayloadCache.Payload get(UUID locationId, String name, List<String> seats) {
+        return cache.get(locationId, List.of(name, seats), response(name, seats));
+    }
+
+    @Test
+    void get_SameSources_ReturnsBuiltPayload() {
+        LocationPayloadCache.Payload first = get(locationId, "Hall", seats);
+        LocationPayloadCache.Payload second = get(locationId, "Hall", seats);
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void get_ChangedSources_RebuildsWithNewETag() {
+        LocationPayloadCache.Payload before = get(locationId, "Hall", seats);
+
+        LocationPayloadCache.Payload renamed = get(locationId, "Main Hall", seats);
+
+        assertEquals(2, builds.get());
+        assertNotEquals(before.etag(), renamed.etag());
+    }
+
+    @Test
+    void get_EqualContent_HasSameETag() {
+        String etag = get(locationId, "Hall", seats).etag();
+
+        assertEquals(etag, get(id(2), "Hall", new ArrayList<>(seats)).etag());
+    }
+
+    @Test
+    void get_GzipDecompressesToJson() throws IOException {
+        LocationPayloadCache.Payload payload = get(locationId, "Hall", seats);
+
+        assertNotNull(payload.gzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertArrayEquals(payload.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedLocation_IsDroppedBeyondMaxEntries() {
+        get(locationId, "Hall", seats);
+        get(id(2), "Hall", seats);
+        get(id(3), "Hall", seats);
+
+        get(locationId, "Hall", seats);
+
+        assertEquals(4, builds.get());
+    }
+}
@@ -146,6 +146,12 @@ class ReservationServiceTest {
 
         CheckInToken token = new CheckInToken(currentUser, event, "CODE123");
         when(checkInTokenService.getOrCreateForUser(any(), any())).thenReturn(token);
+        // Every seat is free unless a test reports conflicting seats.
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
+                        inv ->
+                                new ReservationRepository.InsertResult(
+                                        inv.getArgument(0), Set.of()));
 
         reservation =
                 new Reservation(
@@ -230,8 +236,6 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat1));
         when(eventUserAllowanceRepository.findByUserAndEventId(currentUser, event.id))
                 .thenReturn(Optional.of(allowance));
-        when(reservationRepository.findByEventIdAndSeatIds(eq(event.id), anyList()))
-                .thenReturn(Collections.emptyList());
         doNothing().when(eventUserAllowanceRepository).persist(any(EventUserAllowance.class));
 
         List<UserReservationResponseDTO> result =
@@ -252,8 +256,6 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat1));
         when(eventUserAllowanceRepository.findByUserAndEventId(currentUser, event.id))
                 .thenReturn(Optional.of(allowance));
-        when(reservationRepository.findByEventIdAndSeatIds(eq(event.id), anyList()))
-                .thenReturn(Collections.emptyList());
         when(seatCartService.isHeldByAnotherUser(event.id, seat1.id, currentUser.id))
                 .thenReturn(true);
 
@@ -411,6 +413,8 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat1));
         when(eventUserAllowanceRepository.findByUserAndEventId(currentUser, event.id))
                 .thenReturn(Optional.of(allowance));
+        when(reservationRepository.insertAll(anyList()))
+                .thenReturn(new ReservationRepository.InsertResult(List.of(), Set.of(seat1.id)));
         when(reservationRepository.findByEventIdAndSeatIds(eq(event.id), anyList()))
                 .thenReturn(List.of(existingReservation));
 
@@ -442,6 +446,8 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat1));
         when(eventUserAllowanceRepository.findByUserAndEventId(currentUser, event.id))
                 .thenReturn(Optional.of(allowance));
+        when(reservationRepository.insertAll(anyList()))
+                .thenReturn(new ReservationRepository.InsertResult(List.of(), Set.of(seat1.id)));
         when(reservationRepository.findByEventIdAndSeatIds(eq(event.id), anyList()))
                 .thenReturn(List.of(existingReservation));
 
@@ -508,14 +514,12 @@ class ReservationServiceTest {
         mockSeatFind(dto.getSeatIds(), List.of(seat1));
         when(eventUserAllowanceRepository.findByUserAndEventId(currentUser, event.id))
                 .thenReturn(Optional.of(allowance));
-        when(reservationRepository.findByEventIdAndSeatIds(eq(event.id), anyList()))
-                .thenReturn(Collections.emptyList());
         doNothing().when(eventUserAllowanceRepository).persist(any(EventUserAllowance.class));
 
         reservationService.createReservationForUser(dto, currentUser);
 
         ArgumentCaptor<List<Reservation>> argumentCaptor = ArgumentCaptor.forClass(List.class);
-        verify(reservationRepository, times(1)).persistAll(argumentCaptor.capture());
+        verify(reservationRepository, times(1)).insertAll(argumentCaptor.capture());
         assertNotNull(argumentCaptor.getValue().getFirst().getCheckInToken());
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.felixhertweck.seatreservation.common.events.SeatHoldExpiredEvent;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.datasource.set.SetCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Runs against the dev services Redis, on which the listener enables expiry notifications. */
+@QuarkusTest
+class SeatCartExpiryListenerTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @ApplicationScoped
+    static class ExpiredEvents {
+        final Queue<SeatHoldExpiredEvent> received = new ConcurrentLinkedQueue<>();
+
+        void onExpired(@Observes SeatHoldExpiredEvent event) {
+            received.add(event);
+        }
+    }
+
+    @Inject SeatCartExpiryListener listener;
+    @Inject RedisDataSource redisDataSource;
+    @Inject ExpiredEvents expiredEvents;
+
+    private ValueCommands<String, String> values;
+    private SetCommands<String, String> sets;
+    private HashCommands<String, String, String> hashes;
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID seatId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        values = redisDataSource.value(String.class);
+        sets = redisDataSource.set(String.class);
+        hashes = redisDataSource.hash(String.class);
+    }
+
+    /** Writes a hold and its index entries the way the hold script does. */
+    private void hold(SetArgs ttl) {
+        values.set(SeatCartKeys.hold(eventId, seatId), userId.toString(), ttl);
+        sets.sadd(SeatCartKeys.index(eventId), seatId.toString());
+        sets.sadd(SeatCartKeys.userIndex(eventId, userId), seatId.toString());
+        hashes.hset(
+                SeatCartKeys.holders(eventId),
+                seatId.toString(),
+                SeatCartKeys.holder(userId, System.currentTimeMillis() + 200));
+    }
+
+    private boolean receivedEventFor(UUID seat) {
+        return expiredEvents.received.stream().anyMatch(e -> e.seatId().equals(seat));
+    }
+
+    @Test
+    void expiredHold_IsRemovedFromIndexesAndReported() throws InterruptedException {
+        hold(new SetArgs().px(200));
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!receivedEventFor(seatId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(receivedEventFor(seatId), "no SeatHoldExpiredEvent received");
+        SeatHoldExpiredEvent event =
+                expiredEvents.received.stream()
+                        .filter(e -> e.seatId().equals(seatId))
+                        .findFirst()
+                        .orElseThrow();
+        assertEquals(eventId, event.eventId());
+        assertEquals(userId, event.userId());
+        assertEquals(Set.of(), sets.smembers(SeatCartKeys.index(eventId)));
+        assertEquals(Set.of(), sets.smembers(SeatCartKeys.userIndex(eventId, userId)));
+        assertNull(hashes.hget(SeatCartKeys.holders(eventId), seatId.toString()));
+    }
+
+    @Test
+    void heldAgain_IsLeftAlone() {
+        hold(new SetArgs().ex(300));
+
+        assertFalse(listener.handle(SeatCartKeys.hold(eventId, seatId)));
+
+        assertEquals(Set.of(seatId.toString()), sets.smembers(SeatCartKeys.index(eventId)));
+        assertEquals(
+                Set.of(seatId.toString()), sets.smembers(SeatCartKeys.userIndex(eventId, userId)));
+        assertFalse(receivedEventFor(seatId));
+    }
+
+    @Test
+    void nonHoldKeys_AreIgnored() {
+        assertFalse(listener.handle(SeatCartKeys.accessGrant(eventId, userId)));
+        assertFalse(listener.handle("seatcart:" + eventId + ":" + seatId));
+    }
+}
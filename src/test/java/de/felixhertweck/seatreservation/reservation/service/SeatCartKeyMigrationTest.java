@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.util.Set;
+import java.util.UUID;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.set.SetCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class SeatCartKeyMigrationTest {
+
+    @Inject SeatCartKeyMigration migration;
+    @Inject RedisDataSource redisDataSource;
+
+    private ValueCommands<String, String> values;
+    private KeyCommands<String> keys;
+    private SetCommands<String, String> sets;
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID seatId = UUID.randomUUID();
+    private final UUID takenSeatId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final UUID otherUserId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        values = redisDataSource.value(String.class);
+        keys = redisDataSource.key(String.class);
+        sets = redisDataSource.set(String.class);
+    }
+
+    @Test
+    void sweep_MovesHoldsAndGrantsAndRebuildsIndexes() {
+        String legacyHold = "seatcart:" + eventId + ":" + seatId;
+        String legacyTakenHold = "seatcart:" + eventId + ":" + takenSeatId;
+        String legacyIndex = "seatcart:idx:" + eventId;
+        String legacyUserIndex = "seatcart:useridx:" + eventId + ":" + userId;
+        String legacyGrant = "seatcart:access:" + eventId + ":" + userId;
+        values.set(legacyHold, userId.toString(), new SetArgs().ex(120));
+        values.set(legacyTakenHold, userId.toString(), new SetArgs().ex(120));
+        values.set(legacyGrant, "2", new SetArgs().ex(150));
+        sets.sadd(legacyIndex, seatId.toString(), takenSeatId.toString());
+        sets.sadd(legacyUserIndex, seatId.toString(), takenSeatId.toString());
+        // Someone else already holds this seat in the new layout; that hold wins.
+        values.set(
+                SeatCartKeys.hold(eventId, takenSeatId),
+                otherUserId.toString(),
+                new SetArgs().ex(300));
+
+        migration.sweep();
+
+        assertEquals(userId.toString(), values.get(SeatCartKeys.hold(eventId, seatId)));
+        long ttl = keys.ttl(SeatCartKeys.hold(eventId, seatId));
+        assertTrue(ttl > 0 && ttl <= 120, "remaining TTL is kept, got " + ttl);
+        assertEquals(otherUserId.toString(), values.get(SeatCartKeys.hold(eventId, takenSeatId)));
+        assertEquals("2", values.get(SeatCartKeys.accessGrant(eventId, userId)));
+        assertEquals(Set.of(seatId.toString()), sets.smembers(SeatCartKeys.index(eventId)));
+        assertEquals(
+                Set.of(seatId.toString()), sets.smembers(SeatCartKeys.userIndex(eventId, userId)));
+        assertTrue(
+                redisDataSource
+                        .hash(String.class)
+                        .hget(SeatCartKeys.holders(eventId), seatId.toString())
+                        .startsWith(userId + ":"));
+
+        for (String legacyKey :
+                Set.of(legacyHold, legacyTakenHold, legacyIndex, legacyUserIndex, legacyGrant)) {
+            assertFalse(keys.exists(legacyKey), legacyKey + " still exists");
+        }
+
+        // Nothing left to move
+        assertEquals(0, migration.sweep());
+    }
+}
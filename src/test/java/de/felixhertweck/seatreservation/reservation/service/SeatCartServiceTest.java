@@ -23,16 +23,21 @@ import static de.felixhertweck.seatreservation.testutil.TestIds.id;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,10 +62,10 @@ import de.felixhertweck.seatreservation.reservation.exception.SeatBlockedExcepti
 import de.felixhertweck.seatreservation.reservation.exception.SeatCartAccessNotGrantedException;
 import de.felixhertweck.seatreservation.reservation.exception.SeatPendingException;
 import io.quarkus.redis.datasource.RedisDataSource;
-import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.hash.HashCommands;
 import io.quarkus.redis.datasource.set.SetCommands;
-import io.quarkus.redis.datasource.value.SetArgs;
 import io.quarkus.redis.datasource.value.ValueCommands;
+import io.vertx.mutiny.redis.client.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -75,10 +80,13 @@ class SeatCartServiceTest {
     private ReservationRepository reservationRepository;
     private EventUserAllowanceRepository eventUserAllowanceRepository;
     private SeatCartAccessGrantStore accessGrantStore;
+    private SeatStatusIndex seatStatusIndex;
     private ValueCommands<String, String> valueCommands;
-    private KeyCommands<String> keyCommands;
     private SetCommands<String, String> setCommands;
+    private HashCommands<String, String, String> hashCommands;
+    private RedisDataSource redisDataSource;
     private SeatCartService seatCartService;
+    private final List<String[]> scriptCalls = new ArrayList<>();
 
     private final UUID eventId = id(1);
     private final UUID seatId = id(2);
@@ -91,43 +99,48 @@ class SeatCartServiceTest {
         reservationRepository = mock(ReservationRepository.class);
         eventUserAllowanceRepository = mock(EventUserAllowanceRepository.class);
         accessGrantStore = mock(SeatCartAccessGrantStore.class);
+        seatStatusIndex = mock(SeatStatusIndex.class);
         valueCommands = mock(ValueCommands.class);
-        keyCommands = mock(KeyCommands.class);
         setCommands = mock(SetCommands.class);
+        hashCommands = mock(HashCommands.class);
 
-        RedisDataSource redisDataSource = mock(RedisDataSource.class);
+        redisDataSource = mock(RedisDataSource.class);
         when(redisDataSource.value(String.class)).thenReturn(valueCommands);
-        when(redisDataSource.key(String.class)).thenReturn(keyCommands);
         when(redisDataSource.set(String.class)).thenReturn(setCommands);
+        when(redisDataSource.hash(String.class)).thenReturn(hashCommands);
 
         seatCartService = new SeatCartService(redisDataSource);
         seatCartService.reservationRepository = reservationRepository;
         seatCartService.eventUserAllowanceRepository = eventUserAllowanceRepository;
         seatCartService.accessGrantStore = accessGrantStore;
+        seatCartService.seatStatusIndex = seatStatusIndex;
         seatCartService.ttlSeconds = TTL_SECONDS;
         seatCartService.accessGrantTtlBufferSeconds = ACCESS_GRANT_TTL_BUFFER_SECONDS;
 
-        // Default: access already granted with an allowance of ALLOWED_COUNT, seat not persisted
-        // as unavailable - most tests exercise only the Redis-only hot path plus this one DB read.
-        when(accessGrantStore.get(eventId, userId)).thenReturn(Optional.of(ALLOWED_COUNT));
+        // Default: seat not persisted as unavailable - most tests exercise only the Redis script
+        // plus this one DB read.
         when(reservationRepository.findByEventIdAndSeatIds(any(), any()))
                 .thenReturn(Collections.emptyList());
     }
 
     private String key() {
-        return "seatcart:" + eventId + ":" + seatId;
+        return SeatCartKeys.hold(eventId, seatId);
     }
 
     private String key(UUID seat) {
-        return "seatcart:" + eventId + ":" + seat;
+        return SeatCartKeys.hold(eventId, seat);
     }
 
     private String indexKey() {
-        return "seatcart:idx:" + eventId;
+        return SeatCartKeys.index(eventId);
     }
 
     private String userIndexKey() {
-        return "seatcart:useridx:" + eventId + ":" + userId;
+        return SeatCartKeys.userIndex(eventId, userId);
+    }
+
+    private String holdersKey() {
+        return SeatCartKeys.holders(eventId);
     }
 
     private static Reservation reservationWith(UUID seatId, ReservationStatus status) {
@@ -139,47 +152,78 @@ class SeatCartServiceTest {
         return reservation;
     }
 
+    /** Makes the hold/release scripts reply with the given values, in order. */
+    private void stubScriptReplies(long... replies) {
+        List<Response> responses = new ArrayList<>();
+        for (long value : replies) {
+            Response response = mock(Response.class);
+            when(response.toLong()).thenReturn(value);
+            responses.add(response);
+        }
+        Iterator<Response> remaining = responses.iterator();
+        when(redisDataSource.execute(eq("EVALSHA"), any(String[].class)))
+                .thenAnswer(
+                        invocation -> {
+                            scriptCalls.add((String[]) invocation.getRawArguments()[1]);
+                            return remaining.next();
+                        });
+    }
+
     @Test
     void addSeatToCart_Success_NewHold() {
-        when(valueCommands.setGet(eq(key()), eq(userId.toString()), any(SetArgs.class)))
-                .thenReturn(null);
-        when(setCommands.smembers(userIndexKey())).thenReturn(Set.of(seatId.toString()));
-        when(valueCommands.mget(any(String[].class))).thenReturn(Map.of(key(), userId.toString()));
+        stubScriptReplies(1);
 
         SeatCartEntryDTO result = seatCartService.addSeatToCart(eventId, seatId, userId);
 
         assertEquals(seatId, result.seatId());
         assertTrue(result.expiresAt().isAfter(Instant.now()));
-        // No TTL-refresh call for the seat hold itself (new hold, NX already set it).
-        verify(valueCommands, never()).set(eq(key()), anyString(), any(SetArgs.class));
-        verify(setCommands, times(1)).sadd(userIndexKey(), seatId.toString());
-        verify(setCommands, times(1)).sadd(indexKey(), seatId.toString());
-        // Sliding window: access grant TTL pushed out again on every successful cart write.
-        verify(accessGrantStore, times(1))
-                .refreshTtl(eventId, userId, Duration.ofSeconds(ACCESS_GRANT_TTL_SECONDS));
+        // One round trip: sha, key count, the five keys, then the arguments.
+        assertEquals(1, scriptCalls.size());
+        String[] call = scriptCalls.get(0);
+        assertArrayEquals(
+                new String[] {
+                    SeatCartService.HOLD_SCRIPT.sha1(),
+                    "5",
+                    key(),
+                    indexKey(),
+                    userIndexKey(),
+                    "seatcart:{" + eventId + "}:access:" + userId,
+                    holdersKey(),
+                    userId.toString(),
+                    seatId.toString(),
+                    String.valueOf(TTL_SECONDS),
+                    String.valueOf(ACCESS_GRANT_TTL_SECONDS),
+                    "seatcart:{" + eventId + "}:seat:",
+                    ""
+                },
+                Arrays.copyOf(call, call.length - 1));
+        // The last argument is the hold's expiry, TTL_SECONDS from now.
+        long expiresAt = Long.parseLong(call[call.length - 1]);
+        assertTrue(expiresAt > System.currentTimeMillis() + (TTL_SECONDS - 5) * 1000);
+        // The quota comes from the grant inside the script, no separate lookup.
+        verify(accessGrantStore, never()).get(any(), any());
+        verify(seatStatusIndex, times(1)).recordHold(eventId, seatId, userId);
     }
 
     @Test
     void addSeatToCart_AlreadyHeldBySameUser_RefreshesTtl() {
-        when(valueCommands.setGet(eq(key()), eq(userId.toString()), any(SetArgs.class)))
-                .thenReturn(userId.toString());
+        stubScriptReplies(2);
 
         SeatCartEntryDTO result = seatCartService.addSeatToCart(eventId, seatId, userId);
 
         assertEquals(seatId, result.seatId());
-        verify(valueCommands, times(1)).set(eq(key()), eq(userId.toString()), any(SetArgs.class));
-        // Refreshing an existing hold never needs the quota check.
-        verify(setCommands, never()).sadd(userIndexKey(), seatId.toString());
+        assertEquals(1, scriptCalls.size());
+        verify(seatStatusIndex, times(1)).recordHold(eventId, seatId, userId);
     }
 
     @Test
     void addSeatToCart_HeldByAnotherUser_ThrowsSeatPendingException() {
-        when(valueCommands.setGet(eq(key()), eq(userId.toString()), any(SetArgs.class)))
-                .thenReturn(otherUserId.toString());
+        stubScriptReplies(0);
 
         assertThrows(
                 SeatPendingException.class,
                 () -> seatCartService.addSeatToCart(eventId, seatId, userId));
+        verify(seatStatusIndex, never()).recordHold(any(), any(), any());
     }
 
     @Test
@@ -191,7 +235,7 @@ class SeatCartServiceTest {
         assertThrows(
                 SeatAlreadyReservedException.class,
                 () -> seatCartService.addSeatToCart(eventId, seatId, userId));
-        verify(valueCommands, never()).setGet(anyString(), anyString(), any(SetArgs.class));
+        verify(redisDataSource, never()).execute(anyString(), any(String[].class));
     }
 
     @Test
@@ -203,11 +247,12 @@ class SeatCartServiceTest {
         assertThrows(
                 SeatBlockedException.class,
                 () -> seatCartService.addSeatToCart(eventId, seatId, userId));
-        verify(valueCommands, never()).setGet(anyString(), anyString(), any(SetArgs.class));
+        verify(redisDataSource, never()).execute(anyString(), any(String[].class));
     }
 
     @Test
     void addSeatToCart_AccessNotGranted_NoAllowanceInDb_Throws() {
+        stubScriptReplies(-2);
         when(accessGrantStore.get(eventId, userId)).thenReturn(Optional.empty());
         when(eventUserAllowanceRepository.findByUserIdAndEventId(userId, eventId))
                 .thenReturn(Optional.empty());
@@ -215,123 +260,141 @@ class SeatCartServiceTest {
         assertThrows(
                 SeatCartAccessNotGrantedException.class,
                 () -> seatCartService.addSeatToCart(eventId, seatId, userId));
-        verify(valueCommands, never()).setGet(anyString(), anyString(), any(SetArgs.class));
+        assertEquals(1, scriptCalls.size());
     }
 
     @Test
     void addSeatToCart_AccessGrantExpired_SelfHealsFromDatabaseAndMintsNewGrant() {
+        stubScriptReplies(-2, 1);
         when(accessGrantStore.get(eventId, userId)).thenReturn(Optional.empty());
         EventUserAllowance allowance = mock(EventUserAllowance.class);
         when(allowance.getReservationsAllowedCount()).thenReturn(ALLOWED_COUNT);
         when(eventUserAllowanceRepository.findByUserIdAndEventId(userId, eventId))
                 .thenReturn(Optional.of(allowance));
-        when(valueCommands.setGet(eq(key()), eq(userId.toString()), any(SetArgs.class)))
-                .thenReturn(null);
-        when(setCommands.smembers(userIndexKey())).thenReturn(Set.of(seatId.toString()));
-        when(valueCommands.mget(any(String[].class))).thenReturn(Map.of(key(), userId.toString()));
 
         SeatCartEntryDTO result = seatCartService.addSeatToCart(eventId, seatId, userId);
 
         assertEquals(seatId, result.seatId());
         verify(accessGrantStore, times(1))
                 .set(eventId, userId, ALLOWED_COUNT, Duration.ofSeconds(ACCESS_GRANT_TTL_SECONDS));
+        // The retry passes the allowed count explicitly instead of relying on the new grant.
+        assertEquals(2, scriptCalls.size());
+        String[] retry = scriptCalls.get(1);
+        assertEquals(String.valueOf(ALLOWED_COUNT), retry[retry.length - 2]);
     }
 
     @Test
-    void addSeatToCart_QuotaExceeded_RollsBackHoldAndThrows() {
-        when(valueCommands.setGet(eq(key()), eq(userId.toString()), any(SetArgs.class)))
-                .thenReturn(null);
-        UUID otherHeldSeat1 = id(7);
-        UUID otherHeldSeat2 = id(8);
-        // ALLOWED_COUNT is 2, but the user (including the seat just added) would hold 3.
-        when(setCommands.smembers(userIndexKey()))
-                .thenReturn(
-                        Set.of(
-                                seatId.toString(),
-                                otherHeldSeat1.toString(),
-                                otherHeldSeat2.toString()));
-        when(valueCommands.mget(any(String[].class)))
-                .thenReturn(
-                        Map.of(
-                                key(), userId.toString(),
-                                key(otherHeldSeat1), userId.toString(),
-                                key(otherHeldSeat2), userId.toString()));
+    void addSeatToCart_QuotaExceeded_Throws() {
+        stubScriptReplies(-1);
 
         assertThrows(
                 NoSeatsAvailableException.class,
                 () -> seatCartService.addSeatToCart(eventId, seatId, userId));
-
-        verify(keyCommands, times(1)).del(key());
-        verify(setCommands, times(1)).srem(userIndexKey(), seatId.toString());
-        verify(setCommands, never()).sadd(indexKey(), seatId.toString());
+        verify(seatStatusIndex, never()).recordHold(any(), any(), any());
     }
 
     @Test
-    void addSeatToCart_AtQuotaLimit_Succeeds() {
-        when(valueCommands.setGet(eq(key()), eq(userId.toString()), any(SetArgs.class)))
-                .thenReturn(null);
-        UUID otherHeldSeat = id(7);
-        when(setCommands.smembers(userIndexKey()))
-                .thenReturn(Set.of(seatId.toString(), otherHeldSeat.toString()));
-        when(valueCommands.mget(any(String[].class)))
-                .thenReturn(
-                        Map.of(
-                                key(), userId.toString(),
-                                key(otherHeldSeat), userId.toString()));
+    void removeSeatFromCart_OwnedByUser_ReleasesAndRecords() {
+        stubScriptReplies(1);
 
-        SeatCartEntryDTO result = seatCartService.addSeatToCart(eventId, seatId, userId);
+        seatCartService.removeSeatFromCart(eventId, seatId, userId);
 
-        assertEquals(seatId, result.seatId());
-        verify(keyCommands, never()).del(key());
+        assertArrayEquals(
+                new String[] {
+                    SeatCartService.RELEASE_SCRIPT.sha1(),
+                    "4",
+                    key(),
+                    indexKey(),
+                    userIndexKey(),
+                    holdersKey(),
+                    userId.toString(),
+                    seatId.toString()
+                },
+                scriptCalls.get(0));
+        verify(seatStatusIndex, times(1)).recordRelease(eventId, List.of(seatId));
     }
 
     @Test
-    void removeSeatFromCart_OwnedByUser_DeletesKeyAndIndexes() {
-        when(valueCommands.get(key())).thenReturn(userId.toString());
+    void removeSeatFromCart_NotOwnedByUser_DoesNotRecordRelease() {
+        stubScriptReplies(0);
 
         seatCartService.removeSeatFromCart(eventId, seatId, userId);
 
-        verify(keyCommands, times(1)).del(key());
-        verify(setCommands, times(1)).srem(indexKey(), seatId.toString());
-        verify(setCommands, times(1)).srem(userIndexKey(), seatId.toString());
+        verify(seatStatusIndex, never()).recordRelease(any(), any());
     }
 
     @Test
-    void removeSeatFromCart_OwnedByAnotherUser_DoesNotDelete() {
-        when(valueCommands.get(key())).thenReturn(otherUserId.toString());
-
-        seatCartService.removeSeatFromCart(eventId, seatId, userId);
+    void releaseSeats_EmptyList_DoesNotCallRedis() {
+        seatCartService.releaseSeats(eventId, Collections.emptyList());
 
-        verify(keyCommands, never()).del(anyString());
-        verify(setCommands, never()).srem(anyString(), anyString());
+        verify(redisDataSource, never()).execute(anyString(), any(String[].class));
+        verify(seatStatusIndex, never()).recordRelease(any(), any());
     }
 
     @Test
-    void removeSeatFromCart_NotHeld_DoesNotDelete() {
-        when(valueCommands.get(key())).thenReturn(null);
+    void releaseSeats_WithSeats_ReleasesAllInOneScript() {
+        UUID seat2 = id(5);
+        stubScriptReplies(2);
 
-        seatCartService.removeSeatFromCart(eventId, seatId, userId);
+        seatCartService.releaseSeats(eventId, List.of(seatId, seat2));
 
-        verify(keyCommands, never()).del(anyString());
-        verify(setCommands, never()).srem(anyString(), anyString());
+        // Hold keys, both indexes and the holders' user indexes are cleaned up atomically.
+        assertEquals(1, scriptCalls.size());
+        assertArrayEquals(
+                new String[] {
+                    SeatCartService.RELEASE_ALL_SCRIPT.sha1(),
+                    "2",
+                    indexKey(),
+                    holdersKey(),
+                    "seatcart:{" + eventId + "}:seat:",
+                    "seatcart:{" + eventId + "}:useridx:",
+                    seatId.toString(),
+                    seat2.toString()
+                },
+                scriptCalls.get(0));
+        verify(setCommands, never()).srem(anyString(), any(String[].class));
+        verify(hashCommands, never()).hdel(anyString(), any(String[].class));
+        verify(seatStatusIndex, times(1)).recordRelease(eventId, List.of(seatId, seat2));
     }
 
     @Test
-    void releaseSeats_EmptyList_DoesNotCallRedis() {
-        seatCartService.releaseSeats(eventId, Collections.emptyList());
-
-        verify(keyCommands, never()).del(any(String[].class));
-        verify(setCommands, never()).srem(anyString(), anyString());
+    void cleanUpExpiredHold_KnownHolder_CleansUpTheirUserIndex() {
+        String holder = userId + ":1700000000000";
+        when(hashCommands.hget(holdersKey(), seatId.toString())).thenReturn(holder);
+        stubScriptReplies(1);
+
+        SeatCartService.ExpiredHold expired = seatCartService.cleanUpExpiredHold(eventId, seatId);
+
+        assertEquals(new SeatCartService.ExpiredHold(userId, 1700000000000L, true), expired);
+        assertArrayEquals(
+                new String[] {
+                    SeatCartService.EXPIRED_SCRIPT.sha1(),
+                    "4",
+                    key(),
+                    indexKey(),
+                    holdersKey(),
+                    userIndexKey(),
+                    seatId.toString(),
+                    holder
+                },
+                scriptCalls.get(0));
     }
 
     @Test
-    void releaseSeats_WithSeats_DeletesKeysAndPrunesIndex() {
-        UUID seat2 = id(5);
+    void cleanUpExpiredHold_UnknownHolder_OnlyCleansEventIndex() {
+        stubScriptReplies(0);
 
-        seatCartService.releaseSeats(eventId, List.of(seatId, seat2));
+        SeatCartService.ExpiredHold expired = seatCartService.cleanUpExpiredHold(eventId, seatId);
 
-        verify(keyCommands, times(1)).del(eq(key()), eq(key(seat2)));
-        verify(setCommands, times(1)).srem(indexKey(), seatId.toString(), seat2.toString());
+        assertEquals(new SeatCartService.ExpiredHold(null, 0, false), expired);
+        assertEquals("3", scriptCalls.get(0)[1]);
+    }
+
+    @Test
+    void cleanUpExpiredHold_HeldAgain_ReturnsNull() {
+        stubScriptReplies(-1);
+
+        assertNull(seatCartService.cleanUpExpiredHold(eventId, seatId));
     }
 
     @Test
@@ -363,8 +426,8 @@ class SeatCartServiceTest {
         when(valueCommands.mget(any(String[].class)))
                 .thenReturn(
                         Map.of(
-                                "seatcart:" + eventId + ":" + seatId, otherUserId.toString(),
-                                "seatcart:" + eventId + ":" + seat2, otherUserId.toString()));
+                                key(), otherUserId.toString(),
+                                key(seat2), otherUserId.toString()));
 
         Set<UUID> result = seatCartService.findPendingSeatIds(eventId, userId);
 
@@ -380,8 +443,8 @@ class SeatCartServiceTest {
         when(valueCommands.mget(any(String[].class)))
                 .thenReturn(
                         Map.of(
-                                "seatcart:" + eventId + ":" + seatId, userId.toString(),
-                                "seatcart:" + eventId + ":" + seat2, otherUserId.toString()));
+                                key(), userId.toString(),
+                                key(seat2), otherUserId.toString()));
 
         Set<UUID> result = seatCartService.findPendingSeatIds(eventId, userId);
 
@@ -404,14 +467,15 @@ class SeatCartServiceTest {
         // per-member TTL) - it must be detected via the null value, not via containsKey (which
         // would be true for every requested key regardless of whether it still exists).
         Map<String, String> mgetResult = new HashMap<>();
-        mgetResult.put("seatcart:" + eventId + ":" + seatId, otherUserId.toString());
-        mgetResult.put("seatcart:" + eventId + ":" + seat2, null);
+        mgetResult.put(key(), otherUserId.toString());
+        mgetResult.put(key(seat2), null);
         when(valueCommands.mget(any(String[].class))).thenReturn(mgetResult);
 
         Set<UUID> result = seatCartService.findPendingSeatIds(eventId, userId);
 
         assertEquals(Set.of(seatId), result);
         verify(setCommands, times(1)).srem(indexKey(), seat2.toString());
+        verify(hashCommands, times(1)).hdel(holdersKey(), seat2.toString());
     }
 
     @Test
@@ -0,0 +1,210 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.felixhertweck.seatreservation.management.service.SeatmapCacheService;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatStatusIndexTest {
+
+    private final UUID eventId = id(1);
+    private final UUID reservedSeat = id(2);
+    private final UUID blockedSeat = id(3);
+    private final UUID heldSeat = id(4);
+    private final UUID freeSeat = id(5);
+    private final UUID userId = id(6);
+    private final UUID otherUserId = id(7);
+
+    private ReservationRepository reservationRepository;
+    private SeatCartService seatCartService;
+    private SeatStatusIndex index;
+
+    private Map<UUID, ReservationStatus> persisted;
+    private Map<UUID, UUID> holds;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        seatCartService = mock(SeatCartService.class);
+        SeatmapCacheService seatmapCacheService = mock(SeatmapCacheService.class);
+        // No transaction in a unit test: run after-commit actions right away.
+        doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(0).run();
+                            return null;
+                        })
+                .when(seatmapCacheService)
+                .runAfterSuccessfulCommit(any());
+
+        index = new SeatStatusIndex();
+        index.reservationRepository = reservationRepository;
+        index.seatCartService = seatCartService;
+        index.seatmapCacheService = seatmapCacheService;
+        index.cartTtlSeconds = 300;
+        index.maxAgeSeconds = 3600;
+        index.idleEvictionMinutes = 30;
+
+        persisted = new HashMap<>();
+        persisted.put(reservedSeat, ReservationStatus.RESERVED);
+        persisted.put(blockedSeat, ReservationStatus.BLOCKED);
+        holds = new HashMap<>();
+        holds.put(heldSeat, otherUserId);
+        when(reservationRepository.findSeatStatusesByEventId(eventId)).thenReturn(persisted);
+        when(seatCartService.findLiveHolds(eventId)).thenReturn(holds);
+    }
+
+    private static ReservationStatus statusOf(SeatStatusDeltaDTO delta, UUID seatId) {
+        return delta.seatStatuses().stream()
+                .filter(s -> s.seatId().equals(seatId))
+                .findFirst()
+                .orElseThrow()
+                .status();
+    }
+
+    @Test
+    void getChangesSince_WithoutVersion_ReturnsFullSnapshot() {
+        SeatStatusDeltaDTO snapshot = index.getChangesSince(eventId, userId, null);
+
+        assertTrue(snapshot.fullSnapshot());
+        assertEquals(3, snapshot.seatStatuses().size());
+        assertEquals(ReservationStatus.RESERVED, statusOf(snapshot, reservedSeat));
+        assertEquals(ReservationStatus.BLOCKED, statusOf(snapshot, blockedSeat));
+        assertEquals(ReservationStatus.PENDING, statusOf(snapshot, heldSeat));
+    }
+
+    @Test
+    void getChangesSince_OwnHoldIsNotReportedAsPending() {
+        SeatStatusDeltaDTO snapshot = index.getChangesSince(eventId, otherUserId, null);
+
+        assertEquals(2, snapshot.seatStatuses().size());
+        assertTrue(snapshot.seatStatuses().stream().noneMatch(s -> s.seatId().equals(heldSeat)));
+    }
+
+    @Test
+    void getChangesSince_CurrentVersion_ReturnsEmptyDelta() {
+        long version = index.currentVersion(eventId);
+
+        SeatStatusDeltaDTO delta = index.getChangesSince(eventId, userId, version);
+
+        assertFalse(delta.fullSnapshot());
+        assertEquals(version, delta.version());
+        assertTrue(delta.seatStatuses().isEmpty());
+    }
+
+    @Test
+    void incrementalWrites_AreReportedAsDeltaWithoutReloading() {
+        long version = index.currentVersion(eventId);
+
+        index.recordPersisted(eventId, List.of(reservedSeat), null);
+        index.recordHold(eventId, freeSeat, otherUserId);
+        index.recordPersisted(eventId, List.of(heldSeat), ReservationStatus.RESERVED);
+
+        SeatStatusDeltaDTO delta = index.getChangesSince(eventId, userId, version);
+
+        assertFalse(delta.fullSnapshot());
+        assertTrue(delta.version() > version);
+        assertEquals(3, delta.seatStatuses().size());
+        assertNull(statusOf(delta, reservedSeat));
+        assertEquals(ReservationStatus.PENDING, statusOf(delta, freeSeat));
+        assertEquals(ReservationStatus.RESERVED, statusOf(delta, heldSeat));
+        verify(reservationRepository, times(1)).findSeatStatusesByEventId(eventId);
+    }
+
+    @Test
+    void recordRelease_DoesNotFreeReservedSeat() {
+        long version = index.currentVersion(eventId);
+
+        index.recordRelease(eventId, List.of(reservedSeat, heldSeat));
+
+        SeatStatusDeltaDTO delta = index.getChangesSince(eventId, userId, version);
+        assertEquals(1, delta.seatStatuses().size());
+        assertNull(statusOf(delta, heldSeat));
+    }
+
+    @Test
+    void getChangesSince_UnknownVersion_FallsBackToFullSnapshot() {
+        long version = index.currentVersion(eventId);
+
+        assertTrue(index.getChangesSince(eventId, userId, version + 1_000_000).fullSnapshot());
+        assertTrue(index.getChangesSince(eventId, userId, 0L).fullSnapshot());
+    }
+
+    @Test
+    void writesForUnindexedEvent_AreIgnored() {
+        index.recordPersisted(eventId, List.of(freeSeat), ReservationStatus.RESERVED);
+        index.recordHold(eventId, freeSeat, userId);
+        index.recordRelease(eventId, List.of(freeSeat));
+
+        verify(reservationRepository, never()).findSeatStatusesByEventId(any());
+        verify(seatCartService, never()).findLiveHolds(any());
+    }
+
+    @Test
+    void reconcile_ReportsChangesMadeElsewhere() {
+        index.maxAgeSeconds = 0;
+        long version = index.currentVersion(eventId);
+
+        // Another instance reserved the free seat and the foreign hold was released there.
+        persisted.put(freeSeat, ReservationStatus.RESERVED);
+        holds.clear();
+
+        SeatStatusDeltaDTO delta = index.getChangesSince(eventId, userId, version);
+
+        assertFalse(delta.fullSnapshot());
+        assertEquals(2, delta.seatStatuses().size());
+        assertEquals(ReservationStatus.RESERVED, statusOf(delta, freeSeat));
+        assertNull(statusOf(delta, heldSeat));
+    }
+
+    @Test
+    void expiredHold_IsReportedAsFreed() {
+        index.cartTtlSeconds = 0;
+        long version = index.currentVersion(eventId);
+
+        SeatStatusDeltaDTO delta = index.getChangesSince(eventId, userId, version - 1);
+
+        assertTrue(
+                delta.seatStatuses().stream()
+                        .anyMatch(s -> s.seatId().equals(heldSeat) && s.status() == null));
+    }
+}
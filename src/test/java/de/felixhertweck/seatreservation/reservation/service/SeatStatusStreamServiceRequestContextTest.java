@@ -0,0 +1,81 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+/** Flushes from a thread without a request context, like the stream's ticker does. */
+@QuarkusTest
+@TestProfile(SeatStatusStreamServiceRequestContextTest.AlwaysReconcileProfile.class)
+class SeatStatusStreamServiceRequestContextTest {
+
+    public static class AlwaysReconcileProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            // Every version check reconciles from the database; the tests flush explicitly.
+            return Map.of(
+                    "seat-status-index.max-age-seconds", "0",
+                    "seat-status-stream.batch-window-millis", "0");
+        }
+    }
+
+    @Inject SeatStatusStreamService service;
+    @Inject SeatStatusIndex index;
+
+    @Test
+    void flush_ReconcilesFromDatabaseOutsideOfARequest() {
+        UUID eventId = UUID.randomUUID();
+        UUID userId = id(1);
+        WebSocketConnection connection = mock(WebSocketConnection.class);
+        when(connection.sendText(anyString())).thenReturn(Uni.createFrom().voidItem());
+        SeatStatusDeltaDTO snapshot = index.getChangesSince(eventId, userId, null);
+        service.subscribe(eventId, userId, connection, snapshot);
+
+        try {
+            assertDoesNotThrow(
+                    () ->
+                            CompletableFuture.runAsync(
+                                            service::flush,
+                                            runnable -> Thread.ofPlatform().start(runnable))
+                                    .get(10, TimeUnit.SECONDS));
+        } finally {
+            service.unsubscribe(eventId, connection);
+        }
+    }
+}
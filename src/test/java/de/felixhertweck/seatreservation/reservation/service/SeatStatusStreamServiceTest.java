@@ -0,0 +1,217 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.felixhertweck.seatreservation.common.dto.SeatStatusDTO;
+import de.felixhertweck.seatreservation.management.service.SeatmapCacheService;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.reservation.dto.SeatStatusDeltaDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class SeatStatusStreamServiceTest {
+
+    private final UUID eventId = id(1);
+    private final UUID reservedSeat = id(2);
+    private final UUID freeSeat = id(3);
+    private final UUID otherFreeSeat = id(4);
+    private final UUID userId = id(5);
+    private final UUID otherUserId = id(6);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatStatusIndex index;
+    private SeatStatusStreamService service;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        SeatCartService seatCartService = mock(SeatCartService.class);
+        SeatmapCacheService seatmapCacheService = mock(SeatmapCacheService.class);
+        doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(0).run();
+                            return null;
+                        })
+                .when(seatmapCacheService)
+                .runAfterSuccessfulCommit(any());
+        Map<UUID, ReservationStatus> persisted = new HashMap<>();
+        persisted.put(reservedSeat, ReservationStatus.RESERVED);
+        when(reservationRepository.findSeatStatusesByEventId(eventId)).thenReturn(persisted);
+        when(seatCartService.findLiveHolds(eventId)).thenReturn(new HashMap<>());
+
+        index = new SeatStatusIndex();
+        index.reservationRepository = reservationRepository;
+        index.seatCartService = seatCartService;
+        index.seatmapCacheService = seatmapCacheService;
+        index.cartTtlSeconds = 300;
+        index.maxAgeSeconds = 3600;
+        index.idleEvictionMinutes = 30;
+
+        meterRegistry = new SimpleMeterRegistry();
+        service = new SeatStatusStreamService();
+        service.seatStatusIndex = index;
+        service.meterRegistry = meterRegistry;
+        // No background ticker: the tests flush explicitly.
+        service.batchWindowMillis = 0;
+        service.queueCapacity = 16;
+        service.sendTimeoutSeconds = 10;
+        service.init();
+    }
+
+    private static WebSocketConnection connection() {
+        WebSocketConnection connection = mock(WebSocketConnection.class);
+        when(connection.sendText(anyString())).thenReturn(Uni.createFrom().voidItem());
+        return connection;
+    }
+
+    private WebSocketConnection subscribe(UUID subscriberId) {
+        WebSocketConnection connection = connection();
+        SeatStatusDeltaDTO snapshot = index.getChangesSince(eventId, subscriberId, null);
+        service.subscribe(eventId, subscriberId, connection, snapshot);
+        return connection;
+    }
+
+    private List<SeatStatusDeltaDTO> sent(WebSocketConnection connection, int count)
+            throws Exception {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(count)).sendText(captor.capture());
+        List<SeatStatusDeltaDTO> messages = new ArrayList<>();
+        for (String payload : captor.getAllValues()) {
+            messages.add(objectMapper.readValue(payload, SeatStatusDeltaDTO.class));
+        }
+        return messages;
+    }
+
+    private static ReservationStatus statusOf(SeatStatusDeltaDTO delta, UUID seatId) {
+        return delta.seatStatuses().stream()
+                .filter(s -> s.seatId().equals(seatId))
+                .findFirst()
+                .map(SeatStatusDTO::status)
+                .orElseThrow();
+    }
+
+    @Test
+    void subscribe_SendsSnapshotAndTracksSubscribers() throws Exception {
+        WebSocketConnection connection = subscribe(userId);
+
+        SeatStatusDeltaDTO snapshot = sent(connection, 1).getFirst();
+        assertTrue(snapshot.fullSnapshot());
+        assertEquals(ReservationStatus.RESERVED, statusOf(snapshot, reservedSeat));
+        assertEquals(1, service.subscriberCount(eventId));
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("seat.status.stream.subscribers")
+                        .tag("eventId", eventId.toString())
+                        .gauge()
+                        .value());
+    }
+
+    @Test
+    void flush_WithoutChanges_SendsNothing() throws Exception {
+        WebSocketConnection connection = subscribe(userId);
+
+        service.flush();
+
+        sent(connection, 1);
+    }
+
+    @Test
+    void flush_CoalescesChangesOfOneWindowIntoOneDelta() throws Exception {
+        WebSocketConnection connection = subscribe(userId);
+
+        index.recordHold(eventId, freeSeat, otherUserId);
+        index.recordHold(eventId, otherFreeSeat, otherUserId);
+        index.recordRelease(eventId, List.of(otherFreeSeat));
+        service.flush();
+        service.flush();
+
+        SeatStatusDeltaDTO delta = sent(connection, 2).get(1);
+        assertFalse(delta.fullSnapshot());
+        assertEquals(2, delta.seatStatuses().size());
+        assertEquals(ReservationStatus.PENDING, statusOf(delta, freeSeat));
+        assertNull(statusOf(delta, otherFreeSeat));
+    }
+
+    @Test
+    void flush_ShowsOwnHoldAsFreeToTheHolderOnly() throws Exception {
+        WebSocketConnection holder = subscribe(userId);
+        WebSocketConnection other = subscribe(otherUserId);
+
+        index.recordHold(eventId, freeSeat, userId);
+        service.flush();
+
+        assertNull(statusOf(sent(holder, 2).get(1), freeSeat));
+        assertEquals(ReservationStatus.PENDING, statusOf(sent(other, 2).get(1), freeSeat));
+    }
+
+    @Test
+    void flush_PersistedChangeIsPushedToEverySubscriber() throws Exception {
+        WebSocketConnection first = subscribe(userId);
+        WebSocketConnection second = subscribe(otherUserId);
+
+        index.recordPersisted(eventId, List.of(reservedSeat), null);
+        service.flush();
+
+        assertNull(statusOf(sent(first, 2).get(1), reservedSeat));
+        assertNull(statusOf(sent(second, 2).get(1), reservedSeat));
+    }
+
+    @Test
+    void unsubscribe_RemovesSubscriberAndGauge() {
+        WebSocketConnection connection = subscribe(userId);
+
+        service.unsubscribe(eventId, connection);
+        index.recordHold(eventId, freeSeat, otherUserId);
+        service.flush();
+
+        assertEquals(0, service.subscriberCount(eventId));
+        assertTrue(meterRegistry.find("seat.status.stream.subscribers").gauges().isEmpty());
+        verify(connection, times(1)).sendText(anyString());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.felixhertweck.seatreservation.model.entity.Event;
+import de.felixhertweck.seatreservation.model.repository.EventRepository;
+import de.felixhertweck.seatreservation.reservation.dto.WaitingRoomStatusDTO;
+import de.felixhertweck.seatreservation.reservation.exception.WaitingRoomAdmissionRequiredException;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Runs against the dev services Redis, with the service wired by hand (disabled in %test). */
+@QuarkusTest
+class WaitingRoomServiceTest {
+
+    @Inject RedisDataSource redisDataSource;
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID firstUser = UUID.randomUUID();
+    private final UUID secondUser = UUID.randomUUID();
+    private final UUID thirdUser = UUID.randomUUID();
+
+    private Event event;
+    private WaitingRoomService service;
+
+    @BeforeEach
+    void setUp() {
+        event = new Event();
+        event.setBookingStartTime(Instant.now().minusSeconds(1));
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findByIdOptional(eventId)).thenReturn(Optional.of(event));
+
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) 7);
+
+        service = new WaitingRoomService(redisDataSource);
+        service.eventRepository = eventRepository;
+        service.tokenSigner = new WaitingRoomTokenSigner(key);
+        service.enabled = true;
+        service.opensMinutesBeforeBookingStart = 15;
+        service.activeMinutesAfterBookingStart = 30;
+        service.admissionMinutes = 15;
+        service.admissionInterval = Duration.ofSeconds(1);
+        service.initialAdmissionsPerSecond = 2;
+        service.minAdmissionsPerSecond = 1;
+        service.maxAdmissionsPerSecond = 10;
+        service.targetBookingLatencyMillis = 500;
+        service.windowCacheSeconds = 30;
+        service.init();
+    }
+
+    /** Ticks are locked per admission interval; drop the lock to run the next one right away. */
+    private void admitNextTick() {
+        redisDataSource.key(String.class).del(WaitingRoomService.tickKey(eventId));
+        service.admitAll();
+    }
+
+    @Test
+    void join_QueuesUsersInArrivalOrder() {
+        assertEquals(1, service.join(eventId, firstUser).position());
+        assertEquals(2, service.join(eventId, secondUser).position());
+
+        // Joining again keeps the place
+        WaitingRoomStatusDTO status = service.join(eventId, firstUser);
+        assertTrue(status.active());
+        assertFalse(status.admitted());
+        assertEquals(1, status.position());
+        assertEquals(2, status.queueLength());
+        assertNotNull(status.estimatedWaitSeconds());
+
+        assertEquals(0, service.getStatus(eventId, thirdUser).position());
+    }
+
+    @Test
+    void admitAll_AdmitsLongestWaitingUsersWithValidToken() {
+        service.join(eventId, firstUser);
+        service.join(eventId, secondUser);
+        service.join(eventId, thirdUser);
+
+        admitNextTick();
+
+        WaitingRoomStatusDTO first = service.getStatus(eventId, firstUser);
+        assertTrue(first.admitted());
+        assertNotNull(first.admissionToken());
+        assertTrue(service.getStatus(eventId, secondUser).admitted());
+        WaitingRoomStatusDTO third = service.getStatus(eventId, thirdUser);
+        assertFalse(third.admitted());
+        assertEquals(1, third.position());
+        assertNull(third.admissionToken());
+
+        assertDoesNotThrow(
+                () -> service.assertAdmitted(eventId, firstUser, first.admissionToken()));
+        assertThrows(
+                WaitingRoomAdmissionRequiredException.class,
+                () -> service.assertAdmitted(eventId, thirdUser, first.admissionToken()));
+        assertThrows(
+                WaitingRoomAdmissionRequiredException.class,
+                () -> service.assertAdmitted(eventId, thirdUser, null));
+    }
+
+    @Test
+    void admitAll_OnlyOneAdmissionPerTick() {
+        service.join(eventId, firstUser);
+        service.join(eventId, secondUser);
+        service.join(eventId, thirdUser);
+
+        admitNextTick();
+        // Same tick, e.g. from another instance: nobody else is admitted
+        service.admitAll();
+
+        assertFalse(service.getStatus(eventId, thirdUser).admitted());
+    }
+
+    @Test
+    void admitAll_DoesNotAdmitBeforeBookingStart() {
+        event.setBookingStartTime(Instant.now().plusSeconds(60));
+        service.join(eventId, firstUser);
+
+        admitNextTick();
+
+        assertFalse(service.getStatus(eventId, firstUser).admitted());
+    }
+
+    @Test
+    void inactiveWaitingRoom_AdmitsEveryone() {
+        event.setBookingStartTime(Instant.now().minus(Duration.ofHours(1)));
+
+        WaitingRoomStatusDTO status = service.join(eventId, firstUser);
+
+        assertFalse(status.active());
+        assertTrue(status.admitted());
+        assertDoesNotThrow(() -> service.assertAdmitted(eventId, firstUser, null));
+    }
+
+    @Test
+    void recordBookingLatency_AdaptsAdmissionRate() {
+        service.recordBookingLatency(Duration.ofMillis(100));
+        service.admitAll();
+        assertEquals(3.0, service.currentAdmissionRate());
+
+        service.recordBookingLatency(Duration.ofSeconds(5));
+        service.admitAll();
+        assertTrue(service.currentAdmissionRate() < 3);
+
+        // Ticks without bookings keep the rate
+        double rate = service.currentAdmissionRate();
+        service.admitAll();
+        assertEquals(rate, service.currentAdmissionRate());
+    }
+}
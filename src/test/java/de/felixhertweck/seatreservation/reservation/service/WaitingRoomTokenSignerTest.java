@@ -0,0 +1,77 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.reservation.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WaitingRoomTokenSignerTest {
+
+    private static final long NOW = 1_800_000_000_000L;
+
+    private final UUID eventId = id(1);
+    private final UUID userId = id(2);
+
+    private static byte[] key(int fill) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) fill);
+        return key;
+    }
+
+    @Test
+    void verify_AcceptsOwnTokenUntilExpiry() {
+        WaitingRoomTokenSigner signer = new WaitingRoomTokenSigner(key(1));
+
+        String token = signer.sign(eventId, userId, NOW + 1000);
+
+        assertTrue(signer.verify(token, eventId, userId, NOW));
+        assertFalse(signer.verify(token, eventId, userId, NOW + 1000));
+    }
+
+    @Test
+    void verify_RejectsTokenOfOtherUserEventOrKey() {
+        WaitingRoomTokenSigner signer = new WaitingRoomTokenSigner(key(1));
+        String token = signer.sign(eventId, userId, NOW + 1000);
+
+        assertFalse(signer.verify(token, id(3), userId, NOW));
+        assertFalse(signer.verify(token, eventId, id(3), NOW));
+        assertFalse(new WaitingRoomTokenSigner(key(2)).verify(token, eventId, userId, NOW));
+    }
+
+    @Test
+    void verify_RejectsTamperedOrMalformedTokens() {
+        WaitingRoomTokenSigner signer = new WaitingRoomTokenSigner(key(1));
+        String token = signer.sign(eventId, userId, NOW + 1000);
+        String signature = token.substring(token.indexOf('.'));
+
+        assertFalse(signer.verify((NOW + 60_000) + signature, eventId, userId, NOW));
+        assertFalse(signer.verify(null, eventId, userId, NOW));
+        assertFalse(signer.verify("", eventId, userId, NOW));
+        assertFalse(signer.verify("abc.def", eventId, userId, NOW));
+        assertFalse(signer.verify((NOW + 1000) + ".%%%", eventId, userId, NOW));
+    }
+}
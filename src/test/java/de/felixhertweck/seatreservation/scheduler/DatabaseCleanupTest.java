@@ -32,11 +32,15 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import de.felixhertweck.seatreservation.model.entity.EmailAttachmentBlob;
 import de.felixhertweck.seatreservation.model.entity.EmailStatus;
 import de.felixhertweck.seatreservation.model.entity.EmailVerification;
+import de.felixhertweck.seatreservation.model.entity.LoginAttempt;
 import de.felixhertweck.seatreservation.model.entity.OutboundEmail;
+import de.felixhertweck.seatreservation.model.entity.OutboundEmailAttachment;
 import de.felixhertweck.seatreservation.model.entity.RefreshToken;
 import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.EmailAttachmentBlobRepository;
 import de.felixhertweck.seatreservation.model.repository.EmailVerificationRepository;
 import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.OutboundEmailRepository;
@@ -59,6 +63,8 @@ class DatabaseCleanupTest {
 
     @Inject OutboundEmailRepository outboundEmailRepository;
 
+    @Inject EmailAttachmentBlobRepository emailAttachmentBlobRepository;
+
     @Inject UserRepository userRepository;
 
     private User testUser;
@@ -219,16 +225,20 @@ class DatabaseCleanupTest {
         assertEquals(1, refreshTokenRepository.count());
     }
 
+    private void persistLoginAttempt(boolean successful) {
+        loginAttemptRepository.persist(new LoginAttempt(testUser, Instant.now(), successful));
+    }
+
     @Test
     @Transactional
     void testCleanupOldLoginAttempts() {
         // Create login attempts older than 30 days (should be deleted)
-        loginAttemptRepository.recordAttempt(testUser, false);
-        loginAttemptRepository.recordAttempt(testUser, false);
+        persistLoginAttempt(false);
+        persistLoginAttempt(false);
 
         // Create recent login attempts (should NOT be deleted)
-        loginAttemptRepository.recordAttempt(testUser, true);
-        loginAttemptRepository.recordAttempt(testUser, false);
+        persistLoginAttempt(true);
+        persistLoginAttempt(false);
 
         // Verify all four exist
         assertEquals(4, loginAttemptRepository.count());
@@ -249,8 +259,8 @@ class DatabaseCleanupTest {
     @Transactional
     void testManualCleanupOldLoginAttempts() {
         // Create old login attempts (older than 30 days)
-        loginAttemptRepository.recordAttempt(testUser, false);
-        loginAttemptRepository.recordAttempt(testUser, false);
+        persistLoginAttempt(false);
+        persistLoginAttempt(false);
 
         // Manually set attempts to be older than 30 days
         loginAttemptRepository.update(
@@ -269,9 +279,9 @@ class DatabaseCleanupTest {
     @Transactional
     void testCleanupOldLoginAttemptsWithNoOldEntries() {
         // Create only recent login attempts
-        loginAttemptRepository.recordAttempt(testUser, true);
-        loginAttemptRepository.recordAttempt(testUser, false);
-        loginAttemptRepository.recordAttempt(testUser, true);
+        persistLoginAttempt(true);
+        persistLoginAttempt(false);
+        persistLoginAttempt(true);
 
         assertEquals(3, loginAttemptRepository.count());
 
@@ -327,4 +337,52 @@ class DatabaseCleanupTest {
         assertNotNull(outboundEmailRepository.findById(oldPending.id));
         assertNull(outboundEmailRepository.findById(oldSent.id));
     }
+
+    @Test
+    @Transactional
+    void testCleanupFinishedOutboundEmailsRemovesUnreferencedBlobs() {
+        Instant oldCutoff = Instant.now().minus(35, ChronoUnit.DAYS);
+        Instant recent = Instant.now().minus(1, ChronoUnit.DAYS);
+        byte[] shared = "shared-seatmap".getBytes();
+        byte[] exclusive = "old-only-export".getBytes();
+
+        EmailAttachmentBlob sharedBlob =
+                emailAttachmentBlobRepository.acquire("a".repeat(64), shared);
+        EmailAttachmentBlob exclusiveBlob =
+                emailAttachmentBlobRepository.acquire("b".repeat(64), exclusive);
+        OutboundEmail oldSent = sentEmail("old@example.com", oldCutoff);
+        oldSent.addAttachment(
+                new OutboundEmailAttachment("map.png", "image/png", "map", sharedBlob));
+        oldSent.addAttachment(
+                new OutboundEmailAttachment("export.csv", "text/csv", null, exclusiveBlob));
+        outboundEmailRepository.persist(oldSent);
+
+        EmailAttachmentBlob reusedBlob =
+                emailAttachmentBlobRepository.acquire("a".repeat(64), shared);
+        assertEquals(sharedBlob.id, reusedBlob.id);
+        OutboundEmail recentSent = sentEmail("recent@example.com", recent);
+        recentSent.addAttachment(
+                new OutboundEmailAttachment("map.png", "image/png", "map", reusedBlob));
+        outboundEmailRepository.persist(recentSent);
+
+        cleanupScheduler.cleanupFinishedOutboundEmails();
+
+        assertNull(outboundEmailRepository.findById(oldSent.id));
+        EmailAttachmentBlob remaining = emailAttachmentBlobRepository.findById(sharedBlob.id);
+        assertNotNull(remaining);
+        assertNull(emailAttachmentBlobRepository.findById(exclusiveBlob.id));
+    }
+
+    private static OutboundEmail sentEmail(String to, Instant updatedAt) {
+        OutboundEmail email = new OutboundEmail();
+        email.setTo(java.util.List.of(to));
+        email.setSubject("Sent");
+        email.setHtmlBody("<p>Sent</p>");
+        email.setStatus(EmailStatus.SENT);
+        email.setMaxAttempts(5);
+        email.setNextAttemptAt(updatedAt);
+        email.setCreatedAt(updatedAt);
+        email.setUpdatedAt(updatedAt);
+        return email;
+    }
 }
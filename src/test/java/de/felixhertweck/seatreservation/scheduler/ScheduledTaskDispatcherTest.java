@@ -0,0 +1,306 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.scheduler;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.felixhertweck.seatreservation.common.events.EventUpdatedEvent;
+import de.felixhertweck.seatreservation.email.service.NotificationService;
+import de.felixhertweck.seatreservation.model.entity.CheckInToken;
+import de.felixhertweck.seatreservation.model.entity.Event;
+import de.felixhertweck.seatreservation.model.entity.EventLocation;
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTask;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskStatus;
+import de.felixhertweck.seatreservation.model.entity.ScheduledTaskType;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.CheckInTokenRepository;
+import de.felixhertweck.seatreservation.model.repository.EventLocationRepository;
+import de.felixhertweck.seatreservation.model.repository.EventRepository;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import de.felixhertweck.seatreservation.model.repository.ScheduledTaskRepository;
+import de.felixhertweck.seatreservation.model.repository.SeatRepository;
+import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import de.felixhertweck.seatreservation.utils.CodeGenerator;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs event reminders through the durable task table against a real database: the poller is
+ * disabled in tests and the table is drained explicitly. {@code application-test.yaml} sets {@code
+ * scheduled-tasks.reminder.recipients-per-batch} to 2, so the three attendees here end up in two
+ * batches.
+ */
+@QuarkusTest
+class ScheduledTaskDispatcherTest {
+
+    @Inject ScheduledTaskDispatcher scheduledTaskDispatcher;
+
+    @Inject NotificationService notificationService;
+
+    @Inject ScheduledTaskRepository scheduledTaskRepository;
+    @Inject UserRepository userRepository;
+    @Inject EventLocationRepository eventLocationRepository;
+    @Inject SeatRepository seatRepository;
+    @Inject EventRepository eventRepository;
+    @Inject ReservationRepository reservationRepository;
+    @Inject CheckInTokenRepository checkInTokenRepository;
+
+    private UUID eventId;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        cleanUpDatabase();
+
+        User manager = userRepository.findByUsernameOptional("manager").orElseThrow();
+        EventLocation location = new EventLocation("Task Test Hall", "Test Street 1", manager);
+        eventLocationRepository.persist(location);
+
+        Event event =
+                new Event(
+                        "Task Test Event",
+                        "Description",
+                        Instant.now().plus(1, ChronoUnit.DAYS),
+                        Instant.now().plus(1, ChronoUnit.DAYS).plusSeconds(3600),
+                        Instant.now().minus(1, ChronoUnit.DAYS),
+                        Instant.now().minus(2, ChronoUnit.DAYS),
+                        location,
+                        manager,
+                        Instant.now().minusSeconds(60),
+                        null);
+        eventRepository.persist(event);
+        eventId = event.id;
+
+        int column = 1;
+        for (String username : List.of("user", "admin", "manager")) {
+            User attendee = userRepository.findByUsernameOptional(username).orElseThrow();
+            Seat seat = new Seat("A" + column, location, "A", column, 1, null, null);
+            seatRepository.persist(seat);
+            CheckInToken token =
+                    new CheckInToken(attendee, event, CodeGenerator.generateRandomCode());
+            checkInTokenRepository.persist(token);
+            reservationRepository.persist(
+                    new Reservation(
+                            attendee,
+                            event,
+                            seat,
+                            Instant.now(),
+                            ReservationStatus.RESERVED,
+                            token));
+            column++;
+        }
+    }
+
+    @AfterEach
+    @Transactional
+    void tearDown() {
+        cleanUpDatabase();
+    }
+
+    private void cleanUpDatabase() {
+        scheduledTaskRepository.listAll().forEach(scheduledTaskRepository::delete);
+        reservationRepository.deleteAll();
+        checkInTokenRepository.deleteAll();
+        eventRepository.deleteAll();
+        seatRepository.deleteAll();
+        eventLocationRepository.deleteAll();
+    }
+
+    private UUID createReminderTask(Instant dueAt) {
+        return QuarkusTransaction.requiringNew()
+                .call(
+                        () -> {
+                            ScheduledTask task =
+                                    new ScheduledTask(
+                                            ScheduledTaskType.EVENT_REMINDER,
+                                            eventRepository.findById(eventId),
+                                            dueAt,
+                                            5);
+                            scheduledTaskRepository.persist(task);
+                            return task.id;
+                        });
+    }
+
+    /** Stores a completed reminder with two batches still waiting, as if it was being sent. */
+    private void createPlannedReminder() {
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () -> {
+                            Event event = eventRepository.findById(eventId);
+                            ScheduledTask reminder =
+                                    new ScheduledTask(
+                                            ScheduledTaskType.EVENT_REMINDER,
+                                            event,
+                                            Instant.now().minusSeconds(60),
+                                            5);
+                            reminder.setStatus(ScheduledTaskStatus.DONE);
+                            scheduledTaskRepository.persist(reminder);
+                            for (int i = 0; i < 2; i++) {
+                                ScheduledTask batch =
+                                        new ScheduledTask(
+                                                ScheduledTaskType.EVENT_REMINDER_BATCH,
+                                                event,
+                                                Instant.now().plus(1, ChronoUnit.HOURS),
+                                                5);
+                                batch.setUserIds(List.of(UUID.randomUUID()));
+                                scheduledTaskRepository.persist(batch);
+                            }
+                        });
+    }
+
+    private List<ScheduledTask> tasksOfEvent() {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> scheduledTaskRepository.list("event.id", eventId));
+    }
+
+    @Test
+    void drainQueue_DueReminder_IsSplitIntoBatchesThatAllComplete() {
+        createReminderTask(Instant.now().minusSeconds(1));
+
+        int succeeded = scheduledTaskDispatcher.drainQueue();
+
+        // One planning task plus two batches (2 + 1 recipients).
+        assertEquals(3, succeeded);
+        List<ScheduledTask> tasks = tasksOfEvent();
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.stream().allMatch(t -> t.getStatus() == ScheduledTaskStatus.DONE));
+        List<Integer> batchSizes =
+                tasks.stream()
+                        .filter(t -> t.getType() == ScheduledTaskType.EVENT_REMINDER_BATCH)
+                        .map(t -> t.getUserIds().size())
+                        .sorted()
+                        .toList();
+        assertEquals(List.of(1, 2), batchSizes);
+        assertTrue(
+                QuarkusTransaction.requiringNew()
+                        .call(() -> eventRepository.findById(eventId).isReminderSent()));
+    }
+
+    @Test
+    void drainQueue_ReminderNotDueYet_StaysPending() {
+        UUID taskId = createReminderTask(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        assertEquals(0, scheduledTaskDispatcher.drainQueue());
+
+        List<ScheduledTask> tasks = tasksOfEvent();
+        assertEquals(1, tasks.size());
+        assertEquals(taskId, tasks.get(0).id);
+        assertEquals(ScheduledTaskStatus.PENDING, tasks.get(0).getStatus());
+    }
+
+    @Test
+    void drainQueue_TaskLeftRunningByCrashedInstance_IsRequeuedAndRun() {
+        UUID taskId = createReminderTask(Instant.now().minusSeconds(1));
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () -> {
+                            ScheduledTask task = scheduledTaskRepository.findById(taskId);
+                            task.setStatus(ScheduledTaskStatus.RUNNING);
+                            task.setUpdatedAt(Instant.now().minus(1, ChronoUnit.DAYS));
+                        });
+
+        assertEquals(3, scheduledTaskDispatcher.drainQueue());
+
+        assertTrue(
+                tasksOfEvent().stream().allMatch(t -> t.getStatus() == ScheduledTaskStatus.DONE));
+    }
+
+    @Test
+    void scheduleEventReminder_Reschedule_ReplacesPendingTask() {
+        Instant first = Instant.now().plus(1, ChronoUnit.HOURS);
+        Instant second = Instant.now().plus(2, ChronoUnit.HOURS);
+
+        notificationService.scheduleEventReminder(eventId, first);
+        notificationService.scheduleEventReminder(eventId, second);
+
+        List<ScheduledTask> tasks = tasksOfEvent();
+        assertEquals(1, tasks.size());
+        assertEquals(ScheduledTaskType.EVENT_REMINDER, tasks.get(0).getType());
+        assertEquals(second.truncatedTo(ChronoUnit.MICROS), tasks.get(0).getNextAttemptAt());
+    }
+
+    @Test
+    void onEventUpdated_WhileBatchesPending_KeepsBatches() {
+        createPlannedReminder();
+        Instant newReminderDate = Instant.now().plus(2, ChronoUnit.HOURS);
+
+        notificationService.onEventUpdated(
+                new EventUpdatedEvent(
+                        eventId,
+                        "Renamed Task Test Event",
+                        "Task Test Hall",
+                        "Test Street 1",
+                        Instant.now().plus(1, ChronoUnit.DAYS),
+                        Instant.now().plus(1, ChronoUnit.DAYS).plusSeconds(3600),
+                        newReminderDate));
+
+        List<ScheduledTask> tasks = tasksOfEvent();
+        assertEquals(
+                2,
+                tasks.stream()
+                        .filter(t -> t.getType() == ScheduledTaskType.EVENT_REMINDER_BATCH)
+                        .filter(t -> t.getStatus() == ScheduledTaskStatus.PENDING)
+                        .count());
+        assertTrue(
+                tasks.stream()
+                        .anyMatch(
+                                t ->
+                                        t.getType() == ScheduledTaskType.EVENT_REMINDER
+                                                && t.getStatus() == ScheduledTaskStatus.PENDING
+                                                && t.getNextAttemptAt()
+                                                        .equals(
+                                                                newReminderDate.truncatedTo(
+                                                                        ChronoUnit.MICROS))));
+    }
+
+    @Test
+    void cancelEventReminder_RemovesPendingBatches() {
+        createPlannedReminder();
+
+        notificationService.cancelEventReminder(eventId);
+
+        List<ScheduledTask> tasks = tasksOfEvent();
+        assertEquals(1, tasks.size());
+        assertEquals(ScheduledTaskStatus.DONE, tasks.get(0).getStatus());
+    }
+
+    @Test
+    void cancelEventReminder_RemovesPendingTask() {
+        notificationService.scheduleEventReminder(eventId, Instant.now().plus(1, ChronoUnit.HOURS));
+
+        notificationService.cancelEventReminder(eventId);
+
+        assertTrue(tasksOfEvent().isEmpty());
+    }
+}
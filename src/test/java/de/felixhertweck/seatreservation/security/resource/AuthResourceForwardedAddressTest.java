@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.resource;
+
+import java.util.Map;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import static io.restassured.RestAssured.given;
+
+import de.felixhertweck.seatreservation.security.dto.LoginRequestDTO;
+import de.felixhertweck.seatreservation.security.exceptions.AuthenticationFailedException;
+import de.felixhertweck.seatreservation.security.service.AuthService;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Verifies that behind a trusted reverse proxy (as configured for the docker deployment) the login
+ * lockout is keyed on the forwarded client address rather than the proxy's.
+ */
+@QuarkusTest
+@TestProfile(AuthResourceForwardedAddressTest.TrustedProxyProfile.class)
+class AuthResourceForwardedAddressTest {
+
+    @InjectMock AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(authService);
+        Mockito.when(authService.authenticate(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new AuthenticationFailedException("Invalid credentials"));
+    }
+
+    private void login(String forwardedFor) {
+        LoginRequestDTO loginRequest = new LoginRequestDTO();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("wrongpassword");
+
+        given().contentType(MediaType.APPLICATION_JSON)
+                .header("X-Forwarded-For", forwardedFor)
+                .body(loginRequest)
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(Response.Status.UNAUTHORIZED.getStatusCode());
+    }
+
+    @Test
+    void login_UsesForwardedAddressAsThrottleKey() {
+        login("203.0.113.7");
+        login("198.51.100.23");
+
+        Mockito.verify(authService)
+                .authenticate(
+                        Mockito.eq("testuser"),
+                        Mockito.eq("wrongpassword"),
+                        Mockito.eq("203.0.113.7"));
+        Mockito.verify(authService)
+                .authenticate(
+                        Mockito.eq("testuser"),
+                        Mockito.eq("wrongpassword"),
+                        Mockito.eq("198.51.100.23"));
+    }
+
+    public static class TrustedProxyProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.http.proxy.proxy-address-forwarding", "true",
+                    "quarkus.http.proxy.allow-x-forwarded", "true",
+                    "quarkus.http.proxy.trusted-proxies", "127.0.0.1,0:0:0:0:0:0:0:1");
+        }
+    }
+}
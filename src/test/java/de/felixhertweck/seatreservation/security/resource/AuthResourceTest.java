@@ -101,7 +101,10 @@ public class AuthResourceTest {
         Mockito.when(mockUser.getUsername()).thenReturn(username);
 
         // Mock the authenticate method to return the mock User
-        Mockito.when(authService.authenticate(username, password)).thenReturn(mockUser);
+        Mockito.when(
+                        authService.authenticate(
+                                Mockito.eq(username), Mockito.eq(password), Mockito.any()))
+                .thenReturn(mockUser);
 
         LoginRequestDTO loginRequest = new LoginRequestDTO();
         loginRequest.setUsername(username);
@@ -161,7 +164,10 @@ public class AuthResourceTest {
 
         User mockUser = Mockito.mock(User.class);
         Mockito.when(mockUser.getUsername()).thenReturn(username);
-        Mockito.when(authService.authenticate(username, password)).thenReturn(mockUser);
+        Mockito.when(
+                        authService.authenticate(
+                                Mockito.eq(username), Mockito.eq(password), Mockito.any()))
+                .thenReturn(mockUser);
 
         TwoFactorRequiredDTO requiredDTO =
                 new TwoFactorRequiredDTO(true, "chal-token-abc", true, false);
@@ -194,7 +200,9 @@ public class AuthResourceTest {
         String password = "wrongpassword";
         String errorMessage = String.format("Failed to authenticate user: %s", username);
 
-        Mockito.when(authService.authenticate(username, password))
+        Mockito.when(
+                        authService.authenticate(
+                                Mockito.eq(username), Mockito.eq(password), Mockito.any()))
                 .thenThrow(new AuthenticationFailedException(errorMessage));
 
         LoginRequestDTO loginRequest = new LoginRequestDTO();
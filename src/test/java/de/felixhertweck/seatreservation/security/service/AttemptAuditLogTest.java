@@ -0,0 +1,79 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.util.UUID;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
+import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Runs {@link AttemptAuditLog#flush()} against a real database. */
+@QuarkusTest
+class AttemptAuditLogTest {
+
+    @Inject AttemptAuditLog attemptAuditLog;
+    @Inject LoginAttemptRepository loginAttemptRepository;
+    @Inject UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew()
+                .run(() -> loginAttemptRepository.delete("username like ?1", "audit-test-%"));
+    }
+
+    private long countFor(String username) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> loginAttemptRepository.count("username", username));
+    }
+
+    @Test
+    void testFailingRowDoesNotDropTheRestOfTheBatch() throws InterruptedException {
+        User existing =
+                QuarkusTransaction.requiringNew()
+                        .call(() -> userRepository.findByUsernameOptional("user").orElseThrow());
+        User deleted = new User();
+        deleted.id = UUID.randomUUID();
+        deleted.setUsername("audit-test-deleted");
+
+        attemptAuditLog.recordLogin("audit-test-existing", existing, false);
+        attemptAuditLog.recordLogin(deleted, false);
+        attemptAuditLog.recordLogin("audit-test-unknown", null, false);
+
+        // The scheduled flush may pick the entries up concurrently, so poll until both are visible.
+        for (int i = 0; i < 50
+                        && (countFor("audit-test-existing") == 0
+                                || countFor("audit-test-unknown") == 0); i++) {
+            attemptAuditLog.flush();
+            Thread.sleep(100);
+        }
+
+        assertEquals(1L, countFor("audit-test-existing"));
+        assertEquals(1L, countFor("audit-test-unknown"));
+        assertEquals(0L, countFor("audit-test-deleted"));
+    }
+}
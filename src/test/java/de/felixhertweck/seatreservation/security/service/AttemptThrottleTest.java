@@ -0,0 +1,127 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class AttemptThrottleTest {
+
+    private static final AttemptThrottle.Policy POLICY =
+            new AttemptThrottle.Policy(
+                    "test",
+                    List.of(
+                            new AttemptThrottle.Tier(
+                                    2, Duration.ofMinutes(5), Duration.ofSeconds(30)),
+                            new AttemptThrottle.Tier(
+                                    4, Duration.ofMinutes(10), Duration.ofHours(1))));
+
+    @Inject AttemptThrottle attemptThrottle;
+
+    @Inject RedisDataSource redisDataSource;
+
+    private final String subject = UUID.randomUUID().toString();
+
+    private void recordFailures(int times) {
+        for (int i = 0; i < times; i++) {
+            attemptThrottle.recordFailure(POLICY, subject);
+        }
+    }
+
+    @Test
+    void lockedUntil_BelowAllTiers_IsEmpty() {
+        assertTrue(attemptThrottle.lockedUntil(POLICY, subject).isEmpty());
+
+        recordFailures(1);
+
+        assertTrue(attemptThrottle.lockedUntil(POLICY, subject).isEmpty());
+    }
+
+    @Test
+    void lockedUntil_TierReached_LocksUntilOldestFailurePlusLockout() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        recordFailures(2);
+
+        Optional<Instant> lockedUntil = attemptThrottle.lockedUntil(POLICY, subject);
+
+        assertTrue(lockedUntil.isPresent());
+        assertFalse(lockedUntil.get().isBefore(before.plusSeconds(30)));
+        assertTrue(lockedUntil.get().isBefore(Instant.now().plusSeconds(31)));
+    }
+
+    @Test
+    void lockedUntil_StrictestTierWins() {
+        recordFailures(4);
+
+        Instant lockedUntil = attemptThrottle.lockedUntil(POLICY, subject).orElseThrow();
+
+        assertTrue(lockedUntil.isAfter(Instant.now().plus(Duration.ofMinutes(59))));
+    }
+
+    @Test
+    void lockedUntil_FailuresOutsideWindowDoNotCount() throws InterruptedException {
+        AttemptThrottle.Policy shortWindow =
+                new AttemptThrottle.Policy(
+                        "test-short",
+                        List.of(
+                                new AttemptThrottle.Tier(
+                                        2, Duration.ofMillis(200), Duration.ofSeconds(30))));
+        attemptThrottle.recordFailure(shortWindow, subject);
+        attemptThrottle.recordFailure(shortWindow, subject);
+        assertTrue(attemptThrottle.lockedUntil(shortWindow, subject).isPresent());
+
+        Thread.sleep(300);
+
+        assertTrue(attemptThrottle.lockedUntil(shortWindow, subject).isEmpty());
+    }
+
+    @Test
+    void lockedUntil_PoliciesAndSubjectsAreIndependent() {
+        recordFailures(2);
+
+        AttemptThrottle.Policy other = new AttemptThrottle.Policy("test-other", POLICY.tiers());
+        assertTrue(attemptThrottle.lockedUntil(other, subject).isEmpty());
+        assertTrue(attemptThrottle.lockedUntil(POLICY, UUID.randomUUID().toString()).isEmpty());
+    }
+
+    @Test
+    void recordFailure_KeepsOnlyNewestFailuresTheLargestTierNeeds() {
+        recordFailures(10);
+
+        String key = AttemptThrottle.key(POLICY, subject);
+        assertEquals(4, redisDataSource.sortedSet(String.class).zcard(key));
+        long ttl = redisDataSource.key(String.class).pttl(key);
+        assertTrue(ttl > 0 && ttl <= Duration.ofMinutes(10).toMillis());
+    }
+}
@@ -46,7 +46,6 @@ import de.felixhertweck.seatreservation.common.exception.RegistrationDisabledExc
 import de.felixhertweck.seatreservation.email.service.EmailService;
 import de.felixhertweck.seatreservation.model.entity.PasswordResetToken;
 import de.felixhertweck.seatreservation.model.entity.User;
-import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.PasswordResetTokenRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.security.dto.PasswordResetConfirmDTO;
@@ -70,7 +69,9 @@ public class AuthServiceTest {
 
     @InjectMock TokenService tokenService;
 
-    @InjectMock LoginAttemptRepository loginAttemptRepository;
+    @InjectMock AttemptThrottle attemptThrottle;
+
+    @InjectMock AttemptAuditLog attemptAuditLog;
 
     @InjectMock PasswordResetTokenRepository passwordResetTokenRepository;
 
@@ -85,22 +86,20 @@ public class AuthServiceTest {
         Mockito.reset(
                 userRepository,
                 tokenService,
-                loginAttemptRepository,
+                attemptThrottle,
+                attemptAuditLog,
                 passwordResetTokenRepository,
                 emailService,
                 emailCooldownService);
         authService = new AuthService();
         authService.userRepository = userRepository;
-        authService.loginAttemptRepository = loginAttemptRepository;
+        authService.attemptThrottle = attemptThrottle;
+        authService.attemptAuditLog = attemptAuditLog;
         authService.passwordResetTokenRepository = passwordResetTokenRepository;
         authService.emailService = emailService;
         authService.tokenService = tokenService;
         authService.emailCooldownService = emailCooldownService;
         authService.init();
-
-        // Mock loginAttemptRepository to return 0 failed attempts by default
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
-                .thenReturn(0L);
     }
 
     @Test
@@ -117,7 +116,7 @@ public class AuthServiceTest {
 
         when(userRepository.findByUsername(username)).thenReturn(user);
 
-        User authenticatedUser = authService.authenticate(username, password);
+        User authenticatedUser = authService.authenticate(username, password, null);
 
         assertNotNull(authenticatedUser);
         assertEquals(username, authenticatedUser.getUsername());
@@ -133,7 +132,7 @@ public class AuthServiceTest {
         AuthenticationFailedException thrown =
                 assertThrows(
                         AuthenticationFailedException.class,
-                        () -> authService.authenticate(username, password),
+                        () -> authService.authenticate(username, password, null),
                         "Expected AuthenticationFailedException for user not found");
 
         assertTrue(thrown.getMessage().contains("Failed to authenticate user: " + username));
@@ -157,7 +156,7 @@ public class AuthServiceTest {
         AuthenticationFailedException thrown =
                 assertThrows(
                         AuthenticationFailedException.class,
-                        () -> authService.authenticate(username, wrongPassword),
+                        () -> authService.authenticate(username, wrongPassword, null),
                         "Expected AuthenticationFailedException for wrong password");
 
         assertTrue(thrown.getMessage().contains("Failed to authenticate user: " + username));
@@ -180,7 +179,7 @@ public class AuthServiceTest {
         AuthenticationFailedException thrown =
                 assertThrows(
                         AuthenticationFailedException.class,
-                        () -> authService.authenticate(username, password),
+                        () -> authService.authenticate(username, password, null),
                         "Expected AuthenticationFailedException for empty password");
 
         assertTrue(thrown.getMessage().contains("Failed to authenticate user: " + username));
@@ -202,7 +201,7 @@ public class AuthServiceTest {
         // Should throw RuntimeException when BcryptUtil fails to parse invalid hash
         assertThrows(
                 RuntimeException.class,
-                () -> authService.authenticate(username, password),
+                () -> authService.authenticate(username, password, null),
                 "Expected RuntimeException for invalid hash format");
     }
 
@@ -220,7 +219,7 @@ public class AuthServiceTest {
 
         when(userRepository.findByUsername(username)).thenReturn(user);
 
-        User authenticatedUser = authService.authenticate(username, password);
+        User authenticatedUser = authService.authenticate(username, password, null);
 
         assertNotNull(authenticatedUser);
         assertEquals(username, authenticatedUser.getUsername());
@@ -19,20 +19,24 @@
  */
 package de.felixhertweck.seatreservation.security.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.felixhertweck.seatreservation.model.entity.User;
-import de.felixhertweck.seatreservation.model.repository.LoginAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
 import de.felixhertweck.seatreservation.security.exceptions.AccountLockedException;
 import de.felixhertweck.seatreservation.security.exceptions.AuthenticationFailedException;
@@ -41,166 +45,179 @@ import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
 
 @QuarkusTest
 public class LoginRateLimitingTest {
 
+    private static final String CLIENT = "203.0.113.7";
+
     @InjectMock UserRepository userRepository;
 
-    @InjectMock LoginAttemptRepository loginAttemptRepository;
+    @InjectMock AttemptThrottle attemptThrottle;
+
+    @InjectMock AttemptAuditLog attemptAuditLog;
 
     AuthService authService;
 
     @BeforeEach
     void setUp() {
-        Mockito.reset(userRepository, loginAttemptRepository);
+        Mockito.reset(userRepository, attemptThrottle, attemptAuditLog);
         authService = new AuthService();
         authService.userRepository = userRepository;
-        authService.loginAttemptRepository = loginAttemptRepository;
+        authService.attemptThrottle = attemptThrottle;
+        authService.attemptAuditLog = attemptAuditLog;
+        authService.clientMaxFailures = 100;
+        authService.clientWindow = Duration.ofMinutes(15);
         authService.init();
     }
 
-    @Test
-    void testSuccessfulLoginRecordsAttempt() throws AuthenticationFailedException {
-        String username = "testuser";
-        String password = "testpassword";
-        String salt = "randomSalt";
-        String passwordHash = BcryptUtil.bcryptHash(password + salt);
+    private static ArgumentMatcher<AttemptThrottle.Policy> policy(String name) {
+        return p -> p != null && p.name().equals(name);
+    }
 
+    private static User userWithPassword(String username, String password) {
+        String salt = "randomSalt";
         User user = new User();
         user.setUsername(username);
-        user.setPasswordHash(passwordHash);
+        user.setPasswordHash(BcryptUtil.bcryptHash(password + salt));
         user.setPasswordSalt(salt);
+        return user;
+    }
 
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
-                .thenReturn(0L);
-        when(userRepository.findByUsername(username)).thenReturn(user);
+    @Test
+    void testSuccessfulLoginRecordsAttempt() throws AuthenticationFailedException {
+        User user = userWithPassword("testuser", "testpassword");
+        when(userRepository.findByUsername("testuser")).thenReturn(user);
 
-        User authenticatedUser = authService.authenticate(username, password);
+        User authenticatedUser = authService.authenticate("testuser", "testpassword", CLIENT);
 
         assertNotNull(authenticatedUser);
-        assertEquals(username, authenticatedUser.getUsername());
-        verify(loginAttemptRepository, times(1)).recordAttempt(any(User.class), Mockito.eq(true));
+        assertEquals("testuser", authenticatedUser.getUsername());
+        verify(attemptAuditLog, times(1)).recordLogin(user, true);
+        verify(attemptThrottle, never()).recordFailure(any(), anyString());
     }
 
     @Test
     void testFailedLoginRecordsAttempt() {
-        String username = "testuser";
-        String correctPassword = "correctpassword";
-        String wrongPassword = "wrongpassword";
-        String salt = "randomSalt";
-        String passwordHash = BcryptUtil.bcryptHash(correctPassword + salt);
-
-        User user = new User();
-        user.setUsername(username);
-        user.setPasswordHash(passwordHash);
-        user.setPasswordSalt(salt);
-
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
-                .thenReturn(0L);
-        when(userRepository.findByUsername(username)).thenReturn(user);
+        User user = userWithPassword("testuser", "correctpassword");
+        when(userRepository.findByUsername("testuser")).thenReturn(user);
 
         assertThrows(
                 AuthenticationFailedException.class,
-                () -> authService.authenticate(username, wrongPassword));
+                () -> authService.authenticate("testuser", "wrongpassword", CLIENT));
 
-        verify(loginAttemptRepository, times(1)).recordAttempt(any(User.class), Mockito.eq(false));
+        verify(attemptAuditLog, times(1)).recordLogin(user, false);
+        verify(attemptThrottle).recordFailure(argThat(policy("login-user")), eq("testuser"));
+        verify(attemptThrottle).recordFailure(argThat(policy("login-client")), eq(CLIENT));
     }
 
     @Test
     void testNoLockoutBelowTier1() throws AuthenticationFailedException {
-        String username = "testuser";
-        String password = "testpassword";
-        String salt = "randomSalt";
-        String passwordHash = BcryptUtil.bcryptHash(password + salt);
+        User user = userWithPassword("testuser", "testpassword");
+        when(userRepository.findByUsername("testuser")).thenReturn(user);
+        when(attemptThrottle.lockedUntil(any(), anyString())).thenReturn(Optional.empty());
 
-        User user = new User();
-        user.setUsername(username);
-        user.setPasswordHash(passwordHash);
-        user.setPasswordSalt(salt);
+        assertNotNull(authService.authenticate("testuser", "testpassword", CLIENT));
+    }
 
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
-                .thenReturn(2L);
-        when(userRepository.findByUsername(username)).thenReturn(user);
+    @Test
+    void testLockedAccountIsRejectedBeforePasswordCheck() {
+        Instant retryAfter = Instant.now().plusSeconds(30);
+        when(attemptThrottle.lockedUntil(argThat(policy("login-user")), eq("testuser")))
+                .thenReturn(Optional.of(retryAfter));
 
-        User authenticatedUser = authService.authenticate(username, password);
+        AccountLockedException thrown =
+                assertThrows(
+                        AccountLockedException.class,
+                        () -> authService.authenticate("testuser", "anypassword", CLIENT));
 
-        assertNotNull(authenticatedUser);
+        assertEquals(retryAfter, thrown.getRetryAfter());
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(attemptThrottle, never()).recordFailure(any(), anyString());
     }
 
     @Test
-    void testTier1LockoutAt3Attempts() {
-        String username = "testuser";
-        String password = "anypassword";
-
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
+    void testAccountLockoutTiers() {
+        AttemptThrottle.Policy[] captured = new AttemptThrottle.Policy[1];
+        when(attemptThrottle.lockedUntil(argThat(policy("login-user")), eq("testuser")))
                 .thenAnswer(
                         invocation -> {
-                            Instant windowStart = invocation.getArgument(1);
-                            Instant now = Instant.now();
-                            // 15 minute window check returns 3 attempts
-                            if (windowStart.isAfter(now.minusSeconds(16 * 60))) {
-                                return 3L;
-                            }
-                            return 0L;
+                            captured[0] = invocation.getArgument(0);
+                            return Optional.empty();
                         });
+        when(userRepository.findByUsername("testuser")).thenReturn(null);
+
+        assertThrows(
+                AuthenticationFailedException.class,
+                () -> authService.authenticate("testuser", "anypassword", null));
+
+        // Same tiers as before the counters moved to Redis: 3/5 failures in 15 minutes lock for
+        // 30 seconds/2 minutes, 10 in an hour for 15 minutes, 15 in a day for an hour.
+        AttemptThrottle.Tier tier1 = captured[0].tiers().get(0);
+        assertEquals(3, tier1.attempts());
+        assertEquals(Duration.ofMinutes(15), tier1.window());
+        assertEquals(Duration.ofSeconds(30), tier1.lockoutDuration());
+        assertEquals(4, captured[0].tiers().size());
+        assertEquals(Duration.ofHours(24), captured[0].retention());
+        assertEquals(15, captured[0].maxTracked());
+    }
+
+    @Test
+    void testClientLockoutAppliesAcrossUsernames() {
+        Instant retryAfter = Instant.now().plus(Duration.ofMinutes(10));
+        when(attemptThrottle.lockedUntil(argThat(policy("login-client")), eq(CLIENT)))
+                .thenReturn(Optional.of(retryAfter));
 
         AccountLockedException thrown =
                 assertThrows(
                         AccountLockedException.class,
-                        () -> authService.authenticate(username, password));
+                        () -> authService.authenticate("someoneelse", "anypassword", CLIENT));
 
-        assertNotNull(thrown.getRetryAfter());
-        assertTrue(thrown.getRetryAfter().isAfter(Instant.now()));
-        assertTrue(
-                thrown.getRetryAfter().isBefore(Instant.now().plusSeconds(35)),
-                "Tier 1 lockout should be around 30s");
+        assertEquals(retryAfter, thrown.getRetryAfter());
     }
 
     @Test
-    void testTier2LockoutAt5AttemptsOverrulesTier1() {
-        String username = "testuser";
-        String password = "anypassword";
-
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
-                .thenAnswer(
-                        invocation -> {
-                            Instant windowStart = invocation.getArgument(1);
-                            Instant now = Instant.now();
-                            if (windowStart.isAfter(now.minusSeconds(16 * 60))) {
-                                return 5L;
-                            }
-                            return 0L;
-                        });
+    void testStricterOfAccountAndClientLockoutWins() {
+        Instant accountRetryAfter = Instant.now().plusSeconds(30);
+        Instant clientRetryAfter = Instant.now().plus(Duration.ofMinutes(10));
+        when(attemptThrottle.lockedUntil(argThat(policy("login-user")), eq("testuser")))
+                .thenReturn(Optional.of(accountRetryAfter));
+        when(attemptThrottle.lockedUntil(argThat(policy("login-client")), eq(CLIENT)))
+                .thenReturn(Optional.of(clientRetryAfter));
 
         AccountLockedException thrown =
                 assertThrows(
                         AccountLockedException.class,
-                        () -> authService.authenticate(username, password));
-
-        assertNotNull(thrown.getRetryAfter());
-        assertTrue(
-                thrown.getRetryAfter().isAfter(Instant.now().plusSeconds(30)),
-                "Tier 2 duration (2m) should exceed Tier 1 (30s)");
-        assertTrue(
-                thrown.getRetryAfter().isBefore(Instant.now().plusSeconds(125)),
-                "Tier 2 duration should be within 2 minutes");
+                        () -> authService.authenticate("testuser", "anypassword", CLIENT));
+
+        assertEquals(clientRetryAfter, thrown.getRetryAfter());
     }
 
     @Test
-    void testNonExistentUserRecordsFailedAttempt() {
-        String username = "nonexistentuser";
-        String password = "anypassword";
+    void testClientLockoutDisabled() {
+        authService.clientMaxFailures = 0;
+        when(userRepository.findByUsername("testuser")).thenReturn(null);
 
-        when(loginAttemptRepository.countFailedAttempts(anyString(), any(Instant.class)))
-                .thenReturn(0L);
-        when(userRepository.findByUsername(username)).thenReturn(null);
+        assertThrows(
+                AuthenticationFailedException.class,
+                () -> authService.authenticate("testuser", "anypassword", CLIENT));
+
+        verify(attemptThrottle, never()).lockedUntil(argThat(policy("login-client")), anyString());
+        verify(attemptThrottle, never())
+                .recordFailure(argThat(policy("login-client")), anyString());
+    }
+
+    @Test
+    void testNonExistentUserRecordsFailedAttempt() {
+        when(userRepository.findByUsername("nonexistentuser")).thenReturn(null);
 
         assertThrows(
                 AuthenticationFailedException.class,
-                () -> authService.authenticate(username, password));
+                () -> authService.authenticate("nonexistentuser", "anypassword", null));
 
-        verify(loginAttemptRepository, times(1)).recordAttempt(username, false);
+        verify(attemptAuditLog, times(1)).recordLogin(eq("nonexistentuser"), isNull(), eq(false));
+        verify(attemptThrottle).recordFailure(argThat(policy("login-user")), eq("nonexistentuser"));
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.security.service;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.elytron.security.common.BcryptUtil;
+import org.junit.jupiter.api.Test;
+
+class RefreshTokenHasherTest {
+
+    private static byte[] key(int fill) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) fill);
+        return key;
+    }
+
+    @Test
+    void digest_IsDeterministicHexPerKey() {
+        RefreshTokenHasher hasher = new RefreshTokenHasher(key(1));
+
+        String digest = hasher.digest("token-value");
+
+        assertEquals(64, digest.length());
+        assertTrue(digest.matches("[0-9a-f]+"));
+        assertEquals(digest, hasher.digest("token-value"));
+        assertNotEquals(digest, hasher.digest("other-value"));
+        assertNotEquals(digest, new RefreshTokenHasher(key(2)).digest("token-value"));
+    }
+
+    @Test
+    void matches_ComparesAgainstStoredDigest() {
+        RefreshTokenHasher hasher = new RefreshTokenHasher(key(1));
+        String stored = hasher.digest("token-value");
+
+        assertTrue(hasher.matches("token-value", stored));
+        assertFalse(hasher.matches("other-value", stored));
+        assertFalse(hasher.matches("token-value", null));
+    }
+
+    @Test
+    void isLegacyBcrypt_DetectsBcryptHashesOnly() {
+        RefreshTokenHasher hasher = new RefreshTokenHasher(key(1));
+
+        assertTrue(hasher.isLegacyBcrypt(BcryptUtil.bcryptHash("token-value")));
+        assertFalse(hasher.isLegacyBcrypt(hasher.digest("token-value")));
+        assertFalse(hasher.isLegacyBcrypt(null));
+    }
+}
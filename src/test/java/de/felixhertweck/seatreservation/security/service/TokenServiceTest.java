@@ -67,6 +67,8 @@ public class TokenServiceTest {
 
     @Inject RefreshTokenRepository refreshTokenRepository;
 
+    @Inject RefreshTokenHasher refreshTokenHasher;
+
     @Inject UserRepository userRepository;
 
     @InjectMock JWTParser jwtParser;
@@ -365,6 +367,65 @@ public class TokenServiceTest {
         assertEquals(testUser.id, validatedUser.id);
     }
 
+    @Test
+    @Transactional
+    void testValidateRefreshToken_StoresAndFindsDigest() throws Exception {
+        String refreshTokenJwt = tokenService.generateRefreshToken(testUser);
+        RefreshToken storedToken = refreshTokenRepository.listAll().get(0);
+        storedToken.setTokenHash(refreshTokenHasher.digest("valid-token-value"));
+
+        JsonWebToken mockJwt = mock(JsonWebToken.class);
+        when(mockJwt.getClaim("token_id")).thenReturn(storedToken.id.toString());
+        when(mockJwt.getClaim("token_value")).thenReturn("valid-token-value");
+        when(jwtParser.parse(refreshTokenJwt)).thenReturn(mockJwt);
+
+        User validatedUser = tokenService.validateRefreshToken(refreshTokenJwt);
+
+        assertEquals(testUser.id, validatedUser.id);
+        assertEquals(64, storedToken.getTokenHash().length());
+    }
+
+    @Test
+    @Transactional
+    void testValidateRefreshToken_DigestOfOtherTokenId() throws Exception {
+        String refreshTokenJwt = tokenService.generateRefreshToken(testUser);
+        RefreshToken storedToken = refreshTokenRepository.listAll().get(0);
+        storedToken.setTokenHash(refreshTokenHasher.digest("valid-token-value"));
+
+        // Right value, but the JWT names a different token
+        JsonWebToken mockJwt = mock(JsonWebToken.class);
+        when(mockJwt.getClaim("token_id")).thenReturn(id(999999).toString());
+        when(mockJwt.getClaim("token_value")).thenReturn("valid-token-value");
+        when(jwtParser.parse(refreshTokenJwt)).thenReturn(mockJwt);
+
+        assertThrows(
+                JwtInvalidException.class,
+                () -> tokenService.validateRefreshToken(refreshTokenJwt));
+    }
+
+    @Test
+    @Transactional
+    void testValidateRefreshToken_UpgradesLegacyBcryptHash() throws Exception {
+        RefreshToken storedToken = createTestRefreshToken("legacy-token-value", testUser);
+        String fakeJwt = "legacy.jwt.token";
+        JsonWebToken mockJwt = mock(JsonWebToken.class);
+        when(mockJwt.getClaim("token_id")).thenReturn(storedToken.id.toString());
+        when(mockJwt.getClaim("token_value")).thenReturn("legacy-token-value");
+        when(jwtParser.parse(fakeJwt)).thenReturn(mockJwt);
+
+        assertEquals(testUser.id, tokenService.validateRefreshToken(fakeJwt).id);
+
+        // The bcrypt hash was replaced, so the next refresh goes through the digest lookup
+        RefreshToken upgraded =
+                refreshTokenRepository
+                        .findByTokenHash(refreshTokenHasher.digest("legacy-token-value"))
+                        .orElseThrow();
+        assertEquals(storedToken.id, upgraded.id);
+        // The upgrade is a bulk update, so drop the stale entity before validating again
+        refreshTokenRepository.getEntityManager().clear();
+        assertEquals(testUser.id, tokenService.validateRefreshToken(fakeJwt).id);
+    }
+
     @Test
     @Transactional
     void testValidateRefreshToken_ExpiredToken() throws Exception {
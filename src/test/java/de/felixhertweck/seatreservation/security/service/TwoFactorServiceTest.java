@@ -44,7 +44,6 @@ import de.felixhertweck.seatreservation.model.entity.TwoFactorBackupCode;
 import de.felixhertweck.seatreservation.model.entity.TwoFactorChallenge;
 import de.felixhertweck.seatreservation.model.entity.TwoFactorMethod;
 import de.felixhertweck.seatreservation.model.entity.User;
-import de.felixhertweck.seatreservation.model.repository.TwoFactorAttemptRepository;
 import de.felixhertweck.seatreservation.model.repository.TwoFactorBackupCodeRepository;
 import de.felixhertweck.seatreservation.model.repository.TwoFactorChallengeRepository;
 import de.felixhertweck.seatreservation.model.repository.UserRepository;
@@ -67,7 +66,8 @@ public class TwoFactorServiceTest {
     @InjectMock UserRepository userRepository;
     @InjectMock TwoFactorBackupCodeRepository backupCodeRepository;
     @InjectMock TwoFactorChallengeRepository challengeRepository;
-    @InjectMock TwoFactorAttemptRepository twoFactorAttemptRepository;
+    @InjectMock AttemptThrottle attemptThrottle;
+    @InjectMock AttemptAuditLog attemptAuditLog;
     @InjectMock EmailService emailService;
     @InjectMock EmailCooldownService emailCooldownService;
 
@@ -79,14 +79,16 @@ public class TwoFactorServiceTest {
                 userRepository,
                 backupCodeRepository,
                 challengeRepository,
-                twoFactorAttemptRepository,
+                attemptThrottle,
+                attemptAuditLog,
                 emailService,
                 emailCooldownService);
         twoFactorService = new TwoFactorService();
         twoFactorService.userRepository = userRepository;
         twoFactorService.backupCodeRepository = backupCodeRepository;
         twoFactorService.challengeRepository = challengeRepository;
-        twoFactorService.twoFactorAttemptRepository = twoFactorAttemptRepository;
+        twoFactorService.attemptThrottle = attemptThrottle;
+        twoFactorService.attemptAuditLog = attemptAuditLog;
         twoFactorService.emailService = emailService;
         twoFactorService.emailCooldownService = emailCooldownService;
         twoFactorService.maxFailedAttempts = 5;
@@ -223,12 +225,13 @@ public class TwoFactorServiceTest {
         assertTrue(user.isTwoFactorEnabled());
         assertTrue(user.isTotpEnabled());
         verify(userRepository, times(1)).persist(user);
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, true);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, true);
     }
 
     @Test
     void testEnableTwoFactor_TotpInvalidCode_RecordsFailedAttempt() {
         User user = new User();
+        user.id = UUID.randomUUID();
         user.setUsername("totpuser");
         String secret = TwoFactorService.encodeBase32(TOTP_SECRET_BYTES);
         user.setTotpSecret(secret);
@@ -240,7 +243,10 @@ public class TwoFactorServiceTest {
 
         assertTrue(result.isEmpty());
         assertFalse(user.isTotpEnabled());
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, false);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, false);
+        verify(attemptThrottle, times(1))
+                .recordFailure(
+                        Mockito.argThat(p -> p.name().equals("2fa")), eq(user.id.toString()));
     }
 
     @Test
@@ -250,8 +256,8 @@ public class TwoFactorServiceTest {
         String secret = TwoFactorService.encodeBase32(TOTP_SECRET_BYTES);
         user.setTotpSecret(secret);
 
-        when(twoFactorAttemptRepository.countFailedAttempts(eq(user), any(Instant.class)))
-                .thenReturn(5L);
+        when(attemptThrottle.lockedUntil(any(), eq(String.valueOf(user.id))))
+                .thenReturn(Optional.of(Instant.now().plusSeconds(300)));
 
         // Guessing codes against a freshly-provisioned-but-not-yet-enabled secret is just as much
         // a brute-force surface as the login challenge or the disable/email-change path, so it
@@ -450,8 +456,8 @@ public class TwoFactorServiceTest {
         user.setTotpEnabled(true);
         user.setTotpSecret("JBSWY3DPEHPK3PXP");
 
-        when(twoFactorAttemptRepository.countFailedAttempts(eq(user), any(Instant.class)))
-                .thenReturn(5L);
+        when(attemptThrottle.lockedUntil(any(), eq(String.valueOf(user.id))))
+                .thenReturn(Optional.of(Instant.now().plusSeconds(300)));
 
         // Guards both the /2fa/disable and email-change flows -- a hijacked session must not be
         // able to brute-force the current TOTP code just because the login-challenge path is
@@ -473,7 +479,7 @@ public class TwoFactorServiceTest {
         boolean result = twoFactorService.verifyCurrentTwoFactorCode(user, validCode);
 
         assertTrue(result);
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, true);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, true);
     }
 
     @Test
@@ -526,7 +532,7 @@ public class TwoFactorServiceTest {
         assertEquals(8, dto.backupCodes().size());
         verify(backupCodeRepository, times(1)).deleteByUser(user);
         verify(backupCodeRepository, times(8)).persist(any(TwoFactorBackupCode.class));
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, true);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, true);
     }
 
     @Test
@@ -547,7 +553,7 @@ public class TwoFactorServiceTest {
                 () -> twoFactorService.regenerateBackupCodes(user, "000000"));
 
         verify(backupCodeRepository, never()).deleteByUser(user);
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, false);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, false);
     }
 
     @Test
@@ -558,8 +564,8 @@ public class TwoFactorServiceTest {
         user.setTotpEnabled(true);
         user.setTotpSecret("JBSWY3DPEHPK3PXP");
 
-        when(twoFactorAttemptRepository.countFailedAttempts(eq(user), any(Instant.class)))
-                .thenReturn(5L);
+        when(attemptThrottle.lockedUntil(any(), eq(String.valueOf(user.id))))
+                .thenReturn(Optional.of(Instant.now().plusSeconds(300)));
 
         assertThrows(
                 AccountLockedException.class,
@@ -671,7 +677,7 @@ public class TwoFactorServiceTest {
         assertEquals("emailuser", opt.get().getUsername());
         assertTrue(challenge.isUsed());
         verify(challengeRepository, times(1)).persist(challenge);
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, true);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, true);
     }
 
     @Test
@@ -714,7 +720,7 @@ public class TwoFactorServiceTest {
         Optional<User> opt = twoFactorService.verifyChallengeAndGetUser("token123", "123456");
 
         assertTrue(opt.isEmpty());
-        verify(twoFactorAttemptRepository, never()).recordAttempt(any(), any(Boolean.class));
+        verify(attemptAuditLog, never()).recordTwoFactor(any(), any(Boolean.class));
     }
 
     @Test
@@ -813,7 +819,7 @@ public class TwoFactorServiceTest {
         assertTrue(opt.isEmpty());
         assertFalse(challenge.isUsed());
         verify(challengeRepository, never()).persist(challenge);
-        verify(twoFactorAttemptRepository, times(1)).recordAttempt(user, false);
+        verify(attemptAuditLog, times(1)).recordTwoFactor(user, false);
     }
 
     @Test
@@ -828,8 +834,8 @@ public class TwoFactorServiceTest {
 
         when(challengeRepository.findByChallengeToken("token123"))
                 .thenReturn(Optional.of(challenge));
-        when(twoFactorAttemptRepository.countFailedAttempts(eq(user), any(Instant.class)))
-                .thenReturn(5L);
+        when(attemptThrottle.lockedUntil(any(), eq(String.valueOf(user.id))))
+                .thenReturn(Optional.of(Instant.now().plusSeconds(300)));
 
         assertThrows(
                 AccountLockedException.class,
@@ -837,7 +843,7 @@ public class TwoFactorServiceTest {
 
         // Locked out before ever attempting to verify the code or consume a backup code.
         verify(backupCodeRepository, never()).findUnusedByUser(user);
-        verify(twoFactorAttemptRepository, never()).recordAttempt(any(), any(Boolean.class));
+        verify(attemptAuditLog, never()).recordTwoFactor(any(), any(Boolean.class));
     }
 
     @Test
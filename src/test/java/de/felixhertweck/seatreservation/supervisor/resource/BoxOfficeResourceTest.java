@@ -22,7 +22,6 @@ package de.felixhertweck.seatreservation.supervisor.resource;
 import static de.felixhertweck.seatreservation.testutil.TestIds.id;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -124,10 +123,11 @@ class BoxOfficeResourceTest {
 
         when(seatRepository.findByIds(Set.of(id(1)).stream().toList())).thenReturn(List.of(seat));
 
-        when(reservationRepository.findByEventIdAndSeatIds(eq(id(10)), anyList()))
-                .thenReturn(Collections.emptyList());
-        when(reservationRepository.findByEventIdAndSeatIds(eq(id(11)), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
+                        inv ->
+                                new ReservationRepository.InsertResult(
+                                        inv.getArgument(0), Set.of()));
 
         when(emailService.sendBoxOfficeConfirmation(
                         any(User.class), anyList(), any(), any(), anyBoolean()))
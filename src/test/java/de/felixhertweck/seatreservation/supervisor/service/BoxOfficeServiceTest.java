@@ -22,7 +22,6 @@ package de.felixhertweck.seatreservation.supervisor.service;
 import static de.felixhertweck.seatreservation.testutil.TestIds.id;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -130,8 +129,11 @@ class BoxOfficeServiceTest {
 
         when(seatRepository.findByIds(Set.of(SEAT_ID).stream().toList())).thenReturn(List.of(seat));
 
-        when(reservationRepository.findByEventIdAndSeatIds(eq(EVENT_ID), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(reservationRepository.insertAll(anyList()))
+                .thenAnswer(
+                        inv ->
+                                new ReservationRepository.InsertResult(
+                                        inv.getArgument(0), Set.of()));
         when(userRepository.findByIdOptional(TARGET_USER_ID)).thenReturn(Optional.of(targetUser));
         when(userRepository.findById(SUPERVISOR_ID)).thenReturn(null);
         when(userRepository.findByUsername("boxoffice")).thenReturn(boxofficeUser);
@@ -191,7 +193,7 @@ class BoxOfficeServiceTest {
                 () ->
                         boxOfficeService.reserveForKnownUser(
                                 knownUserRequest(false), supervisorAuth()));
-        verify(reservationRepository, never()).persistAll(anyList());
+        verify(reservationRepository, never()).insertAll(anyList());
     }
 
     @Test
@@ -213,22 +215,21 @@ class BoxOfficeServiceTest {
         assertThrows(
                 AccessDeniedException.class,
                 () -> boxOfficeService.reserveForKnownUser(knownUserRequest(false), unrelated));
-        verify(reservationRepository, never()).persistAll(anyList());
+        verify(reservationRepository, never()).insertAll(anyList());
     }
 
     @Test
     void reserveForKnownUser_seatAlreadyReserved_throwsIllegalStateException() {
-        Reservation existing = new Reservation();
-        existing.setSeat(seat);
-        when(reservationRepository.findByEventIdAndSeatIds(eq(EVENT_ID), anyList()))
-                .thenReturn(List.of(existing));
+        when(reservationRepository.insertAll(anyList()))
+                .thenReturn(new ReservationRepository.InsertResult(List.of(), Set.of(SEAT_ID)));
 
         assertThrows(
                 ValidationException.class,
                 () ->
                         boxOfficeService.reserveForKnownUser(
                                 knownUserRequest(false), supervisorAuth()));
-        verify(reservationRepository, never()).persistAll(anyList());
+        verify(emailService, never())
+                .sendBoxOfficeConfirmation(any(User.class), anyList(), any(), any(), anyBoolean());
     }
 
     @Test
@@ -242,7 +243,7 @@ class BoxOfficeServiceTest {
         assertThrows(
                 ValidationException.class,
                 () -> boxOfficeService.reserveForKnownUser(dto, supervisorAuth()));
-        verify(reservationRepository, never()).persistAll(anyList());
+        verify(reservationRepository, never()).insertAll(anyList());
     }
 
     @Test
@@ -255,7 +256,7 @@ class BoxOfficeServiceTest {
         assertEquals(ReservationLiveStatus.CHECKED_IN, result.seats().getFirst().liveStatus());
         assertEquals("<html>display</html>", result.confirmationHtml());
 
-        verify(reservationRepository, times(1)).persistAll(anyList());
+        verify(reservationRepository, times(1)).insertAll(anyList());
         // checkedIn=true at creation time -> no QR code needed, nothing left to scan.
         verify(emailService, times(1))
                 .sendBoxOfficeConfirmation(
@@ -283,7 +284,7 @@ class BoxOfficeServiceTest {
                 () ->
                         boxOfficeService.reserveForGuest(
                                 guestRequest("guest@example.com", false), supervisorAuth()));
-        verify(reservationRepository, never()).persistAll(anyList());
+        verify(reservationRepository, never()).insertAll(anyList());
     }
 
     @Test
@@ -357,17 +358,16 @@ class BoxOfficeServiceTest {
 
     @Test
     void reserveForGuest_seatAlreadyReserved_throwsIllegalStateException() {
-        Reservation existing = new Reservation();
-        existing.setSeat(seat);
-        when(reservationRepository.findByEventIdAndSeatIds(eq(EVENT_ID), anyList()))
-                .thenReturn(List.of(existing));
+        when(reservationRepository.insertAll(anyList()))
+                .thenReturn(new ReservationRepository.InsertResult(List.of(), Set.of(SEAT_ID)));
 
         assertThrows(
                 ValidationException.class,
                 () ->
                         boxOfficeService.reserveForGuest(
                                 guestRequest(null, false), supervisorAuth()));
-        verify(reservationRepository, never()).persistAll(anyList());
+        verify(emailService, never())
+                .sendBoxOfficeConfirmation(any(User.class), anyList(), any(), any(), anyBoolean());
     }
 
     @Test
@@ -0,0 +1,303 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.supervisor.service;
+
+import static de.felixhertweck.seatreservation.testutil.TestIds.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.felixhertweck.seatreservation.management.service.SeatmapCacheService;
+import de.felixhertweck.seatreservation.model.entity.Event;
+import de.felixhertweck.seatreservation.model.entity.EventLocation;
+import de.felixhertweck.seatreservation.model.entity.Reservation;
+import de.felixhertweck.seatreservation.model.entity.ReservationLiveStatus;
+import de.felixhertweck.seatreservation.model.entity.Seat;
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.BoxOfficeGuestInfoRepository;
+import de.felixhertweck.seatreservation.model.repository.EventRepository;
+import de.felixhertweck.seatreservation.model.repository.ReservationRepository;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands.RedisSubscriber;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/** Runs two live view "instances" in one JVM, connected through an in-memory Redis stand-in. */
+class LiveViewClusterBusTest {
+
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    private final UUID eventId = id(1);
+    private final String channel = LiveViewClusterBus.CHANNEL_PREFIX + eventId;
+
+    private InMemoryPubSub redis;
+    private PubSubCommands<String> pubSubA;
+    private PubSubCommands<String> pubSubB;
+    private LiveViewClusterBus busA;
+    private LiveViewClusterBus busB;
+    private LiveViewService nodeA;
+    private LiveViewService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryPubSub();
+        pubSubA = redis.client();
+        pubSubB = redis.client();
+        busA = newBus(pubSubA);
+        busB = newBus(pubSubB);
+        nodeA = newNode(busA);
+        nodeB = newNode(busB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        busA.shutdown();
+        busB.shutdown();
+    }
+
+    @Test
+    void broadcastOnOneInstance_ReachesConnectionOnOtherInstance() {
+        WebSocketConnection connectionOnB = mockConnection();
+        nodeB.registerConnection(eventId, connectionOnB);
+        verify(pubSubB, timeout(TIMEOUT_MILLIS)).subscribe(eq(channel), any());
+
+        nodeA.broadcastUpdate(eventId, createReservation());
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        // Initial snapshot, then the relayed update
+        verify(connectionOnB, timeout(TIMEOUT_MILLIS).times(2)).sendText(captor.capture());
+        assertTrue(captor.getAllValues().get(1).contains("UPDATE"));
+    }
+
+    @Test
+    void ownMessages_AreDeliveredLocallyOnlyOnce() {
+        WebSocketConnection connectionOnA = mockConnection();
+        nodeA.registerConnection(eventId, connectionOnA);
+        verify(pubSubA, timeout(TIMEOUT_MILLIS)).subscribe(eq(channel), any());
+
+        nodeA.broadcastUpdate(eventId, createReservation());
+
+        // Published to Redis and echoed back to A's own subscription, which must ignore it.
+        verify(pubSubA, timeout(TIMEOUT_MILLIS)).publish(eq(channel), anyString());
+        verify(connectionOnA, times(2)).sendText(anyString());
+    }
+
+    @Test
+    void lastLocalConnectionGone_UnsubscribesFromChannel() {
+        WebSocketConnection connectionOnB = mockConnection();
+        nodeB.registerConnection(eventId, connectionOnB);
+        verify(pubSubB, timeout(TIMEOUT_MILLIS)).subscribe(eq(channel), any());
+
+        nodeB.unregisterConnection(eventId, connectionOnB);
+
+        verify(redis.subscriberFor(channel), timeout(TIMEOUT_MILLIS)).unsubscribe();
+        assertTrue(redis.listeners(channel).isEmpty());
+    }
+
+    @Test
+    void broadcastWithoutListenersAnywhere_IsNotPublished() {
+        nodeA.broadcastUpdate(eventId, createReservation());
+
+        verify(pubSubA, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    void messagesQueuedWhilePublishing_AreSentAsOneBatch() throws Exception {
+        CountDownLatch firstPublishStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstPublish = new CountDownLatch(1);
+        List<String> published = new CopyOnWriteArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            published.add(invocation.getArgument(1));
+                            if (published.size() == 1) {
+                                firstPublishStarted.countDown();
+                                releaseFirstPublish.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                            }
+                            return 0L;
+                        })
+                .when(pubSubA)
+                .publish(anyString(), anyString());
+
+        busA.publish(eventId, null, "first");
+        assertTrue(firstPublishStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        busA.publish(eventId, "UPDATE:1", "second");
+        busA.publish(eventId, "UPDATE:2", "third");
+        releaseFirstPublish.countDown();
+
+        verify(pubSubA, timeout(TIMEOUT_MILLIS).times(2)).publish(eq(channel), anyString());
+        LiveViewClusterBus.Batch batch =
+                new ObjectMapper().readValue(published.get(1), LiveViewClusterBus.Batch.class);
+        assertEquals(
+                List.of(
+                        new LiveViewClusterBus.Message("UPDATE:1", "second"),
+                        new LiveViewClusterBus.Message("UPDATE:2", "third")),
+                batch.messages());
+    }
+
+    private LiveViewClusterBus newBus(PubSubCommands<String> pubSub) {
+        RedisDataSource redisDataSource = mock(RedisDataSource.class);
+        when(redisDataSource.pubsub(String.class)).thenReturn(pubSub);
+        when(redisDataSource.execute(eq("PUBSUB"), eq("NUMSUB"), anyString()))
+                .thenAnswer(invocation -> redis.numSub(invocation.getArgument(2)));
+        // No interest caching, so every broadcast sees the current subscriptions.
+        LiveViewClusterBus bus = new LiveViewClusterBus(redisDataSource, true, 100, 0, null);
+        bus.init();
+        return bus;
+    }
+
+    private LiveViewService newNode(LiveViewClusterBus bus) {
+        Event event = new Event();
+        event.id = eventId;
+        event.setName("Cluster Event");
+        EventLocation location = new EventLocation();
+        location.id = id(2);
+        event.setEventLocation(location);
+
+        LiveViewService node = new LiveViewService();
+        node.eventRepository = mock(EventRepository.class);
+        when(node.eventRepository.findById(eventId)).thenReturn(event);
+        node.reservationRepository = mock(ReservationRepository.class);
+        node.boxOfficeGuestInfoRepository = mock(BoxOfficeGuestInfoRepository.class);
+        node.seatmapCacheService = mock(SeatmapCacheService.class);
+        // No transaction here: run after-commit actions right away.
+        doAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(0).run();
+                            return null;
+                        })
+                .when(node.seatmapCacheService)
+                .runAfterSuccessfulCommit(any());
+        node.clusterBus = bus;
+        node.queueCapacity = 16;
+        node.sendTimeoutSeconds = 10;
+        node.init();
+        return node;
+    }
+
+    private static WebSocketConnection mockConnection() {
+        WebSocketConnection connection = mock(WebSocketConnection.class);
+        when(connection.sendText(anyString())).thenReturn(Uni.createFrom().voidItem());
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+        return connection;
+    }
+
+    private Reservation createReservation() {
+        User user = new User();
+        user.id = id(3);
+        user.setUsername("testuser");
+        Event event = new Event();
+        event.id = eventId;
+        EventLocation location = new EventLocation();
+        location.id = id(2);
+        Seat seat = new Seat("A1", "", location);
+        seat.id = id(4);
+
+        Reservation reservation = new Reservation();
+        reservation.id = id(5);
+        reservation.setUser(user);
+        reservation.setEvent(event);
+        reservation.setSeat(seat);
+        reservation.setLiveStatus(ReservationLiveStatus.CHECKED_IN);
+        return reservation;
+    }
+
+    /** Minimal Redis pub/sub stand-in: synchronous delivery to every subscriber of a channel. */
+    private static final class InMemoryPubSub {
+
+        private final Map<String, List<Consumer<String>>> channels = new ConcurrentHashMap<>();
+        private final Map<String, RedisSubscriber> subscribers = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        PubSubCommands<String> client() {
+            PubSubCommands<String> client = mock(PubSubCommands.class);
+            when(client.publish(anyString(), anyString()))
+                    .thenAnswer(
+                            invocation -> {
+                                List<Consumer<String>> listeners =
+                                        listeners(invocation.getArgument(0));
+                                listeners.forEach(l -> l.accept(invocation.getArgument(1)));
+                                return (long) listeners.size();
+                            });
+            when(client.subscribe(anyString(), any(Consumer.class)))
+                    .thenAnswer(
+                            invocation -> {
+                                String channel = invocation.getArgument(0);
+                                Consumer<String> listener = invocation.getArgument(1);
+                                channels.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>())
+                                        .add(listener);
+                                RedisSubscriber subscriber = mock(RedisSubscriber.class);
+                                doAnswer(
+                                                ignored -> {
+                                                    channels.get(channel).remove(listener);
+                                                    return null;
+                                                })
+                                        .when(subscriber)
+                                        .unsubscribe();
+                                subscribers.put(channel, subscriber);
+                                return subscriber;
+                            });
+            return client;
+        }
+
+        List<Consumer<String>> listeners(String channel) {
+            return new ArrayList<>(channels.getOrDefault(channel, List.of()));
+        }
+
+        /** Reply to {@code PUBSUB NUMSUB channel}: the channel name and its subscriber count. */
+        Response numSub(String channel) {
+            Response count = mock(Response.class);
+            when(count.toLong()).thenReturn((long) listeners(channel).size());
+            Response reply = mock(Response.class);
+            when(reply.get(1)).thenReturn(count);
+            return reply;
+        }
+
+        RedisSubscriber subscriberFor(String channel) {
+            return subscribers.get(channel);
+        }
+    }
+}
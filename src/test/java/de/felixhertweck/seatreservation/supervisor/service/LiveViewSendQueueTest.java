@@ -0,0 +1,136 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.supervisor.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LiveViewSendQueueTest {
+
+    private WebSocketConnection connection;
+    private List<String> sent;
+    private List<CompletableFuture<Void>> inFlight;
+    private List<LiveViewSendQueue> dropped;
+
+    @BeforeEach
+    void setUp() {
+        connection = mock(WebSocketConnection.class);
+        sent = new ArrayList<>();
+        inFlight = new ArrayList<>();
+        dropped = new ArrayList<>();
+        // Every send stays in flight until the test completes its future.
+        when(connection.sendText(anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            sent.add(invocation.getArgument(0));
+                            CompletableFuture<Void> future = new CompletableFuture<>();
+                            inFlight.add(future);
+                            return Uni.createFrom().completionStage(future);
+                        });
+        when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+    }
+
+    private LiveViewSendQueue newQueue(int capacity) {
+        return new LiveViewSendQueue(
+                connection, capacity, Duration.ofSeconds(10), null, null, dropped::add);
+    }
+
+    private void completeNextSend() {
+        inFlight.get(sent.size() - 1).complete(null);
+    }
+
+    @Test
+    void enqueue_SendsOneMessageAtATimeInOrder() {
+        LiveViewSendQueue queue = newQueue(10);
+
+        queue.enqueue(null, "a");
+        queue.enqueue(null, "b");
+        queue.enqueue(null, "c");
+
+        assertEquals(List.of("a"), sent);
+        assertEquals(2, queue.depth());
+
+        completeNextSend();
+        completeNextSend();
+
+        assertEquals(List.of("a", "b", "c"), sent);
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void enqueue_SameKeyReplacesQueuedMessage() {
+        LiveViewSendQueue queue = newQueue(10);
+
+        queue.enqueue("UPDATE:1", "first");
+        queue.enqueue("UPDATE:1", "second");
+        queue.enqueue("UPDATE:2", "other");
+        queue.enqueue("UPDATE:1", "third");
+
+        assertEquals(2, queue.depth());
+        completeNextSend();
+        completeNextSend();
+
+        // "first" was already on the wire; "second" was superseded by "third" before sending.
+        assertEquals(List.of("first", "third", "other"), sent);
+    }
+
+    @Test
+    void enqueue_FullQueueDropsLaggingConsumer() {
+        LiveViewSendQueue queue = newQueue(2);
+
+        queue.enqueue(null, "in flight");
+        queue.enqueue(null, "queued 1");
+        queue.enqueue(null, "queued 2");
+        queue.enqueue(null, "overflow");
+
+        assertEquals(List.of(queue), dropped);
+        assertEquals(0, queue.depth());
+        verify(connection).close();
+
+        queue.enqueue(null, "after drop");
+        assertEquals(List.of("in flight"), sent);
+    }
+
+    @Test
+    void failedSend_DropsConsumer() {
+        LiveViewSendQueue queue = newQueue(10);
+
+        queue.enqueue(null, "a");
+        queue.enqueue(null, "b");
+        inFlight.getFirst().completeExceptionally(new IllegalStateException("Broken pipe"));
+
+        assertEquals(1, dropped.size());
+        assertEquals(List.of("a"), sent);
+        assertEquals(0, queue.depth());
+    }
+}
@@ -26,6 +26,7 @@ import jakarta.inject.Inject;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -46,6 +47,7 @@ import de.felixhertweck.seatreservation.utils.AuthenticatedUser;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -93,7 +95,7 @@ public class LiveViewServiceTest {
         // Should successfully parse valid event ID string and register connection
         UUID parsedEventId = id(123);
         String validEventIdStr = parsedEventId.toString();
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
 
         // Mock event and location
         Event mockEvent = new Event();
@@ -117,7 +119,7 @@ public class LiveViewServiceTest {
     void testUnregisterConnection_StringEventId_Success() {
         // Should successfully parse valid event ID string and unregister connection
         String validEventIdStr = id(456).toString();
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         assertDoesNotThrow(
                 () -> {
                     webSocketService.unregisterConnection(validEventIdStr, mockConnection);
@@ -128,7 +130,7 @@ public class LiveViewServiceTest {
     void testRegisterConnection_InvalidEventId_NegativeNumber() {
         // Should throw InvalidEventIdException for negative event ID
         String invalidEventIdStr = "-123";
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         assertThrows(
                 InvalidEventIdException.class,
                 () -> webSocketService.registerConnection(invalidEventIdStr, mockConnection));
@@ -138,7 +140,7 @@ public class LiveViewServiceTest {
     void testRegisterConnection_InvalidEventId_NotANumber() {
         // Should throw InvalidEventIdException for non-numeric event ID
         String invalidEventIdStr = "abc";
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         assertThrows(
                 InvalidEventIdException.class,
                 () -> webSocketService.registerConnection(invalidEventIdStr, mockConnection));
@@ -148,7 +150,7 @@ public class LiveViewServiceTest {
     void testRegisterConnection_InvalidEventId_Blank() {
         // Should throw InvalidEventIdException for blank event ID
         String blankEventIdStr = "   ";
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         assertThrows(
                 InvalidEventIdException.class,
                 () -> webSocketService.registerConnection(blankEventIdStr, mockConnection));
@@ -158,7 +160,7 @@ public class LiveViewServiceTest {
     void testRegisterConnection_InvalidEventId_Null() {
         // Should throw InvalidEventIdException for null event ID
         String nullEventIdStr = null;
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         assertThrows(
                 InvalidEventIdException.class,
                 () -> webSocketService.registerConnection(nullEventIdStr, mockConnection));
@@ -168,7 +170,7 @@ public class LiveViewServiceTest {
     void
             testRegisterConnection_Authenticated_BeforeDeadline_ThrowsBookingDeadlineNotPassedException() {
         UUID testEventId = id(400);
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         AuthenticatedUser supervisor =
                 new AuthenticatedUser(id(1), java.util.Set.of(Roles.SUPERVISOR));
 
@@ -190,7 +192,7 @@ public class LiveViewServiceTest {
     @Test
     void testRegisterConnection_Authenticated_AfterDeadline_Success() {
         UUID testEventId = id(401);
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
         AuthenticatedUser supervisor =
                 new AuthenticatedUser(id(1), java.util.Set.of(Roles.SUPERVISOR));
 
@@ -237,7 +239,7 @@ public class LiveViewServiceTest {
 
         try {
             UUID testEventId = id(999);
-            WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+            WebSocketConnection mockConnection = mockConnection();
 
             Event mockEvent = new Event();
             mockEvent.id = testEventId;
@@ -267,11 +269,11 @@ public class LiveViewServiceTest {
     }
 
     @Test
-    void testBroadcastUpdate_IOExceptionHandledAndConnectionRemoved() throws Exception {
+    void testBroadcastUpdate_SerializationFailureKeepsConnection() throws Exception {
         UUID testEventId = id(100);
         Reservation mockReservation = createTestReservation();
 
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
 
         // registerConnection() sends an initial reservations snapshot, so the repositories
         // must be stubbed for testEventId or that call fails before broadcastUpdate runs.
@@ -314,9 +316,10 @@ public class LiveViewServiceTest {
             assertDoesNotThrow(
                     () -> webSocketService.broadcastUpdate(testEventId, mockReservation));
 
-            // Verify that the exception was caught and the connection was removed
-            // getActiveConnectionCount should return 0 since the failed connection was removed
-            assertEquals(0, webSocketService.getActiveConnectionCount(testEventId));
+            // The message is serialized once for all connections, so a serialization failure
+            // is not the connection's fault: nothing is sent and the connection stays registered.
+            assertEquals(1, webSocketService.getActiveConnectionCount(testEventId));
+            Mockito.verify(mockConnection, Mockito.times(1)).sendText(Mockito.anyString());
         } finally {
             // Restore original mapper
             mapperField.set(realInstance, originalMapper);
@@ -324,6 +327,78 @@ public class LiveViewServiceTest {
         }
     }
 
+    @Test
+    void testBroadcastUpdate_SendFailureDropsConnection() {
+        UUID testEventId = id(101);
+        WebSocketConnection mockConnection = mockConnection();
+        stubEventWithoutReservations(testEventId);
+
+        webSocketService.registerConnection(testEventId, mockConnection);
+        Mockito.when(mockConnection.sendText(Mockito.anyString()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("Broken pipe")));
+
+        try {
+            webSocketService.broadcastUpdate(testEventId, createTestReservation());
+
+            assertEquals(0, webSocketService.getActiveConnectionCount(testEventId));
+            Mockito.verify(mockConnection).close();
+        } finally {
+            webSocketService.unregisterConnection(testEventId, mockConnection);
+        }
+    }
+
+    @Test
+    void testRegisterConnection_AfterLastConnectionWasDropped_ReceivesBroadcasts() {
+        UUID testEventId = id(103);
+        WebSocketConnection broken = mockConnection();
+        WebSocketConnection replacement = mockConnection();
+        stubEventWithoutReservations(testEventId);
+
+        webSocketService.registerConnection(testEventId, broken);
+        Mockito.when(broken.sendText(Mockito.anyString()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("Broken pipe")));
+
+        try {
+            // Dropping the last connection removes the event's entry; the next registration
+            // must not end up in the removed one.
+            webSocketService.broadcastUpdate(testEventId, createTestReservation());
+            webSocketService.registerConnection(testEventId, replacement);
+            webSocketService.broadcastUpdate(testEventId, createTestReservation());
+
+            assertEquals(1, webSocketService.getActiveConnectionCount(testEventId));
+            Mockito.verify(replacement, Mockito.times(2)).sendText(Mockito.anyString());
+        } finally {
+            webSocketService.unregisterConnection(testEventId, broken);
+            webSocketService.unregisterConnection(testEventId, replacement);
+        }
+    }
+
+    @Test
+    void testBroadcastUpdate_SerializesOncePerMessage() throws Exception {
+        UUID testEventId = id(102);
+        WebSocketConnection first = mockConnection();
+        WebSocketConnection second = mockConnection();
+        stubEventWithoutReservations(testEventId);
+        webSocketService.registerConnection(testEventId, first);
+        webSocketService.registerConnection(testEventId, second);
+
+        Reservation reservation = createTestReservation();
+        try {
+            webSocketService.broadcastUpdate(testEventId, reservation);
+
+            ArgumentCaptor<String> firstCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> secondCaptor = ArgumentCaptor.forClass(String.class);
+            Mockito.verify(first, Mockito.times(2)).sendText(firstCaptor.capture());
+            Mockito.verify(second, Mockito.times(2)).sendText(secondCaptor.capture());
+            // Both connections got the very same serialized string instance.
+            assertSame(firstCaptor.getAllValues().get(1), secondCaptor.getAllValues().get(1));
+            assertTrue(firstCaptor.getAllValues().get(1).contains("UPDATE"));
+        } finally {
+            webSocketService.unregisterConnection(testEventId, first);
+            webSocketService.unregisterConnection(testEventId, second);
+        }
+    }
+
     @Test
     void testBroadcastNewReservation_NoActiveConnections() {
         // Should not throw exception when no connections are active
@@ -336,7 +411,7 @@ public class LiveViewServiceTest {
     @Test
     void testBroadcastNewReservation_SendsNewReservationMessageWithGuestName() throws Exception {
         UUID testEventId = id(200);
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
 
         Event mockEvent = new Event();
         mockEvent.id = testEventId;
@@ -372,7 +447,7 @@ public class LiveViewServiceTest {
     @Test
     void testSendInitialReservations_IncludesGuestNameForBoxOfficeReservation() throws Exception {
         UUID testEventId = id(300);
-        WebSocketConnection mockConnection = Mockito.mock(WebSocketConnection.class);
+        WebSocketConnection mockConnection = mockConnection();
 
         Event mockEvent = new Event();
         mockEvent.id = testEventId;
@@ -406,6 +481,26 @@ public class LiveViewServiceTest {
         }
     }
 
+    private WebSocketConnection mockConnection() {
+        WebSocketConnection connection = Mockito.mock(WebSocketConnection.class);
+        Mockito.when(connection.sendText(Mockito.anyString()))
+                .thenReturn(Uni.createFrom().voidItem());
+        Mockito.when(connection.close()).thenReturn(Uni.createFrom().voidItem());
+        return connection;
+    }
+
+    private void stubEventWithoutReservations(UUID testEventId) {
+        Event mockEvent = new Event();
+        mockEvent.id = testEventId;
+        mockEvent.setName("Test Broadcast Event");
+        EventLocation mockLocation = new EventLocation();
+        mockLocation.id = id(1);
+        mockEvent.setEventLocation(mockLocation);
+        Mockito.when(eventRepository.findById(testEventId)).thenReturn(mockEvent);
+        Mockito.when(reservationRepository.findByEventIdWithUserAndSeat(testEventId))
+                .thenReturn(new java.util.ArrayList<>());
+    }
+
     private Reservation createTestReservation() {
         User user = new User();
         user.id = id(1);
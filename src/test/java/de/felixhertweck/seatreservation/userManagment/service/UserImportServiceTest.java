@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.userManagment.service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.felixhertweck.seatreservation.model.entity.User;
+import de.felixhertweck.seatreservation.model.repository.UserRepository;
+import de.felixhertweck.seatreservation.userManagment.dto.UserImportErrorDTO;
+import de.felixhertweck.seatreservation.userManagment.dto.UserImportReportDTO;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+/** Runs with {@code user-import.chunk-size} 2 from the test profile, so inputs span chunks. */
+@QuarkusTest
+class UserImportServiceTest {
+
+    @Inject UserImportService userImportService;
+    @Inject UserRepository userRepository;
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private User findUser(String username) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> userRepository.findByUsername(username));
+    }
+
+    private static UserImportErrorDTO errorForRow(UserImportReportDTO report, long row) {
+        return report.errors().stream().filter(e -> e.row() == row).findFirst().orElseThrow();
+    }
+
+    @Test
+    void importCsv_ImportsValidRowsAndReportsTheOthers() {
+        String csv =
+                "firstname;lastname;password;email\n"
+                        + "Anna;A"
+                        + suffix
+                        + ";secret1;anna@example.com\n"
+                        + "Ben;B"
+                        + suffix
+                        + ";secret2;\n"
+                        + "Carl;C"
+                        + suffix
+                        + ";;carl@example.com\n"
+                        + "Anna;A"
+                        + suffix
+                        + ";secret3;\n"
+                        + "Dora;D"
+                        + suffix
+                        + ";secret4;not-an-email\n"
+                        + "Emil;E"
+                        + suffix
+                        + ";secret5;\n";
+
+        UserImportReportDTO report =
+                userImportService.importUsers(input(csv), UserImportService.Format.CSV);
+
+        assertEquals(6, report.processed());
+        assertEquals(3, report.imported());
+        assertEquals(3, report.failed());
+        assertFalse(report.errorsTruncated());
+        // Record numbers count the header
+        assertNull(errorForRow(report, 4).username());
+        assertEquals("anna.a" + suffix, errorForRow(report, 5).username());
+        assertEquals("dora.d" + suffix, errorForRow(report, 6).username());
+
+        User anna = findUser("anna.a" + suffix);
+        assertNotNull(anna);
+        assertEquals("anna@example.com", anna.getEmail());
+        assertTrue(BcryptUtil.matches("secret1" + anna.getPasswordSalt(), anna.getPasswordHash()));
+        assertNull(findUser("ben.b" + suffix).getEmail());
+        assertNotNull(findUser("emil.e" + suffix));
+    }
+
+    @Test
+    void importJson_SkipsBrokenAndExistingUsers() {
+        userImportService.importUsers(
+                input("firstname;lastname;password\nFrida;F" + suffix + ";secret\n"),
+                UserImportService.Format.CSV);
+
+        String json =
+                """
+                [
+                  {"username": "frida.f%1$s", "password": "x", "firstname": "Frida",
+                   "lastname": "F", "sendEmailVerification": false, "emailVerified": false,
+                   "roles": ["USER"], "tags": []},
+                  {"username": {"nested": 1}, "password": "x"},
+                  {"username": "gustav%1$s", "password": "x", "firstname": "Gustav",
+                   "lastname": "G", "sendEmailVerification": false, "emailVerified": true,
+                   "roles": ["USER"], "tags": ["vip"]}
+                ]
+                """
+                        .formatted(suffix);
+
+        UserImportReportDTO report =
+                userImportService.importUsers(input(json), UserImportService.Format.JSON);
+
+        assertEquals(3, report.processed());
+        assertEquals(1, report.imported());
+        assertEquals(2, report.failed());
+        assertTrue(errorForRow(report, 1).message().contains("already exists"));
+        assertNull(errorForRow(report, 2).username());
+
+        User gustav = findUser("gustav" + suffix);
+        assertNotNull(gustav);
+        assertTrue(gustav.isEmailVerified());
+    }
+
+    @Test
+    void importCsv_SanitizesNamesButNotPasswordOrEmail() {
+        String csv =
+                "<b>Ivy</b><script>alert(1)</script>;I"
+                        + suffix
+                        + "<img src=x onerror=alert(1)>;p<ss>word;ivy@example.com\n";
+
+        UserImportReportDTO report =
+                userImportService.importUsers(input(csv), UserImportService.Format.CSV);
+
+        assertEquals(1, report.imported());
+        // The username is derived from the sanitized names.
+        User ivy = findUser("ivy.i" + suffix);
+        assertNotNull(ivy);
+        assertEquals("Ivy", ivy.getFirstname());
+        assertEquals("I" + suffix, ivy.getLastname());
+        assertEquals("ivy@example.com", ivy.getEmail());
+        assertTrue(BcryptUtil.matches("p<ss>word" + ivy.getPasswordSalt(), ivy.getPasswordHash()));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class OutboxPumpTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void trigger_RunsPassesUntilNothingIsLeft() throws Exception {
+        AtomicInteger remaining = new AtomicInteger(3);
+        CountDownLatch emptyPass = new CountDownLatch(1);
+        OutboxPump pump =
+                new OutboxPump(
+                        "outbox-pump-test",
+                        () -> {
+                            if (remaining.get() == 0) {
+                                emptyPass.countDown();
+                                return 0;
+                            }
+                            remaining.decrementAndGet();
+                            return 1;
+                        });
+
+        pump.trigger();
+
+        assertTrue(emptyPass.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(0, remaining.get());
+    }
+
+    @Test
+    void trigger_WhileRunning_MakesOneMorePass() throws Exception {
+        CountDownLatch firstPassStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstPass = new CountDownLatch(1);
+        CountDownLatch secondPass = new CountDownLatch(1);
+        AtomicInteger passes = new AtomicInteger();
+        OutboxPump pump =
+                new OutboxPump(
+                        "outbox-pump-test",
+                        () -> {
+                            if (passes.incrementAndGet() == 1) {
+                                firstPassStarted.countDown();
+                                try {
+                                    releaseFirstPass.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            } else {
+                                secondPass.countDown();
+                            }
+                            return 0;
+                        });
+
+        pump.trigger();
+        assertTrue(firstPassStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // Coalesced into the running loop instead of starting a second one.
+        pump.trigger();
+        releaseFirstPass.countDown();
+
+        assertTrue(secondPass.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void backoffSeconds_DoublesPerAttemptUpToTheMaximum() {
+        assertEquals(30, OutboxPump.backoffSeconds(1, 30, 900));
+        assertEquals(60, OutboxPump.backoffSeconds(2, 30, 900));
+        assertEquals(240, OutboxPump.backoffSeconds(4, 30, 900));
+        assertEquals(900, OutboxPump.backoffSeconds(6, 30, 900));
+        assertEquals(900, OutboxPump.backoffSeconds(1000, 30, 900));
+    }
+
+    @Test
+    void lastError_CutsLongMessages() {
+        String longMessage = "x".repeat(OutboxPump.MAX_ERROR_LENGTH * 2);
+
+        assertEquals(
+                "java.lang.IllegalStateException: boom",
+                OutboxPump.lastError(new IllegalStateException("boom")));
+        assertEquals(
+                OutboxPump.MAX_ERROR_LENGTH,
+                OutboxPump.lastError(new IllegalStateException(longMessage)).length());
+    }
+}
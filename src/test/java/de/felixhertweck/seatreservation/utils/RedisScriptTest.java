@@ -0,0 +1,85 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.vertx.mutiny.redis.client.Response;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class RedisScriptTest {
+
+    private final RedisScript script = new RedisScript("return 1");
+    private final RedisDataSource redisDataSource = mock(RedisDataSource.class);
+    private final Response reply = mock(Response.class);
+
+    @Test
+    void sha1_MatchesRedisScriptDigest() {
+        // Same value `redis-cli SCRIPT LOAD "return 1"` replies with
+        assertEquals("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", script.sha1());
+    }
+
+    @Test
+    void execute_RunsByDigest() {
+        when(redisDataSource.execute("EVALSHA", script.sha1(), "1", "key", "arg"))
+                .thenReturn(reply);
+
+        assertSame(reply, script.execute(redisDataSource, List.of("key"), "arg"));
+        verify(redisDataSource, never()).execute("SCRIPT", "LOAD", "return 1");
+    }
+
+    @Test
+    void execute_SendsSourceWithKeysOnNoScript() {
+        when(redisDataSource.execute("EVALSHA", script.sha1(), "1", "key", "arg"))
+                .thenThrow(new RuntimeException("NOSCRIPT No matching script."));
+        when(redisDataSource.execute("EVAL", "return 1", "1", "key", "arg")).thenReturn(reply);
+
+        assertSame(reply, script.execute(redisDataSource, List.of("key"), "arg"));
+
+        // EVAL carries the keys, so a cluster client routes it to the node that owns their slot;
+        // a keyless SCRIPT LOAD could end up on another node.
+        InOrder order = inOrder(redisDataSource);
+        order.verify(redisDataSource).execute("EVALSHA", script.sha1(), "1", "key", "arg");
+        order.verify(redisDataSource).execute("EVAL", "return 1", "1", "key", "arg");
+        verify(redisDataSource, never()).execute("SCRIPT", "LOAD", "return 1");
+    }
+
+    @Test
+    void execute_OtherErrorsArePropagated() {
+        when(redisDataSource.execute("EVALSHA", script.sha1(), "0"))
+                .thenThrow(new RuntimeException("ERR something else"));
+
+        assertThrows(RuntimeException.class, () -> script.execute(redisDataSource, List.of()));
+        verify(redisDataSource, times(1)).execute(any(String.class), any(String[].class));
+    }
+}
@@ -21,16 +21,23 @@ package de.felixhertweck.seatreservation.utils;
 
 import static de.felixhertweck.seatreservation.testutil.TestIds.id;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
 import de.felixhertweck.seatreservation.model.entity.Reservation;
 import de.felixhertweck.seatreservation.model.entity.ReservationStatus;
 import de.felixhertweck.seatreservation.model.entity.Seat;
@@ -233,4 +240,63 @@ class ReservationExporterTest {
         assertTrue(pdfBytes.length > 100, "PDF should not be empty");
         assertEquals("%PDF-", new String(pdfBytes, 0, 5));
     }
+
+    @Test
+    void writePdf_renderedInParallel_keepsOnePagePerRowAcrossChunks() throws Exception {
+        int count = ReservationExporter.PDF_RENDER_CHUNK_SIZE * 2 + 3;
+        List<ReservationExportRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(
+                    new ReservationExportRow(
+                            id(i + 1),
+                            i % 5 == 0 ? ReservationStatus.BLOCKED : ReservationStatus.RESERVED,
+                            "S" + i,
+                            "1",
+                            null,
+                            null,
+                            "First" + i,
+                            "Last" + i,
+                            Instant.now()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ReservationExporter.writePdf(rows, "19:50", out, executor);
+
+            PdfReader reader = new PdfReader(out.toByteArray());
+            assertEquals(count, reader.getNumberOfPages());
+            // Each page carries its row's seat, so a chunk appended out of order shows up here.
+            PdfTextExtractor extractor = new PdfTextExtractor(reader);
+            for (int page = 1; page <= count; page++) {
+                String seat = "S" + (page - 1) + " (1)";
+                String text = extractor.getTextFromPage(page);
+                assertTrue(text.contains(seat), "page " + page + " should show seat " + seat);
+            }
+            reader.close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void writeCsv_leavesStreamOpenAndWritesEmptyFieldsForMissingValues() throws IOException {
+        ReservationExportRow row =
+                new ReservationExportRow(
+                        id(1),
+                        ReservationStatus.BLOCKED,
+                        "C1",
+                        "3",
+                        "North",
+                        null,
+                        null,
+                        null,
+                        null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ReservationExporter.writeCsv(List.of(row), out);
+        out.write('#');
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.contains(id(1) + ",BLOCKED,C1,3,North,,,,\r\n#"), csv);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    void generate_HasVersion7AndIetfVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void generate_EncodesCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= after);
+    }
+
+    @Test
+    void generate_ReturnsUniqueValues() {
+        Set<UUID> generated = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            generated.add(UuidV7.generate());
+        }
+
+        assertEquals(1000, generated.size());
+    }
+}
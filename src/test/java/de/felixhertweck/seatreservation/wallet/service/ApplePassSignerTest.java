@@ -0,0 +1,148 @@
+/*
+ * #%L
+ * seat-reservation
+ * %%
+ * Copyright (C) 2026 Felix Hertweck
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package de.felixhertweck.seatreservation.wallet.service;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cms.CMSProcessableByteArray;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApplePassSignerTest {
+
+    private static final char[] PASSWORD = "secret".toCharArray();
+
+    @TempDir Path dir;
+
+    private ApplePassSigner signer;
+    private Path p12;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        p12 = dir.resolve("pass.p12");
+        Path wwdr = dir.resolve("wwdr.cer");
+        Files.write(wwdr, certificate(keyPair(), "WWDR").getEncoded());
+
+        signer = new ApplePassSigner();
+        signer.certificatePath = p12.toString();
+        signer.certificatePassword = Optional.of(new String(PASSWORD));
+        signer.wwdrCertificatePath = wwdr.toString();
+        signer.checkIntervalSeconds = 0;
+    }
+
+    private static KeyPair keyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate certificate(KeyPair keyPair, String commonName)
+            throws Exception {
+        X500Name name = new X500Name("CN=" + commonName);
+        Instant now = Instant.now();
+        return new JcaX509CertificateConverter()
+                .getCertificate(
+                        new JcaX509v3CertificateBuilder(
+                                        name,
+                                        BigInteger.valueOf(now.toEpochMilli()),
+                                        Date.from(now.minusSeconds(60)),
+                                        Date.from(now.plusSeconds(86400)),
+                                        name,
+                                        keyPair.getPublic())
+                                .build(
+                                        new JcaContentSignerBuilder("SHA256withRSA")
+                                                .build(keyPair.getPrivate())));
+    }
+
+    private X509Certificate writeP12(String commonName) throws Exception {
+        KeyPair keyPair = keyPair();
+        X509Certificate certificate = certificate(keyPair, commonName);
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry(
+                "pass", keyPair.getPrivate(), PASSWORD, new Certificate[] {certificate});
+        try (OutputStream out = Files.newOutputStream(p12)) {
+            keyStore.store(out, PASSWORD);
+        }
+        return certificate;
+    }
+
+    @Test
+    void current_WithoutCertificate_ReturnsNull() {
+        assertNull(signer.current());
+    }
+
+    @Test
+    void current_LoadsOnceAndSignsVerifiably() throws Exception {
+        X509Certificate certificate = writeP12("Pass");
+
+        ApplePassSigner.SigningMaterial material = signer.current();
+        assertNotNull(material);
+        assertSame(material, signer.current(), "Unchanged files must not be reloaded");
+
+        byte[] manifest = "{\"pass.json\":\"abc\"}".getBytes(StandardCharsets.UTF_8);
+        CMSSignedData signed =
+                new CMSSignedData(new CMSProcessableByteArray(manifest), material.sign(manifest));
+        SignerInformation signerInfo = signed.getSignerInfos().getSigners().iterator().next();
+        assertTrue(signerInfo.verify(new JcaSimpleSignerInfoVerifierBuilder().build(certificate)));
+        assertEquals(2, signed.getCertificates().getMatches(null).size());
+    }
+
+    @Test
+    void current_ReloadsWhenCertificateFileIsReplaced() throws Exception {
+        writeP12("Old");
+        ApplePassSigner.SigningMaterial old = signer.current();
+
+        writeP12("Renewed");
+        Files.setLastModifiedTime(p12, FileTime.from(Instant.now().plusSeconds(60)));
+        ApplePassSigner.SigningMaterial renewed = signer.current();
+
+        assertNotNull(renewed);
+        assertNotEquals(old.id(), renewed.id());
+    }
+}
@@ -31,6 +31,8 @@ import jakarta.inject.Inject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.felixhertweck.seatreservation.wallet.dto.WalletPassData;
@@ -166,4 +168,41 @@ class GenericPkpassGeneratorTest {
         assertEquals(2, entries.size());
         assertTrue(entries.keySet().stream().anyMatch(k -> k.endsWith(".pkpass")));
     }
+
+    @Test
+    void testGeneratePassReusesArchiveForUnchangedPass() {
+        UUID reservationId = UUID.randomUUID();
+        Instant start = Instant.now();
+
+        WalletPassResponseDTO first =
+                genericPkpassGenerator.generatePass(passData(reservationId, start, "Seat 7"));
+        WalletPassResponseDTO second =
+                genericPkpassGenerator.generatePass(passData(reservationId, start, "Seat 7"));
+        WalletPassResponseDTO changed =
+                genericPkpassGenerator.generatePass(passData(reservationId, start, "Seat 8"));
+
+        assertSame(first.content(), second.content(), "Unchanged pass must come from the cache");
+        assertNotSame(first.content(), changed.content());
+    }
+
+    private static WalletPassData passData(UUID reservationId, Instant start, String seat) {
+        return new WalletPassData(
+                reservationId,
+                UUID.randomUUID(),
+                "Cache Concert",
+                null,
+                start,
+                start.plusSeconds(3600),
+                "Hall A",
+                null,
+                "Row 1, " + seat,
+                null,
+                "Row 1",
+                seat,
+                UUID.randomUUID(),
+                "Carol",
+                "carol@example.com",
+                "token",
+                "qr-" + reservationId);
+    }
 }
@@ -3,8 +3,8 @@
 import { type DefaultError, type InfiniteData, infiniteQueryOptions, queryOptions, type UseMutationOptions } from '@tanstack/react-query';
 
 import { client } from '../client.gen';
-import { deleteApiAuthWebauthnCredentialsById, deleteApiManagerAreas, deleteApiManagerEntrances, deleteApiManagerEventlocations, deleteApiManagerEvents, deleteApiManagerEventsByIdManagersByUserId, deleteApiManagerMarkers, deleteApiManagerReservationAllowance, deleteApiManagerReservations, deleteApiManagerSeats, deleteApiNotificationsById, deleteApiPushSubscriptions, deleteApiUserReservations, deleteApiUsersAdminById, deleteApiUserSeatcartByEventIdBySeatId, getApiAltchaChallenge, getApiAuthRegistrationStatus, getApiAuthUsernameAvailability, getApiAuthUsernameSuggestion, getApiAuthWebauthnCredentials, getApiAuthWebauthnStatus, getApiEmailSeatmap, getApiEmailWalletApple, getApiEmailWalletGoogle, getApiManagerAreas, getApiManagerAreasById, getApiManagerEntrances, getApiManagerEntrancesById, getApiManagerEventlocations, getApiManagerEvents, getApiManagerEventsById, getApiManagerMarkers, getApiManagerMarkersById, getApiManagerOverview, getApiManagerReservationAllowance, getApiManagerReservationAllowanceById, getApiManagerReservationAllowanceEventByEventId, getApiManagerReservationsById, getApiManagerReservationsConfirmationEmailByEventIdByUserId, getApiManagerReservationsEventById, getApiManagerReservationsExportByEventIdCsv, getApiManagerReservationsExportByEventIdPdf, getApiManagerSeats, getApiManagerSeatsById, getApiNotifications, getApiNotificationsUnreadCount, getApiPushSubscriptionsVapidPublicKey, getApiSupervisorBoxofficeUsers, getApiSupervisorCheckinEvents, getApiSupervisorCheckinUsernamesByEventId, getApiUserEvents, getApiUserEventsById, getApiUserLocations, getApiUserLocationsById, getApiUserReservations, getApiUserReservationsById, getApiUsersAdmin, getApiUsersManager, getApiUsersMe, getApiUsersMe2Fa, getApiUsersRoles, getApiUserWalletConfig, getApiUserWalletReservationsByIdByProvider, type Options, patchApiNotificationsByIdRead, patchApiNotificationsReadAll, postApiAuth2FaResendEmail, postApiAuth2FaVerify, postApiAuthLogin, postApiAuthLogout, postApiAuthLogoutAllDevices, postApiAuthPasswordReset, postApiAuthPasswordResetConfirm, postApiAuthRefresh, postApiAuthRegister, postApiAuthUsernameRecovery, postApiAuthWebauthnLogin, postApiAuthWebauthnLoginOptions, postApiAuthWebauthnRegister, postApiAuthWebauthnRegisterNew, postApiAuthWebauthnRegisterNewOptions, postApiAuthWebauthnRegisterOptions, postApiManagerAreas, postApiManagerEntrances, postApiManagerEventlocations, postApiManagerEvents, postApiManagerEventsByIdCancel, postApiManagerEventsByIdManagersByUserId, postApiManagerMarkers, postApiManagerReservationAllowance, postApiManagerReservations, postApiManagerReservationsBlock, postApiManagerReservationsResendConfirmationByEventIdByUserId, postApiManagerSeats, postApiPushSubscriptions, postApiSupervisorBoxofficeReservations, postApiSupervisorBoxofficeReservationsGuest, postApiSupervisorCheckinInfo, postApiSupervisorCheckinInfoByUsername, postApiSupervisorCheckinProcess, postApiUserResendEmailConfirmation, postApiUserReservations, postApiUsersAdmin, postApiUsersAdminImport, postApiUserSeatcartByEventIdBySeatId, postApiUsersMe2FaBackupCodes, postApiUsersMe2FaDisable, postApiUsersMe2FaEnable, postApiUsersMe2FaSendSetupEmail, postApiUsersMe2FaSetupTotp, postApiUserVerifyEmailCode, putApiAuthWebauthnCredentialsById, putApiManagerAreasById, putApiManagerEntrancesById, putApiManagerEventlocationsById, putApiManagerEventsById, putApiManagerMarkersById, putApiManagerReservationAllowance, putApiManagerSeatsById, putApiUsersAdminById, putApiUsersMe, putApiUsersMe2FaSettings } from '../sdk.gen';
-import type { DeleteApiAuthWebauthnCredentialsByIdData, DeleteApiAuthWebauthnCredentialsByIdResponse, DeleteApiManagerAreasData, DeleteApiManagerAreasResponse, DeleteApiManagerEntrancesData, DeleteApiManagerEntrancesResponse, DeleteApiManagerEventlocationsData, DeleteApiManagerEventlocationsResponse, DeleteApiManagerEventsByIdManagersByUserIdData, DeleteApiManagerEventsByIdManagersByUserIdResponse, DeleteApiManagerEventsData, DeleteApiManagerEventsResponse, DeleteApiManagerMarkersData, DeleteApiManagerMarkersResponse, DeleteApiManagerReservationAllowanceData, DeleteApiManagerReservationAllowanceResponse, DeleteApiManagerReservationsData, DeleteApiManagerReservationsResponse, DeleteApiManagerSeatsData, DeleteApiManagerSeatsResponse, DeleteApiNotificationsByIdData, DeleteApiNotificationsByIdResponse, DeleteApiPushSubscriptionsData, DeleteApiPushSubscriptionsResponse, DeleteApiUserReservationsData, DeleteApiUserReservationsResponse, DeleteApiUsersAdminByIdData, DeleteApiUsersAdminByIdResponse, DeleteApiUserSeatcartByEventIdBySeatIdData, DeleteApiUserSeatcartByEventIdBySeatIdResponse, GetApiAltchaChallengeData, GetApiAltchaChallengeResponse, GetApiAuthRegistrationStatusData, GetApiAuthRegistrationStatusResponse, GetApiAuthUsernameAvailabilityData, GetApiAuthUsernameAvailabilityResponse, GetApiAuthUsernameSuggestionData, GetApiAuthUsernameSuggestionResponse, GetApiAuthWebauthnCredentialsData, GetApiAuthWebauthnCredentialsResponse, GetApiAuthWebauthnStatusData, GetApiAuthWebauthnStatusResponse, GetApiEmailSeatmapData, GetApiEmailSeatmapResponse, GetApiEmailWalletAppleData, GetApiEmailWalletGoogleData, GetApiManagerAreasByIdData, GetApiManagerAreasByIdResponse, GetApiManagerAreasData, GetApiManagerAreasResponse, GetApiManagerEntrancesByIdData, GetApiManagerEntrancesByIdResponse, GetApiManagerEntrancesData, GetApiManagerEntrancesResponse, GetApiManagerEventlocationsData, GetApiManagerEventlocationsResponse, GetApiManagerEventsByIdData, GetApiManagerEventsByIdResponse, GetApiManagerEventsData, GetApiManagerEventsResponse, GetApiManagerMarkersByIdData, GetApiManagerMarkersByIdResponse, GetApiManagerMarkersData, GetApiManagerMarkersResponse, GetApiManagerOverviewData, GetApiManagerOverviewResponse, GetApiManagerReservationAllowanceByIdData, GetApiManagerReservationAllowanceByIdResponse, GetApiManagerReservationAllowanceData, GetApiManagerReservationAllowanceEventByEventIdData, GetApiManagerReservationAllowanceEventByEventIdResponse, GetApiManagerReservationAllowanceResponse, GetApiManagerReservationsByIdData, GetApiManagerReservationsByIdResponse, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdData, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponse, GetApiManagerReservationsEventByIdData, GetApiManagerReservationsEventByIdResponse, GetApiManagerReservationsExportByEventIdCsvData, GetApiManagerReservationsExportByEventIdPdfData, GetApiManagerReservationsExportByEventIdPdfResponse, GetApiManagerSeatsByIdData, GetApiManagerSeatsByIdResponse, GetApiManagerSeatsData, GetApiManagerSeatsResponse, GetApiNotificationsData, GetApiNotificationsResponse, GetApiNotificationsUnreadCountData, GetApiNotificationsUnreadCountResponse, GetApiPushSubscriptionsVapidPublicKeyData, GetApiSupervisorBoxofficeUsersData, GetApiSupervisorBoxofficeUsersResponse, GetApiSupervisorCheckinEventsData, GetApiSupervisorCheckinEventsResponse, GetApiSupervisorCheckinUsernamesByEventIdData, GetApiSupervisorCheckinUsernamesByEventIdResponse, GetApiUserEventsByIdData, GetApiUserEventsByIdResponse, GetApiUserEventsData, GetApiUserEventsResponse, GetApiUserLocationsByIdData, GetApiUserLocationsByIdResponse, GetApiUserLocationsData, GetApiUserLocationsResponse, GetApiUserReservationsByIdData, GetApiUserReservationsByIdResponse, GetApiUserReservationsData, GetApiUserReservationsResponse, GetApiUsersAdminData, GetApiUsersAdminResponse, GetApiUsersManagerData, GetApiUsersManagerResponse, GetApiUsersMe2FaData, GetApiUsersMe2FaResponse, GetApiUsersMeData, GetApiUsersMeResponse, GetApiUsersRolesData, GetApiUsersRolesResponse, GetApiUserWalletConfigData, GetApiUserWalletConfigResponse, GetApiUserWalletReservationsByIdByProviderData, GetApiUserWalletReservationsByIdByProviderResponse, PatchApiNotificationsByIdReadData, PatchApiNotificationsByIdReadResponse, PatchApiNotificationsReadAllData, PostApiAuth2FaResendEmailData, PostApiAuth2FaVerifyData, PostApiAuthLoginData, PostApiAuthLoginError, PostApiAuthLoginResponse, PostApiAuthLogoutAllDevicesData, PostApiAuthLogoutData, PostApiAuthPasswordResetConfirmData, PostApiAuthPasswordResetData, PostApiAuthRefreshData, PostApiAuthRegisterData, PostApiAuthUsernameRecoveryData, PostApiAuthWebauthnLoginData, PostApiAuthWebauthnLoginOptionsData, PostApiAuthWebauthnLoginOptionsResponse, PostApiAuthWebauthnRegisterData, PostApiAuthWebauthnRegisterNewData, PostApiAuthWebauthnRegisterNewOptionsData, PostApiAuthWebauthnRegisterNewOptionsResponse, PostApiAuthWebauthnRegisterOptionsData, PostApiAuthWebauthnRegisterOptionsResponse, PostApiManagerAreasData, PostApiManagerAreasResponse, PostApiManagerEntrancesData, PostApiManagerEntrancesResponse, PostApiManagerEventlocationsData, PostApiManagerEventlocationsResponse, PostApiManagerEventsByIdCancelData, PostApiManagerEventsByIdCancelResponse, PostApiManagerEventsByIdManagersByUserIdData, PostApiManagerEventsByIdManagersByUserIdResponse, PostApiManagerEventsData, PostApiManagerEventsResponse, PostApiManagerMarkersData, PostApiManagerMarkersResponse, PostApiManagerReservationAllowanceData, PostApiManagerReservationAllowanceResponse, PostApiManagerReservationsBlockData, PostApiManagerReservationsBlockResponse, PostApiManagerReservationsData, PostApiManagerReservationsResendConfirmationByEventIdByUserIdData, PostApiManagerReservationsResponse, PostApiManagerSeatsData, PostApiManagerSeatsResponse, PostApiPushSubscriptionsData, PostApiSupervisorBoxofficeReservationsData, PostApiSupervisorBoxofficeReservationsGuestData, PostApiSupervisorBoxofficeReservationsGuestResponse, PostApiSupervisorBoxofficeReservationsResponse, PostApiSupervisorCheckinInfoByUsernameData, PostApiSupervisorCheckinInfoByUsernameResponse, PostApiSupervisorCheckinInfoData, PostApiSupervisorCheckinInfoResponse, PostApiSupervisorCheckinProcessData, PostApiSupervisorCheckinProcessResponse, PostApiUserResendEmailConfirmationData, PostApiUserResendEmailConfirmationResponse, PostApiUserReservationsData, PostApiUserReservationsResponse, PostApiUsersAdminData, PostApiUsersAdminImportData, PostApiUsersAdminImportResponse, PostApiUserSeatcartByEventIdBySeatIdData, PostApiUserSeatcartByEventIdBySeatIdResponse, PostApiUsersMe2FaBackupCodesData, PostApiUsersMe2FaBackupCodesResponse, PostApiUsersMe2FaDisableData, PostApiUsersMe2FaDisableResponse, PostApiUsersMe2FaEnableData, PostApiUsersMe2FaEnableResponse, PostApiUsersMe2FaSendSetupEmailData, PostApiUsersMe2FaSetupTotpData, PostApiUsersMe2FaSetupTotpResponse, PostApiUserVerifyEmailCodeData, PutApiAuthWebauthnCredentialsByIdData, PutApiManagerAreasByIdData, PutApiManagerAreasByIdResponse, PutApiManagerEntrancesByIdData, PutApiManagerEntrancesByIdResponse, PutApiManagerEventlocationsByIdData, PutApiManagerEventlocationsByIdResponse, PutApiManagerEventsByIdData, PutApiManagerEventsByIdResponse, PutApiManagerMarkersByIdData, PutApiManagerMarkersByIdResponse, PutApiManagerReservationAllowanceData, PutApiManagerReservationAllowanceResponse, PutApiManagerSeatsByIdData, PutApiManagerSeatsByIdResponse, PutApiUsersAdminByIdData, PutApiUsersAdminByIdResponse, PutApiUsersMe2FaSettingsData, PutApiUsersMe2FaSettingsResponse, PutApiUsersMeData, PutApiUsersMeResponse } from '../types.gen';
+import { deleteApiAuthWebauthnCredentialsById, deleteApiManagerAreas, deleteApiManagerEntrances, deleteApiManagerEventlocations, deleteApiManagerEvents, deleteApiManagerEventsByIdManagersByUserId, deleteApiManagerMarkers, deleteApiManagerReservationAllowance, deleteApiManagerReservations, deleteApiManagerSeats, deleteApiNotificationsById, deleteApiPushSubscriptions, deleteApiUserReservations, deleteApiUsersAdminById, deleteApiUserSeatcartByEventIdBySeatId, getApiAltchaChallenge, getApiAuthRegistrationStatus, getApiAuthUsernameAvailability, getApiAuthUsernameSuggestion, getApiAuthWebauthnCredentials, getApiAuthWebauthnStatus, getApiEmailSeatmap, getApiEmailWalletApple, getApiEmailWalletGoogle, getApiManagerAreas, getApiManagerAreasById, getApiManagerEntrances, getApiManagerEntrancesById, getApiManagerEventlocations, getApiManagerEvents, getApiManagerEventsById, getApiManagerMarkers, getApiManagerMarkersById, getApiManagerOverview, getApiManagerReservationAllowance, getApiManagerReservationAllowanceById, getApiManagerReservationAllowanceEventByEventId, getApiManagerReservationsById, getApiManagerReservationsConfirmationEmailByEventIdByUserId, getApiManagerReservationsEventById, getApiManagerReservationsExportByEventIdCsv, getApiManagerReservationsExportByEventIdPdf, getApiManagerSeats, getApiManagerSeatsById, getApiNotifications, getApiNotificationsUnreadCount, getApiPushSubscriptionsVapidPublicKey, getApiSupervisorBoxofficeUsers, getApiSupervisorCheckinEvents, getApiSupervisorCheckinUsernamesByEventId, getApiUserEvents, getApiUserEventsByEventIdWaitingRoom, getApiUserEventsById, getApiUserEventsByIdSeatStatuses, getApiUserLocations, getApiUserLocationsById, getApiUserReservations, getApiUserReservationsById, getApiUsersAdmin, getApiUsersManager, getApiUsersMe, getApiUsersMe2Fa, getApiUsersRoles, getApiUserWalletConfig, getApiUserWalletReservationsByIdByProvider, type Options, patchApiNotificationsByIdRead, patchApiNotificationsReadAll, postApiAuth2FaResendEmail, postApiAuth2FaVerify, postApiAuthLogin, postApiAuthLogout, postApiAuthLogoutAllDevices, postApiAuthPasswordReset, postApiAuthPasswordResetConfirm, postApiAuthRefresh, postApiAuthRegister, postApiAuthUsernameRecovery, postApiAuthWebauthnLogin, postApiAuthWebauthnLoginOptions, postApiAuthWebauthnRegister, postApiAuthWebauthnRegisterNew, postApiAuthWebauthnRegisterNewOptions, postApiAuthWebauthnRegisterOptions, postApiManagerAreas, postApiManagerEntrances, postApiManagerEventlocations, postApiManagerEvents, postApiManagerEventsByIdCancel, postApiManagerEventsByIdManagersByUserId, postApiManagerMarkers, postApiManagerReservationAllowance, postApiManagerReservations, postApiManagerReservationsBlock, postApiManagerReservationsResendConfirmationByEventIdByUserId, postApiManagerSeats, postApiPushSubscriptions, postApiSupervisorBoxofficeReservations, postApiSupervisorBoxofficeReservationsGuest, postApiSupervisorCheckinInfo, postApiSupervisorCheckinInfoByUsername, postApiSupervisorCheckinProcess, postApiUserEventsByEventIdWaitingRoom, postApiUserResendEmailConfirmation, postApiUserReservations, postApiUsersAdmin, postApiUsersAdminImport, postApiUsersAdminImportStream, postApiUserSeatcartByEventIdBySeatId, postApiUsersMe2FaBackupCodes, postApiUsersMe2FaDisable, postApiUsersMe2FaEnable, postApiUsersMe2FaSendSetupEmail, postApiUsersMe2FaSetupTotp, postApiUserVerifyEmailCode, putApiAuthWebauthnCredentialsById, putApiManagerAreasById, putApiManagerEntrancesById, putApiManagerEventlocationsById, putApiManagerEventsById, putApiManagerMarkersById, putApiManagerReservationAllowance, putApiManagerSeatsById, putApiUsersAdminById, putApiUsersMe, putApiUsersMe2FaSettings } from '../sdk.gen';
+import type { DeleteApiAuthWebauthnCredentialsByIdData, DeleteApiAuthWebauthnCredentialsByIdResponse, DeleteApiManagerAreasData, DeleteApiManagerAreasResponse, DeleteApiManagerEntrancesData, DeleteApiManagerEntrancesResponse, DeleteApiManagerEventlocationsData, DeleteApiManagerEventlocationsResponse, DeleteApiManagerEventsByIdManagersByUserIdData, DeleteApiManagerEventsByIdManagersByUserIdResponse, DeleteApiManagerEventsData, DeleteApiManagerEventsResponse, DeleteApiManagerMarkersData, DeleteApiManagerMarkersResponse, DeleteApiManagerReservationAllowanceData, DeleteApiManagerReservationAllowanceResponse, DeleteApiManagerReservationsData, DeleteApiManagerReservationsResponse, DeleteApiManagerSeatsData, DeleteApiManagerSeatsResponse, DeleteApiNotificationsByIdData, DeleteApiNotificationsByIdResponse, DeleteApiPushSubscriptionsData, DeleteApiPushSubscriptionsResponse, DeleteApiUserReservationsData, DeleteApiUserReservationsResponse, DeleteApiUsersAdminByIdData, DeleteApiUsersAdminByIdResponse, DeleteApiUserSeatcartByEventIdBySeatIdData, DeleteApiUserSeatcartByEventIdBySeatIdResponse, GetApiAltchaChallengeData, GetApiAltchaChallengeResponse, GetApiAuthRegistrationStatusData, GetApiAuthRegistrationStatusResponse, GetApiAuthUsernameAvailabilityData, GetApiAuthUsernameAvailabilityResponse, GetApiAuthUsernameSuggestionData, GetApiAuthUsernameSuggestionResponse, GetApiAuthWebauthnCredentialsData, GetApiAuthWebauthnCredentialsResponse, GetApiAuthWebauthnStatusData, GetApiAuthWebauthnStatusResponse, GetApiEmailSeatmapData, GetApiEmailSeatmapResponse, GetApiEmailWalletAppleData, GetApiEmailWalletGoogleData, GetApiManagerAreasByIdData, GetApiManagerAreasByIdResponse, GetApiManagerAreasData, GetApiManagerAreasResponse, GetApiManagerEntrancesByIdData, GetApiManagerEntrancesByIdResponse, GetApiManagerEntrancesData, GetApiManagerEntrancesResponse, GetApiManagerEventlocationsData, GetApiManagerEventlocationsResponse, GetApiManagerEventsByIdData, GetApiManagerEventsByIdResponse, GetApiManagerEventsData, GetApiManagerEventsResponse, GetApiManagerMarkersByIdData, GetApiManagerMarkersByIdResponse, GetApiManagerMarkersData, GetApiManagerMarkersResponse, GetApiManagerOverviewData, GetApiManagerOverviewResponse, GetApiManagerReservationAllowanceByIdData, GetApiManagerReservationAllowanceByIdResponse, GetApiManagerReservationAllowanceData, GetApiManagerReservationAllowanceEventByEventIdData, GetApiManagerReservationAllowanceEventByEventIdResponse, GetApiManagerReservationAllowanceResponse, GetApiManagerReservationsByIdData, GetApiManagerReservationsByIdResponse, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdData, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponse, GetApiManagerReservationsEventByIdData, GetApiManagerReservationsEventByIdResponse, GetApiManagerReservationsExportByEventIdCsvData, GetApiManagerReservationsExportByEventIdPdfData, GetApiManagerReservationsExportByEventIdPdfResponse, GetApiManagerSeatsByIdData, GetApiManagerSeatsByIdResponse, GetApiManagerSeatsData, GetApiManagerSeatsResponse, GetApiNotificationsData, GetApiNotificationsResponse, GetApiNotificationsUnreadCountData, GetApiNotificationsUnreadCountResponse, GetApiPushSubscriptionsVapidPublicKeyData, GetApiSupervisorBoxofficeUsersData, GetApiSupervisorBoxofficeUsersResponse, GetApiSupervisorCheckinEventsData, GetApiSupervisorCheckinEventsResponse, GetApiSupervisorCheckinUsernamesByEventIdData, GetApiSupervisorCheckinUsernamesByEventIdResponse, GetApiUserEventsByEventIdWaitingRoomData, GetApiUserEventsByEventIdWaitingRoomResponse, GetApiUserEventsByIdData, GetApiUserEventsByIdResponse, GetApiUserEventsByIdSeatStatusesData, GetApiUserEventsByIdSeatStatusesResponse, GetApiUserEventsData, GetApiUserEventsResponse, GetApiUserLocationsByIdData, GetApiUserLocationsByIdResponse, GetApiUserLocationsData, GetApiUserLocationsResponse, GetApiUserReservationsByIdData, GetApiUserReservationsByIdResponse, GetApiUserReservationsData, GetApiUserReservationsResponse, GetApiUsersAdminData, GetApiUsersAdminResponse, GetApiUsersManagerData, GetApiUsersManagerResponse, GetApiUsersMe2FaData, GetApiUsersMe2FaResponse, GetApiUsersMeData, GetApiUsersMeResponse, GetApiUsersRolesData, GetApiUsersRolesResponse, GetApiUserWalletConfigData, GetApiUserWalletConfigResponse, GetApiUserWalletReservationsByIdByProviderData, GetApiUserWalletReservationsByIdByProviderResponse, PatchApiNotificationsByIdReadData, PatchApiNotificationsByIdReadResponse, PatchApiNotificationsReadAllData, PostApiAuth2FaResendEmailData, PostApiAuth2FaVerifyData, PostApiAuthLoginData, PostApiAuthLoginError, PostApiAuthLoginResponse, PostApiAuthLogoutAllDevicesData, PostApiAuthLogoutData, PostApiAuthPasswordResetConfirmData, PostApiAuthPasswordResetData, PostApiAuthRefreshData, PostApiAuthRegisterData, PostApiAuthUsernameRecoveryData, PostApiAuthWebauthnLoginData, PostApiAuthWebauthnLoginOptionsData, PostApiAuthWebauthnLoginOptionsResponse, PostApiAuthWebauthnRegisterData, PostApiAuthWebauthnRegisterNewData, PostApiAuthWebauthnRegisterNewOptionsData, PostApiAuthWebauthnRegisterNewOptionsResponse, PostApiAuthWebauthnRegisterOptionsData, PostApiAuthWebauthnRegisterOptionsResponse, PostApiManagerAreasData, PostApiManagerAreasResponse, PostApiManagerEntrancesData, PostApiManagerEntrancesResponse, PostApiManagerEventlocationsData, PostApiManagerEventlocationsResponse, PostApiManagerEventsByIdCancelData, PostApiManagerEventsByIdCancelResponse, PostApiManagerEventsByIdManagersByUserIdData, PostApiManagerEventsByIdManagersByUserIdResponse, PostApiManagerEventsData, PostApiManagerEventsResponse, PostApiManagerMarkersData, PostApiManagerMarkersResponse, PostApiManagerReservationAllowanceData, PostApiManagerReservationAllowanceResponse, PostApiManagerReservationsBlockData, PostApiManagerReservationsBlockResponse, PostApiManagerReservationsData, PostApiManagerReservationsResendConfirmationByEventIdByUserIdData, PostApiManagerReservationsResponse, PostApiManagerSeatsData, PostApiManagerSeatsResponse, PostApiPushSubscriptionsData, PostApiSupervisorBoxofficeReservationsData, PostApiSupervisorBoxofficeReservationsGuestData, PostApiSupervisorBoxofficeReservationsGuestResponse, PostApiSupervisorBoxofficeReservationsResponse, PostApiSupervisorCheckinInfoByUsernameData, PostApiSupervisorCheckinInfoByUsernameResponse, PostApiSupervisorCheckinInfoData, PostApiSupervisorCheckinInfoResponse, PostApiSupervisorCheckinProcessData, PostApiSupervisorCheckinProcessResponse, PostApiUserEventsByEventIdWaitingRoomData, PostApiUserEventsByEventIdWaitingRoomResponse, PostApiUserResendEmailConfirmationData, PostApiUserResendEmailConfirmationResponse, PostApiUserReservationsData, PostApiUserReservationsResponse, PostApiUsersAdminData, PostApiUsersAdminImportData, PostApiUsersAdminImportResponse, PostApiUsersAdminImportStreamData, PostApiUsersAdminImportStreamResponse, PostApiUserSeatcartByEventIdBySeatIdData, PostApiUserSeatcartByEventIdBySeatIdResponse, PostApiUsersMe2FaBackupCodesData, PostApiUsersMe2FaBackupCodesResponse, PostApiUsersMe2FaDisableData, PostApiUsersMe2FaDisableResponse, PostApiUsersMe2FaEnableData, PostApiUsersMe2FaEnableResponse, PostApiUsersMe2FaSendSetupEmailData, PostApiUsersMe2FaSetupTotpData, PostApiUsersMe2FaSetupTotpResponse, PostApiUserVerifyEmailCodeData, PutApiAuthWebauthnCredentialsByIdData, PutApiManagerAreasByIdData, PutApiManagerAreasByIdResponse, PutApiManagerEntrancesByIdData, PutApiManagerEntrancesByIdResponse, PutApiManagerEventlocationsByIdData, PutApiManagerEventlocationsByIdResponse, PutApiManagerEventsByIdData, PutApiManagerEventsByIdResponse, PutApiManagerMarkersByIdData, PutApiManagerMarkersByIdResponse, PutApiManagerReservationAllowanceData, PutApiManagerReservationAllowanceResponse, PutApiManagerSeatsByIdData, PutApiManagerSeatsByIdResponse, PutApiUsersAdminByIdData, PutApiUsersAdminByIdResponse, PutApiUsersMe2FaSettingsData, PutApiUsersMe2FaSettingsResponse, PutApiUsersMeData, PutApiUsersMeResponse } from '../types.gen';
 
 export type QueryKey<TOptions extends Options> = [
     Pick<TOptions, 'baseUrl' | 'body' | 'headers' | 'path' | 'query'> & {
@@ -1700,6 +1700,41 @@ export const getApiUserEventsOptions = (options?: Options<GetApiUserEventsData>)
     queryKey: getApiUserEventsQueryKey(options)
 });
 
+export const getApiUserEventsByEventIdWaitingRoomQueryKey = (options: Options<GetApiUserEventsByEventIdWaitingRoomData>) => createQueryKey('getApiUserEventsByEventIdWaitingRoom', options);
+
+/**
+ * Get Status
+ */
+export const getApiUserEventsByEventIdWaitingRoomOptions = (options: Options<GetApiUserEventsByEventIdWaitingRoomData>) => queryOptions<GetApiUserEventsByEventIdWaitingRoomResponse, DefaultError, GetApiUserEventsByEventIdWaitingRoomResponse, ReturnType<typeof getApiUserEventsByEventIdWaitingRoomQueryKey>>({
+    queryFn: async ({ queryKey, signal }) => {
+        const { data } = await getApiUserEventsByEventIdWaitingRoom({
+            ...options,
+            ...queryKey[0],
+            signal,
+            throwOnError: true
+        });
+        return data;
+    },
+    queryKey: getApiUserEventsByEventIdWaitingRoomQueryKey(options)
+});
+
+/**
+ * Join
+ */
+export const postApiUserEventsByEventIdWaitingRoomMutation = (options?: Partial<Options<PostApiUserEventsByEventIdWaitingRoomData>>): UseMutationOptions<PostApiUserEventsByEventIdWaitingRoomResponse, DefaultError, Options<PostApiUserEventsByEventIdWaitingRoomData>> => {
+    const mutationOptions: UseMutationOptions<PostApiUserEventsByEventIdWaitingRoomResponse, DefaultError, Options<PostApiUserEventsByEventIdWaitingRoomData>> = {
+        mutationFn: async (fnOptions) => {
+            const { data } = await postApiUserEventsByEventIdWaitingRoom({
+                ...options,
+                ...fnOptions,
+                throwOnError: true
+            });
+            return data;
+        }
+    };
+    return mutationOptions;
+};
+
 export const getApiUserEventsByIdQueryKey = (options: Options<GetApiUserEventsByIdData>) => createQueryKey('getApiUserEventsById', options);
 
 /**
@@ -1718,6 +1753,24 @@ export const getApiUserEventsByIdOptions = (options: Options<GetApiUserEventsByI
     queryKey: getApiUserEventsByIdQueryKey(options)
 });
 
+export const getApiUserEventsByIdSeatStatusesQueryKey = (options: Options<GetApiUserEventsByIdSeatStatusesData>) => createQueryKey('getApiUserEventsByIdSeatStatuses', options);
+
+/**
+ * Get Seat Statuses
+ */
+export const getApiUserEventsByIdSeatStatusesOptions = (options: Options<GetApiUserEventsByIdSeatStatusesData>) => queryOptions<GetApiUserEventsByIdSeatStatusesResponse, DefaultError, GetApiUserEventsByIdSeatStatusesResponse, ReturnType<typeof getApiUserEventsByIdSeatStatusesQueryKey>>({
+    queryFn: async ({ queryKey, signal }) => {
+        const { data } = await getApiUserEventsByIdSeatStatuses({
+            ...options,
+            ...queryKey[0],
+            signal,
+            throwOnError: true
+        });
+        return data;
+    },
+    queryKey: getApiUserEventsByIdSeatStatusesQueryKey(options)
+});
+
 export const getApiUserLocationsQueryKey = (options?: Options<GetApiUserLocationsData>) => createQueryKey('getApiUserLocations', options);
 
 /**
@@ -1984,6 +2037,23 @@ export const postApiUsersAdminImportMutation = (options?: Partial<Options<PostAp
     return mutationOptions;
 };
 
+/**
+ * Import Users Stream
+ */
+export const postApiUsersAdminImportStreamMutation = (options?: Partial<Options<PostApiUsersAdminImportStreamData>>): UseMutationOptions<PostApiUsersAdminImportStreamResponse, DefaultError, Options<PostApiUsersAdminImportStreamData>> => {
+    const mutationOptions: UseMutationOptions<PostApiUsersAdminImportStreamResponse, DefaultError, Options<PostApiUsersAdminImportStreamData>> = {
+        mutationFn: async (fnOptions) => {
+            const { data } = await postApiUsersAdminImportStream({
+                ...options,
+                ...fnOptions,
+                throwOnError: true
+            });
+            return data;
+        }
+    };
+    return mutationOptions;
+};
+
 /**
  * Delete User
  */
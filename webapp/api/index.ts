@@ -1,4 +1,4 @@
 // This file is auto-generated by @hey-api/openapi-ts
 
-export { deleteApiAuthWebauthnCredentialsById, deleteApiManagerAreas, deleteApiManagerEntrances, deleteApiManagerEventlocations, deleteApiManagerEvents, deleteApiManagerEventsByIdManagersByUserId, deleteApiManagerMarkers, deleteApiManagerReservationAllowance, deleteApiManagerReservations, deleteApiManagerSeats, deleteApiNotificationsById, deleteApiPushSubscriptions, deleteApiUserReservations, deleteApiUsersAdminById, deleteApiUserSeatcartByEventIdBySeatId, getApiAltchaChallenge, getApiAuthRegistrationStatus, getApiAuthUsernameAvailability, getApiAuthUsernameSuggestion, getApiAuthWebauthnCredentials, getApiAuthWebauthnStatus, getApiEmailSeatmap, getApiEmailWalletApple, getApiEmailWalletGoogle, getApiManagerAreas, getApiManagerAreasById, getApiManagerEntrances, getApiManagerEntrancesById, getApiManagerEventlocations, getApiManagerEvents, getApiManagerEventsById, getApiManagerMarkers, getApiManagerMarkersById, getApiManagerOverview, getApiManagerReservationAllowance, getApiManagerReservationAllowanceById, getApiManagerReservationAllowanceEventByEventId, getApiManagerReservationsById, getApiManagerReservationsConfirmationEmailByEventIdByUserId, getApiManagerReservationsEventById, getApiManagerReservationsExportByEventIdCsv, getApiManagerReservationsExportByEventIdPdf, getApiManagerSeats, getApiManagerSeatsById, getApiNotifications, getApiNotificationsUnreadCount, getApiPushSubscriptionsVapidPublicKey, getApiSupervisorBoxofficeUsers, getApiSupervisorCheckinEvents, getApiSupervisorCheckinUsernamesByEventId, getApiUserEvents, getApiUserEventsById, getApiUserLocations, getApiUserLocationsById, getApiUserReservations, getApiUserReservationsById, getApiUsersAdmin, getApiUsersManager, getApiUsersMe, getApiUsersMe2Fa, getApiUsersRoles, getApiUserWalletConfig, getApiUserWalletReservationsByIdByProvider, type Options, patchApiNotificationsByIdRead, patchApiNotificationsReadAll, postApiAuth2FaResendEmail, postApiAuth2FaVerify, postApiAuthLogin, postApiAuthLogout, postApiAuthLogoutAllDevices, postApiAuthPasswordReset, postApiAuthPasswordResetConfirm, postApiAuthRefresh, postApiAuthRegister, postApiAuthUsernameRecovery, postApiAuthWebauthnLogin, postApiAuthWebauthnLoginOptions, postApiAuthWebauthnRegister, postApiAuthWebauthnRegisterNew, postApiAuthWebauthnRegisterNewOptions, postApiAuthWebauthnRegisterOptions, postApiManagerAreas, postApiManagerEntrances, postApiManagerEventlocations, postApiManagerEvents, postApiManagerEventsByIdCancel, postApiManagerEventsByIdManagersByUserId, postApiManagerMarkers, postApiManagerReservationAllowance, postApiManagerReservations, postApiManagerReservationsBlock, postApiManagerReservationsResendConfirmationByEventIdByUserId, postApiManagerSeats, postApiPushSubscriptions, postApiSupervisorBoxofficeReservations, postApiSupervisorBoxofficeReservationsGuest, postApiSupervisorCheckinInfo, postApiSupervisorCheckinInfoByUsername, postApiSupervisorCheckinProcess, postApiUserResendEmailConfirmation, postApiUserReservations, postApiUsersAdmin, postApiUsersAdminImport, postApiUserSeatcartByEventIdBySeatId, postApiUsersMe2FaBackupCodes, postApiUsersMe2FaDisable, postApiUsersMe2FaEnable, postApiUsersMe2FaSendSetupEmail, postApiUsersMe2FaSetupTotp, postApiUserVerifyEmailCode, putApiAuthWebauthnCredentialsById, putApiManagerAreasById, putApiManagerEntrancesById, putApiManagerEventlocationsById, putApiManagerEventsById, putApiManagerMarkersById, putApiManagerReservationAllowance, putApiManagerSeatsById, putApiUsersAdminById, putApiUsersMe, putApiUsersMe2FaSettings } from './sdk.gen';
-export { ActionType, type AdminUserCreationDto, type AdminUserUpdateDto, type AreaDto, type AreaRequestDto, type AreaResponseDto, type BlockSeatsRequestDto, type BoxOfficeGuestReservationRequestDto, type BoxOfficeReservationRequestDto, type BoxOfficeReservationResponseDto, type BoxOfficeSeatDto, type Challenge, type CheckInInfoRequestDto, type CheckInInfoResponseDto, type CheckInProcessRequestDto, type ClientOptions, type CoordinateDto, type DeleteApiAuthWebauthnCredentialsByIdData, type DeleteApiAuthWebauthnCredentialsByIdErrors, type DeleteApiAuthWebauthnCredentialsByIdResponse, type DeleteApiAuthWebauthnCredentialsByIdResponses, type DeleteApiManagerAreasData, type DeleteApiManagerAreasErrors, type DeleteApiManagerAreasResponse, type DeleteApiManagerAreasResponses, type DeleteApiManagerEntrancesData, type DeleteApiManagerEntrancesErrors, type DeleteApiManagerEntrancesResponse, type DeleteApiManagerEntrancesResponses, type DeleteApiManagerEventlocationsData, type DeleteApiManagerEventlocationsErrors, type DeleteApiManagerEventlocationsResponse, type DeleteApiManagerEventlocationsResponses, type DeleteApiManagerEventsByIdManagersByUserIdData, type DeleteApiManagerEventsByIdManagersByUserIdErrors, type DeleteApiManagerEventsByIdManagersByUserIdResponse, type DeleteApiManagerEventsByIdManagersByUserIdResponses, type DeleteApiManagerEventsData, type DeleteApiManagerEventsErrors, type DeleteApiManagerEventsResponse, type DeleteApiManagerEventsResponses, type DeleteApiManagerMarkersData, type DeleteApiManagerMarkersErrors, type DeleteApiManagerMarkersResponse, type DeleteApiManagerMarkersResponses, type DeleteApiManagerReservationAllowanceData, type DeleteApiManagerReservationAllowanceErrors, type DeleteApiManagerReservationAllowanceResponse, type DeleteApiManagerReservationAllowanceResponses, type DeleteApiManagerReservationsData, type DeleteApiManagerReservationsErrors, type DeleteApiManagerReservationsResponse, type DeleteApiManagerReservationsResponses, type DeleteApiManagerSeatsData, type DeleteApiManagerSeatsErrors, type DeleteApiManagerSeatsResponse, type DeleteApiManagerSeatsResponses, type DeleteApiNotificationsByIdData, type DeleteApiNotificationsByIdErrors, type DeleteApiNotificationsByIdResponse, type DeleteApiNotificationsByIdResponses, type DeleteApiPushSubscriptionsData, type DeleteApiPushSubscriptionsErrors, type DeleteApiPushSubscriptionsResponse, type DeleteApiPushSubscriptionsResponses, type DeleteApiUserReservationsData, type DeleteApiUserReservationsErrors, type DeleteApiUserReservationsResponse, type DeleteApiUserReservationsResponses, type DeleteApiUsersAdminByIdData, type DeleteApiUsersAdminByIdErrors, type DeleteApiUsersAdminByIdResponse, type DeleteApiUsersAdminByIdResponses, type DeleteApiUserSeatcartByEventIdBySeatIdData, type DeleteApiUserSeatcartByEventIdBySeatIdErrors, type DeleteApiUserSeatcartByEventIdBySeatIdResponse, type DeleteApiUserSeatcartByEventIdBySeatIdResponses, type EmailCooldownDto, type EntranceRequestDto, type EntranceResponseDto, type EventCancelRequestDto, type EventLocationMakerDto, type EventLocationRequestDto, type EventLocationResponseDto, type EventLocationUpdateDto, type EventRequestDto, type EventResponseDto, EventStatus, type EventUserAllowancesCreateDto, type EventUserAllowancesDto, type EventUserAllowanceUpdateDto, type GetApiAltchaChallengeData, type GetApiAltchaChallengeResponse, type GetApiAltchaChallengeResponses, type GetApiAuthRegistrationStatusData, type GetApiAuthRegistrationStatusResponse, type GetApiAuthRegistrationStatusResponses, type GetApiAuthUsernameAvailabilityData, type GetApiAuthUsernameAvailabilityResponse, type GetApiAuthUsernameAvailabilityResponses, type GetApiAuthUsernameSuggestionData, type GetApiAuthUsernameSuggestionResponse, type GetApiAuthUsernameSuggestionResponses, type GetApiAuthWebauthnCredentialsData, type GetApiAuthWebauthnCredentialsErrors, type GetApiAuthWebauthnCredentialsResponse, type GetApiAuthWebauthnCredentialsResponses, type GetApiAuthWebauthnStatusData, type GetApiAuthWebauthnStatusErrors, type GetApiAuthWebauthnStatusResponse, type GetApiAuthWebauthnStatusResponses, type GetApiEmailSeatmapData, type GetApiEmailSeatmapResponse, type GetApiEmailSeatmapResponses, type GetApiEmailWalletAppleData, type GetApiEmailWalletAppleResponses, type GetApiEmailWalletGoogleData, type GetApiEmailWalletGoogleResponses, type GetApiManagerAreasByIdData, type GetApiManagerAreasByIdErrors, type GetApiManagerAreasByIdResponse, type GetApiManagerAreasByIdResponses, type GetApiManagerAreasData, type GetApiManagerAreasErrors, type GetApiManagerAreasResponse, type GetApiManagerAreasResponses, type GetApiManagerEntrancesByIdData, type GetApiManagerEntrancesByIdErrors, type GetApiManagerEntrancesByIdResponse, type GetApiManagerEntrancesByIdResponses, type GetApiManagerEntrancesData, type GetApiManagerEntrancesErrors, type GetApiManagerEntrancesResponse, type GetApiManagerEntrancesResponses, type GetApiManagerEventlocationsData, type GetApiManagerEventlocationsErrors, type GetApiManagerEventlocationsResponse, type GetApiManagerEventlocationsResponses, type GetApiManagerEventsByIdData, type GetApiManagerEventsByIdErrors, type GetApiManagerEventsByIdResponse, type GetApiManagerEventsByIdResponses, type GetApiManagerEventsData, type GetApiManagerEventsErrors, type GetApiManagerEventsResponse, type GetApiManagerEventsResponses, type GetApiManagerMarkersByIdData, type GetApiManagerMarkersByIdErrors, type GetApiManagerMarkersByIdResponse, type GetApiManagerMarkersByIdResponses, type GetApiManagerMarkersData, type GetApiManagerMarkersErrors, type GetApiManagerMarkersResponse, type GetApiManagerMarkersResponses, type GetApiManagerOverviewData, type GetApiManagerOverviewErrors, type GetApiManagerOverviewResponse, type GetApiManagerOverviewResponses, type GetApiManagerReservationAllowanceByIdData, type GetApiManagerReservationAllowanceByIdErrors, type GetApiManagerReservationAllowanceByIdResponse, type GetApiManagerReservationAllowanceByIdResponses, type GetApiManagerReservationAllowanceData, type GetApiManagerReservationAllowanceErrors, type GetApiManagerReservationAllowanceEventByEventIdData, type GetApiManagerReservationAllowanceEventByEventIdErrors, type GetApiManagerReservationAllowanceEventByEventIdResponse, type GetApiManagerReservationAllowanceEventByEventIdResponses, type GetApiManagerReservationAllowanceResponse, type GetApiManagerReservationAllowanceResponses, type GetApiManagerReservationsByIdData, type GetApiManagerReservationsByIdErrors, type GetApiManagerReservationsByIdResponse, type GetApiManagerReservationsByIdResponses, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdData, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdErrors, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponse, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponses, type GetApiManagerReservationsEventByIdData, type GetApiManagerReservationsEventByIdErrors, type GetApiManagerReservationsEventByIdResponse, type GetApiManagerReservationsEventByIdResponses, type GetApiManagerReservationsExportByEventIdCsvData, type GetApiManagerReservationsExportByEventIdCsvErrors, type GetApiManagerReservationsExportByEventIdCsvResponses, type GetApiManagerReservationsExportByEventIdPdfData, type GetApiManagerReservationsExportByEventIdPdfErrors, type GetApiManagerReservationsExportByEventIdPdfResponse, type GetApiManagerReservationsExportByEventIdPdfResponses, type GetApiManagerSeatsByIdData, type GetApiManagerSeatsByIdErrors, type GetApiManagerSeatsByIdResponse, type GetApiManagerSeatsByIdResponses, type GetApiManagerSeatsData, type GetApiManagerSeatsErrors, type GetApiManagerSeatsResponse, type GetApiManagerSeatsResponses, type GetApiNotificationsData, type GetApiNotificationsErrors, type GetApiNotificationsResponse, type GetApiNotificationsResponses, type GetApiNotificationsUnreadCountData, type GetApiNotificationsUnreadCountErrors, type GetApiNotificationsUnreadCountResponse, type GetApiNotificationsUnreadCountResponses, type GetApiPushSubscriptionsVapidPublicKeyData, type GetApiPushSubscriptionsVapidPublicKeyErrors, type GetApiPushSubscriptionsVapidPublicKeyResponses, type GetApiSupervisorBoxofficeUsersData, type GetApiSupervisorBoxofficeUsersErrors, type GetApiSupervisorBoxofficeUsersResponse, type GetApiSupervisorBoxofficeUsersResponses, type GetApiSupervisorCheckinEventsData, type GetApiSupervisorCheckinEventsErrors, type GetApiSupervisorCheckinEventsResponse, type GetApiSupervisorCheckinEventsResponses, type GetApiSupervisorCheckinUsernamesByEventIdData, type GetApiSupervisorCheckinUsernamesByEventIdErrors, type GetApiSupervisorCheckinUsernamesByEventIdResponse, type GetApiSupervisorCheckinUsernamesByEventIdResponses, type GetApiUserEventsByIdData, type GetApiUserEventsByIdErrors, type GetApiUserEventsByIdResponse, type GetApiUserEventsByIdResponses, type GetApiUserEventsData, type GetApiUserEventsErrors, type GetApiUserEventsResponse, type GetApiUserEventsResponses, type GetApiUserLocationsByIdData, type GetApiUserLocationsByIdErrors, type GetApiUserLocationsByIdResponse, type GetApiUserLocationsByIdResponses, type GetApiUserLocationsData, type GetApiUserLocationsErrors, type GetApiUserLocationsResponse, type GetApiUserLocationsResponses, type GetApiUserReservationsByIdData, type GetApiUserReservationsByIdErrors, type GetApiUserReservationsByIdResponse, type GetApiUserReservationsByIdResponses, type GetApiUserReservationsData, type GetApiUserReservationsErrors, type GetApiUserReservationsResponse, type GetApiUserReservationsResponses, type GetApiUsersAdminData, type GetApiUsersAdminErrors, type GetApiUsersAdminResponse, type GetApiUsersAdminResponses, type GetApiUsersManagerData, type GetApiUsersManagerErrors, type GetApiUsersManagerResponse, type GetApiUsersManagerResponses, type GetApiUsersMe2FaData, type GetApiUsersMe2FaErrors, type GetApiUsersMe2FaResponse, type GetApiUsersMe2FaResponses, type GetApiUsersMeData, type GetApiUsersMeErrors, type GetApiUsersMeResponse, type GetApiUsersMeResponses, type GetApiUsersRolesData, type GetApiUsersRolesErrors, type GetApiUsersRolesResponse, type GetApiUsersRolesResponses, type GetApiUserWalletConfigData, type GetApiUserWalletConfigResponse, type GetApiUserWalletConfigResponses, type GetApiUserWalletReservationsByIdByProviderData, type GetApiUserWalletReservationsByIdByProviderErrors, type GetApiUserWalletReservationsByIdByProviderResponse, type GetApiUserWalletReservationsByIdByProviderResponses, type ImportAreaDto, type ImportMarkerDto, type ImportSeatDto, type Instant, type LimitedUserInfoDto, type LoginLockedDto, type LoginRequestDto, type MakerRequestDto, type ManagementOverviewDto, type ManagementOverviewStatsDto, NotificationCategory, type NotificationPageDto, NotificationPriority, type PasswordResetConfirmDto, type PasswordResetRequestDto, type PatchApiNotificationsByIdReadData, type PatchApiNotificationsByIdReadErrors, type PatchApiNotificationsByIdReadResponse, type PatchApiNotificationsByIdReadResponses, type PatchApiNotificationsReadAllData, type PatchApiNotificationsReadAllErrors, type PatchApiNotificationsReadAllResponses, type PostApiAuth2FaResendEmailData, type PostApiAuth2FaResendEmailErrors, type PostApiAuth2FaResendEmailResponses, type PostApiAuth2FaVerifyData, type PostApiAuth2FaVerifyErrors, type PostApiAuth2FaVerifyResponses, type PostApiAuthLoginData, type PostApiAuthLoginError, type PostApiAuthLoginErrors, type PostApiAuthLoginResponse, type PostApiAuthLoginResponses, type PostApiAuthLogoutAllDevicesData, type PostApiAuthLogoutAllDevicesErrors, type PostApiAuthLogoutAllDevicesResponses, type PostApiAuthLogoutData, type PostApiAuthLogoutErrors, type PostApiAuthLogoutResponses, type PostApiAuthPasswordResetConfirmData, type PostApiAuthPasswordResetConfirmErrors, type PostApiAuthPasswordResetConfirmResponses, type PostApiAuthPasswordResetData, type PostApiAuthPasswordResetErrors, type PostApiAuthPasswordResetResponses, type PostApiAuthRefreshData, type PostApiAuthRefreshErrors, type PostApiAuthRefreshResponses, type PostApiAuthRegisterData, type PostApiAuthRegisterErrors, type PostApiAuthRegisterResponses, type PostApiAuthUsernameRecoveryData, type PostApiAuthUsernameRecoveryErrors, type PostApiAuthUsernameRecoveryResponses, type PostApiAuthWebauthnLoginData, type PostApiAuthWebauthnLoginErrors, type PostApiAuthWebauthnLoginOptionsData, type PostApiAuthWebauthnLoginOptionsResponse, type PostApiAuthWebauthnLoginOptionsResponses, type PostApiAuthWebauthnLoginResponses, type PostApiAuthWebauthnRegisterData, type PostApiAuthWebauthnRegisterErrors, type PostApiAuthWebauthnRegisterNewData, type PostApiAuthWebauthnRegisterNewErrors, type PostApiAuthWebauthnRegisterNewOptionsData, type PostApiAuthWebauthnRegisterNewOptionsErrors, type PostApiAuthWebauthnRegisterNewOptionsResponse, type PostApiAuthWebauthnRegisterNewOptionsResponses, type PostApiAuthWebauthnRegisterNewResponses, type PostApiAuthWebauthnRegisterOptionsData, type PostApiAuthWebauthnRegisterOptionsErrors, type PostApiAuthWebauthnRegisterOptionsResponse, type PostApiAuthWebauthnRegisterOptionsResponses, type PostApiAuthWebauthnRegisterResponses, type PostApiManagerAreasData, type PostApiManagerAreasErrors, type PostApiManagerAreasResponse, type PostApiManagerAreasResponses, type PostApiManagerEntrancesData, type PostApiManagerEntrancesErrors, type PostApiManagerEntrancesResponse, type PostApiManagerEntrancesResponses, type PostApiManagerEventlocationsData, type PostApiManagerEventlocationsErrors, type PostApiManagerEventlocationsResponse, type PostApiManagerEventlocationsResponses, type PostApiManagerEventsByIdCancelData, type PostApiManagerEventsByIdCancelErrors, type PostApiManagerEventsByIdCancelResponse, type PostApiManagerEventsByIdCancelResponses, type PostApiManagerEventsByIdManagersByUserIdData, type PostApiManagerEventsByIdManagersByUserIdErrors, type PostApiManagerEventsByIdManagersByUserIdResponse, type PostApiManagerEventsByIdManagersByUserIdResponses, type PostApiManagerEventsData, type PostApiManagerEventsErrors, type PostApiManagerEventsResponse, type PostApiManagerEventsResponses, type PostApiManagerMarkersData, type PostApiManagerMarkersErrors, type PostApiManagerMarkersResponse, type PostApiManagerMarkersResponses, type PostApiManagerReservationAllowanceData, type PostApiManagerReservationAllowanceErrors, type PostApiManagerReservationAllowanceResponse, type PostApiManagerReservationAllowanceResponses, type PostApiManagerReservationsBlockData, type PostApiManagerReservationsBlockErrors, type PostApiManagerReservationsBlockResponse, type PostApiManagerReservationsBlockResponses, type PostApiManagerReservationsData, type PostApiManagerReservationsErrors, type PostApiManagerReservationsResendConfirmationByEventIdByUserIdData, type PostApiManagerReservationsResendConfirmationByEventIdByUserIdErrors, type PostApiManagerReservationsResendConfirmationByEventIdByUserIdResponses, type PostApiManagerReservationsResponse, type PostApiManagerReservationsResponses, type PostApiManagerSeatsData, type PostApiManagerSeatsErrors, type PostApiManagerSeatsResponse, type PostApiManagerSeatsResponses, type PostApiPushSubscriptionsData, type PostApiPushSubscriptionsErrors, type PostApiPushSubscriptionsResponses, type PostApiSupervisorBoxofficeReservationsData, type PostApiSupervisorBoxofficeReservationsErrors, type PostApiSupervisorBoxofficeReservationsGuestData, type PostApiSupervisorBoxofficeReservationsGuestErrors, type PostApiSupervisorBoxofficeReservationsGuestResponse, type PostApiSupervisorBoxofficeReservationsGuestResponses, type PostApiSupervisorBoxofficeReservationsResponse, type PostApiSupervisorBoxofficeReservationsResponses, type PostApiSupervisorCheckinInfoByUsernameData, type PostApiSupervisorCheckinInfoByUsernameErrors, type PostApiSupervisorCheckinInfoByUsernameResponse, type PostApiSupervisorCheckinInfoByUsernameResponses, type PostApiSupervisorCheckinInfoData, type PostApiSupervisorCheckinInfoErrors, type PostApiSupervisorCheckinInfoResponse, type PostApiSupervisorCheckinInfoResponses, type PostApiSupervisorCheckinProcessData, type PostApiSupervisorCheckinProcessErrors, type PostApiSupervisorCheckinProcessResponse, type PostApiSupervisorCheckinProcessResponses, type PostApiUserResendEmailConfirmationData, type PostApiUserResendEmailConfirmationErrors, type PostApiUserResendEmailConfirmationResponse, type PostApiUserResendEmailConfirmationResponses, type PostApiUserReservationsData, type PostApiUserReservationsErrors, type PostApiUserReservationsResponse, type PostApiUserReservationsResponses, type PostApiUsersAdminData, type PostApiUsersAdminErrors, type PostApiUsersAdminImportData, type PostApiUsersAdminImportErrors, type PostApiUsersAdminImportResponse, type PostApiUsersAdminImportResponses, type PostApiUsersAdminResponses, type PostApiUserSeatcartByEventIdBySeatIdData, type PostApiUserSeatcartByEventIdBySeatIdErrors, type PostApiUserSeatcartByEventIdBySeatIdResponse, type PostApiUserSeatcartByEventIdBySeatIdResponses, type PostApiUsersMe2FaBackupCodesData, type PostApiUsersMe2FaBackupCodesErrors, type PostApiUsersMe2FaBackupCodesResponse, type PostApiUsersMe2FaBackupCodesResponses, type PostApiUsersMe2FaDisableData, type PostApiUsersMe2FaDisableErrors, type PostApiUsersMe2FaDisableResponse, type PostApiUsersMe2FaDisableResponses, type PostApiUsersMe2FaEnableData, type PostApiUsersMe2FaEnableErrors, type PostApiUsersMe2FaEnableResponse, type PostApiUsersMe2FaEnableResponses, type PostApiUsersMe2FaSendSetupEmailData, type PostApiUsersMe2FaSendSetupEmailErrors, type PostApiUsersMe2FaSendSetupEmailResponses, type PostApiUsersMe2FaSetupTotpData, type PostApiUsersMe2FaSetupTotpErrors, type PostApiUsersMe2FaSetupTotpResponse, type PostApiUsersMe2FaSetupTotpResponses, type PostApiUserVerifyEmailCodeData, type PostApiUserVerifyEmailCodeErrors, type PostApiUserVerifyEmailCodeResponses, type PushSubscriptionRequestDto, type PutApiAuthWebauthnCredentialsByIdData, type PutApiAuthWebauthnCredentialsByIdErrors, type PutApiAuthWebauthnCredentialsByIdResponses, type PutApiManagerAreasByIdData, type PutApiManagerAreasByIdErrors, type PutApiManagerAreasByIdResponse, type PutApiManagerAreasByIdResponses, type PutApiManagerEntrancesByIdData, type PutApiManagerEntrancesByIdErrors, type PutApiManagerEntrancesByIdResponse, type PutApiManagerEntrancesByIdResponses, type PutApiManagerEventlocationsByIdData, type PutApiManagerEventlocationsByIdErrors, type PutApiManagerEventlocationsByIdResponse, type PutApiManagerEventlocationsByIdResponses, type PutApiManagerEventsByIdData, type PutApiManagerEventsByIdErrors, type PutApiManagerEventsByIdResponse, type PutApiManagerEventsByIdResponses, type PutApiManagerMarkersByIdData, type PutApiManagerMarkersByIdErrors, type PutApiManagerMarkersByIdResponse, type PutApiManagerMarkersByIdResponses, type PutApiManagerReservationAllowanceData, type PutApiManagerReservationAllowanceErrors, type PutApiManagerReservationAllowanceResponse, type PutApiManagerReservationAllowanceResponses, type PutApiManagerSeatsByIdData, type PutApiManagerSeatsByIdErrors, type PutApiManagerSeatsByIdResponse, type PutApiManagerSeatsByIdResponses, type PutApiUsersAdminByIdData, type PutApiUsersAdminByIdErrors, type PutApiUsersAdminByIdResponse, type PutApiUsersAdminByIdResponses, type PutApiUsersMe2FaSettingsData, type PutApiUsersMe2FaSettingsErrors, type PutApiUsersMe2FaSettingsResponse, type PutApiUsersMe2FaSettingsResponses, type PutApiUsersMeData, type PutApiUsersMeErrors, type PutApiUsersMeResponse, type PutApiUsersMeResponses, type RegisterRequestDto, type RegistrationDetailsDto, type RegistrationStatusDto, type ReservationConfirmationEmailDto, ReservationLiveStatus, type ReservationRequestDto, type ReservationResponseDto, ReservationStatus, type SeatCartEntryDto, type SeatDto, type SeatRequestDto, type SeatStatusDto, type SupervisorEventLocationDto, type SupervisorEventResponseDto, type SupervisorReservationResponseDto, type SupervisorSeatStatusDto, type TwoFactorBackupCodesDto, type TwoFactorDisableDto, type TwoFactorEnableDto, TwoFactorMethod, type TwoFactorRegenerateBackupCodesDto, type TwoFactorRequiredDto, type TwoFactorResendEmailRequestDto, type TwoFactorSettingsUpdateDto, type TwoFactorSetupDto, type TwoFactorStatusDto, type TwoFactorVerifyRequestDto, type UnreadCountDto, type UpcomingEventDto, type UserDto, type UserEventLocationResponseDto, type UserEventLocationSummaryDto, type UserEventResponseDto, type UsernameAvailabilityDto, type UsernameRecoveryRequestDto, type UsernameSuggestionDto, type UserNotificationDto, type UserProfileUpdateDto, type UserReservationResponseDto, type UserReservationsRequestDto, type Uuid, type VapidPublicKeyDto, type VerifyEmailCodeRequestDto, type WalletConfigDto, type WalletPassResponseDto, WalletProvider, type WebAuthnCredentialDto, type WebAuthnCredentialUpdateDto, type WebAuthnRegistrationStartDto, type WebAuthnStatusDto } from './types.gen';
+export { deleteApiAuthWebauthnCredentialsById, deleteApiManagerAreas, deleteApiManagerEntrances, deleteApiManagerEventlocations, deleteApiManagerEvents, deleteApiManagerEventsByIdManagersByUserId, deleteApiManagerMarkers, deleteApiManagerReservationAllowance, deleteApiManagerReservations, deleteApiManagerSeats, deleteApiNotificationsById, deleteApiPushSubscriptions, deleteApiUserReservations, deleteApiUsersAdminById, deleteApiUserSeatcartByEventIdBySeatId, getApiAltchaChallenge, getApiAuthRegistrationStatus, getApiAuthUsernameAvailability, getApiAuthUsernameSuggestion, getApiAuthWebauthnCredentials, getApiAuthWebauthnStatus, getApiEmailSeatmap, getApiEmailWalletApple, getApiEmailWalletGoogle, getApiManagerAreas, getApiManagerAreasById, getApiManagerEntrances, getApiManagerEntrancesById, getApiManagerEventlocations, getApiManagerEvents, getApiManagerEventsById, getApiManagerMarkers, getApiManagerMarkersById, getApiManagerOverview, getApiManagerReservationAllowance, getApiManagerReservationAllowanceById, getApiManagerReservationAllowanceEventByEventId, getApiManagerReservationsById, getApiManagerReservationsConfirmationEmailByEventIdByUserId, getApiManagerReservationsEventById, getApiManagerReservationsExportByEventIdCsv, getApiManagerReservationsExportByEventIdPdf, getApiManagerSeats, getApiManagerSeatsById, getApiNotifications, getApiNotificationsUnreadCount, getApiPushSubscriptionsVapidPublicKey, getApiSupervisorBoxofficeUsers, getApiSupervisorCheckinEvents, getApiSupervisorCheckinUsernamesByEventId, getApiUserEvents, getApiUserEventsByEventIdWaitingRoom, getApiUserEventsById, getApiUserEventsByIdSeatStatuses, getApiUserLocations, getApiUserLocationsById, getApiUserReservations, getApiUserReservationsById, getApiUsersAdmin, getApiUsersManager, getApiUsersMe, getApiUsersMe2Fa, getApiUsersRoles, getApiUserWalletConfig, getApiUserWalletReservationsByIdByProvider, type Options, patchApiNotificationsByIdRead, patchApiNotificationsReadAll, postApiAuth2FaResendEmail, postApiAuth2FaVerify, postApiAuthLogin, postApiAuthLogout, postApiAuthLogoutAllDevices, postApiAuthPasswordReset, postApiAuthPasswordResetConfirm, postApiAuthRefresh, postApiAuthRegister, postApiAuthUsernameRecovery, postApiAuthWebauthnLogin, postApiAuthWebauthnLoginOptions, postApiAuthWebauthnRegister, postApiAuthWebauthnRegisterNew, postApiAuthWebauthnRegisterNewOptions, postApiAuthWebauthnRegisterOptions, postApiManagerAreas, postApiManagerEntrances, postApiManagerEventlocations, postApiManagerEvents, postApiManagerEventsByIdCancel, postApiManagerEventsByIdManagersByUserId, postApiManagerMarkers, postApiManagerReservationAllowance, postApiManagerReservations, postApiManagerReservationsBlock, postApiManagerReservationsResendConfirmationByEventIdByUserId, postApiManagerSeats, postApiPushSubscriptions, postApiSupervisorBoxofficeReservations, postApiSupervisorBoxofficeReservationsGuest, postApiSupervisorCheckinInfo, postApiSupervisorCheckinInfoByUsername, postApiSupervisorCheckinProcess, postApiUserEventsByEventIdWaitingRoom, postApiUserResendEmailConfirmation, postApiUserReservations, postApiUsersAdmin, postApiUsersAdminImport, postApiUsersAdminImportStream, postApiUserSeatcartByEventIdBySeatId, postApiUsersMe2FaBackupCodes, postApiUsersMe2FaDisable, postApiUsersMe2FaEnable, postApiUsersMe2FaSendSetupEmail, postApiUsersMe2FaSetupTotp, postApiUserVerifyEmailCode, putApiAuthWebauthnCredentialsById, putApiManagerAreasById, putApiManagerEntrancesById, putApiManagerEventlocationsById, putApiManagerEventsById, putApiManagerMarkersById, putApiManagerReservationAllowance, putApiManagerSeatsById, putApiUsersAdminById, putApiUsersMe, putApiUsersMe2FaSettings } from './sdk.gen';
+export { ActionType, type AdminUserCreationDto, type AdminUserUpdateDto, type AreaDto, type AreaRequestDto, type AreaResponseDto, type BlockSeatsRequestDto, type BoxOfficeGuestReservationRequestDto, type BoxOfficeReservationRequestDto, type BoxOfficeReservationResponseDto, type BoxOfficeSeatDto, type Challenge, type CheckInInfoRequestDto, type CheckInInfoResponseDto, type CheckInProcessRequestDto, type ClientOptions, type CoordinateDto, type DeleteApiAuthWebauthnCredentialsByIdData, type DeleteApiAuthWebauthnCredentialsByIdErrors, type DeleteApiAuthWebauthnCredentialsByIdResponse, type DeleteApiAuthWebauthnCredentialsByIdResponses, type DeleteApiManagerAreasData, type DeleteApiManagerAreasErrors, type DeleteApiManagerAreasResponse, type DeleteApiManagerAreasResponses, type DeleteApiManagerEntrancesData, type DeleteApiManagerEntrancesErrors, type DeleteApiManagerEntrancesResponse, type DeleteApiManagerEntrancesResponses, type DeleteApiManagerEventlocationsData, type DeleteApiManagerEventlocationsErrors, type DeleteApiManagerEventlocationsResponse, type DeleteApiManagerEventlocationsResponses, type DeleteApiManagerEventsByIdManagersByUserIdData, type DeleteApiManagerEventsByIdManagersByUserIdErrors, type DeleteApiManagerEventsByIdManagersByUserIdResponse, type DeleteApiManagerEventsByIdManagersByUserIdResponses, type DeleteApiManagerEventsData, type DeleteApiManagerEventsErrors, type DeleteApiManagerEventsResponse, type DeleteApiManagerEventsResponses, type DeleteApiManagerMarkersData, type DeleteApiManagerMarkersErrors, type DeleteApiManagerMarkersResponse, type DeleteApiManagerMarkersResponses, type DeleteApiManagerReservationAllowanceData, type DeleteApiManagerReservationAllowanceErrors, type DeleteApiManagerReservationAllowanceResponse, type DeleteApiManagerReservationAllowanceResponses, type DeleteApiManagerReservationsData, type DeleteApiManagerReservationsErrors, type DeleteApiManagerReservationsResponse, type DeleteApiManagerReservationsResponses, type DeleteApiManagerSeatsData, type DeleteApiManagerSeatsErrors, type DeleteApiManagerSeatsResponse, type DeleteApiManagerSeatsResponses, type DeleteApiNotificationsByIdData, type DeleteApiNotificationsByIdErrors, type DeleteApiNotificationsByIdResponse, type DeleteApiNotificationsByIdResponses, type DeleteApiPushSubscriptionsData, type DeleteApiPushSubscriptionsErrors, type DeleteApiPushSubscriptionsResponse, type DeleteApiPushSubscriptionsResponses, type DeleteApiUserReservationsData, type DeleteApiUserReservationsErrors, type DeleteApiUserReservationsResponse, type DeleteApiUserReservationsResponses, type DeleteApiUsersAdminByIdData, type DeleteApiUsersAdminByIdErrors, type DeleteApiUsersAdminByIdResponse, type DeleteApiUsersAdminByIdResponses, type DeleteApiUserSeatcartByEventIdBySeatIdData, type DeleteApiUserSeatcartByEventIdBySeatIdErrors, type DeleteApiUserSeatcartByEventIdBySeatIdResponse, type DeleteApiUserSeatcartByEventIdBySeatIdResponses, type EmailCooldownDto, type EntranceRequestDto, type EntranceResponseDto, type EventCancelRequestDto, type EventLocationMakerDto, type EventLocationRequestDto, type EventLocationResponseDto, type EventLocationUpdateDto, type EventRequestDto, type EventResponseDto, EventStatus, type EventUserAllowancesCreateDto, type EventUserAllowancesDto, type EventUserAllowanceUpdateDto, type GetApiAltchaChallengeData, type GetApiAltchaChallengeResponse, type GetApiAltchaChallengeResponses, type GetApiAuthRegistrationStatusData, type GetApiAuthRegistrationStatusResponse, type GetApiAuthRegistrationStatusResponses, type GetApiAuthUsernameAvailabilityData, type GetApiAuthUsernameAvailabilityResponse, type GetApiAuthUsernameAvailabilityResponses, type GetApiAuthUsernameSuggestionData, type GetApiAuthUsernameSuggestionResponse, type GetApiAuthUsernameSuggestionResponses, type GetApiAuthWebauthnCredentialsData, type GetApiAuthWebauthnCredentialsErrors, type GetApiAuthWebauthnCredentialsResponse, type GetApiAuthWebauthnCredentialsResponses, type GetApiAuthWebauthnStatusData, type GetApiAuthWebauthnStatusErrors, type GetApiAuthWebauthnStatusResponse, type GetApiAuthWebauthnStatusResponses, type GetApiEmailSeatmapData, type GetApiEmailSeatmapResponse, type GetApiEmailSeatmapResponses, type GetApiEmailWalletAppleData, type GetApiEmailWalletAppleResponses, type GetApiEmailWalletGoogleData, type GetApiEmailWalletGoogleResponses, type GetApiManagerAreasByIdData, type GetApiManagerAreasByIdErrors, type GetApiManagerAreasByIdResponse, type GetApiManagerAreasByIdResponses, type GetApiManagerAreasData, type GetApiManagerAreasErrors, type GetApiManagerAreasResponse, type GetApiManagerAreasResponses, type GetApiManagerEntrancesByIdData, type GetApiManagerEntrancesByIdErrors, type GetApiManagerEntrancesByIdResponse, type GetApiManagerEntrancesByIdResponses, type GetApiManagerEntrancesData, type GetApiManagerEntrancesErrors, type GetApiManagerEntrancesResponse, type GetApiManagerEntrancesResponses, type GetApiManagerEventlocationsData, type GetApiManagerEventlocationsErrors, type GetApiManagerEventlocationsResponse, type GetApiManagerEventlocationsResponses, type GetApiManagerEventsByIdData, type GetApiManagerEventsByIdErrors, type GetApiManagerEventsByIdResponse, type GetApiManagerEventsByIdResponses, type GetApiManagerEventsData, type GetApiManagerEventsErrors, type GetApiManagerEventsResponse, type GetApiManagerEventsResponses, type GetApiManagerMarkersByIdData, type GetApiManagerMarkersByIdErrors, type GetApiManagerMarkersByIdResponse, type GetApiManagerMarkersByIdResponses, type GetApiManagerMarkersData, type GetApiManagerMarkersErrors, type GetApiManagerMarkersResponse, type GetApiManagerMarkersResponses, type GetApiManagerOverviewData, type GetApiManagerOverviewErrors, type GetApiManagerOverviewResponse, type GetApiManagerOverviewResponses, type GetApiManagerReservationAllowanceByIdData, type GetApiManagerReservationAllowanceByIdErrors, type GetApiManagerReservationAllowanceByIdResponse, type GetApiManagerReservationAllowanceByIdResponses, type GetApiManagerReservationAllowanceData, type GetApiManagerReservationAllowanceErrors, type GetApiManagerReservationAllowanceEventByEventIdData, type GetApiManagerReservationAllowanceEventByEventIdErrors, type GetApiManagerReservationAllowanceEventByEventIdResponse, type GetApiManagerReservationAllowanceEventByEventIdResponses, type GetApiManagerReservationAllowanceResponse, type GetApiManagerReservationAllowanceResponses, type GetApiManagerReservationsByIdData, type GetApiManagerReservationsByIdErrors, type GetApiManagerReservationsByIdResponse, type GetApiManagerReservationsByIdResponses, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdData, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdErrors, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponse, type GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponses, type GetApiManagerReservationsEventByIdData, type GetApiManagerReservationsEventByIdErrors, type GetApiManagerReservationsEventByIdResponse, type GetApiManagerReservationsEventByIdResponses, type GetApiManagerReservationsExportByEventIdCsvData, type GetApiManagerReservationsExportByEventIdCsvErrors, type GetApiManagerReservationsExportByEventIdCsvResponses, type GetApiManagerReservationsExportByEventIdPdfData, type GetApiManagerReservationsExportByEventIdPdfErrors, type GetApiManagerReservationsExportByEventIdPdfResponse, type GetApiManagerReservationsExportByEventIdPdfResponses, type GetApiManagerSeatsByIdData, type GetApiManagerSeatsByIdErrors, type GetApiManagerSeatsByIdResponse, type GetApiManagerSeatsByIdResponses, type GetApiManagerSeatsData, type GetApiManagerSeatsErrors, type GetApiManagerSeatsResponse, type GetApiManagerSeatsResponses, type GetApiNotificationsData, type GetApiNotificationsErrors, type GetApiNotificationsResponse, type GetApiNotificationsResponses, type GetApiNotificationsUnreadCountData, type GetApiNotificationsUnreadCountErrors, type GetApiNotificationsUnreadCountResponse, type GetApiNotificationsUnreadCountResponses, type GetApiPushSubscriptionsVapidPublicKeyData, type GetApiPushSubscriptionsVapidPublicKeyErrors, type GetApiPushSubscriptionsVapidPublicKeyResponses, type GetApiSupervisorBoxofficeUsersData, type GetApiSupervisorBoxofficeUsersErrors, type GetApiSupervisorBoxofficeUsersResponse, type GetApiSupervisorBoxofficeUsersResponses, type GetApiSupervisorCheckinEventsData, type GetApiSupervisorCheckinEventsErrors, type GetApiSupervisorCheckinEventsResponse, type GetApiSupervisorCheckinEventsResponses, type GetApiSupervisorCheckinUsernamesByEventIdData, type GetApiSupervisorCheckinUsernamesByEventIdErrors, type GetApiSupervisorCheckinUsernamesByEventIdResponse, type GetApiSupervisorCheckinUsernamesByEventIdResponses, type GetApiUserEventsByEventIdWaitingRoomData, type GetApiUserEventsByEventIdWaitingRoomErrors, type GetApiUserEventsByEventIdWaitingRoomResponse, type GetApiUserEventsByEventIdWaitingRoomResponses, type GetApiUserEventsByIdData, type GetApiUserEventsByIdErrors, type GetApiUserEventsByIdResponse, type GetApiUserEventsByIdResponses, type GetApiUserEventsByIdSeatStatusesData, type GetApiUserEventsByIdSeatStatusesErrors, type GetApiUserEventsByIdSeatStatusesResponse, type GetApiUserEventsByIdSeatStatusesResponses, type GetApiUserEventsData, type GetApiUserEventsErrors, type GetApiUserEventsResponse, type GetApiUserEventsResponses, type GetApiUserLocationsByIdData, type GetApiUserLocationsByIdErrors, type GetApiUserLocationsByIdResponse, type GetApiUserLocationsByIdResponses, type GetApiUserLocationsData, type GetApiUserLocationsErrors, type GetApiUserLocationsResponse, type GetApiUserLocationsResponses, type GetApiUserReservationsByIdData, type GetApiUserReservationsByIdErrors, type GetApiUserReservationsByIdResponse, type GetApiUserReservationsByIdResponses, type GetApiUserReservationsData, type GetApiUserReservationsErrors, type GetApiUserReservationsResponse, type GetApiUserReservationsResponses, type GetApiUsersAdminData, type GetApiUsersAdminErrors, type GetApiUsersAdminResponse, type GetApiUsersAdminResponses, type GetApiUsersManagerData, type GetApiUsersManagerErrors, type GetApiUsersManagerResponse, type GetApiUsersManagerResponses, type GetApiUsersMe2FaData, type GetApiUsersMe2FaErrors, type GetApiUsersMe2FaResponse, type GetApiUsersMe2FaResponses, type GetApiUsersMeData, type GetApiUsersMeErrors, type GetApiUsersMeResponse, type GetApiUsersMeResponses, type GetApiUsersRolesData, type GetApiUsersRolesErrors, type GetApiUsersRolesResponse, type GetApiUsersRolesResponses, type GetApiUserWalletConfigData, type GetApiUserWalletConfigResponse, type GetApiUserWalletConfigResponses, type GetApiUserWalletReservationsByIdByProviderData, type GetApiUserWalletReservationsByIdByProviderErrors, type GetApiUserWalletReservationsByIdByProviderResponse, type GetApiUserWalletReservationsByIdByProviderResponses, type ImportAreaDto, type ImportMarkerDto, type ImportSeatDto, type Instant, type LimitedUserInfoDto, type LoginLockedDto, type LoginRequestDto, type MakerRequestDto, type ManagementOverviewDto, type ManagementOverviewStatsDto, NotificationCategory, type NotificationPageDto, NotificationPriority, type PasswordResetConfirmDto, type PasswordResetRequestDto, type PatchApiNotificationsByIdReadData, type PatchApiNotificationsByIdReadErrors, type PatchApiNotificationsByIdReadResponse, type PatchApiNotificationsByIdReadResponses, type PatchApiNotificationsReadAllData, type PatchApiNotificationsReadAllErrors, type PatchApiNotificationsReadAllResponses, type PostApiAuth2FaResendEmailData, type PostApiAuth2FaResendEmailErrors, type PostApiAuth2FaResendEmailResponses, type PostApiAuth2FaVerifyData, type PostApiAuth2FaVerifyErrors, type PostApiAuth2FaVerifyResponses, type PostApiAuthLoginData, type PostApiAuthLoginError, type PostApiAuthLoginErrors, type PostApiAuthLoginResponse, type PostApiAuthLoginResponses, type PostApiAuthLogoutAllDevicesData, type PostApiAuthLogoutAllDevicesErrors, type PostApiAuthLogoutAllDevicesResponses, type PostApiAuthLogoutData, type PostApiAuthLogoutErrors, type PostApiAuthLogoutResponses, type PostApiAuthPasswordResetConfirmData, type PostApiAuthPasswordResetConfirmErrors, type PostApiAuthPasswordResetConfirmResponses, type PostApiAuthPasswordResetData, type PostApiAuthPasswordResetErrors, type PostApiAuthPasswordResetResponses, type PostApiAuthRefreshData, type PostApiAuthRefreshErrors, type PostApiAuthRefreshResponses, type PostApiAuthRegisterData, type PostApiAuthRegisterErrors, type PostApiAuthRegisterResponses, type PostApiAuthUsernameRecoveryData, type PostApiAuthUsernameRecoveryErrors, type PostApiAuthUsernameRecoveryResponses, type PostApiAuthWebauthnLoginData, type PostApiAuthWebauthnLoginErrors, type PostApiAuthWebauthnLoginOptionsData, type PostApiAuthWebauthnLoginOptionsResponse, type PostApiAuthWebauthnLoginOptionsResponses, type PostApiAuthWebauthnLoginResponses, type PostApiAuthWebauthnRegisterData, type PostApiAuthWebauthnRegisterErrors, type PostApiAuthWebauthnRegisterNewData, type PostApiAuthWebauthnRegisterNewErrors, type PostApiAuthWebauthnRegisterNewOptionsData, type PostApiAuthWebauthnRegisterNewOptionsErrors, type PostApiAuthWebauthnRegisterNewOptionsResponse, type PostApiAuthWebauthnRegisterNewOptionsResponses, type PostApiAuthWebauthnRegisterNewResponses, type PostApiAuthWebauthnRegisterOptionsData, type PostApiAuthWebauthnRegisterOptionsErrors, type PostApiAuthWebauthnRegisterOptionsResponse, type PostApiAuthWebauthnRegisterOptionsResponses, type PostApiAuthWebauthnRegisterResponses, type PostApiManagerAreasData, type PostApiManagerAreasErrors, type PostApiManagerAreasResponse, type PostApiManagerAreasResponses, type PostApiManagerEntrancesData, type PostApiManagerEntrancesErrors, type PostApiManagerEntrancesResponse, type PostApiManagerEntrancesResponses, type PostApiManagerEventlocationsData, type PostApiManagerEventlocationsErrors, type PostApiManagerEventlocationsResponse, type PostApiManagerEventlocationsResponses, type PostApiManagerEventsByIdCancelData, type PostApiManagerEventsByIdCancelErrors, type PostApiManagerEventsByIdCancelResponse, type PostApiManagerEventsByIdCancelResponses, type PostApiManagerEventsByIdManagersByUserIdData, type PostApiManagerEventsByIdManagersByUserIdErrors, type PostApiManagerEventsByIdManagersByUserIdResponse, type PostApiManagerEventsByIdManagersByUserIdResponses, type PostApiManagerEventsData, type PostApiManagerEventsErrors, type PostApiManagerEventsResponse, type PostApiManagerEventsResponses, type PostApiManagerMarkersData, type PostApiManagerMarkersErrors, type PostApiManagerMarkersResponse, type PostApiManagerMarkersResponses, type PostApiManagerReservationAllowanceData, type PostApiManagerReservationAllowanceErrors, type PostApiManagerReservationAllowanceResponse, type PostApiManagerReservationAllowanceResponses, type PostApiManagerReservationsBlockData, type PostApiManagerReservationsBlockErrors, type PostApiManagerReservationsBlockResponse, type PostApiManagerReservationsBlockResponses, type PostApiManagerReservationsData, type PostApiManagerReservationsErrors, type PostApiManagerReservationsResendConfirmationByEventIdByUserIdData, type PostApiManagerReservationsResendConfirmationByEventIdByUserIdErrors, type PostApiManagerReservationsResendConfirmationByEventIdByUserIdResponses, type PostApiManagerReservationsResponse, type PostApiManagerReservationsResponses, type PostApiManagerSeatsData, type PostApiManagerSeatsErrors, type PostApiManagerSeatsResponse, type PostApiManagerSeatsResponses, type PostApiPushSubscriptionsData, type PostApiPushSubscriptionsErrors, type PostApiPushSubscriptionsResponses, type PostApiSupervisorBoxofficeReservationsData, type PostApiSupervisorBoxofficeReservationsErrors, type PostApiSupervisorBoxofficeReservationsGuestData, type PostApiSupervisorBoxofficeReservationsGuestErrors, type PostApiSupervisorBoxofficeReservationsGuestResponse, type PostApiSupervisorBoxofficeReservationsGuestResponses, type PostApiSupervisorBoxofficeReservationsResponse, type PostApiSupervisorBoxofficeReservationsResponses, type PostApiSupervisorCheckinInfoByUsernameData, type PostApiSupervisorCheckinInfoByUsernameErrors, type PostApiSupervisorCheckinInfoByUsernameResponse, type PostApiSupervisorCheckinInfoByUsernameResponses, type PostApiSupervisorCheckinInfoData, type PostApiSupervisorCheckinInfoErrors, type PostApiSupervisorCheckinInfoResponse, type PostApiSupervisorCheckinInfoResponses, type PostApiSupervisorCheckinProcessData, type PostApiSupervisorCheckinProcessErrors, type PostApiSupervisorCheckinProcessResponse, type PostApiSupervisorCheckinProcessResponses, type PostApiUserEventsByEventIdWaitingRoomData, type PostApiUserEventsByEventIdWaitingRoomErrors, type PostApiUserEventsByEventIdWaitingRoomResponse, type PostApiUserEventsByEventIdWaitingRoomResponses, type PostApiUserResendEmailConfirmationData, type PostApiUserResendEmailConfirmationErrors, type PostApiUserResendEmailConfirmationResponse, type PostApiUserResendEmailConfirmationResponses, type PostApiUserReservationsData, type PostApiUserReservationsErrors, type PostApiUserReservationsResponse, type PostApiUserReservationsResponses, type PostApiUsersAdminData, type PostApiUsersAdminErrors, type PostApiUsersAdminImportData, type PostApiUsersAdminImportErrors, type PostApiUsersAdminImportResponse, type PostApiUsersAdminImportResponses, type PostApiUsersAdminImportStreamData, type PostApiUsersAdminImportStreamErrors, type PostApiUsersAdminImportStreamResponse, type PostApiUsersAdminImportStreamResponses, type PostApiUsersAdminResponses, type PostApiUserSeatcartByEventIdBySeatIdData, type PostApiUserSeatcartByEventIdBySeatIdErrors, type PostApiUserSeatcartByEventIdBySeatIdResponse, type PostApiUserSeatcartByEventIdBySeatIdResponses, type PostApiUsersMe2FaBackupCodesData, type PostApiUsersMe2FaBackupCodesErrors, type PostApiUsersMe2FaBackupCodesResponse, type PostApiUsersMe2FaBackupCodesResponses, type PostApiUsersMe2FaDisableData, type PostApiUsersMe2FaDisableErrors, type PostApiUsersMe2FaDisableResponse, type PostApiUsersMe2FaDisableResponses, type PostApiUsersMe2FaEnableData, type PostApiUsersMe2FaEnableErrors, type PostApiUsersMe2FaEnableResponse, type PostApiUsersMe2FaEnableResponses, type PostApiUsersMe2FaSendSetupEmailData, type PostApiUsersMe2FaSendSetupEmailErrors, type PostApiUsersMe2FaSendSetupEmailResponses, type PostApiUsersMe2FaSetupTotpData, type PostApiUsersMe2FaSetupTotpErrors, type PostApiUsersMe2FaSetupTotpResponse, type PostApiUsersMe2FaSetupTotpResponses, type PostApiUserVerifyEmailCodeData, type PostApiUserVerifyEmailCodeErrors, type PostApiUserVerifyEmailCodeResponses, type PushSubscriptionRequestDto, type PutApiAuthWebauthnCredentialsByIdData, type PutApiAuthWebauthnCredentialsByIdErrors, type PutApiAuthWebauthnCredentialsByIdResponses, type PutApiManagerAreasByIdData, type PutApiManagerAreasByIdErrors, type PutApiManagerAreasByIdResponse, type PutApiManagerAreasByIdResponses, type PutApiManagerEntrancesByIdData, type PutApiManagerEntrancesByIdErrors, type PutApiManagerEntrancesByIdResponse, type PutApiManagerEntrancesByIdResponses, type PutApiManagerEventlocationsByIdData, type PutApiManagerEventlocationsByIdErrors, type PutApiManagerEventlocationsByIdResponse, type PutApiManagerEventlocationsByIdResponses, type PutApiManagerEventsByIdData, type PutApiManagerEventsByIdErrors, type PutApiManagerEventsByIdResponse, type PutApiManagerEventsByIdResponses, type PutApiManagerMarkersByIdData, type PutApiManagerMarkersByIdErrors, type PutApiManagerMarkersByIdResponse, type PutApiManagerMarkersByIdResponses, type PutApiManagerReservationAllowanceData, type PutApiManagerReservationAllowanceErrors, type PutApiManagerReservationAllowanceResponse, type PutApiManagerReservationAllowanceResponses, type PutApiManagerSeatsByIdData, type PutApiManagerSeatsByIdErrors, type PutApiManagerSeatsByIdResponse, type PutApiManagerSeatsByIdResponses, type PutApiUsersAdminByIdData, type PutApiUsersAdminByIdErrors, type PutApiUsersAdminByIdResponse, type PutApiUsersAdminByIdResponses, type PutApiUsersMe2FaSettingsData, type PutApiUsersMe2FaSettingsErrors, type PutApiUsersMe2FaSettingsResponse, type PutApiUsersMe2FaSettingsResponses, type PutApiUsersMeData, type PutApiUsersMeErrors, type PutApiUsersMeResponse, type PutApiUsersMeResponses, type RegisterRequestDto, type RegistrationDetailsDto, type RegistrationStatusDto, type ReservationConfirmationEmailDto, ReservationLiveStatus, type ReservationRequestDto, type ReservationResponseDto, ReservationStatus, type SeatCartEntryDto, type SeatDto, type SeatRequestDto, type SeatStatusDeltaDto, type SeatStatusDto, type SupervisorEventLocationDto, type SupervisorEventResponseDto, type SupervisorReservationResponseDto, type SupervisorSeatStatusDto, type TwoFactorBackupCodesDto, type TwoFactorDisableDto, type TwoFactorEnableDto, TwoFactorMethod, type TwoFactorRegenerateBackupCodesDto, type TwoFactorRequiredDto, type TwoFactorResendEmailRequestDto, type TwoFactorSettingsUpdateDto, type TwoFactorSetupDto, type TwoFactorStatusDto, type TwoFactorVerifyRequestDto, type UnreadCountDto, type UpcomingEventDto, type UserDto, type UserEventLocationResponseDto, type UserEventLocationSummaryDto, type UserEventResponseDto, type UserImportErrorDto, type UserImportReportDto, type UsernameAvailabilityDto, type UsernameRecoveryRequestDto, type UsernameSuggestionDto, type UserNotificationDto, type UserProfileUpdateDto, type UserReservationResponseDto, type UserReservationsRequestDto, type Uuid, type VapidPublicKeyDto, type VerifyEmailCodeRequestDto, type WaitingRoomStatusDto, type WalletConfigDto, type WalletPassResponseDto, WalletProvider, type WebAuthnCredentialDto, type WebAuthnCredentialUpdateDto, type WebAuthnRegistrationStartDto, type WebAuthnStatusDto } from './types.gen';
@@ -1450,6 +1450,28 @@ export const SeatStatusDTOSchema = {
     }
 } as const;
 
+export const SeatStatusDeltaDTOSchema = {
+    type: 'object',
+    properties: {
+        eventId: {
+            $ref: '#/components/schemas/UUID'
+        },
+        version: {
+            type: 'integer',
+            format: 'int64'
+        },
+        fullSnapshot: {
+            type: 'boolean'
+        },
+        seatStatuses: {
+            type: 'array',
+            items: {
+                $ref: '#/components/schemas/SeatStatusDTO'
+            }
+        }
+    }
+} as const;
+
 export const SupervisorEventLocationDTOSchema = {
     description: 'Event location details for supervisor view',
     type: 'object',
@@ -1927,6 +1949,53 @@ export const UserEventResponseDTOSchema = {
         },
         cancellationReason: {
             type: 'string'
+        },
+        seatStatusVersion: {
+            type: 'integer',
+            format: 'int64'
+        }
+    }
+} as const;
+
+export const UserImportErrorDTOSchema = {
+    type: 'object',
+    properties: {
+        row: {
+            type: 'integer',
+            format: 'int64'
+        },
+        username: {
+            type: 'string'
+        },
+        message: {
+            type: 'string'
+        }
+    }
+} as const;
+
+export const UserImportReportDTOSchema = {
+    type: 'object',
+    properties: {
+        processed: {
+            type: 'integer',
+            format: 'int64'
+        },
+        imported: {
+            type: 'integer',
+            format: 'int64'
+        },
+        failed: {
+            type: 'integer',
+            format: 'int64'
+        },
+        errors: {
+            type: 'array',
+            items: {
+                $ref: '#/components/schemas/UserImportErrorDTO'
+            }
+        },
+        errorsTruncated: {
+            type: 'boolean'
         }
     }
 } as const;
@@ -2117,6 +2186,39 @@ export const VerifyEmailCodeRequestDtoSchema = {
     }
 } as const;
 
+export const WaitingRoomStatusDTOSchema = {
+    type: 'object',
+    properties: {
+        eventId: {
+            $ref: '#/components/schemas/UUID'
+        },
+        active: {
+            type: 'boolean'
+        },
+        admitted: {
+            type: 'boolean'
+        },
+        position: {
+            type: 'integer',
+            format: 'int64'
+        },
+        queueLength: {
+            type: 'integer',
+            format: 'int64'
+        },
+        estimatedWaitSeconds: {
+            type: 'integer',
+            format: 'int64'
+        },
+        admissionToken: {
+            type: 'string'
+        },
+        admittedUntil: {
+            $ref: '#/components/schemas/Instant'
+        }
+    }
+} as const;
+
 export const WalletConfigDTOSchema = {
     type: 'object',
     properties: {
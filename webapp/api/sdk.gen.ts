@@ -2,8 +2,8 @@
 
 import type { Client, ClientMeta, Options as Options2, RequestResult, TDataShape } from './client';
 import { client } from './client.gen';
-import { deleteApiManagerEventsByIdManagersByUserIdResponseTransformer, getApiAltchaChallengeResponseTransformer, getApiAuthWebauthnCredentialsResponseTransformer, getApiManagerEventsByIdResponseTransformer, getApiManagerEventsResponseTransformer, getApiManagerOverviewResponseTransformer, getApiManagerReservationsByIdResponseTransformer, getApiManagerReservationsEventByIdResponseTransformer, getApiNotificationsResponseTransformer, getApiNotificationsUnreadCountResponseTransformer, getApiSupervisorCheckinEventsResponseTransformer, getApiUserEventsByIdResponseTransformer, getApiUserEventsResponseTransformer, getApiUserReservationsByIdResponseTransformer, getApiUserReservationsResponseTransformer, getApiUsersMe2FaResponseTransformer, postApiManagerEventsByIdCancelResponseTransformer, postApiManagerEventsByIdManagersByUserIdResponseTransformer, postApiManagerEventsResponseTransformer, postApiManagerReservationsBlockResponseTransformer, postApiManagerReservationsResponseTransformer, postApiSupervisorCheckinInfoByUsernameResponseTransformer, postApiSupervisorCheckinInfoResponseTransformer, postApiUserReservationsResponseTransformer, postApiUserSeatcartByEventIdBySeatIdResponseTransformer, postApiUsersMe2FaDisableResponseTransformer, postApiUsersMe2FaEnableResponseTransformer, putApiManagerEventsByIdResponseTransformer, putApiUsersMe2FaSettingsResponseTransformer } from './transformers.gen';
-import type { DeleteApiAuthWebauthnCredentialsByIdData, DeleteApiAuthWebauthnCredentialsByIdErrors, DeleteApiAuthWebauthnCredentialsByIdResponses, DeleteApiManagerAreasData, DeleteApiManagerAreasErrors, DeleteApiManagerAreasResponses, DeleteApiManagerEntrancesData, DeleteApiManagerEntrancesErrors, DeleteApiManagerEntrancesResponses, DeleteApiManagerEventlocationsData, DeleteApiManagerEventlocationsErrors, DeleteApiManagerEventlocationsResponses, DeleteApiManagerEventsByIdManagersByUserIdData, DeleteApiManagerEventsByIdManagersByUserIdErrors, DeleteApiManagerEventsByIdManagersByUserIdResponses, DeleteApiManagerEventsData, DeleteApiManagerEventsErrors, DeleteApiManagerEventsResponses, DeleteApiManagerMarkersData, DeleteApiManagerMarkersErrors, DeleteApiManagerMarkersResponses, DeleteApiManagerReservationAllowanceData, DeleteApiManagerReservationAllowanceErrors, DeleteApiManagerReservationAllowanceResponses, DeleteApiManagerReservationsData, DeleteApiManagerReservationsErrors, DeleteApiManagerReservationsResponses, DeleteApiManagerSeatsData, DeleteApiManagerSeatsErrors, DeleteApiManagerSeatsResponses, DeleteApiNotificationsByIdData, DeleteApiNotificationsByIdErrors, DeleteApiNotificationsByIdResponses, DeleteApiPushSubscriptionsData, DeleteApiPushSubscriptionsErrors, DeleteApiPushSubscriptionsResponses, DeleteApiUserReservationsData, DeleteApiUserReservationsErrors, DeleteApiUserReservationsResponses, DeleteApiUsersAdminByIdData, DeleteApiUsersAdminByIdErrors, DeleteApiUsersAdminByIdResponses, DeleteApiUserSeatcartByEventIdBySeatIdData, DeleteApiUserSeatcartByEventIdBySeatIdErrors, DeleteApiUserSeatcartByEventIdBySeatIdResponses, GetApiAltchaChallengeData, GetApiAltchaChallengeResponses, GetApiAuthRegistrationStatusData, GetApiAuthRegistrationStatusResponses, GetApiAuthUsernameAvailabilityData, GetApiAuthUsernameAvailabilityResponses, GetApiAuthUsernameSuggestionData, GetApiAuthUsernameSuggestionResponses, GetApiAuthWebauthnCredentialsData, GetApiAuthWebauthnCredentialsErrors, GetApiAuthWebauthnCredentialsResponses, GetApiAuthWebauthnStatusData, GetApiAuthWebauthnStatusErrors, GetApiAuthWebauthnStatusResponses, GetApiEmailSeatmapData, GetApiEmailSeatmapResponses, GetApiEmailWalletAppleData, GetApiEmailWalletAppleResponses, GetApiEmailWalletGoogleData, GetApiEmailWalletGoogleResponses, GetApiManagerAreasByIdData, GetApiManagerAreasByIdErrors, GetApiManagerAreasByIdResponses, GetApiManagerAreasData, GetApiManagerAreasErrors, GetApiManagerAreasResponses, GetApiManagerEntrancesByIdData, GetApiManagerEntrancesByIdErrors, GetApiManagerEntrancesByIdResponses, GetApiManagerEntrancesData, GetApiManagerEntrancesErrors, GetApiManagerEntrancesResponses, GetApiManagerEventlocationsData, GetApiManagerEventlocationsErrors, GetApiManagerEventlocationsResponses, GetApiManagerEventsByIdData, GetApiManagerEventsByIdErrors, GetApiManagerEventsByIdResponses, GetApiManagerEventsData, GetApiManagerEventsErrors, GetApiManagerEventsResponses, GetApiManagerMarkersByIdData, GetApiManagerMarkersByIdErrors, GetApiManagerMarkersByIdResponses, GetApiManagerMarkersData, GetApiManagerMarkersErrors, GetApiManagerMarkersResponses, GetApiManagerOverviewData, GetApiManagerOverviewErrors, GetApiManagerOverviewResponses, GetApiManagerReservationAllowanceByIdData, GetApiManagerReservationAllowanceByIdErrors, GetApiManagerReservationAllowanceByIdResponses, GetApiManagerReservationAllowanceData, GetApiManagerReservationAllowanceErrors, GetApiManagerReservationAllowanceEventByEventIdData, GetApiManagerReservationAllowanceEventByEventIdErrors, GetApiManagerReservationAllowanceEventByEventIdResponses, GetApiManagerReservationAllowanceResponses, GetApiManagerReservationsByIdData, GetApiManagerReservationsByIdErrors, GetApiManagerReservationsByIdResponses, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdData, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdErrors, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponses, GetApiManagerReservationsEventByIdData, GetApiManagerReservationsEventByIdErrors, GetApiManagerReservationsEventByIdResponses, GetApiManagerReservationsExportByEventIdCsvData, GetApiManagerReservationsExportByEventIdCsvErrors, GetApiManagerReservationsExportByEventIdCsvResponses, GetApiManagerReservationsExportByEventIdPdfData, GetApiManagerReservationsExportByEventIdPdfErrors, GetApiManagerReservationsExportByEventIdPdfResponses, GetApiManagerSeatsByIdData, GetApiManagerSeatsByIdErrors, GetApiManagerSeatsByIdResponses, GetApiManagerSeatsData, GetApiManagerSeatsErrors, GetApiManagerSeatsResponses, GetApiNotificationsData, GetApiNotificationsErrors, GetApiNotificationsResponses, GetApiNotificationsUnreadCountData, GetApiNotificationsUnreadCountErrors, GetApiNotificationsUnreadCountResponses, GetApiPushSubscriptionsVapidPublicKeyData, GetApiPushSubscriptionsVapidPublicKeyErrors, GetApiPushSubscriptionsVapidPublicKeyResponses, GetApiSupervisorBoxofficeUsersData, GetApiSupervisorBoxofficeUsersErrors, GetApiSupervisorBoxofficeUsersResponses, GetApiSupervisorCheckinEventsData, GetApiSupervisorCheckinEventsErrors, GetApiSupervisorCheckinEventsResponses, GetApiSupervisorCheckinUsernamesByEventIdData, GetApiSupervisorCheckinUsernamesByEventIdErrors, GetApiSupervisorCheckinUsernamesByEventIdResponses, GetApiUserEventsByIdData, GetApiUserEventsByIdErrors, GetApiUserEventsByIdResponses, GetApiUserEventsData, GetApiUserEventsErrors, GetApiUserEventsResponses, GetApiUserLocationsByIdData, GetApiUserLocationsByIdErrors, GetApiUserLocationsByIdResponses, GetApiUserLocationsData, GetApiUserLocationsErrors, GetApiUserLocationsResponses, GetApiUserReservationsByIdData, GetApiUserReservationsByIdErrors, GetApiUserReservationsByIdResponses, GetApiUserReservationsData, GetApiUserReservationsErrors, GetApiUserReservationsResponses, GetApiUsersAdminData, GetApiUsersAdminErrors, GetApiUsersAdminResponses, GetApiUsersManagerData, GetApiUsersManagerErrors, GetApiUsersManagerResponses, GetApiUsersMe2FaData, GetApiUsersMe2FaErrors, GetApiUsersMe2FaResponses, GetApiUsersMeData, GetApiUsersMeErrors, GetApiUsersMeResponses, GetApiUsersRolesData, GetApiUsersRolesErrors, GetApiUsersRolesResponses, GetApiUserWalletConfigData, GetApiUserWalletConfigResponses, GetApiUserWalletReservationsByIdByProviderData, GetApiUserWalletReservationsByIdByProviderErrors, GetApiUserWalletReservationsByIdByProviderResponses, PatchApiNotificationsByIdReadData, PatchApiNotificationsByIdReadErrors, PatchApiNotificationsByIdReadResponses, PatchApiNotificationsReadAllData, PatchApiNotificationsReadAllErrors, PatchApiNotificationsReadAllResponses, PostApiAuth2FaResendEmailData, PostApiAuth2FaResendEmailErrors, PostApiAuth2FaResendEmailResponses, PostApiAuth2FaVerifyData, PostApiAuth2FaVerifyErrors, PostApiAuth2FaVerifyResponses, PostApiAuthLoginData, PostApiAuthLoginErrors, PostApiAuthLoginResponses, PostApiAuthLogoutAllDevicesData, PostApiAuthLogoutAllDevicesErrors, PostApiAuthLogoutAllDevicesResponses, PostApiAuthLogoutData, PostApiAuthLogoutErrors, PostApiAuthLogoutResponses, PostApiAuthPasswordResetConfirmData, PostApiAuthPasswordResetConfirmErrors, PostApiAuthPasswordResetConfirmResponses, PostApiAuthPasswordResetData, PostApiAuthPasswordResetErrors, PostApiAuthPasswordResetResponses, PostApiAuthRefreshData, PostApiAuthRefreshErrors, PostApiAuthRefreshResponses, PostApiAuthRegisterData, PostApiAuthRegisterErrors, PostApiAuthRegisterResponses, PostApiAuthUsernameRecoveryData, PostApiAuthUsernameRecoveryErrors, PostApiAuthUsernameRecoveryResponses, PostApiAuthWebauthnLoginData, PostApiAuthWebauthnLoginErrors, PostApiAuthWebauthnLoginOptionsData, PostApiAuthWebauthnLoginOptionsResponses, PostApiAuthWebauthnLoginResponses, PostApiAuthWebauthnRegisterData, PostApiAuthWebauthnRegisterErrors, PostApiAuthWebauthnRegisterNewData, PostApiAuthWebauthnRegisterNewErrors, PostApiAuthWebauthnRegisterNewOptionsData, PostApiAuthWebauthnRegisterNewOptionsErrors, PostApiAuthWebauthnRegisterNewOptionsResponses, PostApiAuthWebauthnRegisterNewResponses, PostApiAuthWebauthnRegisterOptionsData, PostApiAuthWebauthnRegisterOptionsErrors, PostApiAuthWebauthnRegisterOptionsResponses, PostApiAuthWebauthnRegisterResponses, PostApiManagerAreasData, PostApiManagerAreasErrors, PostApiManagerAreasResponses, PostApiManagerEntrancesData, PostApiManagerEntrancesErrors, PostApiManagerEntrancesResponses, PostApiManagerEventlocationsData, PostApiManagerEventlocationsErrors, PostApiManagerEventlocationsResponses, PostApiManagerEventsByIdCancelData, PostApiManagerEventsByIdCancelErrors, PostApiManagerEventsByIdCancelResponses, PostApiManagerEventsByIdManagersByUserIdData, PostApiManagerEventsByIdManagersByUserIdErrors, PostApiManagerEventsByIdManagersByUserIdResponses, PostApiManagerEventsData, PostApiManagerEventsErrors, PostApiManagerEventsResponses, PostApiManagerMarkersData, PostApiManagerMarkersErrors, PostApiManagerMarkersResponses, PostApiManagerReservationAllowanceData, PostApiManagerReservationAllowanceErrors, PostApiManagerReservationAllowanceResponses, PostApiManagerReservationsBlockData, PostApiManagerReservationsBlockErrors, PostApiManagerReservationsBlockResponses, PostApiManagerReservationsData, PostApiManagerReservationsErrors, PostApiManagerReservationsResendConfirmationByEventIdByUserIdData, PostApiManagerReservationsResendConfirmationByEventIdByUserIdErrors, PostApiManagerReservationsResendConfirmationByEventIdByUserIdResponses, PostApiManagerReservationsResponses, PostApiManagerSeatsData, PostApiManagerSeatsErrors, PostApiManagerSeatsResponses, PostApiPushSubscriptionsData, PostApiPushSubscriptionsErrors, PostApiPushSubscriptionsResponses, PostApiSupervisorBoxofficeReservationsData, PostApiSupervisorBoxofficeReservationsErrors, PostApiSupervisorBoxofficeReservationsGuestData, PostApiSupervisorBoxofficeReservationsGuestErrors, PostApiSupervisorBoxofficeReservationsGuestResponses, PostApiSupervisorBoxofficeReservationsResponses, PostApiSupervisorCheckinInfoByUsernameData, PostApiSupervisorCheckinInfoByUsernameErrors, PostApiSupervisorCheckinInfoByUsernameResponses, PostApiSupervisorCheckinInfoData, PostApiSupervisorCheckinInfoErrors, PostApiSupervisorCheckinInfoResponses, PostApiSupervisorCheckinProcessData, PostApiSupervisorCheckinProcessErrors, PostApiSupervisorCheckinProcessResponses, PostApiUserResendEmailConfirmationData, PostApiUserResendEmailConfirmationErrors, PostApiUserResendEmailConfirmationResponses, PostApiUserReservationsData, PostApiUserReservationsErrors, PostApiUserReservationsResponses, PostApiUsersAdminData, PostApiUsersAdminErrors, PostApiUsersAdminImportData, PostApiUsersAdminImportErrors, PostApiUsersAdminImportResponses, PostApiUsersAdminResponses, PostApiUserSeatcartByEventIdBySeatIdData, PostApiUserSeatcartByEventIdBySeatIdErrors, PostApiUserSeatcartByEventIdBySeatIdResponses, PostApiUsersMe2FaBackupCodesData, PostApiUsersMe2FaBackupCodesErrors, PostApiUsersMe2FaBackupCodesResponses, PostApiUsersMe2FaDisableData, PostApiUsersMe2FaDisableErrors, PostApiUsersMe2FaDisableResponses, PostApiUsersMe2FaEnableData, PostApiUsersMe2FaEnableErrors, PostApiUsersMe2FaEnableResponses, PostApiUsersMe2FaSendSetupEmailData, PostApiUsersMe2FaSendSetupEmailErrors, PostApiUsersMe2FaSendSetupEmailResponses, PostApiUsersMe2FaSetupTotpData, PostApiUsersMe2FaSetupTotpErrors, PostApiUsersMe2FaSetupTotpResponses, PostApiUserVerifyEmailCodeData, PostApiUserVerifyEmailCodeErrors, PostApiUserVerifyEmailCodeResponses, PutApiAuthWebauthnCredentialsByIdData, PutApiAuthWebauthnCredentialsByIdErrors, PutApiAuthWebauthnCredentialsByIdResponses, PutApiManagerAreasByIdData, PutApiManagerAreasByIdErrors, PutApiManagerAreasByIdResponses, PutApiManagerEntrancesByIdData, PutApiManagerEntrancesByIdErrors, PutApiManagerEntrancesByIdResponses, PutApiManagerEventlocationsByIdData, PutApiManagerEventlocationsByIdErrors, PutApiManagerEventlocationsByIdResponses, PutApiManagerEventsByIdData, PutApiManagerEventsByIdErrors, PutApiManagerEventsByIdResponses, PutApiManagerMarkersByIdData, PutApiManagerMarkersByIdErrors, PutApiManagerMarkersByIdResponses, PutApiManagerReservationAllowanceData, PutApiManagerReservationAllowanceErrors, PutApiManagerReservationAllowanceResponses, PutApiManagerSeatsByIdData, PutApiManagerSeatsByIdErrors, PutApiManagerSeatsByIdResponses, PutApiUsersAdminByIdData, PutApiUsersAdminByIdErrors, PutApiUsersAdminByIdResponses, PutApiUsersMe2FaSettingsData, PutApiUsersMe2FaSettingsErrors, PutApiUsersMe2FaSettingsResponses, PutApiUsersMeData, PutApiUsersMeErrors, PutApiUsersMeResponses } from './types.gen';
+import { deleteApiManagerEventsByIdManagersByUserIdResponseTransformer, getApiAltchaChallengeResponseTransformer, getApiAuthWebauthnCredentialsResponseTransformer, getApiManagerEventsByIdResponseTransformer, getApiManagerEventsResponseTransformer, getApiManagerOverviewResponseTransformer, getApiManagerReservationsByIdResponseTransformer, getApiManagerReservationsEventByIdResponseTransformer, getApiNotificationsResponseTransformer, getApiNotificationsUnreadCountResponseTransformer, getApiSupervisorCheckinEventsResponseTransformer, getApiUserEventsByEventIdWaitingRoomResponseTransformer, getApiUserEventsByIdResponseTransformer, getApiUserEventsByIdSeatStatusesResponseTransformer, getApiUserEventsResponseTransformer, getApiUserReservationsByIdResponseTransformer, getApiUserReservationsResponseTransformer, getApiUsersMe2FaResponseTransformer, postApiManagerEventsByIdCancelResponseTransformer, postApiManagerEventsByIdManagersByUserIdResponseTransformer, postApiManagerEventsResponseTransformer, postApiManagerReservationsBlockResponseTransformer, postApiManagerReservationsResponseTransformer, postApiSupervisorCheckinInfoByUsernameResponseTransformer, postApiSupervisorCheckinInfoResponseTransformer, postApiUserEventsByEventIdWaitingRoomResponseTransformer, postApiUserReservationsResponseTransformer, postApiUsersAdminImportStreamResponseTransformer, postApiUserSeatcartByEventIdBySeatIdResponseTransformer, postApiUsersMe2FaDisableResponseTransformer, postApiUsersMe2FaEnableResponseTransformer, putApiManagerEventsByIdResponseTransformer, putApiUsersMe2FaSettingsResponseTransformer } from './transformers.gen';
+import type { DeleteApiAuthWebauthnCredentialsByIdData, DeleteApiAuthWebauthnCredentialsByIdErrors, DeleteApiAuthWebauthnCredentialsByIdResponses, DeleteApiManagerAreasData, DeleteApiManagerAreasErrors, DeleteApiManagerAreasResponses, DeleteApiManagerEntrancesData, DeleteApiManagerEntrancesErrors, DeleteApiManagerEntrancesResponses, DeleteApiManagerEventlocationsData, DeleteApiManagerEventlocationsErrors, DeleteApiManagerEventlocationsResponses, DeleteApiManagerEventsByIdManagersByUserIdData, DeleteApiManagerEventsByIdManagersByUserIdErrors, DeleteApiManagerEventsByIdManagersByUserIdResponses, DeleteApiManagerEventsData, DeleteApiManagerEventsErrors, DeleteApiManagerEventsResponses, DeleteApiManagerMarkersData, DeleteApiManagerMarkersErrors, DeleteApiManagerMarkersResponses, DeleteApiManagerReservationAllowanceData, DeleteApiManagerReservationAllowanceErrors, DeleteApiManagerReservationAllowanceResponses, DeleteApiManagerReservationsData, DeleteApiManagerReservationsErrors, DeleteApiManagerReservationsResponses, DeleteApiManagerSeatsData, DeleteApiManagerSeatsErrors, DeleteApiManagerSeatsResponses, DeleteApiNotificationsByIdData, DeleteApiNotificationsByIdErrors, DeleteApiNotificationsByIdResponses, DeleteApiPushSubscriptionsData, DeleteApiPushSubscriptionsErrors, DeleteApiPushSubscriptionsResponses, DeleteApiUserReservationsData, DeleteApiUserReservationsErrors, DeleteApiUserReservationsResponses, DeleteApiUsersAdminByIdData, DeleteApiUsersAdminByIdErrors, DeleteApiUsersAdminByIdResponses, DeleteApiUserSeatcartByEventIdBySeatIdData, DeleteApiUserSeatcartByEventIdBySeatIdErrors, DeleteApiUserSeatcartByEventIdBySeatIdResponses, GetApiAltchaChallengeData, GetApiAltchaChallengeResponses, GetApiAuthRegistrationStatusData, GetApiAuthRegistrationStatusResponses, GetApiAuthUsernameAvailabilityData, GetApiAuthUsernameAvailabilityResponses, GetApiAuthUsernameSuggestionData, GetApiAuthUsernameSuggestionResponses, GetApiAuthWebauthnCredentialsData, GetApiAuthWebauthnCredentialsErrors, GetApiAuthWebauthnCredentialsResponses, GetApiAuthWebauthnStatusData, GetApiAuthWebauthnStatusErrors, GetApiAuthWebauthnStatusResponses, GetApiEmailSeatmapData, GetApiEmailSeatmapResponses, GetApiEmailWalletAppleData, GetApiEmailWalletAppleResponses, GetApiEmailWalletGoogleData, GetApiEmailWalletGoogleResponses, GetApiManagerAreasByIdData, GetApiManagerAreasByIdErrors, GetApiManagerAreasByIdResponses, GetApiManagerAreasData, GetApiManagerAreasErrors, GetApiManagerAreasResponses, GetApiManagerEntrancesByIdData, GetApiManagerEntrancesByIdErrors, GetApiManagerEntrancesByIdResponses, GetApiManagerEntrancesData, GetApiManagerEntrancesErrors, GetApiManagerEntrancesResponses, GetApiManagerEventlocationsData, GetApiManagerEventlocationsErrors, GetApiManagerEventlocationsResponses, GetApiManagerEventsByIdData, GetApiManagerEventsByIdErrors, GetApiManagerEventsByIdResponses, GetApiManagerEventsData, GetApiManagerEventsErrors, GetApiManagerEventsResponses, GetApiManagerMarkersByIdData, GetApiManagerMarkersByIdErrors, GetApiManagerMarkersByIdResponses, GetApiManagerMarkersData, GetApiManagerMarkersErrors, GetApiManagerMarkersResponses, GetApiManagerOverviewData, GetApiManagerOverviewErrors, GetApiManagerOverviewResponses, GetApiManagerReservationAllowanceByIdData, GetApiManagerReservationAllowanceByIdErrors, GetApiManagerReservationAllowanceByIdResponses, GetApiManagerReservationAllowanceData, GetApiManagerReservationAllowanceErrors, GetApiManagerReservationAllowanceEventByEventIdData, GetApiManagerReservationAllowanceEventByEventIdErrors, GetApiManagerReservationAllowanceEventByEventIdResponses, GetApiManagerReservationAllowanceResponses, GetApiManagerReservationsByIdData, GetApiManagerReservationsByIdErrors, GetApiManagerReservationsByIdResponses, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdData, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdErrors, GetApiManagerReservationsConfirmationEmailByEventIdByUserIdResponses, GetApiManagerReservationsEventByIdData, GetApiManagerReservationsEventByIdErrors, GetApiManagerReservationsEventByIdResponses, GetApiManagerReservationsExportByEventIdCsvData, GetApiManagerReservationsExportByEventIdCsvErrors, GetApiManagerReservationsExportByEventIdCsvResponses, GetApiManagerReservationsExportByEventIdPdfData, GetApiManagerReservationsExportByEventIdPdfErrors, GetApiManagerReservationsExportByEventIdPdfResponses, GetApiManagerSeatsByIdData, GetApiManagerSeatsByIdErrors, GetApiManagerSeatsByIdResponses, GetApiManagerSeatsData, GetApiManagerSeatsErrors, GetApiManagerSeatsResponses, GetApiNotificationsData, GetApiNotificationsErrors, GetApiNotificationsResponses, GetApiNotificationsUnreadCountData, GetApiNotificationsUnreadCountErrors, GetApiNotificationsUnreadCountResponses, GetApiPushSubscriptionsVapidPublicKeyData, GetApiPushSubscriptionsVapidPublicKeyErrors, GetApiPushSubscriptionsVapidPublicKeyResponses, GetApiSupervisorBoxofficeUsersData, GetApiSupervisorBoxofficeUsersErrors, GetApiSupervisorBoxofficeUsersResponses, GetApiSupervisorCheckinEventsData, GetApiSupervisorCheckinEventsErrors, GetApiSupervisorCheckinEventsResponses, GetApiSupervisorCheckinUsernamesByEventIdData, GetApiSupervisorCheckinUsernamesByEventIdErrors, GetApiSupervisorCheckinUsernamesByEventIdResponses, GetApiUserEventsByEventIdWaitingRoomData, GetApiUserEventsByEventIdWaitingRoomErrors, GetApiUserEventsByEventIdWaitingRoomResponses, GetApiUserEventsByIdData, GetApiUserEventsByIdErrors, GetApiUserEventsByIdResponses, GetApiUserEventsByIdSeatStatusesData, GetApiUserEventsByIdSeatStatusesErrors, GetApiUserEventsByIdSeatStatusesResponses, GetApiUserEventsData, GetApiUserEventsErrors, GetApiUserEventsResponses, GetApiUserLocationsByIdData, GetApiUserLocationsByIdErrors, GetApiUserLocationsByIdResponses, GetApiUserLocationsData, GetApiUserLocationsErrors, GetApiUserLocationsResponses, GetApiUserReservationsByIdData, GetApiUserReservationsByIdErrors, GetApiUserReservationsByIdResponses, GetApiUserReservationsData, GetApiUserReservationsErrors, GetApiUserReservationsResponses, GetApiUsersAdminData, GetApiUsersAdminErrors, GetApiUsersAdminResponses, GetApiUsersManagerData, GetApiUsersManagerErrors, GetApiUsersManagerResponses, GetApiUsersMe2FaData, GetApiUsersMe2FaErrors, GetApiUsersMe2FaResponses, GetApiUsersMeData, GetApiUsersMeErrors, GetApiUsersMeResponses, GetApiUsersRolesData, GetApiUsersRolesErrors, GetApiUsersRolesResponses, GetApiUserWalletConfigData, GetApiUserWalletConfigResponses, GetApiUserWalletReservationsByIdByProviderData, GetApiUserWalletReservationsByIdByProviderErrors, GetApiUserWalletReservationsByIdByProviderResponses, PatchApiNotificationsByIdReadData, PatchApiNotificationsByIdReadErrors, PatchApiNotificationsByIdReadResponses, PatchApiNotificationsReadAllData, PatchApiNotificationsReadAllErrors, PatchApiNotificationsReadAllResponses, PostApiAuth2FaResendEmailData, PostApiAuth2FaResendEmailErrors, PostApiAuth2FaResendEmailResponses, PostApiAuth2FaVerifyData, PostApiAuth2FaVerifyErrors, PostApiAuth2FaVerifyResponses, PostApiAuthLoginData, PostApiAuthLoginErrors, PostApiAuthLoginResponses, PostApiAuthLogoutAllDevicesData, PostApiAuthLogoutAllDevicesErrors, PostApiAuthLogoutAllDevicesResponses, PostApiAuthLogoutData, PostApiAuthLogoutErrors, PostApiAuthLogoutResponses, PostApiAuthPasswordResetConfirmData, PostApiAuthPasswordResetConfirmErrors, PostApiAuthPasswordResetConfirmResponses, PostApiAuthPasswordResetData, PostApiAuthPasswordResetErrors, PostApiAuthPasswordResetResponses, PostApiAuthRefreshData, PostApiAuthRefreshErrors, PostApiAuthRefreshResponses, PostApiAuthRegisterData, PostApiAuthRegisterErrors, PostApiAuthRegisterResponses, PostApiAuthUsernameRecoveryData, PostApiAuthUsernameRecoveryErrors, PostApiAuthUsernameRecoveryResponses, PostApiAuthWebauthnLoginData, PostApiAuthWebauthnLoginErrors, PostApiAuthWebauthnLoginOptionsData, PostApiAuthWebauthnLoginOptionsResponses, PostApiAuthWebauthnLoginResponses, PostApiAuthWebauthnRegisterData, PostApiAuthWebauthnRegisterErrors, PostApiAuthWebauthnRegisterNewData, PostApiAuthWebauthnRegisterNewErrors, PostApiAuthWebauthnRegisterNewOptionsData, PostApiAuthWebauthnRegisterNewOptionsErrors, PostApiAuthWebauthnRegisterNewOptionsResponses, PostApiAuthWebauthnRegisterNewResponses, PostApiAuthWebauthnRegisterOptionsData, PostApiAuthWebauthnRegisterOptionsErrors, PostApiAuthWebauthnRegisterOptionsResponses, PostApiAuthWebauthnRegisterResponses, PostApiManagerAreasData, PostApiManagerAreasErrors, PostApiManagerAreasResponses, PostApiManagerEntrancesData, PostApiManagerEntrancesErrors, PostApiManagerEntrancesResponses, PostApiManagerEventlocationsData, PostApiManagerEventlocationsErrors, PostApiManagerEventlocationsResponses, PostApiManagerEventsByIdCancelData, PostApiManagerEventsByIdCancelErrors, PostApiManagerEventsByIdCancelResponses, PostApiManagerEventsByIdManagersByUserIdData, PostApiManagerEventsByIdManagersByUserIdErrors, PostApiManagerEventsByIdManagersByUserIdResponses, PostApiManagerEventsData, PostApiManagerEventsErrors, PostApiManagerEventsResponses, PostApiManagerMarkersData, PostApiManagerMarkersErrors, PostApiManagerMarkersResponses, PostApiManagerReservationAllowanceData, PostApiManagerReservationAllowanceErrors, PostApiManagerReservationAllowanceResponses, PostApiManagerReservationsBlockData, PostApiManagerReservationsBlockErrors, PostApiManagerReservationsBlockResponses, PostApiManagerReservationsData, PostApiManagerReservationsErrors, PostApiManagerReservationsResendConfirmationByEventIdByUserIdData, PostApiManagerReservationsResendConfirmationByEventIdByUserIdErrors, PostApiManagerReservationsResendConfirmationByEventIdByUserIdResponses, PostApiManagerReservationsResponses, PostApiManagerSeatsData, PostApiManagerSeatsErrors, PostApiManagerSeatsResponses, PostApiPushSubscriptionsData, PostApiPushSubscriptionsErrors, PostApiPushSubscriptionsResponses, PostApiSupervisorBoxofficeReservationsData, PostApiSupervisorBoxofficeReservationsErrors, PostApiSupervisorBoxofficeReservationsGuestData, PostApiSupervisorBoxofficeReservationsGuestErrors, PostApiSupervisorBoxofficeReservationsGuestResponses, PostApiSupervisorBoxofficeReservationsResponses, PostApiSupervisorCheckinInfoByUsernameData, PostApiSupervisorCheckinInfoByUsernameErrors, PostApiSupervisorCheckinInfoByUsernameResponses, PostApiSupervisorCheckinInfoData, PostApiSupervisorCheckinInfoErrors, PostApiSupervisorCheckinInfoResponses, PostApiSupervisorCheckinProcessData, PostApiSupervisorCheckinProcessErrors, PostApiSupervisorCheckinProcessResponses, PostApiUserEventsByEventIdWaitingRoomData, PostApiUserEventsByEventIdWaitingRoomErrors, PostApiUserEventsByEventIdWaitingRoomResponses, PostApiUserResendEmailConfirmationData, PostApiUserResendEmailConfirmationErrors, PostApiUserResendEmailConfirmationResponses, PostApiUserReservationsData, PostApiUserReservationsErrors, PostApiUserReservationsResponses, PostApiUsersAdminData, PostApiUsersAdminErrors, PostApiUsersAdminImportData, PostApiUsersAdminImportErrors, PostApiUsersAdminImportResponses, PostApiUsersAdminImportStreamData, PostApiUsersAdminImportStreamErrors, PostApiUsersAdminImportStreamResponses, PostApiUsersAdminResponses, PostApiUserSeatcartByEventIdBySeatIdData, PostApiUserSeatcartByEventIdBySeatIdErrors, PostApiUserSeatcartByEventIdBySeatIdResponses, PostApiUsersMe2FaBackupCodesData, PostApiUsersMe2FaBackupCodesErrors, PostApiUsersMe2FaBackupCodesResponses, PostApiUsersMe2FaDisableData, PostApiUsersMe2FaDisableErrors, PostApiUsersMe2FaDisableResponses, PostApiUsersMe2FaEnableData, PostApiUsersMe2FaEnableErrors, PostApiUsersMe2FaEnableResponses, PostApiUsersMe2FaSendSetupEmailData, PostApiUsersMe2FaSendSetupEmailErrors, PostApiUsersMe2FaSendSetupEmailResponses, PostApiUsersMe2FaSetupTotpData, PostApiUsersMe2FaSetupTotpErrors, PostApiUsersMe2FaSetupTotpResponses, PostApiUserVerifyEmailCodeData, PostApiUserVerifyEmailCodeErrors, PostApiUserVerifyEmailCodeResponses, PutApiAuthWebauthnCredentialsByIdData, PutApiAuthWebauthnCredentialsByIdErrors, PutApiAuthWebauthnCredentialsByIdResponses, PutApiManagerAreasByIdData, PutApiManagerAreasByIdErrors, PutApiManagerAreasByIdResponses, PutApiManagerEntrancesByIdData, PutApiManagerEntrancesByIdErrors, PutApiManagerEntrancesByIdResponses, PutApiManagerEventlocationsByIdData, PutApiManagerEventlocationsByIdErrors, PutApiManagerEventlocationsByIdResponses, PutApiManagerEventsByIdData, PutApiManagerEventsByIdErrors, PutApiManagerEventsByIdResponses, PutApiManagerMarkersByIdData, PutApiManagerMarkersByIdErrors, PutApiManagerMarkersByIdResponses, PutApiManagerReservationAllowanceData, PutApiManagerReservationAllowanceErrors, PutApiManagerReservationAllowanceResponses, PutApiManagerSeatsByIdData, PutApiManagerSeatsByIdErrors, PutApiManagerSeatsByIdResponses, PutApiUsersAdminByIdData, PutApiUsersAdminByIdErrors, PutApiUsersAdminByIdResponses, PutApiUsersMe2FaSettingsData, PutApiUsersMe2FaSettingsErrors, PutApiUsersMe2FaSettingsResponses, PutApiUsersMeData, PutApiUsersMeErrors, PutApiUsersMeResponses } from './types.gen';
 
 export type Options<TData extends TDataShape = TDataShape, ThrowOnError extends boolean = boolean, TResponse = unknown> = Options2<TData, ThrowOnError, TResponse> & {
     /**
@@ -962,6 +962,26 @@ export const getApiUserEvents = <ThrowOnError extends boolean = false>(options?:
     ...options
 });
 
+/**
+ * Get Status
+ */
+export const getApiUserEventsByEventIdWaitingRoom = <ThrowOnError extends boolean = false>(options: Options<GetApiUserEventsByEventIdWaitingRoomData, ThrowOnError>): RequestResult<GetApiUserEventsByEventIdWaitingRoomResponses, GetApiUserEventsByEventIdWaitingRoomErrors, ThrowOnError> => (options.client ?? client).get<GetApiUserEventsByEventIdWaitingRoomResponses, GetApiUserEventsByEventIdWaitingRoomErrors, ThrowOnError>({
+    responseTransformer: getApiUserEventsByEventIdWaitingRoomResponseTransformer,
+    security: [{ scheme: 'bearer', type: 'http' }],
+    url: '/api/user/events/{eventId}/waiting-room',
+    ...options
+});
+
+/**
+ * Join
+ */
+export const postApiUserEventsByEventIdWaitingRoom = <ThrowOnError extends boolean = false>(options: Options<PostApiUserEventsByEventIdWaitingRoomData, ThrowOnError>): RequestResult<PostApiUserEventsByEventIdWaitingRoomResponses, PostApiUserEventsByEventIdWaitingRoomErrors, ThrowOnError> => (options.client ?? client).post<PostApiUserEventsByEventIdWaitingRoomResponses, PostApiUserEventsByEventIdWaitingRoomErrors, ThrowOnError>({
+    responseTransformer: postApiUserEventsByEventIdWaitingRoomResponseTransformer,
+    security: [{ scheme: 'bearer', type: 'http' }],
+    url: '/api/user/events/{eventId}/waiting-room',
+    ...options
+});
+
 /**
  * Get Event By Id
  */
@@ -972,6 +992,16 @@ export const getApiUserEventsById = <ThrowOnError extends boolean = false>(optio
     ...options
 });
 
+/**
+ * Get Seat Statuses
+ */
+export const getApiUserEventsByIdSeatStatuses = <ThrowOnError extends boolean = false>(options: Options<GetApiUserEventsByIdSeatStatusesData, ThrowOnError>): RequestResult<GetApiUserEventsByIdSeatStatusesResponses, GetApiUserEventsByIdSeatStatusesErrors, ThrowOnError> => (options.client ?? client).get<GetApiUserEventsByIdSeatStatusesResponses, GetApiUserEventsByIdSeatStatusesErrors, ThrowOnError>({
+    responseTransformer: getApiUserEventsByIdSeatStatusesResponseTransformer,
+    security: [{ scheme: 'bearer', type: 'http' }],
+    url: '/api/user/events/{id}/seat-statuses',
+    ...options
+});
+
 /**
  * Get Locations
  */
@@ -1126,6 +1156,20 @@ export const postApiUsersAdminImport = <ThrowOnError extends boolean = false>(op
     }
 });
 
+/**
+ * Import Users Stream
+ */
+export const postApiUsersAdminImportStream = <ThrowOnError extends boolean = false>(options: Options<PostApiUsersAdminImportStreamData, ThrowOnError>): RequestResult<PostApiUsersAdminImportStreamResponses, PostApiUsersAdminImportStreamErrors, ThrowOnError> => (options.client ?? client).post<PostApiUsersAdminImportStreamResponses, PostApiUsersAdminImportStreamErrors, ThrowOnError>({
+    responseTransformer: postApiUsersAdminImportStreamResponseTransformer,
+    security: [{ scheme: 'bearer', type: 'http' }],
+    url: '/api/users/admin/import/stream',
+    ...options,
+    headers: {
+        'Content-Type': 'application/json',
+        ...options.headers
+    }
+});
+
 /**
  * Delete User
  */
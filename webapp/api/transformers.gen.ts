@@ -1,6 +1,6 @@
 // This file is auto-generated by @hey-api/openapi-ts
 
-import type { DeleteApiManagerEventsByIdManagersByUserIdResponse, GetApiAltchaChallengeResponse, GetApiAuthWebauthnCredentialsResponse, GetApiManagerEventsByIdResponse, GetApiManagerEventsResponse, GetApiManagerOverviewResponse, GetApiManagerReservationsByIdResponse, GetApiManagerReservationsEventByIdResponse, GetApiNotificationsResponse, GetApiNotificationsUnreadCountResponse, GetApiSupervisorCheckinEventsResponse, GetApiUserEventsByIdResponse, GetApiUserEventsResponse, GetApiUserReservationsByIdResponse, GetApiUserReservationsResponse, GetApiUsersMe2FaResponse, PostApiManagerEventsByIdCancelResponse, PostApiManagerEventsByIdManagersByUserIdResponse, PostApiManagerEventsResponse, PostApiManagerReservationsBlockResponse, PostApiManagerReservationsResponse, PostApiSupervisorCheckinInfoByUsernameResponse, PostApiSupervisorCheckinInfoResponse, PostApiUserReservationsResponse, PostApiUserSeatcartByEventIdBySeatIdResponse, PostApiUsersMe2FaDisableResponse, PostApiUsersMe2FaEnableResponse, PutApiManagerEventsByIdResponse, PutApiUsersMe2FaSettingsResponse } from './types.gen';
+import type { DeleteApiManagerEventsByIdManagersByUserIdResponse, GetApiAltchaChallengeResponse, GetApiAuthWebauthnCredentialsResponse, GetApiManagerEventsByIdResponse, GetApiManagerEventsResponse, GetApiManagerOverviewResponse, GetApiManagerReservationsByIdResponse, GetApiManagerReservationsEventByIdResponse, GetApiNotificationsResponse, GetApiNotificationsUnreadCountResponse, GetApiSupervisorCheckinEventsResponse, GetApiUserEventsByEventIdWaitingRoomResponse, GetApiUserEventsByIdResponse, GetApiUserEventsByIdSeatStatusesResponse, GetApiUserEventsResponse, GetApiUserReservationsByIdResponse, GetApiUserReservationsResponse, GetApiUsersMe2FaResponse, PostApiManagerEventsByIdCancelResponse, PostApiManagerEventsByIdManagersByUserIdResponse, PostApiManagerEventsResponse, PostApiManagerReservationsBlockResponse, PostApiManagerReservationsResponse, PostApiSupervisorCheckinInfoByUsernameResponse, PostApiSupervisorCheckinInfoResponse, PostApiUserEventsByEventIdWaitingRoomResponse, PostApiUserReservationsResponse, PostApiUsersAdminImportStreamResponse, PostApiUserSeatcartByEventIdBySeatIdResponse, PostApiUsersMe2FaDisableResponse, PostApiUsersMe2FaEnableResponse, PutApiManagerEventsByIdResponse, PutApiUsersMe2FaSettingsResponse } from './types.gen';
 
 const challengeSchemaResponseTransformer = (data: any) => {
     if (data.maxnumber) {
@@ -269,6 +269,9 @@ const userEventResponseDtoSchemaResponseTransformer = (data: any) => {
     if (data.bookingStartTime) {
         data.bookingStartTime = instantSchemaResponseTransformer(data.bookingStartTime);
     }
+    if (data.seatStatusVersion) {
+        data.seatStatusVersion = BigInt(data.seatStatusVersion.toString());
+    }
     return data;
 };
 
@@ -277,11 +280,49 @@ export const getApiUserEventsResponseTransformer = async (data: any): Promise<Ge
     return data;
 };
 
+const waitingRoomStatusDtoSchemaResponseTransformer = (data: any) => {
+    if (data.position) {
+        data.position = BigInt(data.position.toString());
+    }
+    if (data.queueLength) {
+        data.queueLength = BigInt(data.queueLength.toString());
+    }
+    if (data.estimatedWaitSeconds) {
+        data.estimatedWaitSeconds = BigInt(data.estimatedWaitSeconds.toString());
+    }
+    if (data.admittedUntil) {
+        data.admittedUntil = instantSchemaResponseTransformer(data.admittedUntil);
+    }
+    return data;
+};
+
+export const getApiUserEventsByEventIdWaitingRoomResponseTransformer = async (data: any): Promise<GetApiUserEventsByEventIdWaitingRoomResponse> => {
+    data = waitingRoomStatusDtoSchemaResponseTransformer(data);
+    return data;
+};
+
+export const postApiUserEventsByEventIdWaitingRoomResponseTransformer = async (data: any): Promise<PostApiUserEventsByEventIdWaitingRoomResponse> => {
+    data = waitingRoomStatusDtoSchemaResponseTransformer(data);
+    return data;
+};
+
 export const getApiUserEventsByIdResponseTransformer = async (data: any): Promise<GetApiUserEventsByIdResponse> => {
     data = userEventResponseDtoSchemaResponseTransformer(data);
     return data;
 };
 
+const seatStatusDeltaDtoSchemaResponseTransformer = (data: any) => {
+    if (data.version) {
+        data.version = BigInt(data.version.toString());
+    }
+    return data;
+};
+
+export const getApiUserEventsByIdSeatStatusesResponseTransformer = async (data: any): Promise<GetApiUserEventsByIdSeatStatusesResponse> => {
+    data = seatStatusDeltaDtoSchemaResponseTransformer(data);
+    return data;
+};
+
 const userReservationResponseDtoSchemaResponseTransformer = (data: any) => {
     if (data.reservationDateTime) {
         data.reservationDateTime = instantSchemaResponseTransformer(data.reservationDateTime);
@@ -316,6 +357,34 @@ export const postApiUserSeatcartByEventIdBySeatIdResponseTransformer = async (da
     return data;
 };
 
+const userImportErrorDtoSchemaResponseTransformer = (data: any) => {
+    if (data.row) {
+        data.row = BigInt(data.row.toString());
+    }
+    return data;
+};
+
+const userImportReportDtoSchemaResponseTransformer = (data: any) => {
+    if (data.processed) {
+        data.processed = BigInt(data.processed.toString());
+    }
+    if (data.imported) {
+        data.imported = BigInt(data.imported.toString());
+    }
+    if (data.failed) {
+        data.failed = BigInt(data.failed.toString());
+    }
+    if (data.errors) {
+        data.errors = data.errors.map((item: any) => userImportErrorDtoSchemaResponseTransformer(item));
+    }
+    return data;
+};
+
+export const postApiUsersAdminImportStreamResponseTransformer = async (data: any): Promise<PostApiUsersAdminImportStreamResponse> => {
+    data = userImportReportDtoSchemaResponseTransformer(data);
+    return data;
+};
+
 const twoFactorStatusDtoSchemaResponseTransformer = (data: any) => {
     if (data.remainingBackupCodes) {
         data.remainingBackupCodes = BigInt(data.remainingBackupCodes.toString());
@@ -557,6 +557,13 @@ export type SeatStatusDto = {
     status?: ReservationStatus;
 };
 
+export type SeatStatusDeltaDto = {
+    eventId?: Uuid;
+    version?: bigint;
+    fullSnapshot?: boolean;
+    seatStatuses?: Array<SeatStatusDto>;
+};
+
 /**
  * Event location details for supervisor view
  */
@@ -743,6 +750,21 @@ export type UserEventResponseDto = {
     reservationsAllowed?: number;
     status?: EventStatus;
     cancellationReason?: string;
+    seatStatusVersion?: bigint;
+};
+
+export type UserImportErrorDto = {
+    row?: bigint;
+    username?: string;
+    message?: string;
+};
+
+export type UserImportReportDto = {
+    processed?: bigint;
+    imported?: bigint;
+    failed?: bigint;
+    errors?: Array<UserImportErrorDto>;
+    errorsTruncated?: boolean;
 };
 
 export type UserNotificationDto = {
@@ -818,6 +840,17 @@ export type VerifyEmailCodeRequestDto = {
     verificationCode: string;
 };
 
+export type WaitingRoomStatusDto = {
+    eventId?: Uuid;
+    active?: boolean;
+    admitted?: boolean;
+    position?: bigint;
+    queueLength?: bigint;
+    estimatedWaitSeconds?: bigint;
+    admissionToken?: string;
+    admittedUntil?: Instant;
+};
+
 export type WalletConfigDto = {
     googleEnabled?: boolean;
     appleEnabled?: boolean;
@@ -3759,6 +3792,64 @@ export type GetApiUserEventsResponses = {
 
 export type GetApiUserEventsResponse = GetApiUserEventsResponses[keyof GetApiUserEventsResponses];
 
+export type GetApiUserEventsByEventIdWaitingRoomData = {
+    body?: never;
+    path: {
+        eventId: Uuid;
+    };
+    query?: never;
+    url: '/api/user/events/{eventId}/waiting-room';
+};
+
+export type GetApiUserEventsByEventIdWaitingRoomErrors = {
+    /**
+     * Unauthorized
+     */
+    401: unknown;
+    /**
+     * Forbidden: Only authenticated users can access this resource
+     */
+    403: unknown;
+};
+
+export type GetApiUserEventsByEventIdWaitingRoomResponses = {
+    /**
+     * OK
+     */
+    200: WaitingRoomStatusDto;
+};
+
+export type GetApiUserEventsByEventIdWaitingRoomResponse = GetApiUserEventsByEventIdWaitingRoomResponses[keyof GetApiUserEventsByEventIdWaitingRoomResponses];
+
+export type PostApiUserEventsByEventIdWaitingRoomData = {
+    body?: never;
+    path: {
+        eventId: Uuid;
+    };
+    query?: never;
+    url: '/api/user/events/{eventId}/waiting-room';
+};
+
+export type PostApiUserEventsByEventIdWaitingRoomErrors = {
+    /**
+     * Unauthorized
+     */
+    401: unknown;
+    /**
+     * Forbidden: Only authenticated users can access this resource
+     */
+    403: unknown;
+};
+
+export type PostApiUserEventsByEventIdWaitingRoomResponses = {
+    /**
+     * OK
+     */
+    200: WaitingRoomStatusDto;
+};
+
+export type PostApiUserEventsByEventIdWaitingRoomResponse = PostApiUserEventsByEventIdWaitingRoomResponses[keyof PostApiUserEventsByEventIdWaitingRoomResponses];
+
 export type GetApiUserEventsByIdData = {
     body?: never;
     path: {
@@ -3792,6 +3883,41 @@ export type GetApiUserEventsByIdResponses = {
 
 export type GetApiUserEventsByIdResponse = GetApiUserEventsByIdResponses[keyof GetApiUserEventsByIdResponses];
 
+export type GetApiUserEventsByIdSeatStatusesData = {
+    body?: never;
+    path: {
+        id: Uuid;
+    };
+    query?: {
+        sinceVersion?: bigint;
+    };
+    url: '/api/user/events/{id}/seat-statuses';
+};
+
+export type GetApiUserEventsByIdSeatStatusesErrors = {
+    /**
+     * Unauthorized
+     */
+    401: unknown;
+    /**
+     * Forbidden: User does not have access to this event
+     */
+    403: unknown;
+    /**
+     * Not Found: Event not found
+     */
+    404: unknown;
+};
+
+export type GetApiUserEventsByIdSeatStatusesResponses = {
+    /**
+     * OK
+     */
+    200: SeatStatusDeltaDto;
+};
+
+export type GetApiUserEventsByIdSeatStatusesResponse = GetApiUserEventsByIdSeatStatusesResponses[keyof GetApiUserEventsByIdSeatStatusesResponses];
+
 export type GetApiUserLocationsData = {
     body?: never;
     path?: never;
@@ -3825,6 +3951,10 @@ export type GetApiUserLocationsResponse = GetApiUserLocationsResponses[keyof Get
 
 export type GetApiUserLocationsByIdData = {
     body?: never;
+    headers?: {
+        'If-None-Match'?: string;
+        'Accept-Encoding'?: string;
+    };
     path: {
         id: Uuid;
     };
@@ -3965,6 +4095,9 @@ export type GetApiUserReservationsResponse = GetApiUserReservationsResponses[key
 
 export type PostApiUserReservationsData = {
     body: UserReservationsRequestDto;
+    headers?: {
+        'X-Waiting-Room-Token'?: string;
+    };
     path?: never;
     query?: never;
     url: '/api/user/reservations';
@@ -3991,6 +4124,10 @@ export type PostApiUserReservationsErrors = {
      * Conflict: Seat already reserved or blocked
      */
     409: unknown;
+    /**
+     * Too Many Requests: The event's waiting room is active and you were not admitted yet
+     */
+    429: unknown;
 };
 
 export type PostApiUserReservationsResponses = {
@@ -4067,6 +4204,9 @@ export type DeleteApiUserSeatcartByEventIdBySeatIdResponse = DeleteApiUserSeatca
 
 export type PostApiUserSeatcartByEventIdBySeatIdData = {
     body?: never;
+    headers?: {
+        'X-Waiting-Room-Token'?: string;
+    };
     path: {
         eventId: Uuid;
         seatId: Uuid;
@@ -4092,6 +4232,10 @@ export type PostApiUserSeatcartByEventIdBySeatIdErrors = {
      * Conflict: Seat is already reserved, blocked, or held by another user's cart
      */
     409: unknown;
+    /**
+     * Too Many Requests: The event's waiting room is active and you were not admitted yet
+     */
+    429: unknown;
 };
 
 export type PostApiUserSeatcartByEventIdBySeatIdResponses = {
@@ -4273,6 +4417,33 @@ export type PostApiUsersAdminImportResponses = {
 
 export type PostApiUsersAdminImportResponse = PostApiUsersAdminImportResponses[keyof PostApiUsersAdminImportResponses];
 
+export type PostApiUsersAdminImportStreamData = {
+    body: Array<AdminUserCreationDto>;
+    path?: never;
+    query?: never;
+    url: '/api/users/admin/import/stream';
+};
+
+export type PostApiUsersAdminImportStreamErrors = {
+    /**
+     * Unauthorized
+     */
+    401: unknown;
+    /**
+     * Forbidden: Only ADMIN role can access this resource
+     */
+    403: unknown;
+};
+
+export type PostApiUsersAdminImportStreamResponses = {
+    /**
+     * Import finished, see report for failed rows
+     */
+    200: UserImportReportDto;
+};
+
+export type PostApiUsersAdminImportStreamResponse = PostApiUsersAdminImportStreamResponses[keyof PostApiUsersAdminImportStreamResponses];
+
 export type DeleteApiUsersAdminByIdData = {
     body?: never;
     path?: never;